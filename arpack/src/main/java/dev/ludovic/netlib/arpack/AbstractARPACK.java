@@ -31,6 +31,8 @@ abstract class AbstractARPACK implements ARPACK {
 
   private final static boolean debug = System.getProperty("dev.ludovic.netlib.arpack.debug", "false").equals("true");
 
+  private final static Tracing tracing = Tracing.getInstance();
+
   private void checkArgument(String method, int arg, boolean check) {
     if (!check) {
       throw new IllegalArgumentException(String.format("** On entry to '%s' parameter number %d had an illegal value", method, arg));
@@ -56,7 +58,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dmout(int lout, int m, int n, double[] a, int offseta, int lda, int idigit, String ifmt) {
     if (debug) System.err.println("dmout");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dmoutK(lout, m, n, a, offseta, lda, idigit, ifmt);
+    tracing.end(event, "dmout", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dmoutK(int lout, int m, int n, double[] a, int offseta, int lda, int idigit, String ifmt);
@@ -69,7 +73,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void smout(int lout, int m, int n, float[] a, int offseta, int lda, int idigit, String ifmt) {
     if (debug) System.err.println("smout");
     //FIXME add argument checks
+    Object event = tracing.begin();
     smoutK(lout, m, n, a, offseta, lda, idigit, ifmt);
+    tracing.end(event, "smout", this, m, n, 0, 0, lda);
   }
 
   protected abstract void smoutK(int lout, int m, int n, float[] a, int offseta, int lda, int idigit, String ifmt);
@@ -82,7 +88,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dvout(int lout, int n, double[] sx, int offsetsx, int idigit, String ifmt) {
     if (debug) System.err.println("dvout");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dvoutK(lout, n, sx, offsetsx, idigit, ifmt);
+    tracing.end(event, "dvout", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dvoutK(int lout, int n, double[] sx, int offsetsx, int idigit, String ifmt);
@@ -95,7 +103,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void svout(int lout, int n, float[] sx, int offsetsx, int idigit, String ifmt) {
     if (debug) System.err.println("svout");
     //FIXME add argument checks
+    Object event = tracing.begin();
     svoutK(lout, n, sx, offsetsx, idigit, ifmt);
+    tracing.end(event, "svout", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void svoutK(int lout, int n, float[] sx, int offsetsx, int idigit, String ifmt);
@@ -108,7 +118,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ivout(int lout, int n, int[] ix, int offsetix, int idigit, String ifmt) {
     if (debug) System.err.println("ivout");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ivoutK(lout, n, ix, offsetix, idigit, ifmt);
+    tracing.end(event, "ivout", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ivoutK(int lout, int n, int[] ix, int offsetix, int idigit, String ifmt);
@@ -121,7 +133,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dgetv0(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, double[] v, int offsetv, int ldv, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW ierr) {
     if (debug) System.err.println("dgetv0");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dgetv0K(ido, bmat, itry, initv, n, j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, ierr);
+    tracing.end(event, "dgetv0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dgetv0K(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, double[] v, int offsetv, int ldv, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW ierr);
@@ -134,7 +148,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sgetv0(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, float[] v, int offsetv, int ldv, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW ierr) {
     if (debug) System.err.println("sgetv0");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sgetv0K(ido, bmat, itry, initv, n, j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, ierr);
+    tracing.end(event, "sgetv0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sgetv0K(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, float[] v, int offsetv, int ldv, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW ierr);
@@ -147,7 +163,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dlaqrb(boolean wantt, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaqrb");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dlaqrbK(wantt, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, info);
+    tracing.end(event, "dlaqrb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqrbK(boolean wantt, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, org.netlib.util.intW info);
@@ -160,7 +178,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void slaqrb(boolean wantt, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, org.netlib.util.intW info) {
     if (debug) System.err.println("slaqrb");
     //FIXME add argument checks
+    Object event = tracing.begin();
     slaqrbK(wantt, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, info);
+    tracing.end(event, "slaqrb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqrbK(boolean wantt, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, org.netlib.util.intW info);
@@ -173,7 +193,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dnaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("dnaitr");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dnaitrK(ido, bmat, n, k, np, nb, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "dnaitr", this, 0, n, k, 0, 0);
   }
 
   protected abstract void dnaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -186,7 +208,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void snaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("snaitr");
     //FIXME add argument checks
+    Object event = tracing.begin();
     snaitrK(ido, bmat, n, k, np, nb, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "snaitr", this, 0, n, k, 0, 0);
   }
 
   protected abstract void snaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -199,7 +223,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dnapps(int n, org.netlib.util.intW kev, int np, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, double[] workd, int offsetworkd) {
     if (debug) System.err.println("dnapps");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dnappsK(n, kev, np, shiftr, offsetshiftr, shifti, offsetshifti, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workl, offsetworkl, workd, offsetworkd);
+    tracing.end(event, "dnapps", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dnappsK(int n, org.netlib.util.intW kev, int np, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, double[] workd, int offsetworkd);
@@ -212,7 +238,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void snapps(int n, org.netlib.util.intW kev, int np, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, float[] workd, int offsetworkd) {
     if (debug) System.err.println("snapps");
     //FIXME add argument checks
+    Object event = tracing.begin();
     snappsK(n, kev, np, shiftr, offsetshiftr, shifti, offsetshifti, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workl, offsetworkl, workd, offsetworkd);
+    tracing.end(event, "snapps", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void snappsK(int n, org.netlib.util.intW kev, int np, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, float[] workd, int offsetworkd);
@@ -225,7 +253,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dnaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("dnaup2");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dnaup2K(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "dnaup2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dnaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -238,7 +268,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void snaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("snaup2");
     //FIXME add argument checks
+    Object event = tracing.begin();
     snaup2K(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "snaup2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void snaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -251,7 +283,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("dnaupd");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dnaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "dnaupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -264,7 +298,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("snaupd");
     //FIXME add argument checks
+    Object event = tracing.begin();
     snaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "snaupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -277,7 +313,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dnconv(int n, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
     if (debug) System.err.println("dnconv");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dnconvK(n, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, tol, nconv);
+    tracing.end(event, "dnconv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dnconvK(int n, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv);
@@ -290,7 +328,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void snconv(int n, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
     if (debug) System.err.println("snconv");
     //FIXME add argument checks
+    Object event = tracing.begin();
     snconvK(n, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, tol, nconv);
+    tracing.end(event, "snconv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void snconvK(int n, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv);
@@ -303,7 +343,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsconv(int n, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
     if (debug) System.err.println("dsconv");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsconvK(n, ritz, offsetritz, bounds, offsetbounds, tol, nconv);
+    tracing.end(event, "dsconv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsconvK(int n, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv);
@@ -316,7 +358,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssconv(int n, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
     if (debug) System.err.println("ssconv");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssconvK(n, ritz, offsetritz, bounds, offsetbounds, tol, nconv);
+    tracing.end(event, "ssconv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssconvK(int n, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv);
@@ -329,7 +373,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dneigh(double rnorm, org.netlib.util.intW n, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
     if (debug) System.err.println("dneigh");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dneighK(rnorm, n, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+    tracing.end(event, "dneigh", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dneighK(double rnorm, org.netlib.util.intW n, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, org.netlib.util.intW ierr);
@@ -342,7 +388,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sneigh(float rnorm, org.netlib.util.intW n, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
     if (debug) System.err.println("sneigh");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sneighK(rnorm, n, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+    tracing.end(event, "sneigh", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void sneighK(float rnorm, org.netlib.util.intW n, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, org.netlib.util.intW ierr);
@@ -355,7 +403,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("dneupd");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "dneupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -368,7 +418,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("sneupd");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "sneupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -381,7 +433,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti) {
     if (debug) System.err.println("dngets");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dngetsK(ishift, which, kev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, shiftr, offsetshiftr, shifti, offsetshifti);
+    tracing.end(event, "dngets", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti);
@@ -394,7 +448,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti) {
     if (debug) System.err.println("sngets");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sngetsK(ishift, which, kev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, shiftr, offsetshiftr, shifti, offsetshifti);
+    tracing.end(event, "sngets", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void sngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti);
@@ -407,7 +463,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("dsaitr");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsaitrK(ido, bmat, n, k, np, mode, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "dsaitr", this, 0, n, k, 0, 0);
   }
 
   protected abstract void dsaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -420,7 +478,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("ssaitr");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssaitrK(ido, bmat, n, k, np, mode, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "ssaitr", this, 0, n, k, 0, 0);
   }
 
   protected abstract void ssaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -433,7 +493,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsapps(int n, int kev, int np, double[] shift, int offsetshift, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workd, int offsetworkd) {
     if (debug) System.err.println("dsapps");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsappsK(n, kev, np, shift, offsetshift, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workd, offsetworkd);
+    tracing.end(event, "dsapps", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsappsK(int n, int kev, int np, double[] shift, int offsetshift, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workd, int offsetworkd);
@@ -446,7 +508,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssapps(int n, int kev, int np, float[] shift, int offsetshift, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workd, int offsetworkd) {
     if (debug) System.err.println("ssapps");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssappsK(n, kev, np, shift, offsetshift, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workd, offsetworkd);
+    tracing.end(event, "ssapps", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssappsK(int n, int kev, int np, float[] shift, int offsetshift, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workd, int offsetworkd);
@@ -459,7 +523,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("dsaup2");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsaup2K(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritz, offsetritz, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "dsaup2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -472,7 +538,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
     if (debug) System.err.println("ssaup2");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssaup2K(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritz, offsetritz, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    tracing.end(event, "ssaup2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info);
@@ -485,7 +553,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dseigt(double rnorm, int n, double[] h, int offseth, int ldh, double[] eig, int offseteig, double[] bounds, int offsetbounds, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
     if (debug) System.err.println("dseigt");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dseigtK(rnorm, n, h, offseth, ldh, eig, offseteig, bounds, offsetbounds, workl, offsetworkl, ierr);
+    tracing.end(event, "dseigt", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dseigtK(double rnorm, int n, double[] h, int offseth, int ldh, double[] eig, int offseteig, double[] bounds, int offsetbounds, double[] workl, int offsetworkl, org.netlib.util.intW ierr);
@@ -498,7 +568,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sseigt(float rnorm, int n, float[] h, int offseth, int ldh, float[] eig, int offseteig, float[] bounds, int offsetbounds, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
     if (debug) System.err.println("sseigt");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sseigtK(rnorm, n, h, offseth, ldh, eig, offseteig, bounds, offsetbounds, workl, offsetworkl, ierr);
+    tracing.end(event, "sseigt", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sseigtK(float rnorm, int n, float[] h, int offseth, int ldh, float[] eig, int offseteig, float[] bounds, int offsetbounds, float[] workl, int offsetworkl, org.netlib.util.intW ierr);
@@ -511,7 +583,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsesrt(String which, boolean apply, int n, double[] x, int offsetx, int na, double[] a, int offseta, int lda) {
     if (debug) System.err.println("dsesrt");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsesrtK(which, apply, n, x, offsetx, na, a, offseta, lda);
+    tracing.end(event, "dsesrt", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsesrtK(String which, boolean apply, int n, double[] x, int offsetx, int na, double[] a, int offseta, int lda);
@@ -524,7 +598,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssesrt(String which, boolean apply, int n, float[] x, int offsetx, int na, float[] a, int offseta, int lda) {
     if (debug) System.err.println("ssesrt");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssesrtK(which, apply, n, x, offsetx, na, a, offseta, lda);
+    tracing.end(event, "ssesrt", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssesrtK(String which, boolean apply, int n, float[] x, int offsetx, int na, float[] a, int offseta, int lda);
@@ -555,7 +631,9 @@ abstract class AbstractARPACK implements ARPACK {
     checkIndex(offsetipntr + 11 - 1, ipntr.length);
     checkIndex(offsetworkd + 3 * n - 1, workd.length);
     checkIndex(offsetworkl + lworkl - 1, workl.length);
+    Object event = tracing.begin();
     dsaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "dsaupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -586,7 +664,9 @@ abstract class AbstractARPACK implements ARPACK {
     checkIndex(offsetipntr + 11 - 1, ipntr.length);
     checkIndex(offsetworkd + 3 * n - 1, workd.length);
     checkIndex(offsetworkl + lworkl - 1, workl.length);
+    Object event = tracing.begin();
     ssaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "ssaupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -625,7 +705,9 @@ abstract class AbstractARPACK implements ARPACK {
     checkIndex(offsetipntr + 11 - 1, ipntr.length);
     checkIndex(offsetworkd + 3 * n - 1, workd.length);
     checkIndex(offsetworkl + lworkl - 1, workl.length);
+    Object event = tracing.begin();
     dseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "dseupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] d, int offsetd, double[] z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -664,7 +746,9 @@ abstract class AbstractARPACK implements ARPACK {
     checkIndex(offsetipntr + 11 - 1, ipntr.length);
     checkIndex(offsetworkd + 3 * n - 1, workd.length);
     checkIndex(offsetworkl + lworkl - 1, workl.length);
+    Object event = tracing.begin();
     sseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    tracing.end(event, "sseupd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] d, int offsetd, float[] z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
@@ -677,7 +761,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] shifts, int offsetshifts) {
     if (debug) System.err.println("dsgets");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsgetsK(ishift, which, kev, np, ritz, offsetritz, bounds, offsetbounds, shifts, offsetshifts);
+    tracing.end(event, "dsgets", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dsgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] shifts, int offsetshifts);
@@ -690,7 +776,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] shifts, int offsetshifts) {
     if (debug) System.err.println("ssgets");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssgetsK(ishift, which, kev, np, ritz, offsetritz, bounds, offsetbounds, shifts, offsetshifts);
+    tracing.end(event, "ssgets", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void ssgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] shifts, int offsetshifts);
@@ -703,7 +791,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsortc(String which, boolean apply, int n, double[] xreal, int offsetxreal, double[] ximag, int offsetximag, double[] y, int offsety) {
     if (debug) System.err.println("dsortc");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsortcK(which, apply, n, xreal, offsetxreal, ximag, offsetximag, y, offsety);
+    tracing.end(event, "dsortc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsortcK(String which, boolean apply, int n, double[] xreal, int offsetxreal, double[] ximag, int offsetximag, double[] y, int offsety);
@@ -716,7 +806,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssortc(String which, boolean apply, int n, float[] xreal, int offsetxreal, float[] ximag, int offsetximag, float[] y, int offsety) {
     if (debug) System.err.println("ssortc");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssortcK(which, apply, n, xreal, offsetxreal, ximag, offsetximag, y, offsety);
+    tracing.end(event, "ssortc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssortcK(String which, boolean apply, int n, float[] xreal, int offsetxreal, float[] ximag, int offsetximag, float[] y, int offsety);
@@ -729,7 +821,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dsortr(String which, boolean apply, int n, double[] x1, int offsetx1, double[] x2, int offsetx2) {
     if (debug) System.err.println("dsortr");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dsortrK(which, apply, n, x1, offsetx1, x2, offsetx2);
+    tracing.end(event, "dsortr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsortrK(String which, boolean apply, int n, double[] x1, int offsetx1, double[] x2, int offsetx2);
@@ -742,7 +836,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void ssortr(String which, boolean apply, int n, float[] x1, int offsetx1, float[] x2, int offsetx2) {
     if (debug) System.err.println("ssortr");
     //FIXME add argument checks
+    Object event = tracing.begin();
     ssortrK(which, apply, n, x1, offsetx1, x2, offsetx2);
+    tracing.end(event, "ssortr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssortrK(String which, boolean apply, int n, float[] x1, int offsetx1, float[] x2, int offsetx2);
@@ -750,7 +846,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dstatn() {
     if (debug) System.err.println("dstatn");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dstatnK();
+    tracing.end(event, "dstatn", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dstatnK();
@@ -758,7 +856,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sstatn() {
     if (debug) System.err.println("sstatn");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sstatnK();
+    tracing.end(event, "sstatn", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void sstatnK();
@@ -766,7 +866,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dstats() {
     if (debug) System.err.println("dstats");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dstatsK();
+    tracing.end(event, "dstats", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dstatsK();
@@ -774,7 +876,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sstats() {
     if (debug) System.err.println("sstats");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sstatsK();
+    tracing.end(event, "sstats", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void sstatsK();
@@ -787,7 +891,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void dstqrb(int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstqrb");
     //FIXME add argument checks
+    Object event = tracing.begin();
     dstqrbK(n, d, offsetd, e, offsete, z, offsetz, work, offsetwork, info);
+    tracing.end(event, "dstqrb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstqrbK(int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -800,7 +906,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void sstqrb(int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstqrb");
     //FIXME add argument checks
+    Object event = tracing.begin();
     sstqrbK(n, d, offsetd, e, offsete, z, offsetz, work, offsetwork, info);
+    tracing.end(event, "sstqrb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstqrbK(int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -813,7 +921,10 @@ abstract class AbstractARPACK implements ARPACK {
   public int icnteq(int n, int[] array, int offsetarray, int value) {
     if (debug) System.err.println("icnteq");
     //FIXME add argument checksreturn 
-    return icnteqK(n, array, offsetarray, value);
+    Object event = tracing.begin();
+    int result = icnteqK(n, array, offsetarray, value);
+    tracing.end(event, "icnteq", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract int icnteqK(int n, int[] array, int offsetarray, int value);
@@ -826,7 +937,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void icopy(int n, int[] lx, int offsetlx, int incx, int[] ly, int offsetly, int incy) {
     if (debug) System.err.println("icopy");
     //FIXME add argument checks
+    Object event = tracing.begin();
     icopyK(n, lx, offsetlx, incx, ly, offsetly, incy);
+    tracing.end(event, "icopy", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void icopyK(int n, int[] lx, int offsetlx, int incx, int[] ly, int offsetly, int incy);
@@ -839,7 +952,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void iset(int n, int value, int[] array, int offsetarray, int inc) {
     if (debug) System.err.println("iset");
     //FIXME add argument checks
+    Object event = tracing.begin();
     isetK(n, value, array, offsetarray, inc);
+    tracing.end(event, "iset", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void isetK(int n, int value, int[] array, int offsetarray, int inc);
@@ -852,7 +967,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void iswap(int n, int[] sx, int offsetsx, int incx, int[] sy, int offsetsy, int incy) {
     if (debug) System.err.println("iswap");
     //FIXME add argument checks
+    Object event = tracing.begin();
     iswapK(n, sx, offsetsx, incx, sy, offsetsy, incy);
+    tracing.end(event, "iswap", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void iswapK(int n, int[] sx, int offsetsx, int incx, int[] sy, int offsetsy, int incy);
@@ -860,7 +977,9 @@ abstract class AbstractARPACK implements ARPACK {
   public void second(org.netlib.util.floatW t) {
     if (debug) System.err.println("second");
     //FIXME add argument checks
+    Object event = tracing.begin();
     secondK(t);
+    tracing.end(event, "second", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void secondK(org.netlib.util.floatW t);
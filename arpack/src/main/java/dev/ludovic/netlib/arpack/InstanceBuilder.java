@@ -31,18 +31,44 @@ final class InstanceBuilder {
 
   private static final Logger log = Logger.getLogger(InstanceBuilder.class.getName());
 
-  private static final ARPACK arpack;
-  private static final NativeARPACK nativeArpack;
-  private static final JavaARPACK javaArpack;
-
-  static {
-    nativeArpack = initializeNative();
-    javaArpack = initializeJava();
-    arpack = nativeArpack != null ? nativeArpack : javaArpack;
+  private static final boolean metering = System.getProperty("dev.ludovic.netlib.arpack.metering", "false").equals("true");
+
+  private static final boolean jmx = System.getProperty("dev.ludovic.netlib.arpack.jmx", "false").equals("true");
+
+  // Each backend is held in its own class so that it's only initialized on first request. That way
+  // requesting the Java implementation never extracts and loads the native library, and requesting
+  // the native implementation never loads the Java one.
+  private static final class NativeHolder {
+    private static final NativeARPACK instance = meter(initializeNative());
+  }
+
+  private static final class JavaHolder {
+    private static final JavaARPACK instance = meter(initializeJava());
+  }
+
+  private static final class DefaultHolder {
+    private static final ARPACK instance = NativeHolder.instance != null ? NativeHolder.instance : JavaHolder.instance;
+
+    static {
+      // The metering counters are only reported through the MBean
+      if (jmx || metering) {
+        Management.register(instance);
+      }
+    }
+  }
+
+  private static NativeARPACK meter(NativeARPACK arpack) {
+    // The per-routine counters exposed over JMX come from the metering wrapper
+    return (metering || jmx) && arpack != null ? new MeteredARPACK.Native(arpack) : arpack;
+  }
+
+  private static JavaARPACK meter(JavaARPACK arpack) {
+    // The per-routine counters exposed over JMX come from the metering wrapper
+    return (metering || jmx) && arpack != null ? new MeteredARPACK.Java(arpack) : arpack;
   }
 
   public static ARPACK arpack() {
-    return arpack;
+    return DefaultHolder.instance;
   }
 
   private static NativeARPACK initializeNative() {
@@ -55,10 +81,10 @@ final class InstanceBuilder {
   }
 
   public static NativeARPACK nativeArpack() {
-    if (nativeArpack == null) {
+    if (NativeHolder.instance == null) {
       throw new RuntimeException("Unable to load native implementation");
     }
-    return nativeArpack;
+    return NativeHolder.instance;
   }
 
   private static JavaARPACK initializeJava() {
@@ -66,6 +92,6 @@ final class InstanceBuilder {
   }
 
   public static JavaARPACK javaArpack() {
-    return javaArpack;
+    return JavaHolder.instance;
   }
 }
@@ -25,13 +25,6 @@
 
 package dev.ludovic.netlib.arpack;
 
-import java.io.InputStream;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.PosixFilePermissions;
-
 final class JNIARPACK extends AbstractARPACK implements NativeARPACK {
 
   private static final JNIARPACK instance = new JNIARPACK();
@@ -46,25 +39,21 @@ final class JNIARPACK extends AbstractARPACK implements NativeARPACK {
         throw new RuntimeException("Unable to load native implementation");
     }
 
-    Path temp;
-    try (InputStream resource = this.getClass().getClassLoader().getResourceAsStream(
-            String.format("resources/native/%s-%s/libnetlibarpackjni.so", osName, osArch))) {
-      assert resource != null;
-      Files.copy(resource, temp = Files.createTempFile("libnetlibarpackjni.so", "",
-                                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---"))),
-                  StandardCopyOption.REPLACE_EXISTING);
-      temp.toFile().deleteOnExit();
-    } catch (IOException e) {
-      throw new RuntimeException("Unable to load native implementation", e);
-    }
-
-    System.load(temp.toString());
+    System.load(NativeLoader.extract(
+      String.format("resources/native/%s-%s/libnetlibarpackjni.so", osName, osArch), "libnetlibarpackjni.so").toString());
   }
 
   public static NativeARPACK getInstance() {
     return instance;
   }
 
+  // Path of the loaded native library as resolved by the dynamic loader, or null if none is loaded
+  static native String libraryPath();
+
+  // Calls and nanoseconds spent marshalling arguments, pinning arrays and computing in the routine, or null
+  // unless the JNI wrapper is built with -DNETLIB_JNI_PROFILE. Read by dev.ludovic.netlib.profiler.JNIProfiler
+  static native long[] profile(String routine);
+
   protected native void dmoutK(int lout, int m, int n, double[] a, int offseta, int lda, int idigit, String ifmt);
 
   protected native void smoutK(int lout, int m, int n, float[] a, int offseta, int lda, int idigit, String ifmt);
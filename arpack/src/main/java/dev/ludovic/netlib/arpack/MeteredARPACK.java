@@ -0,0 +1,785 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+// Wraps another implementation to record, for each routine, the number of calls, a histogram of their
+// latencies and the floating-point operations they performed. Enabled with
+// -Ddev.ludovic.netlib.arpack.metering=true or -Ddev.ludovic.netlib.arpack.jmx=true, in which case the counters
+// are read through the Report attribute of the dev.ludovic.netlib:type=ARPACK MBean registered by Management.
+// Routines without a known operation count only report calls and latencies.
+class MeteredARPACK implements ARPACK {
+
+  private final ARPACK arpack;
+
+  MeteredARPACK(ARPACK arpack) {
+    this.arpack = arpack;
+  }
+
+  ARPACK delegate() {
+    return arpack;
+  }
+
+  static final class Native extends MeteredARPACK implements NativeARPACK {
+
+    Native(NativeARPACK arpack) {
+      super(arpack);
+    }
+  }
+
+  static final class Java extends MeteredARPACK implements JavaARPACK {
+
+    Java(JavaARPACK arpack) {
+      super(arpack);
+    }
+  }
+
+  private static final Meter dmoutMeter = Meter.of("dmout");
+  private static final Meter smoutMeter = Meter.of("smout");
+  private static final Meter dvoutMeter = Meter.of("dvout");
+  private static final Meter svoutMeter = Meter.of("svout");
+  private static final Meter ivoutMeter = Meter.of("ivout");
+  private static final Meter dgetv0Meter = Meter.of("dgetv0");
+  private static final Meter sgetv0Meter = Meter.of("sgetv0");
+  private static final Meter dlaqrbMeter = Meter.of("dlaqrb");
+  private static final Meter slaqrbMeter = Meter.of("slaqrb");
+  private static final Meter dnaitrMeter = Meter.of("dnaitr");
+  private static final Meter snaitrMeter = Meter.of("snaitr");
+  private static final Meter dnappsMeter = Meter.of("dnapps");
+  private static final Meter snappsMeter = Meter.of("snapps");
+  private static final Meter dnaup2Meter = Meter.of("dnaup2");
+  private static final Meter snaup2Meter = Meter.of("snaup2");
+  private static final Meter dnaupdMeter = Meter.of("dnaupd");
+  private static final Meter snaupdMeter = Meter.of("snaupd");
+  private static final Meter dnconvMeter = Meter.of("dnconv");
+  private static final Meter snconvMeter = Meter.of("snconv");
+  private static final Meter dsconvMeter = Meter.of("dsconv");
+  private static final Meter ssconvMeter = Meter.of("ssconv");
+  private static final Meter dneighMeter = Meter.of("dneigh");
+  private static final Meter sneighMeter = Meter.of("sneigh");
+  private static final Meter dneupdMeter = Meter.of("dneupd");
+  private static final Meter sneupdMeter = Meter.of("sneupd");
+  private static final Meter dngetsMeter = Meter.of("dngets");
+  private static final Meter sngetsMeter = Meter.of("sngets");
+  private static final Meter dsaitrMeter = Meter.of("dsaitr");
+  private static final Meter ssaitrMeter = Meter.of("ssaitr");
+  private static final Meter dsappsMeter = Meter.of("dsapps");
+  private static final Meter ssappsMeter = Meter.of("ssapps");
+  private static final Meter dsaup2Meter = Meter.of("dsaup2");
+  private static final Meter ssaup2Meter = Meter.of("ssaup2");
+  private static final Meter dseigtMeter = Meter.of("dseigt");
+  private static final Meter sseigtMeter = Meter.of("sseigt");
+  private static final Meter dsesrtMeter = Meter.of("dsesrt");
+  private static final Meter ssesrtMeter = Meter.of("ssesrt");
+  private static final Meter dsaupdMeter = Meter.of("dsaupd");
+  private static final Meter ssaupdMeter = Meter.of("ssaupd");
+  private static final Meter dseupdMeter = Meter.of("dseupd");
+  private static final Meter sseupdMeter = Meter.of("sseupd");
+  private static final Meter dsgetsMeter = Meter.of("dsgets");
+  private static final Meter ssgetsMeter = Meter.of("ssgets");
+  private static final Meter dsortcMeter = Meter.of("dsortc");
+  private static final Meter ssortcMeter = Meter.of("ssortc");
+  private static final Meter dsortrMeter = Meter.of("dsortr");
+  private static final Meter ssortrMeter = Meter.of("ssortr");
+  private static final Meter dstatnMeter = Meter.of("dstatn");
+  private static final Meter sstatnMeter = Meter.of("sstatn");
+  private static final Meter dstatsMeter = Meter.of("dstats");
+  private static final Meter sstatsMeter = Meter.of("sstats");
+  private static final Meter dstqrbMeter = Meter.of("dstqrb");
+  private static final Meter sstqrbMeter = Meter.of("sstqrb");
+  private static final Meter icnteqMeter = Meter.of("icnteq");
+  private static final Meter icopyMeter = Meter.of("icopy");
+  private static final Meter isetMeter = Meter.of("iset");
+  private static final Meter iswapMeter = Meter.of("iswap");
+  private static final Meter secondMeter = Meter.of("second");
+
+  public void dmout(int lout, int m, int n, double[] a, int lda, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.dmout(lout, m, n, a, lda, idigit, ifmt);
+    dmoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dmout(int lout, int m, int n, double[] a, int offseta, int lda, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.dmout(lout, m, n, a, offseta, lda, idigit, ifmt);
+    dmoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void smout(int lout, int m, int n, float[] a, int lda, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.smout(lout, m, n, a, lda, idigit, ifmt);
+    smoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void smout(int lout, int m, int n, float[] a, int offseta, int lda, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.smout(lout, m, n, a, offseta, lda, idigit, ifmt);
+    smoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dvout(int lout, int n, double[] sx, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.dvout(lout, n, sx, idigit, ifmt);
+    dvoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dvout(int lout, int n, double[] sx, int offsetsx, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.dvout(lout, n, sx, offsetsx, idigit, ifmt);
+    dvoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void svout(int lout, int n, float[] sx, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.svout(lout, n, sx, idigit, ifmt);
+    svoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void svout(int lout, int n, float[] sx, int offsetsx, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.svout(lout, n, sx, offsetsx, idigit, ifmt);
+    svoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ivout(int lout, int n, int[] ix, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.ivout(lout, n, ix, idigit, ifmt);
+    ivoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ivout(int lout, int n, int[] ix, int offsetix, int idigit, String ifmt) {
+    long start = System.nanoTime();
+    arpack.ivout(lout, n, ix, offsetix, idigit, ifmt);
+    ivoutMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgetv0(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, double[] v, int ldv, double[] resid, org.netlib.util.doubleW rnorm, int[] ipntr, double[] workd, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.dgetv0(ido, bmat, itry, initv, n, j, v, ldv, resid, rnorm, ipntr, workd, ierr);
+    dgetv0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgetv0(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, double[] v, int offsetv, int ldv, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.dgetv0(ido, bmat, itry, initv, n, j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, ierr);
+    dgetv0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgetv0(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, float[] v, int ldv, float[] resid, org.netlib.util.floatW rnorm, int[] ipntr, float[] workd, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.sgetv0(ido, bmat, itry, initv, n, j, v, ldv, resid, rnorm, ipntr, workd, ierr);
+    sgetv0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgetv0(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, float[] v, int offsetv, int ldv, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.sgetv0(ido, bmat, itry, initv, n, j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, ierr);
+    sgetv0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqrb(boolean wantt, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, double[] z, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dlaqrb(wantt, n, ilo, ihi, h, ldh, wr, wi, z, info);
+    dlaqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqrb(boolean wantt, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dlaqrb(wantt, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, info);
+    dlaqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqrb(boolean wantt, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, float[] z, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.slaqrb(wantt, n, ilo, ihi, h, ldh, wr, wi, z, info);
+    slaqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqrb(boolean wantt, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.slaqrb(wantt, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, info);
+    slaqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, double[] resid, org.netlib.util.doubleW rnorm, double[] v, int ldv, double[] h, int ldh, int[] ipntr, double[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dnaitr(ido, bmat, n, k, np, nb, resid, rnorm, v, ldv, h, ldh, ipntr, workd, info);
+    dnaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dnaitr(ido, bmat, n, k, np, nb, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    dnaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, float[] resid, org.netlib.util.floatW rnorm, float[] v, int ldv, float[] h, int ldh, int[] ipntr, float[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.snaitr(ido, bmat, n, k, np, nb, resid, rnorm, v, ldv, h, ldh, ipntr, workd, info);
+    snaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.snaitr(ido, bmat, n, k, np, nb, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    snaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnapps(int n, org.netlib.util.intW kev, int np, double[] shiftr, double[] shifti, double[] v, int ldv, double[] h, int ldh, double[] resid, double[] q, int ldq, double[] workl, double[] workd) {
+    long start = System.nanoTime();
+    arpack.dnapps(n, kev, np, shiftr, shifti, v, ldv, h, ldh, resid, q, ldq, workl, workd);
+    dnappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnapps(int n, org.netlib.util.intW kev, int np, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, double[] workd, int offsetworkd) {
+    long start = System.nanoTime();
+    arpack.dnapps(n, kev, np, shiftr, offsetshiftr, shifti, offsetshifti, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workl, offsetworkl, workd, offsetworkd);
+    dnappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snapps(int n, org.netlib.util.intW kev, int np, float[] shiftr, float[] shifti, float[] v, int ldv, float[] h, int ldh, float[] resid, float[] q, int ldq, float[] workl, float[] workd) {
+    long start = System.nanoTime();
+    arpack.snapps(n, kev, np, shiftr, shifti, v, ldv, h, ldh, resid, q, ldq, workl, workd);
+    snappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snapps(int n, org.netlib.util.intW kev, int np, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, float[] workd, int offsetworkd) {
+    long start = System.nanoTime();
+    arpack.snapps(n, kev, np, shiftr, offsetshiftr, shifti, offsetshifti, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workl, offsetworkl, workd, offsetworkd);
+    snappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int ldv, double[] h, int ldh, double[] ritzr, double[] ritzi, double[] bounds, double[] q, int ldq, double[] workl, int[] ipntr, double[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dnaup2(ido, bmat, n, which, nev, np, tol, resid, mode, iupd, ishift, mxiter, v, ldv, h, ldh, ritzr, ritzi, bounds, q, ldq, workl, ipntr, workd, info);
+    dnaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dnaup2(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    dnaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int ldv, float[] h, int ldh, float[] ritzr, float[] ritzi, float[] bounds, float[] q, int ldq, float[] workl, int[] ipntr, float[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.snaup2(ido, bmat, n, which, nev, np, tol, resid, mode, iupd, ishift, mxiter, v, ldv, h, ldh, ritzr, ritzi, bounds, q, ldq, workl, ipntr, workd, info);
+    snaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.snaup2(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    snaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dnaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    dnaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dnaupd(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    dnaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.snaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    snaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.snaupd(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    snaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnconv(int n, double[] ritzr, double[] ritzi, double[] bounds, double tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.dnconv(n, ritzr, ritzi, bounds, tol, nconv);
+    dnconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dnconv(int n, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.dnconv(n, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, tol, nconv);
+    dnconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snconv(int n, float[] ritzr, float[] ritzi, float[] bounds, float tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.snconv(n, ritzr, ritzi, bounds, tol, nconv);
+    snconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void snconv(int n, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.snconv(n, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, tol, nconv);
+    snconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsconv(int n, double[] ritz, double[] bounds, double tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.dsconv(n, ritz, bounds, tol, nconv);
+    dsconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsconv(int n, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.dsconv(n, ritz, offsetritz, bounds, offsetbounds, tol, nconv);
+    dsconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssconv(int n, float[] ritz, float[] bounds, float tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.ssconv(n, ritz, bounds, tol, nconv);
+    ssconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssconv(int n, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
+    long start = System.nanoTime();
+    arpack.ssconv(n, ritz, offsetritz, bounds, offsetbounds, tol, nconv);
+    ssconvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dneigh(double rnorm, org.netlib.util.intW n, double[] h, int ldh, double[] ritzr, double[] ritzi, double[] bounds, double[] q, int ldq, double[] workl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.dneigh(rnorm, n, h, ldh, ritzr, ritzi, bounds, q, ldq, workl, ierr);
+    dneighMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dneigh(double rnorm, org.netlib.util.intW n, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.dneigh(rnorm, n, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+    dneighMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sneigh(float rnorm, org.netlib.util.intW n, float[] h, int ldh, float[] ritzr, float[] ritzi, float[] bounds, float[] q, int ldq, float[] workl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.sneigh(rnorm, n, h, ldh, ritzr, ritzi, bounds, q, ldq, workl, ierr);
+    sneighMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sneigh(float rnorm, org.netlib.util.intW n, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.sneigh(rnorm, n, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+    sneighMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dneupd(boolean rvec, String howmny, boolean[] select, double[] dr, double[] di, double[] z, int ldz, double sigmar, double sigmai, double[] workev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dneupd(rvec, howmny, select, dr, di, z, ldz, sigmar, sigmai, workev, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    dneupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dneupd(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    dneupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sneupd(boolean rvec, String howmny, boolean[] select, float[] dr, float[] di, float[] z, int ldz, float sigmar, float sigmai, float[] workev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.sneupd(rvec, howmny, select, dr, di, z, ldz, sigmar, sigmai, workev, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    sneupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.sneupd(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    sneupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, double[] ritzi, double[] bounds, double[] shiftr, double[] shifti) {
+    long start = System.nanoTime();
+    arpack.dngets(ishift, which, kev, np, ritzr, ritzi, bounds, shiftr, shifti);
+    dngetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti) {
+    long start = System.nanoTime();
+    arpack.dngets(ishift, which, kev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, shiftr, offsetshiftr, shifti, offsetshifti);
+    dngetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritzr, float[] ritzi, float[] bounds, float[] shiftr, float[] shifti) {
+    long start = System.nanoTime();
+    arpack.sngets(ishift, which, kev, np, ritzr, ritzi, bounds, shiftr, shifti);
+    sngetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti) {
+    long start = System.nanoTime();
+    arpack.sngets(ishift, which, kev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, shiftr, offsetshiftr, shifti, offsetshifti);
+    sngetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, double[] resid, org.netlib.util.doubleW rnorm, double[] v, int ldv, double[] h, int ldh, int[] ipntr, double[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dsaitr(ido, bmat, n, k, np, mode, resid, rnorm, v, ldv, h, ldh, ipntr, workd, info);
+    dsaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dsaitr(ido, bmat, n, k, np, mode, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    dsaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, float[] resid, org.netlib.util.floatW rnorm, float[] v, int ldv, float[] h, int ldh, int[] ipntr, float[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.ssaitr(ido, bmat, n, k, np, mode, resid, rnorm, v, ldv, h, ldh, ipntr, workd, info);
+    ssaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssaitr(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.ssaitr(ido, bmat, n, k, np, mode, resid, offsetresid, rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+    ssaitrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsapps(int n, int kev, int np, double[] shift, double[] v, int ldv, double[] h, int ldh, double[] resid, double[] q, int ldq, double[] workd) {
+    long start = System.nanoTime();
+    arpack.dsapps(n, kev, np, shift, v, ldv, h, ldh, resid, q, ldq, workd);
+    dsappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsapps(int n, int kev, int np, double[] shift, int offsetshift, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workd, int offsetworkd) {
+    long start = System.nanoTime();
+    arpack.dsapps(n, kev, np, shift, offsetshift, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workd, offsetworkd);
+    dsappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssapps(int n, int kev, int np, float[] shift, float[] v, int ldv, float[] h, int ldh, float[] resid, float[] q, int ldq, float[] workd) {
+    long start = System.nanoTime();
+    arpack.ssapps(n, kev, np, shift, v, ldv, h, ldh, resid, q, ldq, workd);
+    ssappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssapps(int n, int kev, int np, float[] shift, int offsetshift, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workd, int offsetworkd) {
+    long start = System.nanoTime();
+    arpack.ssapps(n, kev, np, shift, offsetshift, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workd, offsetworkd);
+    ssappsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int ldv, double[] h, int ldh, double[] ritz, double[] bounds, double[] q, int ldq, double[] workl, int[] ipntr, double[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dsaup2(ido, bmat, n, which, nev, np, tol, resid, mode, iupd, ishift, mxiter, v, ldv, h, ldh, ritz, bounds, q, ldq, workl, ipntr, workd, info);
+    dsaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dsaup2(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritz, offsetritz, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    dsaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int ldv, float[] h, int ldh, float[] ritz, float[] bounds, float[] q, int ldq, float[] workl, int[] ipntr, float[] workd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.ssaup2(ido, bmat, n, which, nev, np, tol, resid, mode, iupd, ishift, mxiter, v, ldv, h, ldh, ritz, bounds, q, ldq, workl, ipntr, workd, info);
+    ssaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssaup2(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.ssaup2(ido, bmat, n, which, nev, np, tol, resid, offsetresid, mode, iupd, ishift, mxiter, v, offsetv, ldv, h, offseth, ldh, ritz, offsetritz, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ipntr, offsetipntr, workd, offsetworkd, info);
+    ssaup2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dseigt(double rnorm, int n, double[] h, int ldh, double[] eig, double[] bounds, double[] workl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.dseigt(rnorm, n, h, ldh, eig, bounds, workl, ierr);
+    dseigtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dseigt(double rnorm, int n, double[] h, int offseth, int ldh, double[] eig, int offseteig, double[] bounds, int offsetbounds, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.dseigt(rnorm, n, h, offseth, ldh, eig, offseteig, bounds, offsetbounds, workl, offsetworkl, ierr);
+    dseigtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sseigt(float rnorm, int n, float[] h, int ldh, float[] eig, float[] bounds, float[] workl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.sseigt(rnorm, n, h, ldh, eig, bounds, workl, ierr);
+    sseigtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sseigt(float rnorm, int n, float[] h, int offseth, int ldh, float[] eig, int offseteig, float[] bounds, int offsetbounds, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    long start = System.nanoTime();
+    arpack.sseigt(rnorm, n, h, offseth, ldh, eig, offseteig, bounds, offsetbounds, workl, offsetworkl, ierr);
+    sseigtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsesrt(String which, boolean apply, int n, double[] x, int na, double[] a, int lda) {
+    long start = System.nanoTime();
+    arpack.dsesrt(which, apply, n, x, na, a, lda);
+    dsesrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsesrt(String which, boolean apply, int n, double[] x, int offsetx, int na, double[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    arpack.dsesrt(which, apply, n, x, offsetx, na, a, offseta, lda);
+    dsesrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssesrt(String which, boolean apply, int n, float[] x, int na, float[] a, int lda) {
+    long start = System.nanoTime();
+    arpack.ssesrt(which, apply, n, x, na, a, lda);
+    ssesrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssesrt(String which, boolean apply, int n, float[] x, int offsetx, int na, float[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    arpack.ssesrt(which, apply, n, x, offsetx, na, a, offseta, lda);
+    ssesrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dsaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    dsaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dsaupd(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    dsaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.ssaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    ssaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.ssaupd(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    ssaupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dseupd(boolean rvec, String howmny, boolean[] select, double[] d, double[] z, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dseupd(rvec, howmny, select, d, z, ldz, sigma, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    dseupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] d, int offsetd, double[] z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dseupd(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    dseupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sseupd(boolean rvec, String howmny, boolean[] select, float[] d, float[] z, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.sseupd(rvec, howmny, select, d, z, ldz, sigma, bmat, n, which, nev, tol, resid, ncv, v, ldv, iparam, ipntr, workd, workl, lworkl, info);
+    sseupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] d, int offsetd, float[] z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.sseupd(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    sseupdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, double[] bounds, double[] shifts) {
+    long start = System.nanoTime();
+    arpack.dsgets(ishift, which, kev, np, ritz, bounds, shifts);
+    dsgetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] shifts, int offsetshifts) {
+    long start = System.nanoTime();
+    arpack.dsgets(ishift, which, kev, np, ritz, offsetritz, bounds, offsetbounds, shifts, offsetshifts);
+    dsgetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritz, float[] bounds, float[] shifts) {
+    long start = System.nanoTime();
+    arpack.ssgets(ishift, which, kev, np, ritz, bounds, shifts);
+    ssgetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] shifts, int offsetshifts) {
+    long start = System.nanoTime();
+    arpack.ssgets(ishift, which, kev, np, ritz, offsetritz, bounds, offsetbounds, shifts, offsetshifts);
+    ssgetsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsortc(String which, boolean apply, int n, double[] xreal, double[] ximag, double[] y) {
+    long start = System.nanoTime();
+    arpack.dsortc(which, apply, n, xreal, ximag, y);
+    dsortcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsortc(String which, boolean apply, int n, double[] xreal, int offsetxreal, double[] ximag, int offsetximag, double[] y, int offsety) {
+    long start = System.nanoTime();
+    arpack.dsortc(which, apply, n, xreal, offsetxreal, ximag, offsetximag, y, offsety);
+    dsortcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssortc(String which, boolean apply, int n, float[] xreal, float[] ximag, float[] y) {
+    long start = System.nanoTime();
+    arpack.ssortc(which, apply, n, xreal, ximag, y);
+    ssortcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssortc(String which, boolean apply, int n, float[] xreal, int offsetxreal, float[] ximag, int offsetximag, float[] y, int offsety) {
+    long start = System.nanoTime();
+    arpack.ssortc(which, apply, n, xreal, offsetxreal, ximag, offsetximag, y, offsety);
+    ssortcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsortr(String which, boolean apply, int n, double[] x1, double[] x2) {
+    long start = System.nanoTime();
+    arpack.dsortr(which, apply, n, x1, x2);
+    dsortrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsortr(String which, boolean apply, int n, double[] x1, int offsetx1, double[] x2, int offsetx2) {
+    long start = System.nanoTime();
+    arpack.dsortr(which, apply, n, x1, offsetx1, x2, offsetx2);
+    dsortrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssortr(String which, boolean apply, int n, float[] x1, float[] x2) {
+    long start = System.nanoTime();
+    arpack.ssortr(which, apply, n, x1, x2);
+    ssortrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssortr(String which, boolean apply, int n, float[] x1, int offsetx1, float[] x2, int offsetx2) {
+    long start = System.nanoTime();
+    arpack.ssortr(which, apply, n, x1, offsetx1, x2, offsetx2);
+    ssortrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstatn() {
+    long start = System.nanoTime();
+    arpack.dstatn();
+    dstatnMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstatn() {
+    long start = System.nanoTime();
+    arpack.sstatn();
+    sstatnMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstats() {
+    long start = System.nanoTime();
+    arpack.dstats();
+    dstatsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstats() {
+    long start = System.nanoTime();
+    arpack.sstats();
+    sstatsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstqrb(int n, double[] d, double[] e, double[] z, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dstqrb(n, d, e, z, work, info);
+    dstqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstqrb(int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.dstqrb(n, d, offsetd, e, offsete, z, offsetz, work, offsetwork, info);
+    dstqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstqrb(int n, float[] d, float[] e, float[] z, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.sstqrb(n, d, e, z, work, info);
+    sstqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstqrb(int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    arpack.sstqrb(n, d, offsetd, e, offsete, z, offsetz, work, offsetwork, info);
+    sstqrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public int icnteq(int n, int[] array, int value) {
+    long start = System.nanoTime();
+    int result = arpack.icnteq(n, array, value);
+    icnteqMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public int icnteq(int n, int[] array, int offsetarray, int value) {
+    long start = System.nanoTime();
+    int result = arpack.icnteq(n, array, offsetarray, value);
+    icnteqMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void icopy(int n, int[] lx, int incx, int[] ly, int incy) {
+    long start = System.nanoTime();
+    arpack.icopy(n, lx, incx, ly, incy);
+    icopyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void icopy(int n, int[] lx, int offsetlx, int incx, int[] ly, int offsetly, int incy) {
+    long start = System.nanoTime();
+    arpack.icopy(n, lx, offsetlx, incx, ly, offsetly, incy);
+    icopyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void iset(int n, int value, int[] array, int inc) {
+    long start = System.nanoTime();
+    arpack.iset(n, value, array, inc);
+    isetMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void iset(int n, int value, int[] array, int offsetarray, int inc) {
+    long start = System.nanoTime();
+    arpack.iset(n, value, array, offsetarray, inc);
+    isetMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void iswap(int n, int[] sx, int incx, int[] sy, int incy) {
+    long start = System.nanoTime();
+    arpack.iswap(n, sx, incx, sy, incy);
+    iswapMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void iswap(int n, int[] sx, int offsetsx, int incx, int[] sy, int offsetsy, int incy) {
+    long start = System.nanoTime();
+    arpack.iswap(n, sx, offsetsx, incx, sy, offsetsy, incy);
+    iswapMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void second(org.netlib.util.floatW t) {
+    long start = System.nanoTime();
+    arpack.second(t);
+    secondMeter.record(System.nanoTime() - start, 0);
+  }
+}
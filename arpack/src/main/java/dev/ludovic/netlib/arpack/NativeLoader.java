@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+final class NativeLoader {
+
+  private static final Logger log = Logger.getLogger(NativeLoader.class.getName());
+
+  private NativeLoader() {}
+
+  // Extracts the JNI wrapper shipped in the jar and returns the path to load it from. The library
+  // is cached under `dev.ludovic.netlib.cacheDir` (`~/.cache/netlib` by default) in a directory
+  // named after its SHA-256, so that subsequent runs can reuse it without copying it again. Set the
+  // property to an empty string to extract to a temporary file on every run instead.
+  public static Path extract(String resource, String name) {
+    byte[] content;
+    try (InputStream is = NativeLoader.class.getClassLoader().getResourceAsStream(resource)) {
+      if (is == null) {
+        throw new RuntimeException("Unable to load native implementation");
+      }
+      content = readAllBytes(is);
+    } catch (IOException e) {
+      throw new RuntimeException("Unable to load native implementation", e);
+    }
+
+    Path cacheDir = cacheDirectory();
+    if (cacheDir != null) {
+      try {
+        return extractToCache(cacheDir, name, content);
+      } catch (IOException | RuntimeException e) {
+        log.fine("Failed to extract " + name + " to " + cacheDir + ": " + e);
+      }
+    }
+
+    try {
+      Path temp = Files.createTempFile(name, "",
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---")));
+      Files.write(temp, content);
+      temp.toFile().deleteOnExit();
+      return temp;
+    } catch (IOException e) {
+      throw new RuntimeException("Unable to load native implementation", e);
+    }
+  }
+
+  private static Path cacheDirectory() {
+    String dir = System.getProperty("dev.ludovic.netlib.cacheDir");
+    if (dir != null) {
+      return dir.isEmpty() ? null : Paths.get(dir);
+    }
+    String xdg = System.getenv("XDG_CACHE_HOME");
+    if (xdg != null && !xdg.isEmpty()) {
+      return Paths.get(xdg, "netlib");
+    }
+    String home = System.getProperty("user.home");
+    if (home == null || home.isEmpty()) {
+      return null;
+    }
+    return Paths.get(home, ".cache", "netlib");
+  }
+
+  private static Path extractToCache(Path cacheDir, String name, byte[] content) throws IOException {
+    byte[] digest = sha256(content);
+    Path dir = cacheDir.resolve(toHex(digest));
+    Path target = dir.resolve(name);
+
+    // Reuse the library extracted by a previous run, as long as it hasn't been tampered with
+    if (Files.isRegularFile(target) && Arrays.equals(digest, sha256(Files.readAllBytes(target)))) {
+      return target;
+    }
+
+    // Write to a temporary file in the same directory and atomically rename it, so that concurrent
+    // JVMs never observe a partially written library. Since all writers produce the same content,
+    // whichever rename happens last wins without affecting the others.
+    Files.createDirectories(dir);
+    Path temp = Files.createTempFile(dir, name, ".tmp",
+                  PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---")));
+    try {
+      Files.write(temp, content);
+      try {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return target;
+  }
+
+  private static byte[] readAllBytes(InputStream is) throws IOException {
+    //FIXME: switch to InputStream.readAllBytes when the minimum version becomes JDK 9
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    byte[] buffer = new byte[64 * 1024];
+    for (int read; (read = is.read(buffer)) != -1; ) {
+      os.write(buffer, 0, read);
+    }
+    return os.toByteArray();
+  }
+
+  private static byte[] sha256(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder sb = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.util.logging.Logger;
+
+// Emits a JDK Flight Recorder event for each routine call. The events are only available on Java 11+,
+// where JFRTracing is loaded reflectively; elsewhere, or with -Ddev.ludovic.netlib.arpack.jfr=false, this
+// no-op implementation is used so that the calls in AbstractARPACK compile down to nothing.
+class Tracing {
+
+  private static final Logger log = Logger.getLogger(Tracing.class.getName());
+
+  private static final Tracing instance = create();
+
+  Tracing() {}
+
+  public static Tracing getInstance() {
+    return instance;
+  }
+
+  private static Tracing create() {
+    if (!System.getProperty("dev.ludovic.netlib.arpack.jfr", "true").equals("true")) {
+      return new Tracing();
+    }
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
+    int major = Integer.parseInt(fullVersion[0]);
+    if (major < 11) {
+      return new Tracing();
+    }
+    try {
+      return (Tracing) Class.forName("dev.ludovic.netlib.arpack.JFRTracing").getDeclaredConstructor().newInstance();
+    } catch (Throwable t) {
+      log.fine("Failed to load JDK Flight Recorder events: " + t);
+      return new Tracing();
+    }
+  }
+
+  // Returns an opaque handle to pass to end, or null if the call isn't being recorded
+  public Object begin() {
+    return null;
+  }
+
+  // Shape parameters which don't apply to the routine are 0
+  public void end(Object handle, String routine, Object backend, int m, int n, int k, int nrhs, int lda) {
+  }
+}
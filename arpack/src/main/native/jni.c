@@ -23,9 +23,12 @@
  * information or have any questions.
  */
 
+#define _GNU_SOURCE
+
 #include <stdlib.h>
 #include <string.h>
 #include <dlfcn.h>
+#include <link.h>
 
 #include "dev_ludovic_netlib_arpack_JNIARPACK.h"
 
@@ -40,11 +43,152 @@ static jfieldID floatW_val_fieldID;
 static jfieldID doubleW_val_fieldID;
 static jfieldID StringW_val_fieldID;
 
+static jboolean load_symbol(void **symbol, const char *name) {
+  void *address = dlsym(NULL, name);
+  if (!address) {
+    return FALSE;
+  }
+  __atomic_store_n(symbol, address, __ATOMIC_RELEASE);
+  return TRUE;
+}
+
+/* Symbols are resolved on first use rather than in JNI_OnLoad, as applications usually only call a
+ * handful of the routines. Concurrent first calls may both resolve the symbol, which is harmless. */
+#define LOAD_SYMBOL(name) \
+  (__atomic_load_n(&name, __ATOMIC_ACQUIRE) || load_symbol((void**)&name, #name))
+
+/* Built with -DNETLIB_JNI_PROFILE, every call accumulates the time spent converting the scalar, string and
+ * output arguments (marshal), getting and releasing the arrays, including the copies when the GC can't pin
+ * them (pin), and in the native routine itself (compute). The timers cost tens of nanoseconds per call, so
+ * they're compiled out by default. */
+#ifdef NETLIB_JNI_PROFILE
+#include <time.h>
+
+typedef struct {
+  const char *name;
+  jlong calls;
+  jlong marshal;
+  jlong pin;
+  jlong compute;
+} profile_t;
+
+static profile_t profiles[] = {
+  { "dmout", 0, 0, 0, 0 },
+  { "smout", 0, 0, 0, 0 },
+  { "dvout", 0, 0, 0, 0 },
+  { "svout", 0, 0, 0, 0 },
+  { "ivout", 0, 0, 0, 0 },
+  { "dgetv0", 0, 0, 0, 0 },
+  { "sgetv0", 0, 0, 0, 0 },
+  { "dnaitr", 0, 0, 0, 0 },
+  { "snaitr", 0, 0, 0, 0 },
+  { "dnapps", 0, 0, 0, 0 },
+  { "snapps", 0, 0, 0, 0 },
+  { "dnaup2", 0, 0, 0, 0 },
+  { "snaup2", 0, 0, 0, 0 },
+  { "dnaupd", 0, 0, 0, 0 },
+  { "snaupd", 0, 0, 0, 0 },
+  { "dnconv", 0, 0, 0, 0 },
+  { "snconv", 0, 0, 0, 0 },
+  { "dsconv", 0, 0, 0, 0 },
+  { "ssconv", 0, 0, 0, 0 },
+  { "dneigh", 0, 0, 0, 0 },
+  { "sneigh", 0, 0, 0, 0 },
+  { "dneupd", 0, 0, 0, 0 },
+  { "sneupd", 0, 0, 0, 0 },
+  { "dngets", 0, 0, 0, 0 },
+  { "sngets", 0, 0, 0, 0 },
+  { "dsaitr", 0, 0, 0, 0 },
+  { "ssaitr", 0, 0, 0, 0 },
+  { "dsapps", 0, 0, 0, 0 },
+  { "ssapps", 0, 0, 0, 0 },
+  { "dsaup2", 0, 0, 0, 0 },
+  { "ssaup2", 0, 0, 0, 0 },
+  { "dseigt", 0, 0, 0, 0 },
+  { "sseigt", 0, 0, 0, 0 },
+  { "dsesrt", 0, 0, 0, 0 },
+  { "ssesrt", 0, 0, 0, 0 },
+  { "dsaupd", 0, 0, 0, 0 },
+  { "ssaupd", 0, 0, 0, 0 },
+  { "dseupd", 0, 0, 0, 0 },
+  { "sseupd", 0, 0, 0, 0 },
+  { "dsgets", 0, 0, 0, 0 },
+  { "ssgets", 0, 0, 0, 0 },
+  { "dsortc", 0, 0, 0, 0 },
+  { "ssortc", 0, 0, 0, 0 },
+  { "dsortr", 0, 0, 0, 0 },
+  { "ssortr", 0, 0, 0, 0 },
+  { "dstatn", 0, 0, 0, 0 },
+  { "sstatn", 0, 0, 0, 0 },
+  { "dstats", 0, 0, 0, 0 },
+  { "sstats", 0, 0, 0, 0 },
+  { "dstqrb", 0, 0, 0, 0 },
+  { "sstqrb", 0, 0, 0, 0 },
+  { "icnteq", 0, 0, 0, 0 },
+  { "icopy", 0, 0, 0, 0 },
+  { "iset", 0, 0, 0, 0 },
+  { "iswap", 0, 0, 0, 0 },
+  { "second", 0, 0, 0, 0 },
+};
+
+static jlong profile_now(void) {
+  struct timespec ts;
+  clock_gettime(CLOCK_MONOTONIC, &ts);
+  return (jlong)ts.tv_sec * 1000000000 + ts.tv_nsec;
+}
+
+static void profile_record(int routine, jlong t0, jlong t1, jlong t2, jlong t3, jlong t4, jlong t5) {
+  __atomic_add_fetch(&profiles[routine].calls, 1, __ATOMIC_RELAXED);
+  __atomic_add_fetch(&profiles[routine].marshal, (t1 - t0) + (t5 - t4), __ATOMIC_RELAXED);
+  __atomic_add_fetch(&profiles[routine].pin, (t2 - t1) + (t4 - t3), __ATOMIC_RELAXED);
+  __atomic_add_fetch(&profiles[routine].compute, t3 - t2, __ATOMIC_RELAXED);
+}
+
+#define PROFILE_DECLARE jlong __t0 = profile_now(), __t1 = 0, __t2 = 0, __t3 = 0, __t4 = 0
+#define PROFILE_TICK(t) (t = profile_now())
+#define PROFILE_RECORD(routine) \
+  do { if (!__failed) profile_record(routine, __t0, __t1, __t2, __t3, __t4, profile_now()); } while (0)
+#else
+#define PROFILE_DECLARE do { } while (0)
+#define PROFILE_TICK(t) do { } while (0)
+#define PROFILE_RECORD(routine) do { } while (0)
+#endif
+
+/* Calls, marshal, pin and compute nanoseconds accumulated for the routine, or NULL if the probes aren't built in */
+jlongArray Java_dev_ludovic_netlib_arpack_JNIARPACK_profile(UNUSED JNIEnv *env, UNUSED jclass clazz, UNUSED jstring routine) {
+#ifdef NETLIB_JNI_PROFILE
+  const char *name = (*env)->GetStringUTFChars(env, routine, NULL);
+  if (!name) {
+    return NULL;
+  }
+  jlongArray res = NULL;
+  for (size_t i = 0; i < sizeof(profiles) / sizeof(profiles[0]); i++) {
+    if (strcmp(profiles[i].name, name) == 0) {
+      jlong values[4] = {
+        __atomic_load_n(&profiles[i].calls, __ATOMIC_RELAXED),
+        __atomic_load_n(&profiles[i].marshal, __ATOMIC_RELAXED),
+        __atomic_load_n(&profiles[i].pin, __ATOMIC_RELAXED),
+        __atomic_load_n(&profiles[i].compute, __ATOMIC_RELAXED),
+      };
+      if ((res = (*env)->NewLongArray(env, 4))) {
+        (*env)->SetLongArrayRegion(env, res, 0, 4, values);
+      }
+      break;
+    }
+  }
+  (*env)->ReleaseStringUTFChars(env, routine, name);
+  return res;
+#else
+  return NULL;
+#endif
+}
+
 static void (*dmout_)(int *lout, int *m, int *n, double *a, int *lda, int *idigit, const char *ifmt);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dmoutK(JNIEnv *env, UNUSED jobject obj, jint lout, jint m, jint n, jdoubleArray a, jint offseta, jint lda, jint idigit, jstring ifmt) {
-  if (!dmout_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dmout_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nlout __attribute__((aligned(8)));
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -58,19 +202,25 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dmoutK(JNIEnv *env, UNUSED jobject
   __nlda = lda;
   __nidigit = idigit;
   if (!(__nifmt = (*env)->GetStringUTFChars(env, ifmt, NULL))) { __failed = TRUE; goto done; }
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dmout_(&__nlout, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, &__nidigit, __nifmt);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nifmt) (*env)->ReleaseStringUTFChars(env, ifmt, __nifmt);
+  PROFILE_RECORD(0);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*smout_)(int *lout, int *m, int *n, float *a, int *lda, int *idigit, const char *ifmt);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_smoutK(JNIEnv *env, UNUSED jobject obj, jint lout, jint m, jint n, jfloatArray a, jint offseta, jint lda, jint idigit, jstring ifmt) {
-  if (!smout_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(smout_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nlout __attribute__((aligned(8)));
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -84,19 +234,25 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_smoutK(JNIEnv *env, UNUSED jobject
   __nlda = lda;
   __nidigit = idigit;
   if (!(__nifmt = (*env)->GetStringUTFChars(env, ifmt, NULL))) { __failed = TRUE; goto done; }
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   smout_(&__nlout, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, &__nidigit, __nifmt);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nifmt) (*env)->ReleaseStringUTFChars(env, ifmt, __nifmt);
+  PROFILE_RECORD(1);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dvout_)(int *lout, int *n, double *sx, int *idigit, const char *ifmt);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dvoutK(JNIEnv *env, UNUSED jobject obj, jint lout, jint n, jdoubleArray sx, jint offsetsx, jint idigit, jstring ifmt) {
-  if (!dvout_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dvout_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nlout __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
   int __nidigit __attribute__((aligned(8)));
@@ -106,19 +262,25 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dvoutK(JNIEnv *env, UNUSED jobject
   __nn = n;
   __nidigit = idigit;
   if (!(__nifmt = (*env)->GetStringUTFChars(env, ifmt, NULL))) { __failed = TRUE; goto done; }
+  PROFILE_TICK(__t1);
   if (sx) { if (!(__nsx = (*env)->GetPrimitiveArrayCritical(env, sx, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dvout_(&__nlout, &__nn, __nsx ? __nsx + offsetsx : NULL, &__nidigit, __nifmt);
+  PROFILE_TICK(__t3);
 done:
   if (__nsx) (*env)->ReleasePrimitiveArrayCritical(env, sx, __nsx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nifmt) (*env)->ReleaseStringUTFChars(env, ifmt, __nifmt);
+  PROFILE_RECORD(2);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*svout_)(int *lout, int *n, float *sx, int *idigit, const char *ifmt);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_svoutK(JNIEnv *env, UNUSED jobject obj, jint lout, jint n, jfloatArray sx, jint offsetsx, jint idigit, jstring ifmt) {
-  if (!svout_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(svout_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nlout __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
   int __nidigit __attribute__((aligned(8)));
@@ -128,19 +290,25 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_svoutK(JNIEnv *env, UNUSED jobject
   __nn = n;
   __nidigit = idigit;
   if (!(__nifmt = (*env)->GetStringUTFChars(env, ifmt, NULL))) { __failed = TRUE; goto done; }
+  PROFILE_TICK(__t1);
   if (sx) { if (!(__nsx = (*env)->GetPrimitiveArrayCritical(env, sx, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   svout_(&__nlout, &__nn, __nsx ? __nsx + offsetsx : NULL, &__nidigit, __nifmt);
+  PROFILE_TICK(__t3);
 done:
   if (__nsx) (*env)->ReleasePrimitiveArrayCritical(env, sx, __nsx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nifmt) (*env)->ReleaseStringUTFChars(env, ifmt, __nifmt);
+  PROFILE_RECORD(3);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ivout_)(int *lout, int *n, int *ix, int *idigit, const char *ifmt);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ivoutK(JNIEnv *env, UNUSED jobject obj, jint lout, jint n, jintArray ix, jint offsetix, jint idigit, jstring ifmt) {
-  if (!ivout_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ivout_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nlout __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
   int __nidigit __attribute__((aligned(8)));
@@ -150,19 +318,25 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ivoutK(JNIEnv *env, UNUSED jobject
   __nn = n;
   __nidigit = idigit;
   if (!(__nifmt = (*env)->GetStringUTFChars(env, ifmt, NULL))) { __failed = TRUE; goto done; }
+  PROFILE_TICK(__t1);
   if (ix) { if (!(__nix = (*env)->GetPrimitiveArrayCritical(env, ix, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ivout_(&__nlout, &__nn, __nix ? __nix + offsetix : NULL, &__nidigit, __nifmt);
+  PROFILE_TICK(__t3);
 done:
   if (__nix) (*env)->ReleasePrimitiveArrayCritical(env, ix, __nix, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nifmt) (*env)->ReleaseStringUTFChars(env, ifmt, __nifmt);
+  PROFILE_RECORD(4);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dgetv0_)(int *ido, const char *bmat, int *itry, int *initv, int *n, int *j, double *v, int *ldv, double *resid, double *rnorm, int *ipntr, double *workd, int *ierr);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dgetv0K(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint itry, jboolean initv, jint n, jint j, jdoubleArray v, jint offsetv, jint ldv, jdoubleArray resid, jint offsetresid, jobject rnorm, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jobject ierr) {
-  if (!dgetv0_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dgetv0_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nitry __attribute__((aligned(8)));
@@ -185,28 +359,34 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dgetv0K(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nrnorm = (*env)->GetDoubleField(env, rnorm, doubleW_val_fieldID);
   __nierr = (*env)->GetIntField(env, ierr, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dgetv0_(&__nido, __nbmat, &__nitry, &__ninitv, &__nn, &__nj, __nv ? __nv + offsetv : NULL, &__nldv, __nresid ? __nresid + offsetresid : NULL, &__nrnorm, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__nierr);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, ierr, intW_val_fieldID, __nierr);
   if (!__failed) (*env)->SetDoubleField(env, rnorm, doubleW_val_fieldID, __nrnorm);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(5);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sgetv0_)(int *ido, const char *bmat, int *itry, int *initv, int *n, int *j, float *v, int *ldv, float *resid, float *rnorm, int *ipntr, float *workd, int *ierr);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sgetv0K(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint itry, jboolean initv, jint n, jint j, jfloatArray v, jint offsetv, jint ldv, jfloatArray resid, jint offsetresid, jobject rnorm, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jobject ierr) {
-  if (!sgetv0_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sgetv0_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nitry __attribute__((aligned(8)));
@@ -229,20 +409,25 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sgetv0K(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nrnorm = (*env)->GetFloatField(env, rnorm, floatW_val_fieldID);
   __nierr = (*env)->GetIntField(env, ierr, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sgetv0_(&__nido, __nbmat, &__nitry, &__ninitv, &__nn, &__nj, __nv ? __nv + offsetv : NULL, &__nldv, __nresid ? __nresid + offsetresid : NULL, &__nrnorm, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__nierr);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, ierr, intW_val_fieldID, __nierr);
   if (!__failed) (*env)->SetFloatField(env, rnorm, floatW_val_fieldID, __nrnorm);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(6);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
@@ -261,8 +446,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_slaqrbK(JNIEnv *env, UNUSED jobjec
 static void (*dnaitr_)(int *ido, const char *bmat, int *n, int *k, int *np, int *nb, double *resid, double *rnorm, double *v, int *ldv, double *h, int *ldh, int *ipntr, double *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaitrK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jint k, jint np, jint nb, jdoubleArray resid, jint offsetresid, jobject rnorm, jdoubleArray v, jint offsetv, jint ldv, jdoubleArray h, jint offseth, jint ldh, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jobject info) {
-  if (!dnaitr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dnaitr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -288,30 +474,36 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaitrK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dnaitr_(&__nido, __nbmat, &__nn, &__nk, &__nnp, &__nnb, __nresid ? __nresid + offsetresid : NULL, &__nrnorm, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetDoubleField(env, rnorm, doubleW_val_fieldID, __nrnorm);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(7);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*snaitr_)(int *ido, const char *bmat, int *n, int *k, int *np, int *nb, float *resid, float *rnorm, float *v, int *ldv, float *h, int *ldh, int *ipntr, float *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaitrK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jint k, jint np, jint nb, jfloatArray resid, jint offsetresid, jobject rnorm, jfloatArray v, jint offsetv, jint ldv, jfloatArray h, jint offseth, jint ldh, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jobject info) {
-  if (!snaitr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(snaitr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -337,30 +529,36 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaitrK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   snaitr_(&__nido, __nbmat, &__nn, &__nk, &__nnp, &__nnb, __nresid ? __nresid + offsetresid : NULL, &__nrnorm, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetFloatField(env, rnorm, floatW_val_fieldID, __nrnorm);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(8);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dnapps_)(int *n, int *kev, int *np, double *shiftr, double *shifti, double *v, int *ldv, double *h, int *ldh, double *resid, double *q, int *ldq, double *workl, double *workd);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnappsK(JNIEnv *env, UNUSED jobject obj, jint n, jobject kev, jint np, jdoubleArray shiftr, jint offsetshiftr, jdoubleArray shifti, jint offsetshifti, jdoubleArray v, jint offsetv, jint ldv, jdoubleArray h, jint offseth, jint ldh, jdoubleArray resid, jint offsetresid, jdoubleArray q, jint offsetq, jint ldq, jdoubleArray workl, jint offsetworkl, jdoubleArray workd, jint offsetworkd) {
-  if (!dnapps_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dnapps_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nkev = 0;
   int __nnp __attribute__((aligned(8)));
@@ -381,6 +579,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnappsK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __nldq = ldq;
+  PROFILE_TICK(__t1);
   if (shiftr) { if (!(__nshiftr = (*env)->GetPrimitiveArrayCritical(env, shiftr, NULL))) { __failed = TRUE; goto done; } }
   if (shifti) { if (!(__nshifti = (*env)->GetPrimitiveArrayCritical(env, shifti, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
@@ -389,7 +588,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnappsK(JNIEnv *env, UNUSED jobjec
   if (q) { if (!(__nq = (*env)->GetPrimitiveArrayCritical(env, q, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dnapps_(&__nn, &__nkev, &__nnp, __nshiftr ? __nshiftr + offsetshiftr : NULL, __nshifti ? __nshifti + offsetshifti : NULL, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nresid ? __nresid + offsetresid : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, __nworkd ? __nworkd + offsetworkd : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
@@ -399,15 +600,18 @@ done:
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nshifti) (*env)->ReleasePrimitiveArrayCritical(env, shifti, __nshifti, __failed ? JNI_ABORT : 0);
   if (__nshiftr) (*env)->ReleasePrimitiveArrayCritical(env, shiftr, __nshiftr, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, kev, intW_val_fieldID, __nkev);
+  PROFILE_RECORD(9);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*snapps_)(int *n, int *kev, int *np, float *shiftr, float *shifti, float *v, int *ldv, float *h, int *ldh, float *resid, float *q, int *ldq, float *workl, float *workd);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_snappsK(JNIEnv *env, UNUSED jobject obj, jint n, jobject kev, jint np, jfloatArray shiftr, jint offsetshiftr, jfloatArray shifti, jint offsetshifti, jfloatArray v, jint offsetv, jint ldv, jfloatArray h, jint offseth, jint ldh, jfloatArray resid, jint offsetresid, jfloatArray q, jint offsetq, jint ldq, jfloatArray workl, jint offsetworkl, jfloatArray workd, jint offsetworkd) {
-  if (!snapps_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(snapps_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nkev = 0;
   int __nnp __attribute__((aligned(8)));
@@ -428,6 +632,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_snappsK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __nldq = ldq;
+  PROFILE_TICK(__t1);
   if (shiftr) { if (!(__nshiftr = (*env)->GetPrimitiveArrayCritical(env, shiftr, NULL))) { __failed = TRUE; goto done; } }
   if (shifti) { if (!(__nshifti = (*env)->GetPrimitiveArrayCritical(env, shifti, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
@@ -436,7 +641,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_snappsK(JNIEnv *env, UNUSED jobjec
   if (q) { if (!(__nq = (*env)->GetPrimitiveArrayCritical(env, q, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   snapps_(&__nn, &__nkev, &__nnp, __nshiftr ? __nshiftr + offsetshiftr : NULL, __nshifti ? __nshifti + offsetshifti : NULL, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nresid ? __nresid + offsetresid : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, __nworkd ? __nworkd + offsetworkd : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
@@ -446,15 +653,18 @@ done:
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nshifti) (*env)->ReleasePrimitiveArrayCritical(env, shifti, __nshifti, __failed ? JNI_ABORT : 0);
   if (__nshiftr) (*env)->ReleasePrimitiveArrayCritical(env, shiftr, __nshiftr, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, kev, intW_val_fieldID, __nkev);
+  PROFILE_RECORD(10);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dnaup2_)(int *ido, const char *bmat, int *n, const char *which, int *nev, int *np, double *tol, double *resid, int *mode, int *iupd, int *ishift, int *mxiter, double *v, int *ldv, double *h, int *ldh, double *ritzr, double *ritzi, double *bounds, double *q, int *ldq, double *workl, int *ipntr, double *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaup2K(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jobject nev, jobject np, jdouble tol, jdoubleArray resid, jint offsetresid, jint mode, jint iupd, jint ishift, jobject mxiter, jdoubleArray v, jint offsetv, jint ldv, jdoubleArray h, jint offseth, jint ldh, jdoubleArray ritzr, jint offsetritzr, jdoubleArray ritzi, jint offsetritzi, jdoubleArray bounds, jint offsetbounds, jdoubleArray q, jint offsetq, jint ldq, jdoubleArray workl, jint offsetworkl, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jobject info) {
-  if (!dnaup2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dnaup2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -495,6 +705,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaup2K(JNIEnv *env, UNUSED jobjec
   __nldh = ldh;
   __nldq = ldq;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
@@ -505,7 +716,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaup2K(JNIEnv *env, UNUSED jobjec
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dnaup2_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__nnp, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nmode, &__niupd, &__nishift, &__nmxiter, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
@@ -517,6 +730,7 @@ done:
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, mxiter, intW_val_fieldID, __nmxiter);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
@@ -524,14 +738,16 @@ done:
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(11);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*snaup2_)(int *ido, const char *bmat, int *n, const char *which, int *nev, int *np, float *tol, float *resid, int *mode, int *iupd, int *ishift, int *mxiter, float *v, int *ldv, float *h, int *ldh, float *ritzr, float *ritzi, float *bounds, float *q, int *ldq, float *workl, int *ipntr, float *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaup2K(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jobject nev, jobject np, jfloat tol, jfloatArray resid, jint offsetresid, jint mode, jint iupd, jint ishift, jobject mxiter, jfloatArray v, jint offsetv, jint ldv, jfloatArray h, jint offseth, jint ldh, jfloatArray ritzr, jint offsetritzr, jfloatArray ritzi, jint offsetritzi, jfloatArray bounds, jint offsetbounds, jfloatArray q, jint offsetq, jint ldq, jfloatArray workl, jint offsetworkl, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jobject info) {
-  if (!snaup2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(snaup2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -572,6 +788,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaup2K(JNIEnv *env, UNUSED jobjec
   __nldh = ldh;
   __nldq = ldq;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
@@ -582,7 +799,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaup2K(JNIEnv *env, UNUSED jobjec
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   snaup2_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__nnp, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nmode, &__niupd, &__nishift, &__nmxiter, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
@@ -594,6 +813,7 @@ done:
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, mxiter, intW_val_fieldID, __nmxiter);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
@@ -601,14 +821,16 @@ done:
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(12);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dnaupd_)(int *ido, const char *bmat, int *n, const char *which, int *nev, double *tol, double *resid, int *ncv, double *v, int *ldv, int *iparam, int *ipntr, double *workd, double *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaupdK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jdoubleArray resid, jint offsetresid, jint ncv, jdoubleArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jdoubleArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!dnaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dnaupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -635,13 +857,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (iparam) { if (!(__niparam = (*env)->GetPrimitiveArrayCritical(env, iparam, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dnaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -649,19 +874,22 @@ done:
   if (__niparam) (*env)->ReleasePrimitiveArrayCritical(env, iparam, __niparam, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetDoubleField(env, tol, doubleW_val_fieldID, __ntol);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(13);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*snaupd_)(int *ido, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaupdK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!snaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(snaupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -688,13 +916,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (iparam) { if (!(__niparam = (*env)->GetPrimitiveArrayCritical(env, iparam, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   snaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -702,19 +933,22 @@ done:
   if (__niparam) (*env)->ReleasePrimitiveArrayCritical(env, iparam, __niparam, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetFloatField(env, tol, floatW_val_fieldID, __ntol);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(14);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dnconv_)(int *n, double *ritzr, double *ritzi, double *bounds, double *tol, int *nconv);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnconvK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray ritzr, jint offsetritzr, jdoubleArray ritzi, jint offsetritzi, jdoubleArray bounds, jint offsetbounds, jdouble tol, jobject nconv) {
-  if (!dnconv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dnconv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   double __ntol __attribute__((aligned(8)));
   int __nnconv = 0;
@@ -724,23 +958,29 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnconvK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __ntol = tol;
   __nnconv = (*env)->GetIntField(env, nconv, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritzr) { if (!(__nritzr = (*env)->GetPrimitiveArrayCritical(env, ritzr, NULL))) { __failed = TRUE; goto done; } }
   if (ritzi) { if (!(__nritzi = (*env)->GetPrimitiveArrayCritical(env, ritzi, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dnconv_(&__nn, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, &__ntol, &__nnconv);
+  PROFILE_TICK(__t3);
 done:
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritzi) (*env)->ReleasePrimitiveArrayCritical(env, ritzi, __nritzi, __failed ? JNI_ABORT : 0);
   if (__nritzr) (*env)->ReleasePrimitiveArrayCritical(env, ritzr, __nritzr, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, nconv, intW_val_fieldID, __nnconv);
+  PROFILE_RECORD(15);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*snconv_)(int *n, float *ritzr, float *ritzi, float *bounds, float *tol, int *nconv);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_snconvK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray ritzr, jint offsetritzr, jfloatArray ritzi, jint offsetritzi, jfloatArray bounds, jint offsetbounds, jfloat tol, jobject nconv) {
-  if (!snconv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(snconv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   float __ntol __attribute__((aligned(8)));
   int __nnconv = 0;
@@ -750,23 +990,29 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_snconvK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __ntol = tol;
   __nnconv = (*env)->GetIntField(env, nconv, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritzr) { if (!(__nritzr = (*env)->GetPrimitiveArrayCritical(env, ritzr, NULL))) { __failed = TRUE; goto done; } }
   if (ritzi) { if (!(__nritzi = (*env)->GetPrimitiveArrayCritical(env, ritzi, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   snconv_(&__nn, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, &__ntol, &__nnconv);
+  PROFILE_TICK(__t3);
 done:
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritzi) (*env)->ReleasePrimitiveArrayCritical(env, ritzi, __nritzi, __failed ? JNI_ABORT : 0);
   if (__nritzr) (*env)->ReleasePrimitiveArrayCritical(env, ritzr, __nritzr, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, nconv, intW_val_fieldID, __nnconv);
+  PROFILE_RECORD(16);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsconv_)(int *n, double *ritz, double *bounds, double *tol, int *nconv);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsconvK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray ritz, jint offsetritz, jdoubleArray bounds, jint offsetbounds, jdouble tol, jobject nconv) {
-  if (!dsconv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsconv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   double __ntol __attribute__((aligned(8)));
   int __nnconv = 0;
@@ -775,21 +1021,27 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsconvK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __ntol = tol;
   __nnconv = (*env)->GetIntField(env, nconv, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritz) { if (!(__nritz = (*env)->GetPrimitiveArrayCritical(env, ritz, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsconv_(&__nn, __nritz ? __nritz + offsetritz : NULL, __nbounds ? __nbounds + offsetbounds : NULL, &__ntol, &__nnconv);
+  PROFILE_TICK(__t3);
 done:
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritz) (*env)->ReleasePrimitiveArrayCritical(env, ritz, __nritz, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, nconv, intW_val_fieldID, __nnconv);
+  PROFILE_RECORD(17);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssconv_)(int *n, float *ritz, float *bounds, float *tol, int *nconv);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssconvK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray ritz, jint offsetritz, jfloatArray bounds, jint offsetbounds, jfloat tol, jobject nconv) {
-  if (!ssconv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssconv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   float __ntol __attribute__((aligned(8)));
   int __nnconv = 0;
@@ -798,21 +1050,27 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssconvK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __ntol = tol;
   __nnconv = (*env)->GetIntField(env, nconv, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritz) { if (!(__nritz = (*env)->GetPrimitiveArrayCritical(env, ritz, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssconv_(&__nn, __nritz ? __nritz + offsetritz : NULL, __nbounds ? __nbounds + offsetbounds : NULL, &__ntol, &__nnconv);
+  PROFILE_TICK(__t3);
 done:
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritz) (*env)->ReleasePrimitiveArrayCritical(env, ritz, __nritz, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, nconv, intW_val_fieldID, __nnconv);
+  PROFILE_RECORD(18);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dneigh_)(double *rnorm, int *n, double *h, int *ldh, double *ritzr, double *ritzi, double *bounds, double *q, int *ldq, double *workl, int *ierr);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dneighK(JNIEnv *env, UNUSED jobject obj, jdouble rnorm, jobject n, jdoubleArray h, jint offseth, jint ldh, jdoubleArray ritzr, jint offsetritzr, jdoubleArray ritzi, jint offsetritzi, jdoubleArray bounds, jint offsetbounds, jdoubleArray q, jint offsetq, jint ldq, jdoubleArray workl, jint offsetworkl, jobject ierr) {
-  if (!dneigh_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dneigh_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   double __nrnorm __attribute__((aligned(8)));
   int __nn = 0;
   int __nldh __attribute__((aligned(8)));
@@ -829,13 +1087,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dneighK(JNIEnv *env, UNUSED jobjec
   __nldh = ldh;
   __nldq = ldq;
   __nierr = (*env)->GetIntField(env, ierr, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (ritzr) { if (!(__nritzr = (*env)->GetPrimitiveArrayCritical(env, ritzr, NULL))) { __failed = TRUE; goto done; } }
   if (ritzi) { if (!(__nritzi = (*env)->GetPrimitiveArrayCritical(env, ritzi, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (q) { if (!(__nq = (*env)->GetPrimitiveArrayCritical(env, q, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dneigh_(&__nrnorm, &__nn, __nh ? __nh + offseth : NULL, &__nldh, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, &__nierr);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nq) (*env)->ReleasePrimitiveArrayCritical(env, q, __nq, __failed ? JNI_ABORT : 0);
@@ -843,16 +1104,19 @@ done:
   if (__nritzi) (*env)->ReleasePrimitiveArrayCritical(env, ritzi, __nritzi, __failed ? JNI_ABORT : 0);
   if (__nritzr) (*env)->ReleasePrimitiveArrayCritical(env, ritzr, __nritzr, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, ierr, intW_val_fieldID, __nierr);
   if (!__failed) (*env)->SetIntField(env, n, intW_val_fieldID, __nn);
+  PROFILE_RECORD(19);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sneigh_)(float *rnorm, int *n, float *h, int *ldh, float *ritzr, float *ritzi, float *bounds, float *q, int *ldq, float *workl, int *ierr);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sneighK(JNIEnv *env, UNUSED jobject obj, jfloat rnorm, jobject n, jfloatArray h, jint offseth, jint ldh, jfloatArray ritzr, jint offsetritzr, jfloatArray ritzi, jint offsetritzi, jfloatArray bounds, jint offsetbounds, jfloatArray q, jint offsetq, jint ldq, jfloatArray workl, jint offsetworkl, jobject ierr) {
-  if (!sneigh_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sneigh_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   float __nrnorm __attribute__((aligned(8)));
   int __nn = 0;
   int __nldh __attribute__((aligned(8)));
@@ -869,13 +1133,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sneighK(JNIEnv *env, UNUSED jobjec
   __nldh = ldh;
   __nldq = ldq;
   __nierr = (*env)->GetIntField(env, ierr, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (ritzr) { if (!(__nritzr = (*env)->GetPrimitiveArrayCritical(env, ritzr, NULL))) { __failed = TRUE; goto done; } }
   if (ritzi) { if (!(__nritzi = (*env)->GetPrimitiveArrayCritical(env, ritzi, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (q) { if (!(__nq = (*env)->GetPrimitiveArrayCritical(env, q, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sneigh_(&__nrnorm, &__nn, __nh ? __nh + offseth : NULL, &__nldh, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, &__nierr);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nq) (*env)->ReleasePrimitiveArrayCritical(env, q, __nq, __failed ? JNI_ABORT : 0);
@@ -883,16 +1150,19 @@ done:
   if (__nritzi) (*env)->ReleasePrimitiveArrayCritical(env, ritzi, __nritzi, __failed ? JNI_ABORT : 0);
   if (__nritzr) (*env)->ReleasePrimitiveArrayCritical(env, ritzr, __nritzr, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, ierr, intW_val_fieldID, __nierr);
   if (!__failed) (*env)->SetIntField(env, n, intW_val_fieldID, __nn);
+  PROFILE_RECORD(20);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dneupd_)(int *rvec, const char *howmny, int *select, double *dr, double *di, double *z, int *ldz, double *sigmar, double *sigmai, double *workev, const char *bmat, int *n, const char *which, int *nev, double *tol, double *resid, int *ncv, double *v, int *ldv, int *iparam, int *ipntr, double *workd, double *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dneupdK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jdoubleArray dr, jint offsetdr, jdoubleArray di, jint offsetdi, jdoubleArray z, jint offsetz, jint ldz, jdouble sigmar, jdouble sigmai, jdoubleArray workev, jint offsetworkev, jstring bmat, jint n, jstring which, jobject nev, jdouble tol, jdoubleArray resid, jint offsetresid, jint ncv, jdoubleArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jdoubleArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!dneupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dneupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nrvec __attribute__((aligned(8)));
   const char *__nhowmny = NULL;
   int __nldz __attribute__((aligned(8)));
@@ -932,6 +1202,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dneupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
   do {
     int __length = (*env)->GetArrayLength(env, select);
@@ -949,7 +1220,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dneupdK(JNIEnv *env, UNUSED jobjec
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dneupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __ndr ? __ndr + offsetdr : NULL, __ndi ? __ndi + offsetdi : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigmar, &__nsigmai, __nworkev ? __nworkev + offsetworkev : NULL, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -962,19 +1235,22 @@ done:
   if (__ndi) (*env)->ReleasePrimitiveArrayCritical(env, di, __ndi, __failed ? JNI_ABORT : 0);
   if (__ndr) (*env)->ReleasePrimitiveArrayCritical(env, dr, __ndr, __failed ? JNI_ABORT : 0);
   if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  PROFILE_RECORD(21);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sneupd_)(int *rvec, const char *howmny, int *select, float *dr, float *di, float *z, int *ldz, float *sigmar, float *sigmai, float *workev, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sneupdK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jfloatArray dr, jint offsetdr, jfloatArray di, jint offsetdi, jfloatArray z, jint offsetz, jint ldz, jfloat sigmar, jfloat sigmai, jfloatArray workev, jint offsetworkev, jstring bmat, jint n, jstring which, jobject nev, jfloat tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!sneupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sneupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nrvec __attribute__((aligned(8)));
   const char *__nhowmny = NULL;
   int __nldz __attribute__((aligned(8)));
@@ -1014,6 +1290,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sneupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
   do {
     int __length = (*env)->GetArrayLength(env, select);
@@ -1031,7 +1308,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sneupdK(JNIEnv *env, UNUSED jobjec
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sneupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __ndr ? __ndr + offsetdr : NULL, __ndi ? __ndi + offsetdi : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigmar, &__nsigmai, __nworkev ? __nworkev + offsetworkev : NULL, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -1044,19 +1323,22 @@ done:
   if (__ndi) (*env)->ReleasePrimitiveArrayCritical(env, di, __ndi, __failed ? JNI_ABORT : 0);
   if (__ndr) (*env)->ReleasePrimitiveArrayCritical(env, dr, __ndr, __failed ? JNI_ABORT : 0);
   if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  PROFILE_RECORD(22);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dngets_)(int *ishift, const char *which, int *kev, int *np, double *ritzr, double *ritzi, double *bounds, double *shiftr, double *shifti);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dngetsK(JNIEnv *env, UNUSED jobject obj, jint ishift, jstring which, jobject kev, jobject np, jdoubleArray ritzr, jint offsetritzr, jdoubleArray ritzi, jint offsetritzi, jdoubleArray bounds, jint offsetbounds, jdoubleArray shiftr, jint offsetshiftr, jdoubleArray shifti, jint offsetshifti) {
-  if (!dngets_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dngets_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nishift __attribute__((aligned(8)));
   const char *__nwhich = NULL;
   int __nkev = 0;
@@ -1070,29 +1352,35 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dngetsK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __nkev = (*env)->GetIntField(env, kev, intW_val_fieldID);
   __nnp = (*env)->GetIntField(env, np, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritzr) { if (!(__nritzr = (*env)->GetPrimitiveArrayCritical(env, ritzr, NULL))) { __failed = TRUE; goto done; } }
   if (ritzi) { if (!(__nritzi = (*env)->GetPrimitiveArrayCritical(env, ritzi, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (shiftr) { if (!(__nshiftr = (*env)->GetPrimitiveArrayCritical(env, shiftr, NULL))) { __failed = TRUE; goto done; } }
   if (shifti) { if (!(__nshifti = (*env)->GetPrimitiveArrayCritical(env, shifti, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dngets_(&__nishift, __nwhich, &__nkev, &__nnp, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nshiftr ? __nshiftr + offsetshiftr : NULL, __nshifti ? __nshifti + offsetshifti : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nshifti) (*env)->ReleasePrimitiveArrayCritical(env, shifti, __nshifti, __failed ? JNI_ABORT : 0);
   if (__nshiftr) (*env)->ReleasePrimitiveArrayCritical(env, shiftr, __nshiftr, __failed ? JNI_ABORT : 0);
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritzi) (*env)->ReleasePrimitiveArrayCritical(env, ritzi, __nritzi, __failed ? JNI_ABORT : 0);
   if (__nritzr) (*env)->ReleasePrimitiveArrayCritical(env, ritzr, __nritzr, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
   if (!__failed) (*env)->SetIntField(env, kev, intW_val_fieldID, __nkev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(23);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sngets_)(int *ishift, const char *which, int *kev, int *np, float *ritzr, float *ritzi, float *bounds, float *shiftr, float *shifti);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sngetsK(JNIEnv *env, UNUSED jobject obj, jint ishift, jstring which, jobject kev, jobject np, jfloatArray ritzr, jint offsetritzr, jfloatArray ritzi, jint offsetritzi, jfloatArray bounds, jint offsetbounds, jfloatArray shiftr, jint offsetshiftr, jfloatArray shifti, jint offsetshifti) {
-  if (!sngets_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sngets_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nishift __attribute__((aligned(8)));
   const char *__nwhich = NULL;
   int __nkev = 0;
@@ -1106,29 +1394,35 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sngetsK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __nkev = (*env)->GetIntField(env, kev, intW_val_fieldID);
   __nnp = (*env)->GetIntField(env, np, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritzr) { if (!(__nritzr = (*env)->GetPrimitiveArrayCritical(env, ritzr, NULL))) { __failed = TRUE; goto done; } }
   if (ritzi) { if (!(__nritzi = (*env)->GetPrimitiveArrayCritical(env, ritzi, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (shiftr) { if (!(__nshiftr = (*env)->GetPrimitiveArrayCritical(env, shiftr, NULL))) { __failed = TRUE; goto done; } }
   if (shifti) { if (!(__nshifti = (*env)->GetPrimitiveArrayCritical(env, shifti, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sngets_(&__nishift, __nwhich, &__nkev, &__nnp, __nritzr ? __nritzr + offsetritzr : NULL, __nritzi ? __nritzi + offsetritzi : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nshiftr ? __nshiftr + offsetshiftr : NULL, __nshifti ? __nshifti + offsetshifti : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nshifti) (*env)->ReleasePrimitiveArrayCritical(env, shifti, __nshifti, __failed ? JNI_ABORT : 0);
   if (__nshiftr) (*env)->ReleasePrimitiveArrayCritical(env, shiftr, __nshiftr, __failed ? JNI_ABORT : 0);
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritzi) (*env)->ReleasePrimitiveArrayCritical(env, ritzi, __nritzi, __failed ? JNI_ABORT : 0);
   if (__nritzr) (*env)->ReleasePrimitiveArrayCritical(env, ritzr, __nritzr, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
   if (!__failed) (*env)->SetIntField(env, kev, intW_val_fieldID, __nkev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(24);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsaitr_)(int *ido, const char *bmat, int *n, int *k, int *np, int *mode, double *resid, double *rnorm, double *v, int *ldv, double *h, int *ldh, int *ipntr, double *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaitrK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jint k, jint np, jint mode, jdoubleArray resid, jint offsetresid, jobject rnorm, jdoubleArray v, jint offsetv, jint ldv, jdoubleArray h, jint offseth, jint ldh, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jobject info) {
-  if (!dsaitr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsaitr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1154,30 +1448,36 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaitrK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsaitr_(&__nido, __nbmat, &__nn, &__nk, &__nnp, &__nmode, __nresid ? __nresid + offsetresid : NULL, &__nrnorm, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetDoubleField(env, rnorm, doubleW_val_fieldID, __nrnorm);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(25);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssaitr_)(int *ido, const char *bmat, int *n, int *k, int *np, int *mode, float *resid, float *rnorm, float *v, int *ldv, float *h, int *ldh, int *ipntr, float *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaitrK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jint k, jint np, jint mode, jfloatArray resid, jint offsetresid, jobject rnorm, jfloatArray v, jint offsetv, jint ldv, jfloatArray h, jint offseth, jint ldh, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jobject info) {
-  if (!ssaitr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssaitr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1203,30 +1503,36 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaitrK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssaitr_(&__nido, __nbmat, &__nn, &__nk, &__nnp, &__nmode, __nresid ? __nresid + offsetresid : NULL, &__nrnorm, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetFloatField(env, rnorm, floatW_val_fieldID, __nrnorm);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(26);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsapps_)(int *n, int *kev, int *np, double *shift, double *v, int *ldv, double *h, int *ldh, double *resid, double *q, int *ldq, double *workd);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsappsK(JNIEnv *env, UNUSED jobject obj, jint n, jint kev, jint np, jdoubleArray shift, jint offsetshift, jdoubleArray v, jint offsetv, jint ldv, jdoubleArray h, jint offseth, jint ldh, jdoubleArray resid, jint offsetresid, jdoubleArray q, jint offsetq, jint ldq, jdoubleArray workd, jint offsetworkd) {
-  if (!dsapps_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsapps_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nkev __attribute__((aligned(8)));
   int __nnp __attribute__((aligned(8)));
@@ -1245,13 +1551,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsappsK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __nldq = ldq;
+  PROFILE_TICK(__t1);
   if (shift) { if (!(__nshift = (*env)->GetPrimitiveArrayCritical(env, shift, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (q) { if (!(__nq = (*env)->GetPrimitiveArrayCritical(env, q, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsapps_(&__nn, &__nkev, &__nnp, __nshift ? __nshift + offsetshift : NULL, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nresid ? __nresid + offsetresid : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkd ? __nworkd + offsetworkd : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nq) (*env)->ReleasePrimitiveArrayCritical(env, q, __nq, __failed ? JNI_ABORT : 0);
@@ -1259,14 +1568,17 @@ done:
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nshift) (*env)->ReleasePrimitiveArrayCritical(env, shift, __nshift, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(27);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssapps_)(int *n, int *kev, int *np, float *shift, float *v, int *ldv, float *h, int *ldh, float *resid, float *q, int *ldq, float *workd);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssappsK(JNIEnv *env, UNUSED jobject obj, jint n, jint kev, jint np, jfloatArray shift, jint offsetshift, jfloatArray v, jint offsetv, jint ldv, jfloatArray h, jint offseth, jint ldh, jfloatArray resid, jint offsetresid, jfloatArray q, jint offsetq, jint ldq, jfloatArray workd, jint offsetworkd) {
-  if (!ssapps_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssapps_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nkev __attribute__((aligned(8)));
   int __nnp __attribute__((aligned(8)));
@@ -1285,13 +1597,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssappsK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nldh = ldh;
   __nldq = ldq;
+  PROFILE_TICK(__t1);
   if (shift) { if (!(__nshift = (*env)->GetPrimitiveArrayCritical(env, shift, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (q) { if (!(__nq = (*env)->GetPrimitiveArrayCritical(env, q, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssapps_(&__nn, &__nkev, &__nnp, __nshift ? __nshift + offsetshift : NULL, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nresid ? __nresid + offsetresid : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkd ? __nworkd + offsetworkd : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nq) (*env)->ReleasePrimitiveArrayCritical(env, q, __nq, __failed ? JNI_ABORT : 0);
@@ -1299,14 +1614,17 @@ done:
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nshift) (*env)->ReleasePrimitiveArrayCritical(env, shift, __nshift, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(28);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsaup2_)(int *ido, const char *bmat, int *n, const char *which, int *nev, int *np, double *tol, double *resid, int *mode, int *iupd, int *ishift, int *mxiter, double *v, int *ldv, double *h, int *ldh, double *ritz, double *bounds, double *q, int *ldq, double *workl, int *ipntr, double *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaup2K(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jobject nev, jobject np, jdouble tol, jdoubleArray resid, jint offsetresid, jint mode, jint iupd, jint ishift, jobject mxiter, jdoubleArray v, jint offsetv, jint ldv, jdoubleArray h, jint offseth, jint ldh, jdoubleArray ritz, jint offsetritz, jdoubleArray bounds, jint offsetbounds, jdoubleArray q, jint offsetq, jint ldq, jdoubleArray workl, jint offsetworkl, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jobject info) {
-  if (!dsaup2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsaup2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1346,6 +1664,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaup2K(JNIEnv *env, UNUSED jobjec
   __nldh = ldh;
   __nldq = ldq;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
@@ -1355,7 +1674,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaup2K(JNIEnv *env, UNUSED jobjec
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsaup2_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__nnp, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nmode, &__niupd, &__nishift, &__nmxiter, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nritz ? __nritz + offsetritz : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
@@ -1366,6 +1687,7 @@ done:
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, mxiter, intW_val_fieldID, __nmxiter);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
@@ -1373,14 +1695,16 @@ done:
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(29);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssaup2_)(int *ido, const char *bmat, int *n, const char *which, int *nev, int *np, float *tol, float *resid, int *mode, int *iupd, int *ishift, int *mxiter, float *v, int *ldv, float *h, int *ldh, float *ritz, float *bounds, float *q, int *ldq, float *workl, int *ipntr, float *workd, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaup2K(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jobject nev, jobject np, jfloat tol, jfloatArray resid, jint offsetresid, jint mode, jint iupd, jint ishift, jobject mxiter, jfloatArray v, jint offsetv, jint ldv, jfloatArray h, jint offseth, jint ldh, jfloatArray ritz, jint offsetritz, jfloatArray bounds, jint offsetbounds, jfloatArray q, jint offsetq, jint ldq, jfloatArray workl, jint offsetworkl, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jobject info) {
-  if (!ssaup2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssaup2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1420,6 +1744,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaup2K(JNIEnv *env, UNUSED jobjec
   __nldh = ldh;
   __nldq = ldq;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
@@ -1429,7 +1754,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaup2K(JNIEnv *env, UNUSED jobjec
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssaup2_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__nnp, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nmode, &__niupd, &__nishift, &__nmxiter, __nv ? __nv + offsetv : NULL, &__nldv, __nh ? __nh + offseth : NULL, &__nldh, __nritz ? __nritz + offsetritz : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nq ? __nq + offsetq : NULL, &__nldq, __nworkl ? __nworkl + offsetworkl : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
   if (__nipntr) (*env)->ReleasePrimitiveArrayCritical(env, ipntr, __nipntr, __failed ? JNI_ABORT : 0);
@@ -1440,6 +1767,7 @@ done:
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, mxiter, intW_val_fieldID, __nmxiter);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
@@ -1447,14 +1775,16 @@ done:
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(30);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dseigt_)(double *rnorm, int *n, double *h, int *ldh, double *eig, double *bounds, double *workl, int *ierr);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dseigtK(JNIEnv *env, UNUSED jobject obj, jdouble rnorm, jint n, jdoubleArray h, jint offseth, jint ldh, jdoubleArray eig, jint offseteig, jdoubleArray bounds, jint offsetbounds, jdoubleArray workl, jint offsetworkl, jobject ierr) {
-  if (!dseigt_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dseigt_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   double __nrnorm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
   int __nldh __attribute__((aligned(8)));
@@ -1467,25 +1797,31 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dseigtK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __nldh = ldh;
   __nierr = (*env)->GetIntField(env, ierr, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (eig) { if (!(__neig = (*env)->GetPrimitiveArrayCritical(env, eig, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dseigt_(&__nrnorm, &__nn, __nh ? __nh + offseth : NULL, &__nldh, __neig ? __neig + offseteig : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nierr);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__neig) (*env)->ReleasePrimitiveArrayCritical(env, eig, __neig, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, ierr, intW_val_fieldID, __nierr);
+  PROFILE_RECORD(31);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sseigt_)(float *rnorm, int *n, float *h, int *ldh, float *eig, float *bounds, float *workl, int *ierr);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sseigtK(JNIEnv *env, UNUSED jobject obj, jfloat rnorm, jint n, jfloatArray h, jint offseth, jint ldh, jfloatArray eig, jint offseteig, jfloatArray bounds, jint offsetbounds, jfloatArray workl, jint offsetworkl, jobject ierr) {
-  if (!sseigt_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sseigt_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   float __nrnorm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
   int __nldh __attribute__((aligned(8)));
@@ -1498,25 +1834,31 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sseigtK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __nldh = ldh;
   __nierr = (*env)->GetIntField(env, ierr, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (h) { if (!(__nh = (*env)->GetPrimitiveArrayCritical(env, h, NULL))) { __failed = TRUE; goto done; } }
   if (eig) { if (!(__neig = (*env)->GetPrimitiveArrayCritical(env, eig, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sseigt_(&__nrnorm, &__nn, __nh ? __nh + offseth : NULL, &__nldh, __neig ? __neig + offseteig : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nierr);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__neig) (*env)->ReleasePrimitiveArrayCritical(env, eig, __neig, __failed ? JNI_ABORT : 0);
   if (__nh) (*env)->ReleasePrimitiveArrayCritical(env, h, __nh, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, ierr, intW_val_fieldID, __nierr);
+  PROFILE_RECORD(32);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsesrt_)(const char *which, int *apply, int *n, double *x, int *na, double *a, int *lda);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsesrtK(JNIEnv *env, UNUSED jobject obj, jstring which, jboolean apply, jint n, jdoubleArray x, jint offsetx, jint na, jdoubleArray a, jint offseta, jint lda) {
-  if (!dsesrt_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsesrt_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nwhich = NULL;
   int __napply __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -1529,21 +1871,27 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsesrtK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __nna = na;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsesrt_(__nwhich, &__napply, &__nn, __nx ? __nx + offsetx : NULL, &__nna, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(33);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssesrt_)(const char *which, int *apply, int *n, float *x, int *na, float *a, int *lda);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssesrtK(JNIEnv *env, UNUSED jobject obj, jstring which, jboolean apply, jint n, jfloatArray x, jint offsetx, jint na, jfloatArray a, jint offseta, jint lda) {
-  if (!ssesrt_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssesrt_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nwhich = NULL;
   int __napply __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -1556,21 +1904,27 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssesrtK(JNIEnv *env, UNUSED jobjec
   __nn = n;
   __nna = na;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssesrt_(__nwhich, &__napply, &__nn, __nx ? __nx + offsetx : NULL, &__nna, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(34);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsaupd_)(int *ido, const char *bmat, int *n, const char *which, int *nev, double *tol, double *resid, int *ncv, double *v, int *ldv, int *iparam, int *ipntr, double *workd, double *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaupdK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jdoubleArray resid, jint offsetresid, jint ncv, jdoubleArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jdoubleArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!dsaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsaupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1597,13 +1951,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (iparam) { if (!(__niparam = (*env)->GetPrimitiveArrayCritical(env, iparam, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -1611,19 +1968,22 @@ done:
   if (__niparam) (*env)->ReleasePrimitiveArrayCritical(env, iparam, __niparam, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetDoubleField(env, tol, doubleW_val_fieldID, __ntol);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(35);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssaupd_)(int *ido, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaupdK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!ssaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssaupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nido = 0;
   const char *__nbmat = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1650,13 +2010,16 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (resid) { if (!(__nresid = (*env)->GetPrimitiveArrayCritical(env, resid, NULL))) { __failed = TRUE; goto done; } }
   if (v) { if (!(__nv = (*env)->GetPrimitiveArrayCritical(env, v, NULL))) { __failed = TRUE; goto done; } }
   if (iparam) { if (!(__niparam = (*env)->GetPrimitiveArrayCritical(env, iparam, NULL))) { __failed = TRUE; goto done; } }
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -1664,19 +2027,22 @@ done:
   if (__niparam) (*env)->ReleasePrimitiveArrayCritical(env, iparam, __niparam, __failed ? JNI_ABORT : 0);
   if (__nv) (*env)->ReleasePrimitiveArrayCritical(env, v, __nv, __failed ? JNI_ABORT : 0);
   if (__nresid) (*env)->ReleasePrimitiveArrayCritical(env, resid, __nresid, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetFloatField(env, tol, floatW_val_fieldID, __ntol);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  PROFILE_RECORD(36);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dseupd_)(int *rvec, const char *howmny, int *select, double *d, double *z, int *ldz, double *sigma, const char *bmat, int *n, const char *which, int *nev, double *tol, double *resid, int *ncv, double *v, int *ldv, int *iparam, int *ipntr, double *workd, double *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dseupdK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jdoubleArray d, jint offsetd, jdoubleArray z, jint offsetz, jint ldz, jdouble sigma, jstring bmat, jint n, jstring which, jobject nev, jdouble tol, jdoubleArray resid, jint offsetresid, jint ncv, jdoubleArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jdoubleArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!dseupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dseupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nrvec __attribute__((aligned(8)));
   const char *__nhowmny = NULL;
   int __nldz __attribute__((aligned(8)));
@@ -1712,6 +2078,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dseupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
   do {
     int __length = (*env)->GetArrayLength(env, select);
@@ -1727,7 +2094,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dseupdK(JNIEnv *env, UNUSED jobjec
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dseupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __nd ? __nd + offsetd : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigma, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -1738,19 +2107,22 @@ done:
   if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
   if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
   if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  PROFILE_RECORD(37);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sseupd_)(int *rvec, const char *howmny, int *select, float *d, float *z, int *ldz, float *sigma, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sseupdK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jfloatArray d, jint offsetd, jfloatArray z, jint offsetz, jint ldz, jfloat sigma, jstring bmat, jint n, jstring which, jobject nev, jfloat tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
-  if (!sseupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sseupd_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nrvec __attribute__((aligned(8)));
   const char *__nhowmny = NULL;
   int __nldz __attribute__((aligned(8)));
@@ -1786,6 +2158,7 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sseupdK(JNIEnv *env, UNUSED jobjec
   __nldv = ldv;
   __nlworkl = lworkl;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
   do {
     int __length = (*env)->GetArrayLength(env, select);
@@ -1801,7 +2174,9 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sseupdK(JNIEnv *env, UNUSED jobjec
   if (ipntr) { if (!(__nipntr = (*env)->GetPrimitiveArrayCritical(env, ipntr, NULL))) { __failed = TRUE; goto done; } }
   if (workd) { if (!(__nworkd = (*env)->GetPrimitiveArrayCritical(env, workd, NULL))) { __failed = TRUE; goto done; } }
   if (workl) { if (!(__nworkl = (*env)->GetPrimitiveArrayCritical(env, workl, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sseupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __nd ? __nd + offsetd : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigma, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nworkl) (*env)->ReleasePrimitiveArrayCritical(env, workl, __nworkl, __failed ? JNI_ABORT : 0);
   if (__nworkd) (*env)->ReleasePrimitiveArrayCritical(env, workd, __nworkd, __failed ? JNI_ABORT : 0);
@@ -1812,19 +2187,22 @@ done:
   if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
   if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
   if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
   if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
   if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  PROFILE_RECORD(38);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsgets_)(int *ishift, const char *which, int *kev, int *np, double *ritz, double *bounds, double *shifts);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsgetsK(JNIEnv *env, UNUSED jobject obj, jint ishift, jstring which, jobject kev, jobject np, jdoubleArray ritz, jint offsetritz, jdoubleArray bounds, jint offsetbounds, jdoubleArray shifts, jint offsetshifts) {
-  if (!dsgets_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsgets_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nishift __attribute__((aligned(8)));
   const char *__nwhich = NULL;
   int __nkev = 0;
@@ -1836,25 +2214,31 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsgetsK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __nkev = (*env)->GetIntField(env, kev, intW_val_fieldID);
   __nnp = (*env)->GetIntField(env, np, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritz) { if (!(__nritz = (*env)->GetPrimitiveArrayCritical(env, ritz, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (shifts) { if (!(__nshifts = (*env)->GetPrimitiveArrayCritical(env, shifts, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsgets_(&__nishift, __nwhich, &__nkev, &__nnp, __nritz ? __nritz + offsetritz : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nshifts ? __nshifts + offsetshifts : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nshifts) (*env)->ReleasePrimitiveArrayCritical(env, shifts, __nshifts, __failed ? JNI_ABORT : 0);
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritz) (*env)->ReleasePrimitiveArrayCritical(env, ritz, __nritz, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
   if (!__failed) (*env)->SetIntField(env, kev, intW_val_fieldID, __nkev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(39);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssgets_)(int *ishift, const char *which, int *kev, int *np, float *ritz, float *bounds, float *shifts);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssgetsK(JNIEnv *env, UNUSED jobject obj, jint ishift, jstring which, jobject kev, jobject np, jfloatArray ritz, jint offsetritz, jfloatArray bounds, jint offsetbounds, jfloatArray shifts, jint offsetshifts) {
-  if (!ssgets_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssgets_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nishift __attribute__((aligned(8)));
   const char *__nwhich = NULL;
   int __nkev = 0;
@@ -1866,25 +2250,31 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssgetsK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __nkev = (*env)->GetIntField(env, kev, intW_val_fieldID);
   __nnp = (*env)->GetIntField(env, np, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (ritz) { if (!(__nritz = (*env)->GetPrimitiveArrayCritical(env, ritz, NULL))) { __failed = TRUE; goto done; } }
   if (bounds) { if (!(__nbounds = (*env)->GetPrimitiveArrayCritical(env, bounds, NULL))) { __failed = TRUE; goto done; } }
   if (shifts) { if (!(__nshifts = (*env)->GetPrimitiveArrayCritical(env, shifts, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssgets_(&__nishift, __nwhich, &__nkev, &__nnp, __nritz ? __nritz + offsetritz : NULL, __nbounds ? __nbounds + offsetbounds : NULL, __nshifts ? __nshifts + offsetshifts : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nshifts) (*env)->ReleasePrimitiveArrayCritical(env, shifts, __nshifts, __failed ? JNI_ABORT : 0);
   if (__nbounds) (*env)->ReleasePrimitiveArrayCritical(env, bounds, __nbounds, __failed ? JNI_ABORT : 0);
   if (__nritz) (*env)->ReleasePrimitiveArrayCritical(env, ritz, __nritz, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, np, intW_val_fieldID, __nnp);
   if (!__failed) (*env)->SetIntField(env, kev, intW_val_fieldID, __nkev);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(40);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsortc_)(const char *which, int *apply, int *n, double *xreal, double *ximag, double *y);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsortcK(JNIEnv *env, UNUSED jobject obj, jstring which, jboolean apply, jint n, jdoubleArray xreal, jint offsetxreal, jdoubleArray ximag, jint offsetximag, jdoubleArray y, jint offsety) {
-  if (!dsortc_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsortc_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nwhich = NULL;
   int __napply __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -1894,23 +2284,29 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsortcK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __napply = apply;
   __nn = n;
+  PROFILE_TICK(__t1);
   if (xreal) { if (!(__nxreal = (*env)->GetPrimitiveArrayCritical(env, xreal, NULL))) { __failed = TRUE; goto done; } }
   if (ximag) { if (!(__nximag = (*env)->GetPrimitiveArrayCritical(env, ximag, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsortc_(__nwhich, &__napply, &__nn, __nxreal ? __nxreal + offsetxreal : NULL, __nximag ? __nximag + offsetximag : NULL, __ny ? __ny + offsety : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nximag) (*env)->ReleasePrimitiveArrayCritical(env, ximag, __nximag, __failed ? JNI_ABORT : 0);
   if (__nxreal) (*env)->ReleasePrimitiveArrayCritical(env, xreal, __nxreal, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(41);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssortc_)(const char *which, int *apply, int *n, float *xreal, float *ximag, float *y);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssortcK(JNIEnv *env, UNUSED jobject obj, jstring which, jboolean apply, jint n, jfloatArray xreal, jint offsetxreal, jfloatArray ximag, jint offsetximag, jfloatArray y, jint offsety) {
-  if (!ssortc_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssortc_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nwhich = NULL;
   int __napply __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -1920,23 +2316,29 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssortcK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __napply = apply;
   __nn = n;
+  PROFILE_TICK(__t1);
   if (xreal) { if (!(__nxreal = (*env)->GetPrimitiveArrayCritical(env, xreal, NULL))) { __failed = TRUE; goto done; } }
   if (ximag) { if (!(__nximag = (*env)->GetPrimitiveArrayCritical(env, ximag, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssortc_(__nwhich, &__napply, &__nn, __nxreal ? __nxreal + offsetxreal : NULL, __nximag ? __nximag + offsetximag : NULL, __ny ? __ny + offsety : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nximag) (*env)->ReleasePrimitiveArrayCritical(env, ximag, __nximag, __failed ? JNI_ABORT : 0);
   if (__nxreal) (*env)->ReleasePrimitiveArrayCritical(env, xreal, __nxreal, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(42);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsortr_)(const char *which, int *apply, int *n, double *x1, double *x2);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsortrK(JNIEnv *env, UNUSED jobject obj, jstring which, jboolean apply, jint n, jdoubleArray x1, jint offsetx1, jdoubleArray x2, jint offsetx2) {
-  if (!dsortr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsortr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nwhich = NULL;
   int __napply __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -1945,21 +2347,27 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsortrK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __napply = apply;
   __nn = n;
+  PROFILE_TICK(__t1);
   if (x1) { if (!(__nx1 = (*env)->GetPrimitiveArrayCritical(env, x1, NULL))) { __failed = TRUE; goto done; } }
   if (x2) { if (!(__nx2 = (*env)->GetPrimitiveArrayCritical(env, x2, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsortr_(__nwhich, &__napply, &__nn, __nx1 ? __nx1 + offsetx1 : NULL, __nx2 ? __nx2 + offsetx2 : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nx2) (*env)->ReleasePrimitiveArrayCritical(env, x2, __nx2, __failed ? JNI_ABORT : 0);
   if (__nx1) (*env)->ReleasePrimitiveArrayCritical(env, x1, __nx1, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(43);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssortr_)(const char *which, int *apply, int *n, float *x1, float *x2);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssortrK(JNIEnv *env, UNUSED jobject obj, jstring which, jboolean apply, jint n, jfloatArray x1, jint offsetx1, jfloatArray x2, jint offsetx2) {
-  if (!ssortr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssortr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nwhich = NULL;
   int __napply __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -1968,61 +2376,91 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssortrK(JNIEnv *env, UNUSED jobjec
   if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
   __napply = apply;
   __nn = n;
+  PROFILE_TICK(__t1);
   if (x1) { if (!(__nx1 = (*env)->GetPrimitiveArrayCritical(env, x1, NULL))) { __failed = TRUE; goto done; } }
   if (x2) { if (!(__nx2 = (*env)->GetPrimitiveArrayCritical(env, x2, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssortr_(__nwhich, &__napply, &__nn, __nx1 ? __nx1 + offsetx1 : NULL, __nx2 ? __nx2 + offsetx2 : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nx2) (*env)->ReleasePrimitiveArrayCritical(env, x2, __nx2, __failed ? JNI_ABORT : 0);
   if (__nx1) (*env)->ReleasePrimitiveArrayCritical(env, x1, __nx1, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  PROFILE_RECORD(44);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dstatn_)();
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dstatnK(JNIEnv *env, UNUSED jobject obj) {
-  if (!dstatn_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dstatn_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
+  PROFILE_TICK(__t1);
+  PROFILE_TICK(__t2);
   dstatn_();
+  PROFILE_TICK(__t3);
 done:
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(45);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sstatn_)();
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sstatnK(JNIEnv *env, UNUSED jobject obj) {
-  if (!sstatn_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sstatn_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
+  PROFILE_TICK(__t1);
+  PROFILE_TICK(__t2);
   sstatn_();
+  PROFILE_TICK(__t3);
 done:
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(46);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dstats_)();
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dstatsK(JNIEnv *env, UNUSED jobject obj) {
-  if (!dstats_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dstats_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
+  PROFILE_TICK(__t1);
+  PROFILE_TICK(__t2);
   dstats_();
+  PROFILE_TICK(__t3);
 done:
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(47);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sstats_)();
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sstatsK(JNIEnv *env, UNUSED jobject obj) {
-  if (!sstats_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sstats_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
+  PROFILE_TICK(__t1);
+  PROFILE_TICK(__t2);
   sstats_();
+  PROFILE_TICK(__t3);
 done:
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(48);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dstqrb_)(int *n, double *d, double *e, double *z, double *work, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dstqrbK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray d, jint offsetd, jdoubleArray e, jint offsete, jdoubleArray z, jint offsetz, jdoubleArray work, jint offsetwork, jobject info) {
-  if (!dstqrb_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dstqrb_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __ninfo = 0;
   double *__nd = NULL;
@@ -2031,25 +2469,31 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_dstqrbK(JNIEnv *env, UNUSED jobjec
   double *__nwork = NULL;
   __nn = n;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
   if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
   if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
   if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dstqrb_(&__nn, __nd ? __nd + offsetd : NULL, __ne ? __ne + offsete : NULL, __nz ? __nz + offsetz : NULL, __nwork ? __nwork + offsetwork : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
   if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
   if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
   if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  PROFILE_RECORD(49);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sstqrb_)(int *n, float *d, float *e, float *z, float *work, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sstqrbK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray d, jint offsetd, jfloatArray e, jint offsete, jfloatArray z, jint offsetz, jfloatArray work, jint offsetwork, jobject info) {
-  if (!sstqrb_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sstqrb_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __ninfo = 0;
   float *__nd = NULL;
@@ -2058,35 +2502,46 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_sstqrbK(JNIEnv *env, UNUSED jobjec
   float *__nwork = NULL;
   __nn = n;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  PROFILE_TICK(__t1);
   if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
   if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
   if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
   if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sstqrb_(&__nn, __nd ? __nd + offsetd : NULL, __ne ? __ne + offsete : NULL, __nz ? __nz + offsetz : NULL, __nwork ? __nwork + offsetwork : NULL, &__ninfo);
+  PROFILE_TICK(__t3);
 done:
   if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
   if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
   if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
   if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  PROFILE_RECORD(50);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static int (*icnteq_)(int *n, int *array, int *value);
 
 jint Java_dev_ludovic_netlib_arpack_JNIARPACK_icnteqK(JNIEnv *env, UNUSED jobject obj, jint n, jintArray array, jint offsetarray, jint value) {
-  if (!icnteq_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(icnteq_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jint __ret = 0;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nvalue __attribute__((aligned(8)));
   int *__narray = NULL;
   __nn = n;
   __nvalue = value;
+  PROFILE_TICK(__t1);
   if (array) { if (!(__narray = (*env)->GetPrimitiveArrayCritical(env, array, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = icnteq_(&__nn, __narray ? __narray + offsetarray : NULL, &__nvalue);
+  PROFILE_TICK(__t3);
 done:
   if (__narray) (*env)->ReleasePrimitiveArrayCritical(env, array, __narray, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(51);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -2094,8 +2549,9 @@ done:
 static void (*icopy_)(int *n, int *lx, int *incx, int *ly, int *incy);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_icopyK(JNIEnv *env, UNUSED jobject obj, jint n, jintArray lx, jint offsetlx, jint incx, jintArray ly, jint offsetly, jint incy) {
-  if (!icopy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(icopy_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -2104,20 +2560,26 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_icopyK(JNIEnv *env, UNUSED jobject
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (lx) { if (!(__nlx = (*env)->GetPrimitiveArrayCritical(env, lx, NULL))) { __failed = TRUE; goto done; } }
   if (ly) { if (!(__nly = (*env)->GetPrimitiveArrayCritical(env, ly, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   icopy_(&__nn, __nlx ? __nlx + offsetlx : NULL, &__nincx, __nly ? __nly + offsetly : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__nly) (*env)->ReleasePrimitiveArrayCritical(env, ly, __nly, __failed ? JNI_ABORT : 0);
   if (__nlx) (*env)->ReleasePrimitiveArrayCritical(env, lx, __nlx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(52);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*iset_)(int *n, int *value, int *array, int *inc);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_isetK(JNIEnv *env, UNUSED jobject obj, jint n, jint value, jintArray array, jint offsetarray, jint inc) {
-  if (!iset_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(iset_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nvalue __attribute__((aligned(8)));
   int __ninc __attribute__((aligned(8)));
@@ -2125,18 +2587,24 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_isetK(JNIEnv *env, UNUSED jobject
   __nn = n;
   __nvalue = value;
   __ninc = inc;
+  PROFILE_TICK(__t1);
   if (array) { if (!(__narray = (*env)->GetPrimitiveArrayCritical(env, array, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   iset_(&__nn, &__nvalue, __narray ? __narray + offsetarray : NULL, &__ninc);
+  PROFILE_TICK(__t3);
 done:
   if (__narray) (*env)->ReleasePrimitiveArrayCritical(env, array, __narray, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(53);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*iswap_)(int *n, int *sx, int *incx, int *sy, int *incy);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_iswapK(JNIEnv *env, UNUSED jobject obj, jint n, jintArray sx, jint offsetsx, jint incx, jintArray sy, jint offsetsy, jint incy) {
-  if (!iswap_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(iswap_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -2145,25 +2613,36 @@ void Java_dev_ludovic_netlib_arpack_JNIARPACK_iswapK(JNIEnv *env, UNUSED jobject
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (sx) { if (!(__nsx = (*env)->GetPrimitiveArrayCritical(env, sx, NULL))) { __failed = TRUE; goto done; } }
   if (sy) { if (!(__nsy = (*env)->GetPrimitiveArrayCritical(env, sy, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   iswap_(&__nn, __nsx ? __nsx + offsetsx : NULL, &__nincx, __nsy ? __nsy + offsetsy : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__nsy) (*env)->ReleasePrimitiveArrayCritical(env, sy, __nsy, __failed ? JNI_ABORT : 0);
   if (__nsx) (*env)->ReleasePrimitiveArrayCritical(env, sx, __nsx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(54);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*second_)(float *t);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_secondK(JNIEnv *env, UNUSED jobject obj, jobject t) {
-  if (!second_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(second_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   float __nt = 0;
   __nt = (*env)->GetFloatField(env, t, floatW_val_fieldID);
+  PROFILE_TICK(__t1);
+  PROFILE_TICK(__t2);
   second_(&__nt);
+  PROFILE_TICK(__t3);
 done:
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetFloatField(env, t, floatW_val_fieldID, __nt);
+  PROFILE_RECORD(55);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
@@ -2180,73 +2659,6 @@ jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res
   return TRUE;
 }
 
-jboolean load_symbols(void) {
-#define LOAD_SYMBOL(name) \
-  name = dlsym(NULL, #name);
-
-  LOAD_SYMBOL(dmout_);
-  LOAD_SYMBOL(smout_);
-  LOAD_SYMBOL(dvout_);
-  LOAD_SYMBOL(svout_);
-  LOAD_SYMBOL(ivout_);
-  LOAD_SYMBOL(dgetv0_);
-  LOAD_SYMBOL(sgetv0_);
-  // LOAD_SYMBOL(dlaqrb_);
-  // LOAD_SYMBOL(slaqrb_);
-  LOAD_SYMBOL(dnaitr_);
-  LOAD_SYMBOL(snaitr_);
-  LOAD_SYMBOL(dnapps_);
-  LOAD_SYMBOL(snapps_);
-  LOAD_SYMBOL(dnaup2_);
-  LOAD_SYMBOL(snaup2_);
-  LOAD_SYMBOL(dnaupd_);
-  LOAD_SYMBOL(snaupd_);
-  LOAD_SYMBOL(dnconv_);
-  LOAD_SYMBOL(snconv_);
-  LOAD_SYMBOL(dsconv_);
-  LOAD_SYMBOL(ssconv_);
-  LOAD_SYMBOL(dneigh_);
-  LOAD_SYMBOL(sneigh_);
-  LOAD_SYMBOL(dneupd_);
-  LOAD_SYMBOL(sneupd_);
-  LOAD_SYMBOL(dngets_);
-  LOAD_SYMBOL(sngets_);
-  LOAD_SYMBOL(dsaitr_);
-  LOAD_SYMBOL(ssaitr_);
-  LOAD_SYMBOL(dsapps_);
-  LOAD_SYMBOL(ssapps_);
-  LOAD_SYMBOL(dsaup2_);
-  LOAD_SYMBOL(ssaup2_);
-  LOAD_SYMBOL(dseigt_);
-  LOAD_SYMBOL(sseigt_);
-  LOAD_SYMBOL(dsesrt_);
-  LOAD_SYMBOL(ssesrt_);
-  LOAD_SYMBOL(dsaupd_);
-  LOAD_SYMBOL(ssaupd_);
-  LOAD_SYMBOL(dseupd_);
-  LOAD_SYMBOL(sseupd_);
-  LOAD_SYMBOL(dsgets_);
-  LOAD_SYMBOL(ssgets_);
-  LOAD_SYMBOL(dsortc_);
-  LOAD_SYMBOL(ssortc_);
-  LOAD_SYMBOL(dsortr_);
-  LOAD_SYMBOL(ssortr_);
-  LOAD_SYMBOL(dstatn_);
-  LOAD_SYMBOL(sstatn_);
-  LOAD_SYMBOL(dstats_);
-  LOAD_SYMBOL(sstats_);
-  LOAD_SYMBOL(dstqrb_);
-  LOAD_SYMBOL(sstqrb_);
-  LOAD_SYMBOL(icnteq_);
-  LOAD_SYMBOL(icopy_);
-  LOAD_SYMBOL(iset_);
-  LOAD_SYMBOL(iswap_);
-  LOAD_SYMBOL(second_);
-
-#undef LOAD_SYMBOL
- return TRUE;
-}
-
 static void *libhandle;
 
 jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
@@ -2328,13 +2740,19 @@ jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
     return -1;
   }
 
-  if (!load_symbols()) {
-    return -1;
-  }
-
   return JNI_VERSION_1_8;
 }
 
 void JNI_OnUnload(UNUSED JavaVM *vm, UNUSED void *reserved) {
   dlclose(libhandle);
 }
+
+/* Path of the native library as resolved by the dynamic loader, or NULL if none is loaded */
+jstring Java_dev_ludovic_netlib_arpack_JNIARPACK_libraryPath(JNIEnv *env, UNUSED jclass clazz) {
+  struct link_map *map;
+  void *handle = __atomic_load_n(&libhandle, __ATOMIC_ACQUIRE);
+  if (!handle || dlinfo(handle, RTLD_DI_LINKMAP, &map) != 0 || !map->l_name) {
+    return NULL;
+  }
+  return (*env)->NewStringUTF(env, map->l_name);
+}
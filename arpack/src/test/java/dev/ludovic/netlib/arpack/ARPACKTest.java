@@ -50,7 +50,8 @@ public class ARPACKTest {
       Arguments.of(NativeARPACK.getInstance()),
       Arguments.of(JavaARPACK.getInstance()),
       Arguments.of(F2jARPACK.getInstance()),
-      Arguments.of(JNIARPACK.getInstance())
+      Arguments.of(JNIARPACK.getInstance()),
+      Arguments.of(new MeteredARPACK(F2jARPACK.getInstance()))
     );
 
     return instances;
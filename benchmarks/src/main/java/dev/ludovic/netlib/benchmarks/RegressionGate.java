@@ -0,0 +1,370 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+// Runs a fast subset of the benchmarks and compares it against a baseline, to catch performance
+// regressions between two versions. The results are written as JMH JSON, which is also the format of
+// the baseline, so that the output of one version is the baseline of the next:
+//
+//   java -cp netlib-benchmarks.jar dev.ludovic.netlib.benchmarks.RegressionGate --output old.json
+//   java -cp netlib-benchmarks.jar dev.ludovic.netlib.benchmarks.RegressionGate --baseline old.json
+//
+// Without --baseline, the results are compared against the baseline checked in next to this class.
+// With --results, an existing JMH JSON file is compared instead of running the benchmarks. A benchmark
+// regresses when its score drops below the baseline by more than its tolerance, in which case the
+// process exits with status 1.
+public final class RegressionGate {
+
+    private static final String BASELINE = "baseline.json";
+
+    // Memory-bound kernels are noisier than compute-bound ones, hence the larger tolerances
+    private static final Kernel[] KERNELS = {
+        new Kernel("blas.l1.DdotBenchmark.blas", 0.15, 2.0 * 100000, "n", "100000"),
+        new Kernel("blas.l1.DaxpyBenchmark.blas", 0.15, 2.0 * 100000, "n", "100000"),
+        new Kernel("blas.l2.DgemvBenchmark.blas", 0.15, 2.0 * 1000 * 1000, "trans", "N", "m", "1000", "n", "1000"),
+        new Kernel("blas.l3.DgemmBenchmark.blas", 0.10, 2.0 * 256 * 256 * 256, "transa", "N", "transb", "N", "m", "256", "n", "256", "k", "256"),
+        new Kernel("blas.l3.SgemmBenchmark.blas", 0.10, 2.0 * 256 * 256 * 256, "transa", "N", "transb", "N", "m", "256", "n", "256", "k", "256"),
+        new Kernel("lapack.DgetrfBenchmark.lapack", 0.10, 2.0 * 256 * 256 * 256 / 3, "n", "256"),
+        new Kernel("lapack.DpotrfBenchmark.lapack", 0.10, 1.0 * 256 * 256 * 256 / 3, "n", "256"),
+        new Kernel("lapack.DgeqrfBenchmark.lapack", 0.10, 4.0 * 256 * 256 * 256 / 3, "n", "256"),
+    };
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        String baseline = null, output = null, results = null, implementation = "java";
+        double tolerance = Double.NaN;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case "--baseline": baseline = args[++i]; break;
+            case "--output": output = args[++i]; break;
+            case "--results": results = args[++i]; break;
+            case "--tolerance": tolerance = Double.parseDouble(args[++i]); break;
+            case "--implementation": implementation = args[++i]; break;
+            default: throw new IllegalArgumentException("Unknown argument = " + args[i]);
+            }
+        }
+
+        String current;
+        if (results != null) {
+            current = new String(Files.readAllBytes(Paths.get(results)), StandardCharsets.UTF_8);
+        } else {
+            current = run(implementation);
+            if (output != null) {
+                Files.write(Paths.get(output), current.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        String previous;
+        if (baseline != null) {
+            previous = new String(Files.readAllBytes(Paths.get(baseline)), StandardCharsets.UTF_8);
+        } else {
+            try (InputStream in = RegressionGate.class.getResourceAsStream(BASELINE)) {
+                if (in == null) {
+                    throw new IOException("No baseline checked in, pass one with --baseline");
+                }
+                previous = new String(readAll(in), StandardCharsets.UTF_8);
+            }
+        }
+
+        System.exit(compare(Score.parse(previous), Score.parse(current), tolerance, System.out) ? 0 : 1);
+    }
+
+    private static String run(String implementation) throws IOException, RunnerException {
+        List<RunResult> results = new ArrayList<>();
+        // Kernels don't share parameters, so each gets its own run
+        for (Kernel kernel : KERNELS) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                .include("\\." + kernel.benchmark.replace(".", "\\.") + "$")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.milliseconds(500))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.milliseconds(500))
+                .param("implementation", implementation);
+            for (Map.Entry<String, String> param : kernel.params.entrySet()) {
+                options.param(param.getKey(), param.getValue());
+            }
+            results.addAll(new Runner(options.build()).run());
+        }
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(json, true, "UTF-8")) {
+            ResultFormatFactory.getInstance(ResultFormatType.JSON, out).writeOut(results);
+        }
+        return new String(json.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    // Prints one row per benchmark of current, and returns false if any of them regressed
+    static boolean compare(Map<String, Score> baseline, Map<String, Score> current, double tolerance, PrintStream out) {
+        boolean passed = true;
+        out.println();
+        out.println(String.format("%-85s %12s %12s %20s %8s %6s  %s",
+            "benchmark", "baseline", "current", "99.9% CI", "ratio", "tol", "status"));
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score cur = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            Kernel kernel = Kernel.of(cur.benchmark);
+            double tol = !Double.isNaN(tolerance) ? tolerance : kernel != null ? kernel.tolerance : 0.10;
+            // Report throughput in GFLOP/s when the number of operations per call is known
+            double scale = kernel != null && cur.unit.equals("ops/s") ? kernel.flops * 1e-9 : 1.0;
+            String unit = scale != 1.0 ? "GFLOP/s" : cur.unit;
+            String status;
+            double ratio = Double.NaN;
+            if (base == null) {
+                status = "new";
+            } else if (!base.unit.equals(cur.unit)) {
+                status = "unit mismatch";
+                passed = false;
+            } else {
+                // Ratios above 1 are improvements whether higher or lower scores are better
+                ratio = cur.unit.endsWith("/op") ? base.score / cur.score : cur.score / base.score;
+                if (ratio < 1.0 - tol) {
+                    status = "REGRESSED";
+                    passed = false;
+                } else {
+                    status = ratio > 1.0 + tol ? "improved" : "ok";
+                }
+            }
+            out.println(String.format("%-85s %12.3f %12.3f %20s %8.3f %5.0f%%  %s",
+                entry.getKey(), base == null ? Double.NaN : base.score * scale, cur.score * scale,
+                String.format("[%.3f, %.3f]", cur.low * scale, cur.high * scale), ratio, tol * 100, status + " (" + unit + ")"));
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                out.println(String.format("%-85s %s", key, "missing"));
+            }
+        }
+        out.println();
+        out.println(passed ? "No regression" : "Performance regressed");
+        return passed;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int n; (n = in.read(buffer)) > 0; ) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Kernel {
+
+        final String benchmark;
+        final double tolerance;
+        final double flops;
+        final Map<String, String> params = new LinkedHashMap<>();
+
+        Kernel(String benchmark, double tolerance, double flops, String... params) {
+            this.benchmark = benchmark;
+            this.tolerance = tolerance;
+            this.flops = flops;
+            for (int i = 0; i < params.length; i += 2) {
+                this.params.put(params[i], params[i + 1]);
+            }
+        }
+
+        static Kernel of(String benchmark) {
+            for (Kernel kernel : KERNELS) {
+                if (benchmark.endsWith("." + kernel.benchmark)) {
+                    return kernel;
+                }
+            }
+            return null;
+        }
+    }
+
+    // The primary score of a benchmark, as found in the JMH JSON output
+    static final class Score {
+
+        final String benchmark;
+        final String unit;
+        final double score, low, high;
+
+        Score(String benchmark, String unit, double score, double low, double high) {
+            this.benchmark = benchmark;
+            this.unit = unit;
+            this.score = score;
+            this.low = low;
+            this.high = high;
+        }
+
+        // Keys results by benchmark and parameters, so that runs of the same benchmark with different
+        // parameters are compared separately
+        @SuppressWarnings("unchecked")
+        static Map<String, Score> parse(String json) {
+            Map<String, Score> scores = new TreeMap<>();
+            for (Object o : (List<Object>) new Json(json).value()) {
+                Map<String, Object> result = (Map<String, Object>) o;
+                String benchmark = (String) result.get("benchmark");
+                Map<String, Object> primary = (Map<String, Object>) result.get("primaryMetric");
+                List<Object> confidence = (List<Object>) primary.get("scoreConfidence");
+                StringBuilder key = new StringBuilder(benchmark.replaceFirst("^dev\\.ludovic\\.netlib\\.benchmarks\\.", ""));
+                Object params = result.get("params");
+                if (params != null) {
+                    for (Map.Entry<String, Object> param : new TreeMap<>((Map<String, Object>) params).entrySet()) {
+                        key.append(' ').append(param.getKey()).append('=').append(param.getValue());
+                    }
+                }
+                scores.put(key.toString(), new Score(benchmark, (String) primary.get("scoreUnit"),
+                    number(primary.get("score")), number(confidence.get(0)), number(confidence.get(1))));
+            }
+            return scores;
+        }
+
+        // JMH writes NaN and infinities as strings
+        private static double number(Object o) {
+            return o instanceof Number ? ((Number) o).doubleValue() : Double.parseDouble((String) o);
+        }
+    }
+
+    // A minimal JSON reader, enough for the output of JMH
+    private static final class Json {
+
+        private final String s;
+        private int i;
+
+        Json(String s) {
+            this.s = s;
+        }
+
+        Object value() {
+            skip();
+            char c = s.charAt(i);
+            switch (c) {
+            case '{': {
+                Map<String, Object> object = new LinkedHashMap<>();
+                i++;
+                skip();
+                if (s.charAt(i) == '}') {
+                    i++;
+                    return object;
+                }
+                while (true) {
+                    skip();
+                    String key = string();
+                    skip();
+                    expect(':');
+                    object.put(key, value());
+                    skip();
+                    if (s.charAt(i++) == '}') {
+                        return object;
+                    }
+                }
+            }
+            case '[': {
+                List<Object> array = new ArrayList<>();
+                i++;
+                skip();
+                if (s.charAt(i) == ']') {
+                    i++;
+                    return array;
+                }
+                while (true) {
+                    array.add(value());
+                    skip();
+                    if (s.charAt(i++) == ']') {
+                        return array;
+                    }
+                }
+            }
+            case '"':
+                return string();
+            case 't': i += 4; return Boolean.TRUE;
+            case 'f': i += 5; return Boolean.FALSE;
+            case 'n': i += 4; return null;
+            default: {
+                int start = i;
+                while (i < s.length() && "+-.eE0123456789".indexOf(s.charAt(i)) >= 0) {
+                    i++;
+                }
+                if (start == i) {
+                    throw new IllegalArgumentException("Unexpected '" + c + "' at offset " + i);
+                }
+                return Double.parseDouble(s.substring(start, i));
+            }
+            }
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            for (char c; (c = s.charAt(i++)) != '"'; ) {
+                if (c == '\\') {
+                    c = s.charAt(i++);
+                    switch (c) {
+                    case 'n': c = '\n'; break;
+                    case 't': c = '\t'; break;
+                    case 'r': c = '\r'; break;
+                    case 'b': c = '\b'; break;
+                    case 'f': c = '\f'; break;
+                    case 'u': c = (char) Integer.parseInt(s.substring(i, i + 4), 16); i += 4; break;
+                    default: break;
+                    }
+                }
+                sb.append(c);
+            }
+            return sb.toString();
+        }
+
+        private void expect(char c) {
+            if (s.charAt(i) != c) {
+                throw new IllegalArgumentException("Expected '" + c + "' at offset " + i);
+            }
+            i++;
+        }
+
+        private void skip() {
+            while (i < s.length() && Character.isWhitespace(s.charAt(i))) {
+                i++;
+            }
+        }
+    }
+}
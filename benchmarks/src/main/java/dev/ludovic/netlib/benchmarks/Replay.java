@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.netlib.util.*;
+
+// Replays the calls dumped by dev.ludovic.netlib.{blas,lapack}.shapes, see ShapeRecorder. Every shape
+// is replayed in proportion to the number of times it was recorded, with random arrays of the
+// recorded lengths and x scalars replaced by 0.5.
+public final class Replay {
+
+    // Upper bound on the number of calls making a single replay
+    private static final int SCHEDULE = 1000;
+
+    private final Call[] schedule;
+
+    // When conditioned is set, every matrix argument gets its diagonal boosted so that it's
+    // diagonally dominant, which keeps factorizations of the recorded shapes from failing early.
+    // When restore is set, the arrays are restored before each call, for routines working in place.
+    public Replay(Class<?> iface, String file, String routine, boolean conditioned, boolean restore) throws IOException {
+        Random rand = new Random(0);
+        List<Call> calls = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        long total = 0;
+        for (String line : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = line.split(" ");
+            if (!routine.equals("all") && !routine.equals(tokens[1])) {
+                continue;
+            }
+            calls.add(new Call(lookup(iface, tokens[1], tokens.length - 2), tokens, rand, conditioned, restore));
+            counts.add(Long.parseLong(tokens[0]));
+            total += counts.get(counts.size() - 1);
+        }
+        if (calls.isEmpty()) {
+            throw new IllegalArgumentException("No shape for " + routine + " in " + file);
+        }
+        List<Call> schedule = new ArrayList<>();
+        for (int i = 0; i < calls.size(); i++) {
+            long n = Math.max(1, counts.get(i) * SCHEDULE / total);
+            for (long j = 0; j < n; j++) {
+                schedule.add(calls.get(i));
+            }
+        }
+        Collections.shuffle(schedule, rand);
+        this.schedule = schedule.toArray(new Call[0]);
+    }
+
+    public int size() {
+        return schedule.length;
+    }
+
+    public Object replay(Object instance) {
+        Object result = null;
+        for (Call call : schedule) {
+            result = call.invoke(instance);
+        }
+        return result;
+    }
+
+    private static Method lookup(Class<?> iface, String routine, int arity) {
+        for (Method method : iface.getMethods()) {
+            if (method.getName().equals(routine) && method.getParameterCount() == arity) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException("Unknown routine " + routine + " with " + arity + " arguments");
+    }
+
+    private static final class Call {
+
+        private final Method method;
+        private final Object[] args;
+        private final Object[] pristine;
+
+        Call(Method method, String[] tokens, Random rand, boolean conditioned, boolean restore) {
+            this.method = method;
+            Class<?>[] types = method.getParameterTypes();
+            args = new Object[types.length];
+            pristine = restore ? new Object[types.length] : null;
+            for (int i = 0; i < types.length; i++) {
+                args[i] = parse(types[i], tokens[i + 2], rand);
+            }
+            for (int i = 0; i < types.length; i++) {
+                // In the overloads with offsets, arrays are followed by their offset and leading dimension
+                if (conditioned && types[i].isArray() && args[i] != null && i + 2 < types.length && types[i + 2] == int.class) {
+                    condition(args[i], (Integer) args[i + 1], (Integer) args[i + 2]);
+                }
+                if (restore && types[i].isArray() && args[i] != null) {
+                    pristine[i] = copy(args[i]);
+                }
+            }
+        }
+
+        Object invoke(Object instance) {
+            if (pristine != null) {
+                for (int i = 0; i < args.length; i++) {
+                    if (pristine[i] != null) {
+                        System.arraycopy(pristine[i], 0, args[i], 0, Array.getLength(args[i]));
+                    }
+                }
+            }
+            try {
+                return method.invoke(instance, args);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            } catch (InvocationTargetException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        private static Object parse(Class<?> type, String token, Random rand) {
+            if (token.equals("null")) {
+                return null;
+            } else if (token.equals("_")) {
+                if (type == intW.class) return new intW(0);
+                if (type == doubleW.class) return new doubleW(0.0);
+                if (type == floatW.class) return new floatW(0.0f);
+                if (type == booleanW.class) return new booleanW(false);
+                if (type == StringW.class) return new StringW("");
+                throw new IllegalArgumentException("Unknown output type " + type);
+            } else if (type == String.class) {
+                return token.substring(1, token.length() - 1);
+            } else if (type == int.class) {
+                return Integer.parseInt(token);
+            } else if (type == boolean.class) {
+                return Boolean.parseBoolean(token);
+            } else if (type == double.class) {
+                return token.equals("x") ? 0.5 : Double.parseDouble(token);
+            } else if (type == float.class) {
+                return token.equals("x") ? 0.5f : Float.parseFloat(token);
+            }
+            int length = Integer.parseInt(token.substring(1, token.length() - 1));
+            if (type == double[].class) {
+                double[] array = new double[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = rand.nextDouble();
+                }
+                return array;
+            } else if (type == float[].class) {
+                float[] array = new float[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = rand.nextFloat();
+                }
+                return array;
+            } else if (type == int[].class) {
+                // Mostly pivots and work arrays, 1 is a valid pivot for every row
+                int[] array = new int[length];
+                Arrays.fill(array, 1);
+                return array;
+            } else if (type == boolean[].class) {
+                return new boolean[length];
+            }
+            throw new IllegalArgumentException("Unknown argument type " + type);
+        }
+
+        private static void condition(Object array, int offset, int ld) {
+            if (ld <= 0) {
+                return;
+            }
+            int length = Array.getLength(array);
+            int n = Math.min(ld, (length - offset) / ld);
+            for (int i = 0; i < n; i++) {
+                int index = offset + i * ld + i;
+                if (array instanceof double[]) {
+                    ((double[]) array)[index] += n;
+                } else if (array instanceof float[]) {
+                    ((float[]) array)[index] += n;
+                }
+            }
+        }
+
+        private static Object copy(Object array) {
+            int length = Array.getLength(array);
+            Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+            System.arraycopy(array, 0, copy, 0, length);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.arpack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
+// Full dsaupd/dseupd solve for the k largest eigenvalues and their eigenvectors
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class DsaupdBenchmark extends ARPACKBenchmark {
+
+    @Param({"laplacian", "graph", "lowrank"})
+    public String operator;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int n;
+
+    @Param({"5", "20", "100"})
+    public int k;
+
+    public Operator op;
+    public int ncv;
+    public double[] resid0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        op = Operator.create(operator, n, true, new Random(0));
+        ncv = Math.min(n, Math.max(2 * k + 1, 20));
+        resid0 = randomDoubleArray(n);
+    }
+
+    @Benchmark
+    public void arpack(Solve solve, Blackhole bh) {
+        intW ido = new intW(0);
+        intW info = new intW(1);
+        doubleW tol = new doubleW(1e-8);
+        double[] resid = resid0.clone();
+        double[] v = new double[n * ncv];
+        int[] iparam = new int[11];
+        int[] ipntr = new int[11];
+        double[] workd = new double[3 * n];
+        int lworkl = ncv * (ncv + 8);
+        double[] workl = new double[lworkl];
+        iparam[0] = 1;
+        iparam[2] = 10 * n;
+        iparam[6] = 1;
+
+        long matvecNanos = 0;
+        while (true) {
+            arpack.dsaupd(ido, "I", n, "LM", k, tol, resid, 0, ncv, v, 0, n, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+            if (ido.val != -1 && ido.val != 1) {
+                break;
+            }
+            long start = System.nanoTime();
+            op.apply(workd, ipntr[0] - 1, workd, ipntr[1] - 1);
+            matvecNanos += System.nanoTime() - start;
+        }
+        if (info.val < 0) {
+            throw new IllegalStateException("dsaupd failed with info = " + info.val);
+        }
+
+        double[] d = new double[k];
+        double[] z = new double[n * k];
+        arpack.dseupd(true, "A", new boolean[ncv], d, z, n, 0.0, "I", n, "LM", new intW(k), tol.val, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+        if (info.val != 0) {
+            throw new IllegalStateException("dseupd failed with info = " + info.val);
+        }
+
+        solve.iterations = iparam[2];
+        solve.matvecs = iparam[8];
+        solve.matvecMillis = matvecNanos / 1e6;
+        bh.consume(d);
+        bh.consume(z);
+    }
+}
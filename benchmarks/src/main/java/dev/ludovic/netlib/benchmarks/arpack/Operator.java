@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.arpack;
+
+import java.util.Random;
+
+// Sparse operators applied in the reverse-communication loops, with y = A * x
+public abstract class Operator {
+
+    public final int n;
+
+    protected Operator(int n) {
+        this.n = n;
+    }
+
+    public abstract void apply(double[] x, int offsetx, double[] y, int offsety);
+
+    public static Operator create(String name, int n, boolean symmetric, Random rand) {
+        switch (name) {
+        case "laplacian": return laplacian(n, symmetric ? 0.0 : 0.5);
+        case "graph": return graph(n, 8, symmetric, 1.0, rand);
+        case "lowrank": return lowRank(n, 10, symmetric, rand);
+        default: throw new IllegalArgumentException("Unknown operator = " + name);
+        }
+    }
+
+    // 5-point stencil on a grid of width sqrt(n), with a convection term making it nonsymmetric when c != 0
+    public static Operator laplacian(int n, double c) {
+        int w = (int) Math.sqrt(n);
+        return new Operator(n) {
+            @Override
+            public void apply(double[] x, int offsetx, double[] y, int offsety) {
+                for (int i = 0; i < n; i++) {
+                    double sum = 4.0 * x[offsetx + i];
+                    if (i % w != 0) sum -= (1.0 + c) * x[offsetx + i - 1];
+                    if (i % w != w - 1 && i + 1 < n) sum -= (1.0 - c) * x[offsetx + i + 1];
+                    if (i >= w) sum -= x[offsetx + i - w];
+                    if (i + w < n) sum -= x[offsetx + i + w];
+                    y[offsety + i] = sum;
+                }
+            }
+        };
+    }
+
+    // Adjacency matrix of a random graph with the given average degree, stored in CSR
+    public static Operator graph(int n, int degree, boolean symmetric, double weight, Random rand) {
+        int edges = symmetric ? n * degree / 2 : n * degree;
+        int[] from = new int[symmetric ? 2 * edges : edges];
+        int[] to = new int[from.length];
+        for (int e = 0, i = 0; e < edges; e++) {
+            int u = rand.nextInt(n), v = rand.nextInt(n);
+            from[i] = u; to[i++] = v;
+            if (symmetric) {
+                from[i] = v; to[i++] = u;
+            }
+        }
+        int[] rowptr = new int[n + 1];
+        for (int u : from) {
+            rowptr[u + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            rowptr[i + 1] += rowptr[i];
+        }
+        int[] colidx = new int[from.length];
+        int[] next = rowptr.clone();
+        for (int e = 0; e < from.length; e++) {
+            colidx[next[from[e]]++] = to[e];
+        }
+        return new Operator(n) {
+            @Override
+            public void apply(double[] x, int offsetx, double[] y, int offsety) {
+                for (int i = 0; i < n; i++) {
+                    double sum = 0.0;
+                    for (int p = rowptr[i]; p < rowptr[i + 1]; p++) {
+                        sum += x[offsetx + colidx[p]];
+                    }
+                    y[offsety + i] = weight * sum;
+                }
+            }
+        };
+    }
+
+    // U * diag(s) * V^T plus sparse noise, with V = U when symmetric, so that the top eigenvalues are
+    // well separated from the rest of the spectrum
+    public static Operator lowRank(int n, int rank, boolean symmetric, Random rand) {
+        double[] u = new double[n * rank];
+        double[] v = symmetric ? u : new double[n * rank];
+        double scale = 1.0 / Math.sqrt(n);
+        for (int i = 0; i < u.length; i++) {
+            u[i] = rand.nextGaussian() * scale;
+        }
+        for (int i = 0; v != u && i < v.length; i++) {
+            v[i] = rand.nextGaussian() * scale;
+        }
+        double[] s = new double[rank];
+        for (int j = 0; j < rank; j++) {
+            s[j] = rank - j;
+        }
+        Operator noise = graph(n, 8, symmetric, 1e-2, rand);
+        return new Operator(n) {
+            private final double[] t = new double[rank];
+
+            @Override
+            public void apply(double[] x, int offsetx, double[] y, int offsety) {
+                noise.apply(x, offsetx, y, offsety);
+                for (int j = 0; j < rank; j++) {
+                    double sum = 0.0;
+                    for (int i = 0; i < n; i++) {
+                        sum += v[i + j * n] * x[offsetx + i];
+                    }
+                    t[j] = s[j] * sum;
+                }
+                for (int j = 0; j < rank; j++) {
+                    for (int i = 0; i < n; i++) {
+                        y[offsety + i] += u[i + j * n] * t[j];
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Level 1, 2 and 3 calls made concurrently from every JMH thread, optionally next to a thread
+// allocating continuously. Run it with -t <threads> and -prof gc -prof safepoints, or through
+// ContentionRunner which sweeps the thread counts and the garbage collectors.
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class ContentionBenchmark extends BLASBenchmark {
+
+    // Small enough that the time spent entering, pinning and leaving is significant
+    @Param({"64", "512"})
+    public int n;
+
+    public double[] x, y;
+    public double[] a, b, c;
+
+    @State(Scope.Benchmark)
+    public static class Background {
+
+        @Param({"none", "allocate"})
+        public String background;
+
+        private volatile boolean running;
+        private Thread thread;
+
+        // Keeps a window of live arrays of random sizes, so that the collector has to promote and
+        // compact, and not only reclaim the young generation
+        @Setup(Level.Trial)
+        public void start() {
+            if (!background.equals("allocate")) {
+                return;
+            }
+            running = true;
+            thread = new Thread(() -> {
+                Object[] live = new Object[1 << 16];
+                ThreadLocalRandom rand = ThreadLocalRandom.current();
+                while (running) {
+                    live[rand.nextInt(live.length)] = new byte[16 + rand.nextInt(16 * 1024)];
+                }
+            }, "background-allocator");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws InterruptedException {
+            running = false;
+            if (thread != null) {
+                thread.join();
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        x = randomDoubleArray(n * n);
+        y = randomDoubleArray(n * n);
+        a = randomDoubleArray(n * n);
+        b = randomDoubleArray(n * n);
+        c = randomDoubleArray(n * n);
+    }
+
+    @Benchmark
+    public void l1(Background background, Blackhole bh) {
+        bh.consume(blas.ddot(n * n, x, 1, y, 1));
+    }
+
+    @Benchmark
+    public void l2(Background background, Blackhole bh) {
+        blas.dgemv("N", n, n, 1.0, a, n, x, 1, 0.0, y, 1);
+        bh.consume(y);
+    }
+
+    @Benchmark
+    public void l3(Background background, Blackhole bh) {
+        blas.dgemm("N", "N", n, n, n, 1.0, a, n, b, n, 0.0, c, n);
+        bh.consume(c);
+    }
+}
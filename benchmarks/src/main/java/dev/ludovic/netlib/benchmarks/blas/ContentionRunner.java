@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.SafepointsProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Runs ContentionBenchmark for 1, 2, 4, ... up to the given number of threads (the number of CPUs by
+// default) under G1, ZGC and Parallel GC, then prints the throughput relative to a single thread along
+// with the time spent in GC, in safepoint pauses and reaching safepoints. Extra arguments are passed
+// to JMH as a benchmark filter, for example:
+//
+//   java -cp netlib-benchmarks.jar dev.ludovic.netlib.benchmarks.blas.ContentionRunner 16 'ContentionBenchmark.l3'
+public final class ContentionRunner {
+
+    private static final String[][] COLLECTORS = {
+        { "G1", "-XX:+UseG1GC" },
+        // ZGC is experimental before Java 15, and unavailable on Java 8 where the fork fails
+        { "ZGC", "-XX:+UnlockExperimentalVMOptions", "-XX:+UseZGC" },
+        { "Parallel", "-XX:+UseParallelGC" },
+    };
+
+    public static void main(String[] args) throws RunnerException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        String include = args.length > 1 ? args[1] : ContentionBenchmark.class.getName();
+
+        List<Integer> threads = new ArrayList<>();
+        for (int t = 1; t < maxThreads; t *= 2) {
+            threads.add(t);
+        }
+        threads.add(maxThreads);
+
+        List<String> rows = new ArrayList<>();
+        rows.add(String.format("%-10s %-6s %-10s %-8s %5s %7s %14s %8s %10s %10s %10s",
+            "gc", "level", "backend", "load", "n", "threads", "ops/s", "scaling", "gc ms", "pause ms", "ttsp ms"));
+        for (String[] collector : COLLECTORS) {
+            String[] jvmArgs = new String[collector.length - 1];
+            System.arraycopy(collector, 1, jvmArgs, 0, jvmArgs.length);
+            Map<String, Double> single = new HashMap<>();
+            for (int t : threads) {
+                Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(t)
+                    .jvmArgsAppend(jvmArgs)
+                    .addProfiler(GCProfiler.class)
+                    .addProfiler(SafepointsProfiler.class)
+                    .build();
+                for (RunResult result : new Runner(options).run()) {
+                    BenchmarkParams params = result.getParams();
+                    String level = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+                    String key = level + " " + params.getParam("implementation") + " " + params.getParam("background") + " " + params.getParam("n");
+                    // Throughput of all the threads together, so that linear scaling reads as the number of threads
+                    double score = result.getPrimaryResult().getScore();
+                    if (t == 1) {
+                        single.put(key, score);
+                    }
+                    Double base = single.get(key);
+                    rows.add(String.format("%-10s %-6s %-10s %-8s %5s %7d %14.1f %8.2f %10.1f %10.1f %10.1f",
+                        collector[0], level, params.getParam("implementation"), params.getParam("background"), params.getParam("n"), t,
+                        score, base == null ? Double.NaN : score / base,
+                        secondary(result, "gc.time"), secondary(result, "safepoints.pause"), secondary(result, "safepoints.ttsp")));
+                }
+            }
+        }
+        System.out.println();
+        for (String row : rows) {
+            System.out.println(row);
+        }
+    }
+
+    private static double secondary(RunResult result, String label) {
+        for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+            if (entry.getKey().endsWith(label)) {
+                return entry.getValue().getScore();
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas;
+
+import dev.ludovic.netlib.blas.*;
+import dev.ludovic.netlib.benchmarks.Replay;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Replays a file recorded with -Ddev.ludovic.netlib.blas.shapes=<file>, pass it with -p shapes=<file>.
+// Restrict the replay to a single routine with -p routine=<name>. Each operation replays the whole
+// schedule of up to about a thousand calls.
+@State(Scope.Thread)
+public class ReplayBenchmark extends BLASBenchmark {
+
+    @Param({""})
+    public String shapes;
+
+    @Param({"all"})
+    public String routine;
+
+    public Replay replay;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        if (shapes.isEmpty()) {
+            throw new IllegalArgumentException("Missing shapes file, pass it with -p shapes=<file>");
+        }
+        replay = new Replay(BLAS.class, shapes, routine, false, false);
+    }
+
+    @Benchmark
+    public void blas(Blackhole bh) {
+        bh.consume(replay.replay(blas));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas;
+
+import dev.ludovic.netlib.blas.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+// Measures the time to the first BLAS.getInstance() call, which includes extracting and loading
+// the JNI wrapper. Each fork measures a single call, as the instance is only initialized once per
+// JVM. The warmup fork populates the extraction cache for the "cache" configuration.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 10, warmups = 1)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+
+    @Param({"cache", "temp"})
+    public String extraction;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (extraction) {
+        case "cache":
+            System.setProperty("dev.ludovic.netlib.cacheDir",
+                Paths.get(System.getProperty("java.io.tmpdir"), "netlib-startup-benchmark").toString());
+            break;
+        case "temp":
+            System.setProperty("dev.ludovic.netlib.cacheDir", "");
+            break;
+        default: throw new IllegalArgumentException("Unknown extraction = " + extraction);
+        }
+    }
+
+    @Benchmark
+    public BLAS getInstance() {
+        return BLAS.getInstance();
+    }
+}
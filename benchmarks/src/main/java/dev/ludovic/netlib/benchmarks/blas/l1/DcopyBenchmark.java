@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l1;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+public class DcopyBenchmark extends L1Benchmark {
+
+    @Param({"11", "1003", "1000003"})
+    public int n;
+
+    @Param({"1", "3"})
+    public int incx;
+
+    @Param({"1", "3"})
+    public int incy;
+
+    @Param({"0", "5"})
+    public int offset;
+
+    public double[] x;
+    public double[] y, yclone;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        x = randomDoubleArray(offset + 1 + (n - 1) * incx);
+        y = randomDoubleArray(offset + 1 + (n - 1) * incy);
+    }
+
+    @Benchmark
+    public void blas(Blackhole bh) {
+        blas.dcopy(n, x, offset, incx, yclone = y.clone(), offset, incy);
+        bh.consume(yclone);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l1;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.doubleW;
+
+@State(Scope.Thread)
+public class DrotmgBenchmark extends L1Benchmark {
+
+    @Param({"0", "5"})
+    public int offset;
+
+    public double d1, d2, x1, y1;
+    public double[] param;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        d1 = randomDouble();
+        d2 = randomDouble();
+        x1 = randomDouble();
+        y1 = randomDouble();
+        param = new double[offset + 5];
+    }
+
+    @Benchmark
+    public void blas(Blackhole bh) {
+        doubleW dd1 = new doubleW(d1), dd2 = new doubleW(d2), dx1 = new doubleW(x1);
+        blas.drotmg(dd1, dd2, dx1, y1, param, offset);
+        bh.consume(dd1);
+        bh.consume(dd2);
+        bh.consume(dx1);
+        bh.consume(param);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.intW;
+
+// Least squares solution of an overdetermined 2n x n system
+@State(Scope.Thread)
+public class DgelsBenchmark extends LAPACKBenchmark {
+
+    @Param({"16", "64", "256", "1024", "4096"})
+    public int n;
+
+    @Param({"1", "16"})
+    public int nrhs;
+
+    public int m;
+    public double[] a, aclone;
+    public double[] b, bclone;
+    public double[] work;
+    public intW info;
+    public double gflops;
+
+    @Override
+    protected void setupInputs() {
+        m = 2 * n;
+        a = randomDoubleMatrix(m, n);
+        b = randomDoubleArray(m * nrhs);
+        info = new intW(0);
+        double[] query = new double[1];
+        lapack.dgels("N", m, n, nrhs, a.clone(), m, b.clone(), m, query, -1, info);
+        work = new double[(int) query[0]];
+        gflops = (2.0 * m * n * n - 2.0 * n * n * n / 3 + 4.0 * m * n * nrhs - n * n * nrhs) * 1e-9;
+    }
+
+    @Benchmark
+    public void lapack(Flops flops, Blackhole bh) {
+        lapack.dgels("N", m, n, nrhs, aclone = a.clone(), m, bclone = b.clone(), m, work, work.length, info);
+        bh.consume(bclone);
+        flops.gflops += gflops;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.intW;
+
+@State(Scope.Thread)
+public class DgeqrfBenchmark extends LAPACKBenchmark {
+
+    @Param({"16", "64", "256", "1024", "4096"})
+    public int n;
+
+    public double[] a, aclone;
+    public double[] tau;
+    public double[] work;
+    public intW info;
+    public double gflops;
+
+    @Override
+    protected void setupInputs() {
+        a = randomDoubleMatrix(n, n);
+        tau = new double[n];
+        info = new intW(0);
+        double[] query = new double[1];
+        lapack.dgeqrf(n, n, a.clone(), n, tau, query, -1, info);
+        work = new double[(int) query[0]];
+        gflops = (4.0 * n * n * n / 3) * 1e-9;
+    }
+
+    @Benchmark
+    public void lapack(Flops flops, Blackhole bh) {
+        lapack.dgeqrf(n, n, aclone = a.clone(), n, tau, work, work.length, info);
+        bh.consume(aclone);
+        flops.gflops += gflops;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.intW;
+
+// The operation counts are the nominal ones of the Golub-Reinsch SVD from Golub and Van Loan, only meant
+// to compare implementations against each other. The matrix is m x n with m = ratio * n, square or tall.
+@State(Scope.Thread)
+public class DgesddBenchmark extends LAPACKBenchmark {
+
+    @Param({"16", "64", "256", "1024", "4096"})
+    public int n;
+
+    @Param({"1", "10"})
+    public int ratio;
+
+    @Param({"N", "S", "A"})
+    public String jobz;
+
+    public int m;
+
+    public double[] a, aclone;
+    public double[] s;
+    public double[] u;
+    public double[] vt;
+    public double[] work;
+    public int[] iwork;
+    public intW info;
+    public double gflops;
+
+    @Override
+    protected void setupInputs() {
+        m = ratio * n;
+        // The full m x m U of the tall case takes 13 GB at n = 4096, more than a default heap
+        if (jobz.equals("A") && m > 16384) {
+            throw new IllegalArgumentException("Skipping jobz=A with m=" + m + ", the full U doesn't fit in the heap");
+        }
+        a = randomDoubleMatrix(m, n);
+        s = new double[n];
+        u = new double[m * (jobz.equals("A") ? m : n)];
+        vt = new double[n * n];
+        iwork = new int[8 * n];
+        info = new intW(0);
+        double[] query = new double[1];
+        lapack.dgesdd(jobz, m, n, a.clone(), m, s, u, m, vt, n, query, -1, iwork, info);
+        work = new double[(int) query[0]];
+        double mn2 = (double) m * n * n;
+        double n3 = (double) n * n * n;
+        switch (jobz) {
+        case "N": gflops = (4.0 * mn2 - 4.0 * n3 / 3) * 1e-9; break;
+        case "S": gflops = (14.0 * mn2 + 8.0 * n3) * 1e-9; break;
+        default: gflops = (4.0 * m * mn2 / n + 8.0 * mn2 + 9.0 * n3) * 1e-9; break;
+        }
+    }
+
+    @Benchmark
+    public void lapack(Flops flops, Blackhole bh) {
+        lapack.dgesdd(jobz, m, n, aclone = a.clone(), m, s, u, m, vt, n, work, work.length, iwork, info);
+        bh.consume(s);
+        flops.gflops += gflops;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.intW;
+
+// The operation count with eigenvectors is the nominal 9n^3 from Golub and Van Loan, only meant to
+// compare implementations against each other.
+@State(Scope.Thread)
+public class DsyevdBenchmark extends LAPACKBenchmark {
+
+    @Param({"16", "64", "256", "1024", "4096"})
+    public int n;
+
+    @Param({"N", "V"})
+    public String jobz;
+
+    public double[] a, aclone;
+    public double[] w;
+    public double[] work;
+    public int[] iwork;
+    public intW info;
+    public double gflops;
+
+    @Override
+    protected void setupInputs() {
+        a = randomDoubleSymmetricMatrix(n);
+        w = new double[n];
+        info = new intW(0);
+        double[] query = new double[1];
+        int[] iquery = new int[1];
+        lapack.dsyevd(jobz, "L", n, a.clone(), n, w, query, -1, iquery, -1, info);
+        work = new double[(int) query[0]];
+        iwork = new int[iquery[0]];
+        gflops = (jobz.equals("N") ? 4.0 * n * n * n / 3 : 9.0 * n * n * n) * 1e-9;
+    }
+
+    @Benchmark
+    public void lapack(Flops flops, Blackhole bh) {
+        lapack.dsyevd(jobz, "L", n, aclone = a.clone(), n, w, work, work.length, iwork, iwork.length, info);
+        bh.consume(w);
+        flops.gflops += gflops;
+    }
+}
@@ -30,13 +30,17 @@ import dev.ludovic.netlib.lapack.*;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
 @State(Scope.Thread)
+@Fork(value = 1)
 public abstract class LAPACKBenchmark {
 
     public LAPACK lapack;
 
-    @Param({"java", "native"})
+    @Param({"java", "native", "f2j"})
     public String implementation;
 
     @Setup
@@ -48,10 +52,22 @@ public abstract class LAPACKBenchmark {
         case "native":
             lapack = NativeLAPACK.getInstance();
             break;
+        case "f2j":
+            // The Java implementation with its BLAS calls left on the F2j reference BLAS, to compare
+            // against java. It relies on every set of parameters running in a fresh fork, where the
+            // property is set before the Java implementation gets loaded.
+            System.setProperty("dev.ludovic.netlib.lapack.f2jBlas", "f2j");
+            lapack = JavaLAPACK.getInstance();
+            break;
         default: throw new IllegalArgumentException("Unknown implementation = " + implementation);
         }
+        setupInputs();
     }
 
+    // Called once the implementation is known, for inputs that depend on it such as workspace sizes or
+    // factorizations, as JMH doesn't order the @Setup methods of a class and its superclass
+    protected void setupInputs() {}
+
     private final Random rand = new Random(0);
 
     protected double randomDouble() {
@@ -77,4 +93,43 @@ public abstract class LAPACKBenchmark {
         }
         return res;
     }
+
+    // Adding n to the diagonal makes the matrix diagonally dominant, hence non-singular and well
+    // conditioned, so that the factorizations never bail out early
+    protected double[] randomDoubleMatrix(int m, int n) {
+        double[] res = randomDoubleArray(m * n);
+        for (int i = 0; i < Math.min(m, n); i++) {
+            res[i + i * m] += Math.max(m, n);
+        }
+        return res;
+    }
+
+    // Symmetric and diagonally dominant with a positive diagonal, hence positive definite
+    protected double[] randomDoubleSymmetricMatrix(int n) {
+        double[] res = randomDoubleMatrix(n, n);
+        for (int j = 0; j < n; j++) {
+            for (int i = j + 1; i < n; i++) {
+                res[j + i * n] = res[i + j * n];
+            }
+        }
+        return res;
+    }
+
+    protected float[] randomFloatMatrix(int m, int n) {
+        float[] res = randomFloatArray(m * n);
+        for (int i = 0; i < Math.min(m, n); i++) {
+            res[i + i * m] += Math.max(m, n);
+        }
+        return res;
+    }
+
+    protected float[] randomFloatSymmetricMatrix(int n) {
+        float[] res = randomFloatMatrix(n, n);
+        for (int j = 0; j < n; j++) {
+            for (int i = j + 1; i < n; i++) {
+                res[j + i * n] = res[i + j * n];
+            }
+        }
+        return res;
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import dev.ludovic.netlib.lapack.RandomizedSVD;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.intW;
+
+// Leading singular triplets of an m x n matrix with exponentially decaying singular values, with the full
+// dgesdd or with RandomizedSVD. The accuracy of RandomizedSVD on this spectrum is asserted by
+// RandomizedSVDTest.testDefaults. The operation count is that of the full dgesdd, to compare the two methods.
+@State(Scope.Thread)
+public class RandomizedSVDBenchmark extends LAPACKBenchmark {
+
+    @Param({"10000"})
+    public int m;
+
+    @Param({"1000"})
+    public int n;
+
+    @Param({"20", "100"})
+    public int rank;
+
+    @Param({"dgesdd", "randomized"})
+    public String method;
+
+    public double[] a, aclone;
+    public double[] s, u, vt;
+    public double[] work;
+    public int[] iwork;
+    public intW info;
+    public RandomizedSVD rsvd;
+    public double gflops;
+
+    @Override
+    protected void setupInputs() {
+        // A = X * diag(sigma) * Y + noise, with sigma(l) = exp(-l / 20) over 200 random directions
+        Random rand = new Random(0);
+        double[] x = new double[m];
+        double[] y = new double[n];
+        a = new double[m * n];
+        for (int l = 0; l < 200; l++) {
+            double sigma = Math.exp(-l / 20.0);
+            for (int i = 0; i < m; i++) {
+                x[i] = rand.nextGaussian() / Math.sqrt(m);
+            }
+            for (int j = 0; j < n; j++) {
+                y[j] = rand.nextGaussian() / Math.sqrt(n);
+            }
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < m; i++) {
+                    a[i + j * m] += x[i] * sigma * y[j];
+                }
+            }
+        }
+        for (int i = 0; i < a.length; i++) {
+            a[i] += 1e-4 * rand.nextGaussian() / Math.sqrt(m);
+        }
+        info = new intW(0);
+        iwork = new int[8 * n];
+        double[] query = new double[1];
+        lapack.dgesdd("S", m, n, a.clone(), m, new double[n], new double[m * n], m, new double[n * n], n, query, -1, iwork, info);
+        work = new double[(int) query[0]];
+        switch (method) {
+        case "dgesdd":
+            s = new double[n];
+            u = new double[m * n];
+            vt = new double[n * n];
+            break;
+        case "randomized":
+            s = new double[rank];
+            u = new double[m * rank];
+            vt = new double[rank * n];
+            rsvd = new RandomizedSVD(lapack, rank);
+            break;
+        default: throw new IllegalArgumentException("Unknown method = " + method);
+        }
+        gflops = (14.0 * m * n * n + 8.0 * n * n * n) * 1e-9;
+    }
+
+    @Benchmark
+    public void lapack(Flops flops, Blackhole bh) {
+        switch (method) {
+        case "dgesdd":
+            lapack.dgesdd("S", m, n, aclone = a.clone(), m, s, u, m, vt, n, work, work.length, iwork, info);
+            break;
+        case "randomized":
+            rsvd.svd(m, n, a, 0, m, s, 0, u, 0, m, vt, 0, rank);
+            break;
+        default: throw new IllegalArgumentException("Unknown method = " + method);
+        }
+        bh.consume(s);
+        flops.gflops += gflops;
+    }
+}
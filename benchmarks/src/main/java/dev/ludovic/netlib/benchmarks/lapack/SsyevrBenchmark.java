@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.intW;
+
+// The operation count with eigenvectors is the nominal 9n^3 from Golub and Van Loan, only meant to
+// compare implementations against each other.
+@State(Scope.Thread)
+public class SsyevrBenchmark extends LAPACKBenchmark {
+
+    @Param({"16", "64", "256", "1024", "4096"})
+    public int n;
+
+    @Param({"N", "V"})
+    public String jobz;
+
+    public float[] a, aclone;
+    public intW m;
+    public float[] w;
+    public float[] z;
+    public int[] isuppz;
+    public float[] work;
+    public int[] iwork;
+    public intW info;
+    public double gflops;
+
+    @Override
+    protected void setupInputs() {
+        a = randomFloatSymmetricMatrix(n);
+        m = new intW(0);
+        w = new float[n];
+        z = new float[n * n];
+        isuppz = new int[2 * n];
+        info = new intW(0);
+        float[] query = new float[1];
+        int[] iquery = new int[1];
+        lapack.ssyevr(jobz, "A", "L", n, a.clone(), n, 0, 0, 0, 0, 0, m, w, z, n, isuppz, query, -1, iquery, -1, info);
+        work = new float[(int) query[0]];
+        iwork = new int[iquery[0]];
+        gflops = (jobz.equals("N") ? 4.0 * n * n * n / 3 : 9.0 * n * n * n) * 1e-9;
+    }
+
+    @Benchmark
+    public void lapack(Flops flops, Blackhole bh) {
+        lapack.ssyevr(jobz, "A", "L", n, aclone = a.clone(), n, 0, 0, 0, 0, 0, m, w, z, n, isuppz, work, work.length, iwork, iwork.length, info);
+        bh.consume(w);
+        flops.gflops += gflops;
+    }
+}
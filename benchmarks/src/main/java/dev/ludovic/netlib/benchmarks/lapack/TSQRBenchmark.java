@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import dev.ludovic.netlib.lapack.TSQR;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.netlib.util.intW;
+
+// Least squares solution of a tall and skinny m x n system, with dgels or with TSQR
+@State(Scope.Thread)
+public class TSQRBenchmark extends LAPACKBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int m;
+
+    @Param({"50"})
+    public int n;
+
+    @Param({"dgels", "tsqr"})
+    public String method;
+
+    public double[] a, aclone;
+    public double[] b, bclone;
+    public double[] work;
+    public intW info;
+    public double gflops;
+
+    @Override
+    protected void setupInputs() {
+        a = randomDoubleMatrix(m, n);
+        b = randomDoubleArray(m);
+        info = new intW(0);
+        double[] query = new double[1];
+        lapack.dgels("N", m, n, 1, a.clone(), m, b.clone(), m, query, -1, info);
+        work = new double[(int) query[0]];
+        gflops = (2.0 * m * n * n - 2.0 * n * n * n / 3 + 4.0 * m * n - n * n) * 1e-9;
+    }
+
+    @Benchmark
+    public void lapack(Flops flops, Blackhole bh) {
+        aclone = a.clone();
+        bclone = b.clone();
+        switch (method) {
+        case "dgels":
+            lapack.dgels("N", m, n, 1, aclone, m, bclone, m, work, work.length, info);
+            break;
+        case "tsqr":
+            TSQR.leastSquares(lapack, m, n, 1, aclone, 0, m, bclone, 0, m);
+            break;
+        default: throw new IllegalArgumentException("Unknown method = " + method);
+        }
+        bh.consume(bclone);
+        flops.gflops += gflops;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import dev.ludovic.netlib.lapack.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.netlib.util.intW;
+
+// How the factorizations of the Java implementation scale with the number of threads, with the tile
+// algorithms and their task scheduler (tiles = always) or with the fork/join over columns (tiles = never).
+// The properties are read once, when the Java implementation gets loaded, which relies on every set of
+// parameters running in a fresh fork.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class TileScalingBenchmark {
+
+    @Param({"4096"})
+    public int n;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int threads;
+
+    @Param({"always", "never"})
+    public String tiles;
+
+    @Param({"256"})
+    public int tileSize;
+
+    public LAPACK lapack;
+
+    public double[] a, spd, aclone;
+    public int[] ipiv;
+    public double[] tau, work;
+    public intW info;
+
+    @Setup
+    public void setup() {
+        System.setProperty("dev.ludovic.netlib.lapack.threads", Integer.toString(threads));
+        System.setProperty("dev.ludovic.netlib.lapack.tiles", tiles);
+        System.setProperty("dev.ludovic.netlib.lapack.tileSize", Integer.toString(tileSize));
+        lapack = JavaLAPACK.getInstance();
+
+        Random rand = new Random(0);
+        a = new double[n * n];
+        for (int i = 0; i < n * n; i++) {
+            a[i] = rand.nextDouble();
+        }
+        spd = a.clone();
+        for (int j = 0; j < n; j++) {
+            for (int i = j + 1; i < n; i++) {
+                spd[j + i * n] = spd[i + j * n];
+            }
+            spd[j + j * n] += n;
+        }
+        ipiv = new int[n];
+        tau = new double[n];
+        info = new intW(0);
+        double[] query = new double[1];
+        lapack.dgeqrf(n, n, a.clone(), n, tau, query, -1, info);
+        work = new double[(int) query[0]];
+    }
+
+    @Benchmark
+    public void dpotrf(Flops flops, Blackhole bh) {
+        lapack.dpotrf("L", n, aclone = spd.clone(), n, info);
+        bh.consume(aclone);
+        flops.gflops += (1.0 * n * n * n / 3) * 1e-9;
+    }
+
+    @Benchmark
+    public void dgetrf(Flops flops, Blackhole bh) {
+        lapack.dgetrf(n, n, aclone = a.clone(), n, ipiv, info);
+        bh.consume(aclone);
+        flops.gflops += (2.0 * n * n * n / 3) * 1e-9;
+    }
+
+    @Benchmark
+    public void dgeqrf(Flops flops, Blackhole bh) {
+        lapack.dgeqrf(n, n, aclone = a.clone(), n, tau, work, work.length, info);
+        bh.consume(aclone);
+        flops.gflops += (4.0 * n * n * n / 3) * 1e-9;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.profiler;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.Defaults;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+import org.openjdk.jmh.results.TextResult;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Breaks down the time spent in each JNI wrapper per call into marshalling of the scalar and string arguments,
+// getting and releasing the arrays (including copies when the GC doesn't pin them), and computing in the native
+// routine. Requires the JNI wrappers to be built with -Pjni-profile; run with -prof dev.ludovic.netlib.profiler.JNIProfiler.
+public final class JNIProfiler implements InternalProfiler {
+
+    private static final String[][] MODULES = {
+        { "dev.ludovic.netlib.blas.JNIBLAS", "dev.ludovic.netlib.blas.BLAS" },
+        { "dev.ludovic.netlib.lapack.JNILAPACK", "dev.ludovic.netlib.lapack.LAPACK" },
+        { "dev.ludovic.netlib.arpack.JNIARPACK", "dev.ludovic.netlib.arpack.ARPACK" },
+    };
+
+    // Keyed by module and routine, as in blas.dgemm, since the modules share some routines such as lsame
+    private final Map<String, Method> routines = new TreeMap<>();
+    private Map<String, long[]> before;
+
+    public JNIProfiler() {
+        for (String[] module : MODULES) {
+            try {
+                // Initializing the class loads the native library, without which profile can't be linked
+                Method profile = Class.forName(module[0], true, JNIProfiler.class.getClassLoader()).getDeclaredMethod("profile", String.class);
+                profile.setAccessible(true);
+                Class<?> iface = Class.forName(module[1]);
+                String name = iface.getSimpleName().toLowerCase();
+                for (Method method : iface.getMethods()) {
+                    routines.put(name + "." + method.getName(), profile);
+                }
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                // the module or its native implementation isn't available
+            }
+        }
+    }
+
+    private Map<String, long[]> snapshot() {
+        Map<String, long[]> snapshot = new TreeMap<>();
+        for (Map.Entry<String, Method> routine : routines.entrySet()) {
+            try {
+                String name = routine.getKey().substring(routine.getKey().indexOf('.') + 1);
+                long[] values = (long[]) routine.getValue().invoke(null, name);
+                if (values != null) {
+                    snapshot.put(routine.getKey(), values);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        before = snapshot();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+        Map<String, long[]> after = snapshot();
+        if (after.isEmpty()) {
+            return Collections.singleton(new TextResult("The JNI wrappers are not built with -Pjni-profile", "jni"));
+        }
+        Collection<Result> results = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : after.entrySet()) {
+            long[] start = before.get(entry.getKey());
+            long[] end = entry.getValue();
+            long calls = end[0] - start[0];
+            if (calls == 0) {
+                continue;
+            }
+            String prefix = Defaults.PREFIX + "jni." + entry.getKey();
+            results.add(new ScalarResult(prefix + ".marshal", (double) (end[1] - start[1]) / calls, "ns/call", AggregationPolicy.AVG));
+            results.add(new ScalarResult(prefix + ".pin", (double) (end[2] - start[2]) / calls, "ns/call", AggregationPolicy.AVG));
+            results.add(new ScalarResult(prefix + ".compute", (double) (end[3] - start[3]) / calls, "ns/call", AggregationPolicy.AVG));
+        }
+        return results;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Breakdown of the JNI wrappers overhead";
+    }
+}
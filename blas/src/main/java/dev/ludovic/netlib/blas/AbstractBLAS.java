@@ -31,6 +31,8 @@ abstract class AbstractBLAS implements BLAS {
 
   private final static boolean debug = System.getProperty("dev.ludovic.netlib.blas.debug", "false").equals("true");
 
+  private final static Tracing tracing = Tracing.getInstance();
+
   protected int loopAlign(int index, int max, int size) {
     return Math.min(loopBound(index + size - 1, size), max);
   }
@@ -52,6 +54,14 @@ abstract class AbstractBLAS implements BLAS {
     }
   }
 
+  // Checks the last element of the rows x cols column-major matrix starting at offset. Only the first
+  // rows elements of the last column are accessed, which matters for LAPACK passing sub-matrices.
+  private void checkMatrix(int offset, int rows, int cols, int ld, int length) {
+    if (rows > 0 && cols > 0) {
+      checkIndex(offset + (cols - 1) * ld + rows - 1, length);
+    }
+  }
+
   private <T> void requireNonNull(T obj) {
     Objects.requireNonNull(obj);
   }
@@ -68,7 +78,10 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(x);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    return dasumK(n, x, offsetx, incx);
+    Object event = tracing.begin();
+    double result = dasumK(n, x, offsetx, incx);
+    tracing.end(event, "dasum", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dasumK(int n, double[] x, int offsetx, int incx);
@@ -85,7 +98,10 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(x);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    return sasumK(n, x, offsetx, incx);
+    Object event = tracing.begin();
+    float result = sasumK(n, x, offsetx, incx);
+    tracing.end(event, "sasum", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float sasumK(int n, float[] x, int offsetx, int incx);
@@ -108,7 +124,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "daxpy", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
@@ -131,7 +149,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "saxpy", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
@@ -150,7 +170,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     dcopyK(n, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "dcopy", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
@@ -169,7 +191,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     scopyK(n, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "scopy", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
@@ -189,7 +213,10 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    return ddotK(n, x, offsetx, incx, y, offsety, incy);
+    Object event = tracing.begin();
+    double result = ddotK(n, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "ddot", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
@@ -209,7 +236,10 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    return sdotK(n, x, offsetx, incx, y, offsety, incy);
+    Object event = tracing.begin();
+    float result = sdotK(n, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "sdot", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
@@ -228,7 +258,10 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    return sdsdotK(n, sb, x, offsetx, incx, y, offsety, incy);
+    Object event = tracing.begin();
+    float result = sdsdotK(n, sb, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "sdsdot", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float sdsdotK(int n, float sb, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
@@ -243,10 +276,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, kl + ku + 1, n, lda, a.length);
     checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     dgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "dgbmv", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
@@ -261,10 +296,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, kl + ku + 1, n, lda, a.length);
     checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "sgbmv", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
@@ -291,10 +328,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", transa) ? k : m) * lda - 1, a.length);
-    checkIndex(offsetb + (lsame("N", transb) ? n : k) * ldb - 1, b.length);
-    checkIndex(offsetc + m * n - 1, c.length);
+    checkMatrix(offseta, lsame("N", transa) ? m : k, lsame("N", transa) ? k : m, lda, a.length);
+    checkMatrix(offsetb, lsame("N", transb) ? k : n, lsame("N", transb) ? n : k, ldb, b.length);
+    checkMatrix(offsetc, m, n, ldc, c.length);
+    Object event = tracing.begin();
     dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    tracing.end(event, "dgemm", this, m, n, k, 0, lda);
   }
 
   protected abstract void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
@@ -321,10 +360,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", transa) ? k : m) * lda - 1, a.length);
-    checkIndex(offsetb + (lsame("N", transb) ? n : k) * ldb - 1, b.length);
-    checkIndex(offsetc + m * n - 1, c.length);
+    checkMatrix(offseta, lsame("N", transa) ? m : k, lsame("N", transa) ? k : m, lda, a.length);
+    checkMatrix(offsetb, lsame("N", transb) ? k : n, lsame("N", transb) ? n : k, ldb, b.length);
+    checkMatrix(offsetc, m, n, ldc, c.length);
+    Object event = tracing.begin();
     sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    tracing.end(event, "sgemm", this, m, n, k, 0, lda);
   }
 
   protected abstract void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
@@ -349,10 +390,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "dgemv", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
@@ -377,10 +420,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "sgemv", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
@@ -406,9 +451,11 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (m - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     if (alpha != 0.0) {
+      Object event = tracing.begin();
       dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+      tracing.end(event, "dger", this, m, n, 0, 0, lda);
     }
   }
 
@@ -434,9 +481,11 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (m - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     if (alpha != 0.0f) {
+      Object event = tracing.begin();
       sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+      tracing.end(event, "sger", this, m, n, 0, 0, lda);
     }
   }
 
@@ -460,7 +509,10 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(x);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    return dnrm2K(n, x, offsetx, incx);
+    Object event = tracing.begin();
+    double result = dnrm2K(n, x, offsetx, incx);
+    tracing.end(event, "dnrm2", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dnrm2K(int n, double[] x, int offsetx, int incx);
@@ -483,7 +535,10 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(x);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    return snrm2K(n, x, offsetx, incx);
+    Object event = tracing.begin();
+    float result = snrm2K(n, x, offsetx, incx);
+    tracing.end(event, "snrm2", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float snrm2K(int n, float[] x, int offsetx, int incx);
@@ -502,7 +557,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     drotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+    tracing.end(event, "drot", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void drotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double c, double s);
@@ -521,7 +578,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     srotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+    tracing.end(event, "srot", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void srotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float c, float s);
@@ -587,7 +646,9 @@ abstract class AbstractBLAS implements BLAS {
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
     checkIndex(offsetparam + 4, param.length); /* param.length == 5 */
+    Object event = tracing.begin();
     drotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+    tracing.end(event, "drotm", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void drotmK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] param, int offsetparam);
@@ -605,7 +666,9 @@ abstract class AbstractBLAS implements BLAS {
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
     checkIndex(offsetparam + 4, param.length); /* param.length == 5 */
+    Object event = tracing.begin();
     srotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+    tracing.end(event, "srotm", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void srotmK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] param, int offsetparam);
@@ -622,7 +685,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(dx1);
     requireNonNull(param);
     checkIndex(offsetparam + 4, param.length);
+    Object event = tracing.begin();
     drotmgK(dd1, dd2, dx1, dy1, param, offsetparam);
+    tracing.end(event, "drotmg", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] param, int offsetparam);
@@ -639,7 +704,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(sx1);
     requireNonNull(param);
     checkIndex(offsetparam + 4, param.length);
+    Object event = tracing.begin();
     srotmgK(sd1, sd2, sx1, sy1, param, offsetparam);
+    tracing.end(event, "srotmg", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] param, int offsetparam);
@@ -654,10 +721,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, k + 1, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     dsbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "dsbmv", this, 0, n, k, 0, lda);
   }
 
   protected abstract void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
@@ -672,10 +741,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, k + 1, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     ssbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "ssbmv", this, 0, n, k, 0, lda);
   }
 
   protected abstract void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
@@ -699,7 +770,9 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(x);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     dscalK(n, alpha, x, offsetx, incx);
+    tracing.end(event, "dscal", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dscalK(int n, double alpha, double[] x, int offsetx, int incx);
@@ -723,7 +796,9 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(x);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     sscalK(n, alpha, x, offsetx, incx);
+    tracing.end(event, "sscal", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sscalK(int n, float alpha, float[] x, int offsetx, int incx);
@@ -749,7 +824,9 @@ abstract class AbstractBLAS implements BLAS {
     checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     dspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "dspmv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
@@ -774,7 +851,9 @@ abstract class AbstractBLAS implements BLAS {
     checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "sspmv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
@@ -797,7 +876,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    Object event = tracing.begin();
     dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    tracing.end(event, "dspr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta);
@@ -820,7 +901,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    Object event = tracing.begin();
     ssprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    tracing.end(event, "sspr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta);
@@ -846,7 +929,9 @@ abstract class AbstractBLAS implements BLAS {
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
     checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    Object event = tracing.begin();
     dspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    tracing.end(event, "dspr2", this, 0, n, 0, 0, 0);
   }
   
   protected abstract void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta);
@@ -872,7 +957,9 @@ abstract class AbstractBLAS implements BLAS {
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
     checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    Object event = tracing.begin();
     sspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    tracing.end(event, "sspr2", this, 0, n, 0, 0, 0);
   }
   
   protected abstract void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta);
@@ -891,7 +978,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     dswapK(n, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "dswap", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
@@ -910,7 +999,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(y);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     sswapK(n, x, offsetx, incx, y, offsety, incy);
+    tracing.end(event, "sswap", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
@@ -935,10 +1026,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkMatrix(offseta, lsame("L", side) ? m : n, lsame("L", side) ? m : n, lda, a.length);
+    checkMatrix(offsetb, m, n, ldb, b.length);
+    checkMatrix(offsetc, m, n, ldc, c.length);
+    Object event = tracing.begin();
     dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    tracing.end(event, "dsymm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
@@ -963,10 +1056,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkMatrix(offseta, lsame("L", side) ? m : n, lsame("L", side) ? m : n, lda, a.length);
+    checkMatrix(offsetb, m, n, ldb, b.length);
+    checkMatrix(offsetc, m, n, ldc, c.length);
+    Object event = tracing.begin();
     ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    tracing.end(event, "ssymm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
@@ -989,10 +1084,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "dsymv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
@@ -1015,10 +1112,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    Object event = tracing.begin();
     ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    tracing.end(event, "ssymv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssymvK(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
@@ -1041,8 +1140,10 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
+    Object event = tracing.begin();
     dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    tracing.end(event, "dsyr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda);
@@ -1064,8 +1165,10 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
+    Object event = tracing.begin();
     ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    tracing.end(event, "ssyr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda);
@@ -1090,8 +1193,10 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
+    Object event = tracing.begin();
     dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    tracing.end(event, "dsyr2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
@@ -1116,8 +1221,10 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
+    Object event = tracing.begin();
     ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    tracing.end(event, "ssyr2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
@@ -1141,10 +1248,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetb + (lsame("N", trans) ? k : n) * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkMatrix(offseta, lsame("N", trans) ? n : k, lsame("N", trans) ? k : n, lda, a.length);
+    checkMatrix(offsetb, lsame("N", trans) ? n : k, lsame("N", trans) ? k : n, ldb, b.length);
+    checkMatrix(offsetc, n, n, ldc, c.length);
+    Object event = tracing.begin();
     dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    tracing.end(event, "dsyr2k", this, 0, n, k, 0, lda);
   }
 
   protected abstract void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
@@ -1168,10 +1277,12 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetb + (lsame("N", trans) ? k : n) * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkMatrix(offseta, lsame("N", trans) ? n : k, lsame("N", trans) ? k : n, lda, a.length);
+    checkMatrix(offsetb, lsame("N", trans) ? n : k, lsame("N", trans) ? k : n, ldb, b.length);
+    checkMatrix(offsetc, n, n, ldc, c.length);
+    Object event = tracing.begin();
     ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    tracing.end(event, "ssyr2k", this, 0, n, k, 0, lda);
   }
 
   protected abstract void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
@@ -1193,9 +1304,11 @@ abstract class AbstractBLAS implements BLAS {
       return;
     requireNonNull(a);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkMatrix(offseta, lsame("N", trans) ? n : k, lsame("N", trans) ? k : n, lda, a.length);
+    checkMatrix(offsetc, n, n, ldc, c.length);
+    Object event = tracing.begin();
     dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    tracing.end(event, "dsyrk", this, 0, n, k, 0, lda);
   }
 
   protected abstract void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc);
@@ -1217,9 +1330,11 @@ abstract class AbstractBLAS implements BLAS {
       return;
     requireNonNull(a);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkMatrix(offseta, lsame("N", trans) ? n : k, lsame("N", trans) ? k : n, lda, a.length);
+    checkMatrix(offsetc, n, n, ldc, c.length);
+    Object event = tracing.begin();
     ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    tracing.end(event, "ssyrk", this, 0, n, k, 0, lda);
   }
 
   protected abstract void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc);
@@ -1243,9 +1358,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, k + 1, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "dtbmv", this, 0, n, k, 0, lda);
   }
 
   protected abstract void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
@@ -1269,9 +1386,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, k + 1, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "stbmv", this, 0, n, k, 0, lda);
   }
 
   protected abstract void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
@@ -1295,9 +1414,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, k + 1, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "dtbsv", this, 0, n, k, 0, lda);
   }
 
   protected abstract void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
@@ -1321,9 +1442,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, k + 1, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "stbsv", this, 0, n, k, 0, lda);
   }
 
   protected abstract void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
@@ -1347,7 +1470,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     checkIndex(offseta + n * (n + 1) / 2 - 1, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     dtpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    tracing.end(event, "dtpmv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx);
@@ -1371,7 +1496,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     checkIndex(offseta + n * (n + 1) / 2 - 1, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    tracing.end(event, "stpmv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx);
@@ -1395,7 +1522,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     checkIndex(offseta + n * (n + 1) / 2 - 1, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    tracing.end(event, "dtpsv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx);
@@ -1419,7 +1548,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     checkIndex(offseta + n * (n + 1) / 2 - 1, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     stpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    tracing.end(event, "stpsv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx);
@@ -1444,9 +1575,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkMatrix(offseta, lsame("L", side) ? m : n, lsame("L", side) ? m : n, lda, a.length);
+    checkMatrix(offsetb, m, n, ldb, b.length);
+    Object event = tracing.begin();
     dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    tracing.end(event, "dtrmm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
@@ -1471,9 +1604,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkMatrix(offseta, lsame("L", side) ? m : n, lsame("L", side) ? m : n, lda, a.length);
+    checkMatrix(offsetb, m, n, ldb, b.length);
+    Object event = tracing.begin();
     strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    tracing.end(event, "strmm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
@@ -1496,9 +1631,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "dtrmv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
@@ -1521,9 +1658,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "strmv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
@@ -1548,9 +1687,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkMatrix(offseta, lsame("L", side) ? m : n, lsame("L", side) ? m : n, lda, a.length);
+    checkMatrix(offsetb, m, n, ldb, b.length);
+    Object event = tracing.begin();
     dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    tracing.end(event, "dtrsm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
@@ -1575,9 +1716,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkMatrix(offseta, lsame("L", side) ? m : n, lsame("L", side) ? m : n, lda, a.length);
+    checkMatrix(offsetb, m, n, ldb, b.length);
+    Object event = tracing.begin();
     strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    tracing.end(event, "strsm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
@@ -1600,9 +1743,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "dtrsv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
@@ -1625,9 +1770,11 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, n, n, lda, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    Object event = tracing.begin();
     strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    tracing.end(event, "strsv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
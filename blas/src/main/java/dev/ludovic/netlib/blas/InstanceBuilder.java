@@ -31,18 +31,54 @@ final class InstanceBuilder {
 
   private static final Logger log = Logger.getLogger(InstanceBuilder.class.getName());
 
-  private static final BLAS blas;
-  private static final NativeBLAS nativeBlas;
-  private static final JavaBLAS javaBlas;
-
-  static {
-    nativeBlas = initializeNative();
-    javaBlas = initializeJava();
-    blas = nativeBlas != null ? nativeBlas : javaBlas;
+  private static final boolean metering = System.getProperty("dev.ludovic.netlib.blas.metering", "false").equals("true");
+
+  private static final boolean jmx = System.getProperty("dev.ludovic.netlib.blas.jmx", "false").equals("true");
+
+  private static final boolean shapes = System.getProperty("dev.ludovic.netlib.blas.shapes") != null;
+
+  // Each backend is held in its own class so that it's only initialized on first request. That way
+  // requesting the Java implementation never extracts and loads the native library, and requesting
+  // the native implementation never loads the Java one.
+  private static final class NativeHolder {
+    private static final NativeBLAS instance = meter(record(initializeNative()));
+  }
+
+  private static final class JavaHolder {
+    private static final JavaBLAS instance = meter(record(initializeJava()));
+  }
+
+  private static final class DefaultHolder {
+    private static final BLAS instance = NativeHolder.instance != null ? NativeHolder.instance : JavaHolder.instance;
+
+    static {
+      // The metering counters are only reported through the MBean
+      if (jmx || metering) {
+        Management.register(instance);
+      }
+    }
+  }
+
+  private static NativeBLAS record(NativeBLAS blas) {
+    return shapes && blas != null ? new RecordingBLAS.Native(blas) : blas;
+  }
+
+  private static JavaBLAS record(JavaBLAS blas) {
+    return shapes && blas != null ? new RecordingBLAS.Java(blas) : blas;
+  }
+
+  private static NativeBLAS meter(NativeBLAS blas) {
+    // The per-routine counters exposed over JMX come from the metering wrapper
+    return (metering || jmx) && blas != null ? new MeteredBLAS.Native(blas) : blas;
+  }
+
+  private static JavaBLAS meter(JavaBLAS blas) {
+    // The per-routine counters exposed over JMX come from the metering wrapper
+    return (metering || jmx) && blas != null ? new MeteredBLAS.Java(blas) : blas;
   }
 
   public static BLAS blas() {
-    return blas;
+    return DefaultHolder.instance;
   }
 
   private static NativeBLAS initializeNative() {
@@ -55,10 +91,10 @@ final class InstanceBuilder {
   }
 
   public static NativeBLAS nativeBlas() {
-    if (nativeBlas == null) {
+    if (NativeHolder.instance == null) {
       throw new RuntimeException("Unable to load native implementation");
     }
-    return nativeBlas;
+    return NativeHolder.instance;
   }
 
   private static JavaBLAS initializeJava() {
@@ -82,6 +118,6 @@ final class InstanceBuilder {
   }
 
   public static JavaBLAS javaBlas() {
-    return javaBlas;
+    return JavaHolder.instance;
   }
 }
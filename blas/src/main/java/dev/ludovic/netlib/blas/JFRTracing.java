@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import jdk.jfr.EventType;
+
+// Only loaded on Java 11+ by Tracing. Calls shorter than dev.ludovic.netlib.blas.jfr.threshold (in
+// microseconds, 0 by default) are discarded, on top of the threshold set in the recording settings.
+final class JFRTracing extends Tracing {
+
+  private static final EventType type = EventType.getEventType(CallEvent.class);
+
+  private final long threshold = Long.getLong("dev.ludovic.netlib.blas.jfr.threshold", 0) * 1000;
+
+  public Object begin() {
+    if (!type.isEnabled()) {
+      return null;
+    }
+    CallEvent event = new CallEvent();
+    event.start = System.nanoTime();
+    event.begin();
+    return event;
+  }
+
+  public void end(Object handle, String routine, Object backend, int m, int n, int k, int nrhs, int lda) {
+    if (handle == null) {
+      return;
+    }
+    CallEvent event = (CallEvent) handle;
+    event.end();
+    if (System.nanoTime() - event.start < threshold || !event.shouldCommit()) {
+      return;
+    }
+    event.routine = routine;
+    event.backend = backend.getClass().getSimpleName();
+    event.m = m;
+    event.n = n;
+    event.k = k;
+    event.nrhs = nrhs;
+    event.lda = lda;
+    event.commit();
+  }
+}
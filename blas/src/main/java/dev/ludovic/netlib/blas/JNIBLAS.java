@@ -25,12 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
-import java.io.InputStream;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.regex.Pattern;
 
 final class JNIBLAS extends AbstractBLAS implements NativeBLAS {
 
@@ -46,25 +42,46 @@ final class JNIBLAS extends AbstractBLAS implements NativeBLAS {
         throw new RuntimeException("Unable to load native implementation");
     }
 
-    Path temp;
-    try (InputStream resource = this.getClass().getClassLoader().getResourceAsStream(
-            String.format("resources/native/%s-%s/libnetlibblasjni.so", osName, osArch))) {
-      assert resource != null;
-      Files.copy(resource, temp = Files.createTempFile("libnetlibblasjni.so", "",
-                                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---"))),
-                  StandardCopyOption.REPLACE_EXISTING);
-      temp.toFile().deleteOnExit();
-    } catch (IOException e) {
-      throw new RuntimeException("Unable to load native implementation", e);
-    }
+    System.load(NativeLoader.extract(
+      String.format("resources/native/%s-%s/libnetlibblasjni.so", osName, osArch), "libnetlibblasjni.so").toString());
 
-    System.load(temp.toString());
+    if ("true".equals(System.getProperty("dev.ludovic.netlib.blas.discovery"))) {
+      NativeDiscovery.discover();
+    }
   }
 
   public static NativeBLAS getInstance() {
     return instance;
   }
 
+  // Path of the loaded native library as resolved by the dynamic loader, or null if none is loaded
+  static native String libraryPath();
+
+  // Calls and nanoseconds spent marshalling arguments, pinning arrays and computing in the routine, or null
+  // unless the JNI wrapper is built with -DNETLIB_JNI_PROFILE. Read by dev.ludovic.netlib.profiler.JNIProfiler
+  static native long[] profile(String routine);
+
+  // Threads whose name matches are considered part of a pool, in addition to ForkJoinPool workers. The
+  // defaults cover Executors' thread factory and Spark's task threads.
+  private static final Pattern poolThreadPattern = Pattern.compile(
+    System.getProperty("dev.ludovic.netlib.blas.poolThreadPattern", "pool-\\d+-thread-\\d+|Executor task launch worker.*"));
+
+  // Called by the JNI wrapper on the first call from each thread when dev.ludovic.netlib.blas.pinPoolThreads is set
+  private static boolean isPoolThread() {
+    Thread thread = Thread.currentThread();
+    return thread instanceof ForkJoinWorkerThread || poolThreadPattern.matcher(thread.getName()).matches();
+  }
+
+  // Used by NativeDiscovery when dev.ludovic.netlib.blas.discovery is set, in which case the JNI wrapper
+  // doesn't load any library on its own
+  static native double[] probe(String library);
+
+  static native boolean load(String library);
+
+  public native int getNumThreads();
+
+  public native void setNumThreads(int n);
+
   protected native double dasumK(int n, double[] x, int offsetx, int incx);
 
   protected native float sasumK(int n, float[] x, int offsetx, int incx);
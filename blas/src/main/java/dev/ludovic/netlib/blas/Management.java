@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ObjectName;
+
+// Exposes the active backend as the dev.ludovic.netlib:type=BLAS MBean when dev.ludovic.netlib.blas.jmx or
+// dev.ludovic.netlib.blas.metering is set. Besides the backend, the loaded library and its number of threads,
+// it has a <routine>Calls, <routine>Nanos and <routine>Flops attribute for each routine called so far, fed
+// by MeteredBLAS, and the Report attribute with the latency percentiles and GFLOP/s of Meter.report().
+final class Management implements DynamicMBean {
+
+  private static final Logger log = Logger.getLogger(Management.class.getName());
+
+  static final String NAME = "dev.ludovic.netlib:type=BLAS";
+
+  private final BLAS backend;
+
+  Management(BLAS instance) {
+    if (instance instanceof MeteredBLAS) {
+      instance = ((MeteredBLAS) instance).delegate();
+    }
+    if (instance instanceof RecordingBLAS) {
+      instance = ((RecordingBLAS) instance).delegate();
+    }
+    this.backend = instance;
+  }
+
+  public static void register(BLAS instance) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new Management(instance), new ObjectName(NAME));
+    } catch (InstanceAlreadyExistsException e) {
+      log.fine(NAME + " is already registered");
+    } catch (Exception e) {
+      log.warning("Failed to register " + NAME + ": " + e);
+    }
+  }
+
+  private String implementation() {
+    return backend == null ? null : backend.getClass().getName();
+  }
+
+  // Resolves symlinks such as libblas.so.3 to tell which library actually got loaded
+  private String libraryPath() {
+    if (!(backend instanceof JNIBLAS)) {
+      return null;
+    }
+    String path = JNIBLAS.libraryPath();
+    if (path == null) {
+      return null;
+    }
+    try {
+      return Paths.get(path).toRealPath().toString();
+    } catch (IOException | RuntimeException e) {
+      return path;
+    }
+  }
+
+  // Number of threads of the native library, or -1 if it isn't native or doesn't expose it
+  private int numThreads() {
+    if (!(backend instanceof NativeBLAS)) {
+      return -1;
+    }
+    return ((NativeBLAS) backend).getNumThreads();
+  }
+
+  public Object getAttribute(String name) throws AttributeNotFoundException {
+    switch (name) {
+    case "Implementation": return implementation();
+    case "LibraryPath": return libraryPath();
+    case "NumThreads": return numThreads();
+    case "Report": return Meter.report();
+    }
+    for (String suffix : new String[] { "Calls", "Nanos", "Flops" }) {
+      Meter meter;
+      if (name.endsWith(suffix) && (meter = Meter.get(name.substring(0, name.length() - suffix.length()))) != null) {
+        switch (suffix) {
+        case "Calls": return meter.calls();
+        case "Nanos": return meter.nanos();
+        default: return meter.flops();
+        }
+      }
+    }
+    throw new AttributeNotFoundException(name);
+  }
+
+  public AttributeList getAttributes(String[] names) {
+    AttributeList attributes = new AttributeList();
+    for (String name : names) {
+      try {
+        attributes.add(new Attribute(name, getAttribute(name)));
+      } catch (AttributeNotFoundException e) {
+        // skipped, as mandated by DynamicMBean
+      }
+    }
+    return attributes;
+  }
+
+  public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+    throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+  }
+
+  public AttributeList setAttributes(AttributeList attributes) {
+    return new AttributeList();
+  }
+
+  public Object invoke(String action, Object[] params, String[] signature) {
+    throw new UnsupportedOperationException(action);
+  }
+
+  // Routines only show up once called, so the attributes grow as the application warms up
+  public MBeanInfo getMBeanInfo() {
+    List<MBeanAttributeInfo> attributes = new ArrayList<>();
+    attributes.add(new MBeanAttributeInfo("Implementation", "java.lang.String", "Class implementing BLAS", true, false, false));
+    attributes.add(new MBeanAttributeInfo("LibraryPath", "java.lang.String", "Path of the native library, if any", true, false, false));
+    attributes.add(new MBeanAttributeInfo("NumThreads", "int", "Number of threads of the native library, -1 if unknown", true, false, false));
+    attributes.add(new MBeanAttributeInfo("Report", "java.lang.String", "Per-routine calls, latencies and GFLOP/s", true, false, false));
+    for (Meter meter : Meter.all()) {
+      if (meter.calls() == 0) {
+        continue;
+      }
+      attributes.add(new MBeanAttributeInfo(meter.routine() + "Calls", "long", "Number of calls to " + meter.routine(), true, false, false));
+      attributes.add(new MBeanAttributeInfo(meter.routine() + "Nanos", "long", "Time spent in " + meter.routine() + " in nanoseconds", true, false, false));
+      attributes.add(new MBeanAttributeInfo(meter.routine() + "Flops", "long", "Floating-point operations performed by " + meter.routine(), true, false, false));
+    }
+    return new MBeanInfo(Management.class.getName(), "Netlib BLAS backend and per-routine counters",
+      attributes.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[0], null);
+  }
+}
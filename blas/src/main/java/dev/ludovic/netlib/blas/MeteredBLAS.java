@@ -0,0 +1,985 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+// Wraps another implementation to record, for each routine, the number of calls, a histogram of their
+// latencies and the floating-point operations they performed. Enabled with
+// -Ddev.ludovic.netlib.blas.metering=true or -Ddev.ludovic.netlib.blas.jmx=true, in which case the counters
+// are read through the Report attribute of the dev.ludovic.netlib:type=BLAS MBean registered by Management.
+// Routines without a known operation count only report calls and latencies.
+class MeteredBLAS implements BLAS {
+
+  private final BLAS blas;
+
+  MeteredBLAS(BLAS blas) {
+    this.blas = blas;
+  }
+
+  BLAS delegate() {
+    return blas;
+  }
+
+  static final class Native extends MeteredBLAS implements NativeBLAS {
+
+    private final NativeBLAS blas;
+
+    Native(NativeBLAS blas) {
+      super(blas);
+      this.blas = blas;
+    }
+
+    public int getNumThreads() {
+      return blas.getNumThreads();
+    }
+
+    public void setNumThreads(int n) {
+      blas.setNumThreads(n);
+    }
+  }
+
+  static final class Java extends MeteredBLAS implements JavaBLAS {
+
+    Java(JavaBLAS blas) {
+      super(blas);
+    }
+  }
+
+  private static boolean isLeft(String side) {
+    return side.regionMatches(true, 0, "L", 0, 1);
+  }
+
+  private static final Meter dasumMeter = Meter.of("dasum");
+  private static final Meter sasumMeter = Meter.of("sasum");
+  private static final Meter daxpyMeter = Meter.of("daxpy");
+  private static final Meter saxpyMeter = Meter.of("saxpy");
+  private static final Meter dcopyMeter = Meter.of("dcopy");
+  private static final Meter scopyMeter = Meter.of("scopy");
+  private static final Meter ddotMeter = Meter.of("ddot");
+  private static final Meter sdotMeter = Meter.of("sdot");
+  private static final Meter sdsdotMeter = Meter.of("sdsdot");
+  private static final Meter dgbmvMeter = Meter.of("dgbmv");
+  private static final Meter sgbmvMeter = Meter.of("sgbmv");
+  private static final Meter dgemmMeter = Meter.of("dgemm");
+  private static final Meter sgemmMeter = Meter.of("sgemm");
+  private static final Meter dgemvMeter = Meter.of("dgemv");
+  private static final Meter sgemvMeter = Meter.of("sgemv");
+  private static final Meter dgerMeter = Meter.of("dger");
+  private static final Meter sgerMeter = Meter.of("sger");
+  private static final Meter dnrm2Meter = Meter.of("dnrm2");
+  private static final Meter snrm2Meter = Meter.of("snrm2");
+  private static final Meter drotMeter = Meter.of("drot");
+  private static final Meter srotMeter = Meter.of("srot");
+  private static final Meter drotgMeter = Meter.of("drotg");
+  private static final Meter srotgMeter = Meter.of("srotg");
+  private static final Meter drotmMeter = Meter.of("drotm");
+  private static final Meter srotmMeter = Meter.of("srotm");
+  private static final Meter drotmgMeter = Meter.of("drotmg");
+  private static final Meter srotmgMeter = Meter.of("srotmg");
+  private static final Meter dsbmvMeter = Meter.of("dsbmv");
+  private static final Meter ssbmvMeter = Meter.of("ssbmv");
+  private static final Meter dscalMeter = Meter.of("dscal");
+  private static final Meter sscalMeter = Meter.of("sscal");
+  private static final Meter dspmvMeter = Meter.of("dspmv");
+  private static final Meter sspmvMeter = Meter.of("sspmv");
+  private static final Meter dsprMeter = Meter.of("dspr");
+  private static final Meter ssprMeter = Meter.of("sspr");
+  private static final Meter dspr2Meter = Meter.of("dspr2");
+  private static final Meter sspr2Meter = Meter.of("sspr2");
+  private static final Meter dswapMeter = Meter.of("dswap");
+  private static final Meter sswapMeter = Meter.of("sswap");
+  private static final Meter dsymmMeter = Meter.of("dsymm");
+  private static final Meter ssymmMeter = Meter.of("ssymm");
+  private static final Meter dsymvMeter = Meter.of("dsymv");
+  private static final Meter ssymvMeter = Meter.of("ssymv");
+  private static final Meter dsyrMeter = Meter.of("dsyr");
+  private static final Meter ssyrMeter = Meter.of("ssyr");
+  private static final Meter dsyr2Meter = Meter.of("dsyr2");
+  private static final Meter ssyr2Meter = Meter.of("ssyr2");
+  private static final Meter dsyr2kMeter = Meter.of("dsyr2k");
+  private static final Meter ssyr2kMeter = Meter.of("ssyr2k");
+  private static final Meter dsyrkMeter = Meter.of("dsyrk");
+  private static final Meter ssyrkMeter = Meter.of("ssyrk");
+  private static final Meter dtbmvMeter = Meter.of("dtbmv");
+  private static final Meter stbmvMeter = Meter.of("stbmv");
+  private static final Meter dtbsvMeter = Meter.of("dtbsv");
+  private static final Meter stbsvMeter = Meter.of("stbsv");
+  private static final Meter dtpmvMeter = Meter.of("dtpmv");
+  private static final Meter stpmvMeter = Meter.of("stpmv");
+  private static final Meter dtpsvMeter = Meter.of("dtpsv");
+  private static final Meter stpsvMeter = Meter.of("stpsv");
+  private static final Meter dtrmmMeter = Meter.of("dtrmm");
+  private static final Meter strmmMeter = Meter.of("strmm");
+  private static final Meter dtrmvMeter = Meter.of("dtrmv");
+  private static final Meter strmvMeter = Meter.of("strmv");
+  private static final Meter dtrsmMeter = Meter.of("dtrsm");
+  private static final Meter strsmMeter = Meter.of("strsm");
+  private static final Meter dtrsvMeter = Meter.of("dtrsv");
+  private static final Meter strsvMeter = Meter.of("strsv");
+  private static final Meter idamaxMeter = Meter.of("idamax");
+  private static final Meter isamaxMeter = Meter.of("isamax");
+  private static final Meter lsameMeter = Meter.of("lsame");
+
+  public double dasum(int n, double[] x, int incx) {
+    long start = System.nanoTime();
+    double result = blas.dasum(n, x, incx);
+    dasumMeter.record(System.nanoTime() - start, n);
+    return result;
+  }
+
+  public double dasum(int n, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    double result = blas.dasum(n, x, offsetx, incx);
+    dasumMeter.record(System.nanoTime() - start, n);
+    return result;
+  }
+
+  public float sasum(int n, float[] x, int incx) {
+    long start = System.nanoTime();
+    float result = blas.sasum(n, x, incx);
+    sasumMeter.record(System.nanoTime() - start, n);
+    return result;
+  }
+
+  public float sasum(int n, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    float result = blas.sasum(n, x, offsetx, incx);
+    sasumMeter.record(System.nanoTime() - start, n);
+    return result;
+  }
+
+  public void daxpy(int n, double alpha, double[] x, int incx, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.daxpy(n, alpha, x, incx, y, incy);
+    daxpyMeter.record(System.nanoTime() - start, 2L * n);
+  }
+
+  public void daxpy(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.daxpy(n, alpha, x, offsetx, incx, y, offsety, incy);
+    daxpyMeter.record(System.nanoTime() - start, 2L * n);
+  }
+
+  public void saxpy(int n, float alpha, float[] x, int incx, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.saxpy(n, alpha, x, incx, y, incy);
+    saxpyMeter.record(System.nanoTime() - start, 2L * n);
+  }
+
+  public void saxpy(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.saxpy(n, alpha, x, offsetx, incx, y, offsety, incy);
+    saxpyMeter.record(System.nanoTime() - start, 2L * n);
+  }
+
+  public void dcopy(int n, double[] x, int incx, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.dcopy(n, x, incx, y, incy);
+    dcopyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dcopy(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.dcopy(n, x, offsetx, incx, y, offsety, incy);
+    dcopyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void scopy(int n, float[] x, int incx, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.scopy(n, x, incx, y, incy);
+    scopyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void scopy(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.scopy(n, x, offsetx, incx, y, offsety, incy);
+    scopyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public double ddot(int n, double[] x, int incx, double[] y, int incy) {
+    long start = System.nanoTime();
+    double result = blas.ddot(n, x, incx, y, incy);
+    ddotMeter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public double ddot(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    double result = blas.ddot(n, x, offsetx, incx, y, offsety, incy);
+    ddotMeter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public float sdot(int n, float[] x, int incx, float[] y, int incy) {
+    long start = System.nanoTime();
+    float result = blas.sdot(n, x, incx, y, incy);
+    sdotMeter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public float sdot(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    float result = blas.sdot(n, x, offsetx, incx, y, offsety, incy);
+    sdotMeter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public float sdsdot(int n, float sb, float[] sx, int incx, float[] sy, int incy) {
+    long start = System.nanoTime();
+    float result = blas.sdsdot(n, sb, sx, incx, sy, incy);
+    sdsdotMeter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public float sdsdot(int n, float sb, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy) {
+    long start = System.nanoTime();
+    float result = blas.sdsdot(n, sb, sx, offsetsx, incx, sy, offsetsy, incy);
+    sdsdotMeter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.dgbmv(trans, m, n, kl, ku, alpha, a, lda, x, incx, beta, y, incy);
+    dgbmvMeter.record(System.nanoTime() - start, 2L * n * (kl + ku + 1));
+  }
+
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.dgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    dgbmvMeter.record(System.nanoTime() - start, 2L * n * (kl + ku + 1));
+  }
+
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.sgbmv(trans, m, n, kl, ku, alpha, a, lda, x, incx, beta, y, incy);
+    sgbmvMeter.record(System.nanoTime() - start, 2L * n * (kl + ku + 1));
+  }
+
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.sgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    sgbmvMeter.record(System.nanoTime() - start, 2L * n * (kl + ku + 1));
+  }
+
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
+    long start = System.nanoTime();
+    blas.dgemm(transa, transb, m, n, k, alpha, a, lda, b, ldb, beta, c, ldc);
+    dgemmMeter.record(System.nanoTime() - start, 2L * m * n * k);
+  }
+
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    long start = System.nanoTime();
+    blas.dgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    dgemmMeter.record(System.nanoTime() - start, 2L * m * n * k);
+  }
+
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc) {
+    long start = System.nanoTime();
+    blas.sgemm(transa, transb, m, n, k, alpha, a, lda, b, ldb, beta, c, Ldc);
+    sgemmMeter.record(System.nanoTime() - start, 2L * m * n * k);
+  }
+
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    long start = System.nanoTime();
+    blas.sgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+    sgemmMeter.record(System.nanoTime() - start, 2L * m * n * k);
+  }
+
+  public void dgemv(String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.dgemv(trans, m, n, alpha, a, lda, x, incx, beta, y, incy);
+    dgemvMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public void dgemv(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.dgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    dgemvMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public void sgemv(String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.sgemv(trans, m, n, alpha, a, lda, x, incx, beta, y, incy);
+    sgemvMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public void sgemv(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.sgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    sgemvMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public void dger(int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+    long start = System.nanoTime();
+    blas.dger(m, n, alpha, x, incx, y, incy, a, lda);
+    dgerMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public void dger(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    blas.dger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    dgerMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public void sger(int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
+    long start = System.nanoTime();
+    blas.sger(m, n, alpha, x, incx, y, incy, a, lda);
+    sgerMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public void sger(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    blas.sger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    sgerMeter.record(System.nanoTime() - start, 2L * m * n);
+  }
+
+  public double dnrm2(int n, double[] x, int incx) {
+    long start = System.nanoTime();
+    double result = blas.dnrm2(n, x, incx);
+    dnrm2Meter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public double dnrm2(int n, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    double result = blas.dnrm2(n, x, offsetx, incx);
+    dnrm2Meter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public float snrm2(int n, float[] x, int incx) {
+    long start = System.nanoTime();
+    float result = blas.snrm2(n, x, incx);
+    snrm2Meter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public float snrm2(int n, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    float result = blas.snrm2(n, x, offsetx, incx);
+    snrm2Meter.record(System.nanoTime() - start, 2L * n);
+    return result;
+  }
+
+  public void drot(int n, double[] dx, int incx, double[] dy, int incy, double c, double s) {
+    long start = System.nanoTime();
+    blas.drot(n, dx, incx, dy, incy, c, s);
+    drotMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void drot(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s) {
+    long start = System.nanoTime();
+    blas.drot(n, dx, offsetdx, incx, dy, offsetdy, incy, c, s);
+    drotMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void srot(int n, float[] sx, int incx, float[] sy, int incy, float c, float s) {
+    long start = System.nanoTime();
+    blas.srot(n, sx, incx, sy, incy, c, s);
+    srotMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void srot(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float c, float s) {
+    long start = System.nanoTime();
+    blas.srot(n, sx, offsetsx, incx, sy, offsetsy, incy, c, s);
+    srotMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void drotg(org.netlib.util.doubleW da, org.netlib.util.doubleW db, org.netlib.util.doubleW c, org.netlib.util.doubleW s) {
+    long start = System.nanoTime();
+    blas.drotg(da, db, c, s);
+    drotgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void srotg(org.netlib.util.floatW sa, org.netlib.util.floatW sb, org.netlib.util.floatW c, org.netlib.util.floatW s) {
+    long start = System.nanoTime();
+    blas.srotg(sa, sb, c, s);
+    srotgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void drotm(int n, double[] dx, int incx, double[] dy, int incy, double[] dparam) {
+    long start = System.nanoTime();
+    blas.drotm(n, dx, incx, dy, incy, dparam);
+    drotmMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void drotm(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double[] dparam, int offsetdparam) {
+    long start = System.nanoTime();
+    blas.drotm(n, dx, offsetdx, incx, dy, offsetdy, incy, dparam, offsetdparam);
+    drotmMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void srotm(int n, float[] sx, int incx, float[] sy, int incy, float[] sparam) {
+    long start = System.nanoTime();
+    blas.srotm(n, sx, incx, sy, incy, sparam);
+    srotmMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void srotm(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float[] sparam, int offsetsparam) {
+    long start = System.nanoTime();
+    blas.srotm(n, sx, offsetsx, incx, sy, offsetsy, incy, sparam, offsetsparam);
+    srotmMeter.record(System.nanoTime() - start, 6L * n);
+  }
+
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam) {
+    long start = System.nanoTime();
+    blas.drotmg(dd1, dd2, dx1, dy1, dparam);
+    drotmgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam, int offsetdparam) {
+    long start = System.nanoTime();
+    blas.drotmg(dd1, dd2, dx1, dy1, dparam, offsetdparam);
+    drotmgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam) {
+    long start = System.nanoTime();
+    blas.srotmg(sd1, sd2, sx1, sy1, sparam);
+    srotmgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam, int offsetsparam) {
+    long start = System.nanoTime();
+    blas.srotmg(sd1, sd2, sx1, sy1, sparam, offsetsparam);
+    srotmgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbmv(String uplo, int n, int k, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.dsbmv(uplo, n, k, alpha, a, lda, x, incx, beta, y, incy);
+    dsbmvMeter.record(System.nanoTime() - start, 2L * n * (2 * k + 1));
+  }
+
+  public void dsbmv(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.dsbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    dsbmvMeter.record(System.nanoTime() - start, 2L * n * (2 * k + 1));
+  }
+
+  public void ssbmv(String uplo, int n, int k, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.ssbmv(uplo, n, k, alpha, a, lda, x, incx, beta, y, incy);
+    ssbmvMeter.record(System.nanoTime() - start, 2L * n * (2 * k + 1));
+  }
+
+  public void ssbmv(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.ssbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    ssbmvMeter.record(System.nanoTime() - start, 2L * n * (2 * k + 1));
+  }
+
+  public void dscal(int n, double alpha, double[] x, int incx) {
+    long start = System.nanoTime();
+    blas.dscal(n, alpha, x, incx);
+    dscalMeter.record(System.nanoTime() - start, n);
+  }
+
+  public void dscal(int n, double alpha, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.dscal(n, alpha, x, offsetx, incx);
+    dscalMeter.record(System.nanoTime() - start, n);
+  }
+
+  public void sscal(int n, float alpha, float[] x, int incx) {
+    long start = System.nanoTime();
+    blas.sscal(n, alpha, x, incx);
+    sscalMeter.record(System.nanoTime() - start, n);
+  }
+
+  public void sscal(int n, float alpha, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.sscal(n, alpha, x, offsetx, incx);
+    sscalMeter.record(System.nanoTime() - start, n);
+  }
+
+  public void dspmv(String uplo, int n, double alpha, double[] a, double[] x, int incx, double beta, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.dspmv(uplo, n, alpha, a, x, incx, beta, y, incy);
+    dspmvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dspmv(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.dspmv(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    dspmvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void sspmv(String uplo, int n, float alpha, float[] ap, float[] x, int incx, float beta, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.sspmv(uplo, n, alpha, ap, x, incx, beta, y, incy);
+    sspmvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void sspmv(String uplo, int n, float alpha, float[] ap, int offsetap, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.sspmv(uplo, n, alpha, ap, offsetap, x, offsetx, incx, beta, y, offsety, incy);
+    sspmvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dspr(String uplo, int n, double alpha, double[] x, int incx, double[] a) {
+    long start = System.nanoTime();
+    blas.dspr(uplo, n, alpha, x, incx, a);
+    dsprMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dspr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    long start = System.nanoTime();
+    blas.dspr(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    dsprMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void sspr(String uplo, int n, float alpha, float[] x, int incx, float[] ap) {
+    long start = System.nanoTime();
+    blas.sspr(uplo, n, alpha, x, incx, ap);
+    ssprMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void sspr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] ap, int offsetap) {
+    long start = System.nanoTime();
+    blas.sspr(uplo, n, alpha, x, offsetx, incx, ap, offsetap);
+    ssprMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dspr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] ap) {
+    long start = System.nanoTime();
+    blas.dspr2(uplo, n, alpha, x, incx, y, incy, ap);
+    dspr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dspr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] ap, int offsetap) {
+    long start = System.nanoTime();
+    blas.dspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, ap, offsetap);
+    dspr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void sspr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] ap) {
+    long start = System.nanoTime();
+    blas.sspr2(uplo, n, alpha, x, incx, y, incy, ap);
+    sspr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void sspr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] ap, int offsetap) {
+    long start = System.nanoTime();
+    blas.sspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, ap, offsetap);
+    sspr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dswap(int n, double[] x, int incx, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.dswap(n, x, incx, y, incy);
+    dswapMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dswap(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.dswap(n, x, offsetx, incx, y, offsety, incy);
+    dswapMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sswap(int n, float[] x, int incx, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.sswap(n, x, incx, y, incy);
+    sswapMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sswap(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.sswap(n, x, offsetx, incx, y, offsety, incy);
+    sswapMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int Ldc) {
+    long start = System.nanoTime();
+    blas.dsymm(side, uplo, m, n, alpha, a, lda, b, ldb, beta, c, Ldc);
+    dsymmMeter.record(System.nanoTime() - start, isLeft(side) ? 2L * m * m * n : 2L * m * n * n);
+  }
+
+  public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc) {
+    long start = System.nanoTime();
+    blas.dsymm(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+    dsymmMeter.record(System.nanoTime() - start, isLeft(side) ? 2L * m * m * n : 2L * m * n * n);
+  }
+
+  public void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc) {
+    long start = System.nanoTime();
+    blas.ssymm(side, uplo, m, n, alpha, a, lda, b, ldb, beta, c, Ldc);
+    ssymmMeter.record(System.nanoTime() - start, isLeft(side) ? 2L * m * m * n : 2L * m * n * n);
+  }
+
+  public void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    long start = System.nanoTime();
+    blas.ssymm(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+    ssymmMeter.record(System.nanoTime() - start, isLeft(side) ? 2L * m * m * n : 2L * m * n * n);
+  }
+
+  public void dsymv(String uplo, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    long start = System.nanoTime();
+    blas.dsymv(uplo, n, alpha, a, lda, x, incx, beta, y, incy);
+    dsymvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dsymv(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.dsymv(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    dsymvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void ssymv(String uplo, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    long start = System.nanoTime();
+    blas.ssymv(uplo, n, alpha, a, lda, x, incx, beta, y, incy);
+    ssymvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void ssymv(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    long start = System.nanoTime();
+    blas.ssymv(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    ssymvMeter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dsyr(String uplo, int n, double alpha, double[] x, int incx, double[] a, int lda) {
+    long start = System.nanoTime();
+    blas.dsyr(uplo, n, alpha, x, incx, a, lda);
+    dsyrMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dsyr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    blas.dsyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    dsyrMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void ssyr(String uplo, int n, float alpha, float[] x, int incx, float[] a, int lda) {
+    long start = System.nanoTime();
+    blas.ssyr(uplo, n, alpha, x, incx, a, lda);
+    ssyrMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void ssyr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    blas.ssyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    ssyrMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dsyr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+    long start = System.nanoTime();
+    blas.dsyr2(uplo, n, alpha, x, incx, y, incy, a, lda);
+    dsyr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dsyr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    blas.dsyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    dsyr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void ssyr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
+    long start = System.nanoTime();
+    blas.ssyr2(uplo, n, alpha, x, incx, y, incy, a, lda);
+    ssyr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void ssyr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    blas.ssyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    ssyr2Meter.record(System.nanoTime() - start, 2L * n * n);
+  }
+
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int Ldc) {
+    long start = System.nanoTime();
+    blas.dsyr2k(uplo, trans, n, k, alpha, a, lda, b, ldb, beta, c, Ldc);
+    dsyr2kMeter.record(System.nanoTime() - start, 2L * k * n * n);
+  }
+
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc) {
+    long start = System.nanoTime();
+    blas.dsyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+    dsyr2kMeter.record(System.nanoTime() - start, 2L * k * n * n);
+  }
+
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc) {
+    long start = System.nanoTime();
+    blas.ssyr2k(uplo, trans, n, k, alpha, a, lda, b, ldb, beta, c, Ldc);
+    ssyr2kMeter.record(System.nanoTime() - start, 2L * k * n * n);
+  }
+
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    long start = System.nanoTime();
+    blas.ssyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+    ssyr2kMeter.record(System.nanoTime() - start, 2L * k * n * n);
+  }
+
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double beta, double[] c, int Ldc) {
+    long start = System.nanoTime();
+    blas.dsyrk(uplo, trans, n, k, alpha, a, lda, beta, c, Ldc);
+    dsyrkMeter.record(System.nanoTime() - start, (long) k * n * n);
+  }
+
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int Ldc) {
+    long start = System.nanoTime();
+    blas.dsyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, Ldc);
+    dsyrkMeter.record(System.nanoTime() - start, (long) k * n * n);
+  }
+
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float beta, float[] c, int Ldc) {
+    long start = System.nanoTime();
+    blas.ssyrk(uplo, trans, n, k, alpha, a, lda, beta, c, Ldc);
+    ssyrkMeter.record(System.nanoTime() - start, (long) k * n * n);
+  }
+
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int Ldc) {
+    long start = System.nanoTime();
+    blas.ssyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, Ldc);
+    ssyrkMeter.record(System.nanoTime() - start, (long) k * n * n);
+  }
+
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx) {
+    long start = System.nanoTime();
+    blas.dtbmv(uplo, trans, diag, n, k, a, lda, x, incx);
+    dtbmvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.dtbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    dtbmvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx) {
+    long start = System.nanoTime();
+    blas.stbmv(uplo, trans, diag, n, k, a, lda, x, incx);
+    stbmvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.stbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    stbmvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx) {
+    long start = System.nanoTime();
+    blas.dtbsv(uplo, trans, diag, n, k, a, lda, x, incx);
+    dtbsvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.dtbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    dtbsvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx) {
+    long start = System.nanoTime();
+    blas.stbsv(uplo, trans, diag, n, k, a, lda, x, incx);
+    stbsvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.stbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    stbsvMeter.record(System.nanoTime() - start, 2L * n * k + n);
+  }
+
+  public void dtpmv(String uplo, String trans, String diag, int n, double[] ap, double[] x, int incx) {
+    long start = System.nanoTime();
+    blas.dtpmv(uplo, trans, diag, n, ap, x, incx);
+    dtpmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dtpmv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.dtpmv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+    dtpmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void stpmv(String uplo, String trans, String diag, int n, float[] ap, float[] x, int incx) {
+    long start = System.nanoTime();
+    blas.stpmv(uplo, trans, diag, n, ap, x, incx);
+    stpmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void stpmv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.stpmv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+    stpmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dtpsv(String uplo, String trans, String diag, int n, double[] ap, double[] x, int incx) {
+    long start = System.nanoTime();
+    blas.dtpsv(uplo, trans, diag, n, ap, x, incx);
+    dtpsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dtpsv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.dtpsv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+    dtpsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void stpsv(String uplo, String trans, String diag, int n, float[] ap, float[] x, int incx) {
+    long start = System.nanoTime();
+    blas.stpsv(uplo, trans, diag, n, ap, x, incx);
+    stpsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void stpsv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.stpsv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+    stpsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb) {
+    long start = System.nanoTime();
+    blas.dtrmm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+    dtrmmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    blas.dtrmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    dtrmmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb) {
+    long start = System.nanoTime();
+    blas.strmm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+    strmmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    blas.strmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    strmmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void dtrmv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx) {
+    long start = System.nanoTime();
+    blas.dtrmv(uplo, trans, diag, n, a, lda, x, incx);
+    dtrmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dtrmv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.dtrmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    dtrmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void strmv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx) {
+    long start = System.nanoTime();
+    blas.strmv(uplo, trans, diag, n, a, lda, x, incx);
+    strmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void strmv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.strmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    strmvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb) {
+    long start = System.nanoTime();
+    blas.dtrsm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+    dtrsmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    blas.dtrsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    dtrsmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb) {
+    long start = System.nanoTime();
+    blas.strsm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+    strsmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    blas.strsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    strsmMeter.record(System.nanoTime() - start, isLeft(side) ? (long) m * m * n : (long) m * n * n);
+  }
+
+  public void dtrsv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx) {
+    long start = System.nanoTime();
+    blas.dtrsv(uplo, trans, diag, n, a, lda, x, incx);
+    dtrsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void dtrsv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.dtrsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    dtrsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void strsv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx) {
+    long start = System.nanoTime();
+    blas.strsv(uplo, trans, diag, n, a, lda, x, incx);
+    strsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public void strsv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    blas.strsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    strsvMeter.record(System.nanoTime() - start, (long) n * n);
+  }
+
+  public int idamax(int n, double[] x, int incx) {
+    long start = System.nanoTime();
+    int result = blas.idamax(n, x, incx);
+    idamaxMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public int idamax(int n, double[] x, int offsetx, int incx) {
+    long start = System.nanoTime();
+    int result = blas.idamax(n, x, offsetx, incx);
+    idamaxMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public int isamax(int n, float[] sx, int incx) {
+    long start = System.nanoTime();
+    int result = blas.isamax(n, sx, incx);
+    isamaxMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public int isamax(int n, float[] sx, int offsetsx, int incx) {
+    long start = System.nanoTime();
+    int result = blas.isamax(n, sx, offsetsx, incx);
+    isamaxMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public boolean lsame(String ca, String cb) {
+    long start = System.nanoTime();
+    boolean result = blas.lsame(ca, cb);
+    lsameMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+}
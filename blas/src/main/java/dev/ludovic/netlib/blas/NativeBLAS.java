@@ -30,4 +30,16 @@ public interface NativeBLAS extends BLAS {
   public static NativeBLAS getInstance() {
     return InstanceBuilder.nativeBlas();
   }
+
+  // Number of threads used by the native library, for the libraries exposing it (Intel MKL, OpenBLAS,
+  // and BLIS), or -1 otherwise
+  public default int getNumThreads() {
+    return -1;
+  }
+
+  // Sets the number of threads of the native library, if it exposes it, and does nothing otherwise. The
+  // setting applies to the whole process, not only to the calling thread, and is shared with any other user
+  // of the same library.
+  public default void setNumThreads(int n) {
+  }
 }
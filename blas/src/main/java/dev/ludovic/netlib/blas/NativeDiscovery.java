@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+// Picks the native library to back JNIBLAS when dev.ludovic.netlib.blas.discovery is set. Each candidate
+// is loaded in isolation and runs a short dgemm and ddot; the one with the fastest dgemm wins, with ties
+// going to the earliest in the list. The decision is cached under dev.ludovic.netlib.cacheDir so that
+// subsequent runs only pay for loading the chosen library. Delete blas-discovery.properties from that
+// directory to probe again, for example after installing a new library. The candidates probed stay
+// loaded, as unloading a library which started its own threads isn't safe.
+//
+// LAPACK and ARPACK don't probe on their own: liblapack.so.3 and libarpack.so.2 do their heavy lifting in
+// the BLAS, and once the library picked here is loaded with RTLD_GLOBAL, it's the one their BLAS calls bind
+// to if JNIBLAS is initialized first.
+final class NativeDiscovery {
+
+  private static final Logger log = Logger.getLogger(NativeDiscovery.class.getName());
+
+  private static final String DEFAULT_CANDIDATES =
+    "libopenblas.so.0,libmkl_rt.so.2,libmkl_rt.so,libblis.so.4,libblis.so.3,libblas.so.3";
+
+  private static final String CACHE_FILE = "blas-discovery.properties";
+
+  private NativeDiscovery() {}
+
+  public static void discover() {
+    // An explicitly configured library always takes precedence over probing
+    String configured = System.getProperty("dev.ludovic.netlib.blas.nativeLibPath",
+                          System.getProperty("dev.ludovic.netlib.blas.nativeLib"));
+    if (configured != null) {
+      if (!JNIBLAS.load(configured)) {
+        throw new RuntimeException("Unable to load native implementation");
+      }
+      return;
+    }
+
+    String candidates = System.getProperty("dev.ludovic.netlib.blas.discoveryCandidates", DEFAULT_CANDIDATES);
+    // The decision depends on the candidates as much as on the machine it was taken on
+    String key = candidates + ";" + System.getProperty("os.arch") + ";" + Runtime.getRuntime().availableProcessors();
+
+    Path cacheDir = NativeLoader.cacheDirectory();
+    Properties cached = cacheDir == null ? null : readCache(cacheDir.resolve(CACHE_FILE));
+    if (cached != null && key.equals(cached.getProperty("key"))) {
+      String library = cached.getProperty("library");
+      if (library != null && JNIBLAS.load(library)) {
+        log.info(String.format("Using %s (dgemm %s GFLOP/s, ddot %s GFLOP/s, cached)",
+          library, cached.getProperty("dgemm"), cached.getProperty("ddot")));
+        return;
+      }
+    }
+
+    String best = null;
+    double[] bestResult = null;
+    for (String candidate : candidates.split(",")) {
+      candidate = candidate.trim();
+      if (candidate.isEmpty()) {
+        continue;
+      }
+      double[] result = JNIBLAS.probe(candidate);
+      if (result == null) {
+        log.fine("Skipping " + candidate + ": unable to load or failed the probe");
+        continue;
+      }
+      log.fine(String.format("Probed %s: dgemm %.2f GFLOP/s, ddot %.2f GFLOP/s", candidate, result[0], result[1]));
+      if (bestResult == null || result[0] > bestResult[0]) {
+        best = candidate;
+        bestResult = result;
+      }
+    }
+    if (best == null || !JNIBLAS.load(best)) {
+      throw new RuntimeException("Unable to load native implementation");
+    }
+
+    String dgemm = String.format("%.2f", bestResult[0]);
+    String ddot = String.format("%.2f", bestResult[1]);
+    log.info(String.format("Using %s (dgemm %s GFLOP/s, ddot %s GFLOP/s)", best, dgemm, ddot));
+
+    if (cacheDir != null) {
+      Properties decision = new Properties();
+      decision.setProperty("key", key);
+      decision.setProperty("library", best);
+      decision.setProperty("dgemm", dgemm);
+      decision.setProperty("ddot", ddot);
+      try {
+        writeCache(cacheDir, decision);
+      } catch (IOException | RuntimeException e) {
+        log.fine("Failed to cache discovery decision to " + cacheDir + ": " + e);
+      }
+    }
+  }
+
+  private static Properties readCache(Path file) {
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    Properties properties = new Properties();
+    try (InputStream is = Files.newInputStream(file)) {
+      properties.load(is);
+    } catch (IOException | IllegalArgumentException e) {
+      log.fine("Failed to read discovery decision from " + file + ": " + e);
+      return null;
+    }
+    return properties;
+  }
+
+  private static void writeCache(Path cacheDir, Properties decision) throws IOException {
+    // Same as for the extracted JNI wrapper, concurrent JVMs must never observe a partially written file
+    Files.createDirectories(cacheDir);
+    Path temp = Files.createTempFile(cacheDir, CACHE_FILE, ".tmp");
+    try {
+      try (OutputStream os = Files.newOutputStream(temp)) {
+        decision.store(os, "netlib native library discovery");
+      }
+      try {
+        Files.move(temp, cacheDir.resolve(CACHE_FILE), StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, cacheDir.resolve(CACHE_FILE), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
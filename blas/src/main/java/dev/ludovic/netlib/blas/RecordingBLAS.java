@@ -0,0 +1,1017 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+// Wraps another implementation to record the shape of every call, or one in
+// dev.ludovic.netlib.blas.shapes.sampling, into ShapeRecorder. Calls without offsets are recorded as if
+// made with offsets of 0, and routines without array arguments aren't recorded.
+class RecordingBLAS implements BLAS {
+
+  private final BLAS blas;
+
+  RecordingBLAS(BLAS blas) {
+    this.blas = blas;
+  }
+
+  BLAS delegate() {
+    return blas;
+  }
+
+  static final class Native extends RecordingBLAS implements NativeBLAS {
+
+    private final NativeBLAS blas;
+
+    Native(NativeBLAS blas) {
+      super(blas);
+      this.blas = blas;
+    }
+
+    public int getNumThreads() {
+      return blas.getNumThreads();
+    }
+
+    public void setNumThreads(int n) {
+      blas.setNumThreads(n);
+    }
+  }
+
+  static final class Java extends RecordingBLAS implements JavaBLAS {
+
+    Java(JavaBLAS blas) {
+      super(blas);
+    }
+  }
+
+  public double dasum(int n, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dasum").add(n).add(x).add(0).add(incx).record();
+    }
+    return blas.dasum(n, x, incx);
+  }
+
+  public double dasum(int n, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dasum").add(n).add(x).add(offsetx).add(incx).record();
+    }
+    return blas.dasum(n, x, offsetx, incx);
+  }
+
+  public float sasum(int n, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sasum").add(n).add(x).add(0).add(incx).record();
+    }
+    return blas.sasum(n, x, incx);
+  }
+
+  public float sasum(int n, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sasum").add(n).add(x).add(offsetx).add(incx).record();
+    }
+    return blas.sasum(n, x, offsetx, incx);
+  }
+
+  public void daxpy(int n, double alpha, double[] x, int incx, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("daxpy").add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    blas.daxpy(n, alpha, x, incx, y, incy);
+  }
+
+  public void daxpy(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("daxpy").add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    blas.daxpy(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public void saxpy(int n, float alpha, float[] x, int incx, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("saxpy").add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    blas.saxpy(n, alpha, x, incx, y, incy);
+  }
+
+  public void saxpy(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("saxpy").add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    blas.saxpy(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public void dcopy(int n, double[] x, int incx, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dcopy").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    blas.dcopy(n, x, incx, y, incy);
+  }
+
+  public void dcopy(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dcopy").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    blas.dcopy(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public void scopy(int n, float[] x, int incx, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("scopy").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    blas.scopy(n, x, incx, y, incy);
+  }
+
+  public void scopy(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("scopy").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    blas.scopy(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public double ddot(int n, double[] x, int incx, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ddot").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    return blas.ddot(n, x, incx, y, incy);
+  }
+
+  public double ddot(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ddot").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    return blas.ddot(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public float sdot(int n, float[] x, int incx, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sdot").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    return blas.sdot(n, x, incx, y, incy);
+  }
+
+  public float sdot(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sdot").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    return blas.sdot(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public float sdsdot(int n, float sb, float[] sx, int incx, float[] sy, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sdsdot").add(n).add(sb).add(sx).add(0).add(incx).add(sy).add(0).add(incy).record();
+    }
+    return blas.sdsdot(n, sb, sx, incx, sy, incy);
+  }
+
+  public float sdsdot(int n, float sb, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sdsdot").add(n).add(sb).add(sx).add(offsetsx).add(incx).add(sy).add(offsetsy).add(incy).record();
+    }
+    return blas.sdsdot(n, sb, sx, offsetsx, incx, sy, offsetsy, incy);
+  }
+
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbmv").add(trans).add(m).add(n).add(kl).add(ku).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.dgbmv(trans, m, n, kl, ku, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbmv").add(trans).add(m).add(n).add(kl).add(ku).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.dgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbmv").add(trans).add(m).add(n).add(kl).add(ku).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.sgbmv(trans, m, n, kl, ku, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbmv").add(trans).add(m).add(n).add(kl).add(ku).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.sgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgemm").add(transa).add(transb).add(m).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(beta).add(c).add(0).add(ldc).record();
+    }
+    blas.dgemm(transa, transb, m, n, k, alpha, a, lda, b, ldb, beta, c, ldc);
+  }
+
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgemm").add(transa).add(transb).add(m).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(beta).add(c).add(offsetc).add(ldc).record();
+    }
+    blas.dgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgemm").add(transa).add(transb).add(m).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(beta).add(c).add(0).add(Ldc).record();
+    }
+    blas.sgemm(transa, transb, m, n, k, alpha, a, lda, b, ldb, beta, c, Ldc);
+  }
+
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgemm").add(transa).add(transb).add(m).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(beta).add(c).add(offsetc).add(Ldc).record();
+    }
+    blas.sgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public void dgemv(String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgemv").add(trans).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.dgemv(trans, m, n, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void dgemv(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgemv").add(trans).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.dgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void sgemv(String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgemv").add(trans).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.sgemv(trans, m, n, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void sgemv(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgemv").add(trans).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.sgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void dger(int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dger").add(m).add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).add(a).add(0).add(lda).record();
+    }
+    blas.dger(m, n, alpha, x, incx, y, incy, a, lda);
+  }
+
+  public void dger(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dger").add(m).add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(a).add(offseta).add(lda).record();
+    }
+    blas.dger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public void sger(int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sger").add(m).add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).add(a).add(0).add(lda).record();
+    }
+    blas.sger(m, n, alpha, x, incx, y, incy, a, lda);
+  }
+
+  public void sger(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sger").add(m).add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(a).add(offseta).add(lda).record();
+    }
+    blas.sger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public double dnrm2(int n, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dnrm2").add(n).add(x).add(0).add(incx).record();
+    }
+    return blas.dnrm2(n, x, incx);
+  }
+
+  public double dnrm2(int n, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dnrm2").add(n).add(x).add(offsetx).add(incx).record();
+    }
+    return blas.dnrm2(n, x, offsetx, incx);
+  }
+
+  public float snrm2(int n, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("snrm2").add(n).add(x).add(0).add(incx).record();
+    }
+    return blas.snrm2(n, x, incx);
+  }
+
+  public float snrm2(int n, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("snrm2").add(n).add(x).add(offsetx).add(incx).record();
+    }
+    return blas.snrm2(n, x, offsetx, incx);
+  }
+
+  public void drot(int n, double[] dx, int incx, double[] dy, int incy, double c, double s) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drot").add(n).add(dx).add(0).add(incx).add(dy).add(0).add(incy).add(c).add(s).record();
+    }
+    blas.drot(n, dx, incx, dy, incy, c, s);
+  }
+
+  public void drot(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drot").add(n).add(dx).add(offsetdx).add(incx).add(dy).add(offsetdy).add(incy).add(c).add(s).record();
+    }
+    blas.drot(n, dx, offsetdx, incx, dy, offsetdy, incy, c, s);
+  }
+
+  public void srot(int n, float[] sx, int incx, float[] sy, int incy, float c, float s) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srot").add(n).add(sx).add(0).add(incx).add(sy).add(0).add(incy).add(c).add(s).record();
+    }
+    blas.srot(n, sx, incx, sy, incy, c, s);
+  }
+
+  public void srot(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float c, float s) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srot").add(n).add(sx).add(offsetsx).add(incx).add(sy).add(offsetsy).add(incy).add(c).add(s).record();
+    }
+    blas.srot(n, sx, offsetsx, incx, sy, offsetsy, incy, c, s);
+  }
+
+  public void drotg(org.netlib.util.doubleW da, org.netlib.util.doubleW db, org.netlib.util.doubleW c, org.netlib.util.doubleW s) {
+    blas.drotg(da, db, c, s);
+  }
+
+  public void srotg(org.netlib.util.floatW sa, org.netlib.util.floatW sb, org.netlib.util.floatW c, org.netlib.util.floatW s) {
+    blas.srotg(sa, sb, c, s);
+  }
+
+  public void drotm(int n, double[] dx, int incx, double[] dy, int incy, double[] dparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drotm").add(n).add(dx).add(0).add(incx).add(dy).add(0).add(incy).add(dparam).add(0).record();
+    }
+    blas.drotm(n, dx, incx, dy, incy, dparam);
+  }
+
+  public void drotm(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double[] dparam, int offsetdparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drotm").add(n).add(dx).add(offsetdx).add(incx).add(dy).add(offsetdy).add(incy).add(dparam).add(offsetdparam).record();
+    }
+    blas.drotm(n, dx, offsetdx, incx, dy, offsetdy, incy, dparam, offsetdparam);
+  }
+
+  public void srotm(int n, float[] sx, int incx, float[] sy, int incy, float[] sparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srotm").add(n).add(sx).add(0).add(incx).add(sy).add(0).add(incy).add(sparam).add(0).record();
+    }
+    blas.srotm(n, sx, incx, sy, incy, sparam);
+  }
+
+  public void srotm(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float[] sparam, int offsetsparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srotm").add(n).add(sx).add(offsetsx).add(incx).add(sy).add(offsetsy).add(incy).add(sparam).add(offsetsparam).record();
+    }
+    blas.srotm(n, sx, offsetsx, incx, sy, offsetsy, incy, sparam, offsetsparam);
+  }
+
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drotmg").add(dd1).add(dd2).add(dx1).add(dy1).add(dparam).add(0).record();
+    }
+    blas.drotmg(dd1, dd2, dx1, dy1, dparam);
+  }
+
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam, int offsetdparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drotmg").add(dd1).add(dd2).add(dx1).add(dy1).add(dparam).add(offsetdparam).record();
+    }
+    blas.drotmg(dd1, dd2, dx1, dy1, dparam, offsetdparam);
+  }
+
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srotmg").add(sd1).add(sd2).add(sx1).add(sy1).add(sparam).add(0).record();
+    }
+    blas.srotmg(sd1, sd2, sx1, sy1, sparam);
+  }
+
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam, int offsetsparam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srotmg").add(sd1).add(sd2).add(sx1).add(sy1).add(sparam).add(offsetsparam).record();
+    }
+    blas.srotmg(sd1, sd2, sx1, sy1, sparam, offsetsparam);
+  }
+
+  public void dsbmv(String uplo, int n, int k, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbmv").add(uplo).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.dsbmv(uplo, n, k, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void dsbmv(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbmv").add(uplo).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.dsbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void ssbmv(String uplo, int n, int k, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbmv").add(uplo).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.ssbmv(uplo, n, k, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void ssbmv(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbmv").add(uplo).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.ssbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void dscal(int n, double alpha, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dscal").add(n).add(alpha).add(x).add(0).add(incx).record();
+    }
+    blas.dscal(n, alpha, x, incx);
+  }
+
+  public void dscal(int n, double alpha, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dscal").add(n).add(alpha).add(x).add(offsetx).add(incx).record();
+    }
+    blas.dscal(n, alpha, x, offsetx, incx);
+  }
+
+  public void sscal(int n, float alpha, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sscal").add(n).add(alpha).add(x).add(0).add(incx).record();
+    }
+    blas.sscal(n, alpha, x, incx);
+  }
+
+  public void sscal(int n, float alpha, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sscal").add(n).add(alpha).add(x).add(offsetx).add(incx).record();
+    }
+    blas.sscal(n, alpha, x, offsetx, incx);
+  }
+
+  public void dspmv(String uplo, int n, double alpha, double[] a, double[] x, int incx, double beta, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspmv").add(uplo).add(n).add(alpha).add(a).add(0).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.dspmv(uplo, n, alpha, a, x, incx, beta, y, incy);
+  }
+
+  public void dspmv(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspmv").add(uplo).add(n).add(alpha).add(a).add(offseta).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.dspmv(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void sspmv(String uplo, int n, float alpha, float[] ap, float[] x, int incx, float beta, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspmv").add(uplo).add(n).add(alpha).add(ap).add(0).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.sspmv(uplo, n, alpha, ap, x, incx, beta, y, incy);
+  }
+
+  public void sspmv(String uplo, int n, float alpha, float[] ap, int offsetap, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspmv").add(uplo).add(n).add(alpha).add(ap).add(offsetap).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.sspmv(uplo, n, alpha, ap, offsetap, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void dspr(String uplo, int n, double alpha, double[] x, int incx, double[] a) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspr").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(a).add(0).record();
+    }
+    blas.dspr(uplo, n, alpha, x, incx, a);
+  }
+
+  public void dspr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspr").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(a).add(offseta).record();
+    }
+    blas.dspr(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  public void sspr(String uplo, int n, float alpha, float[] x, int incx, float[] ap) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspr").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(ap).add(0).record();
+    }
+    blas.sspr(uplo, n, alpha, x, incx, ap);
+  }
+
+  public void sspr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] ap, int offsetap) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspr").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(ap).add(offsetap).record();
+    }
+    blas.sspr(uplo, n, alpha, x, offsetx, incx, ap, offsetap);
+  }
+
+  public void dspr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] ap) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspr2").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).add(ap).add(0).record();
+    }
+    blas.dspr2(uplo, n, alpha, x, incx, y, incy, ap);
+  }
+
+  public void dspr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] ap, int offsetap) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspr2").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(ap).add(offsetap).record();
+    }
+    blas.dspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, ap, offsetap);
+  }
+
+  public void sspr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] ap) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspr2").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).add(ap).add(0).record();
+    }
+    blas.sspr2(uplo, n, alpha, x, incx, y, incy, ap);
+  }
+
+  public void sspr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] ap, int offsetap) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspr2").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(ap).add(offsetap).record();
+    }
+    blas.sspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, ap, offsetap);
+  }
+
+  public void dswap(int n, double[] x, int incx, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dswap").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    blas.dswap(n, x, incx, y, incy);
+  }
+
+  public void dswap(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dswap").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    blas.dswap(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public void sswap(int n, float[] x, int incx, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sswap").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).record();
+    }
+    blas.sswap(n, x, incx, y, incy);
+  }
+
+  public void sswap(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sswap").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).record();
+    }
+    blas.sswap(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsymm").add(side).add(uplo).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(beta).add(c).add(0).add(Ldc).record();
+    }
+    blas.dsymm(side, uplo, m, n, alpha, a, lda, b, ldb, beta, c, Ldc);
+  }
+
+  public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsymm").add(side).add(uplo).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(beta).add(c).add(offsetc).add(Ldc).record();
+    }
+    blas.dsymm(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssymm").add(side).add(uplo).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(beta).add(c).add(0).add(Ldc).record();
+    }
+    blas.ssymm(side, uplo, m, n, alpha, a, lda, b, ldb, beta, c, Ldc);
+  }
+
+  public void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssymm").add(side).add(uplo).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(beta).add(c).add(offsetc).add(Ldc).record();
+    }
+    blas.ssymm(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public void dsymv(String uplo, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsymv").add(uplo).add(n).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.dsymv(uplo, n, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void dsymv(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsymv").add(uplo).add(n).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.dsymv(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void ssymv(String uplo, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssymv").add(uplo).add(n).add(alpha).add(a).add(0).add(lda).add(x).add(0).add(incx).add(beta).add(y).add(0).add(incy).record();
+    }
+    blas.ssymv(uplo, n, alpha, a, lda, x, incx, beta, y, incy);
+  }
+
+  public void ssymv(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssymv").add(uplo).add(n).add(alpha).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).add(beta).add(y).add(offsety).add(incy).record();
+    }
+    blas.ssymv(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void dsyr(String uplo, int n, double alpha, double[] x, int incx, double[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyr").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(a).add(0).add(lda).record();
+    }
+    blas.dsyr(uplo, n, alpha, x, incx, a, lda);
+  }
+
+  public void dsyr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyr").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(a).add(offseta).add(lda).record();
+    }
+    blas.dsyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  public void ssyr(String uplo, int n, float alpha, float[] x, int incx, float[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyr").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(a).add(0).add(lda).record();
+    }
+    blas.ssyr(uplo, n, alpha, x, incx, a, lda);
+  }
+
+  public void ssyr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyr").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(a).add(offseta).add(lda).record();
+    }
+    blas.ssyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  public void dsyr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyr2").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).add(a).add(0).add(lda).record();
+    }
+    blas.dsyr2(uplo, n, alpha, x, incx, y, incy, a, lda);
+  }
+
+  public void dsyr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyr2").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(a).add(offseta).add(lda).record();
+    }
+    blas.dsyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public void ssyr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyr2").add(uplo).add(n).add(alpha).add(x).add(0).add(incx).add(y).add(0).add(incy).add(a).add(0).add(lda).record();
+    }
+    blas.ssyr2(uplo, n, alpha, x, incx, y, incy, a, lda);
+  }
+
+  public void ssyr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyr2").add(uplo).add(n).add(alpha).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(a).add(offseta).add(lda).record();
+    }
+    blas.ssyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyr2k").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(beta).add(c).add(0).add(Ldc).record();
+    }
+    blas.dsyr2k(uplo, trans, n, k, alpha, a, lda, b, ldb, beta, c, Ldc);
+  }
+
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyr2k").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(beta).add(c).add(offsetc).add(Ldc).record();
+    }
+    blas.dsyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyr2k").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(beta).add(c).add(0).add(Ldc).record();
+    }
+    blas.ssyr2k(uplo, trans, n, k, alpha, a, lda, b, ldb, beta, c, Ldc);
+  }
+
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyr2k").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(beta).add(c).add(offsetc).add(Ldc).record();
+    }
+    blas.ssyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double beta, double[] c, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyrk").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(beta).add(c).add(0).add(Ldc).record();
+    }
+    blas.dsyrk(uplo, trans, n, k, alpha, a, lda, beta, c, Ldc);
+  }
+
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyrk").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(beta).add(c).add(offsetc).add(Ldc).record();
+    }
+    blas.dsyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, Ldc);
+  }
+
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float beta, float[] c, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyrk").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(0).add(lda).add(beta).add(c).add(0).add(Ldc).record();
+    }
+    blas.ssyrk(uplo, trans, n, k, alpha, a, lda, beta, c, Ldc);
+  }
+
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int Ldc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyrk").add(uplo).add(trans).add(n).add(k).add(alpha).add(a).add(offseta).add(lda).add(beta).add(c).add(offsetc).add(Ldc).record();
+    }
+    blas.ssyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, Ldc);
+  }
+
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbmv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.dtbmv(uplo, trans, diag, n, k, a, lda, x, incx);
+  }
+
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbmv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.dtbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbmv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.stbmv(uplo, trans, diag, n, k, a, lda, x, incx);
+  }
+
+  public void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbmv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.stbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbsv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.dtbsv(uplo, trans, diag, n, k, a, lda, x, incx);
+  }
+
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbsv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.dtbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbsv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.stbsv(uplo, trans, diag, n, k, a, lda, x, incx);
+  }
+
+  public void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbsv").add(uplo).add(trans).add(diag).add(n).add(k).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.stbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public void dtpmv(String uplo, String trans, String diag, int n, double[] ap, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtpmv").add(uplo).add(trans).add(diag).add(n).add(ap).add(0).add(x).add(0).add(incx).record();
+    }
+    blas.dtpmv(uplo, trans, diag, n, ap, x, incx);
+  }
+
+  public void dtpmv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtpmv").add(uplo).add(trans).add(diag).add(n).add(ap).add(offsetap).add(x).add(offsetx).add(incx).record();
+    }
+    blas.dtpmv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public void stpmv(String uplo, String trans, String diag, int n, float[] ap, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stpmv").add(uplo).add(trans).add(diag).add(n).add(ap).add(0).add(x).add(0).add(incx).record();
+    }
+    blas.stpmv(uplo, trans, diag, n, ap, x, incx);
+  }
+
+  public void stpmv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stpmv").add(uplo).add(trans).add(diag).add(n).add(ap).add(offsetap).add(x).add(offsetx).add(incx).record();
+    }
+    blas.stpmv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public void dtpsv(String uplo, String trans, String diag, int n, double[] ap, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtpsv").add(uplo).add(trans).add(diag).add(n).add(ap).add(0).add(x).add(0).add(incx).record();
+    }
+    blas.dtpsv(uplo, trans, diag, n, ap, x, incx);
+  }
+
+  public void dtpsv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtpsv").add(uplo).add(trans).add(diag).add(n).add(ap).add(offsetap).add(x).add(offsetx).add(incx).record();
+    }
+    blas.dtpsv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public void stpsv(String uplo, String trans, String diag, int n, float[] ap, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stpsv").add(uplo).add(trans).add(diag).add(n).add(ap).add(0).add(x).add(0).add(incx).record();
+    }
+    blas.stpsv(uplo, trans, diag, n, ap, x, incx);
+  }
+
+  public void stpsv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stpsv").add(uplo).add(trans).add(diag).add(n).add(ap).add(offsetap).add(x).add(offsetx).add(incx).record();
+    }
+    blas.stpsv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrmm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).record();
+    }
+    blas.dtrmm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+  }
+
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrmm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).record();
+    }
+    blas.dtrmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strmm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).record();
+    }
+    blas.strmm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+  }
+
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strmm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).record();
+    }
+    blas.strmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public void dtrmv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrmv").add(uplo).add(trans).add(diag).add(n).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.dtrmv(uplo, trans, diag, n, a, lda, x, incx);
+  }
+
+  public void dtrmv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrmv").add(uplo).add(trans).add(diag).add(n).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.dtrmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public void strmv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strmv").add(uplo).add(trans).add(diag).add(n).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.strmv(uplo, trans, diag, n, a, lda, x, incx);
+  }
+
+  public void strmv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strmv").add(uplo).add(trans).add(diag).add(n).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.strmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).record();
+    }
+    blas.dtrsm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+  }
+
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).record();
+    }
+    blas.dtrsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(0).add(lda).add(b).add(0).add(ldb).record();
+    }
+    blas.strsm(side, uplo, transa, diag, m, n, alpha, a, lda, b, ldb);
+  }
+
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsm").add(side).add(uplo).add(transa).add(diag).add(m).add(n).add(alpha).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).record();
+    }
+    blas.strsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public void dtrsv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsv").add(uplo).add(trans).add(diag).add(n).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.dtrsv(uplo, trans, diag, n, a, lda, x, incx);
+  }
+
+  public void dtrsv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsv").add(uplo).add(trans).add(diag).add(n).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.dtrsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public void strsv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsv").add(uplo).add(trans).add(diag).add(n).add(a).add(0).add(lda).add(x).add(0).add(incx).record();
+    }
+    blas.strsv(uplo, trans, diag, n, a, lda, x, incx);
+  }
+
+  public void strsv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsv").add(uplo).add(trans).add(diag).add(n).add(a).add(offseta).add(lda).add(x).add(offsetx).add(incx).record();
+    }
+    blas.strsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public int idamax(int n, double[] x, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("idamax").add(n).add(x).add(0).add(incx).record();
+    }
+    return blas.idamax(n, x, incx);
+  }
+
+  public int idamax(int n, double[] x, int offsetx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("idamax").add(n).add(x).add(offsetx).add(incx).record();
+    }
+    return blas.idamax(n, x, offsetx, incx);
+  }
+
+  public int isamax(int n, float[] sx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("isamax").add(n).add(sx).add(0).add(incx).record();
+    }
+    return blas.isamax(n, sx, incx);
+  }
+
+  public int isamax(int n, float[] sx, int offsetsx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("isamax").add(n).add(sx).add(offsetsx).add(incx).record();
+    }
+    return blas.isamax(n, sx, offsetsx, incx);
+  }
+
+  public boolean lsame(String ca, String cb) {
+    return blas.lsame(ca, cb);
+  }
+}
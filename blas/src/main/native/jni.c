@@ -23,9 +23,14 @@
  * information or have any questions.
  */
 
+#define _GNU_SOURCE
+
 #include <stdlib.h>
 #include <string.h>
 #include <dlfcn.h>
+#include <link.h>
+#include <stdint.h>
+#include <time.h>
 
 #include "dev_ludovic_netlib_blas_JNIBLAS.h"
 
@@ -40,21 +45,224 @@ static jfieldID floatW_val_fieldID;
 static jfieldID doubleW_val_fieldID;
 static jfieldID StringW_val_fieldID;
 
+static jboolean load_symbol(void **symbol, const char *name) {
+  void *address = dlsym(NULL, name);
+  if (!address) {
+    return FALSE;
+  }
+  __atomic_store_n(symbol, address, __ATOMIC_RELEASE);
+  return TRUE;
+}
+
+/* Symbols are resolved on first use rather than in JNI_OnLoad, as applications usually only call a
+ * handful of the routines. Concurrent first calls may both resolve the symbol, which is harmless. */
+#define LOAD_SYMBOL(name) \
+  (__atomic_load_n(&name, __ATOMIC_ACQUIRE) || load_symbol((void**)&name, #name))
+
+/* Built with -DNETLIB_JNI_PROFILE, every call accumulates the time spent converting the scalar, string and
+ * output arguments (marshal), getting and releasing the arrays, including the copies when the GC can't pin
+ * them (pin), and in the native routine itself (compute). The timers cost tens of nanoseconds per call, so
+ * they're compiled out by default. */
+#ifdef NETLIB_JNI_PROFILE
+#include <time.h>
+
+typedef struct {
+  const char *name;
+  jlong calls;
+  jlong marshal;
+  jlong pin;
+  jlong compute;
+} profile_t;
+
+static profile_t profiles[] = {
+  { "dasum", 0, 0, 0, 0 },
+  { "sasum", 0, 0, 0, 0 },
+  { "daxpy", 0, 0, 0, 0 },
+  { "saxpy", 0, 0, 0, 0 },
+  { "dcopy", 0, 0, 0, 0 },
+  { "scopy", 0, 0, 0, 0 },
+  { "ddot", 0, 0, 0, 0 },
+  { "sdot", 0, 0, 0, 0 },
+  { "sdsdot", 0, 0, 0, 0 },
+  { "dgbmv", 0, 0, 0, 0 },
+  { "sgbmv", 0, 0, 0, 0 },
+  { "dgemm", 0, 0, 0, 0 },
+  { "sgemm", 0, 0, 0, 0 },
+  { "dgemv", 0, 0, 0, 0 },
+  { "sgemv", 0, 0, 0, 0 },
+  { "dger", 0, 0, 0, 0 },
+  { "sger", 0, 0, 0, 0 },
+  { "dnrm2", 0, 0, 0, 0 },
+  { "snrm2", 0, 0, 0, 0 },
+  { "drot", 0, 0, 0, 0 },
+  { "srot", 0, 0, 0, 0 },
+  { "drotm", 0, 0, 0, 0 },
+  { "srotm", 0, 0, 0, 0 },
+  { "drotmg", 0, 0, 0, 0 },
+  { "srotmg", 0, 0, 0, 0 },
+  { "dsbmv", 0, 0, 0, 0 },
+  { "ssbmv", 0, 0, 0, 0 },
+  { "dscal", 0, 0, 0, 0 },
+  { "sscal", 0, 0, 0, 0 },
+  { "dspmv", 0, 0, 0, 0 },
+  { "sspmv", 0, 0, 0, 0 },
+  { "dspr", 0, 0, 0, 0 },
+  { "sspr", 0, 0, 0, 0 },
+  { "dspr2", 0, 0, 0, 0 },
+  { "sspr2", 0, 0, 0, 0 },
+  { "dswap", 0, 0, 0, 0 },
+  { "sswap", 0, 0, 0, 0 },
+  { "dsymm", 0, 0, 0, 0 },
+  { "ssymm", 0, 0, 0, 0 },
+  { "dsymv", 0, 0, 0, 0 },
+  { "ssymv", 0, 0, 0, 0 },
+  { "dsyr", 0, 0, 0, 0 },
+  { "ssyr", 0, 0, 0, 0 },
+  { "dsyr2", 0, 0, 0, 0 },
+  { "ssyr2", 0, 0, 0, 0 },
+  { "dsyr2k", 0, 0, 0, 0 },
+  { "ssyr2k", 0, 0, 0, 0 },
+  { "dsyrk", 0, 0, 0, 0 },
+  { "ssyrk", 0, 0, 0, 0 },
+  { "dtbmv", 0, 0, 0, 0 },
+  { "stbmv", 0, 0, 0, 0 },
+  { "dtbsv", 0, 0, 0, 0 },
+  { "stbsv", 0, 0, 0, 0 },
+  { "dtpmv", 0, 0, 0, 0 },
+  { "stpmv", 0, 0, 0, 0 },
+  { "dtpsv", 0, 0, 0, 0 },
+  { "stpsv", 0, 0, 0, 0 },
+  { "dtrmm", 0, 0, 0, 0 },
+  { "strmm", 0, 0, 0, 0 },
+  { "dtrmv", 0, 0, 0, 0 },
+  { "strmv", 0, 0, 0, 0 },
+  { "dtrsm", 0, 0, 0, 0 },
+  { "strsm", 0, 0, 0, 0 },
+  { "dtrsv", 0, 0, 0, 0 },
+  { "strsv", 0, 0, 0, 0 },
+  { "idamax", 0, 0, 0, 0 },
+  { "isamax", 0, 0, 0, 0 },
+};
+
+static jlong profile_now(void) {
+  struct timespec ts;
+  clock_gettime(CLOCK_MONOTONIC, &ts);
+  return (jlong)ts.tv_sec * 1000000000 + ts.tv_nsec;
+}
+
+static void profile_record(int routine, jlong t0, jlong t1, jlong t2, jlong t3, jlong t4, jlong t5) {
+  __atomic_add_fetch(&profiles[routine].calls, 1, __ATOMIC_RELAXED);
+  __atomic_add_fetch(&profiles[routine].marshal, (t1 - t0) + (t5 - t4), __ATOMIC_RELAXED);
+  __atomic_add_fetch(&profiles[routine].pin, (t2 - t1) + (t4 - t3), __ATOMIC_RELAXED);
+  __atomic_add_fetch(&profiles[routine].compute, t3 - t2, __ATOMIC_RELAXED);
+}
+
+#define PROFILE_DECLARE jlong __t0 = profile_now(), __t1 = 0, __t2 = 0, __t3 = 0, __t4 = 0
+#define PROFILE_TICK(t) (t = profile_now())
+#define PROFILE_RECORD(routine) \
+  do { if (!__failed) profile_record(routine, __t0, __t1, __t2, __t3, __t4, profile_now()); } while (0)
+#else
+#define PROFILE_DECLARE do { } while (0)
+#define PROFILE_TICK(t) do { } while (0)
+#define PROFILE_RECORD(routine) do { } while (0)
+#endif
+
+/* Calls, marshal, pin and compute nanoseconds accumulated for the routine, or NULL if the probes aren't built in */
+jlongArray Java_dev_ludovic_netlib_blas_JNIBLAS_profile(UNUSED JNIEnv *env, UNUSED jclass clazz, UNUSED jstring routine) {
+#ifdef NETLIB_JNI_PROFILE
+  const char *name = (*env)->GetStringUTFChars(env, routine, NULL);
+  if (!name) {
+    return NULL;
+  }
+  jlongArray res = NULL;
+  for (size_t i = 0; i < sizeof(profiles) / sizeof(profiles[0]); i++) {
+    if (strcmp(profiles[i].name, name) == 0) {
+      jlong values[4] = {
+        __atomic_load_n(&profiles[i].calls, __ATOMIC_RELAXED),
+        __atomic_load_n(&profiles[i].marshal, __ATOMIC_RELAXED),
+        __atomic_load_n(&profiles[i].pin, __ATOMIC_RELAXED),
+        __atomic_load_n(&profiles[i].compute, __ATOMIC_RELAXED),
+      };
+      if ((res = (*env)->NewLongArray(env, 4))) {
+        (*env)->SetLongArrayRegion(env, res, 0, 4, values);
+      }
+      break;
+    }
+  }
+  (*env)->ReleaseStringUTFChars(env, routine, name);
+  return res;
+#else
+  return NULL;
+#endif
+}
+
+static int (*MKL_Get_Max_Threads)(void);
+static void (*MKL_Set_Num_Threads)(int nth);
+static int (*MKL_Set_Num_Threads_Local)(int nth);
+static int (*openblas_get_num_threads)(void);
+static void (*openblas_set_num_threads)(int num_threads);
+static int64_t (*bli_thread_get_num_threads)(void);
+static void (*bli_thread_set_num_threads)(int64_t n_threads);
+
+jint Java_dev_ludovic_netlib_blas_JNIBLAS_getNumThreads(UNUSED JNIEnv *env, UNUSED jobject obj) {
+  if (LOAD_SYMBOL(MKL_Get_Max_Threads)) return MKL_Get_Max_Threads();
+  if (LOAD_SYMBOL(openblas_get_num_threads)) return openblas_get_num_threads();
+  if (LOAD_SYMBOL(bli_thread_get_num_threads)) return (jint)bli_thread_get_num_threads();
+  return -1;
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_setNumThreads(UNUSED JNIEnv *env, UNUSED jobject obj, jint n) {
+  if (LOAD_SYMBOL(MKL_Set_Num_Threads)) { MKL_Set_Num_Threads(n); return; }
+  if (LOAD_SYMBOL(openblas_set_num_threads)) { openblas_set_num_threads(n); return; }
+  if (LOAD_SYMBOL(bli_thread_set_num_threads)) { bli_thread_set_num_threads(n); return; }
+}
+
+static jboolean pin_pool_threads;
+static jclass JNI_class;
+static jmethodID isPoolThread_methodID;
+static __thread jboolean thread_checked;
+
+/* Called on the first call from each thread when dev.ludovic.netlib.blas.pinPoolThreads is set. If the
+ * calling thread belongs to a pool, the native library is limited to a single thread to avoid oversubscribing
+ * the CPU. MKL supports it per thread, while OpenBLAS and BLIS only support it for the whole process, so that
+ * the first pool thread limits every thread of the process. Returns FALSE if the check threw, in which case
+ * the exception is pending and the routine must return right away. */
+static jboolean pin_thread(JNIEnv *env) {
+  jboolean pool = (*env)->CallStaticBooleanMethod(env, JNI_class, isPoolThread_methodID);
+  if ((*env)->ExceptionCheck(env)) return FALSE;
+  thread_checked = TRUE;
+  if (!pool) return TRUE;
+  if (LOAD_SYMBOL(MKL_Set_Num_Threads_Local)) { MKL_Set_Num_Threads_Local(1); return TRUE; }
+  if (LOAD_SYMBOL(openblas_set_num_threads)) { openblas_set_num_threads(1); return TRUE; }
+  if (LOAD_SYMBOL(bli_thread_set_num_threads)) { bli_thread_set_num_threads(1); return TRUE; }
+  return TRUE;
+}
+
+#define PIN_THREAD(env) \
+  (!pin_pool_threads || thread_checked || pin_thread(env))
+
 static double (*dasum_)(int *n, double *x, int *incx);
 
 jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dasumK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dasum_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dasum_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jdouble __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   double *__nx = NULL;
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = dasum_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(0);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -62,18 +270,25 @@ done:
 static float (*sasum_)(int *n, float *x, int *incx);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sasumK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx) {
-  if (!sasum_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sasum_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jfloat __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   float *__nx = NULL;
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = sasum_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(1);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -81,8 +296,10 @@ done:
 static void (*daxpy_)(int *n, double *alpha, double *x, int *incx, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_daxpyK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
-  if (!daxpy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(daxpy_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
@@ -93,20 +310,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_daxpyK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   daxpy_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(2);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*saxpy_)(int *n, float *alpha, float *x, int *incx, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_saxpyK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
-  if (!saxpy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(saxpy_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
@@ -117,20 +341,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_saxpyK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   saxpy_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(3);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dcopy_)(int *n, double *x, int *incx, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dcopyK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
-  if (!dcopy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dcopy_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -139,20 +370,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dcopyK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dcopy_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(4);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*scopy_)(int *n, float *x, int *incx, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_scopyK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
-  if (!scopy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(scopy_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -161,21 +399,28 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_scopyK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   scopy_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(5);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static double (*ddot_)(int *n, double *x, int *incx, double *y, int *incy);
 
 jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_ddotK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
-  if (!ddot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ddot_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jdouble __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -184,12 +429,17 @@ jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_ddotK(JNIEnv *env, UNUSED jobject o
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = ddot_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(6);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -197,9 +447,11 @@ done:
 static float (*sdot_)(int *n, float *x, int *incx, float *y, int *incy);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdotK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
-  if (!sdot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sdot_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jfloat __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -208,12 +460,17 @@ jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdotK(JNIEnv *env, UNUSED jobject ob
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = sdot_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(7);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -221,9 +478,11 @@ done:
 static float (*sdsdot_)(int *n, float *sb, float *sx, int *incsx, float *sy, int *incsy);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdsdotK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat sb, jfloatArray sx, jint offsetsx, jint incsx, jfloatArray sy, jint offsetsy, jint incsy) {
-  if (!sdsdot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sdsdot_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jfloat __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   float __nsb __attribute__((aligned(8)));
   int __nincsx __attribute__((aligned(8)));
@@ -234,12 +493,17 @@ jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdsdotK(JNIEnv *env, UNUSED jobject
   __nsb = sb;
   __nincsx = incsx;
   __nincsy = incsy;
+  PROFILE_TICK(__t1);
   if (sx) { if (!(__nsx = (*env)->GetPrimitiveArrayCritical(env, sx, NULL))) { __failed = TRUE; goto done; } }
   if (sy) { if (!(__nsy = (*env)->GetPrimitiveArrayCritical(env, sy, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = sdsdot_(&__nn, &__nsb, __nsx ? __nsx + offsetsx : NULL, &__nincsx, __nsy ? __nsy + offsetsy : NULL, &__nincsy);
+  PROFILE_TICK(__t3);
 done:
   if (__nsy) (*env)->ReleasePrimitiveArrayCritical(env, sy, __nsy, JNI_ABORT);
   if (__nsx) (*env)->ReleasePrimitiveArrayCritical(env, sx, __nsx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(8);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -247,8 +511,10 @@ done:
 static void (*dgbmv_)(const char *trans, int *m, int *n, int *kl, int *ku, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dgbmvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint kl, jint ku, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
-  if (!dgbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dgbmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__ntrans = NULL;
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -272,23 +538,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dgbmvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dgbmv_(__ntrans, &__nm, &__nn, &__nkl, &__nku, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  PROFILE_RECORD(9);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sgbmv_)(const char *trans, int *m, int *n, int *kl, int *ku, float *alpha, float *a, int *lda, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sgbmvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint kl, jint ku, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
-  if (!sgbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sgbmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__ntrans = NULL;
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -312,23 +585,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sgbmvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sgbmv_(__ntrans, &__nm, &__nn, &__nkl, &__nku, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  PROFILE_RECORD(10);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dgemm_)(const char *transa, const char *transb, int *m, int *n, int *k, double *alpha, double *a, int *lda, double *b, int *ldb, double *beta, double *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
-  if (!dgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dgemm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__ntransa = NULL;
   const char *__ntransb = NULL;
   int __nm __attribute__((aligned(8)));
@@ -352,24 +632,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  PROFILE_RECORD(11);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sgemm_)(const char *transa, const char *transb, int *m, int *n, int *k, float *alpha, float *a, int *lda, float *b, int *ldb, float *beta, float *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
-  if (!sgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sgemm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__ntransa = NULL;
   const char *__ntransb = NULL;
   int __nm __attribute__((aligned(8)));
@@ -393,24 +680,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  PROFILE_RECORD(12);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dgemv_)(const char *trans, int *m, int *n, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
-  if (!dgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dgemv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__ntrans = NULL;
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -430,23 +724,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dgemv_(__ntrans, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  PROFILE_RECORD(13);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sgemv_)(const char *trans, int *m, int *n, float *alpha, float *a, int *lda, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
-  if (!sgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sgemv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__ntrans = NULL;
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
@@ -466,23 +767,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sgemv_(__ntrans, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  PROFILE_RECORD(14);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dger_)(int *m, int *n, double *alpha, double *x, int *incx, double *y, int *incy, double *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dgerK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy, jdoubleArray a, jint offseta, jint lda) {
-  if (!dger_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dger_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
@@ -498,22 +806,29 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dgerK(JNIEnv *env, UNUSED jobject obj,
   __nincx = incx;
   __nincy = incy;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dger_(&__nm, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(15);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sger_)(int *m, int *n, float *alpha, float *x, int *incx, float *y, int *incy, float *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sgerK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy, jfloatArray a, jint offseta, jint lda) {
-  if (!sger_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sger_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
@@ -529,32 +844,44 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sgerK(JNIEnv *env, UNUSED jobject obj,
   __nincx = incx;
   __nincy = incy;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sger_(&__nm, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(16);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static double (*dnrm2_)(int *n, double *x, int *incx);
 
 jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dnrm2K(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dnrm2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dnrm2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jdouble __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   double *__nx = NULL;
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = dnrm2_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(17);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -562,18 +889,25 @@ done:
 static float (*snrm2_)(int *n, float *x, int *incx);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_snrm2K(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx) {
-  if (!snrm2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(snrm2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jfloat __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   float *__nx = NULL;
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = snrm2_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(18);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -581,8 +915,10 @@ done:
 static void (*drot_)(int *n, double *dx, int *incx, double *dy, int *incy, double *c, double *s);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_drotK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray dx, jint offsetdx, jint incx, jdoubleArray dy, jint offsetdy, jint incy, jdouble c, jdouble s) {
-  if (!drot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(drot_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -595,20 +931,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_drotK(JNIEnv *env, UNUSED jobject obj,
   __nincy = incy;
   __nc = c;
   __ns = s;
+  PROFILE_TICK(__t1);
   if (dx) { if (!(__ndx = (*env)->GetPrimitiveArrayCritical(env, dx, NULL))) { __failed = TRUE; goto done; } }
   if (dy) { if (!(__ndy = (*env)->GetPrimitiveArrayCritical(env, dy, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   drot_(&__nn, __ndx ? __ndx + offsetdx : NULL, &__nincx, __ndy ? __ndy + offsetdy : NULL, &__nincy, &__nc, &__ns);
+  PROFILE_TICK(__t3);
 done:
   if (__ndy) (*env)->ReleasePrimitiveArrayCritical(env, dy, __ndy, __failed ? JNI_ABORT : 0);
   if (__ndx) (*env)->ReleasePrimitiveArrayCritical(env, dx, __ndx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(19);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*srot_)(int *n, float *sx, int *incx, float *sy, int *incy, float *c, float *s);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_srotK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray sx, jint offsetsx, jint incx, jfloatArray sy, jint offsetsy, jint incy, jfloat c, jfloat s) {
-  if (!srot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(srot_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -621,20 +964,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_srotK(JNIEnv *env, UNUSED jobject obj,
   __nincy = incy;
   __nc = c;
   __ns = s;
+  PROFILE_TICK(__t1);
   if (sx) { if (!(__nsx = (*env)->GetPrimitiveArrayCritical(env, sx, NULL))) { __failed = TRUE; goto done; } }
   if (sy) { if (!(__nsy = (*env)->GetPrimitiveArrayCritical(env, sy, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   srot_(&__nn, __nsx ? __nsx + offsetsx : NULL, &__nincx, __nsy ? __nsy + offsetsy : NULL, &__nincy, &__nc, &__ns);
+  PROFILE_TICK(__t3);
 done:
   if (__nsy) (*env)->ReleasePrimitiveArrayCritical(env, sy, __nsy, __failed ? JNI_ABORT : 0);
   if (__nsx) (*env)->ReleasePrimitiveArrayCritical(env, sx, __nsx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(20);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*drotm_)(int *n, double *dx, int *incx, double *dy, int *incy, double *dparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray dx, jint offsetdx, jint incx, jdoubleArray dy, jint offsetdy, jint incy, jdoubleArray dparam, jint offsetdparam) {
-  if (!drotm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(drotm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -644,22 +994,29 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (dx) { if (!(__ndx = (*env)->GetPrimitiveArrayCritical(env, dx, NULL))) { __failed = TRUE; goto done; } }
   if (dy) { if (!(__ndy = (*env)->GetPrimitiveArrayCritical(env, dy, NULL))) { __failed = TRUE; goto done; } }
   if (dparam) { if (!(__ndparam = (*env)->GetPrimitiveArrayCritical(env, dparam, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   drotm_(&__nn, __ndx ? __ndx + offsetdx : NULL, &__nincx, __ndy ? __ndy + offsetdy : NULL, &__nincy, __ndparam ? __ndparam + offsetdparam : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__ndparam) (*env)->ReleasePrimitiveArrayCritical(env, dparam, __ndparam, JNI_ABORT);
   if (__ndy) (*env)->ReleasePrimitiveArrayCritical(env, dy, __ndy, __failed ? JNI_ABORT : 0);
   if (__ndx) (*env)->ReleasePrimitiveArrayCritical(env, dx, __ndx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(21);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*srotm_)(int *n, float *sx, int *incx, float *sy, int *incy, float *sparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray sx, jint offsetsx, jint incx, jfloatArray sy, jint offsetsy, jint incy, jfloatArray sparam, jint offsetsparam) {
-  if (!srotm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(srotm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -669,22 +1026,29 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (sx) { if (!(__nsx = (*env)->GetPrimitiveArrayCritical(env, sx, NULL))) { __failed = TRUE; goto done; } }
   if (sy) { if (!(__nsy = (*env)->GetPrimitiveArrayCritical(env, sy, NULL))) { __failed = TRUE; goto done; } }
   if (sparam) { if (!(__nsparam = (*env)->GetPrimitiveArrayCritical(env, sparam, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   srotm_(&__nn, __nsx ? __nsx + offsetsx : NULL, &__nincx, __nsy ? __nsy + offsetsy : NULL, &__nincy, __nsparam ? __nsparam + offsetsparam : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nsparam) (*env)->ReleasePrimitiveArrayCritical(env, sparam, __nsparam, JNI_ABORT);
   if (__nsy) (*env)->ReleasePrimitiveArrayCritical(env, sy, __nsy, __failed ? JNI_ABORT : 0);
   if (__nsx) (*env)->ReleasePrimitiveArrayCritical(env, sx, __nsx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(22);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*drotmg_)(double *dd1, double *dd2, double *dx1, double *dy1, double *dparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmgK(JNIEnv *env, UNUSED jobject obj, jobject dd1, jobject dd2, jobject dx1, jdouble dy1, jdoubleArray dparam, jint offsetdparam) {
-  if (!drotmg_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(drotmg_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   double __ndd1 = 0;
   double __ndd2 = 0;
   double __ndx1 = 0;
@@ -694,21 +1058,28 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmgK(JNIEnv *env, UNUSED jobject ob
   __ndd2 = (*env)->GetDoubleField(env, dd2, doubleW_val_fieldID);
   __ndx1 = (*env)->GetDoubleField(env, dx1, doubleW_val_fieldID);
   __ndy1 = dy1;
+  PROFILE_TICK(__t1);
   if (dparam) { if (!(__ndparam = (*env)->GetPrimitiveArrayCritical(env, dparam, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   drotmg_(&__ndd1, &__ndd2, &__ndx1, &__ndy1, __ndparam ? __ndparam + offsetdparam : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__ndparam) (*env)->ReleasePrimitiveArrayCritical(env, dparam, __ndparam, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetDoubleField(env, dx1, doubleW_val_fieldID, __ndx1);
   if (!__failed) (*env)->SetDoubleField(env, dd2, doubleW_val_fieldID, __ndd2);
   if (!__failed) (*env)->SetDoubleField(env, dd1, doubleW_val_fieldID, __ndd1);
+  PROFILE_RECORD(23);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*srotmg_)(float *sd1, float *sd2, float *sx1, float *sy1, float *sparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmgK(JNIEnv *env, UNUSED jobject obj, jobject sd1, jobject sd2, jobject sx1, jfloat sy1, jfloatArray sparam, jint offsetsparam) {
-  if (!srotmg_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(srotmg_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   float __nsd1 = 0;
   float __nsd2 = 0;
   float __nsx1 = 0;
@@ -718,21 +1089,28 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmgK(JNIEnv *env, UNUSED jobject ob
   __nsd2 = (*env)->GetFloatField(env, sd2, floatW_val_fieldID);
   __nsx1 = (*env)->GetFloatField(env, sx1, floatW_val_fieldID);
   __nsy1 = sy1;
+  PROFILE_TICK(__t1);
   if (sparam) { if (!(__nsparam = (*env)->GetPrimitiveArrayCritical(env, sparam, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   srotmg_(&__nsd1, &__nsd2, &__nsx1, &__nsy1, __nsparam ? __nsparam + offsetsparam : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__nsparam) (*env)->ReleasePrimitiveArrayCritical(env, sparam, __nsparam, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (!__failed) (*env)->SetFloatField(env, sx1, floatW_val_fieldID, __nsx1);
   if (!__failed) (*env)->SetFloatField(env, sd2, floatW_val_fieldID, __nsd2);
   if (!__failed) (*env)->SetFloatField(env, sd1, floatW_val_fieldID, __nsd1);
+  PROFILE_RECORD(24);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsbmv_)(const char *uplo, int *n, int *k, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsbmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
-  if (!dsbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsbmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   int __nk __attribute__((aligned(8)));
@@ -752,23 +1130,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsbmvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsbmv_(__nuplo, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(25);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssbmv_)(const char *uplo, int *n, int *k, float *alpha, float *a, int *lda, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssbmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
-  if (!ssbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssbmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   int __nk __attribute__((aligned(8)));
@@ -788,23 +1173,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssbmvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssbmv_(__nuplo, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(26);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dscal_)(int *n, double *alpha, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dscalK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dscal_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dscal_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
@@ -812,18 +1204,25 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dscalK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nalpha = alpha;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(27);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sscal_)(int *n, float *alpha, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sscalK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx) {
-  if (!sscal_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sscal_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
@@ -831,18 +1230,25 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sscalK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nalpha = alpha;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(28);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dspmv_)(const char *uplo, int *n, double *alpha, double *a, double *x, int *incx, double *beta, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dspmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray a, jint offseta, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
-  if (!dspmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dspmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
@@ -858,23 +1264,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dspmvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dspmv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(29);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sspmv_)(const char *uplo, int *n, float *alpha, float *a, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sspmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray a, jint offseta, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
-  if (!sspmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sspmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
@@ -890,23 +1303,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sspmvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sspmv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(30);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dspr_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsprK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray a, jint offseta) {
-  if (!dspr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dspr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
@@ -917,21 +1337,28 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsprK(JNIEnv *env, UNUSED jobject obj,
   __nn = n;
   __nalpha = alpha;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dspr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(31);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sspr_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssprK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray a, jint offseta) {
-  if (!sspr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sspr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
@@ -942,21 +1369,28 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssprK(JNIEnv *env, UNUSED jobject obj,
   __nn = n;
   __nalpha = alpha;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sspr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(32);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dspr2_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *y, int *incy, double *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dspr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy, jdoubleArray a, jint offseta) {
-  if (!dspr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dspr2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
@@ -970,23 +1404,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dspr2K(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dspr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(33);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sspr2_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *y, int *incy, float *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sspr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy, jfloatArray a, jint offseta) {
-  if (!sspr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sspr2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
@@ -1000,23 +1441,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sspr2K(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sspr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(34);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dswap_)(int *n, double *x, int *incx, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dswapK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
-  if (!dswap_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dswap_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -1025,20 +1473,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dswapK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dswap_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(35);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*sswap_)(int *n, float *x, int *incx, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sswapK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
-  if (!sswap_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(sswap_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
   int __nincy __attribute__((aligned(8)));
@@ -1047,20 +1502,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sswapK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nincx = incx;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   sswap_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(36);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsymm_)(const char *side, const char *uplo, int *m, int *n, double *alpha, double *a, int *lda, double *b, int *ldb, double *beta, double *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
-  if (!dsymm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsymm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nside = NULL;
   const char *__nuplo = NULL;
   int __nm __attribute__((aligned(8)));
@@ -1082,24 +1544,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  PROFILE_RECORD(37);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssymm_)(const char *side, const char *uplo, int *m, int *n, float *alpha, float *a, int *lda, float *b, int *ldb, float *beta, float *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
-  if (!ssymm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssymm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nside = NULL;
   const char *__nuplo = NULL;
   int __nm __attribute__((aligned(8)));
@@ -1121,24 +1590,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  PROFILE_RECORD(38);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsymv_)(const char *uplo, int *n, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
-  if (!dsymv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsymv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
@@ -1156,23 +1632,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsymv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(39);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssymv_)(const char *uplo, int *n, float *alpha, float *a, int *lda, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
-  if (!ssymv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssymv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
@@ -1190,23 +1673,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssymv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+  PROFILE_TICK(__t3);
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(40);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsyr_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray a, jint offseta, jint lda) {
-  if (!dsyr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsyr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
@@ -1219,21 +1709,28 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrK(JNIEnv *env, UNUSED jobject obj,
   __nalpha = alpha;
   __nincx = incx;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsyr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(41);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssyr_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray a, jint offseta, jint lda) {
-  if (!ssyr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssyr_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
@@ -1246,21 +1743,28 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrK(JNIEnv *env, UNUSED jobject obj,
   __nalpha = alpha;
   __nincx = incx;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssyr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(42);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsyr2_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *y, int *incy, double *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy, jdoubleArray a, jint offseta, jint lda) {
-  if (!dsyr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsyr2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
@@ -1276,23 +1780,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2K(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nincy = incy;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsyr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(43);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssyr2_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *y, int *incy, float *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy, jfloatArray a, jint offseta, jint lda) {
-  if (!ssyr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssyr2_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   int __nn __attribute__((aligned(8)));
   float __nalpha __attribute__((aligned(8)));
@@ -1308,23 +1819,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2K(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nincy = incy;
   __nlda = lda;
+  PROFILE_TICK(__t1);
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
   if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssyr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+  PROFILE_TICK(__t3);
 done:
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(44);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsyr2k_)(const char *uplo, const char *trans, int *n, int *k, double *alpha, double *a, int *lda, double *b, int *ldb, double *beta, double *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
-  if (!dsyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsyr2k_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1346,24 +1864,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject ob
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(45);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssyr2k_)(const char *uplo, const char *trans, int *n, int *k, float *alpha, float *a, int *lda, float *b, int *ldb, float *beta, float *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2kK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
-  if (!ssyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssyr2k_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1385,24 +1910,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2kK(JNIEnv *env, UNUSED jobject ob
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(46);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dsyrk_)(const char *uplo, const char *trans, int *n, int *k, double *alpha, double *a, int *lda, double *beta, double *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
-  if (!dsyrk_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dsyrk_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1421,22 +1953,29 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkK(JNIEnv *env, UNUSED jobject obj
   __nlda = lda;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dsyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(47);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*ssyrk_)(const char *uplo, const char *trans, int *n, int *k, float *alpha, float *a, int *lda, float *beta, float *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
-  if (!ssyrk_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(ssyrk_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   int __nn __attribute__((aligned(8)));
@@ -1455,22 +1994,29 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkK(JNIEnv *env, UNUSED jobject obj
   __nlda = lda;
   __nbeta = beta;
   __nldc = ldc;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   ssyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  PROFILE_TICK(__t3);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(48);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtbmv_)(const char *uplo, const char *trans, const char *diag, int *n, int *k, double *a, int *lda, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtbmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dtbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtbmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1487,23 +2033,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtbmvK(JNIEnv *env, UNUSED jobject obj
   __nk = k;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtbmv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(49);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*stbmv_)(const char *uplo, const char *trans, const char *diag, int *n, int *k, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_stbmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
-  if (!stbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(stbmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1520,23 +2073,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_stbmvK(JNIEnv *env, UNUSED jobject obj
   __nk = k;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   stbmv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(50);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtbsv_)(const char *uplo, const char *trans, const char *diag, int *n, int *k, double *a, int *lda, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtbsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dtbsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtbsv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1553,23 +2113,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtbsvK(JNIEnv *env, UNUSED jobject obj
   __nk = k;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtbsv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(51);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*stbsv_)(const char *uplo, const char *trans, const char *diag, int *n, int *k, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_stbsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
-  if (!stbsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(stbsv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1586,23 +2153,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_stbsvK(JNIEnv *env, UNUSED jobject obj
   __nk = k;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   stbsv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(52);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtpmv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dtpmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtpmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1615,23 +2189,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpmvK(JNIEnv *env, UNUSED jobject obj
   if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtpmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(53);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*stpmv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_stpmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jfloatArray x, jint offsetx, jint incx) {
-  if (!stpmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(stpmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1644,23 +2225,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_stpmvK(JNIEnv *env, UNUSED jobject obj
   if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   stpmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(54);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtpsv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dtpsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtpsv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1673,23 +2261,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpsvK(JNIEnv *env, UNUSED jobject obj
   if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtpsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(55);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*stpsv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_stpsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jfloatArray x, jint offsetx, jint incx) {
-  if (!stpsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(stpsv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1702,23 +2297,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_stpsvK(JNIEnv *env, UNUSED jobject obj
   if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   stpsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(56);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtrmm_)(const char *side, const char *uplo, const char *transa, const char *diag, int *m, int *n, double *alpha, double *a, int *lda, double *b, int *ldb);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb) {
-  if (!dtrmm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtrmm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nside = NULL;
   const char *__nuplo = NULL;
   const char *__ntransa = NULL;
@@ -1739,24 +2341,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtrmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+  PROFILE_TICK(__t3);
 done:
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  PROFILE_RECORD(57);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*strmm_)(const char *side, const char *uplo, const char *transa, const char *diag, int *m, int *n, float *alpha, float *a, int *lda, float *b, int *ldb);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strmmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb) {
-  if (!strmm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(strmm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nside = NULL;
   const char *__nuplo = NULL;
   const char *__ntransa = NULL;
@@ -1777,24 +2386,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strmmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   strmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+  PROFILE_TICK(__t3);
 done:
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  PROFILE_RECORD(58);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtrmv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, int *lda, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dtrmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtrmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1809,23 +2425,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmvK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtrmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(59);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*strmv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
-  if (!strmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(strmv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1840,23 +2463,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strmvK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   strmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(60);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtrsm_)(const char *side, const char *uplo, const char *transa, const char *diag, int *m, int *n, double *alpha, double *a, int *lda, double *b, int *ldb);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb) {
-  if (!dtrsm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtrsm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nside = NULL;
   const char *__nuplo = NULL;
   const char *__ntransa = NULL;
@@ -1877,24 +2507,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtrsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+  PROFILE_TICK(__t3);
 done:
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  PROFILE_RECORD(61);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*strsm_)(const char *side, const char *uplo, const char *transa, const char *diag, int *m, int *n, float *alpha, float *a, int *lda, float *b, int *ldb);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strsmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb) {
-  if (!strsm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(strsm_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nside = NULL;
   const char *__nuplo = NULL;
   const char *__ntransa = NULL;
@@ -1915,24 +2552,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strsmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   strsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+  PROFILE_TICK(__t3);
 done:
   if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  PROFILE_RECORD(62);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*dtrsv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, int *lda, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx) {
-  if (!dtrsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(dtrsv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1947,23 +2591,30 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsvK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   dtrsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(63);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static void (*strsv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
-  if (!strsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(strsv_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return; }
+  if (!PIN_THREAD(env)) return;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   const char *__ndiag = NULL;
@@ -1978,33 +2629,45 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strsvK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nlda = lda;
   __nincx = incx;
+  PROFILE_TICK(__t1);
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   strsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+  PROFILE_TICK(__t3);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  PROFILE_TICK(__t4);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  PROFILE_RECORD(64);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
 static int (*idamax_)(int *n, double *dx, int *incdx);
 
 jint Java_dev_ludovic_netlib_blas_JNIBLAS_idamaxK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray dx, jint offsetdx, jint incdx) {
-  if (!idamax_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(idamax_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jint __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincdx __attribute__((aligned(8)));
   double *__ndx = NULL;
   __nn = n;
   __nincdx = incdx;
+  PROFILE_TICK(__t1);
   if (dx) { if (!(__ndx = (*env)->GetPrimitiveArrayCritical(env, dx, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = idamax_(&__nn, __ndx ? __ndx + offsetdx : NULL, &__nincdx);
+  PROFILE_TICK(__t3);
 done:
   if (__ndx) (*env)->ReleasePrimitiveArrayCritical(env, dx, __ndx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(65);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
@@ -2012,22 +2675,132 @@ done:
 static int (*isamax_)(int *n, float *sx, int *incsx);
 
 jint Java_dev_ludovic_netlib_blas_JNIBLAS_isamaxK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray sx, jint offsetsx, jint incsx) {
-  if (!isamax_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  if (!LOAD_SYMBOL(isamax_)) { (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library"); return 0; }
   jint __ret = 0;
+  if (!PIN_THREAD(env)) return __ret;
   jboolean __failed = FALSE;
+  PROFILE_DECLARE;
   int __nn __attribute__((aligned(8)));
   int __nincsx __attribute__((aligned(8)));
   float *__nsx = NULL;
   __nn = n;
   __nincsx = incsx;
+  PROFILE_TICK(__t1);
   if (sx) { if (!(__nsx = (*env)->GetPrimitiveArrayCritical(env, sx, NULL))) { __failed = TRUE; goto done; } }
+  PROFILE_TICK(__t2);
   __ret = isamax_(&__nn, __nsx ? __nsx + offsetsx : NULL, &__nincsx);
+  PROFILE_TICK(__t3);
 done:
   if (__nsx) (*env)->ReleasePrimitiveArrayCritical(env, sx, __nsx, JNI_ABORT);
+  PROFILE_TICK(__t4);
+  PROFILE_RECORD(66);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
   return __ret;
 }
 
+#define PROBE_GEMM_N 256
+#define PROBE_DOT_N 65536
+#define PROBE_DOT_REPEAT 64
+#define PROBE_RUNS 3
+
+static double probe_now(void) {
+  struct timespec ts;
+  clock_gettime(CLOCK_MONOTONIC, &ts);
+  return ts.tv_sec + ts.tv_nsec * 1e-9;
+}
+
+/* Loads the candidate library in isolation and measures dgemm and ddot on small operands, keeping the best
+ * of a few runs after a warmup. Returns { dgemm GFLOP/s, ddot GFLOP/s }, or NULL if the library can't be
+ * loaded, lacks either routine, or computes a wrong result.
+ *
+ * The library is never unloaded: OpenBLAS, MKL and BLIS start threads and register handlers as they are
+ * loaded or first called, which dlclose doesn't tear down safely. The pages stay mapped, and the library
+ * picked is opened again with RTLD_GLOBAL by load. */
+jdoubleArray Java_dev_ludovic_netlib_blas_JNIBLAS_probe(JNIEnv *env, UNUSED jclass clazz, jstring library) {
+  const char *name = (*env)->GetStringUTFChars(env, library, NULL);
+  if (!name) {
+    return NULL;
+  }
+  void *handle = dlopen(name, RTLD_NOW | RTLD_LOCAL);
+  (*env)->ReleaseStringUTFChars(env, library, name);
+  if (!handle) {
+    return NULL;
+  }
+  jdoubleArray __ret = NULL;
+  double *__a = NULL, *__b = NULL, *__c = NULL;
+  int __n = PROBE_GEMM_N, __ndot = PROBE_DOT_N, __inc = 1;
+  double __alpha = 1.0, __beta = 0.0, __gemm = 0.0, __dot = 0.0;
+  __typeof__(dgemm_) __dgemm = (__typeof__(dgemm_))dlsym(handle, "dgemm_");
+  __typeof__(ddot_) __ddot = (__typeof__(ddot_))dlsym(handle, "ddot_");
+  if (!__dgemm || !__ddot) {
+    goto done;
+  }
+  if (!(__a = malloc(sizeof(double) * __n * __n)) || !(__b = malloc(sizeof(double) * __n * __n)) || !(__c = malloc(sizeof(double) * __n * __n))) {
+    goto done;
+  }
+  for (int i = 0; i < __n * __n; i++) {
+    __a[i] = 1.0;
+    __b[i] = 2.0;
+  }
+  for (int run = 0; run <= PROBE_RUNS; run++) {
+    double start = probe_now();
+    __dgemm("N", "N", &__n, &__n, &__n, &__alpha, __a, &__n, __b, &__n, &__beta, __c, &__n);
+    double elapsed = probe_now() - start;
+    if (__c[0] != 2.0 * __n || __c[__n * __n - 1] != 2.0 * __n) {
+      goto done;
+    }
+    /* the first run is a warmup, which also lets the library start its threads */
+    if (run > 0 && elapsed > 0 && 2.0 * __n * __n * __n / elapsed / 1e9 > __gemm) {
+      __gemm = 2.0 * __n * __n * __n / elapsed / 1e9;
+    }
+  }
+  for (int run = 0; run <= PROBE_RUNS; run++) {
+    double start = probe_now();
+    double sum = 0.0;
+    for (int i = 0; i < PROBE_DOT_REPEAT; i++) {
+      sum += __ddot(&__ndot, __a, &__inc, __b, &__inc);
+    }
+    double elapsed = probe_now() - start;
+    if (sum != 2.0 * __ndot * PROBE_DOT_REPEAT) {
+      goto done;
+    }
+    if (run > 0 && elapsed > 0 && 2.0 * __ndot * PROBE_DOT_REPEAT / elapsed / 1e9 > __dot) {
+      __dot = 2.0 * __ndot * PROBE_DOT_REPEAT / elapsed / 1e9;
+    }
+  }
+  if ((__ret = (*env)->NewDoubleArray(env, 2))) {
+    jdouble __res[2] = { __gemm, __dot };
+    (*env)->SetDoubleArrayRegion(env, __ret, 0, 2, __res);
+  }
+done:
+  free(__a);
+  free(__b);
+  free(__c);
+  return __ret;
+}
+
+static void *libhandle;
+
+/* Loads the library picked by the discovery mode, making its symbols visible to LOAD_SYMBOL. */
+jboolean Java_dev_ludovic_netlib_blas_JNIBLAS_load(JNIEnv *env, UNUSED jclass clazz, jstring library) {
+  const char *name = (*env)->GetStringUTFChars(env, library, NULL);
+  if (!name) {
+    return FALSE;
+  }
+  void *handle = dlopen(name, RTLD_LAZY | RTLD_GLOBAL);
+  (*env)->ReleaseStringUTFChars(env, library, name);
+  if (!handle) {
+    return FALSE;
+  }
+  void *expected = NULL;
+  if (!__atomic_compare_exchange_n(&libhandle, &expected, handle, FALSE, __ATOMIC_ACQ_REL, __ATOMIC_ACQUIRE)) {
+    /* a library is already loaded, and symbols may already have been resolved against it. This one is
+     * left open for the same reason as in probe. */
+    return FALSE;
+  }
+  return TRUE;
+}
+
 jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {
   jclass System_class = (*env)->FindClass(env, "java/lang/System");
   if (!System_class) {
@@ -2041,84 +2814,6 @@ jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res
   return TRUE;
 }
 
-jboolean load_symbols(void) {
-#define LOAD_SYMBOL(name) \
-  name = dlsym(NULL, #name);
-
-  LOAD_SYMBOL(dasum_);
-  LOAD_SYMBOL(sasum_);
-  LOAD_SYMBOL(daxpy_);
-  LOAD_SYMBOL(saxpy_);
-  LOAD_SYMBOL(dcopy_);
-  LOAD_SYMBOL(scopy_);
-  LOAD_SYMBOL(ddot_);
-  LOAD_SYMBOL(sdot_);
-  LOAD_SYMBOL(sdsdot_);
-  LOAD_SYMBOL(dgbmv_);
-  LOAD_SYMBOL(sgbmv_);
-  LOAD_SYMBOL(dgemm_);
-  LOAD_SYMBOL(sgemm_);
-  LOAD_SYMBOL(dgemv_);
-  LOAD_SYMBOL(sgemv_);
-  LOAD_SYMBOL(dger_);
-  LOAD_SYMBOL(sger_);
-  LOAD_SYMBOL(dnrm2_);
-  LOAD_SYMBOL(snrm2_);
-  LOAD_SYMBOL(drot_);
-  LOAD_SYMBOL(srot_);
-  LOAD_SYMBOL(drotm_);
-  LOAD_SYMBOL(srotm_);
-  LOAD_SYMBOL(drotmg_);
-  LOAD_SYMBOL(srotmg_);
-  LOAD_SYMBOL(dsbmv_);
-  LOAD_SYMBOL(ssbmv_);
-  LOAD_SYMBOL(dscal_);
-  LOAD_SYMBOL(sscal_);
-  LOAD_SYMBOL(dspmv_);
-  LOAD_SYMBOL(sspmv_);
-  LOAD_SYMBOL(dspr_);
-  LOAD_SYMBOL(sspr_);
-  LOAD_SYMBOL(dspr2_);
-  LOAD_SYMBOL(sspr2_);
-  LOAD_SYMBOL(dswap_);
-  LOAD_SYMBOL(sswap_);
-  LOAD_SYMBOL(dsymm_);
-  LOAD_SYMBOL(ssymm_);
-  LOAD_SYMBOL(dsymv_);
-  LOAD_SYMBOL(ssymv_);
-  LOAD_SYMBOL(dsyr_);
-  LOAD_SYMBOL(ssyr_);
-  LOAD_SYMBOL(dsyr2_);
-  LOAD_SYMBOL(ssyr2_);
-  LOAD_SYMBOL(dsyr2k_);
-  LOAD_SYMBOL(ssyr2k_);
-  LOAD_SYMBOL(dsyrk_);
-  LOAD_SYMBOL(ssyrk_);
-  LOAD_SYMBOL(dtbmv_);
-  LOAD_SYMBOL(stbmv_);
-  LOAD_SYMBOL(dtbsv_);
-  LOAD_SYMBOL(stbsv_);
-  LOAD_SYMBOL(dtpmv_);
-  LOAD_SYMBOL(stpmv_);
-  LOAD_SYMBOL(dtpsv_);
-  LOAD_SYMBOL(stpsv_);
-  LOAD_SYMBOL(dtrmm_);
-  LOAD_SYMBOL(strmm_);
-  LOAD_SYMBOL(dtrmv_);
-  LOAD_SYMBOL(strmv_);
-  LOAD_SYMBOL(dtrsm_);
-  LOAD_SYMBOL(strsm_);
-  LOAD_SYMBOL(dtrsv_);
-  LOAD_SYMBOL(strsv_);
-  LOAD_SYMBOL(idamax_);
-  LOAD_SYMBOL(isamax_);
-
-#undef LOAD_SYMBOL
- return TRUE;
-}
-
-static void *libhandle;
-
 jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
   JNIEnv *env;
   if ((*vm)->GetEnv(vm, (void**)&env, JNI_VERSION_1_8) != JNI_OK) {
@@ -2170,6 +2865,43 @@ jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
     return -1;
   }
 
+  jstring property_pinPoolThreads;
+  if (!get_system_property(env, (*env)->NewStringUTF(env, "dev.ludovic.netlib.blas.pinPoolThreads"), (*env)->NewStringUTF(env, "false"), &property_pinPoolThreads)) {
+    return -1;
+  }
+  if (property_pinPoolThreads) {
+    const char *utf = (*env)->GetStringUTFChars(env, property_pinPoolThreads, NULL);
+    pin_pool_threads = strcmp(utf, "true") == 0;
+    (*env)->ReleaseStringUTFChars(env, property_pinPoolThreads, utf);
+  }
+  if (pin_pool_threads) {
+    jclass JNIBLAS_class = (*env)->FindClass(env, "dev/ludovic/netlib/blas/JNIBLAS");
+    if (!JNIBLAS_class) {
+      return -1;
+    }
+    isPoolThread_methodID = (*env)->GetStaticMethodID(env, JNIBLAS_class, "isPoolThread", "()Z");
+    if (!isPoolThread_methodID) {
+      return -1;
+    }
+    if (!(JNI_class = (*env)->NewGlobalRef(env, JNIBLAS_class))) {
+      return -1;
+    }
+  }
+
+  jstring property_discovery;
+  if (!get_system_property(env, (*env)->NewStringUTF(env, "dev.ludovic.netlib.blas.discovery"), (*env)->NewStringUTF(env, "false"), &property_discovery)) {
+    return -1;
+  }
+  if (property_discovery) {
+    const char *utf = (*env)->GetStringUTFChars(env, property_discovery, NULL);
+    jboolean discovery = strcmp(utf, "true") == 0;
+    (*env)->ReleaseStringUTFChars(env, property_discovery, utf);
+    /* the library is picked and loaded by JNIBLAS once it has probed the candidates */
+    if (discovery) {
+      return JNI_VERSION_1_8;
+    }
+  }
+
   jstring property_nativeLibPath;
   if (!get_system_property(env, (*env)->NewStringUTF(env, "dev.ludovic.netlib.blas.nativeLibPath"), NULL, &property_nativeLibPath)) {
     return -1;
@@ -2198,13 +2930,21 @@ jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
     return -1;
   }
 
-  if (!load_symbols()) {
-    return -1;
-  }
-
   return JNI_VERSION_1_8;
 }
 
 void JNI_OnUnload(UNUSED JavaVM *vm, UNUSED void *reserved) {
-  dlclose(libhandle);
+  if (libhandle) {
+    dlclose(libhandle);
+  }
+}
+
+/* Path of the native library as resolved by the dynamic loader, or NULL if none is loaded */
+jstring Java_dev_ludovic_netlib_blas_JNIBLAS_libraryPath(JNIEnv *env, UNUSED jclass clazz) {
+  struct link_map *map;
+  void *handle = __atomic_load_n(&libhandle, __ATOMIC_ACQUIRE);
+  if (!handle || dlinfo(handle, RTLD_DI_LINKMAP, &map) != 0 || !map->l_name) {
+    return NULL;
+  }
+  return (*env)->NewStringUTF(env, map->l_name);
 }
@@ -48,7 +48,8 @@ public class BLASTest {
       Arguments.of(NativeBLAS.getInstance()),
       Arguments.of(JavaBLAS.getInstance()),
       Arguments.of(F2jBLAS.getInstance()),
-      Arguments.of(JNIBLAS.getInstance())
+      Arguments.of(JNIBLAS.getInstance()),
+      Arguments.of(new MeteredBLAS(F2jBLAS.getInstance()))
     );
 
     String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 3);
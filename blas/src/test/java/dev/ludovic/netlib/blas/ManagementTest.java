@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ManagementTest {
+
+    @Test
+    void testAttributes() throws Exception {
+        BLAS blas = new MeteredBLAS(F2jBLAS.getInstance());
+        Management management = new Management(blas);
+        assertEquals(F2jBLAS.class.getName(), management.getAttribute("Implementation"));
+        assertNull(management.getAttribute("LibraryPath"));
+        assertEquals(-1, management.getAttribute("NumThreads"));
+
+        long calls = Meter.get("dscal").calls();
+        blas.dscal(4, 2.0, new double[4], 1);
+        assertEquals(calls + 1, management.getAttribute("dscalCalls"));
+        assertTrue(((String) management.getAttribute("Report")).contains("dscal"));
+        assertTrue(Arrays.stream(management.getMBeanInfo().getAttributes())
+            .map(MBeanAttributeInfo::getName).anyMatch("dscalFlops"::equals));
+        assertThrows(AttributeNotFoundException.class, () -> management.getAttribute("doesNotExistCalls"));
+    }
+
+    @Test
+    void testNative() throws Exception {
+        Management management = new Management(JNIBLAS.getInstance());
+        assertEquals(JNIBLAS.class.getName(), management.getAttribute("Implementation"));
+        assertNotNull(management.getAttribute("LibraryPath"));
+    }
+
+    @Test
+    void testRegister() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(Management.NAME);
+        Management.register(F2jBLAS.getInstance());
+        try {
+            assertEquals(F2jBLAS.class.getName(), server.getAttribute(name, "Implementation"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
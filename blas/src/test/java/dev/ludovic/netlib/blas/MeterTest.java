@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeterTest {
+
+    @Test
+    void testPercentile() {
+        Meter meter = Meter.of("test-percentile");
+        for (long i = 1; i <= 1000; i++) {
+            meter.record(i * 1000, 0);
+        }
+        assertEquals(1000, meter.calls());
+        assertEquals(1000L * 1001 / 2 * 1000, meter.nanos());
+        assertEquals(1000000, meter.max());
+        // buckets are at most 12.5% wide
+        assertEquals(500000, meter.percentile(50), 500000 * 0.125);
+        assertEquals(990000, meter.percentile(99), 990000 * 0.125);
+        assertEquals(1000000, meter.percentile(100));
+    }
+
+    @Test
+    void testSmallAndLargeValues() {
+        Meter meter = Meter.of("test-range");
+        meter.record(3, 0);
+        assertEquals(3, meter.percentile(100));
+        meter.record(Long.MAX_VALUE, 0);
+        assertEquals(Long.MAX_VALUE, meter.percentile(100));
+        assertEquals(3, meter.percentile(50));
+    }
+
+    @Test
+    void testFlops() {
+        Meter dgemm = Meter.of("dgemm");
+        long calls = dgemm.calls();
+        long flops = dgemm.flops();
+        BLAS blas = new MeteredBLAS(F2jBLAS.getInstance());
+        blas.dgemm("N", "N", 3, 4, 5, 1.0, new double[3 * 5], 3, new double[5 * 4], 5, 0.0, new double[3 * 4], 3);
+        assertEquals(calls + 1, dgemm.calls());
+        assertEquals(flops + 2 * 3 * 4 * 5, dgemm.flops());
+        assertTrue(Meter.report().contains("dgemm"));
+    }
+}
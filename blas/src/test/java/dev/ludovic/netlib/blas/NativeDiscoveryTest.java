@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+// Runs the discovery in a fresh JVM, as the JNI wrapper is only loaded once per process.
+public class NativeDiscoveryTest {
+
+    private static final String candidates = "libnetlib-does-not-exist.so,libblas.so.3";
+
+    public static void main(String[] args) {
+        String result;
+        try {
+            result = Double.toString(NativeBLAS.getInstance().ddot(3, new double[] {1, 2, 3}, 1, new double[] {4, 5, 6}, 1));
+        } catch (Throwable t) {
+            result = t.toString();
+        }
+        System.out.println("result = " + result);
+    }
+
+    private static String run(Path cacheDir) throws Exception {
+        List<String> output = Subprocess.run(NativeDiscoveryTest.class, Arrays.asList(
+            "-Ddev.ludovic.netlib.blas.discovery=true",
+            "-Ddev.ludovic.netlib.blas.discoveryCandidates=" + candidates,
+            "-Ddev.ludovic.netlib.cacheDir=" + cacheDir));
+        return String.join("\n", output);
+    }
+
+    @Test
+    void testDiscovery(@TempDir Path cacheDir) throws Exception {
+        String first = run(cacheDir);
+        assumeTrue(first.contains("result = 32.0"), "native implementation isn't available");
+        assertTrue(first.contains("Using libblas.so.3 ("));
+        assertFalse(first.contains("cached"));
+
+        Properties decision = new Properties();
+        try (InputStream is = Files.newInputStream(cacheDir.resolve("blas-discovery.properties"))) {
+            decision.load(is);
+        }
+        assertEquals("libblas.so.3", decision.getProperty("library"));
+
+        String second = run(cacheDir);
+        assertTrue(second.contains("result = 32.0"));
+        assertTrue(second.contains("Using libblas.so.3 ("));
+        assertTrue(second.contains("cached"));
+    }
+}
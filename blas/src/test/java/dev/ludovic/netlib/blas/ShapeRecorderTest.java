@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShapeRecorderTest {
+
+    @Test
+    void testRecord(@TempDir Path dir) throws Exception {
+        BLAS blas = new RecordingBLAS(F2jBLAS.getInstance());
+        for (int i = 0; i < 3; i++) {
+            blas.dgemm("N", "T", 3, 4, 5, 1.0, new double[3 * 5], 3, new double[4 * 5], 4, 0.0, new double[3 * 4], 3);
+        }
+        blas.dgemm("N", "T", 3, 4, 5, 2.5, new double[3 * 5], 0, 3, new double[4 * 5], 0, 4, 1.0, new double[3 * 4 + 1], 1, 3);
+        blas.ddot(7, new double[7], 0, 1, new double[8], 1, 1);
+
+        String dgemm = "dgemm \"N\" \"T\" 3 4 5 1 [15] 0 3 [20] 0 4 0 [12] 0 3";
+        assertEquals(3L, ShapeRecorder.snapshot().get(dgemm));
+        assertEquals(1L, ShapeRecorder.snapshot().get("dgemm \"N\" \"T\" 3 4 5 x [15] 0 3 [20] 0 4 1 [13] 1 3"));
+        assertEquals(1L, ShapeRecorder.snapshot().get("ddot 7 [7] 0 1 [8] 1 1"));
+
+        Path file = dir.resolve("shapes.txt");
+        ShapeRecorder.dump(file);
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.get(0).startsWith("#"));
+        assertEquals("3 " + dgemm, lines.get(1));
+    }
+}
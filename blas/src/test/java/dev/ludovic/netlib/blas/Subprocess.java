@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the main method of a test class in a fresh JVM, on the same classpath and os.arch, for the tests
+// which need the JNI wrappers and instances to be loaded from scratch. Shared with the lapack and arpack
+// tests through the test-jar of this module.
+public final class Subprocess {
+
+    private static final Pattern loaded = Pattern.compile("(?:\\[Loaded |\\[class,load\\] )([A-Za-z0-9_.$]+)");
+
+    private Subprocess() {}
+
+    // Runs klass with the given JVM options and arguments, checks that it exited successfully, and returns
+    // the lines it wrote to its stdout and stderr
+    public static List<String> run(Class<?> klass, List<String> options, String... args) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-Dos.arch=" + System.getProperty("os.arch"));
+        command.addAll(options);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(klass.getName());
+        for (String arg : args) {
+            command.add(arg);
+        }
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            for (String line; (line = reader.readLine()) != null; ) {
+                output.add(line);
+            }
+        }
+        assertEquals(0, process.waitFor(), () -> klass.getSimpleName() + " failed:\n" + String.join("\n", output));
+        return output;
+    }
+
+    // Value of the first "key = value" line of the output, or null
+    public static String value(List<String> output, String key) {
+        for (String line : output) {
+            if (line.startsWith(key + " = ")) {
+                return line.substring(key.length() + 3);
+            }
+        }
+        return null;
+    }
+
+    // Classes of the given package loaded by a JVM run with -verbose:class
+    public static List<String> loadedClasses(List<String> output, String pkg) {
+        List<String> classes = new ArrayList<>();
+        for (String line : output) {
+            Matcher matcher = loaded.matcher(line);
+            if (matcher.find() && matcher.group(1).startsWith(pkg + ".")) {
+                classes.add(matcher.group(1));
+            }
+        }
+        return classes;
+    }
+}
@@ -215,30 +215,32 @@ class RoutineR:
     self.name = name
     self.args = args
 
-  def render(self, pkg):
+  def render(self, pkg, threads):
     # Print native function signature
     print("static {ret} (*{name}_)({args});".format(ret=self.ret.native_type, name=self.name, args=", ".join([arg.native_type_and_name for arg in self.args])))
     print()
     # Print JNI function implementation
     print("{ret} Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(ret=self.ret.java_type, pkg=pkg, pkgupper=pkg.upper(), name=self.name, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name]))) 
-    print("  if (!{name}_) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");".format(name=self.name))
+    print("  if (!LOAD_SYMBOL({name}_)) {{ (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\"); return 0; }}".format(name=self.name))
     print("  {rettype} __ret = 0;".format(rettype=self.ret.java_type))
+    if threads:
+      print("  if (!PIN_THREAD(env)) return __ret;")
     print("  jboolean __failed = FALSE;")
+    print("  PROFILE_DECLARE;")
     if any(len(arg.native_local) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
       print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
-    if any(len(arg.prolog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("\n".join(["  " + a for a in [arg.prolog for arg in self.args if arg.idx == 0] if len(a) > 0] + ["  PROFILE_TICK(__t1);"]))
+    print("\n".join(["  " + a for a in [arg.prolog for arg in self.args if arg.idx == 1] if len(a) > 0] + ["  PROFILE_TICK(__t2);"]))
     print("  __ret = {name}_({args});".format(name=self.name, args=", ".join([arg.native_argument for arg in self.args])))
+    print("  PROFILE_TICK(__t3);")
     print("done:")
-    if any(len(arg.epilog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
+    print("\n".join(["  " + a for a in [arg.epilog for arg in self.args if arg.idx == 1] if len(a) > 0][::-1] + ["  PROFILE_TICK(__t4);"]))
+    print("\n".join(["  " + a for a in [arg.epilog for arg in self.args if arg.idx == 0] if len(a) > 0][::-1] + ["  PROFILE_RECORD({profile});".format(profile=self.profile)]))
     print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
     print("  return __ret;")
     print("}")
     print()
 
-  def render_load_symbol(self):
-    print("  LOAD_SYMBOL({name}_);".format(name=self.name))
 
 class RoutineR_NI:
   def __init__(self, ret, name, *args):
@@ -246,7 +248,7 @@ class RoutineR_NI:
     self.name = name
     self.args = args
 
-  def render(self, pkg):
+  def render(self, pkg, threads):
     # Print native function signature
     print("// static {ret} (*{name}_)({args});".format(ret=self.ret.native_type, name=self.name, args=", ".join([arg.native_type_and_name for arg in self.args])))
     print()
@@ -257,43 +259,43 @@ class RoutineR_NI:
     print("}")
     print()
 
-  def render_load_symbol(self):
-    print("  // LOAD_SYMBOL({name}_);".format(name=self.name))
 
 class Routine:
   def __init__(self, name, *args):
     self.name = name
     self.args = args
 
-  def render(self, pkg):
+  def render(self, pkg, threads):
     # Print native function signature
     print("static void (*{name}_)({args});".format(name=self.name, args=", ".join([arg.native_type_and_name for arg in self.args])))
     print()
     # Print JNI function implementation
     print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(pkg=pkg, pkgupper=pkg.upper(), name=self.name, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name])))
-    print("  if (!{name}_) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");".format(name=self.name))
+    print("  if (!LOAD_SYMBOL({name}_)) {{ (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\"); return; }}".format(name=self.name))
+    if threads:
+      print("  if (!PIN_THREAD(env)) return;")
     print("  jboolean __failed = FALSE;")
+    print("  PROFILE_DECLARE;")
     if any(len(arg.native_local) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
       print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
-    if any(len(arg.prolog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("\n".join(["  " + a for a in [arg.prolog for arg in self.args if arg.idx == 0] if len(a) > 0] + ["  PROFILE_TICK(__t1);"]))
+    print("\n".join(["  " + a for a in [arg.prolog for arg in self.args if arg.idx == 1] if len(a) > 0] + ["  PROFILE_TICK(__t2);"]))
     print("  {name}_({args});".format(name=self.name, args=", ".join([arg.native_argument for arg in self.args])))
+    print("  PROFILE_TICK(__t3);")
     print("done:")
-    if any(len(arg.epilog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
+    print("\n".join(["  " + a for a in [arg.epilog for arg in self.args if arg.idx == 1] if len(a) > 0][::-1] + ["  PROFILE_TICK(__t4);"]))
+    print("\n".join(["  " + a for a in [arg.epilog for arg in self.args if arg.idx == 0] if len(a) > 0][::-1] + ["  PROFILE_RECORD({profile});".format(profile=self.profile)]))
     print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
     print("}")
     print()
 
-  def render_load_symbol(self):
-    print("  LOAD_SYMBOL({name}_);".format(name=self.name))
 
 class Routine_NI:
   def __init__(self, name, *args):
     self.name = name
     self.args = args
 
-  def render(self, pkg):
+  def render(self, pkg, threads):
     # Print native function signature
     print("// static void (*{name}_)({args});".format(name=self.name, args=", ".join([arg.native_type_and_name for arg in self.args])))
     print()
@@ -303,11 +305,9 @@ class Routine_NI:
     print("}")
     print()
 
-  def render_load_symbol(self):
-    print("  // LOAD_SYMBOL({name}_);".format(name=self.name))
 
 class Library:
-  def __init__(self, pkg, libname, *routines):
+  def __init__(self, pkg, libname, *routines, threads=False, discovery=False):
     # Print copyright header
     print("/*")
     print(" * Copyright 2020, 2021, Ludovic Henry")
@@ -335,9 +335,16 @@ class Library:
     print(" */")
     print()
     # Print includes
+    print("#define _GNU_SOURCE")
+    print()
     print("#include <stdlib.h>")
     print("#include <string.h>")
     print("#include <dlfcn.h>")
+    print("#include <link.h>")
+    if threads:
+      print("#include <stdint.h>")
+    if discovery:
+      print("#include <time.h>")
     print()
     print("#include \"dev_ludovic_netlib_{pkg}_JNI{pkgupper}.h\"".format(pkg=pkg, pkgupper=pkg.upper()))
     print()
@@ -354,9 +361,29 @@ class Library:
     print("static jfieldID doubleW_val_fieldID;")
     print("static jfieldID StringW_val_fieldID;")
     print()
+    # Print symbols loading
+    print("static jboolean load_symbol(void **symbol, const char *name) {")
+    print("  void *address = dlsym(NULL, name);")
+    print("  if (!address) {")
+    print("    return FALSE;")
+    print("  }")
+    print("  __atomic_store_n(symbol, address, __ATOMIC_RELEASE);")
+    print("  return TRUE;")
+    print("}")
+    print()
+    print("/* Symbols are resolved on first use rather than in JNI_OnLoad, as applications usually only call a")
+    print(" * handful of the routines. Concurrent first calls may both resolve the symbol, which is harmless. */")
+    print("#define LOAD_SYMBOL(name) \\")
+    print("  (__atomic_load_n(&name, __ATOMIC_ACQUIRE) || load_symbol((void**)&name, #name))")
+    print()
     # Print routines bodies
+    self.render_profile(pkg, [routine for routine in routines if isinstance(routine, (Routine, RoutineR))])
+    if threads:
+      self.render_threads(pkg)
     for routine in routines:
-      routine.render(pkg)
+      routine.render(pkg, threads)
+    if discovery:
+      self.render_discovery(pkg)
     # Print helper functions
     print("jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {")
     print("  jclass System_class = (*env)->FindClass(env, \"java/lang/System\");")
@@ -371,21 +398,10 @@ class Library:
     print("  return TRUE;")
     print("}")
     print()
-    # Print symbols loading
-    print("jboolean load_symbols(void) {")
-    print("#define LOAD_SYMBOL(name) \\")
-    print("  name = dlsym(NULL, #name);")
-    print("")
-    for routine in routines:
-      routine.render_load_symbol()
-    print("")
-    print("#undef LOAD_SYMBOL")
-    print(" return TRUE;")
-    print("}")
-    print()
     # Print JNI entry functions
-    print("static void *libhandle;")
-    print()
+    if not discovery:
+      print("static void *libhandle;")
+      print()
     print("jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {")
     print("  JNIEnv *env;")
     print("  if ((*vm)->GetEnv(vm, (void**)&env, JNI_VERSION_1_8) != JNI_OK) {")
@@ -437,6 +453,45 @@ class Library:
     print("    return -1;")
     print("  }")
     print("")
+    if threads:
+      print("  jstring property_pinPoolThreads;")
+      print("  if (!get_system_property(env, (*env)->NewStringUTF(env, \"dev.ludovic.netlib.{pkg}.pinPoolThreads\"), (*env)->NewStringUTF(env, \"false\"), &property_pinPoolThreads)) {{".format(pkg=pkg))
+      print("    return -1;")
+      print("  }")
+      print("  if (property_pinPoolThreads) {")
+      print("    const char *utf = (*env)->GetStringUTFChars(env, property_pinPoolThreads, NULL);")
+      print("    pin_pool_threads = strcmp(utf, \"true\") == 0;")
+      print("    (*env)->ReleaseStringUTFChars(env, property_pinPoolThreads, utf);")
+      print("  }")
+      print("  if (pin_pool_threads) {")
+      print("    jclass JNI{pkgupper}_class = (*env)->FindClass(env, \"dev/ludovic/netlib/{pkg}/JNI{pkgupper}\");".format(pkg=pkg, pkgupper=pkg.upper()))
+      print("    if (!JNI{pkgupper}_class) {{".format(pkgupper=pkg.upper()))
+      print("      return -1;")
+      print("    }")
+      print("    isPoolThread_methodID = (*env)->GetStaticMethodID(env, JNI{pkgupper}_class, \"isPoolThread\", \"()Z\");".format(pkgupper=pkg.upper()))
+      print("    if (!isPoolThread_methodID) {")
+      print("      return -1;")
+      print("    }")
+      print("    if (!(JNI_class = (*env)->NewGlobalRef(env, JNI{pkgupper}_class))) {{".format(pkgupper=pkg.upper()))
+      print("      return -1;")
+      print("    }")
+      print("  }")
+      print("")
+    if discovery:
+      print("  jstring property_discovery;")
+      print("  if (!get_system_property(env, (*env)->NewStringUTF(env, \"dev.ludovic.netlib.{pkg}.discovery\"), (*env)->NewStringUTF(env, \"false\"), &property_discovery)) {{".format(pkg=pkg))
+      print("    return -1;")
+      print("  }")
+      print("  if (property_discovery) {")
+      print("    const char *utf = (*env)->GetStringUTFChars(env, property_discovery, NULL);")
+      print("    jboolean discovery = strcmp(utf, \"true\") == 0;")
+      print("    (*env)->ReleaseStringUTFChars(env, property_discovery, utf);")
+      print("    /* the library is picked and loaded by JNI{pkgupper} once it has probed the candidates */".format(pkgupper=pkg.upper()))
+      print("    if (discovery) {")
+      print("      return JNI_VERSION_1_8;")
+      print("    }")
+      print("  }")
+      print("")
     print("  jstring property_nativeLibPath;")
     print("  if (!get_system_property(env, (*env)->NewStringUTF(env, \"dev.ludovic.netlib.{pkg}.nativeLibPath\"), NULL, &property_nativeLibPath)) {{".format(pkg=pkg))
     print("    return -1;")
@@ -465,16 +520,258 @@ class Library:
     print("    return -1;")
     print("  }")
     print("")
-    print("  if (!load_symbols()) {")
-    print("    return -1;")
-    print("  }")
-    print("")
     print("  return JNI_VERSION_1_8;")
     print("}")
     print()
     print("void JNI_OnUnload(UNUSED JavaVM *vm, UNUSED void *reserved) {")
-    print("  dlclose(libhandle);")
+    if discovery:
+      print("  if (libhandle) {")
+      print("    dlclose(libhandle);")
+      print("  }")
+    else:
+      print("  dlclose(libhandle);")
+    print("}")
+    print()
+    print("/* Path of the native library as resolved by the dynamic loader, or NULL if none is loaded */")
+    print("jstring Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_libraryPath(JNIEnv *env, UNUSED jclass clazz) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+    print("  struct link_map *map;")
+    print("  void *handle = __atomic_load_n(&libhandle, __ATOMIC_ACQUIRE);")
+    print("  if (!handle || dlinfo(handle, RTLD_DI_LINKMAP, &map) != 0 || !map->l_name) {")
+    print("    return NULL;")
+    print("  }")
+    print("  return (*env)->NewStringUTF(env, map->l_name);")
+    print("}")
+
+
+  def render_discovery(self, pkg):
+    # Print the probe and loading entry points used by the discovery mode
+    print("#define PROBE_GEMM_N 256")
+    print("#define PROBE_DOT_N 65536")
+    print("#define PROBE_DOT_REPEAT 64")
+    print("#define PROBE_RUNS 3")
+    print()
+    print("static double probe_now(void) {")
+    print("  struct timespec ts;")
+    print("  clock_gettime(CLOCK_MONOTONIC, &ts);")
+    print("  return ts.tv_sec + ts.tv_nsec * 1e-9;")
+    print("}")
+    print()
+    print("/* Loads the candidate library in isolation and measures dgemm and ddot on small operands, keeping the best")
+    print(" * of a few runs after a warmup. Returns { dgemm GFLOP/s, ddot GFLOP/s }, or NULL if the library can't be")
+    print(" * loaded, lacks either routine, or computes a wrong result.")
+    print(" *")
+    print(" * The library is never unloaded: OpenBLAS, MKL and BLIS start threads and register handlers as they are")
+    print(" * loaded or first called, which dlclose doesn't tear down safely. The pages stay mapped, and the library")
+    print(" * picked is opened again with RTLD_GLOBAL by load. */")
+    print("jdoubleArray Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_probe(JNIEnv *env, UNUSED jclass clazz, jstring library) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+    print("  const char *name = (*env)->GetStringUTFChars(env, library, NULL);")
+    print("  if (!name) {")
+    print("    return NULL;")
+    print("  }")
+    print("  void *handle = dlopen(name, RTLD_NOW | RTLD_LOCAL);")
+    print("  (*env)->ReleaseStringUTFChars(env, library, name);")
+    print("  if (!handle) {")
+    print("    return NULL;")
+    print("  }")
+    print("  jdoubleArray __ret = NULL;")
+    print("  double *__a = NULL, *__b = NULL, *__c = NULL;")
+    print("  int __n = PROBE_GEMM_N, __ndot = PROBE_DOT_N, __inc = 1;")
+    print("  double __alpha = 1.0, __beta = 0.0, __gemm = 0.0, __dot = 0.0;")
+    print("  __typeof__(dgemm_) __dgemm = (__typeof__(dgemm_))dlsym(handle, \"dgemm_\");")
+    print("  __typeof__(ddot_) __ddot = (__typeof__(ddot_))dlsym(handle, \"ddot_\");")
+    print("  if (!__dgemm || !__ddot) {")
+    print("    goto done;")
+    print("  }")
+    print("  if (!(__a = malloc(sizeof(double) * __n * __n)) || !(__b = malloc(sizeof(double) * __n * __n)) || !(__c = malloc(sizeof(double) * __n * __n))) {")
+    print("    goto done;")
+    print("  }")
+    print("  for (int i = 0; i < __n * __n; i++) {")
+    print("    __a[i] = 1.0;")
+    print("    __b[i] = 2.0;")
+    print("  }")
+    print("  for (int run = 0; run <= PROBE_RUNS; run++) {")
+    print("    double start = probe_now();")
+    print("    __dgemm(\"N\", \"N\", &__n, &__n, &__n, &__alpha, __a, &__n, __b, &__n, &__beta, __c, &__n);")
+    print("    double elapsed = probe_now() - start;")
+    print("    if (__c[0] != 2.0 * __n || __c[__n * __n - 1] != 2.0 * __n) {")
+    print("      goto done;")
+    print("    }")
+    print("    /* the first run is a warmup, which also lets the library start its threads */")
+    print("    if (run > 0 && elapsed > 0 && 2.0 * __n * __n * __n / elapsed / 1e9 > __gemm) {")
+    print("      __gemm = 2.0 * __n * __n * __n / elapsed / 1e9;")
+    print("    }")
+    print("  }")
+    print("  for (int run = 0; run <= PROBE_RUNS; run++) {")
+    print("    double start = probe_now();")
+    print("    double sum = 0.0;")
+    print("    for (int i = 0; i < PROBE_DOT_REPEAT; i++) {")
+    print("      sum += __ddot(&__ndot, __a, &__inc, __b, &__inc);")
+    print("    }")
+    print("    double elapsed = probe_now() - start;")
+    print("    if (sum != 2.0 * __ndot * PROBE_DOT_REPEAT) {")
+    print("      goto done;")
+    print("    }")
+    print("    if (run > 0 && elapsed > 0 && 2.0 * __ndot * PROBE_DOT_REPEAT / elapsed / 1e9 > __dot) {")
+    print("      __dot = 2.0 * __ndot * PROBE_DOT_REPEAT / elapsed / 1e9;")
+    print("    }")
+    print("  }")
+    print("  if ((__ret = (*env)->NewDoubleArray(env, 2))) {")
+    print("    jdouble __res[2] = { __gemm, __dot };")
+    print("    (*env)->SetDoubleArrayRegion(env, __ret, 0, 2, __res);")
+    print("  }")
+    print("done:")
+    print("  free(__a);")
+    print("  free(__b);")
+    print("  free(__c);")
+    print("  return __ret;")
+    print("}")
+    print()
+    print("static void *libhandle;")
+    print()
+    print("/* Loads the library picked by the discovery mode, making its symbols visible to LOAD_SYMBOL. */")
+    print("jboolean Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_load(JNIEnv *env, UNUSED jclass clazz, jstring library) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+    print("  const char *name = (*env)->GetStringUTFChars(env, library, NULL);")
+    print("  if (!name) {")
+    print("    return FALSE;")
+    print("  }")
+    print("  void *handle = dlopen(name, RTLD_LAZY | RTLD_GLOBAL);")
+    print("  (*env)->ReleaseStringUTFChars(env, library, name);")
+    print("  if (!handle) {")
+    print("    return FALSE;")
+    print("  }")
+    print("  void *expected = NULL;")
+    print("  if (!__atomic_compare_exchange_n(&libhandle, &expected, handle, FALSE, __ATOMIC_ACQ_REL, __ATOMIC_ACQUIRE)) {")
+    print("    /* a library is already loaded, and symbols may already have been resolved against it. This one is")
+    print("     * left open for the same reason as in probe. */")
+    print("    return FALSE;")
+    print("  }")
+    print("  return TRUE;")
+    print("}")
+    print()
+
+  def render_profile(self, pkg, routines):
+    for i, routine in enumerate(routines):
+      routine.profile = i
+    print("/* Built with -DNETLIB_JNI_PROFILE, every call accumulates the time spent converting the scalar, string and")
+    print(" * output arguments (marshal), getting and releasing the arrays, including the copies when the GC can't pin")
+    print(" * them (pin), and in the native routine itself (compute). The timers cost tens of nanoseconds per call, so")
+    print(" * they're compiled out by default. */")
+    print("#ifdef NETLIB_JNI_PROFILE")
+    print("#include <time.h>")
+    print()
+    print("typedef struct {")
+    print("  const char *name;")
+    print("  jlong calls;")
+    print("  jlong marshal;")
+    print("  jlong pin;")
+    print("  jlong compute;")
+    print("} profile_t;")
+    print()
+    print("static profile_t profiles[] = {")
+    for routine in routines:
+      print("  {{ \"{name}\", 0, 0, 0, 0 }},".format(name=routine.name))
+    print("};")
+    print()
+    print("static jlong profile_now(void) {")
+    print("  struct timespec ts;")
+    print("  clock_gettime(CLOCK_MONOTONIC, &ts);")
+    print("  return (jlong)ts.tv_sec * 1000000000 + ts.tv_nsec;")
     print("}")
+    print()
+    print("static void profile_record(int routine, jlong t0, jlong t1, jlong t2, jlong t3, jlong t4, jlong t5) {")
+    print("  __atomic_add_fetch(&profiles[routine].calls, 1, __ATOMIC_RELAXED);")
+    print("  __atomic_add_fetch(&profiles[routine].marshal, (t1 - t0) + (t5 - t4), __ATOMIC_RELAXED);")
+    print("  __atomic_add_fetch(&profiles[routine].pin, (t2 - t1) + (t4 - t3), __ATOMIC_RELAXED);")
+    print("  __atomic_add_fetch(&profiles[routine].compute, t3 - t2, __ATOMIC_RELAXED);")
+    print("}")
+    print()
+    print("#define PROFILE_DECLARE jlong __t0 = profile_now(), __t1 = 0, __t2 = 0, __t3 = 0, __t4 = 0")
+    print("#define PROFILE_TICK(t) (t = profile_now())")
+    print("#define PROFILE_RECORD(routine) \\")
+    print("  do { if (!__failed) profile_record(routine, __t0, __t1, __t2, __t3, __t4, profile_now()); } while (0)")
+    print("#else")
+    print("#define PROFILE_DECLARE do { } while (0)")
+    print("#define PROFILE_TICK(t) do { } while (0)")
+    print("#define PROFILE_RECORD(routine) do { } while (0)")
+    print("#endif")
+    print()
+    print("/* Calls, marshal, pin and compute nanoseconds accumulated for the routine, or NULL if the probes aren't built in */")
+    print("jlongArray Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_profile(UNUSED JNIEnv *env, UNUSED jclass clazz, UNUSED jstring routine) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+    print("#ifdef NETLIB_JNI_PROFILE")
+    print("  const char *name = (*env)->GetStringUTFChars(env, routine, NULL);")
+    print("  if (!name) {")
+    print("    return NULL;")
+    print("  }")
+    print("  jlongArray res = NULL;")
+    print("  for (size_t i = 0; i < sizeof(profiles) / sizeof(profiles[0]); i++) {")
+    print("    if (strcmp(profiles[i].name, name) == 0) {")
+    print("      jlong values[4] = {")
+    print("        __atomic_load_n(&profiles[i].calls, __ATOMIC_RELAXED),")
+    print("        __atomic_load_n(&profiles[i].marshal, __ATOMIC_RELAXED),")
+    print("        __atomic_load_n(&profiles[i].pin, __ATOMIC_RELAXED),")
+    print("        __atomic_load_n(&profiles[i].compute, __ATOMIC_RELAXED),")
+    print("      };")
+    print("      if ((res = (*env)->NewLongArray(env, 4))) {")
+    print("        (*env)->SetLongArrayRegion(env, res, 0, 4, values);")
+    print("      }")
+    print("      break;")
+    print("    }")
+    print("  }")
+    print("  (*env)->ReleaseStringUTFChars(env, routine, name);")
+    print("  return res;")
+    print("#else")
+    print("  return NULL;")
+    print("#endif")
+    print("}")
+    print()
+
+  def render_threads(self, pkg):
+    # Print optional symbols controlling the number of threads used by the native library, in order of preference
+    print("static int (*MKL_Get_Max_Threads)(void);")
+    print("static void (*MKL_Set_Num_Threads)(int nth);")
+    print("static int (*MKL_Set_Num_Threads_Local)(int nth);")
+    print("static int (*openblas_get_num_threads)(void);")
+    print("static void (*openblas_set_num_threads)(int num_threads);")
+    print("static int64_t (*bli_thread_get_num_threads)(void);")
+    print("static void (*bli_thread_set_num_threads)(int64_t n_threads);")
+    print()
+    print("jint Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_getNumThreads(UNUSED JNIEnv *env, UNUSED jobject obj) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+    print("  if (LOAD_SYMBOL(MKL_Get_Max_Threads)) return MKL_Get_Max_Threads();")
+    print("  if (LOAD_SYMBOL(openblas_get_num_threads)) return openblas_get_num_threads();")
+    print("  if (LOAD_SYMBOL(bli_thread_get_num_threads)) return (jint)bli_thread_get_num_threads();")
+    print("  return -1;")
+    print("}")
+    print()
+    print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_setNumThreads(UNUSED JNIEnv *env, UNUSED jobject obj, jint n) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+    print("  if (LOAD_SYMBOL(MKL_Set_Num_Threads)) { MKL_Set_Num_Threads(n); return; }")
+    print("  if (LOAD_SYMBOL(openblas_set_num_threads)) { openblas_set_num_threads(n); return; }")
+    print("  if (LOAD_SYMBOL(bli_thread_set_num_threads)) { bli_thread_set_num_threads(n); return; }")
+    print("}")
+    print()
+    print("static jboolean pin_pool_threads;")
+    print("static jclass JNI_class;")
+    print("static jmethodID isPoolThread_methodID;")
+    print("static __thread jboolean thread_checked;")
+    print()
+    print("/* Called on the first call from each thread when dev.ludovic.netlib.{pkg}.pinPoolThreads is set. If the".format(pkg=pkg))
+    print(" * calling thread belongs to a pool, the native library is limited to a single thread to avoid oversubscribing")
+    print(" * the CPU. MKL supports it per thread, while OpenBLAS and BLIS only support it for the whole process, so that")
+    print(" * the first pool thread limits every thread of the process. Returns FALSE if the check threw, in which case")
+    print(" * the exception is pending and the routine must return right away. */")
+    print("static jboolean pin_thread(JNIEnv *env) {")
+    print("  jboolean pool = (*env)->CallStaticBooleanMethod(env, JNI_class, isPoolThread_methodID);")
+    print("  if ((*env)->ExceptionCheck(env)) return FALSE;")
+    print("  thread_checked = TRUE;")
+    print("  if (!pool) return TRUE;")
+    print("  if (LOAD_SYMBOL(MKL_Set_Num_Threads_Local)) { MKL_Set_Num_Threads_Local(1); return TRUE; }")
+    print("  if (LOAD_SYMBOL(openblas_set_num_threads)) { openblas_set_num_threads(1); return TRUE; }")
+    print("  if (LOAD_SYMBOL(bli_thread_set_num_threads)) { bli_thread_set_num_threads(1); return TRUE; }")
+    print("  return TRUE;")
+    print("}")
+    print()
+    print("#define PIN_THREAD(env) \\")
+    print("  (!pin_pool_threads || thread_checked || pin_thread(env))")
+    print()
 
 
 # Copy from Java
@@ -557,6 +854,8 @@ if sys.argv[1] == "blas":
     Routine   (            "strsv", JString("uplo"), JString("trans"), JString("diag"), JInt("n"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("x"), JInt("incx")),
     RoutineR  (JIntR(),    "idamax", JInt("n"), JDoubleArray("dx", "JNI_ABORT"), JInt("incdx")),
     RoutineR  (JIntR(),    "isamax", JInt("n"), JFloatArray("sx", "JNI_ABORT"), JInt("incsx")),
+    threads=True,
+    discovery=True,
   )
 
 if sys.argv[1] == "lapack":
@@ -1284,6 +1583,7 @@ if sys.argv[1] == "lapack":
     RoutineR  (JFloatR(),   "slamc3",   JFloat("a"), JFloat("b")),
     Routine_NI(             "slamc4",   JIntW("emin"), JFloat("start"), JInt("base")),
     Routine_NI(             "slamc5",   JInt("beta"), JInt("p"), JInt("emin"), JBoolean("ieee"), JIntW("emax"), JFloatW("rmax")),
+    threads=True,
   )
 
 if sys.argv[1] == "arpack":
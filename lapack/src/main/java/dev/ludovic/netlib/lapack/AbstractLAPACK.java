@@ -31,6 +31,8 @@ abstract class AbstractLAPACK implements LAPACK {
 
   private final static boolean debug = System.getProperty("dev.ludovic.netlib.lapack.debug", "false").equals("true");
 
+  private final static Tracing tracing = Tracing.getInstance();
+
   private void checkArgument(String method, int arg, boolean check) {
     if (!check) {
       throw new IllegalArgumentException(String.format("** On entry to '%s' parameter number %d had an illegal value", method, arg));
@@ -44,6 +46,14 @@ abstract class AbstractLAPACK implements LAPACK {
     }
   }
 
+  // Checks the last element of the rows x cols column-major matrix starting at offset. Only the first
+  // rows elements of the last column are accessed, which matters for sub-matrices.
+  private void checkMatrix(int offset, int rows, int cols, int ld, int length) {
+    if (rows > 0 && cols > 0) {
+      checkIndex(offset + (cols - 1) * ld + rows - 1, length);
+    }
+  }
+
   private <T> void requireNonNull(T obj) {
     Objects.requireNonNull(obj);
   }
@@ -56,7 +66,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dbdsdc(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dbdsdc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dbdsdcK(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dbdsdc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dbdsdcK(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -69,7 +81,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dbdsqr(String uplo, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dbdsqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dbdsqrK(uplo, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dbdsqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dbdsqrK(String uplo, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -82,7 +96,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ddisna(String job, int m, int n, double[] d, int offsetd, double[] sep, int offsetsep, org.netlib.util.intW info) {
     if (debug) System.err.println("ddisna");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ddisnaK(job, m, n, d, offsetd, sep, offsetsep, info);
+    tracing.end(event, "ddisna", this, m, n, 0, 0, 0);
   }
 
   protected abstract void ddisnaK(String job, int m, int n, double[] d, int offsetd, double[] sep, int offsetsep, org.netlib.util.intW info);
@@ -95,7 +111,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbbrd(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] pt, int offsetpt, int ldpt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbbrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbbrdK(vect, m, n, ncc, kl, ku, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, pt, offsetpt, ldpt, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dgbbrd", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dgbbrdK(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] pt, int offsetpt, int ldpt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -108,7 +126,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbcon(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbconK(norm, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgbcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dgbconK(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -121,7 +141,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbequ(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbequK(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    tracing.end(event, "dgbequ", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dgbequK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info);
@@ -134,7 +156,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbrfs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbrfsK(trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgbrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgbrfsK(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -147,7 +171,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbsv(int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbsvK(n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dgbsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgbsvK(int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -160,7 +186,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbsvxK(fact, trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgbsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgbsvxK(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -173,7 +201,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbtf2(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbtf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbtf2K(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    tracing.end(event, "dgbtf2", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dgbtf2K(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -186,7 +216,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbtrf(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbtrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbtrfK(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    tracing.end(event, "dgbtrf", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dgbtrfK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -199,7 +231,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgbtrs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgbtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgbtrsK(trans, n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dgbtrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgbtrsK(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -212,7 +246,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgebak(String job, String side, int n, int ilo, int ihi, double[] scale, int offsetscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("dgebak");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgebakK(job, side, n, ilo, ihi, scale, offsetscale, m, v, offsetv, ldv, info);
+    tracing.end(event, "dgebak", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dgebakK(String job, String side, int n, int ilo, int ihi, double[] scale, int offsetscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info);
@@ -225,7 +261,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgebal(String job, int n, double[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.intW info) {
     if (debug) System.err.println("dgebal");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgebalK(job, n, a, offseta, lda, ilo, ihi, scale, offsetscale, info);
+    tracing.end(event, "dgebal", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgebalK(String job, int n, double[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.intW info);
@@ -238,7 +276,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgebd2(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgebd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgebd2K(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, info);
+    tracing.end(event, "dgebd2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgebd2K(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -251,7 +291,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgebrd(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgebrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgebrdK(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+    tracing.end(event, "dgebrd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgebrdK(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -264,7 +306,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgecon(String norm, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgecon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeconK(norm, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgecon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgeconK(String norm, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -277,7 +321,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgeequ(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeequK(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    tracing.end(event, "dgeequ", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgeequK(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info);
@@ -290,7 +336,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgees(String jobvs, String sort, java.lang.Object select, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgees");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeesK(jobvs, sort, select, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, work, offsetwork, lwork, bwork, offsetbwork, info);
+    tracing.end(event, "dgees", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgeesK(String jobvs, String sort, java.lang.Object select, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -303,7 +351,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeesx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeesxK(jobvs, sort, select, sense, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, rconde, rcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    tracing.end(event, "dgeesx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgeesxK(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -332,16 +382,18 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(work);
     requireNonNull(info);
     if (lwork != -1) {
-      checkIndex(offseta + n * lda - 1, a.length);
+      checkMatrix(offseta, n, n, lda, a.length);
       checkIndex(offsetwr + n - 1, wr.length);
       checkIndex(offsetwi + n - 1, wi.length);
       if (lsame("V", jobvl))
-        checkIndex(offsetvl + n * ldvl - 1, vl.length);
+        checkMatrix(offsetvl, n, n, ldvl, vl.length);
       if (lsame("V", jobvr))
-        checkIndex(offsetvr + n * ldvr - 1, vr.length);
+        checkMatrix(offsetvr, n, n, ldvr, vr.length);
     }
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    tracing.end(event, "dgeev", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -354,7 +406,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeevxK(balanc, jobvl, jobvr, sense, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, scale, offsetscale, abnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgeevx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -367,7 +421,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgegs(String jobvsl, String jobvsr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgegs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgegsK(jobvsl, jobvsr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, info);
+    tracing.end(event, "dgegs", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgegsK(String jobvsl, String jobvsr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -380,7 +436,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgegv(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgegv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgegvK(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    tracing.end(event, "dgegv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgegvK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -393,7 +451,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgehd2(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgehd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgehd2K(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dgehd2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgehd2K(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -406,7 +466,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgehrd(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgehrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgehrdK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dgehrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgehrdK(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -419,7 +481,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgelq2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelq2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgelq2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dgelq2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgelq2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -432,7 +496,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgelqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgelqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dgelqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgelqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -455,10 +521,12 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(b);
     requireNonNull(work);
     requireNonNull(info);
-    checkIndex(offseta + n * lda - 1, a.length);
-    checkIndex(offsetb + nrhs * (lsame("N", trans) ? m : n) - 1, b.length);
+    checkMatrix(offseta, m, n, lda, a.length);
+    checkMatrix(offsetb, Math.max(m, n), nrhs, ldb, b.length);
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    tracing.end(event, "dgels", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -471,7 +539,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgelsd(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelsd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgelsdK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgelsd", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void dgelsdK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -484,7 +554,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgelss(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelss");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgelssK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+    tracing.end(event, "dgelss", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void dgelssK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -497,7 +569,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgelsx(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelsx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgelsxK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, info);
+    tracing.end(event, "dgelsx", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void dgelsxK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -510,7 +584,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgelsy(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelsy");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgelsyK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, lwork, info);
+    tracing.end(event, "dgelsy", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void dgelsyK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -523,7 +599,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgeql2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeql2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeql2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dgeql2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgeql2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -536,7 +614,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgeqlf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeqlf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeqlfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dgeqlf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgeqlfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -557,11 +637,13 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(tau);
     requireNonNull(work);
     requireNonNull(info);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     checkIndex(offsetjpvt + n - 1, jpvt.length);
     checkIndex(offsettau + Math.min(m, n) - 1, tau.length);
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     dgeqp3K(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dgeqp3", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgeqp3K(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -574,7 +656,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgeqpf(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeqpf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeqpfK(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dgeqpf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgeqpfK(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -587,7 +671,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgeqr2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeqr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgeqr2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dgeqr2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgeqr2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -608,11 +694,13 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(work);
     requireNonNull(info);
     if (lwork != -1) {
-      checkIndex(offseta + n * lda - 1, a.length);
+      checkMatrix(offseta, m, n, lda, a.length);
       checkIndex(offsettau + Math.min(m, n) - 1, tau.length);
     }
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     dgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dgeqrf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgeqrfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -625,7 +713,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgerfs(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgerfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgerfsK(trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgerfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dgerfsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -638,7 +728,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgerq2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgerq2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgerq2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dgerq2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgerq2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -651,7 +743,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgerqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgerqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgerqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dgerqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgerqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -664,7 +758,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgesc2(int n, double[] a, int offseta, int lda, double[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.doubleW scale) {
     if (debug) System.err.println("dgesc2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgesc2K(n, a, offseta, lda, rhs, offsetrhs, ipiv, offsetipiv, jpiv, offsetjpiv, scale);
+    tracing.end(event, "dgesc2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgesc2K(int n, double[] a, int offseta, int lda, double[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.doubleW scale);
@@ -677,7 +773,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgesdd(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesdd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgesdd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -690,7 +788,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgesv(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dgesv", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -703,7 +803,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    tracing.end(event, "dgesvd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -716,7 +818,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgesvxK(fact, trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgesvx", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dgesvxK(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -729,7 +833,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgetc2(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
     if (debug) System.err.println("dgetc2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgetc2K(n, a, offseta, lda, ipiv, offsetipiv, jpiv, offsetjpiv, info);
+    tracing.end(event, "dgetc2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgetc2K(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info);
@@ -742,7 +848,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgetf2(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("dgetf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgetf2K(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    tracing.end(event, "dgetf2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgetf2K(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -760,9 +868,11 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(a);
     requireNonNull(ipiv);
     requireNonNull(info);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     checkIndex(offsetipiv + Math.min(m, n) - 1, ipiv.length);
+    Object event = tracing.begin();
     dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    tracing.end(event, "dgetrf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -775,7 +885,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgetri(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgetri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    tracing.end(event, "dgetri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgetriK(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -788,7 +900,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgetrs(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgetrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dgetrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dgetrsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -801,7 +915,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("dggbak");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggbakK(job, side, n, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, m, v, offsetv, ldv, info);
+    tracing.end(event, "dggbak", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dggbakK(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info);
@@ -814,7 +930,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggbal(String job, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggbal");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggbalK(job, n, a, offseta, lda, b, offsetb, ldb, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, work, offsetwork, info);
+    tracing.end(event, "dggbal", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dggbalK(String job, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -827,7 +945,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgges");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggesK(jobvsl, jobvsr, sort, selctg, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, bwork, offsetbwork, info);
+    tracing.end(event, "dgges", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dggesK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -840,7 +960,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggesx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggesxK(jobvsl, jobvsr, sort, selctg, sense, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    tracing.end(event, "dggesx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dggesxK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -853,7 +975,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggev(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggevK(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    tracing.end(event, "dggev", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dggevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -866,7 +990,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggevxK(balanc, jobvl, jobvr, sense, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, abnrm, bbnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, bwork, offsetbwork, info);
+    tracing.end(event, "dggevx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dggevxK(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -879,7 +1005,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggglm(int n, int m, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] d, int offsetd, double[] x, int offsetx, double[] y, int offsety, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggglm");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggglmK(n, m, p, a, offseta, lda, b, offsetb, ldb, d, offsetd, x, offsetx, y, offsety, work, offsetwork, lwork, info);
+    tracing.end(event, "dggglm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dggglmK(int n, int m, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] d, int offsetd, double[] x, int offsetx, double[] y, int offsety, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -892,7 +1020,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgghrd(String compq, String compz, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
     if (debug) System.err.println("dgghrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgghrdK(compq, compz, n, ilo, ihi, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, info);
+    tracing.end(event, "dgghrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dgghrdK(String compq, String compz, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW info);
@@ -905,7 +1035,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgglse(int m, int n, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, double[] d, int offsetd, double[] x, int offsetx, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgglse");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgglseK(m, n, p, a, offseta, lda, b, offsetb, ldb, c, offsetc, d, offsetd, x, offsetx, work, offsetwork, lwork, info);
+    tracing.end(event, "dgglse", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dgglseK(int m, int n, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, double[] d, int offsetd, double[] x, int offsetx, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -918,7 +1050,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggqrf(int n, int m, int p, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggqrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggqrfK(n, m, p, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    tracing.end(event, "dggqrf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dggqrfK(int n, int m, int p, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -931,7 +1065,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggrqf(int m, int p, int n, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggrqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggrqfK(m, p, n, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    tracing.end(event, "dggrqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dggrqfK(int m, int p, int n, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -944,7 +1080,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggsvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggsvdK(jobu, jobv, jobq, m, n, p, k, l, a, offseta, lda, b, offsetb, ldb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dggsvd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dggsvdK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -957,7 +1095,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dggsvp(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dggsvp");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dggsvpK(jobu, jobv, jobq, m, p, n, a, offseta, lda, b, offsetb, ldb, tola, tolb, k, l, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, iwork, offsetiwork, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dggsvp", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dggsvpK(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -970,7 +1110,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgtcon(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgtcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgtconK(norm, n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgtcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dgtconK(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -983,7 +1125,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgtrfs(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgtrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgtrfsK(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgtrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgtrfsK(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -996,7 +1140,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgtsv(int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgtsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgtsvK(n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, b, offsetb, ldb, info);
+    tracing.end(event, "dgtsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgtsvK(int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -1009,7 +1155,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgtsvx(String fact, String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgtsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgtsvxK(fact, trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dgtsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgtsvxK(String fact, String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -1022,7 +1170,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgttrf(int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("dgttrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgttrfK(n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, info);
+    tracing.end(event, "dgttrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dgttrfK(int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -1035,7 +1185,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgttrs(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgttrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgttrsK(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dgttrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgttrsK(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -1048,7 +1200,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dgtts2(int itrans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb) {
     if (debug) System.err.println("dgtts2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dgtts2K(itrans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb);
+    tracing.end(event, "dgtts2", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dgtts2K(int itrans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb);
@@ -1061,7 +1215,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dhgeqz(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] t, int offsett, int ldt, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dhgeqz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dhgeqzK(job, compq, compz, n, ilo, ihi, h, offseth, ldh, t, offsett, ldt, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "dhgeqz", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dhgeqzK(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] t, int offsett, int ldt, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -1074,7 +1230,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dhsein(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
     if (debug) System.err.println("dhsein");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dhseinK(side, eigsrc, initv, select, offsetselect, n, h, offseth, ldh, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, ifaill, offsetifaill, ifailr, offsetifailr, info);
+    tracing.end(event, "dhsein", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dhseinK(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info);
@@ -1087,21 +1245,28 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dhseqr(String job, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dhseqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dhseqrK(job, compz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "dhseqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dhseqrK(String job, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
   public boolean disnan(double din) {
     if (debug) System.err.println("disnan");
-    return disnanK(din);
+    Object event = tracing.begin();
+    boolean result = disnanK(din);
+    tracing.end(event, "disnan", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract boolean disnanK(double din);
 
   public void dlabad(org.netlib.util.doubleW small, org.netlib.util.doubleW large) {
     if (debug) System.err.println("dlabad");
+    Object event = tracing.begin();
     dlabadK(small, large);
+    tracing.end(event, "dlabad", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlabadK(org.netlib.util.doubleW small, org.netlib.util.doubleW large);
@@ -1114,7 +1279,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlabrd(int m, int n, int nb, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
     if (debug) System.err.println("dlabrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlabrdK(m, n, nb, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, x, offsetx, ldx, y, offsety, ldy);
+    tracing.end(event, "dlabrd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlabrdK(int m, int n, int nb, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy);
@@ -1127,7 +1294,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlacn2(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
     if (debug) System.err.println("dlacn2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlacn2K(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase, isave, offsetisave);
+    tracing.end(event, "dlacn2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlacn2K(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave, int offsetisave);
@@ -1140,7 +1309,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlacon(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
     if (debug) System.err.println("dlacon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaconK(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase);
+    tracing.end(event, "dlacon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaconK(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase);
@@ -1153,21 +1324,27 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlacpy(String uplo, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
     if (debug) System.err.println("dlacpy");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlacpyK(uplo, m, n, a, offseta, lda, b, offsetb, ldb);
+    tracing.end(event, "dlacpy", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlacpyK(String uplo, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
 
   public void dladiv(double a, double b, double c, double d, org.netlib.util.doubleW p, org.netlib.util.doubleW q) {
     if (debug) System.err.println("dladiv");
+    Object event = tracing.begin();
     dladivK(a, b, c, d, p, q);
+    tracing.end(event, "dladiv", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dladivK(double a, double b, double c, double d, org.netlib.util.doubleW p, org.netlib.util.doubleW q);
 
   public void dlae2(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2) {
     if (debug) System.err.println("dlae2");
+    Object event = tracing.begin();
     dlae2K(a, b, c, rt1, rt2);
+    tracing.end(event, "dlae2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlae2K(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2);
@@ -1180,7 +1357,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, int[] nval, int offsetnval, double[] ab, int offsetab, double[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaebz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaebzK(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, offsetd, e, offsete, e2, offsete2, nval, offsetnval, ab, offsetab, c, offsetc, mout, nab, offsetnab, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlaebz", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaebzK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, int[] nval, int offsetnval, double[] ab, int offsetab, double[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -1193,7 +1372,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed0(int icompq, int qsiz, int n, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] qstore, int offsetqstore, int ldqs, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed0K(icompq, qsiz, n, d, offsetd, e, offsete, q, offsetq, ldq, qstore, offsetqstore, ldqs, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlaed0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaed0K(int icompq, int qsiz, int n, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] qstore, int offsetqstore, int ldqs, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -1206,7 +1387,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed1(int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed1K(n, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlaed1", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaed1K(int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -1219,7 +1402,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed2(org.netlib.util.intW k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed2K(k, n, n1, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, z, offsetz, dlamda, offsetdlamda, w, offsetw, q2, offsetq2, indx, offsetindx, indxc, offsetindxc, indxp, offsetindxp, coltyp, offsetcoltyp, info);
+    tracing.end(event, "dlaed2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaed2K(org.netlib.util.intW k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info);
@@ -1232,7 +1417,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed3(int k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, double[] w, int offsetw, double[] s, int offsets, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed3K(k, n, n1, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, q2, offsetq2, indx, offsetindx, ctot, offsetctot, w, offsetw, s, offsets, info);
+    tracing.end(event, "dlaed3", this, 0, n, k, 0, 0);
   }
 
   protected abstract void dlaed3K(int k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, double[] w, int offsetw, double[] s, int offsets, org.netlib.util.intW info);
@@ -1245,7 +1432,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed4(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed4K(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam, info);
+    tracing.end(event, "dlaed4", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaed4K(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info);
@@ -1258,7 +1447,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed5(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam) {
     if (debug) System.err.println("dlaed5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed5K(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam);
+    tracing.end(event, "dlaed5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlaed5K(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam);
@@ -1271,7 +1462,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed6(int kniter, boolean orgati, double rho, double[] d, int offsetd, double[] z, int offsetz, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed6");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed6K(kniter, orgati, rho, d, offsetd, z, offsetz, finit, tau, info);
+    tracing.end(event, "dlaed6", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlaed6K(int kniter, boolean orgati, double rho, double[] d, int offsetd, double[] z, int offsetz, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info);
@@ -1284,7 +1477,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed7");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed7K(icompq, n, qsiz, tlvls, curlvl, curpbm, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, qstore, offsetqstore, qptr, offsetqptr, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlaed7", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaed7K(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -1297,7 +1492,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int ldq2, double[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed8");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed8K(icompq, k, n, qsiz, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, z, offsetz, dlamda, offsetdlamda, q2, offsetq2, ldq2, w, offsetw, perm, offsetperm, givptr, givcol, offsetgivcol, givnum, offsetgivnum, indxp, offsetindxp, indx, offsetindx, info);
+    tracing.end(event, "dlaed8", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaed8K(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int ldq2, double[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info);
@@ -1310,7 +1507,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaed9(int k, int kstart, int kstop, int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] s, int offsets, int lds, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaed9");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaed9K(k, kstart, kstop, n, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, w, offsetw, s, offsets, lds, info);
+    tracing.end(event, "dlaed9", this, 0, n, k, 0, 0);
   }
 
   protected abstract void dlaed9K(int k, int kstart, int kstop, int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] s, int offsets, int lds, org.netlib.util.intW info);
@@ -1323,7 +1522,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] q, int offsetq, int[] qptr, int offsetqptr, double[] z, int offsetz, double[] ztemp, int offsetztemp, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaeda");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaedaK(n, tlvls, curlvl, curpbm, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, q, offsetq, qptr, offsetqptr, z, offsetz, ztemp, offsetztemp, info);
+    tracing.end(event, "dlaeda", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaedaK(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] q, int offsetq, int[] qptr, int offsetqptr, double[] z, int offsetz, double[] ztemp, int offsetztemp, org.netlib.util.intW info);
@@ -1336,14 +1537,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaein(boolean rightv, boolean noinit, int n, double[] h, int offseth, int ldh, double wr, double wi, double[] vr, int offsetvr, double[] vi, int offsetvi, double[] b, int offsetb, int ldb, double[] work, int offsetwork, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaein");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaeinK(rightv, noinit, n, h, offseth, ldh, wr, wi, vr, offsetvr, vi, offsetvi, b, offsetb, ldb, work, offsetwork, eps3, smlnum, bignum, info);
+    tracing.end(event, "dlaein", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaeinK(boolean rightv, boolean noinit, int n, double[] h, int offseth, int ldh, double wr, double wi, double[] vr, int offsetvr, double[] vi, int offsetvi, double[] b, int offsetb, int ldb, double[] work, int offsetwork, double eps3, double smlnum, double bignum, org.netlib.util.intW info);
 
   public void dlaev2(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2, org.netlib.util.doubleW cs1, org.netlib.util.doubleW sn1) {
     if (debug) System.err.println("dlaev2");
+    Object event = tracing.begin();
     dlaev2K(a, b, c, rt1, rt2, cs1, sn1);
+    tracing.end(event, "dlaev2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlaev2K(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2, org.netlib.util.doubleW cs1, org.netlib.util.doubleW sn1);
@@ -1356,7 +1561,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaexc(boolean wantq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, int j1, int n1, int n2, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaexc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaexcK(wantq, n, t, offsett, ldt, q, offsetq, ldq, j1, n1, n2, work, offsetwork, info);
+    tracing.end(event, "dlaexc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaexcK(boolean wantq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, int j1, int n1, int n2, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -1369,7 +1576,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlag2(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
     if (debug) System.err.println("dlag2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlag2K(a, offseta, lda, b, offsetb, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+    tracing.end(event, "dlag2", this, 0, 0, 0, 0, lda);
   }
 
   protected abstract void dlag2K(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi);
@@ -1382,14 +1591,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlag2s(int m, int n, double[] a, int offseta, int lda, float[] sa, int offsetsa, int ldsa, org.netlib.util.intW info) {
     if (debug) System.err.println("dlag2s");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlag2sK(m, n, a, offseta, lda, sa, offsetsa, ldsa, info);
+    tracing.end(event, "dlag2s", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlag2sK(int m, int n, double[] a, int offseta, int lda, float[] sa, int offsetsa, int ldsa, org.netlib.util.intW info);
 
   public void dlags2(boolean upper, double a1, double a2, double a3, double b1, double b2, double b3, org.netlib.util.doubleW csu, org.netlib.util.doubleW snu, org.netlib.util.doubleW csv, org.netlib.util.doubleW snv, org.netlib.util.doubleW csq, org.netlib.util.doubleW snq) {
     if (debug) System.err.println("dlags2");
+    Object event = tracing.begin();
     dlags2K(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+    tracing.end(event, "dlags2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlags2K(boolean upper, double a1, double a2, double a3, double b1, double b2, double b3, org.netlib.util.doubleW csu, org.netlib.util.doubleW snu, org.netlib.util.doubleW csv, org.netlib.util.doubleW snv, org.netlib.util.doubleW csq, org.netlib.util.doubleW snq);
@@ -1402,7 +1615,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlagtf(int n, double[] a, int offseta, double lambda, double[] b, int offsetb, double[] c, int offsetc, double tol, double[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
     if (debug) System.err.println("dlagtf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlagtfK(n, a, offseta, lambda, b, offsetb, c, offsetc, tol, d, offsetd, in, offsetin, info);
+    tracing.end(event, "dlagtf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlagtfK(int n, double[] a, int offseta, double lambda, double[] b, int offsetb, double[] c, int offsetc, double tol, double[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info);
@@ -1415,7 +1630,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlagtm(String trans, int n, int nrhs, double alpha, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] x, int offsetx, int ldx, double beta, double[] b, int offsetb, int ldb) {
     if (debug) System.err.println("dlagtm");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlagtmK(trans, n, nrhs, alpha, dl, offsetdl, d, offsetd, du, offsetdu, x, offsetx, ldx, beta, b, offsetb, ldb);
+    tracing.end(event, "dlagtm", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dlagtmK(String trans, int n, int nrhs, double alpha, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] x, int offsetx, int ldx, double beta, double[] b, int offsetb, int ldb);
@@ -1428,7 +1645,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlagts(int job, int n, double[] a, int offseta, double[] b, int offsetb, double[] c, int offsetc, double[] d, int offsetd, int[] in, int offsetin, double[] y, int offsety, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
     if (debug) System.err.println("dlagts");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlagtsK(job, n, a, offseta, b, offsetb, c, offsetc, d, offsetd, in, offsetin, y, offsety, tol, info);
+    tracing.end(event, "dlagts", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlagtsK(int job, int n, double[] a, int offseta, double[] b, int offsetb, double[] c, int offsetc, double[] d, int offsetd, int[] in, int offsetin, double[] y, int offsety, org.netlib.util.doubleW tol, org.netlib.util.intW info);
@@ -1441,7 +1660,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlagv2(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
     if (debug) System.err.println("dlagv2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlagv2K(a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, csl, snl, csr, snr);
+    tracing.end(event, "dlagv2", this, 0, 0, 0, 0, lda);
   }
 
   protected abstract void dlagv2K(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr);
@@ -1454,7 +1675,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
     if (debug) System.err.println("dlahqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlahqrK(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, info);
+    tracing.end(event, "dlahqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlahqrK(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW info);
@@ -1467,7 +1690,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlahr2(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
     if (debug) System.err.println("dlahr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlahr2K(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    tracing.end(event, "dlahr2", this, 0, n, k, 0, lda);
   }
 
   protected abstract void dlahr2K(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy);
@@ -1480,7 +1705,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlahrd(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
     if (debug) System.err.println("dlahrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlahrdK(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    tracing.end(event, "dlahrd", this, 0, n, k, 0, lda);
   }
 
   protected abstract void dlahrdK(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy);
@@ -1493,14 +1720,19 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaic1(int job, int j, double[] x, int offsetx, double sest, double[] w, int offsetw, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
     if (debug) System.err.println("dlaic1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaic1K(job, j, x, offsetx, sest, w, offsetw, gamma, sestpr, s, c);
+    tracing.end(event, "dlaic1", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlaic1K(int job, int j, double[] x, int offsetx, double sest, double[] w, int offsetw, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c);
 
   public boolean dlaisnan(double din1, double din2) {
     if (debug) System.err.println("dlaisnan");
-    return dlaisnanK(din1, din2);
+    Object event = tracing.begin();
+    boolean result = dlaisnanK(din1, din2);
+    tracing.end(event, "dlaisnan", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract boolean dlaisnanK(double din1, double din2);
@@ -1513,7 +1745,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaln2(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int offseta, int lda, double d1, double d2, double[] b, int offsetb, int ldb, double wr, double wi, double[] x, int offsetx, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaln2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaln2K(ltrans, na, nw, smin, ca, a, offseta, lda, d1, d2, b, offsetb, ldb, wr, wi, x, offsetx, ldx, scale, xnorm, info);
+    tracing.end(event, "dlaln2", this, 0, 0, 0, 0, lda);
   }
 
   protected abstract void dlaln2K(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int offseta, int lda, double d1, double d2, double[] b, int offsetb, int ldb, double wr, double wi, double[] x, int offsetx, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info);
@@ -1526,7 +1760,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlals0(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, int k, double c, double s, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlals0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlals0K(icompq, nl, nr, sqre, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, info);
+    tracing.end(event, "dlals0", this, 0, 0, k, nrhs, 0);
   }
 
   protected abstract void dlals0K(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, int k, double c, double s, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -1539,7 +1775,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlalsa(int icompq, int smlsiz, int n, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlalsa");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlalsaK(icompq, smlsiz, n, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlalsa", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dlalsaK(int icompq, int smlsiz, int n, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -1552,7 +1790,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlalsd(String uplo, int smlsiz, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlalsd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlalsdK(uplo, smlsiz, n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, rcond, rank, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlalsd", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dlalsdK(String uplo, int smlsiz, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -1565,7 +1805,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlamrg(int n1, int n2, double[] a, int offseta, int dtrd1, int dtrd2, int[] index, int offsetindex) {
     if (debug) System.err.println("dlamrg");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlamrgK(n1, n2, a, offseta, dtrd1, dtrd2, index, offsetindex);
+    tracing.end(event, "dlamrg", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlamrgK(int n1, int n2, double[] a, int offseta, int dtrd1, int dtrd2, int[] index, int offsetindex);
@@ -1578,7 +1820,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public int dlaneg(int n, double[] d, int offsetd, double[] lld, int offsetlld, double sigma, double pivmin, int r) {
     if (debug) System.err.println("dlaneg");
     //FIXME Add arguments check
-    return dlanegK(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+    Object event = tracing.begin();
+    int result = dlanegK(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+    tracing.end(event, "dlaneg", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract int dlanegK(int n, double[] d, int offsetd, double[] lld, int offsetlld, double sigma, double pivmin, int r);
@@ -1591,7 +1836,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlangb(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
     if (debug) System.err.println("dlangb");
     //FIXME Add arguments check
-    return dlangbK(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlangbK(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+    tracing.end(event, "dlangb", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlangbK(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] work, int offsetwork);
@@ -1604,7 +1852,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlange(String norm, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
     if (debug) System.err.println("dlange");
     //FIXME Add arguments check
-    return dlangeK(norm, m, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlangeK(norm, m, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "dlange", this, m, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract double dlangeK(String norm, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork);
@@ -1617,7 +1868,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlangt(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu) {
     if (debug) System.err.println("dlangt");
     //FIXME Add arguments check
-    return dlangtK(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+    Object event = tracing.begin();
+    double result = dlangtK(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+    tracing.end(event, "dlangt", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlangtK(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu);
@@ -1630,7 +1884,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlanhs(String norm, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
     if (debug) System.err.println("dlanhs");
     //FIXME Add arguments check
-    return dlanhsK(norm, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlanhsK(norm, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "dlanhs", this, 0, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract double dlanhsK(String norm, int n, double[] a, int offseta, int lda, double[] work, int offsetwork);
@@ -1643,7 +1900,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlansb(String norm, String uplo, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
     if (debug) System.err.println("dlansb");
     //FIXME Add arguments check
-    return dlansbK(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlansbK(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+    tracing.end(event, "dlansb", this, 0, n, k, 0, 0);
+    return result;
   }
 
   protected abstract double dlansbK(String norm, String uplo, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork);
@@ -1656,7 +1916,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlansp(String norm, String uplo, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
     if (debug) System.err.println("dlansp");
     //FIXME Add arguments check
-    return dlanspK(norm, uplo, n, ap, offsetap, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlanspK(norm, uplo, n, ap, offsetap, work, offsetwork);
+    tracing.end(event, "dlansp", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlanspK(String norm, String uplo, int n, double[] ap, int offsetap, double[] work, int offsetwork);
@@ -1669,7 +1932,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlanst(String norm, int n, double[] d, int offsetd, double[] e, int offsete) {
     if (debug) System.err.println("dlanst");
     //FIXME Add arguments check
-    return dlanstK(norm, n, d, offsetd, e, offsete);
+    Object event = tracing.begin();
+    double result = dlanstK(norm, n, d, offsetd, e, offsete);
+    tracing.end(event, "dlanst", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlanstK(String norm, int n, double[] d, int offsetd, double[] e, int offsete);
@@ -1682,7 +1948,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlansy(String norm, String uplo, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
     if (debug) System.err.println("dlansy");
     //FIXME Add arguments check
-    return dlansyK(norm, uplo, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlansyK(norm, uplo, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "dlansy", this, 0, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract double dlansyK(String norm, String uplo, int n, double[] a, int offseta, int lda, double[] work, int offsetwork);
@@ -1695,7 +1964,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlantb(String norm, String uplo, String diag, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
     if (debug) System.err.println("dlantb");
     //FIXME Add arguments check
-    return dlantbK(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlantbK(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+    tracing.end(event, "dlantb", this, 0, n, k, 0, 0);
+    return result;
   }
 
   protected abstract double dlantbK(String norm, String uplo, String diag, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork);
@@ -1708,7 +1980,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlantp(String norm, String uplo, String diag, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
     if (debug) System.err.println("dlantp");
     //FIXME Add arguments check
-    return dlantpK(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlantpK(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+    tracing.end(event, "dlantp", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlantpK(String norm, String uplo, String diag, int n, double[] ap, int offsetap, double[] work, int offsetwork);
@@ -1721,14 +1996,19 @@ abstract class AbstractLAPACK implements LAPACK {
   public double dlantr(String norm, String uplo, String diag, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
     if (debug) System.err.println("dlantr");
     //FIXME Add arguments check
-    return dlantrK(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    double result = dlantrK(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "dlantr", this, m, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract double dlantrK(String norm, String uplo, String diag, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork);
 
   public void dlanv2(org.netlib.util.doubleW a, org.netlib.util.doubleW b, org.netlib.util.doubleW c, org.netlib.util.doubleW d, org.netlib.util.doubleW rt1r, org.netlib.util.doubleW rt1i, org.netlib.util.doubleW rt2r, org.netlib.util.doubleW rt2i, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn) {
     if (debug) System.err.println("dlanv2");
+    Object event = tracing.begin();
     dlanv2K(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+    tracing.end(event, "dlanv2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlanv2K(org.netlib.util.doubleW a, org.netlib.util.doubleW b, org.netlib.util.doubleW c, org.netlib.util.doubleW d, org.netlib.util.doubleW rt1r, org.netlib.util.doubleW rt1i, org.netlib.util.doubleW rt2r, org.netlib.util.doubleW rt2i, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn);
@@ -1741,7 +2021,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlapll(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, org.netlib.util.doubleW ssmin) {
     if (debug) System.err.println("dlapll");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlapllK(n, x, offsetx, incx, y, offsety, incy, ssmin);
+    tracing.end(event, "dlapll", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlapllK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, org.netlib.util.doubleW ssmin);
@@ -1754,21 +2036,29 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlapmt(boolean forwrd, int m, int n, double[] x, int offsetx, int ldx, int[] k, int offsetk) {
     if (debug) System.err.println("dlapmt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlapmtK(forwrd, m, n, x, offsetx, ldx, k, offsetk);
+    tracing.end(event, "dlapmt", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dlapmtK(boolean forwrd, int m, int n, double[] x, int offsetx, int ldx, int[] k, int offsetk);
 
   public double dlapy2(double x, double y) {
     if (debug) System.err.println("dlapy2");
-    return dlapy2K(x, y);
+    Object event = tracing.begin();
+    double result = dlapy2K(x, y);
+    tracing.end(event, "dlapy2", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlapy2K(double x, double y);
 
   public double dlapy3(double x, double y, double z) {
     if (debug) System.err.println("dlapy3");
-    return dlapy3K(x, y, z);
+    Object event = tracing.begin();
+    double result = dlapy3K(x, y, z);
+    tracing.end(event, "dlapy3", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlapy3K(double x, double y, double z);
@@ -1781,7 +2071,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqgb(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("dlaqgb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqgbK(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    tracing.end(event, "dlaqgb", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dlaqgbK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed);
@@ -1794,7 +2086,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqge(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("dlaqge");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqgeK(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    tracing.end(event, "dlaqge", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlaqgeK(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed);
@@ -1807,7 +2101,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqp2(int m, int n, int offset, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] work, int offsetwork) {
     if (debug) System.err.println("dlaqp2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqp2K(m, n, offset, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, work, offsetwork);
+    tracing.end(event, "dlaqp2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlaqp2K(int m, int n, int offset, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] work, int offsetwork);
@@ -1820,7 +2116,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] auxv, int offsetauxv, double[] f, int offsetf, int ldf) {
     if (debug) System.err.println("dlaqps");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqpsK(m, n, offset, nb, kb, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, auxv, offsetauxv, f, offsetf, ldf);
+    tracing.end(event, "dlaqps", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlaqpsK(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] auxv, int offsetauxv, double[] f, int offsetf, int ldf);
@@ -1833,7 +2131,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaqr0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqr0K(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "dlaqr0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqr0K(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -1846,7 +2146,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqr1(int n, double[] h, int offseth, int ldh, double sr1, double si1, double sr2, double si2, double[] v, int offsetv) {
     if (debug) System.err.println("dlaqr1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqr1K(n, h, offseth, ldh, sr1, si1, sr2, si2, v, offsetv);
+    tracing.end(event, "dlaqr1", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqr1K(int n, double[] h, int offseth, int ldh, double sr1, double si1, double sr2, double si2, double[] v, int offsetv);
@@ -1859,7 +2161,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
     if (debug) System.err.println("dlaqr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqr2K(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    tracing.end(event, "dlaqr2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqr2K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork);
@@ -1872,7 +2176,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
     if (debug) System.err.println("dlaqr3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqr3K(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    tracing.end(event, "dlaqr3", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqr3K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork);
@@ -1885,7 +2191,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaqr4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqr4K(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "dlaqr4", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqr4K(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -1898,7 +2206,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, int offsetsr, double[] si, int offsetsi, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] v, int offsetv, int ldv, double[] u, int offsetu, int ldu, int nv, double[] wv, int offsetwv, int ldwv, int nh, double[] wh, int offsetwh, int ldwh) {
     if (debug) System.err.println("dlaqr5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqr5K(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, offsetsr, si, offsetsi, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, v, offsetv, ldv, u, offsetu, ldu, nv, wv, offsetwv, ldwv, nh, wh, offsetwh, ldwh);
+    tracing.end(event, "dlaqr5", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqr5K(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, int offsetsr, double[] si, int offsetsi, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] v, int offsetv, int ldv, double[] u, int offsetu, int ldu, int nv, double[] wv, int offsetwv, int ldwv, int nh, double[] wh, int offsetwh, int ldwh);
@@ -1911,7 +2221,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqsb(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("dlaqsb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqsbK(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, equed);
+    tracing.end(event, "dlaqsb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqsbK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed);
@@ -1924,7 +2236,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqsp(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("dlaqsp");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqspK(uplo, n, ap, offsetap, s, offsets, scond, amax, equed);
+    tracing.end(event, "dlaqsp", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqspK(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed);
@@ -1937,7 +2251,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqsy(String uplo, int n, double[] a, int offseta, int lda, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("dlaqsy");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqsyK(uplo, n, a, offseta, lda, s, offsets, scond, amax, equed);
+    tracing.end(event, "dlaqsy", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dlaqsyK(String uplo, int n, double[] a, int offseta, int lda, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed);
@@ -1950,7 +2266,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaqtr(boolean ltran, boolean lreal, int n, double[] t, int offsett, int ldt, double[] b, int offsetb, double w, org.netlib.util.doubleW scale, double[] x, int offsetx, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlaqtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaqtrK(ltran, lreal, n, t, offsett, ldt, b, offsetb, w, scale, x, offsetx, work, offsetwork, info);
+    tracing.end(event, "dlaqtr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaqtrK(boolean ltran, boolean lreal, int n, double[] t, int offsett, int ldt, double[] b, int offsetb, double w, org.netlib.util.doubleW scale, double[] x, int offsetx, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -1963,7 +2281,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlar1v(int n, int b1, int bn, double lambda, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, double[] lld, int offsetlld, double pivmin, double gaptol, double[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work, int offsetwork) {
     if (debug) System.err.println("dlar1v");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlar1vK(n, b1, bn, lambda, d, offsetd, l, offsetl, ld, offsetld, lld, offsetlld, pivmin, gaptol, z, offsetz, wantnc, negcnt, ztz, mingma, r, isuppz, offsetisuppz, nrminv, resid, rqcorr, work, offsetwork);
+    tracing.end(event, "dlar1v", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlar1vK(int n, int b1, int bn, double lambda, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, double[] lld, int offsetlld, double pivmin, double gaptol, double[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work, int offsetwork);
@@ -1976,7 +2296,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlar2v(int n, double[] x, int offsetx, double[] y, int offsety, double[] z, int offsetz, int incx, double[] c, int offsetc, double[] s, int offsets, int incc) {
     if (debug) System.err.println("dlar2v");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlar2vK(n, x, offsetx, y, offsety, z, offsetz, incx, c, offsetc, s, offsets, incc);
+    tracing.end(event, "dlar2v", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlar2vK(int n, double[] x, int offsetx, double[] y, int offsety, double[] z, int offsetz, int incx, double[] c, int offsetc, double[] s, int offsets, int incc);
@@ -1989,7 +2311,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarf(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
     if (debug) System.err.println("dlarf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarfK(side, m, n, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    tracing.end(event, "dlarf", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dlarfK(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork);
@@ -2002,7 +2326,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarfb(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
     if (debug) System.err.println("dlarfb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarfbK(side, trans, direct, storev, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    tracing.end(event, "dlarfb", this, m, n, k, 0, 0);
   }
 
   protected abstract void dlarfbK(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork);
@@ -2015,7 +2341,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarfg(int n, org.netlib.util.doubleW alpha, double[] x, int offsetx, int incx, org.netlib.util.doubleW tau) {
     if (debug) System.err.println("dlarfg");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarfgK(n, alpha, x, offsetx, incx, tau);
+    tracing.end(event, "dlarfg", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarfgK(int n, org.netlib.util.doubleW alpha, double[] x, int offsetx, int incx, org.netlib.util.doubleW tau);
@@ -2028,7 +2356,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarft(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
     if (debug) System.err.println("dlarft");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarftK(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    tracing.end(event, "dlarft", this, 0, n, k, 0, 0);
   }
 
   protected abstract void dlarftK(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt);
@@ -2041,7 +2371,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarfx(String side, int m, int n, double[] v, int offsetv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
     if (debug) System.err.println("dlarfx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarfxK(side, m, n, v, offsetv, tau, c, offsetc, Ldc, work, offsetwork);
+    tracing.end(event, "dlarfx", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dlarfxK(String side, int m, int n, double[] v, int offsetv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork);
@@ -2054,7 +2386,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlargv(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, int incc) {
     if (debug) System.err.println("dlargv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlargvK(n, x, offsetx, incx, y, offsety, incy, c, offsetc, incc);
+    tracing.end(event, "dlargv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlargvK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, int incc);
@@ -2067,7 +2401,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarnv(int idist, int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
     if (debug) System.err.println("dlarnv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarnvK(idist, iseed, offsetiseed, n, x, offsetx);
+    tracing.end(event, "dlarnv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarnvK(int idist, int[] iseed, int offsetiseed, int n, double[] x, int offsetx);
@@ -2080,7 +2416,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarra(int n, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarra");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarraK(n, d, offsetd, e, offsete, e2, offsete2, spltol, tnrm, nsplit, isplit, offsetisplit, info);
+    tracing.end(event, "dlarra", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarraK(int n, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info);
@@ -2093,7 +2431,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrb(int n, double[] d, int offsetd, double[] lld, int offsetlld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrbK(n, d, offsetd, lld, offsetlld, ifirst, ilast, rtol1, rtol2, offset, w, offsetw, wgap, offsetwgap, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, twist, info);
+    tracing.end(event, "dlarrb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarrbK(int n, double[] d, int offsetd, double[] lld, int offsetlld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info);
@@ -2106,7 +2446,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrc(String jobt, int n, double vl, double vu, double[] d, int offsetd, double[] e, int offsete, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrcK(jobt, n, vl, vu, d, offsetd, e, offsete, pivmin, eigcnt, lcnt, rcnt, info);
+    tracing.end(event, "dlarrc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarrcK(String jobt, int n, double vl, double vu, double[] d, int offsetd, double[] e, int offsete, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info);
@@ -2119,7 +2461,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrd(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, int offsetgers, double reltol, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrdK(range, order, n, vl, vu, il, iu, gers, offsetgers, reltol, d, offsetd, e, offsete, e2, offsete2, pivmin, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wl, wu, iblock, offsetiblock, indexw, offsetindexw, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlarrd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarrdK(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, int offsetgers, double reltol, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -2132,7 +2476,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarre(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, org.netlib.util.doubleW pivmin, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarre");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarreK(range, n, vl, vu, il, iu, d, offsetd, e, offsete, e2, offsete2, rtol1, rtol2, spltol, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, pivmin, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlarre", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarreK(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, org.netlib.util.doubleW pivmin, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -2145,7 +2491,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrf(int n, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, int clstrt, int clend, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, int offsetdplus, double[] lplus, int offsetlplus, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrfK(n, d, offsetd, l, offsetl, ld, offsetld, clstrt, clend, w, offsetw, wgap, offsetwgap, werr, offsetwerr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, offsetdplus, lplus, offsetlplus, work, offsetwork, info);
+    tracing.end(event, "dlarrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarrfK(int n, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, int clstrt, int clend, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, int offsetdplus, double[] lplus, int offsetlplus, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2158,7 +2506,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrj(int n, double[] d, int offsetd, double[] e2, int offsete2, int ifirst, int ilast, double rtol, int offset, double[] w, int offsetw, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrj");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrjK(n, d, offsetd, e2, offsete2, ifirst, ilast, rtol, offset, w, offsetw, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, info);
+    tracing.end(event, "dlarrj", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarrjK(int n, double[] d, int offsetd, double[] e2, int offsete2, int ifirst, int ilast, double rtol, int offset, double[] w, int offsetw, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, org.netlib.util.intW info);
@@ -2171,7 +2521,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrk(int n, int iw, double gl, double gu, double[] d, int offsetd, double[] e2, int offsete2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrk");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrkK(n, iw, gl, gu, d, offsetd, e2, offsete2, pivmin, reltol, w, werr, info);
+    tracing.end(event, "dlarrk", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarrkK(int n, int iw, double gl, double gu, double[] d, int offsetd, double[] e2, int offsete2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info);
@@ -2184,7 +2536,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrr(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrrK(n, d, offsetd, e, offsete, info);
+    tracing.end(event, "dlarrr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlarrrK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info);
@@ -2197,14 +2551,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarrv(int n, double vl, double vu, double[] d, int offsetd, double[] l, int offsetl, double pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlarrv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarrvK(n, vl, vu, d, offsetd, l, offsetl, pivmin, isplit, offsetisplit, m, dol, dou, minrgp, rtol1, rtol2, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlarrv", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dlarrvK(int n, double vl, double vu, double[] d, int offsetd, double[] l, int offsetl, double pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   public void dlartg(double f, double g, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn, org.netlib.util.doubleW r) {
     if (debug) System.err.println("dlartg");
+    Object event = tracing.begin();
     dlartgK(f, g, cs, sn, r);
+    tracing.end(event, "dlartg", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlartgK(double f, double g, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn, org.netlib.util.doubleW r);
@@ -2217,7 +2575,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlartv(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, double[] s, int offsets, int incc) {
     if (debug) System.err.println("dlartv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlartvK(n, x, offsetx, incx, y, offsety, incy, c, offsetc, s, offsets, incc);
+    tracing.end(event, "dlartv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlartvK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, double[] s, int offsets, int incc);
@@ -2230,7 +2590,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaruv(int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
     if (debug) System.err.println("dlaruv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaruvK(iseed, offsetiseed, n, x, offsetx);
+    tracing.end(event, "dlaruv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlaruvK(int[] iseed, int offsetiseed, int n, double[] x, int offsetx);
@@ -2243,7 +2605,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarz(String side, int m, int n, int l, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
     if (debug) System.err.println("dlarz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarzK(side, m, n, l, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    tracing.end(event, "dlarz", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dlarzK(String side, int m, int n, int l, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork);
@@ -2256,7 +2620,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
     if (debug) System.err.println("dlarzb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarzbK(side, trans, direct, storev, m, n, k, l, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    tracing.end(event, "dlarzb", this, m, n, k, 0, 0);
   }
 
   protected abstract void dlarzbK(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork);
@@ -2269,14 +2635,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlarzt(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
     if (debug) System.err.println("dlarzt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlarztK(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    tracing.end(event, "dlarzt", this, 0, n, k, 0, 0);
   }
 
   protected abstract void dlarztK(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt);
 
   public void dlas2(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax) {
     if (debug) System.err.println("dlas2");
+    Object event = tracing.begin();
     dlas2K(f, g, h, ssmin, ssmax);
+    tracing.end(event, "dlas2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlas2K(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax);
@@ -2289,7 +2659,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlascl(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dlascl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasclK(type, kl, ku, cfrom, cto, m, n, a, offseta, lda, info);
+    tracing.end(event, "dlascl", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlasclK(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -2302,7 +2674,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd0(int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd0K(n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, smlsiz, iwork, offsetiwork, work, offsetwork, info);
+    tracing.end(event, "dlasd0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasd0K(int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2315,7 +2689,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd1(int nl, int nr, int sqre, double[] d, int offsetd, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd1K(nl, nr, sqre, d, offsetd, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, iwork, offsetiwork, work, offsetwork, info);
+    tracing.end(event, "dlasd1", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasd1K(int nl, int nr, int sqre, double[] d, int offsetd, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2328,7 +2704,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd2(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double alpha, double beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] dsigma, int offsetdsigma, double[] u2, int offsetu2, int ldu2, double[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd2K(nl, nr, sqre, k, d, offsetd, z, offsetz, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, offsetdsigma, u2, offsetu2, ldu2, vt2, offsetvt2, ldvt2, idxp, offsetidxp, idx, offsetidx, idxc, offsetidxc, idxq, offsetidxq, coltyp, offsetcoltyp, info);
+    tracing.end(event, "dlasd2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasd2K(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double alpha, double beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] dsigma, int offsetdsigma, double[] u2, int offsetu2, int ldu2, double[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info);
@@ -2341,7 +2719,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd3(int nl, int nr, int sqre, int k, double[] d, int offsetd, double[] q, int offsetq, int ldq, double[] dsigma, int offsetdsigma, double[] u, int offsetu, int ldu, double[] u2, int offsetu2, int ldu2, double[] vt, int offsetvt, int ldvt, double[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, double[] z, int offsetz, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd3K(nl, nr, sqre, k, d, offsetd, q, offsetq, ldq, dsigma, offsetdsigma, u, offsetu, ldu, u2, offsetu2, ldu2, vt, offsetvt, ldvt, vt2, offsetvt2, ldvt2, idxc, offsetidxc, ctot, offsetctot, z, offsetz, info);
+    tracing.end(event, "dlasd3", this, 0, 0, k, 0, 0);
   }
 
   protected abstract void dlasd3K(int nl, int nr, int sqre, int k, double[] d, int offsetd, double[] q, int offsetq, int ldq, double[] dsigma, int offsetdsigma, double[] u, int offsetu, int ldu, double[] u2, int offsetu2, int ldu2, double[] vt, int offsetvt, int ldvt, double[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, double[] z, int offsetz, org.netlib.util.intW info);
@@ -2354,7 +2734,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd4(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW sigma, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd4K(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, sigma, work, offsetwork, info);
+    tracing.end(event, "dlasd4", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasd4K(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW sigma, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2367,7 +2749,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd5(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dsigma, double[] work, int offsetwork) {
     if (debug) System.err.println("dlasd5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd5K(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dsigma, work, offsetwork);
+    tracing.end(event, "dlasd5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasd5K(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dsigma, double[] work, int offsetwork);
@@ -2380,7 +2764,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd6(int icompq, int nl, int nr, int sqre, double[] d, int offsetd, double[] vf, int offsetvf, double[] vl, int offsetvl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd6");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd6K(icompq, nl, nr, sqre, d, offsetd, vf, offsetvf, vl, offsetvl, alpha, beta, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlasd6", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasd6K(int icompq, int nl, int nr, int sqre, double[] d, int offsetd, double[] vf, int offsetvf, double[] vl, int offsetvl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -2393,7 +2779,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double[] zw, int offsetzw, double[] vf, int offsetvf, double[] vfw, int offsetvfw, double[] vl, int offsetvl, double[] vlw, int offsetvlw, double alpha, double beta, double[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd7");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd7K(icompq, nl, nr, sqre, k, d, offsetd, z, offsetz, zw, offsetzw, vf, offsetvf, vfw, offsetvfw, vl, offsetvl, vlw, offsetvlw, alpha, beta, dsigma, offsetdsigma, idx, offsetidx, idxp, offsetidxp, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, c, s, info);
+    tracing.end(event, "dlasd7", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasd7K(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double[] zw, int offsetzw, double[] vf, int offsetvf, double[] vfw, int offsetvfw, double[] vl, int offsetvl, double[] vlw, int offsetvlw, double alpha, double beta, double[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info);
@@ -2406,7 +2794,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasd8(int icompq, int k, double[] d, int offsetd, double[] z, int offsetz, double[] vf, int offsetvf, double[] vl, int offsetvl, double[] difl, int offsetdifl, double[] difr, int offsetdifr, int lddifr, double[] dsigma, int offsetdsigma, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasd8");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasd8K(icompq, k, d, offsetd, z, offsetz, vf, offsetvf, vl, offsetvl, difl, offsetdifl, difr, offsetdifr, lddifr, dsigma, offsetdsigma, work, offsetwork, info);
+    tracing.end(event, "dlasd8", this, 0, 0, k, 0, 0);
   }
 
   protected abstract void dlasd8K(int icompq, int k, double[] d, int offsetd, double[] z, int offsetz, double[] vf, int offsetvf, double[] vl, int offsetvl, double[] difl, int offsetdifl, double[] difr, int offsetdifr, int lddifr, double[] dsigma, int offsetdsigma, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2419,7 +2809,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasda(int icompq, int smlsiz, int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasda");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasdaK(icompq, smlsiz, n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dlasda", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasdaK(int icompq, int smlsiz, int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -2432,7 +2824,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasdq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasdqK(uplo, sqre, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dlasdq", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasdqK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2445,7 +2839,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
     if (debug) System.err.println("dlasdt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasdtK(n, lvl, nd, inode, offsetinode, ndiml, offsetndiml, ndimr, offsetndimr, msub);
+    tracing.end(event, "dlasdt", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasdtK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub);
@@ -2458,7 +2854,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaset(String uplo, int m, int n, double alpha, double beta, double[] a, int offseta, int lda) {
     if (debug) System.err.println("dlaset");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasetK(uplo, m, n, alpha, beta, a, offseta, lda);
+    tracing.end(event, "dlaset", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlasetK(String uplo, int m, int n, double alpha, double beta, double[] a, int offseta, int lda);
@@ -2471,7 +2869,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasq1(int n, double[] d, int offsetd, double[] e, int offsete, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasq1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasq1K(n, d, offsetd, e, offsete, work, offsetwork, info);
+    tracing.end(event, "dlasq1", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasq1K(int n, double[] d, int offsetd, double[] e, int offsete, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2484,7 +2884,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasq2(int n, double[] z, int offsetz, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasq2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasq2K(n, z, offsetz, info);
+    tracing.end(event, "dlasq2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasq2K(int n, double[] z, int offsetz, org.netlib.util.intW info);
@@ -2497,7 +2899,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasq3(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
     if (debug) System.err.println("dlasq3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasq3K(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+    tracing.end(event, "dlasq3", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasq3K(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee);
@@ -2510,7 +2914,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasq4(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype) {
     if (debug) System.err.println("dlasq4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasq4K(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+    tracing.end(event, "dlasq4", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasq4K(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype);
@@ -2523,7 +2929,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasq5(int i0, int n0, double[] z, int offsetz, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee) {
     if (debug) System.err.println("dlasq5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasq5K(i0, n0, z, offsetz, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+    tracing.end(event, "dlasq5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasq5K(int i0, int n0, double[] z, int offsetz, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee);
@@ -2536,7 +2944,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasq6(int i0, int n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
     if (debug) System.err.println("dlasq6");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasq6K(i0, n0, z, offsetz, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+    tracing.end(event, "dlasq6", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasq6K(int i0, int n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2);
@@ -2549,7 +2959,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasr(String side, String pivot, String direct, int m, int n, double[] c, int offsetc, double[] s, int offsets, double[] a, int offseta, int lda) {
     if (debug) System.err.println("dlasr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasrK(side, pivot, direct, m, n, c, offsetc, s, offsets, a, offseta, lda);
+    tracing.end(event, "dlasr", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlasrK(String side, String pivot, String direct, int m, int n, double[] c, int offsetc, double[] s, int offsets, double[] a, int offseta, int lda);
@@ -2562,7 +2974,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasrt(String id, int n, double[] d, int offsetd, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasrt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasrtK(id, n, d, offsetd, info);
+    tracing.end(event, "dlasrt", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlasrtK(String id, int n, double[] d, int offsetd, org.netlib.util.intW info);
@@ -2575,14 +2989,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlassq(int n, double[] x, int offsetx, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
     if (debug) System.err.println("dlassq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlassqK(n, x, offsetx, incx, scale, sumsq);
+    tracing.end(event, "dlassq", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlassqK(int n, double[] x, int offsetx, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq);
 
   public void dlasv2(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax, org.netlib.util.doubleW snr, org.netlib.util.doubleW csr, org.netlib.util.doubleW snl, org.netlib.util.doubleW csl) {
     if (debug) System.err.println("dlasv2");
+    Object event = tracing.begin();
     dlasv2K(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+    tracing.end(event, "dlasv2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasv2K(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax, org.netlib.util.doubleW snr, org.netlib.util.doubleW csr, org.netlib.util.doubleW snl, org.netlib.util.doubleW csl);
@@ -2595,7 +3013,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlaswp(int n, double[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
     if (debug) System.err.println("dlaswp");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlaswpK(n, a, offseta, lda, k1, k2, ipiv, offsetipiv, incx);
+    tracing.end(event, "dlaswp", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dlaswpK(int n, double[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx);
@@ -2608,7 +3028,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int offsettl, int ldtl, double[] tr, int offsettr, int ldtr, double[] b, int offsetb, int ldb, org.netlib.util.doubleW scale, double[] x, int offsetx, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasy2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasy2K(ltranl, ltranr, isgn, n1, n2, tl, offsettl, ldtl, tr, offsettr, ldtr, b, offsetb, ldb, scale, x, offsetx, ldx, xnorm, info);
+    tracing.end(event, "dlasy2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlasy2K(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int offsettl, int ldtl, double[] tr, int offsettr, int ldtr, double[] b, int offsetb, int ldb, org.netlib.util.doubleW scale, double[] x, int offsetx, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info);
@@ -2621,7 +3043,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlasyf(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] w, int offsetw, int ldw, org.netlib.util.intW info) {
     if (debug) System.err.println("dlasyf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlasyfK(uplo, n, nb, kb, a, offseta, lda, ipiv, offsetipiv, w, offsetw, ldw, info);
+    tracing.end(event, "dlasyf", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dlasyfK(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] w, int offsetw, int ldw, org.netlib.util.intW info);
@@ -2634,7 +3058,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlatbs(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int offsetab, int ldab, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("dlatbs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlatbsK(uplo, trans, diag, normin, n, kd, ab, offsetab, ldab, x, offsetx, scale, cnorm, offsetcnorm, info);
+    tracing.end(event, "dlatbs", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlatbsK(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int offsetab, int ldab, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info);
@@ -2647,7 +3073,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlatdf(int ijob, int n, double[] z, int offsetz, int ldz, double[] rhs, int offsetrhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
     if (debug) System.err.println("dlatdf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlatdfK(ijob, n, z, offsetz, ldz, rhs, offsetrhs, rdsum, rdscal, ipiv, offsetipiv, jpiv, offsetjpiv);
+    tracing.end(event, "dlatdf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlatdfK(int ijob, int n, double[] z, int offsetz, int ldz, double[] rhs, int offsetrhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv);
@@ -2660,7 +3088,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlatps(String uplo, String trans, String diag, String normin, int n, double[] ap, int offsetap, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("dlatps");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlatpsK(uplo, trans, diag, normin, n, ap, offsetap, x, offsetx, scale, cnorm, offsetcnorm, info);
+    tracing.end(event, "dlatps", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dlatpsK(String uplo, String trans, String diag, String normin, int n, double[] ap, int offsetap, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info);
@@ -2673,7 +3103,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlatrd(String uplo, int n, int nb, double[] a, int offseta, int lda, double[] e, int offsete, double[] tau, int offsettau, double[] w, int offsetw, int ldw) {
     if (debug) System.err.println("dlatrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlatrdK(uplo, n, nb, a, offseta, lda, e, offsete, tau, offsettau, w, offsetw, ldw);
+    tracing.end(event, "dlatrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dlatrdK(String uplo, int n, int nb, double[] a, int offseta, int lda, double[] e, int offsete, double[] tau, int offsettau, double[] w, int offsetw, int ldw);
@@ -2686,7 +3118,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlatrs(String uplo, String trans, String diag, String normin, int n, double[] a, int offseta, int lda, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("dlatrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlatrsK(uplo, trans, diag, normin, n, a, offseta, lda, x, offsetx, scale, cnorm, offsetcnorm, info);
+    tracing.end(event, "dlatrs", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dlatrsK(String uplo, String trans, String diag, String normin, int n, double[] a, int offseta, int lda, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info);
@@ -2699,7 +3133,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlatrz(int m, int n, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork) {
     if (debug) System.err.println("dlatrz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlatrzK(m, n, l, a, offseta, lda, tau, offsettau, work, offsetwork);
+    tracing.end(event, "dlatrz", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dlatrzK(int m, int n, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork);
@@ -2712,7 +3148,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlatzm(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c1, int offsetc1, double[] c2, int offsetc2, int Ldc, double[] work, int offsetwork) {
     if (debug) System.err.println("dlatzm");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlatzmK(side, m, n, v, offsetv, incv, tau, c1, offsetc1, c2, offsetc2, Ldc, work, offsetwork);
+    tracing.end(event, "dlatzm", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dlatzmK(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c1, int offsetc1, double[] c2, int offsetc2, int Ldc, double[] work, int offsetwork);
@@ -2725,7 +3163,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlauu2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dlauu2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlauu2K(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "dlauu2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dlauu2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -2738,7 +3178,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlauum(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dlauum");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlauumK(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "dlauum", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dlauumK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -2751,7 +3193,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlazq3(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau) {
     if (debug) System.err.println("dlazq3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlazq3K(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+    tracing.end(event, "dlazq3", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlazq3K(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau);
@@ -2764,7 +3208,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dlazq4(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
     if (debug) System.err.println("dlazq4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dlazq4K(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+    tracing.end(event, "dlazq4", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlazq4K(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g);
@@ -2777,7 +3223,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dopgtr(String uplo, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dopgtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dopgtrK(uplo, n, ap, offsetap, tau, offsettau, q, offsetq, ldq, work, offsetwork, info);
+    tracing.end(event, "dopgtr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dopgtrK(String uplo, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2790,7 +3238,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dopmtr(String side, String uplo, String trans, int m, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dopmtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dopmtrK(side, uplo, trans, m, n, ap, offsetap, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dopmtr", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dopmtrK(String side, String uplo, String trans, int m, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2803,7 +3253,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorg2l(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorg2l");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorg2lK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dorg2l", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorg2lK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2816,7 +3268,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorg2r(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorg2r");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorg2rK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dorg2r", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorg2rK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2829,7 +3283,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorgbr(String vect, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgbr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorgbrK(vect, m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dorgbr", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorgbrK(String vect, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2842,7 +3298,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorghr(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorghr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorghrK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dorghr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dorghrK(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2855,7 +3313,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorgl2(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgl2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorgl2K(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dorgl2", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorgl2K(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2868,7 +3328,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorglq(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorglq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorglqK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dorglq", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorglqK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2881,7 +3343,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorgql(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgql");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorgqlK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dorgql", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorgqlK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2894,7 +3358,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorgqr(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dorgqr", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorgqrK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2907,7 +3373,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorgr2(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorgr2K(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "dorgr2", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorgr2K(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2920,7 +3388,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorgrq(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgrq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorgrqK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dorgrq", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorgrqK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2933,7 +3403,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorgtr(String uplo, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorgtrK(uplo, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dorgtr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dorgtrK(String uplo, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2946,7 +3418,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorm2l(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorm2l");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorm2lK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dorm2l", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorm2lK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2959,7 +3433,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorm2r(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorm2r");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorm2rK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dorm2r", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorm2rK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -2972,7 +3448,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormbr(String vect, String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormbr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormbrK(vect, side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormbr", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormbrK(String vect, String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2985,7 +3463,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormhr(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormhr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormhrK(side, trans, m, n, ilo, ihi, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormhr", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dormhrK(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -2998,7 +3478,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dorml2(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dorml2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dorml2K(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dorml2", this, m, n, k, 0, lda);
   }
 
   protected abstract void dorml2K(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3011,7 +3493,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormlq(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormlq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormlqK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormlq", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormlqK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -3024,7 +3508,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormql(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormql");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormqlK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormql", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormqlK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -3037,7 +3523,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormqr(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormqr", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormqrK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -3050,7 +3538,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormr2(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormr2K(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dormr2", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormr2K(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3063,7 +3553,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormr3(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormr3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormr3K(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "dormr3", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormr3K(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3076,7 +3568,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormrq(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormrq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormrqK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormrq", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormrqK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -3089,7 +3583,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormrz(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormrz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormrzK(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormrz", this, m, n, k, 0, lda);
   }
 
   protected abstract void dormrzK(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -3102,7 +3598,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dormtr(String side, String uplo, String trans, int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dormtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dormtrK(side, uplo, trans, m, n, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "dormtr", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dormtrK(String side, String uplo, String trans, int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -3115,7 +3613,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbcon(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbconK(uplo, n, kd, ab, offsetab, ldab, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dpbcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpbconK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3128,7 +3628,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbequ(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbequK(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, info);
+    tracing.end(event, "dpbequ", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpbequK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info);
@@ -3141,7 +3643,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbrfs(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbrfsK(uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dpbrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dpbrfsK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3154,7 +3658,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbstf(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbstf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbstfK(uplo, n, kd, ab, offsetab, ldab, info);
+    tracing.end(event, "dpbstf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpbstfK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info);
@@ -3167,7 +3673,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbsv(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbsvK(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    tracing.end(event, "dpbsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dpbsvK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3180,7 +3688,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbsvx(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbsvxK(fact, uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dpbsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dpbsvxK(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3193,7 +3703,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbtf2(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbtf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbtf2K(uplo, n, kd, ab, offsetab, ldab, info);
+    tracing.end(event, "dpbtf2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpbtf2K(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info);
@@ -3206,7 +3718,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbtrf(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbtrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbtrfK(uplo, n, kd, ab, offsetab, ldab, info);
+    tracing.end(event, "dpbtrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpbtrfK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info);
@@ -3219,7 +3733,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpbtrs(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dpbtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpbtrsK(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    tracing.end(event, "dpbtrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dpbtrsK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3232,7 +3748,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpocon(String uplo, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dpocon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpoconK(uplo, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dpocon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dpoconK(String uplo, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3245,7 +3763,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpoequ(int n, double[] a, int offseta, int lda, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("dpoequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpoequK(n, a, offseta, lda, s, offsets, scond, amax, info);
+    tracing.end(event, "dpoequ", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dpoequK(int n, double[] a, int offseta, int lda, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info);
@@ -3258,7 +3778,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dporfs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dporfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dporfsK(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dporfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dporfsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3271,7 +3793,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dposv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dposv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "dposv", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3284,7 +3808,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dposvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dposvxK(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dposvx", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dposvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3297,7 +3823,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpotf2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpotf2K(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "dpotf2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dpotf2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -3310,7 +3838,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpotrf(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpotrfK(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "dpotrf", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -3323,7 +3853,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpotri(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpotriK(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "dpotri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dpotriK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -3336,7 +3868,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpotrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "dpotrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3349,7 +3883,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dppcon(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dppcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dppconK(uplo, n, ap, offsetap, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dppcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dppconK(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3362,7 +3898,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dppequ(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("dppequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dppequK(uplo, n, ap, offsetap, s, offsets, scond, amax, info);
+    tracing.end(event, "dppequ", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dppequK(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info);
@@ -3375,7 +3913,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpprfs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dpprfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpprfsK(uplo, n, nrhs, ap, offsetap, afp, offsetafp, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dpprfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dpprfsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3388,7 +3928,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dppsv(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dppsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dppsvK(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    tracing.end(event, "dppsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dppsvK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3401,7 +3943,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dppsvx(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dppsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dppsvxK(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dppsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dppsvxK(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3414,7 +3958,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpptrf(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
     if (debug) System.err.println("dpptrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpptrfK(uplo, n, ap, offsetap, info);
+    tracing.end(event, "dpptrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpptrfK(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info);
@@ -3427,7 +3973,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpptri(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
     if (debug) System.err.println("dpptri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpptriK(uplo, n, ap, offsetap, info);
+    tracing.end(event, "dpptri", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpptriK(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info);
@@ -3440,7 +3988,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpptrs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dpptrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpptrsK(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    tracing.end(event, "dpptrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dpptrsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3453,7 +4003,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dptcon(int n, double[] d, int offsetd, double[] e, int offsete, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dptcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dptconK(n, d, offsetd, e, offsete, anorm, rcond, work, offsetwork, info);
+    tracing.end(event, "dptcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dptconK(int n, double[] d, int offsetd, double[] e, int offsete, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3466,7 +4018,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpteqr(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dpteqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpteqrK(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "dpteqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpteqrK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3479,7 +4033,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dptrfs(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dptrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dptrfsK(n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    tracing.end(event, "dptrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dptrfsK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3492,7 +4048,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dptsv(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dptsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dptsvK(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    tracing.end(event, "dptsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dptsvK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3505,7 +4063,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dptsvx(String fact, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dptsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dptsvxK(fact, n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    tracing.end(event, "dptsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dptsvxK(String fact, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3518,7 +4078,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpttrf(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
     if (debug) System.err.println("dpttrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpttrfK(n, d, offsetd, e, offsete, info);
+    tracing.end(event, "dpttrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dpttrfK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info);
@@ -3531,7 +4093,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dpttrs(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dpttrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dpttrsK(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    tracing.end(event, "dpttrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dpttrsK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3544,7 +4108,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dptts2(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb) {
     if (debug) System.err.println("dptts2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dptts2K(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb);
+    tracing.end(event, "dptts2", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dptts2K(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb);
@@ -3557,7 +4123,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void drscl(int n, double sa, double[] sx, int offsetsx, int incx) {
     if (debug) System.err.println("drscl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     drsclK(n, sa, sx, offsetsx, incx);
+    tracing.end(event, "drscl", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void drsclK(int n, double sa, double[] sx, int offsetsx, int incx);
@@ -3570,7 +4138,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbev(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbevK(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "dsbev", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbevK(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3583,7 +4153,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbevd(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbevdK(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dsbevd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbevdK(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3596,7 +4168,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbevx(String jobz, String range, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbevxK(jobz, range, uplo, n, kd, ab, offsetab, ldab, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dsbevx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbevxK(String jobz, String range, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -3609,7 +4183,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbgst(String vect, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbgst");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbgstK(vect, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, x, offsetx, ldx, work, offsetwork, info);
+    tracing.end(event, "dsbgst", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbgstK(String vect, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3622,7 +4198,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbgv(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbgv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbgvK(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "dsbgv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbgvK(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3635,7 +4213,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbgvd(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbgvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbgvdK(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dsbgvd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbgvdK(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3648,7 +4228,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbgvx(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbgvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbgvxK(jobz, range, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dsbgvx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbgvxK(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -3661,7 +4243,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsbtrd(String vect, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsbtrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsbtrdK(vect, uplo, n, kd, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, work, offsetwork, info);
+    tracing.end(event, "dsbtrd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsbtrdK(String vect, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3674,7 +4258,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsgesv(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, float[] swork, int offsetswork, org.netlib.util.intW iter, org.netlib.util.intW info) {
     if (debug) System.err.println("dsgesv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, work, offsetwork, swork, offsetswork, iter, info);
+    tracing.end(event, "dsgesv", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dsgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, float[] swork, int offsetswork, org.netlib.util.intW iter, org.netlib.util.intW info);
@@ -3687,7 +4273,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspcon(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dspcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspconK(uplo, n, ap, offsetap, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dspcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspconK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3700,7 +4288,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspev(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dspev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspevK(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "dspev", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspevK(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3713,7 +4303,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspevd(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dspevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspevdK(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dspevd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspevdK(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3726,7 +4318,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspevx(String jobz, String range, String uplo, int n, double[] ap, int offsetap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dspevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspevxK(jobz, range, uplo, n, ap, offsetap, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dspevx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspevxK(String jobz, String range, String uplo, int n, double[] ap, int offsetap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -3739,7 +4333,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspgst(int itype, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, org.netlib.util.intW info) {
     if (debug) System.err.println("dspgst");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspgstK(itype, uplo, n, ap, offsetap, bp, offsetbp, info);
+    tracing.end(event, "dspgst", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspgstK(int itype, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, org.netlib.util.intW info);
@@ -3752,7 +4348,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspgv(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dspgv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspgvK(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "dspgv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspgvK(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3765,7 +4363,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspgvd(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dspgvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspgvdK(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dspgvd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspgvdK(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3778,7 +4378,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspgvx(int itype, String jobz, String range, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dspgvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspgvxK(itype, jobz, range, uplo, n, ap, offsetap, bp, offsetbp, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dspgvx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dspgvxK(int itype, String jobz, String range, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -3791,7 +4393,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsprfs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsprfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsprfsK(uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dsprfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dsprfsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3804,7 +4408,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspsv(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dspsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspsvK(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dspsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dspsvK(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3817,7 +4423,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dspsvx(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dspsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dspsvxK(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dspsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dspsvxK(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3830,7 +4438,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsptrd(String uplo, int n, double[] ap, int offsetap, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
     if (debug) System.err.println("dsptrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsptrdK(uplo, n, ap, offsetap, d, offsetd, e, offsete, tau, offsettau, info);
+    tracing.end(event, "dsptrd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsptrdK(String uplo, int n, double[] ap, int offsetap, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info);
@@ -3843,7 +4453,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsptrf(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("dsptrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsptrfK(uplo, n, ap, offsetap, ipiv, offsetipiv, info);
+    tracing.end(event, "dsptrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsptrfK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -3856,7 +4468,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsptri(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsptri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsptriK(uplo, n, ap, offsetap, ipiv, offsetipiv, work, offsetwork, info);
+    tracing.end(event, "dsptri", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsptriK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3869,7 +4483,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsptrs(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dsptrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsptrsK(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dsptrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dsptrsK(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -3882,7 +4498,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstebz(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstebz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstebzK(range, order, n, vl, vu, il, iu, abstol, d, offsetd, e, offsete, m, nsplit, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dstebz", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstebzK(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -3895,7 +4513,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstedc(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstedc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstedcK(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dstedc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstedcK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3908,7 +4528,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstegr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstegr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstegrK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dstegr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstegrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3921,7 +4543,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstein(int n, double[] d, int offsetd, double[] e, int offsete, int m, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dstein");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsteinK(n, d, offsetd, e, offsete, m, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dstein", this, m, n, 0, 0, 0);
   }
 
   protected abstract void dsteinK(int n, double[] d, int offsetd, double[] e, int offsete, int m, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -3934,7 +4558,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstemr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstemr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstemrK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, nzc, isuppz, offsetisuppz, tryrac, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dstemr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstemrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3947,7 +4573,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsteqr(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsteqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsteqrK(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "dsteqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsteqrK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3960,7 +4588,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsterf(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
     if (debug) System.err.println("dsterf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsterfK(n, d, offsetd, e, offsete, info);
+    tracing.end(event, "dsterf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dsterfK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info);
@@ -3973,7 +4603,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstev(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstevK(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "dstev", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstevK(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -3986,7 +4618,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstevd(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstevdK(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dstevd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstevdK(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -3999,7 +4633,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstevr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dstevr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstevrK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dstevr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstevrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -4012,7 +4648,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dstevx(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dstevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dstevxK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dstevx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dstevxK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -4025,7 +4663,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsycon(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsycon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsyconK(uplo, n, a, offseta, lda, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dsycon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsyconK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4038,7 +4678,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsyev(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    tracing.end(event, "dsyev", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4051,7 +4693,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsyevd(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dsyevd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -4070,9 +4714,10 @@ abstract class AbstractLAPACK implements LAPACK {
     checkArgument("DSYEVR", 6, lda >= Math.max(1, n));
     if (lwork != -1 || liwork != -1) {
       if (lsame("V", range)) {
-        checkArgument("DSYEVR", 6, vl < vu);
-        checkArgument("DSYEVR", 8, (n > 0 && 1 <= il && il <= iu) || (n == 0 && il == 0));
-        checkArgument("DSYEVR", 9, (n > 0 && 1 <= iu && iu <= n) || (n == 0 && iu == 0));
+        checkArgument("DSYEVR", 8, n == 0 || vl < vu);
+      } else if (lsame("I", range)) {
+        checkArgument("DSYEVR", 9, 1 <= il && il <= Math.max(1, n));
+        checkArgument("DSYEVR", 10, Math.min(n, il) <= iu && iu <= n);
       }
     }
     checkArgument("DSYEVR", 15, (lsame("V", jobz) && ldz >= Math.max(1, n)) || (lsame("N", jobz) && ldz >= 1));
@@ -4081,22 +4726,24 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(a);
     requireNonNull(m);
     requireNonNull(w);
-    if (lsame("N", jobz))
+    if (lsame("V", jobz))
       requireNonNull(z);
     requireNonNull(isuppz);
     requireNonNull(work);
     requireNonNull(iwork);
     requireNonNull(info);
     if (lwork != -1 || liwork != -1) {
-      checkIndex(offseta + n * lda - 1, a.length);
+      checkMatrix(offseta, n, n, lda, a.length);
       checkIndex(offsetw + n - 1, w.length);
-      if (lsame("N", jobz))
-        checkIndex(offsetz + Math.max(1, n) * ldz - 1, z.length);
+      if (lsame("V", jobz))
+        checkMatrix(offsetz, n, lsame("I", range) ? iu - il + 1 : n, ldz, z.length);
       checkIndex(offsetisuppz + 2 * Math.max(1, n) - 1, isuppz.length);
     }
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
     checkIndex(offsetiwork + Math.max(1, liwork) - 1, iwork.length);
+    Object event = tracing.begin();
     dsyevrK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dsyevr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsyevrK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -4109,7 +4756,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsyevx(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsyevxK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dsyevx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsyevxK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -4122,7 +4771,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsygs2(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dsygs2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsygs2K(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "dsygs2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsygs2K(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4135,7 +4786,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsygst(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dsygst");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsygstK(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "dsygst", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsygstK(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4148,7 +4801,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsygv(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsygv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsygvK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+    tracing.end(event, "dsygv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsygvK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4161,7 +4816,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsygvd(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsygvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsygvdK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dsygvd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsygvdK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -4174,7 +4831,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsygvx(int itype, String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("dsygvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsygvxK(itype, jobz, range, uplo, n, a, offseta, lda, b, offsetb, ldb, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "dsygvx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsygvxK(int itype, String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -4187,7 +4846,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsyrfs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsyrfsK(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dsyrfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dsyrfsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4200,7 +4861,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsysv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsysv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsysvK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+    tracing.end(event, "dsysv", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dsysvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4213,7 +4876,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsysvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsysvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsysvxK(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "dsysvx", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dsysvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4226,7 +4891,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsytd2(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
     if (debug) System.err.println("dsytd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsytd2K(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+    tracing.end(event, "dsytd2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsytd2K(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info);
@@ -4239,7 +4906,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsytf2(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("dsytf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsytf2K(uplo, n, a, offseta, lda, ipiv, offsetipiv, info);
+    tracing.end(event, "dsytf2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsytf2K(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -4252,7 +4921,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsytrd(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsytrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsytrdK(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dsytrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsytrdK(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4265,7 +4936,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsytrf(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsytrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsytrfK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    tracing.end(event, "dsytrf", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsytrfK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4278,7 +4951,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsytri(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsytri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsytriK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, info);
+    tracing.end(event, "dsytri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dsytriK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -4291,7 +4966,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dsytrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dsytrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dsytrsK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "dsytrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dsytrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4304,7 +4981,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtbcon(String norm, String uplo, String diag, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtbcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtbconK(norm, uplo, diag, n, kd, ab, offsetab, ldab, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtbcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtbconK(String norm, String uplo, String diag, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4317,7 +4996,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtbrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtbrfsK(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtbrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dtbrfsK(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4330,7 +5011,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dtbtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtbtrsK(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    tracing.end(event, "dtbtrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dtbtrsK(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4343,7 +5026,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgevc(String side, String howmny, boolean[] select, int offsetselect, int n, double[] s, int offsets, int lds, double[] p, int offsetp, int ldp, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgevc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgevcK(side, howmny, select, offsetselect, n, s, offsets, lds, p, offsetp, ldp, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    tracing.end(event, "dtgevc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtgevcK(String side, String howmny, boolean[] select, int offsetselect, int n, double[] s, int offsets, int lds, double[] p, int offsetp, int ldp, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -4356,7 +5041,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgex2(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, int j1, int n1, int n2, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgex2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgex2K(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, j1, n1, n2, work, offsetwork, lwork, info);
+    tracing.end(event, "dtgex2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtgex2K(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, int j1, int n1, int n2, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4369,7 +5056,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgexc(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgexc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgexcK(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, ifst, ilst, work, offsetwork, lwork, info);
+    tracing.end(event, "dtgexc", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtgexcK(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4382,7 +5071,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, int offsetdif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgsen");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgsenK(ijob, wantq, wantz, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, m, pl, pr, dif, offsetdif, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dtgsen", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtgsenK(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, int offsetdif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -4395,7 +5086,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgsja");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgsjaK(jobu, jobv, jobq, m, p, n, k, l, a, offseta, lda, b, offsetb, ldb, tola, tolb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, ncycle, info);
+    tracing.end(event, "dtgsja", this, m, n, k, 0, lda);
   }
 
   protected abstract void dtgsjaK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info);
@@ -4408,7 +5101,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgsna(String job, String howmny, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] dif, int offsetdif, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgsna");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgsnaK(job, howmny, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, dif, offsetdif, mm, m, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtgsna", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtgsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] dif, int offsetdif, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4421,7 +5116,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgsy2(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgsy2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgsy2K(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, rdsum, rdscal, iwork, offsetiwork, pq, info);
+    tracing.end(event, "dtgsy2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dtgsy2K(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info);
@@ -4434,7 +5131,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtgsyl(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtgsyl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtgsylK(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, dif, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtgsyl", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dtgsylK(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4447,7 +5146,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtpcon(String norm, String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtpcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtpconK(norm, uplo, diag, n, ap, offsetap, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtpcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtpconK(String norm, String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4460,7 +5161,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtprfs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtprfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtprfsK(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtprfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dtprfsK(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4473,7 +5176,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtptri(String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
     if (debug) System.err.println("dtptri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtptriK(uplo, diag, n, ap, offsetap, info);
+    tracing.end(event, "dtptri", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtptriK(String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.intW info);
@@ -4486,7 +5191,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtptrs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dtptrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtptrsK(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    tracing.end(event, "dtptrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void dtptrsK(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4499,7 +5206,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrcon(String norm, String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrconK(norm, uplo, diag, n, a, offseta, lda, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtrcon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtrconK(String norm, String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4512,7 +5221,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrevc(String side, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrevc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrevcK(side, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    tracing.end(event, "dtrevc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtrevcK(String side, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -4525,7 +5236,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrexc(String compq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrexc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrexcK(compq, n, t, offsett, ldt, q, offsetq, ldq, ifst, ilst, work, offsetwork, info);
+    tracing.end(event, "dtrexc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtrexcK(String compq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -4538,7 +5251,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrrfs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrrfsK(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtrrfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dtrrfsK(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4551,7 +5266,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrsen(String job, String compq, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, double[] wr, int offsetwr, double[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrsen");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrsenK(job, compq, select, offsetselect, n, t, offsett, ldt, q, offsetq, ldq, wr, offsetwr, wi, offsetwi, m, s, sep, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "dtrsen", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtrsenK(String job, String compq, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, double[] wr, int offsetwr, double[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -4564,7 +5281,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrsna(String job, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] sep, int offsetsep, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrsna");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrsnaK(job, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, sep, offsetsep, mm, m, work, offsetwork, ldwork, iwork, offsetiwork, info);
+    tracing.end(event, "dtrsna", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void dtrsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] sep, int offsetsep, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4577,7 +5296,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrsyl(String trana, String tranb, int isgn, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrsyl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrsylK(trana, tranb, isgn, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, scale, info);
+    tracing.end(event, "dtrsyl", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dtrsylK(String trana, String tranb, int isgn, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info);
@@ -4590,7 +5311,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrti2(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrti2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrti2K(uplo, diag, n, a, offseta, lda, info);
+    tracing.end(event, "dtrti2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtrti2K(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -4603,7 +5326,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrtri(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrtri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrtriK(uplo, diag, n, a, offseta, lda, info);
+    tracing.end(event, "dtrtri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void dtrtriK(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -4616,7 +5341,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtrtrs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dtrtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtrtrsK(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "dtrtrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void dtrtrsK(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4629,7 +5356,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtzrqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, org.netlib.util.intW info) {
     if (debug) System.err.println("dtzrqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtzrqfK(m, n, a, offseta, lda, tau, offsettau, info);
+    tracing.end(event, "dtzrqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dtzrqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, org.netlib.util.intW info);
@@ -4642,42 +5371,58 @@ abstract class AbstractLAPACK implements LAPACK {
   public void dtzrzf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dtzrzf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     dtzrzfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "dtzrzf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void dtzrzfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
   public int ieeeck(int ispec, float zero, float one) {
     if (debug) System.err.println("ieeeck");
-    return ieeeckK(ispec, zero, one);
+    Object event = tracing.begin();
+    int result = ieeeckK(ispec, zero, one);
+    tracing.end(event, "ieeeck", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract int ieeeckK(int ispec, float zero, float one);
 
   public int ilaenv(int ispec, String name, String opts, int n1, int n2, int n3, int n4) {
     if (debug) System.err.println("ilaenv");
-    return ilaenvK(ispec, name, opts, n1, n2, n3, n4);
+    Object event = tracing.begin();
+    int result = ilaenvK(ispec, name, opts, n1, n2, n3, n4);
+    tracing.end(event, "ilaenv", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract int ilaenvK(int ispec, String name, String opts, int n1, int n2, int n3, int n4);
 
   public void ilaver(org.netlib.util.intW vers_major, org.netlib.util.intW vers_minor, org.netlib.util.intW vers_patch) {
     if (debug) System.err.println("ilaver");
+    Object event = tracing.begin();
     ilaverK(vers_major, vers_minor, vers_patch);
+    tracing.end(event, "ilaver", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void ilaverK(org.netlib.util.intW vers_major, org.netlib.util.intW vers_minor, org.netlib.util.intW vers_patch);
 
   public int iparmq(int ispec, String name, String opts, int n, int ilo, int ihi, int lwork) {
     if (debug) System.err.println("iparmq");
-    return iparmqK(ispec, name, opts, n, ilo, ihi, lwork);
+    Object event = tracing.begin();
+    int result = iparmqK(ispec, name, opts, n, ilo, ihi, lwork);
+    tracing.end(event, "iparmq", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract int iparmqK(int ispec, String name, String opts, int n, int ilo, int ihi, int lwork);
 
   public boolean lsamen(int n, String ca, String cb) {
     if (debug) System.err.println("lsamen");
-    return lsamenK(n, ca, cb);
+    Object event = tracing.begin();
+    boolean result = lsamenK(n, ca, cb);
+    tracing.end(event, "lsamen", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract boolean lsamenK(int n, String ca, String cb);
@@ -4690,7 +5435,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sbdsdc(String uplo, String compq, int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] q, int offsetq, int[] iq, int offsetiq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sbdsdc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sbdsdcK(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sbdsdc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sbdsdcK(String uplo, String compq, int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] q, int offsetq, int[] iq, int offsetiq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4703,7 +5450,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sbdsqr(String uplo, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sbdsqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sbdsqrK(uplo, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sbdsqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sbdsqrK(String uplo, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -4716,7 +5465,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sdisna(String job, int m, int n, float[] d, int offsetd, float[] sep, int offsetsep, org.netlib.util.intW info) {
     if (debug) System.err.println("sdisna");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sdisnaK(job, m, n, d, offsetd, sep, offsetsep, info);
+    tracing.end(event, "sdisna", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sdisnaK(String job, int m, int n, float[] d, int offsetd, float[] sep, int offsetsep, org.netlib.util.intW info);
@@ -4729,7 +5480,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbbrd(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] pt, int offsetpt, int ldpt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbbrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbbrdK(vect, m, n, ncc, kl, ku, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, pt, offsetpt, ldpt, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sgbbrd", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sgbbrdK(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] pt, int offsetpt, int ldpt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -4742,7 +5495,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbcon(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbconK(norm, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgbcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sgbconK(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4755,7 +5510,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbequ(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbequK(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    tracing.end(event, "sgbequ", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sgbequK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info);
@@ -4768,7 +5525,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbrfs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbrfsK(trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgbrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgbrfsK(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4781,7 +5540,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbsv(int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbsvK(n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "sgbsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgbsvK(int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4794,7 +5555,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbsvxK(fact, trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgbsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgbsvxK(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4807,7 +5570,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbtf2(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbtf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbtf2K(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    tracing.end(event, "sgbtf2", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sgbtf2K(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -4820,7 +5585,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbtrf(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbtrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbtrfK(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    tracing.end(event, "sgbtrf", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sgbtrfK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -4833,7 +5600,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgbtrs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgbtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgbtrsK(trans, n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "sgbtrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgbtrsK(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -4846,7 +5615,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgebak(String job, String side, int n, int ilo, int ihi, float[] scale, int offsetscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("sgebak");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgebakK(job, side, n, ilo, ihi, scale, offsetscale, m, v, offsetv, ldv, info);
+    tracing.end(event, "sgebak", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sgebakK(String job, String side, int n, int ilo, int ihi, float[] scale, int offsetscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info);
@@ -4859,7 +5630,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgebal(String job, int n, float[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.intW info) {
     if (debug) System.err.println("sgebal");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgebalK(job, n, a, offseta, lda, ilo, ihi, scale, offsetscale, info);
+    tracing.end(event, "sgebal", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgebalK(String job, int n, float[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.intW info);
@@ -4872,7 +5645,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgebd2(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgebd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgebd2K(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, info);
+    tracing.end(event, "sgebd2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgebd2K(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -4885,7 +5660,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgebrd(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgebrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgebrdK(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+    tracing.end(event, "sgebrd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgebrdK(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4898,7 +5675,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgecon(String norm, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgecon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeconK(norm, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgecon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgeconK(String norm, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -4911,7 +5690,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgeequ(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeequK(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    tracing.end(event, "sgeequ", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgeequK(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info);
@@ -4924,7 +5705,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgees(String jobvs, String sort, java.lang.Object select, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgees");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeesK(jobvs, sort, select, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, work, offsetwork, lwork, bwork, offsetbwork, info);
+    tracing.end(event, "sgees", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgeesK(String jobvs, String sort, java.lang.Object select, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -4937,7 +5720,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeesx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeesxK(jobvs, sort, select, sense, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, rconde, rcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    tracing.end(event, "sgeesx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgeesxK(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -4966,16 +5751,18 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(work);
     requireNonNull(info);
     if (lwork != -1) {
-      checkIndex(offseta + n * lda - 1, a.length);
+      checkMatrix(offseta, n, n, lda, a.length);
       checkIndex(offsetwr + n - 1, wr.length);
       checkIndex(offsetwi + n - 1, wi.length);
       if (lsame("V", jobvl))
-        checkIndex(offsetvl + n * ldvl - 1, vl.length);
+        checkMatrix(offsetvl, n, n, ldvl, vl.length);
       if (lsame("V", jobvr))
-        checkIndex(offsetvr + n * ldvr - 1, vr.length);
+        checkMatrix(offsetvr, n, n, ldvr, vr.length);
     }
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    tracing.end(event, "sgeev", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -4988,7 +5775,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeevxK(balanc, jobvl, jobvr, sense, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, scale, offsetscale, abnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgeevx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5001,7 +5790,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgegs(String jobvsl, String jobvsr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgegs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgegsK(jobvsl, jobvsr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, info);
+    tracing.end(event, "sgegs", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgegsK(String jobvsl, String jobvsr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5014,7 +5805,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgegv(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgegv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgegvK(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    tracing.end(event, "sgegv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgegvK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5027,7 +5820,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgehd2(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgehd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgehd2K(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sgehd2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgehd2K(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5040,7 +5835,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgehrd(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgehrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgehrdK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sgehrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgehrdK(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5053,7 +5850,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgelq2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelq2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgelq2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sgelq2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgelq2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5066,7 +5865,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgelqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgelqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sgelqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgelqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5089,10 +5890,12 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(b);
     requireNonNull(work);
     requireNonNull(info);
-    checkIndex(offseta + n * lda - 1, a.length);
-    checkIndex(offsetb + nrhs * (lsame("N", trans) ? m : n) - 1, b.length);
+    checkMatrix(offseta, m, n, lda, a.length);
+    checkMatrix(offsetb, Math.max(m, n), nrhs, ldb, b.length);
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    tracing.end(event, "sgels", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5105,7 +5908,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgelsd(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelsd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgelsdK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgelsd", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void sgelsdK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5118,7 +5923,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgelss(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelss");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgelssK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+    tracing.end(event, "sgelss", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void sgelssK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5131,7 +5938,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgelsx(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelsx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgelsxK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, info);
+    tracing.end(event, "sgelsx", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void sgelsxK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5144,7 +5953,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgelsy(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelsy");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgelsyK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, lwork, info);
+    tracing.end(event, "sgelsy", this, m, n, 0, nrhs, lda);
   }
 
   protected abstract void sgelsyK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5157,7 +5968,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgeql2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeql2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeql2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sgeql2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgeql2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5170,7 +5983,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgeqlf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeqlf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeqlfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sgeqlf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgeqlfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5191,11 +6006,13 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(tau);
     requireNonNull(work);
     requireNonNull(info);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     checkIndex(offsetjpvt + n - 1, jpvt.length);
     checkIndex(offsettau + Math.min(m, n) - 1, tau.length);
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     sgeqp3K(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sgeqp3", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgeqp3K(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5208,7 +6025,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgeqpf(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeqpf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeqpfK(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sgeqpf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgeqpfK(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5221,7 +6040,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgeqr2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeqr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgeqr2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sgeqr2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgeqr2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5242,11 +6063,13 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(work);
     requireNonNull(info);
     if (lwork != -1) {
-      checkIndex(offseta + n * lda - 1, a.length);
+      checkMatrix(offseta, m, n, lda, a.length);
       checkIndex(offsettau + Math.min(m, n) - 1, tau.length);
     }
     checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    Object event = tracing.begin();
     sgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sgeqrf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgeqrfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5259,7 +6082,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgerfs(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgerfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgerfsK(trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgerfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void sgerfsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5272,7 +6097,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgerq2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgerq2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgerq2K(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sgerq2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgerq2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5285,7 +6112,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgerqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgerqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgerqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sgerqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgerqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5298,7 +6127,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgesc2(int n, float[] a, int offseta, int lda, float[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.floatW scale) {
     if (debug) System.err.println("sgesc2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgesc2K(n, a, offseta, lda, rhs, offsetrhs, ipiv, offsetipiv, jpiv, offsetjpiv, scale);
+    tracing.end(event, "sgesc2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgesc2K(int n, float[] a, int offseta, int lda, float[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.floatW scale);
@@ -5311,7 +6142,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgesdd(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesdd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgesdd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5324,7 +6157,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgesv(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "sgesv", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -5337,7 +6172,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    tracing.end(event, "sgesvd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5350,7 +6187,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgesvxK(fact, trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgesvx", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void sgesvxK(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5363,7 +6202,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgetc2(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
     if (debug) System.err.println("sgetc2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgetc2K(n, a, offseta, lda, ipiv, offsetipiv, jpiv, offsetjpiv, info);
+    tracing.end(event, "sgetc2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgetc2K(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info);
@@ -5376,7 +6217,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgetf2(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("sgetf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgetf2K(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    tracing.end(event, "sgetf2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgetf2K(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -5394,9 +6237,11 @@ abstract class AbstractLAPACK implements LAPACK {
     requireNonNull(a);
     requireNonNull(ipiv);
     requireNonNull(info);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkMatrix(offseta, m, n, lda, a.length);
     checkIndex(offsetipiv + Math.min(m, n) - 1, ipiv.length);
+    Object event = tracing.begin();
     sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    tracing.end(event, "sgetrf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -5409,7 +6254,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgetri(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgetri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    tracing.end(event, "sgetri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgetriK(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5422,7 +6269,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgetrs(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgetrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "sgetrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void sgetrsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -5435,7 +6284,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("sggbak");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggbakK(job, side, n, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, m, v, offsetv, ldv, info);
+    tracing.end(event, "sggbak", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sggbakK(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info);
@@ -5448,7 +6299,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggbal(String job, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggbal");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggbalK(job, n, a, offseta, lda, b, offsetb, ldb, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, work, offsetwork, info);
+    tracing.end(event, "sggbal", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sggbalK(String job, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5461,7 +6314,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgges");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggesK(jobvsl, jobvsr, sort, selctg, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, bwork, offsetbwork, info);
+    tracing.end(event, "sgges", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sggesK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -5474,7 +6329,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggesx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggesxK(jobvsl, jobvsr, sort, selctg, sense, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    tracing.end(event, "sggesx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sggesxK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -5487,7 +6344,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggev(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggevK(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    tracing.end(event, "sggev", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sggevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5500,7 +6359,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggevxK(balanc, jobvl, jobvr, sense, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, abnrm, bbnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, bwork, offsetbwork, info);
+    tracing.end(event, "sggevx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sggevxK(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
@@ -5513,7 +6374,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggglm(int n, int m, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] d, int offsetd, float[] x, int offsetx, float[] y, int offsety, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggglm");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggglmK(n, m, p, a, offseta, lda, b, offsetb, ldb, d, offsetd, x, offsetx, y, offsety, work, offsetwork, lwork, info);
+    tracing.end(event, "sggglm", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sggglmK(int n, int m, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] d, int offsetd, float[] x, int offsetx, float[] y, int offsety, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5526,7 +6389,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgghrd(String compq, String compz, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
     if (debug) System.err.println("sgghrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgghrdK(compq, compz, n, ilo, ihi, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, info);
+    tracing.end(event, "sgghrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sgghrdK(String compq, String compz, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW info);
@@ -5539,7 +6404,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgglse(int m, int n, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, float[] d, int offsetd, float[] x, int offsetx, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgglse");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgglseK(m, n, p, a, offseta, lda, b, offsetb, ldb, c, offsetc, d, offsetd, x, offsetx, work, offsetwork, lwork, info);
+    tracing.end(event, "sgglse", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sgglseK(int m, int n, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, float[] d, int offsetd, float[] x, int offsetx, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5552,7 +6419,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggqrf(int n, int m, int p, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggqrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggqrfK(n, m, p, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    tracing.end(event, "sggqrf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sggqrfK(int n, int m, int p, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5565,7 +6434,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggrqf(int m, int p, int n, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggrqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggrqfK(m, p, n, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    tracing.end(event, "sggrqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sggrqfK(int m, int p, int n, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5578,7 +6449,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggsvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggsvdK(jobu, jobv, jobq, m, n, p, k, l, a, offseta, lda, b, offsetb, ldb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sggsvd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sggsvdK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5591,7 +6464,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sggsvp(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sggsvp");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sggsvpK(jobu, jobv, jobq, m, p, n, a, offseta, lda, b, offsetb, ldb, tola, tolb, k, l, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, iwork, offsetiwork, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sggsvp", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sggsvpK(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -5604,7 +6479,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgtcon(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgtcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgtconK(norm, n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgtcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sgtconK(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5617,7 +6494,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgtrfs(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgtrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgtrfsK(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgtrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgtrfsK(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5630,7 +6509,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgtsv(int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgtsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgtsvK(n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, b, offsetb, ldb, info);
+    tracing.end(event, "sgtsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgtsvK(int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -5643,7 +6524,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgtsvx(String fact, String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgtsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgtsvxK(fact, trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sgtsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgtsvxK(String fact, String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5656,7 +6539,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgttrf(int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("sgttrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgttrfK(n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, info);
+    tracing.end(event, "sgttrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sgttrfK(int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -5669,7 +6554,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgttrs(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgttrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgttrsK(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "sgttrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgttrsK(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -5682,7 +6569,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sgtts2(int itrans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb) {
     if (debug) System.err.println("sgtts2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sgtts2K(itrans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb);
+    tracing.end(event, "sgtts2", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sgtts2K(int itrans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb);
@@ -5695,7 +6584,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void shgeqz(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] t, int offsett, int ldt, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("shgeqz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     shgeqzK(job, compq, compz, n, ilo, ihi, h, offseth, ldh, t, offsett, ldt, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "shgeqz", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void shgeqzK(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] t, int offsett, int ldt, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -5708,7 +6599,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void shsein(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
     if (debug) System.err.println("shsein");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     shseinK(side, eigsrc, initv, select, offsetselect, n, h, offseth, ldh, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, ifaill, offsetifaill, ifailr, offsetifailr, info);
+    tracing.end(event, "shsein", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void shseinK(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info);
@@ -5721,21 +6614,28 @@ abstract class AbstractLAPACK implements LAPACK {
   public void shseqr(String job, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("shseqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     shseqrK(job, compz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "shseqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void shseqrK(String job, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
   public boolean sisnan(float sin) {
     if (debug) System.err.println("sisnan");
-    return sisnanK(sin);
+    Object event = tracing.begin();
+    boolean result = sisnanK(sin);
+    tracing.end(event, "sisnan", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract boolean sisnanK(float sin);
 
   public void slabad(org.netlib.util.floatW small, org.netlib.util.floatW large) {
     if (debug) System.err.println("slabad");
+    Object event = tracing.begin();
     slabadK(small, large);
+    tracing.end(event, "slabad", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slabadK(org.netlib.util.floatW small, org.netlib.util.floatW large);
@@ -5748,7 +6648,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slabrd(int m, int n, int nb, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] x, int offsetx, int ldx, float[] y, int offsety, int ldy) {
     if (debug) System.err.println("slabrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slabrdK(m, n, nb, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, x, offsetx, ldx, y, offsety, ldy);
+    tracing.end(event, "slabrd", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slabrdK(int m, int n, int nb, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] x, int offsetx, int ldx, float[] y, int offsety, int ldy);
@@ -5761,7 +6663,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slacn2(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
     if (debug) System.err.println("slacn2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slacn2K(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase, isave, offsetisave);
+    tracing.end(event, "slacn2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slacn2K(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave, int offsetisave);
@@ -5774,7 +6678,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slacon(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
     if (debug) System.err.println("slacon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaconK(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase);
+    tracing.end(event, "slacon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaconK(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase);
@@ -5787,21 +6693,27 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slacpy(String uplo, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
     if (debug) System.err.println("slacpy");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slacpyK(uplo, m, n, a, offseta, lda, b, offsetb, ldb);
+    tracing.end(event, "slacpy", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slacpyK(String uplo, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
 
   public void sladiv(float a, float b, float c, float d, org.netlib.util.floatW p, org.netlib.util.floatW q) {
     if (debug) System.err.println("sladiv");
+    Object event = tracing.begin();
     sladivK(a, b, c, d, p, q);
+    tracing.end(event, "sladiv", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void sladivK(float a, float b, float c, float d, org.netlib.util.floatW p, org.netlib.util.floatW q);
 
   public void slae2(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2) {
     if (debug) System.err.println("slae2");
+    Object event = tracing.begin();
     slae2K(a, b, c, rt1, rt2);
+    tracing.end(event, "slae2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slae2K(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2);
@@ -5814,7 +6726,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, int[] nval, int offsetnval, float[] ab, int offsetab, float[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaebz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaebzK(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, offsetd, e, offsete, e2, offsete2, nval, offsetnval, ab, offsetab, c, offsetc, mout, nab, offsetnab, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slaebz", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaebzK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, int[] nval, int offsetnval, float[] ab, int offsetab, float[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5827,7 +6741,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed0(int icompq, int qsiz, int n, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] qstore, int offsetqstore, int ldqs, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed0K(icompq, qsiz, n, d, offsetd, e, offsete, q, offsetq, ldq, qstore, offsetqstore, ldqs, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slaed0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaed0K(int icompq, int qsiz, int n, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] qstore, int offsetqstore, int ldqs, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5840,7 +6756,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed1(int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed1K(n, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slaed1", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaed1K(int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5853,7 +6771,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed2(org.netlib.util.intW k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed2K(k, n, n1, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, z, offsetz, dlamda, offsetdlamda, w, offsetw, q2, offsetq2, indx, offsetindx, indxc, offsetindxc, indxp, offsetindxp, coltyp, offsetcoltyp, info);
+    tracing.end(event, "slaed2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaed2K(org.netlib.util.intW k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info);
@@ -5866,7 +6786,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed3(int k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, float[] w, int offsetw, float[] s, int offsets, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed3K(k, n, n1, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, q2, offsetq2, indx, offsetindx, ctot, offsetctot, w, offsetw, s, offsets, info);
+    tracing.end(event, "slaed3", this, 0, n, k, 0, 0);
   }
 
   protected abstract void slaed3K(int k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, float[] w, int offsetw, float[] s, int offsets, org.netlib.util.intW info);
@@ -5879,7 +6801,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed4(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed4K(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam, info);
+    tracing.end(event, "slaed4", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaed4K(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info);
@@ -5892,7 +6816,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed5(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam) {
     if (debug) System.err.println("slaed5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed5K(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam);
+    tracing.end(event, "slaed5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slaed5K(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam);
@@ -5905,7 +6831,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed6(int kniter, boolean orgati, float rho, float[] d, int offsetd, float[] z, int offsetz, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed6");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed6K(kniter, orgati, rho, d, offsetd, z, offsetz, finit, tau, info);
+    tracing.end(event, "slaed6", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slaed6K(int kniter, boolean orgati, float rho, float[] d, int offsetd, float[] z, int offsetz, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info);
@@ -5918,7 +6846,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed7");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed7K(icompq, n, qsiz, tlvls, curlvl, curpbm, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, qstore, offsetqstore, qptr, offsetqptr, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slaed7", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaed7K(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -5931,7 +6861,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int ldq2, float[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed8");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed8K(icompq, k, n, qsiz, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, z, offsetz, dlamda, offsetdlamda, q2, offsetq2, ldq2, w, offsetw, perm, offsetperm, givptr, givcol, offsetgivcol, givnum, offsetgivnum, indxp, offsetindxp, indx, offsetindx, info);
+    tracing.end(event, "slaed8", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaed8K(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int ldq2, float[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info);
@@ -5944,7 +6876,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaed9(int k, int kstart, int kstop, int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] s, int offsets, int lds, org.netlib.util.intW info) {
     if (debug) System.err.println("slaed9");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaed9K(k, kstart, kstop, n, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, w, offsetw, s, offsets, lds, info);
+    tracing.end(event, "slaed9", this, 0, n, k, 0, 0);
   }
 
   protected abstract void slaed9K(int k, int kstart, int kstop, int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] s, int offsets, int lds, org.netlib.util.intW info);
@@ -5957,7 +6891,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] q, int offsetq, int[] qptr, int offsetqptr, float[] z, int offsetz, float[] ztemp, int offsetztemp, org.netlib.util.intW info) {
     if (debug) System.err.println("slaeda");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaedaK(n, tlvls, curlvl, curpbm, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, q, offsetq, qptr, offsetqptr, z, offsetz, ztemp, offsetztemp, info);
+    tracing.end(event, "slaeda", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaedaK(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] q, int offsetq, int[] qptr, int offsetqptr, float[] z, int offsetz, float[] ztemp, int offsetztemp, org.netlib.util.intW info);
@@ -5970,14 +6906,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaein(boolean rightv, boolean noinit, int n, float[] h, int offseth, int ldh, float wr, float wi, float[] vr, int offsetvr, float[] vi, int offsetvi, float[] b, int offsetb, int ldb, float[] work, int offsetwork, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
     if (debug) System.err.println("slaein");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaeinK(rightv, noinit, n, h, offseth, ldh, wr, wi, vr, offsetvr, vi, offsetvi, b, offsetb, ldb, work, offsetwork, eps3, smlnum, bignum, info);
+    tracing.end(event, "slaein", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaeinK(boolean rightv, boolean noinit, int n, float[] h, int offseth, int ldh, float wr, float wi, float[] vr, int offsetvr, float[] vi, int offsetvi, float[] b, int offsetb, int ldb, float[] work, int offsetwork, float eps3, float smlnum, float bignum, org.netlib.util.intW info);
 
   public void slaev2(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2, org.netlib.util.floatW cs1, org.netlib.util.floatW sn1) {
     if (debug) System.err.println("slaev2");
+    Object event = tracing.begin();
     slaev2K(a, b, c, rt1, rt2, cs1, sn1);
+    tracing.end(event, "slaev2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slaev2K(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2, org.netlib.util.floatW cs1, org.netlib.util.floatW sn1);
@@ -5990,7 +6930,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaexc(boolean wantq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, int j1, int n1, int n2, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaexc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaexcK(wantq, n, t, offsett, ldt, q, offsetq, ldq, j1, n1, n2, work, offsetwork, info);
+    tracing.end(event, "slaexc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaexcK(boolean wantq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, int j1, int n1, int n2, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -6003,7 +6945,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slag2(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
     if (debug) System.err.println("slag2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slag2K(a, offseta, lda, b, offsetb, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+    tracing.end(event, "slag2", this, 0, 0, 0, 0, lda);
   }
 
   protected abstract void slag2K(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi);
@@ -6016,14 +6960,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slag2d(int m, int n, float[] sa, int offsetsa, int ldsa, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("slag2d");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slag2dK(m, n, sa, offsetsa, ldsa, a, offseta, lda, info);
+    tracing.end(event, "slag2d", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slag2dK(int m, int n, float[] sa, int offsetsa, int ldsa, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
   public void slags2(boolean upper, float a1, float a2, float a3, float b1, float b2, float b3, org.netlib.util.floatW csu, org.netlib.util.floatW snu, org.netlib.util.floatW csv, org.netlib.util.floatW snv, org.netlib.util.floatW csq, org.netlib.util.floatW snq) {
     if (debug) System.err.println("slags2");
+    Object event = tracing.begin();
     slags2K(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+    tracing.end(event, "slags2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slags2K(boolean upper, float a1, float a2, float a3, float b1, float b2, float b3, org.netlib.util.floatW csu, org.netlib.util.floatW snu, org.netlib.util.floatW csv, org.netlib.util.floatW snv, org.netlib.util.floatW csq, org.netlib.util.floatW snq);
@@ -6036,7 +6984,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slagtf(int n, float[] a, int offseta, float lambda, float[] b, int offsetb, float[] c, int offsetc, float tol, float[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
     if (debug) System.err.println("slagtf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slagtfK(n, a, offseta, lambda, b, offsetb, c, offsetc, tol, d, offsetd, in, offsetin, info);
+    tracing.end(event, "slagtf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slagtfK(int n, float[] a, int offseta, float lambda, float[] b, int offsetb, float[] c, int offsetc, float tol, float[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info);
@@ -6049,7 +6999,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slagtm(String trans, int n, int nrhs, float alpha, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] x, int offsetx, int ldx, float beta, float[] b, int offsetb, int ldb) {
     if (debug) System.err.println("slagtm");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slagtmK(trans, n, nrhs, alpha, dl, offsetdl, d, offsetd, du, offsetdu, x, offsetx, ldx, beta, b, offsetb, ldb);
+    tracing.end(event, "slagtm", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void slagtmK(String trans, int n, int nrhs, float alpha, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] x, int offsetx, int ldx, float beta, float[] b, int offsetb, int ldb);
@@ -6062,7 +7014,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slagts(int job, int n, float[] a, int offseta, float[] b, int offsetb, float[] c, int offsetc, float[] d, int offsetd, int[] in, int offsetin, float[] y, int offsety, org.netlib.util.floatW tol, org.netlib.util.intW info) {
     if (debug) System.err.println("slagts");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slagtsK(job, n, a, offseta, b, offsetb, c, offsetc, d, offsetd, in, offsetin, y, offsety, tol, info);
+    tracing.end(event, "slagts", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slagtsK(int job, int n, float[] a, int offseta, float[] b, int offsetb, float[] c, int offsetc, float[] d, int offsetd, int[] in, int offsetin, float[] y, int offsety, org.netlib.util.floatW tol, org.netlib.util.intW info);
@@ -6075,7 +7029,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slagv2(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
     if (debug) System.err.println("slagv2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slagv2K(a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, csl, snl, csr, snr);
+    tracing.end(event, "slagv2", this, 0, 0, 0, 0, lda);
   }
 
   protected abstract void slagv2K(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr);
@@ -6088,7 +7044,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
     if (debug) System.err.println("slahqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slahqrK(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, info);
+    tracing.end(event, "slahqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slahqrK(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW info);
@@ -6101,7 +7059,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slahr2(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
     if (debug) System.err.println("slahr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slahr2K(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    tracing.end(event, "slahr2", this, 0, n, k, 0, lda);
   }
 
   protected abstract void slahr2K(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy);
@@ -6114,7 +7074,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slahrd(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
     if (debug) System.err.println("slahrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slahrdK(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    tracing.end(event, "slahrd", this, 0, n, k, 0, lda);
   }
 
   protected abstract void slahrdK(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy);
@@ -6127,14 +7089,19 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaic1(int job, int j, float[] x, int offsetx, float sest, float[] w, int offsetw, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
     if (debug) System.err.println("slaic1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaic1K(job, j, x, offsetx, sest, w, offsetw, gamma, sestpr, s, c);
+    tracing.end(event, "slaic1", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slaic1K(int job, int j, float[] x, int offsetx, float sest, float[] w, int offsetw, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c);
 
   public boolean slaisnan(float sin1, float sin2) {
     if (debug) System.err.println("slaisnan");
-    return slaisnanK(sin1, sin2);
+    Object event = tracing.begin();
+    boolean result = slaisnanK(sin1, sin2);
+    tracing.end(event, "slaisnan", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract boolean slaisnanK(float sin1, float sin2);
@@ -6147,7 +7114,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaln2(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int offseta, int lda, float d1, float d2, float[] b, int offsetb, int ldb, float wr, float wi, float[] x, int offsetx, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("slaln2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaln2K(ltrans, na, nw, smin, ca, a, offseta, lda, d1, d2, b, offsetb, ldb, wr, wi, x, offsetx, ldx, scale, xnorm, info);
+    tracing.end(event, "slaln2", this, 0, 0, 0, 0, lda);
   }
 
   protected abstract void slaln2K(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int offseta, int lda, float d1, float d2, float[] b, int offsetb, int ldb, float wr, float wi, float[] x, int offsetx, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info);
@@ -6160,7 +7129,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slals0(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, int k, float c, float s, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slals0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slals0K(icompq, nl, nr, sqre, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, info);
+    tracing.end(event, "slals0", this, 0, 0, k, nrhs, 0);
   }
 
   protected abstract void slals0K(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, int k, float c, float s, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -6173,7 +7144,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slalsa(int icompq, int smlsiz, int n, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slalsa");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slalsaK(icompq, smlsiz, n, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slalsa", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void slalsaK(int icompq, int smlsiz, int n, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -6186,7 +7159,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slalsd(String uplo, int smlsiz, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slalsd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slalsdK(uplo, smlsiz, n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, rcond, rank, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slalsd", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void slalsdK(String uplo, int smlsiz, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -6199,7 +7174,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slamrg(int n1, int n2, float[] a, int offseta, int strd1, int strd2, int[] index, int offsetindex) {
     if (debug) System.err.println("slamrg");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slamrgK(n1, n2, a, offseta, strd1, strd2, index, offsetindex);
+    tracing.end(event, "slamrg", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slamrgK(int n1, int n2, float[] a, int offseta, int strd1, int strd2, int[] index, int offsetindex);
@@ -6212,7 +7189,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public int slaneg(int n, float[] d, int offsetd, float[] lld, int offsetlld, float sigma, float pivmin, int r) {
     if (debug) System.err.println("slaneg");
     //FIXME Add arguments check
-    return slanegK(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+    Object event = tracing.begin();
+    int result = slanegK(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+    tracing.end(event, "slaneg", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract int slanegK(int n, float[] d, int offsetd, float[] lld, int offsetlld, float sigma, float pivmin, int r);
@@ -6225,7 +7205,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slangb(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
     if (debug) System.err.println("slangb");
     //FIXME Add arguments check
-    return slangbK(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slangbK(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+    tracing.end(event, "slangb", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slangbK(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] work, int offsetwork);
@@ -6238,7 +7221,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slange(String norm, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
     if (debug) System.err.println("slange");
     //FIXME Add arguments check
-    return slangeK(norm, m, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slangeK(norm, m, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "slange", this, m, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract float slangeK(String norm, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork);
@@ -6251,7 +7237,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slangt(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu) {
     if (debug) System.err.println("slangt");
     //FIXME Add arguments check
-    return slangtK(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+    Object event = tracing.begin();
+    float result = slangtK(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+    tracing.end(event, "slangt", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slangtK(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu);
@@ -6264,7 +7253,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slanhs(String norm, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
     if (debug) System.err.println("slanhs");
     //FIXME Add arguments check
-    return slanhsK(norm, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slanhsK(norm, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "slanhs", this, 0, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract float slanhsK(String norm, int n, float[] a, int offseta, int lda, float[] work, int offsetwork);
@@ -6277,7 +7269,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slansb(String norm, String uplo, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
     if (debug) System.err.println("slansb");
     //FIXME Add arguments check
-    return slansbK(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slansbK(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+    tracing.end(event, "slansb", this, 0, n, k, 0, 0);
+    return result;
   }
 
   protected abstract float slansbK(String norm, String uplo, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork);
@@ -6290,7 +7285,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slansp(String norm, String uplo, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
     if (debug) System.err.println("slansp");
     //FIXME Add arguments check
-    return slanspK(norm, uplo, n, ap, offsetap, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slanspK(norm, uplo, n, ap, offsetap, work, offsetwork);
+    tracing.end(event, "slansp", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slanspK(String norm, String uplo, int n, float[] ap, int offsetap, float[] work, int offsetwork);
@@ -6303,7 +7301,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slanst(String norm, int n, float[] d, int offsetd, float[] e, int offsete) {
     if (debug) System.err.println("slanst");
     //FIXME Add arguments check
-    return slanstK(norm, n, d, offsetd, e, offsete);
+    Object event = tracing.begin();
+    float result = slanstK(norm, n, d, offsetd, e, offsete);
+    tracing.end(event, "slanst", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slanstK(String norm, int n, float[] d, int offsetd, float[] e, int offsete);
@@ -6316,7 +7317,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slansy(String norm, String uplo, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
     if (debug) System.err.println("slansy");
     //FIXME Add arguments check
-    return slansyK(norm, uplo, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slansyK(norm, uplo, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "slansy", this, 0, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract float slansyK(String norm, String uplo, int n, float[] a, int offseta, int lda, float[] work, int offsetwork);
@@ -6329,7 +7333,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slantb(String norm, String uplo, String diag, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
     if (debug) System.err.println("slantb");
     //FIXME Add arguments check
-    return slantbK(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slantbK(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+    tracing.end(event, "slantb", this, 0, n, k, 0, 0);
+    return result;
   }
 
   protected abstract float slantbK(String norm, String uplo, String diag, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork);
@@ -6342,7 +7349,10 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slantp(String norm, String uplo, String diag, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
     if (debug) System.err.println("slantp");
     //FIXME Add arguments check
-    return slantpK(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slantpK(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+    tracing.end(event, "slantp", this, 0, n, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slantpK(String norm, String uplo, String diag, int n, float[] ap, int offsetap, float[] work, int offsetwork);
@@ -6355,14 +7365,19 @@ abstract class AbstractLAPACK implements LAPACK {
   public float slantr(String norm, String uplo, String diag, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
     if (debug) System.err.println("slantr");
     //FIXME Add arguments check
-    return slantrK(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+    Object event = tracing.begin();
+    float result = slantrK(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+    tracing.end(event, "slantr", this, m, n, 0, 0, lda);
+    return result;
   }
 
   protected abstract float slantrK(String norm, String uplo, String diag, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork);
 
   public void slanv2(org.netlib.util.floatW a, org.netlib.util.floatW b, org.netlib.util.floatW c, org.netlib.util.floatW d, org.netlib.util.floatW rt1r, org.netlib.util.floatW rt1i, org.netlib.util.floatW rt2r, org.netlib.util.floatW rt2i, org.netlib.util.floatW cs, org.netlib.util.floatW sn) {
     if (debug) System.err.println("slanv2");
+    Object event = tracing.begin();
     slanv2K(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+    tracing.end(event, "slanv2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slanv2K(org.netlib.util.floatW a, org.netlib.util.floatW b, org.netlib.util.floatW c, org.netlib.util.floatW d, org.netlib.util.floatW rt1r, org.netlib.util.floatW rt1i, org.netlib.util.floatW rt2r, org.netlib.util.floatW rt2i, org.netlib.util.floatW cs, org.netlib.util.floatW sn);
@@ -6375,7 +7390,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slapll(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, org.netlib.util.floatW ssmin) {
     if (debug) System.err.println("slapll");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slapllK(n, x, offsetx, incx, y, offsety, incy, ssmin);
+    tracing.end(event, "slapll", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slapllK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, org.netlib.util.floatW ssmin);
@@ -6388,21 +7405,29 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slapmt(boolean forwrd, int m, int n, float[] x, int offsetx, int ldx, int[] k, int offsetk) {
     if (debug) System.err.println("slapmt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slapmtK(forwrd, m, n, x, offsetx, ldx, k, offsetk);
+    tracing.end(event, "slapmt", this, m, n, 0, 0, 0);
   }
 
   protected abstract void slapmtK(boolean forwrd, int m, int n, float[] x, int offsetx, int ldx, int[] k, int offsetk);
 
   public float slapy2(float x, float y) {
     if (debug) System.err.println("slapy2");
-    return slapy2K(x, y);
+    Object event = tracing.begin();
+    float result = slapy2K(x, y);
+    tracing.end(event, "slapy2", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slapy2K(float x, float y);
 
   public float slapy3(float x, float y, float z) {
     if (debug) System.err.println("slapy3");
-    return slapy3K(x, y, z);
+    Object event = tracing.begin();
+    float result = slapy3K(x, y, z);
+    tracing.end(event, "slapy3", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slapy3K(float x, float y, float z);
@@ -6415,7 +7440,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqgb(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("slaqgb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqgbK(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    tracing.end(event, "slaqgb", this, m, n, 0, 0, 0);
   }
 
   protected abstract void slaqgbK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed);
@@ -6428,7 +7455,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqge(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("slaqge");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqgeK(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    tracing.end(event, "slaqge", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slaqgeK(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed);
@@ -6441,7 +7470,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqp2(int m, int n, int offset, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] work, int offsetwork) {
     if (debug) System.err.println("slaqp2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqp2K(m, n, offset, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, work, offsetwork);
+    tracing.end(event, "slaqp2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slaqp2K(int m, int n, int offset, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] work, int offsetwork);
@@ -6454,7 +7485,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] auxv, int offsetauxv, float[] f, int offsetf, int ldf) {
     if (debug) System.err.println("slaqps");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqpsK(m, n, offset, nb, kb, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, auxv, offsetauxv, f, offsetf, ldf);
+    tracing.end(event, "slaqps", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slaqpsK(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] auxv, int offsetauxv, float[] f, int offsetf, int ldf);
@@ -6467,7 +7500,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaqr0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqr0K(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "slaqr0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqr0K(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -6480,7 +7515,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqr1(int n, float[] h, int offseth, int ldh, float sr1, float si1, float sr2, float si2, float[] v, int offsetv) {
     if (debug) System.err.println("slaqr1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqr1K(n, h, offseth, ldh, sr1, si1, sr2, si2, v, offsetv);
+    tracing.end(event, "slaqr1", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqr1K(int n, float[] h, int offseth, int ldh, float sr1, float si1, float sr2, float si2, float[] v, int offsetv);
@@ -6493,7 +7530,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
     if (debug) System.err.println("slaqr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqr2K(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    tracing.end(event, "slaqr2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqr2K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork);
@@ -6506,7 +7545,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
     if (debug) System.err.println("slaqr3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqr3K(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    tracing.end(event, "slaqr3", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqr3K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork);
@@ -6519,7 +7560,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaqr4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqr4K(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    tracing.end(event, "slaqr4", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqr4K(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -6532,7 +7575,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, int offsetsr, float[] si, int offsetsi, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] v, int offsetv, int ldv, float[] u, int offsetu, int ldu, int nv, float[] wv, int offsetwv, int ldwv, int nh, float[] wh, int offsetwh, int ldwh) {
     if (debug) System.err.println("slaqr5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqr5K(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, offsetsr, si, offsetsi, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, v, offsetv, ldv, u, offsetu, ldu, nv, wv, offsetwv, ldwv, nh, wh, offsetwh, ldwh);
+    tracing.end(event, "slaqr5", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqr5K(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, int offsetsr, float[] si, int offsetsi, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] v, int offsetv, int ldv, float[] u, int offsetu, int ldu, int nv, float[] wv, int offsetwv, int ldwv, int nh, float[] wh, int offsetwh, int ldwh);
@@ -6545,7 +7590,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqsb(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("slaqsb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqsbK(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, equed);
+    tracing.end(event, "slaqsb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqsbK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed);
@@ -6558,7 +7605,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqsp(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("slaqsp");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqspK(uplo, n, ap, offsetap, s, offsets, scond, amax, equed);
+    tracing.end(event, "slaqsp", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqspK(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed);
@@ -6571,7 +7620,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqsy(String uplo, int n, float[] a, int offseta, int lda, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
     if (debug) System.err.println("slaqsy");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqsyK(uplo, n, a, offseta, lda, s, offsets, scond, amax, equed);
+    tracing.end(event, "slaqsy", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void slaqsyK(String uplo, int n, float[] a, int offseta, int lda, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed);
@@ -6584,7 +7635,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaqtr(boolean ltran, boolean lreal, int n, float[] t, int offsett, int ldt, float[] b, int offsetb, float w, org.netlib.util.floatW scale, float[] x, int offsetx, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slaqtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaqtrK(ltran, lreal, n, t, offsett, ldt, b, offsetb, w, scale, x, offsetx, work, offsetwork, info);
+    tracing.end(event, "slaqtr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaqtrK(boolean ltran, boolean lreal, int n, float[] t, int offsett, int ldt, float[] b, int offsetb, float w, org.netlib.util.floatW scale, float[] x, int offsetx, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -6597,7 +7650,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slar1v(int n, int b1, int bn, float lambda, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, float[] lld, int offsetlld, float pivmin, float gaptol, float[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work, int offsetwork) {
     if (debug) System.err.println("slar1v");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slar1vK(n, b1, bn, lambda, d, offsetd, l, offsetl, ld, offsetld, lld, offsetlld, pivmin, gaptol, z, offsetz, wantnc, negcnt, ztz, mingma, r, isuppz, offsetisuppz, nrminv, resid, rqcorr, work, offsetwork);
+    tracing.end(event, "slar1v", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slar1vK(int n, int b1, int bn, float lambda, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, float[] lld, int offsetlld, float pivmin, float gaptol, float[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work, int offsetwork);
@@ -6610,7 +7665,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slar2v(int n, float[] x, int offsetx, float[] y, int offsety, float[] z, int offsetz, int incx, float[] c, int offsetc, float[] s, int offsets, int incc) {
     if (debug) System.err.println("slar2v");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slar2vK(n, x, offsetx, y, offsety, z, offsetz, incx, c, offsetc, s, offsets, incc);
+    tracing.end(event, "slar2v", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slar2vK(int n, float[] x, int offsetx, float[] y, int offsety, float[] z, int offsetz, int incx, float[] c, int offsetc, float[] s, int offsets, int incc);
@@ -6623,7 +7680,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarf(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
     if (debug) System.err.println("slarf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarfK(side, m, n, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    tracing.end(event, "slarf", this, m, n, 0, 0, 0);
   }
 
   protected abstract void slarfK(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork);
@@ -6636,7 +7695,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarfb(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
     if (debug) System.err.println("slarfb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarfbK(side, trans, direct, storev, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    tracing.end(event, "slarfb", this, m, n, k, 0, 0);
   }
 
   protected abstract void slarfbK(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork);
@@ -6649,7 +7710,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarfg(int n, org.netlib.util.floatW alpha, float[] x, int offsetx, int incx, org.netlib.util.floatW tau) {
     if (debug) System.err.println("slarfg");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarfgK(n, alpha, x, offsetx, incx, tau);
+    tracing.end(event, "slarfg", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarfgK(int n, org.netlib.util.floatW alpha, float[] x, int offsetx, int incx, org.netlib.util.floatW tau);
@@ -6662,7 +7725,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarft(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
     if (debug) System.err.println("slarft");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarftK(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    tracing.end(event, "slarft", this, 0, n, k, 0, 0);
   }
 
   protected abstract void slarftK(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt);
@@ -6675,7 +7740,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarfx(String side, int m, int n, float[] v, int offsetv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
     if (debug) System.err.println("slarfx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarfxK(side, m, n, v, offsetv, tau, c, offsetc, Ldc, work, offsetwork);
+    tracing.end(event, "slarfx", this, m, n, 0, 0, 0);
   }
 
   protected abstract void slarfxK(String side, int m, int n, float[] v, int offsetv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork);
@@ -6688,7 +7755,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slargv(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, int incc) {
     if (debug) System.err.println("slargv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slargvK(n, x, offsetx, incx, y, offsety, incy, c, offsetc, incc);
+    tracing.end(event, "slargv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slargvK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, int incc);
@@ -6701,7 +7770,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarnv(int idist, int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
     if (debug) System.err.println("slarnv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarnvK(idist, iseed, offsetiseed, n, x, offsetx);
+    tracing.end(event, "slarnv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarnvK(int idist, int[] iseed, int offsetiseed, int n, float[] x, int offsetx);
@@ -6714,7 +7785,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarra(int n, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
     if (debug) System.err.println("slarra");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarraK(n, d, offsetd, e, offsete, e2, offsete2, spltol, tnrm, nsplit, isplit, offsetisplit, info);
+    tracing.end(event, "slarra", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarraK(int n, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info);
@@ -6727,7 +7800,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrb(int n, float[] d, int offsetd, float[] lld, int offsetlld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrbK(n, d, offsetd, lld, offsetlld, ifirst, ilast, rtol1, rtol2, offset, w, offsetw, wgap, offsetwgap, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, twist, info);
+    tracing.end(event, "slarrb", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarrbK(int n, float[] d, int offsetd, float[] lld, int offsetlld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info);
@@ -6740,7 +7815,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrc(String jobt, int n, float vl, float vu, float[] d, int offsetd, float[] e, int offsete, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrcK(jobt, n, vl, vu, d, offsetd, e, offsete, pivmin, eigcnt, lcnt, rcnt, info);
+    tracing.end(event, "slarrc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarrcK(String jobt, int n, float vl, float vu, float[] d, int offsetd, float[] e, int offsete, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info);
@@ -6753,7 +7830,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrd(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, int offsetgers, float reltol, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrdK(range, order, n, vl, vu, il, iu, gers, offsetgers, reltol, d, offsetd, e, offsete, e2, offsete2, pivmin, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wl, wu, iblock, offsetiblock, indexw, offsetindexw, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slarrd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarrdK(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, int offsetgers, float reltol, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -6766,7 +7845,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarre(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, org.netlib.util.floatW pivmin, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slarre");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarreK(range, n, vl, vu, il, iu, d, offsetd, e, offsete, e2, offsete2, rtol1, rtol2, spltol, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, pivmin, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slarre", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarreK(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, org.netlib.util.floatW pivmin, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -6779,7 +7860,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrf(int n, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, int clstrt, int clend, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, int offsetdplus, float[] lplus, int offsetlplus, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrfK(n, d, offsetd, l, offsetl, ld, offsetld, clstrt, clend, w, offsetw, wgap, offsetwgap, werr, offsetwerr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, offsetdplus, lplus, offsetlplus, work, offsetwork, info);
+    tracing.end(event, "slarrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarrfK(int n, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, int clstrt, int clend, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, int offsetdplus, float[] lplus, int offsetlplus, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -6792,7 +7875,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrj(int n, float[] d, int offsetd, float[] e2, int offsete2, int ifirst, int ilast, float rtol, int offset, float[] w, int offsetw, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrj");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrjK(n, d, offsetd, e2, offsete2, ifirst, ilast, rtol, offset, w, offsetw, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, info);
+    tracing.end(event, "slarrj", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarrjK(int n, float[] d, int offsetd, float[] e2, int offsete2, int ifirst, int ilast, float rtol, int offset, float[] w, int offsetw, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, org.netlib.util.intW info);
@@ -6805,7 +7890,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrk(int n, int iw, float gl, float gu, float[] d, int offsetd, float[] e2, int offsete2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrk");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrkK(n, iw, gl, gu, d, offsetd, e2, offsete2, pivmin, reltol, w, werr, info);
+    tracing.end(event, "slarrk", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarrkK(int n, int iw, float gl, float gu, float[] d, int offsetd, float[] e2, int offsete2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info);
@@ -6818,7 +7905,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrr(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrrK(n, d, offsetd, e, offsete, info);
+    tracing.end(event, "slarrr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slarrrK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info);
@@ -6831,14 +7920,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarrv(int n, float vl, float vu, float[] d, int offsetd, float[] l, int offsetl, float pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slarrv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarrvK(n, vl, vu, d, offsetd, l, offsetl, pivmin, isplit, offsetisplit, m, dol, dou, minrgp, rtol1, rtol2, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slarrv", this, m, n, 0, 0, 0);
   }
 
   protected abstract void slarrvK(int n, float vl, float vu, float[] d, int offsetd, float[] l, int offsetl, float pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   public void slartg(float f, float g, org.netlib.util.floatW cs, org.netlib.util.floatW sn, org.netlib.util.floatW r) {
     if (debug) System.err.println("slartg");
+    Object event = tracing.begin();
     slartgK(f, g, cs, sn, r);
+    tracing.end(event, "slartg", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slartgK(float f, float g, org.netlib.util.floatW cs, org.netlib.util.floatW sn, org.netlib.util.floatW r);
@@ -6851,7 +7944,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slartv(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, float[] s, int offsets, int incc) {
     if (debug) System.err.println("slartv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slartvK(n, x, offsetx, incx, y, offsety, incy, c, offsetc, s, offsets, incc);
+    tracing.end(event, "slartv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slartvK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, float[] s, int offsets, int incc);
@@ -6864,7 +7959,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaruv(int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
     if (debug) System.err.println("slaruv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaruvK(iseed, offsetiseed, n, x, offsetx);
+    tracing.end(event, "slaruv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slaruvK(int[] iseed, int offsetiseed, int n, float[] x, int offsetx);
@@ -6877,7 +7974,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarz(String side, int m, int n, int l, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
     if (debug) System.err.println("slarz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarzK(side, m, n, l, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    tracing.end(event, "slarz", this, m, n, 0, 0, 0);
   }
 
   protected abstract void slarzK(String side, int m, int n, int l, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork);
@@ -6890,7 +7989,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
     if (debug) System.err.println("slarzb");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarzbK(side, trans, direct, storev, m, n, k, l, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    tracing.end(event, "slarzb", this, m, n, k, 0, 0);
   }
 
   protected abstract void slarzbK(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork);
@@ -6903,14 +8004,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slarzt(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
     if (debug) System.err.println("slarzt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slarztK(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    tracing.end(event, "slarzt", this, 0, n, k, 0, 0);
   }
 
   protected abstract void slarztK(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt);
 
   public void slas2(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax) {
     if (debug) System.err.println("slas2");
+    Object event = tracing.begin();
     slas2K(f, g, h, ssmin, ssmax);
+    tracing.end(event, "slas2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slas2K(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax);
@@ -6923,7 +8028,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slascl(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("slascl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasclK(type, kl, ku, cfrom, cto, m, n, a, offseta, lda, info);
+    tracing.end(event, "slascl", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slasclK(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -6936,7 +8043,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd0(int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd0");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd0K(n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, smlsiz, iwork, offsetiwork, work, offsetwork, info);
+    tracing.end(event, "slasd0", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasd0K(int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -6949,7 +8058,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd1(int nl, int nr, int sqre, float[] d, int offsetd, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd1K(nl, nr, sqre, d, offsetd, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, iwork, offsetiwork, work, offsetwork, info);
+    tracing.end(event, "slasd1", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasd1K(int nl, int nr, int sqre, float[] d, int offsetd, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -6962,7 +8073,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd2(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float alpha, float beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] dsigma, int offsetdsigma, float[] u2, int offsetu2, int ldu2, float[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd2K(nl, nr, sqre, k, d, offsetd, z, offsetz, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, offsetdsigma, u2, offsetu2, ldu2, vt2, offsetvt2, ldvt2, idxp, offsetidxp, idx, offsetidx, idxc, offsetidxc, idxq, offsetidxq, coltyp, offsetcoltyp, info);
+    tracing.end(event, "slasd2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasd2K(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float alpha, float beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] dsigma, int offsetdsigma, float[] u2, int offsetu2, int ldu2, float[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info);
@@ -6975,7 +8088,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd3(int nl, int nr, int sqre, int k, float[] d, int offsetd, float[] q, int offsetq, int ldq, float[] dsigma, int offsetdsigma, float[] u, int offsetu, int ldu, float[] u2, int offsetu2, int ldu2, float[] vt, int offsetvt, int ldvt, float[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, float[] z, int offsetz, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd3K(nl, nr, sqre, k, d, offsetd, q, offsetq, ldq, dsigma, offsetdsigma, u, offsetu, ldu, u2, offsetu2, ldu2, vt, offsetvt, ldvt, vt2, offsetvt2, ldvt2, idxc, offsetidxc, ctot, offsetctot, z, offsetz, info);
+    tracing.end(event, "slasd3", this, 0, 0, k, 0, 0);
   }
 
   protected abstract void slasd3K(int nl, int nr, int sqre, int k, float[] d, int offsetd, float[] q, int offsetq, int ldq, float[] dsigma, int offsetdsigma, float[] u, int offsetu, int ldu, float[] u2, int offsetu2, int ldu2, float[] vt, int offsetvt, int ldvt, float[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, float[] z, int offsetz, org.netlib.util.intW info);
@@ -6988,7 +8103,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd4(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW sigma, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd4K(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, sigma, work, offsetwork, info);
+    tracing.end(event, "slasd4", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasd4K(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW sigma, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7001,7 +8118,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd5(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dsigma, float[] work, int offsetwork) {
     if (debug) System.err.println("slasd5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd5K(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dsigma, work, offsetwork);
+    tracing.end(event, "slasd5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasd5K(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dsigma, float[] work, int offsetwork);
@@ -7014,7 +8133,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd6(int icompq, int nl, int nr, int sqre, float[] d, int offsetd, float[] vf, int offsetvf, float[] vl, int offsetvl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd6");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd6K(icompq, nl, nr, sqre, d, offsetd, vf, offsetvf, vl, offsetvl, alpha, beta, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slasd6", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasd6K(int icompq, int nl, int nr, int sqre, float[] d, int offsetd, float[] vf, int offsetvf, float[] vl, int offsetvl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7027,7 +8148,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float[] zw, int offsetzw, float[] vf, int offsetvf, float[] vfw, int offsetvfw, float[] vl, int offsetvl, float[] vlw, int offsetvlw, float alpha, float beta, float[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd7");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd7K(icompq, nl, nr, sqre, k, d, offsetd, z, offsetz, zw, offsetzw, vf, offsetvf, vfw, offsetvfw, vl, offsetvl, vlw, offsetvlw, alpha, beta, dsigma, offsetdsigma, idx, offsetidx, idxp, offsetidxp, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, c, s, info);
+    tracing.end(event, "slasd7", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasd7K(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float[] zw, int offsetzw, float[] vf, int offsetvf, float[] vfw, int offsetvfw, float[] vl, int offsetvl, float[] vlw, int offsetvlw, float alpha, float beta, float[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info);
@@ -7040,7 +8163,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasd8(int icompq, int k, float[] d, int offsetd, float[] z, int offsetz, float[] vf, int offsetvf, float[] vl, int offsetvl, float[] difl, int offsetdifl, float[] difr, int offsetdifr, int lddifr, float[] dsigma, int offsetdsigma, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasd8");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasd8K(icompq, k, d, offsetd, z, offsetz, vf, offsetvf, vl, offsetvl, difl, offsetdifl, difr, offsetdifr, lddifr, dsigma, offsetdsigma, work, offsetwork, info);
+    tracing.end(event, "slasd8", this, 0, 0, k, 0, 0);
   }
 
   protected abstract void slasd8K(int icompq, int k, float[] d, int offsetd, float[] z, int offsetz, float[] vf, int offsetvf, float[] vl, int offsetvl, float[] difl, int offsetdifl, float[] difr, int offsetdifr, int lddifr, float[] dsigma, int offsetdsigma, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7053,7 +8178,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasda(int icompq, int smlsiz, int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasda");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasdaK(icompq, smlsiz, n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "slasda", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasdaK(int icompq, int smlsiz, int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7066,7 +8193,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasdq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasdqK(uplo, sqre, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "slasdq", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasdqK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7079,7 +8208,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
     if (debug) System.err.println("slasdt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasdtK(n, lvl, nd, inode, offsetinode, ndiml, offsetndiml, ndimr, offsetndimr, msub);
+    tracing.end(event, "slasdt", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasdtK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub);
@@ -7092,7 +8223,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaset(String uplo, int m, int n, float alpha, float beta, float[] a, int offseta, int lda) {
     if (debug) System.err.println("slaset");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasetK(uplo, m, n, alpha, beta, a, offseta, lda);
+    tracing.end(event, "slaset", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slasetK(String uplo, int m, int n, float alpha, float beta, float[] a, int offseta, int lda);
@@ -7105,7 +8238,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasq1(int n, float[] d, int offsetd, float[] e, int offsete, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("slasq1");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasq1K(n, d, offsetd, e, offsete, work, offsetwork, info);
+    tracing.end(event, "slasq1", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasq1K(int n, float[] d, int offsetd, float[] e, int offsete, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7118,7 +8253,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasq2(int n, float[] z, int offsetz, org.netlib.util.intW info) {
     if (debug) System.err.println("slasq2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasq2K(n, z, offsetz, info);
+    tracing.end(event, "slasq2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasq2K(int n, float[] z, int offsetz, org.netlib.util.intW info);
@@ -7131,7 +8268,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasq3(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
     if (debug) System.err.println("slasq3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasq3K(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+    tracing.end(event, "slasq3", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasq3K(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee);
@@ -7144,7 +8283,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasq4(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype) {
     if (debug) System.err.println("slasq4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasq4K(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+    tracing.end(event, "slasq4", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasq4K(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype);
@@ -7157,7 +8298,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasq5(int i0, int n0, float[] z, int offsetz, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee) {
     if (debug) System.err.println("slasq5");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasq5K(i0, n0, z, offsetz, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+    tracing.end(event, "slasq5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasq5K(int i0, int n0, float[] z, int offsetz, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee);
@@ -7170,7 +8313,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasq6(int i0, int n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
     if (debug) System.err.println("slasq6");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasq6K(i0, n0, z, offsetz, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+    tracing.end(event, "slasq6", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasq6K(int i0, int n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2);
@@ -7183,7 +8328,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasr(String side, String pivot, String direct, int m, int n, float[] c, int offsetc, float[] s, int offsets, float[] a, int offseta, int lda) {
     if (debug) System.err.println("slasr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasrK(side, pivot, direct, m, n, c, offsetc, s, offsets, a, offseta, lda);
+    tracing.end(event, "slasr", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slasrK(String side, String pivot, String direct, int m, int n, float[] c, int offsetc, float[] s, int offsets, float[] a, int offseta, int lda);
@@ -7196,7 +8343,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasrt(String id, int n, float[] d, int offsetd, org.netlib.util.intW info) {
     if (debug) System.err.println("slasrt");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasrtK(id, n, d, offsetd, info);
+    tracing.end(event, "slasrt", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slasrtK(String id, int n, float[] d, int offsetd, org.netlib.util.intW info);
@@ -7209,14 +8358,18 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slassq(int n, float[] x, int offsetx, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
     if (debug) System.err.println("slassq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slassqK(n, x, offsetx, incx, scale, sumsq);
+    tracing.end(event, "slassq", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slassqK(int n, float[] x, int offsetx, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq);
 
   public void slasv2(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax, org.netlib.util.floatW snr, org.netlib.util.floatW csr, org.netlib.util.floatW snl, org.netlib.util.floatW csl) {
     if (debug) System.err.println("slasv2");
+    Object event = tracing.begin();
     slasv2K(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+    tracing.end(event, "slasv2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasv2K(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax, org.netlib.util.floatW snr, org.netlib.util.floatW csr, org.netlib.util.floatW snl, org.netlib.util.floatW csl);
@@ -7229,7 +8382,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slaswp(int n, float[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
     if (debug) System.err.println("slaswp");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slaswpK(n, a, offseta, lda, k1, k2, ipiv, offsetipiv, incx);
+    tracing.end(event, "slaswp", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void slaswpK(int n, float[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx);
@@ -7242,7 +8397,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int offsettl, int ldtl, float[] tr, int offsettr, int ldtr, float[] b, int offsetb, int ldb, org.netlib.util.floatW scale, float[] x, int offsetx, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("slasy2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasy2K(ltranl, ltranr, isgn, n1, n2, tl, offsettl, ldtl, tr, offsettr, ldtr, b, offsetb, ldb, scale, x, offsetx, ldx, xnorm, info);
+    tracing.end(event, "slasy2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slasy2K(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int offsettl, int ldtl, float[] tr, int offsettr, int ldtr, float[] b, int offsetb, int ldb, org.netlib.util.floatW scale, float[] x, int offsetx, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info);
@@ -7255,7 +8412,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slasyf(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] w, int offsetw, int ldw, org.netlib.util.intW info) {
     if (debug) System.err.println("slasyf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slasyfK(uplo, n, nb, kb, a, offseta, lda, ipiv, offsetipiv, w, offsetw, ldw, info);
+    tracing.end(event, "slasyf", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void slasyfK(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] w, int offsetw, int ldw, org.netlib.util.intW info);
@@ -7268,7 +8427,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slatbs(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int offsetab, int ldab, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("slatbs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slatbsK(uplo, trans, diag, normin, n, kd, ab, offsetab, ldab, x, offsetx, scale, cnorm, offsetcnorm, info);
+    tracing.end(event, "slatbs", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slatbsK(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int offsetab, int ldab, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info);
@@ -7281,7 +8442,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slatdf(int ijob, int n, float[] z, int offsetz, int ldz, float[] rhs, int offsetrhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
     if (debug) System.err.println("slatdf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slatdfK(ijob, n, z, offsetz, ldz, rhs, offsetrhs, rdsum, rdscal, ipiv, offsetipiv, jpiv, offsetjpiv);
+    tracing.end(event, "slatdf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slatdfK(int ijob, int n, float[] z, int offsetz, int ldz, float[] rhs, int offsetrhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv);
@@ -7294,7 +8457,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slatps(String uplo, String trans, String diag, String normin, int n, float[] ap, int offsetap, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("slatps");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slatpsK(uplo, trans, diag, normin, n, ap, offsetap, x, offsetx, scale, cnorm, offsetcnorm, info);
+    tracing.end(event, "slatps", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void slatpsK(String uplo, String trans, String diag, String normin, int n, float[] ap, int offsetap, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info);
@@ -7307,7 +8472,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slatrd(String uplo, int n, int nb, float[] a, int offseta, int lda, float[] e, int offsete, float[] tau, int offsettau, float[] w, int offsetw, int ldw) {
     if (debug) System.err.println("slatrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slatrdK(uplo, n, nb, a, offseta, lda, e, offsete, tau, offsettau, w, offsetw, ldw);
+    tracing.end(event, "slatrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void slatrdK(String uplo, int n, int nb, float[] a, int offseta, int lda, float[] e, int offsete, float[] tau, int offsettau, float[] w, int offsetw, int ldw);
@@ -7320,7 +8487,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slatrs(String uplo, String trans, String diag, String normin, int n, float[] a, int offseta, int lda, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
     if (debug) System.err.println("slatrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slatrsK(uplo, trans, diag, normin, n, a, offseta, lda, x, offsetx, scale, cnorm, offsetcnorm, info);
+    tracing.end(event, "slatrs", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void slatrsK(String uplo, String trans, String diag, String normin, int n, float[] a, int offseta, int lda, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info);
@@ -7333,7 +8502,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slatrz(int m, int n, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork) {
     if (debug) System.err.println("slatrz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slatrzK(m, n, l, a, offseta, lda, tau, offsettau, work, offsetwork);
+    tracing.end(event, "slatrz", this, m, n, 0, 0, lda);
   }
 
   protected abstract void slatrzK(int m, int n, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork);
@@ -7346,7 +8517,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slatzm(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c1, int offsetc1, float[] c2, int offsetc2, int Ldc, float[] work, int offsetwork) {
     if (debug) System.err.println("slatzm");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slatzmK(side, m, n, v, offsetv, incv, tau, c1, offsetc1, c2, offsetc2, Ldc, work, offsetwork);
+    tracing.end(event, "slatzm", this, m, n, 0, 0, 0);
   }
 
   protected abstract void slatzmK(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c1, int offsetc1, float[] c2, int offsetc2, int Ldc, float[] work, int offsetwork);
@@ -7359,7 +8532,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slauu2(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("slauu2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slauu2K(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "slauu2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void slauu2K(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -7372,7 +8547,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slauum(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("slauum");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slauumK(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "slauum", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void slauumK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -7385,7 +8562,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slazq3(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau) {
     if (debug) System.err.println("slazq3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slazq3K(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+    tracing.end(event, "slazq3", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slazq3K(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau);
@@ -7398,7 +8577,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void slazq4(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
     if (debug) System.err.println("slazq4");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     slazq4K(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+    tracing.end(event, "slazq4", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slazq4K(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g);
@@ -7411,7 +8592,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sopgtr(String uplo, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sopgtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sopgtrK(uplo, n, ap, offsetap, tau, offsettau, q, offsetq, ldq, work, offsetwork, info);
+    tracing.end(event, "sopgtr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sopgtrK(String uplo, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7424,7 +8607,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sopmtr(String side, String uplo, String trans, int m, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sopmtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sopmtrK(side, uplo, trans, m, n, ap, offsetap, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sopmtr", this, m, n, 0, 0, 0);
   }
 
   protected abstract void sopmtrK(String side, String uplo, String trans, int m, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7437,7 +8622,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorg2l(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorg2l");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorg2lK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sorg2l", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorg2lK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7450,7 +8637,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorg2r(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorg2r");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorg2rK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sorg2r", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorg2rK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7463,7 +8652,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorgbr(String vect, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgbr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorgbrK(vect, m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sorgbr", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorgbrK(String vect, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7476,7 +8667,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorghr(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorghr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorghrK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sorghr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sorghrK(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7489,7 +8682,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorgl2(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgl2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorgl2K(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sorgl2", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorgl2K(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7502,7 +8697,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorglq(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorglq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorglqK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sorglq", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorglqK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7515,7 +8712,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorgql(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgql");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorgqlK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sorgql", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorgqlK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7528,7 +8727,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorgqr(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sorgqr", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorgqrK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7541,7 +8742,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorgr2(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorgr2K(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    tracing.end(event, "sorgr2", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorgr2K(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7554,7 +8757,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorgrq(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgrq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorgrqK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sorgrq", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorgrqK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7567,7 +8772,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorgtr(String uplo, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorgtrK(uplo, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "sorgtr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void sorgtrK(String uplo, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7580,7 +8787,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorm2l(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorm2l");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorm2lK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sorm2l", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorm2lK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7593,7 +8802,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorm2r(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorm2r");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorm2rK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sorm2r", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorm2rK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7606,7 +8817,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormbr(String vect, String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormbr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormbrK(vect, side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormbr", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormbrK(String vect, String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7619,7 +8832,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormhr(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormhr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormhrK(side, trans, m, n, ilo, ihi, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormhr", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sormhrK(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7632,7 +8847,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sorml2(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sorml2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sorml2K(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sorml2", this, m, n, k, 0, lda);
   }
 
   protected abstract void sorml2K(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7645,7 +8862,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormlq(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormlq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormlqK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormlq", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormlqK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7658,7 +8877,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormql(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormql");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormqlK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormql", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormqlK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7671,7 +8892,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormqr(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormqr", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormqrK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7684,7 +8907,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormr2(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormr2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormr2K(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sormr2", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormr2K(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7697,7 +8922,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormr3(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormr3");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormr3K(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    tracing.end(event, "sormr3", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormr3K(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -7710,7 +8937,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormrq(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormrq");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormrqK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormrq", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormrqK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7723,7 +8952,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormrz(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormrz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormrzK(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormrz", this, m, n, k, 0, lda);
   }
 
   protected abstract void sormrzK(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7736,7 +8967,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sormtr(String side, String uplo, String trans, int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sormtr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sormtrK(side, uplo, trans, m, n, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    tracing.end(event, "sormtr", this, m, n, 0, 0, lda);
   }
 
   protected abstract void sormtrK(String side, String uplo, String trans, int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -7749,7 +8982,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbcon(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("spbcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbconK(uplo, n, kd, ab, offsetab, ldab, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "spbcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spbconK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7762,7 +8997,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbequ(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("spbequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbequK(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, info);
+    tracing.end(event, "spbequ", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spbequK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info);
@@ -7775,7 +9012,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbrfs(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("spbrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbrfsK(uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "spbrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void spbrfsK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7788,7 +9027,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbstf(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
     if (debug) System.err.println("spbstf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbstfK(uplo, n, kd, ab, offsetab, ldab, info);
+    tracing.end(event, "spbstf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spbstfK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info);
@@ -7801,7 +9042,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbsv(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("spbsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbsvK(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    tracing.end(event, "spbsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void spbsvK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -7814,7 +9057,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbsvx(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("spbsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbsvxK(fact, uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "spbsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void spbsvxK(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7827,7 +9072,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbtf2(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
     if (debug) System.err.println("spbtf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbtf2K(uplo, n, kd, ab, offsetab, ldab, info);
+    tracing.end(event, "spbtf2", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spbtf2K(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info);
@@ -7840,7 +9087,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbtrf(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
     if (debug) System.err.println("spbtrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbtrfK(uplo, n, kd, ab, offsetab, ldab, info);
+    tracing.end(event, "spbtrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spbtrfK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info);
@@ -7853,7 +9102,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spbtrs(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("spbtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spbtrsK(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    tracing.end(event, "spbtrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void spbtrsK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -7866,7 +9117,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spocon(String uplo, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("spocon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spoconK(uplo, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "spocon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void spoconK(String uplo, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7879,7 +9132,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spoequ(int n, float[] a, int offseta, int lda, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("spoequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spoequK(n, a, offseta, lda, s, offsets, scond, amax, info);
+    tracing.end(event, "spoequ", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void spoequK(int n, float[] a, int offseta, int lda, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info);
@@ -7892,7 +9147,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sporfs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sporfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sporfsK(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sporfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void sporfsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7905,7 +9162,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sposv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sposv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "sposv", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -7918,7 +9177,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sposvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sposvxK(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sposvx", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void sposvxK(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7931,7 +9192,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spotf2(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("spotf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spotf2K(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "spotf2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void spotf2K(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -7944,7 +9207,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spotrf(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("spotrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spotrfK(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "spotrf", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -7957,7 +9222,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spotri(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("spotri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spotriK(uplo, n, a, offseta, lda, info);
+    tracing.end(event, "spotri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void spotriK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -7970,7 +9237,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spotrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("spotrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "spotrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -7983,7 +9252,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sppcon(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sppcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sppconK(uplo, n, ap, offsetap, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sppcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sppconK(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -7996,7 +9267,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sppequ(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
     if (debug) System.err.println("sppequ");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sppequK(uplo, n, ap, offsetap, s, offsets, scond, amax, info);
+    tracing.end(event, "sppequ", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sppequK(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info);
@@ -8009,7 +9282,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spprfs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("spprfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spprfsK(uplo, n, nrhs, ap, offsetap, afp, offsetafp, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "spprfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void spprfsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8022,7 +9297,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sppsv(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sppsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sppsvK(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    tracing.end(event, "sppsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sppsvK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8035,7 +9312,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sppsvx(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sppsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sppsvxK(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sppsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sppsvxK(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8048,7 +9327,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spptrf(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
     if (debug) System.err.println("spptrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spptrfK(uplo, n, ap, offsetap, info);
+    tracing.end(event, "spptrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spptrfK(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info);
@@ -8061,7 +9342,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spptri(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
     if (debug) System.err.println("spptri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spptriK(uplo, n, ap, offsetap, info);
+    tracing.end(event, "spptri", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spptriK(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info);
@@ -8074,7 +9357,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spptrs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("spptrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spptrsK(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    tracing.end(event, "spptrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void spptrsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8087,7 +9372,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sptcon(int n, float[] d, int offsetd, float[] e, int offsete, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sptcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sptconK(n, d, offsetd, e, offsete, anorm, rcond, work, offsetwork, info);
+    tracing.end(event, "sptcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sptconK(int n, float[] d, int offsetd, float[] e, int offsete, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8100,7 +9387,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spteqr(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("spteqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spteqrK(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "spteqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spteqrK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8113,7 +9402,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sptrfs(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sptrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sptrfsK(n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    tracing.end(event, "sptrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sptrfsK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8126,7 +9417,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sptsv(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sptsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sptsvK(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    tracing.end(event, "sptsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sptsvK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8139,7 +9432,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sptsvx(String fact, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sptsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sptsvxK(fact, n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    tracing.end(event, "sptsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sptsvxK(String fact, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8152,7 +9447,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spttrf(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
     if (debug) System.err.println("spttrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spttrfK(n, d, offsetd, e, offsete, info);
+    tracing.end(event, "spttrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void spttrfK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info);
@@ -8165,7 +9462,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void spttrs(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("spttrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     spttrsK(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    tracing.end(event, "spttrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void spttrsK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8178,7 +9477,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sptts2(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb) {
     if (debug) System.err.println("sptts2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sptts2K(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb);
+    tracing.end(event, "sptts2", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sptts2K(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb);
@@ -8191,7 +9492,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void srscl(int n, float sa, float[] sx, int offsetsx, int incx) {
     if (debug) System.err.println("srscl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     srsclK(n, sa, sx, offsetsx, incx);
+    tracing.end(event, "srscl", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void srsclK(int n, float sa, float[] sx, int offsetsx, int incx);
@@ -8204,7 +9507,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbev(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbevK(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "ssbev", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbevK(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8217,7 +9522,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbevd(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbevdK(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "ssbevd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbevdK(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8230,7 +9537,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbevx(String jobz, String range, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbevxK(jobz, range, uplo, n, kd, ab, offsetab, ldab, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "ssbevx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbevxK(String jobz, String range, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8243,7 +9552,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbgst(String vect, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] x, int offsetx, int ldx, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbgst");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbgstK(vect, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, x, offsetx, ldx, work, offsetwork, info);
+    tracing.end(event, "ssbgst", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbgstK(String vect, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] x, int offsetx, int ldx, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8256,7 +9567,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbgv(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbgv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbgvK(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "ssbgv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbgvK(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8269,7 +9582,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbgvd(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbgvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbgvdK(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "ssbgvd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbgvdK(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8282,7 +9597,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbgvx(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbgvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbgvxK(jobz, range, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "ssbgvx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbgvxK(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8295,7 +9612,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssbtrd(String vect, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssbtrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssbtrdK(vect, uplo, n, kd, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, work, offsetwork, info);
+    tracing.end(event, "ssbtrd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssbtrdK(String vect, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8308,7 +9627,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspcon(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sspcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspconK(uplo, n, ap, offsetap, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sspcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspconK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8321,7 +9642,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspev(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sspev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspevK(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "sspev", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspevK(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8334,7 +9657,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspevd(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sspevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspevdK(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "sspevd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspevdK(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8347,7 +9672,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspevx(String jobz, String range, String uplo, int n, float[] ap, int offsetap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("sspevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspevxK(jobz, range, uplo, n, ap, offsetap, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "sspevx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspevxK(String jobz, String range, String uplo, int n, float[] ap, int offsetap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8360,7 +9687,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspgst(int itype, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, org.netlib.util.intW info) {
     if (debug) System.err.println("sspgst");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspgstK(itype, uplo, n, ap, offsetap, bp, offsetbp, info);
+    tracing.end(event, "sspgst", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspgstK(int itype, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, org.netlib.util.intW info);
@@ -8373,7 +9702,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspgv(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sspgv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspgvK(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "sspgv", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspgvK(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8386,7 +9717,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspgvd(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sspgvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspgvdK(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "sspgvd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspgvdK(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8399,7 +9732,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspgvx(int itype, String jobz, String range, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("sspgvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspgvxK(itype, jobz, range, uplo, n, ap, offsetap, bp, offsetbp, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "sspgvx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sspgvxK(int itype, String jobz, String range, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8412,7 +9747,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssprfs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssprfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssprfsK(uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "ssprfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void ssprfsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8425,7 +9762,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspsv(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sspsv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspsvK(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "sspsv", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sspsvK(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8438,7 +9777,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sspsvx(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sspsvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sspsvxK(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sspsvx", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void sspsvxK(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8451,7 +9792,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssptrd(String uplo, int n, float[] ap, int offsetap, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
     if (debug) System.err.println("ssptrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssptrdK(uplo, n, ap, offsetap, d, offsetd, e, offsete, tau, offsettau, info);
+    tracing.end(event, "ssptrd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssptrdK(String uplo, int n, float[] ap, int offsetap, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info);
@@ -8464,7 +9807,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssptrf(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("ssptrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssptrfK(uplo, n, ap, offsetap, ipiv, offsetipiv, info);
+    tracing.end(event, "ssptrf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssptrfK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -8477,7 +9822,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssptri(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssptri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssptriK(uplo, n, ap, offsetap, ipiv, offsetipiv, work, offsetwork, info);
+    tracing.end(event, "ssptri", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssptriK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8490,7 +9837,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssptrs(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("ssptrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssptrsK(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "ssptrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void ssptrsK(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8503,7 +9852,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstebz(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstebz");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstebzK(range, order, n, vl, vu, il, iu, abstol, d, offsetd, e, offsete, m, nsplit, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "sstebz", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstebzK(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8516,7 +9867,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstedc(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstedc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstedcK(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "sstedc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstedcK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8529,7 +9882,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstegr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstegr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstegrK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "sstegr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstegrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8542,7 +9897,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstein(int n, float[] d, int offsetd, float[] e, int offsete, int m, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("sstein");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssteinK(n, d, offsetd, e, offsete, m, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "sstein", this, m, n, 0, 0, 0);
   }
 
   protected abstract void ssteinK(int n, float[] d, int offsetd, float[] e, int offsete, int m, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8555,7 +9912,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstemr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstemr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstemrK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, nzc, isuppz, offsetisuppz, tryrac, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "sstemr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstemrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8568,7 +9927,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssteqr(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssteqr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssteqrK(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "ssteqr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssteqrK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8581,7 +9942,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssterf(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
     if (debug) System.err.println("ssterf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssterfK(n, d, offsetd, e, offsete, info);
+    tracing.end(event, "ssterf", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void ssterfK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info);
@@ -8594,7 +9957,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstev(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstevK(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    tracing.end(event, "sstev", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstevK(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8607,7 +9972,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstevd(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstevdK(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "sstevd", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstevdK(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8620,7 +9987,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstevr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sstevr");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstevrK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "sstevr", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstevrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8633,7 +10002,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void sstevx(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("sstevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     sstevxK(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "sstevx", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void sstevxK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8646,7 +10017,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssycon(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssycon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssyconK(uplo, n, a, offseta, lda, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "ssycon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssyconK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8659,7 +10032,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssyev(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyev");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    tracing.end(event, "ssyev", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -8672,7 +10047,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssyevd(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyevd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "ssyevd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8684,8 +10061,43 @@ abstract class AbstractLAPACK implements LAPACK {
 
   public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyevr");
-    //FIXME Add arguments check
+    checkArgument("SSYEVR", 1, lsame("N", jobz) || lsame("V", jobz));
+    checkArgument("SSYEVR", 2, lsame("A", range) || lsame("V", range) || lsame("I", range));
+    checkArgument("SSYEVR", 3, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYEVR", 4, n >= 0);
+    checkArgument("SSYEVR", 6, lda >= Math.max(1, n));
+    if (lwork != -1 || liwork != -1) {
+      if (lsame("V", range)) {
+        checkArgument("SSYEVR", 8, n == 0 || vl < vu);
+      } else if (lsame("I", range)) {
+        checkArgument("SSYEVR", 9, 1 <= il && il <= Math.max(1, n));
+        checkArgument("SSYEVR", 10, Math.min(n, il) <= iu && iu <= n);
+      }
+    }
+    checkArgument("SSYEVR", 15, (lsame("V", jobz) && ldz >= Math.max(1, n)) || (lsame("N", jobz) && ldz >= 1));
+    checkArgument("SSYEVR", 18, lwork == -1 || lwork >= Math.max(1, 26 * n));
+    checkArgument("SSYEVR", 20, liwork == -1 || liwork >= Math.max(1, 10 * n));
+    requireNonNull(a);
+    requireNonNull(m);
+    requireNonNull(w);
+    if (lsame("V", jobz))
+      requireNonNull(z);
+    requireNonNull(isuppz);
+    requireNonNull(work);
+    requireNonNull(iwork);
+    requireNonNull(info);
+    if (lwork != -1 || liwork != -1) {
+      checkMatrix(offseta, n, n, lda, a.length);
+      checkIndex(offsetw + n - 1, w.length);
+      if (lsame("V", jobz))
+        checkMatrix(offsetz, n, lsame("I", range) ? iu - il + 1 : n, ldz, z.length);
+      checkIndex(offsetisuppz + 2 * Math.max(1, n) - 1, isuppz.length);
+    }
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    checkIndex(offsetiwork + Math.max(1, liwork) - 1, iwork.length);
+    Object event = tracing.begin();
     ssyevrK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "ssyevr", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssyevrK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8698,7 +10110,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssyevx(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyevx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssyevxK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "ssyevx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssyevxK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8711,7 +10125,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssygs2(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("ssygs2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssygs2K(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "ssygs2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssygs2K(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8724,7 +10140,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssygst(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("ssygst");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssygstK(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "ssygst", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssygstK(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8737,7 +10155,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssygv(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssygv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssygvK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+    tracing.end(event, "ssygv", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssygvK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -8750,7 +10170,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssygvd(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssygvd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssygvdK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "ssygvd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssygvdK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8763,7 +10185,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssygvx(int itype, String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
     if (debug) System.err.println("ssygvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssygvxK(itype, jobz, range, uplo, n, a, offseta, lda, b, offsetb, ldb, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    tracing.end(event, "ssygvx", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssygvxK(int itype, String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -8776,7 +10200,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssyrfs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssyrfsK(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "ssyrfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void ssyrfsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8789,7 +10215,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssysv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssysv");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssysvK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+    tracing.end(event, "ssysv", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void ssysvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -8802,7 +10230,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssysvx(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssysvx");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssysvxK(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "ssysvx", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void ssysvxK(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8815,7 +10245,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssytd2(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
     if (debug) System.err.println("ssytd2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssytd2K(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+    tracing.end(event, "ssytd2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssytd2K(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info);
@@ -8828,7 +10260,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssytf2(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
     if (debug) System.err.println("ssytf2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssytf2K(uplo, n, a, offseta, lda, ipiv, offsetipiv, info);
+    tracing.end(event, "ssytf2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssytf2K(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
@@ -8841,7 +10275,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssytrd(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssytrd");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssytrdK(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "ssytrd", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssytrdK(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -8854,7 +10290,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssytrf(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssytrf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssytrfK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    tracing.end(event, "ssytrf", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssytrfK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -8867,7 +10305,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssytri(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssytri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssytriK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, info);
+    tracing.end(event, "ssytri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void ssytriK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8880,7 +10320,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void ssytrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("ssytrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     ssytrsK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    tracing.end(event, "ssytrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void ssytrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8893,7 +10335,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stbcon(String norm, String uplo, String diag, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stbcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stbconK(norm, uplo, diag, n, kd, ab, offsetab, ldab, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "stbcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void stbconK(String norm, String uplo, String diag, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8906,7 +10350,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stbrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stbrfsK(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "stbrfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void stbrfsK(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -8919,7 +10365,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("stbtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stbtrsK(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    tracing.end(event, "stbtrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void stbtrsK(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -8932,7 +10380,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgevc(String side, String howmny, boolean[] select, int offsetselect, int n, float[] s, int offsets, int lds, float[] p, int offsetp, int ldp, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stgevc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgevcK(side, howmny, select, offsetselect, n, s, offsets, lds, p, offsetp, ldp, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    tracing.end(event, "stgevc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void stgevcK(String side, String howmny, boolean[] select, int offsetselect, int n, float[] s, int offsets, int lds, float[] p, int offsetp, int ldp, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -8945,7 +10395,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgex2(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, int j1, int n1, int n2, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stgex2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgex2K(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, j1, n1, n2, work, offsetwork, lwork, info);
+    tracing.end(event, "stgex2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void stgex2K(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, int j1, int n1, int n2, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -8958,7 +10410,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgexc(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stgexc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgexcK(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, ifst, ilst, work, offsetwork, lwork, info);
+    tracing.end(event, "stgexc", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void stgexcK(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -8971,7 +10425,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, int offsetdif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stgsen");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgsenK(ijob, wantq, wantz, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, m, pl, pr, dif, offsetdif, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "stgsen", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void stgsenK(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, int offsetdif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -8984,7 +10440,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
     if (debug) System.err.println("stgsja");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgsjaK(jobu, jobv, jobq, m, p, n, k, l, a, offseta, lda, b, offsetb, ldb, tola, tolb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, ncycle, info);
+    tracing.end(event, "stgsja", this, m, n, k, 0, lda);
   }
 
   protected abstract void stgsjaK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info);
@@ -8997,7 +10455,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgsna(String job, String howmny, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] dif, int offsetdif, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stgsna");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgsnaK(job, howmny, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, dif, offsetdif, mm, m, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "stgsna", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void stgsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] dif, int offsetdif, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -9010,7 +10470,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgsy2(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
     if (debug) System.err.println("stgsy2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgsy2K(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, rdsum, rdscal, iwork, offsetiwork, pq, info);
+    tracing.end(event, "stgsy2", this, m, n, 0, 0, lda);
   }
 
   protected abstract void stgsy2K(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info);
@@ -9023,7 +10485,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stgsyl(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stgsyl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stgsylK(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, dif, work, offsetwork, lwork, iwork, offsetiwork, info);
+    tracing.end(event, "stgsyl", this, m, n, 0, 0, lda);
   }
 
   protected abstract void stgsylK(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -9036,7 +10500,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stpcon(String norm, String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stpcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stpconK(norm, uplo, diag, n, ap, offsetap, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "stpcon", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void stpconK(String norm, String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -9049,7 +10515,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stprfs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stprfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stprfsK(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "stprfs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void stprfsK(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -9062,7 +10530,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stptri(String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
     if (debug) System.err.println("stptri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stptriK(uplo, diag, n, ap, offsetap, info);
+    tracing.end(event, "stptri", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void stptriK(String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.intW info);
@@ -9075,7 +10545,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stptrs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("stptrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stptrsK(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    tracing.end(event, "stptrs", this, 0, n, 0, nrhs, 0);
   }
 
   protected abstract void stptrsK(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -9088,7 +10560,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strcon(String norm, String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("strcon");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strconK(norm, uplo, diag, n, a, offseta, lda, rcond, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "strcon", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void strconK(String norm, String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -9101,7 +10575,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strevc(String side, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("strevc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strevcK(side, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    tracing.end(event, "strevc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void strevcK(String side, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -9114,7 +10590,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strexc(String compq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, org.netlib.util.intW info) {
     if (debug) System.err.println("strexc");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strexcK(compq, n, t, offsett, ldt, q, offsetq, ldq, ifst, ilst, work, offsetwork, info);
+    tracing.end(event, "strexc", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void strexcK(String compq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -9127,7 +10605,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strrfs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("strrfs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strrfsK(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    tracing.end(event, "strrfs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void strrfsK(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -9140,7 +10620,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strsen(String job, String compq, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, float[] wr, int offsetwr, float[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("strsen");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strsenK(job, compq, select, offsetselect, n, t, offsett, ldt, q, offsetq, ldq, wr, offsetwr, wi, offsetwi, m, s, sep, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    tracing.end(event, "strsen", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void strsenK(String job, String compq, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, float[] wr, int offsetwr, float[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
@@ -9153,7 +10635,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strsna(String job, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] sep, int offsetsep, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
     if (debug) System.err.println("strsna");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strsnaK(job, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, sep, offsetsep, mm, m, work, offsetwork, ldwork, iwork, offsetiwork, info);
+    tracing.end(event, "strsna", this, 0, n, 0, 0, 0);
   }
 
   protected abstract void strsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] sep, int offsetsep, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
@@ -9166,7 +10650,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strsyl(String trana, String tranb, int isgn, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
     if (debug) System.err.println("strsyl");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strsylK(trana, tranb, isgn, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, scale, info);
+    tracing.end(event, "strsyl", this, m, n, 0, 0, lda);
   }
 
   protected abstract void strsylK(String trana, String tranb, int isgn, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info);
@@ -9179,7 +10665,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strti2(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("strti2");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strti2K(uplo, diag, n, a, offseta, lda, info);
+    tracing.end(event, "strti2", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void strti2K(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -9192,7 +10680,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strtri(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("strtri");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strtriK(uplo, diag, n, a, offseta, lda, info);
+    tracing.end(event, "strtri", this, 0, n, 0, 0, lda);
   }
 
   protected abstract void strtriK(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
@@ -9205,7 +10695,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void strtrs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("strtrs");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     strtrsK(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    tracing.end(event, "strtrs", this, 0, n, 0, nrhs, lda);
   }
 
   protected abstract void strtrsK(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
@@ -9218,7 +10710,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stzrqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, org.netlib.util.intW info) {
     if (debug) System.err.println("stzrqf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stzrqfK(m, n, a, offseta, lda, tau, offsettau, info);
+    tracing.end(event, "stzrqf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void stzrqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, org.netlib.util.intW info);
@@ -9231,7 +10725,9 @@ abstract class AbstractLAPACK implements LAPACK {
   public void stzrzf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("stzrzf");
     //FIXME Add arguments check
+    Object event = tracing.begin();
     stzrzfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    tracing.end(event, "stzrzf", this, m, n, 0, 0, lda);
   }
 
   protected abstract void stzrzfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -9240,56 +10736,76 @@ abstract class AbstractLAPACK implements LAPACK {
     if (debug) System.err.println("dlamch");
     checkArgument("DLAMCH", 1, lsame("E", cmach) || lsame("S", cmach) || lsame("B", cmach) || lsame("P", cmach) || lsame("N", cmach) || lsame("R", cmach) || lsame("M", cmach) || lsame("U", cmach) || lsame("L", cmach) || lsame("O", cmach));
     requireNonNull(cmach);
-    return dlamchK(cmach);
+    Object event = tracing.begin();
+    double result = dlamchK(cmach);
+    tracing.end(event, "dlamch", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlamchK(String cmach);
 
   public void dlamc1(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
     if (debug) System.err.println("dlamc1");
+    Object event = tracing.begin();
     dlamc1K(beta, t, rnd, ieee1);
+    tracing.end(event, "dlamc1", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlamc1K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1);
 
   public void dlamc2(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.doubleW eps, org.netlib.util.intW emin, org.netlib.util.doubleW rmin, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
     if (debug) System.err.println("dlamc2");
+    Object event = tracing.begin();
     dlamc2K(beta, t, rnd, eps, emin, rmin, emax, rmax);
+    tracing.end(event, "dlamc2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlamc2K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.doubleW eps, org.netlib.util.intW emin, org.netlib.util.doubleW rmin, org.netlib.util.intW emax, org.netlib.util.doubleW rmax);
 
   public double dlamc3(double a, double b) {
     if (debug) System.err.println("dlamc3");
-    return dlamc3K(a, b);
+    Object event = tracing.begin();
+    double result = dlamc3K(a, b);
+    tracing.end(event, "dlamc3", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dlamc3K(double a, double b);
 
   public void dlamc4(org.netlib.util.intW emin, double start, int base) {
     if (debug) System.err.println("dlamc4");
+    Object event = tracing.begin();
     dlamc4K(emin, start, base);
+    tracing.end(event, "dlamc4", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlamc4K(org.netlib.util.intW emin, double start, int base);
 
   public void dlamc5(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
     if (debug) System.err.println("dlamc5");
+    Object event = tracing.begin();
     dlamc5K(beta, p, emin, ieee, emax, rmax);
+    tracing.end(event, "dlamc5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void dlamc5K(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.doubleW rmax);
 
   public double dsecnd() {
     if (debug) System.err.println("dsecnd");
-    return dsecndK();
+    Object event = tracing.begin();
+    double result = dsecndK();
+    tracing.end(event, "dsecnd", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract double dsecndK();
 
   public float second() {
     if (debug) System.err.println("second");
-    return secondK();
+    Object event = tracing.begin();
+    float result = secondK();
+    tracing.end(event, "second", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract float secondK();
@@ -9298,42 +10814,56 @@ abstract class AbstractLAPACK implements LAPACK {
     if (debug) System.err.println("slamch");
     requireNonNull(cmach);
     checkArgument("DLAMCH", 1, lsame("E", cmach) || lsame("S", cmach) || lsame("B", cmach) || lsame("P", cmach) || lsame("N", cmach) || lsame("R", cmach) || lsame("M", cmach) || lsame("U", cmach) || lsame("L", cmach) || lsame("O", cmach));
-    return slamchK(cmach);
+    Object event = tracing.begin();
+    float result = slamchK(cmach);
+    tracing.end(event, "slamch", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slamchK(String cmach);
 
   public void slamc1(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
     if (debug) System.err.println("slamc1");
+    Object event = tracing.begin();
     slamc1K(beta, t, rnd, ieee1);
+    tracing.end(event, "slamc1", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slamc1K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1);
 
   public void slamc2(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.floatW eps, org.netlib.util.intW emin, org.netlib.util.floatW rmin, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
     if (debug) System.err.println("slamc2");
+    Object event = tracing.begin();
     slamc2K(beta, t, rnd, eps, emin, rmin, emax, rmax);
+    tracing.end(event, "slamc2", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slamc2K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.floatW eps, org.netlib.util.intW emin, org.netlib.util.floatW rmin, org.netlib.util.intW emax, org.netlib.util.floatW rmax);
 
   public float slamc3(float a, float b) {
     if (debug) System.err.println("slamc3");
-    return slamc3K(a, b);
+    Object event = tracing.begin();
+    float result = slamc3K(a, b);
+    tracing.end(event, "slamc3", this, 0, 0, 0, 0, 0);
+    return result;
   }
 
   protected abstract float slamc3K(float a, float b);
 
   public void slamc4(org.netlib.util.intW emin, float start, int base) {
     if (debug) System.err.println("slamc4");
+    Object event = tracing.begin();
     slamc4K(emin, start, base);
+    tracing.end(event, "slamc4", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slamc4K(org.netlib.util.intW emin, float start, int base);
 
   public void slamc5(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
     if (debug) System.err.println("slamc5");
+    Object event = tracing.begin();
     slamc5K(beta, p, emin, ieee, emax, rmax);
+    tracing.end(event, "slamc5", this, 0, 0, 0, 0, 0);
   }
 
   protected abstract void slamc5K(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.floatW rmax);
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+// The F2j LAPACK routines call the F2j reference BLAS in org.netlib.blas, whatever BLAS implementation is
+// otherwise in use. To have them run on dev.ludovic.netlib.blas instead, the Java implementation is loaded
+// again in its own class loader, along with the org.netlib.lapack classes it calls into. As they are loaded,
+// the references to the org.netlib.blas classes are rewritten in their constant pool to point to
+// dev.ludovic.netlib.blas.F2jShim, which has the same static methods with the same signatures.
+//
+// Of this package, only the classes calling into org.netlib.lapack and the package-private ones they use are
+// loaded again, as the copies couldn't access the originals from another class loader. Those copies holding
+// state, like the thread pool of Parallel or the Tracing instance, take it from their original with shared,
+// so that there is a single pool and a single set of settings. Everything else, from the public classes like
+// the LAPACK interface to Meter, is shared with the rest of the application.
+//
+// -Ddev.ludovic.netlib.lapack.f2jBlas selects where the calls go: java (the default) for
+// JavaBLAS.getInstance(), default for BLAS.getInstance(), or f2j to leave them on the F2j reference BLAS.
+// Without dev.ludovic.netlib:blas on the classpath, the calls are left as they are.
+final class F2jRedirect {
+
+  private static final Logger log = Logger.getLogger(F2jRedirect.class.getName());
+
+  private static final String mode = System.getProperty("dev.ludovic.netlib.lapack.f2jBlas", "java");
+
+  private static final String SHIM = "dev/ludovic/netlib/blas/F2jShim";
+
+  // The org.netlib.blas classes called from org.netlib.lapack, all of which have a counterpart in F2jShim
+  private static final Set<String> ROUTINES = new HashSet<>(Arrays.asList(
+    "Dasum", "Daxpy", "Dcopy", "Ddot", "Dgbmv", "Dgemm", "Dgemv", "Dger", "Dnrm2", "Drot", "Dsbmv", "Dscal",
+    "Dspmv", "Dspr", "Dspr2", "Dswap", "Dsymm", "Dsymv", "Dsyr", "Dsyr2", "Dsyr2k", "Dsyrk", "Dtbmv", "Dtbsv",
+    "Dtpmv", "Dtpsv", "Dtrmm", "Dtrmv", "Dtrsm", "Dtrsv", "Idamax", "Isamax",
+    "Sasum", "Saxpy", "Scopy", "Sdot", "Sgbmv", "Sgemm", "Sgemv", "Sger", "Snrm2", "Srot", "Ssbmv", "Sscal",
+    "Sspmv", "Sspr", "Sspr2", "Sswap", "Ssymm", "Ssymv", "Ssyr", "Ssyr2", "Ssyr2k", "Ssyrk", "Stbmv", "Stbsv",
+    "Stpmv", "Stpsv", "Strmm", "Strmv", "Strsm", "Strsv"));
+
+  // The classes of this package loaded again, with their nested classes
+  private static final Set<String> COPIES = new HashSet<>(Arrays.asList(
+    "AbstractLAPACK", "CallEvent", "F2jLAPACK", "F2jRedirect", "JFRTracing", "Java8LAPACK", "Parallel",
+    "TaskGraph", "TileAlgorithms", "TileMatrix", "Tracing"));
+
+  private static final String PACKAGE = "dev.ludovic.netlib.lapack.";
+
+  private F2jRedirect() {}
+
+  static boolean enabled() {
+    switch (mode) {
+    case "java":
+    case "default":
+      return F2jRedirect.class.getClassLoader().getResource(SHIM + ".class") != null;
+    case "f2j":
+      return false;
+    default:
+      log.warning("Unknown value for dev.ludovic.netlib.lapack.f2jBlas = " + mode + ", keeping the F2j BLAS");
+      return false;
+    }
+  }
+
+  // Returns the instance of the given implementation, with its calls to the F2j BLAS redirected, or the
+  // original instance if redirection is disabled or fails
+  static JavaLAPACK redirect(Class<? extends JavaLAPACK> implementation, JavaLAPACK fallback) {
+    if (!enabled()) {
+      return fallback;
+    }
+    try {
+      Class<?> redirected = Class.forName(implementation.getName(), true, new Loader(implementation.getClassLoader()));
+      Method getInstance = redirected.getDeclaredMethod("getInstance");
+      getInstance.setAccessible(true);
+      return (JavaLAPACK) getInstance.invoke(null);
+    } catch (Throwable t) {
+      log.warning("Failed to redirect the F2j BLAS calls of " + implementation.getName() + ": " + t);
+      return fallback;
+    }
+  }
+
+  // Returns the value of the given static field of the original class when klass is a copy loaded again
+  // here, or the value of initial otherwise. The value has to be of a type shared by both, like ForkJoinPool.
+  @SuppressWarnings("unchecked")
+  static <T> T shared(Class<?> klass, String field, Supplier<T> initial) {
+    return isCopy(klass) ? (T) original(klass, field) : initial.get();
+  }
+
+  static boolean isCopy(Class<?> klass) {
+    // Compared by name, as the copy of this class has its own Loader
+    ClassLoader loader = klass.getClassLoader();
+    return loader != null && loader.getClass().getName().equals(F2jRedirect.class.getName() + "$Loader");
+  }
+
+  // The value of the given static field of the original of a copy
+  static Object original(Class<?> klass, String field) {
+    try {
+      Field f = Class.forName(klass.getName(), true, klass.getClassLoader().getParent()).getDeclaredField(field);
+      f.setAccessible(true);
+      return f.get(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to share " + klass.getName() + "." + field, e);
+    }
+  }
+
+  private static final class Loader extends ClassLoader {
+
+    Loader(ClassLoader parent) {
+      super(parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> c = findLoadedClass(name);
+        if (c == null) {
+          if (name.startsWith("org.netlib.lapack.")) {
+            c = define(name);
+          } else if (name.startsWith(PACKAGE) && COPIES.contains(name.substring(PACKAGE.length()).split("\\$", 2)[0])) {
+            c = define(name);
+          } else {
+            c = getParent().loadClass(name);
+          }
+        }
+        if (resolve) {
+          resolveClass(c);
+        }
+        return c;
+      }
+    }
+
+    private Class<?> define(String name) throws ClassNotFoundException {
+      byte[] bytes;
+      try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+        if (in == null) {
+          throw new ClassNotFoundException(name);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int n; (n = in.read(buffer)) > 0; ) {
+          out.write(buffer, 0, n);
+        }
+        bytes = rewrite(out.toByteArray());
+      } catch (IOException e) {
+        throw new ClassNotFoundException(name, e);
+      }
+      return defineClass(name, bytes, 0, bytes.length, F2jRedirect.class.getProtectionDomain());
+    }
+  }
+
+  // Replaces the org/netlib/blas/<Routine> class names with the name of the shim. Only the constant pool is
+  // touched, so the rest of the class file is copied as is.
+  static byte[] rewrite(byte[] klass) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(klass.length);
+    int count = u2(klass, 8);
+    out.write(klass, 0, 10);
+    int p = 10;
+    for (int i = 1; i < count; i++) {
+      int tag = klass[p] & 0xff;
+      int size;
+      switch (tag) {
+      case 1: { // Utf8
+        int length = u2(klass, p + 1);
+        String value = new String(klass, p + 3, length, StandardCharsets.UTF_8);
+        if (value.startsWith("org/netlib/blas/") && ROUTINES.contains(value.substring(16))) {
+          byte[] shim = SHIM.getBytes(StandardCharsets.UTF_8);
+          out.write(1);
+          out.write(shim.length >>> 8);
+          out.write(shim.length);
+          out.write(shim, 0, shim.length);
+          p += 3 + length;
+          continue;
+        }
+        size = 3 + length;
+        break;
+      }
+      case 7: case 8: case 16: case 19: case 20: // Class, String, MethodType, Module, Package
+        size = 3;
+        break;
+      case 15: // MethodHandle
+        size = 4;
+        break;
+      case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: // Integer, Float, refs, NameAndType, Dynamic
+        size = 5;
+        break;
+      case 5: case 6: // Long and Double take two entries
+        size = 9;
+        i++;
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown constant pool tag " + tag + " at offset " + p);
+      }
+      out.write(klass, p, size);
+      p += size;
+    }
+    out.write(klass, p, klass.length - p);
+    return out.toByteArray();
+  }
+
+  private static int u2(byte[] b, int p) {
+    return ((b[p] & 0xff) << 8) | (b[p + 1] & 0xff);
+  }
+}
@@ -31,18 +31,54 @@ final class InstanceBuilder {
 
   private static final Logger log = Logger.getLogger(InstanceBuilder.class.getName());
 
-  private static final LAPACK lapack;
-  private static final NativeLAPACK nativeLapack;
-  private static final JavaLAPACK javaLapack;
-
-  static {
-    nativeLapack = initializeNative();
-    javaLapack = initializeJava();
-    lapack = nativeLapack != null ? nativeLapack : javaLapack;
+  private static final boolean metering = System.getProperty("dev.ludovic.netlib.lapack.metering", "false").equals("true");
+
+  private static final boolean jmx = System.getProperty("dev.ludovic.netlib.lapack.jmx", "false").equals("true");
+
+  private static final boolean shapes = System.getProperty("dev.ludovic.netlib.lapack.shapes") != null;
+
+  // Each backend is held in its own class so that it's only initialized on first request. That way
+  // requesting the Java implementation never extracts and loads the native library, and requesting
+  // the native implementation never loads the Java one.
+  private static final class NativeHolder {
+    private static final NativeLAPACK instance = meter(record(initializeNative()));
+  }
+
+  private static final class JavaHolder {
+    private static final JavaLAPACK instance = meter(record(initializeJava()));
+  }
+
+  private static final class DefaultHolder {
+    private static final LAPACK instance = NativeHolder.instance != null ? NativeHolder.instance : JavaHolder.instance;
+
+    static {
+      // The metering counters are only reported through the MBean
+      if (jmx || metering) {
+        Management.register(instance);
+      }
+    }
+  }
+
+  private static NativeLAPACK record(NativeLAPACK lapack) {
+    return shapes && lapack != null ? new RecordingLAPACK.Native(lapack) : lapack;
+  }
+
+  private static JavaLAPACK record(JavaLAPACK lapack) {
+    return shapes && lapack != null ? new RecordingLAPACK.Java(lapack) : lapack;
+  }
+
+  private static NativeLAPACK meter(NativeLAPACK lapack) {
+    // The per-routine counters exposed over JMX come from the metering wrapper
+    return (metering || jmx) && lapack != null ? new MeteredLAPACK.Native(lapack) : lapack;
+  }
+
+  private static JavaLAPACK meter(JavaLAPACK lapack) {
+    // The per-routine counters exposed over JMX come from the metering wrapper
+    return (metering || jmx) && lapack != null ? new MeteredLAPACK.Java(lapack) : lapack;
   }
 
   public static LAPACK lapack() {
-    return lapack;
+    return DefaultHolder.instance;
   }
 
   private static NativeLAPACK initializeNative() {
@@ -55,17 +91,17 @@ final class InstanceBuilder {
   }
 
   public static NativeLAPACK nativeLapack() {
-    if (nativeLapack == null) {
+    if (NativeHolder.instance == null) {
       throw new RuntimeException("Unable to load native implementation");
     }
-    return nativeLapack;
+    return NativeHolder.instance;
   }
 
   private static JavaLAPACK initializeJava() {
-    return F2jLAPACK.getInstance();
+    return F2jRedirect.redirect(Java8LAPACK.class, Java8LAPACK.getInstance());
   }
 
   public static JavaLAPACK javaLapack() {
-    return javaLapack;
+    return JavaHolder.instance;
   }
 }
@@ -25,12 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
-import java.io.InputStream;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.regex.Pattern;
 
 final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
@@ -46,24 +42,36 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
         throw new RuntimeException("Unable to load native implementation");
     }
 
-    Path temp;
-    try (InputStream resource = this.getClass().getClassLoader().getResourceAsStream(
-            String.format("resources/native/%s-%s/libnetliblapackjni.so", osName, osArch))) {
-      assert resource != null;
-      Files.copy(resource, temp = Files.createTempFile("libnetliblapackjni.so", "",
-                                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---"))),
-                  StandardCopyOption.REPLACE_EXISTING);
-      temp.toFile().deleteOnExit();
-    } catch (IOException e) {
-      throw new RuntimeException("Unable to load native implementation", e);
-    }
-
-    System.load(temp.toString());}
+    System.load(NativeLoader.extract(
+      String.format("resources/native/%s-%s/libnetliblapackjni.so", osName, osArch), "libnetliblapackjni.so").toString());
+  }
 
   public static NativeLAPACK getInstance() {
     return instance;
   }
 
+  // Path of the loaded native library as resolved by the dynamic loader, or null if none is loaded
+  static native String libraryPath();
+
+  // Calls and nanoseconds spent marshalling arguments, pinning arrays and computing in the routine, or null
+  // unless the JNI wrapper is built with -DNETLIB_JNI_PROFILE. Read by dev.ludovic.netlib.profiler.JNIProfiler
+  static native long[] profile(String routine);
+
+  // Threads whose name matches are considered part of a pool, in addition to ForkJoinPool workers. The
+  // defaults cover Executors' thread factory and Spark's task threads.
+  private static final Pattern poolThreadPattern = Pattern.compile(
+    System.getProperty("dev.ludovic.netlib.lapack.poolThreadPattern", "pool-\\d+-thread-\\d+|Executor task launch worker.*"));
+
+  // Called by the JNI wrapper on the first call from each thread when dev.ludovic.netlib.lapack.pinPoolThreads is set
+  private static boolean isPoolThread() {
+    Thread thread = Thread.currentThread();
+    return thread instanceof ForkJoinWorkerThread || poolThreadPattern.matcher(thread.getName()).matches();
+  }
+
+  public native int getNumThreads();
+
+  public native void setNumThreads(int n);
+
   protected native void dbdsdcK(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void dbdsqrK(String uplo, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
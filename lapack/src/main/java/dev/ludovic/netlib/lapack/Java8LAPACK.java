@@ -0,0 +1,3363 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.netlib.err.Xerbla;
+import org.netlib.lapack.Lsame;
+import org.netlib.util.doubleW;
+import org.netlib.util.floatW;
+import org.netlib.util.intW;
+
+// Blocked and parallel Java implementations of the most used routines, the others being left to F2j. The
+// BLAS calls go through org.netlib.blas like those of F2j, so that F2jRedirect sends them to
+// dev.ludovic.netlib.blas when it's available.
+class Java8LAPACK extends F2jLAPACK {
+
+  private static final Java8LAPACK instance = new Java8LAPACK();
+
+  // Below this many columns, the factorizations use the unblocked F2j routine
+  private static final int RECURSION_CUTOFF = 16;
+
+  // Block size of the blocked factorizations
+  private static final int BLOCK = 64;
+
+  // Fewest columns per block when splitting updates across threads
+  private static final int MIN_COLUMNS = 32;
+
+  // Largest tridiagonal block solved directly by the divide and conquer eigensolver
+  private static final int SMLSIZ = 25;
+
+  protected Java8LAPACK() {}
+
+  public static JavaLAPACK getInstance() {
+    return instance;
+  }
+
+  protected void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, intW info) {
+    info.val = 0;
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -4;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DGETRF", -info.val);
+      return;
+    }
+    if (m == 0 || n == 0) {
+      return;
+    }
+    if (TileAlgorithms.use(m, n)) {
+      TileAlgorithms.dgetrf(m, n, a, offseta, lda, ipiv, offsetipiv, TileAlgorithms.SIZE, Parallel.pool(), info);
+      return;
+    }
+    dgetrf2(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  // Recursive LU, as in LAPACK's dgetrf2: factor the left half of the columns, update the right half,
+  // factor the bottom of the right half, and apply its row interchanges back to the left half. Most of
+  // the operations end up in the dgemm of the first levels, which is split across threads by columns.
+  private void dgetrf2(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, intW info) {
+    int mn = Math.min(m, n);
+    if (mn <= RECURSION_CUTOFF) {
+      intW iinfo = new intW(0);
+      org.netlib.lapack.Dgetf2.dgetf2(m, n, a, offseta, lda, ipiv, offsetipiv, iinfo);
+      if (info.val == 0 && iinfo.val > 0) {
+        info.val = iinfo.val;
+      }
+      return;
+    }
+    int n1 = mn / 2;
+    int n2 = n - n1;
+
+    dgetrf2(m, n1, a, offseta, lda, ipiv, offsetipiv, info);
+
+    // [A12; A22] = P * [A12; A22], A12 = inv(L11) * A12, A22 = A22 - A21 * A12
+    int blocks = Parallel.blocks(n2, MIN_COLUMNS, 2L * (m - n1) * n1 * n2);
+    Parallel.forEach(blocks, b -> {
+      int j = n2 * b / blocks;
+      int nb = n2 * (b + 1) / blocks - j;
+      int offsetb = offseta + (n1 + j) * lda;
+      org.netlib.lapack.Dlaswp.dlaswp(nb, a, offsetb, lda, 1, n1, ipiv, offsetipiv, 1);
+      org.netlib.blas.Dtrsm.dtrsm("L", "L", "N", "U", n1, nb, 1.0, a, offseta, lda, a, offsetb, lda);
+      org.netlib.blas.Dgemm.dgemm("N", "N", m - n1, nb, n1, -1.0, a, offseta + n1, lda, a, offsetb, lda, 1.0, a, offsetb + n1, lda);
+    });
+
+    intW iinfo = new intW(0);
+    dgetrf2(m - n1, n2, a, offseta + n1 + n1 * lda, lda, ipiv, offsetipiv + n1, iinfo);
+    if (info.val == 0 && iinfo.val > 0) {
+      info.val = iinfo.val + n1;
+    }
+    for (int i = n1; i < mn; i++) {
+      ipiv[offsetipiv + i] += n1;
+    }
+    org.netlib.lapack.Dlaswp.dlaswp(n1, a, offseta, lda, n1 + 1, mn, ipiv, offsetipiv, 1);
+  }
+
+  protected void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, intW info) {
+    info.val = 0;
+    if (n < 0) {
+      info.val = -1;
+    } else if (nrhs < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    } else if (ldb < Math.max(1, n)) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DGESV ", -info.val);
+      return;
+    }
+    dgetrfK(n, n, a, offseta, lda, ipiv, offsetipiv, info);
+    if (info.val == 0) {
+      dgetrsK("N", n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  // Blocked QR: a recursive QR of each panel, which also forms the triangular factor of its block reflector,
+  // and a compact WY update of the trailing matrix split across threads by columns
+  protected void dgeqrfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean lquery = lwork == -1;
+    // The workspace is allocated as needed, so the minimal size is as good as any
+    work[offsetwork] = Math.max(1, n);
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -4;
+    } else if (lwork < Math.max(1, n) && !lquery) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DGEQRF", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    int k = Math.min(m, n);
+    if (k == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    if (TileAlgorithms.use(m, n)) {
+      TileAlgorithms.dgeqrf(m, n, a, offseta, lda, tau, offsettau, TileAlgorithms.SIZE, Parallel.pool(), info);
+      return;
+    }
+    double[] t = new double[BLOCK * BLOCK];
+    for (int j = 0; j < k; j += BLOCK) {
+      int jb = Math.min(BLOCK, k - j);
+      int offsetjj = offseta + j + j * lda;
+      dgeqrt3(m - j, jb, a, offsetjj, lda, t, 0, BLOCK);
+      for (int i = 0; i < jb; i++) {
+        tau[offsettau + j + i] = t[i + i * BLOCK];
+      }
+      if (j + jb < n) {
+        dlarfb("L", "T", m - j, n - j - jb, jb, a, offsetjj, lda, t, 0, BLOCK, a, offsetjj + jb * lda, lda);
+      }
+    }
+  }
+
+  // Recursive QR of the m x n panel, with m >= n, as in LAPACK's dgeqrt3: factor the left half, apply it
+  // to the right half, factor the bottom of the right half, and combine the triangular factors of both
+  // halves into the n x n triangular factor T, which has the tau of each reflector on its diagonal
+  private void dgeqrt3(int m, int n, double[] a, int offseta, int lda, double[] t, int offsett, int ldt) {
+    if (n == 1) {
+      doubleW alpha = new doubleW(a[offseta]);
+      doubleW tau = new doubleW(0.0);
+      org.netlib.lapack.Dlarfg.dlarfg(m, alpha, a, offseta + Math.min(1, m - 1), 1, tau);
+      a[offseta] = alpha.val;
+      t[offsett] = tau.val;
+      return;
+    }
+    int n1 = n / 2;
+    int n2 = n - n1;
+    int offseta12 = offseta + n1 * lda;
+    int offsett12 = offsett + n1 * ldt;
+
+    dgeqrt3(m, n1, a, offseta, lda, t, offsett, ldt);
+
+    // A(:, n1:n) = Q1**T * A(:, n1:n), with T12 as workspace
+    for (int j = 0; j < n2; j++) {
+      System.arraycopy(a, offseta12 + j * lda, t, offsett12 + j * ldt, n1);
+    }
+    org.netlib.blas.Dtrmm.dtrmm("L", "L", "T", "U", n1, n2, 1.0, a, offseta, lda, t, offsett12, ldt);
+    org.netlib.blas.Dgemm.dgemm("T", "N", n1, n2, m - n1, 1.0, a, offseta + n1, lda, a, offseta12 + n1, lda, 1.0, t, offsett12, ldt);
+    org.netlib.blas.Dtrmm.dtrmm("L", "U", "T", "N", n1, n2, 1.0, t, offsett, ldt, t, offsett12, ldt);
+    org.netlib.blas.Dgemm.dgemm("N", "N", m - n1, n2, n1, -1.0, a, offseta + n1, lda, t, offsett12, ldt, 1.0, a, offseta12 + n1, lda);
+    org.netlib.blas.Dtrmm.dtrmm("L", "L", "N", "U", n1, n2, 1.0, a, offseta, lda, t, offsett12, ldt);
+    for (int j = 0; j < n2; j++) {
+      for (int i = 0; i < n1; i++) {
+        a[offseta12 + i + j * lda] -= t[offsett12 + i + j * ldt];
+      }
+    }
+
+    dgeqrt3(m - n1, n2, a, offseta12 + n1, lda, t, offsett12 + n1, ldt);
+
+    // T12 = -T11 * V1**T * V2 * T22
+    for (int j = 0; j < n2; j++) {
+      for (int i = 0; i < n1; i++) {
+        t[offsett12 + i + j * ldt] = a[offseta + n1 + j + i * lda];
+      }
+    }
+    org.netlib.blas.Dtrmm.dtrmm("R", "L", "N", "U", n1, n2, 1.0, a, offseta12 + n1, lda, t, offsett12, ldt);
+    org.netlib.blas.Dgemm.dgemm("T", "N", n1, n2, m - n, 1.0, a, offseta + n, lda, a, offseta12 + n, lda, 1.0, t, offsett12, ldt);
+    org.netlib.blas.Dtrmm.dtrmm("L", "U", "N", "N", n1, n2, -1.0, t, offsett, ldt, t, offsett12, ldt);
+    org.netlib.blas.Dtrmm.dtrmm("R", "U", "N", "N", n1, n2, 1.0, t, offsett12 + n1, ldt, t, offsett12, ldt);
+  }
+
+  // Applies H or H**T, for the block reflector H = I - V * T * V**T of k forward columnwise reflectors, to
+  // the m x n matrix C from the given side, split across threads by columns of C when applied from the
+  // left, by rows from the right
+  private void dlarfb(String side, String trans, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int ldc) {
+    dlarfb(side, trans, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, ldc, new double[Math.max(1, (Lsame.lsame(side, "L") ? n : m) * k)], 0);
+  }
+
+  // As above, in the given workspace of at least n * k elements from the left, m * k from the right, of which
+  // each thread takes the part for its columns (or rows) of C
+  private void dlarfb(String side, String trans, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int ldc, double[] work, int offsetwork) {
+    boolean left = Lsame.lsame(side, "L");
+    int size = left ? n : m;
+    int blocks = Parallel.blocks(size, MIN_COLUMNS, 4L * m * n * k);
+    Parallel.forEach(blocks, b -> {
+      int s = size * b / blocks;
+      int ns = size * (b + 1) / blocks - s;
+      if (left) {
+        org.netlib.lapack.Dlarfb.dlarfb(side, trans, "F", "C", m, ns, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc + s * ldc, ldc, work, offsetwork + s * k, Math.max(1, ns));
+      } else {
+        org.netlib.lapack.Dlarfb.dlarfb(side, trans, "F", "C", ns, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc + s, ldc, work, offsetwork + s * k, Math.max(1, ns));
+      }
+    });
+  }
+
+  protected void dormqrK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int ldc, double[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean left = Lsame.lsame(side, "L");
+    boolean notran = Lsame.lsame(trans, "N");
+    boolean lquery = lwork == -1;
+    int nq = left ? m : n;
+    int nw = left ? n : m;
+    if (!left && !Lsame.lsame(side, "R")) {
+      info.val = -1;
+    } else if (!notran && !Lsame.lsame(trans, "T")) {
+      info.val = -2;
+    } else if (m < 0) {
+      info.val = -3;
+    } else if (n < 0) {
+      info.val = -4;
+    } else if (k < 0 || k > nq) {
+      info.val = -5;
+    } else if (lda < Math.max(1, nq)) {
+      info.val = -7;
+    } else if (ldc < Math.max(1, m)) {
+      info.val = -10;
+    } else if (lwork < Math.max(1, nw) && !lquery) {
+      info.val = -12;
+    }
+    // With fewer columns (or rows) to update than a block, forming the triangular factor costs about as much
+    // as applying the reflectors one at a time, which only takes the minimal workspace. Otherwise the optimal
+    // one holds the triangular factor followed by the workspace of dlarfb.
+    boolean unblocked = nw < BLOCK;
+    int lwkopt = unblocked ? Math.max(1, nw) : BLOCK * BLOCK + nw * BLOCK;
+    if (info.val == 0) {
+      work[offsetwork] = lwkopt;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DORMQR", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (m == 0 || n == 0 || k == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    if (unblocked) {
+      org.netlib.lapack.Dorm2r.dorm2r(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, ldc, work, offsetwork, info);
+      work[offsetwork] = lwkopt;
+      return;
+    }
+    // A workspace smaller than the optimal one is made up for here, rather than by falling back to dorm2r
+    double[] w = work;
+    int offsetw = offsetwork;
+    if (lwork < lwkopt) {
+      w = new double[lwkopt];
+      offsetw = 0;
+    }
+    // Q = H(1) H(2) ... H(k), so Q**T * C and C * Q apply the blocks from the first, the others from the last
+    boolean forward = left != notran;
+    for (int b = 0, blocks = (k + BLOCK - 1) / BLOCK; b < blocks; b++) {
+      int i = (forward ? b : blocks - 1 - b) * BLOCK;
+      int ib = Math.min(BLOCK, k - i);
+      int offsetii = offseta + i + i * lda;
+      org.netlib.lapack.Dlarft.dlarft("F", "C", nq - i, ib, a, offsetii, lda, tau, offsettau + i, w, offsetw, BLOCK);
+      if (left) {
+        dlarfb(side, trans, m - i, n, ib, a, offsetii, lda, w, offsetw, BLOCK, c, offsetc + i, ldc, w, offsetw + BLOCK * BLOCK);
+      } else {
+        dlarfb(side, trans, m, n - i, ib, a, offsetii, lda, w, offsetw, BLOCK, c, offsetc + i * ldc, ldc, w, offsetw + BLOCK * BLOCK);
+      }
+    }
+    work[offsetwork] = lwkopt;
+  }
+
+  protected void dorgqrK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean lquery = lwork == -1;
+    work[offsetwork] = Math.max(1, n);
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0 || n > m) {
+      info.val = -2;
+    } else if (k < 0 || k > n) {
+      info.val = -3;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -5;
+    } else if (lwork < Math.max(1, n) && !lquery) {
+      info.val = -8;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DORGQR", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (n == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    double[] w = new double[n];
+    intW iinfo = new intW(0);
+    // Columns k to n start as those of the identity, and the blocks of reflectors are applied from the last
+    int last = k == 0 ? 0 : (k - 1) / BLOCK * BLOCK;
+    for (int j = k; j < n; j++) {
+      for (int i = 0; i < k; i++) {
+        a[offseta + i + j * lda] = 0.0;
+      }
+    }
+    if (k < n) {
+      org.netlib.lapack.Dorg2r.dorg2r(m - k, n - k, 0, a, offseta + k + k * lda, lda, tau, offsettau + k, w, 0, iinfo);
+    }
+    double[] t = new double[BLOCK * BLOCK];
+    for (int i = last; k > 0 && i >= 0; i -= BLOCK) {
+      int ib = Math.min(BLOCK, k - i);
+      int offsetii = offseta + i + i * lda;
+      if (i + ib < n) {
+        org.netlib.lapack.Dlarft.dlarft("F", "C", m - i, ib, a, offsetii, lda, tau, offsettau + i, t, 0, BLOCK);
+        dlarfb("L", "N", m - i, n - i - ib, ib, a, offsetii, lda, t, 0, BLOCK, a, offsetii + ib * lda, lda);
+      }
+      org.netlib.lapack.Dorg2r.dorg2r(m - i, ib, ib, a, offsetii, lda, tau, offsettau + i, w, 0, iinfo);
+      for (int j = i; j < i + ib; j++) {
+        for (int r = 0; r < i; r++) {
+          a[offseta + r + j * lda] = 0.0;
+        }
+      }
+    }
+  }
+
+  protected void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, intW info) {
+    info.val = 0;
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -4;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SGETRF", -info.val);
+      return;
+    }
+    if (m == 0 || n == 0) {
+      return;
+    }
+    sgetrf2(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  private void sgetrf2(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, intW info) {
+    int mn = Math.min(m, n);
+    if (mn <= RECURSION_CUTOFF) {
+      intW iinfo = new intW(0);
+      org.netlib.lapack.Sgetf2.sgetf2(m, n, a, offseta, lda, ipiv, offsetipiv, iinfo);
+      if (info.val == 0 && iinfo.val > 0) {
+        info.val = iinfo.val;
+      }
+      return;
+    }
+    int n1 = mn / 2;
+    int n2 = n - n1;
+
+    sgetrf2(m, n1, a, offseta, lda, ipiv, offsetipiv, info);
+
+    // [A12; A22] = P * [A12; A22], A12 = inv(L11) * A12, A22 = A22 - A21 * A12
+    int blocks = Parallel.blocks(n2, MIN_COLUMNS, 2L * (m - n1) * n1 * n2);
+    Parallel.forEach(blocks, b -> {
+      int j = n2 * b / blocks;
+      int nb = n2 * (b + 1) / blocks - j;
+      int offsetb = offseta + (n1 + j) * lda;
+      org.netlib.lapack.Slaswp.slaswp(nb, a, offsetb, lda, 1, n1, ipiv, offsetipiv, 1);
+      org.netlib.blas.Strsm.strsm("L", "L", "N", "U", n1, nb, 1.0f, a, offseta, lda, a, offsetb, lda);
+      org.netlib.blas.Sgemm.sgemm("N", "N", m - n1, nb, n1, -1.0f, a, offseta + n1, lda, a, offsetb, lda, 1.0f, a, offsetb + n1, lda);
+    });
+
+    intW iinfo = new intW(0);
+    sgetrf2(m - n1, n2, a, offseta + n1 + n1 * lda, lda, ipiv, offsetipiv + n1, iinfo);
+    if (info.val == 0 && iinfo.val > 0) {
+      info.val = iinfo.val + n1;
+    }
+    for (int i = n1; i < mn; i++) {
+      ipiv[offsetipiv + i] += n1;
+    }
+    org.netlib.lapack.Slaswp.slaswp(n1, a, offseta, lda, n1 + 1, mn, ipiv, offsetipiv, 1);
+  }
+
+  protected void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, intW info) {
+    info.val = 0;
+    if (n < 0) {
+      info.val = -1;
+    } else if (nrhs < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    } else if (ldb < Math.max(1, n)) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SGESV ", -info.val);
+      return;
+    }
+    sgetrfK(n, n, a, offseta, lda, ipiv, offsetipiv, info);
+    if (info.val == 0) {
+      sgetrsK("N", n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  // Blocked QR: a recursive QR of each panel, which also forms the triangular factor of its block reflector,
+  // and a compact WY update of the trailing matrix split across threads by columns
+  protected void sgeqrfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean lquery = lwork == -1;
+    // The workspace is allocated as needed, so the minimal size is as good as any
+    work[offsetwork] = Math.max(1, n);
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -4;
+    } else if (lwork < Math.max(1, n) && !lquery) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SGEQRF", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    int k = Math.min(m, n);
+    if (k == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    float[] t = new float[BLOCK * BLOCK];
+    for (int j = 0; j < k; j += BLOCK) {
+      int jb = Math.min(BLOCK, k - j);
+      int offsetjj = offseta + j + j * lda;
+      sgeqrt3(m - j, jb, a, offsetjj, lda, t, 0, BLOCK);
+      for (int i = 0; i < jb; i++) {
+        tau[offsettau + j + i] = t[i + i * BLOCK];
+      }
+      if (j + jb < n) {
+        slarfb("L", "T", m - j, n - j - jb, jb, a, offsetjj, lda, t, 0, BLOCK, a, offsetjj + jb * lda, lda);
+      }
+    }
+  }
+
+  // Recursive QR of the m x n panel, with m >= n, as in LAPACK's sgeqrt3: factor the left half, apply it
+  // to the right half, factor the bottom of the right half, and combine the triangular factors of both
+  // halves into the n x n triangular factor T, which has the tau of each reflector on its diagonal
+  private void sgeqrt3(int m, int n, float[] a, int offseta, int lda, float[] t, int offsett, int ldt) {
+    if (n == 1) {
+      floatW alpha = new floatW(a[offseta]);
+      floatW tau = new floatW(0.0f);
+      org.netlib.lapack.Slarfg.slarfg(m, alpha, a, offseta + Math.min(1, m - 1), 1, tau);
+      a[offseta] = alpha.val;
+      t[offsett] = tau.val;
+      return;
+    }
+    int n1 = n / 2;
+    int n2 = n - n1;
+    int offseta12 = offseta + n1 * lda;
+    int offsett12 = offsett + n1 * ldt;
+
+    sgeqrt3(m, n1, a, offseta, lda, t, offsett, ldt);
+
+    // A(:, n1:n) = Q1**T * A(:, n1:n), with T12 as workspace
+    for (int j = 0; j < n2; j++) {
+      System.arraycopy(a, offseta12 + j * lda, t, offsett12 + j * ldt, n1);
+    }
+    org.netlib.blas.Strmm.strmm("L", "L", "T", "U", n1, n2, 1.0f, a, offseta, lda, t, offsett12, ldt);
+    org.netlib.blas.Sgemm.sgemm("T", "N", n1, n2, m - n1, 1.0f, a, offseta + n1, lda, a, offseta12 + n1, lda, 1.0f, t, offsett12, ldt);
+    org.netlib.blas.Strmm.strmm("L", "U", "T", "N", n1, n2, 1.0f, t, offsett, ldt, t, offsett12, ldt);
+    org.netlib.blas.Sgemm.sgemm("N", "N", m - n1, n2, n1, -1.0f, a, offseta + n1, lda, t, offsett12, ldt, 1.0f, a, offseta12 + n1, lda);
+    org.netlib.blas.Strmm.strmm("L", "L", "N", "U", n1, n2, 1.0f, a, offseta, lda, t, offsett12, ldt);
+    for (int j = 0; j < n2; j++) {
+      for (int i = 0; i < n1; i++) {
+        a[offseta12 + i + j * lda] -= t[offsett12 + i + j * ldt];
+      }
+    }
+
+    sgeqrt3(m - n1, n2, a, offseta12 + n1, lda, t, offsett12 + n1, ldt);
+
+    // T12 = -T11 * V1**T * V2 * T22
+    for (int j = 0; j < n2; j++) {
+      for (int i = 0; i < n1; i++) {
+        t[offsett12 + i + j * ldt] = a[offseta + n1 + j + i * lda];
+      }
+    }
+    org.netlib.blas.Strmm.strmm("R", "L", "N", "U", n1, n2, 1.0f, a, offseta12 + n1, lda, t, offsett12, ldt);
+    org.netlib.blas.Sgemm.sgemm("T", "N", n1, n2, m - n, 1.0f, a, offseta + n, lda, a, offseta12 + n, lda, 1.0f, t, offsett12, ldt);
+    org.netlib.blas.Strmm.strmm("L", "U", "N", "N", n1, n2, -1.0f, t, offsett, ldt, t, offsett12, ldt);
+    org.netlib.blas.Strmm.strmm("R", "U", "N", "N", n1, n2, 1.0f, t, offsett12 + n1, ldt, t, offsett12, ldt);
+  }
+
+  // Applies H or H**T, for the block reflector H = I - V * T * V**T of k forward columnwise reflectors, to
+  // the m x n matrix C from the given side, split across threads by columns of C when applied from the
+  // left, by rows from the right
+  private void slarfb(String side, String trans, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int ldc) {
+    slarfb(side, trans, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, ldc, new float[Math.max(1, (Lsame.lsame(side, "L") ? n : m) * k)], 0);
+  }
+
+  // As above, in the given workspace of at least n * k elements from the left, m * k from the right, of which
+  // each thread takes the part for its columns (or rows) of C
+  private void slarfb(String side, String trans, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int ldc, float[] work, int offsetwork) {
+    boolean left = Lsame.lsame(side, "L");
+    int size = left ? n : m;
+    int blocks = Parallel.blocks(size, MIN_COLUMNS, 4L * m * n * k);
+    Parallel.forEach(blocks, b -> {
+      int s = size * b / blocks;
+      int ns = size * (b + 1) / blocks - s;
+      if (left) {
+        org.netlib.lapack.Slarfb.slarfb(side, trans, "F", "C", m, ns, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc + s * ldc, ldc, work, offsetwork + s * k, Math.max(1, ns));
+      } else {
+        org.netlib.lapack.Slarfb.slarfb(side, trans, "F", "C", ns, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc + s, ldc, work, offsetwork + s * k, Math.max(1, ns));
+      }
+    });
+  }
+
+  protected void sormqrK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int ldc, float[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean left = Lsame.lsame(side, "L");
+    boolean notran = Lsame.lsame(trans, "N");
+    boolean lquery = lwork == -1;
+    int nq = left ? m : n;
+    int nw = left ? n : m;
+    if (!left && !Lsame.lsame(side, "R")) {
+      info.val = -1;
+    } else if (!notran && !Lsame.lsame(trans, "T")) {
+      info.val = -2;
+    } else if (m < 0) {
+      info.val = -3;
+    } else if (n < 0) {
+      info.val = -4;
+    } else if (k < 0 || k > nq) {
+      info.val = -5;
+    } else if (lda < Math.max(1, nq)) {
+      info.val = -7;
+    } else if (ldc < Math.max(1, m)) {
+      info.val = -10;
+    } else if (lwork < Math.max(1, nw) && !lquery) {
+      info.val = -12;
+    }
+    // With fewer columns (or rows) to update than a block, forming the triangular factor costs about as much
+    // as applying the reflectors one at a time, which only takes the minimal workspace. Otherwise the optimal
+    // one holds the triangular factor followed by the workspace of slarfb.
+    boolean unblocked = nw < BLOCK;
+    int lwkopt = unblocked ? Math.max(1, nw) : BLOCK * BLOCK + nw * BLOCK;
+    if (info.val == 0) {
+      work[offsetwork] = lwkopt;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SORMQR", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (m == 0 || n == 0 || k == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    if (unblocked) {
+      org.netlib.lapack.Sorm2r.sorm2r(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, ldc, work, offsetwork, info);
+      work[offsetwork] = lwkopt;
+      return;
+    }
+    // A workspace smaller than the optimal one is made up for here, rather than by falling back to sorm2r
+    float[] w = work;
+    int offsetw = offsetwork;
+    if (lwork < lwkopt) {
+      w = new float[lwkopt];
+      offsetw = 0;
+    }
+    // Q = H(1) H(2) ... H(k), so Q**T * C and C * Q apply the blocks from the first, the others from the last
+    boolean forward = left != notran;
+    for (int b = 0, blocks = (k + BLOCK - 1) / BLOCK; b < blocks; b++) {
+      int i = (forward ? b : blocks - 1 - b) * BLOCK;
+      int ib = Math.min(BLOCK, k - i);
+      int offsetii = offseta + i + i * lda;
+      org.netlib.lapack.Slarft.slarft("F", "C", nq - i, ib, a, offsetii, lda, tau, offsettau + i, w, offsetw, BLOCK);
+      if (left) {
+        slarfb(side, trans, m - i, n, ib, a, offsetii, lda, w, offsetw, BLOCK, c, offsetc + i, ldc, w, offsetw + BLOCK * BLOCK);
+      } else {
+        slarfb(side, trans, m, n - i, ib, a, offsetii, lda, w, offsetw, BLOCK, c, offsetc + i * ldc, ldc, w, offsetw + BLOCK * BLOCK);
+      }
+    }
+    work[offsetwork] = lwkopt;
+  }
+
+  protected void sorgqrK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean lquery = lwork == -1;
+    work[offsetwork] = Math.max(1, n);
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0 || n > m) {
+      info.val = -2;
+    } else if (k < 0 || k > n) {
+      info.val = -3;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -5;
+    } else if (lwork < Math.max(1, n) && !lquery) {
+      info.val = -8;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SORGQR", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (n == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    float[] w = new float[n];
+    intW iinfo = new intW(0);
+    // Columns k to n start as those of the identity, and the blocks of reflectors are applied from the last
+    int last = k == 0 ? 0 : (k - 1) / BLOCK * BLOCK;
+    for (int j = k; j < n; j++) {
+      for (int i = 0; i < k; i++) {
+        a[offseta + i + j * lda] = 0.0f;
+      }
+    }
+    if (k < n) {
+      org.netlib.lapack.Sorg2r.sorg2r(m - k, n - k, 0, a, offseta + k + k * lda, lda, tau, offsettau + k, w, 0, iinfo);
+    }
+    float[] t = new float[BLOCK * BLOCK];
+    for (int i = last; k > 0 && i >= 0; i -= BLOCK) {
+      int ib = Math.min(BLOCK, k - i);
+      int offsetii = offseta + i + i * lda;
+      if (i + ib < n) {
+        org.netlib.lapack.Slarft.slarft("F", "C", m - i, ib, a, offsetii, lda, tau, offsettau + i, t, 0, BLOCK);
+        slarfb("L", "N", m - i, n - i - ib, ib, a, offsetii, lda, t, 0, BLOCK, a, offsetii + ib * lda, lda);
+      }
+      org.netlib.lapack.Sorg2r.sorg2r(m - i, ib, ib, a, offsetii, lda, tau, offsettau + i, w, 0, iinfo);
+      for (int j = i; j < i + ib; j++) {
+        for (int r = 0; r < i; r++) {
+          a[offseta + r + j * lda] = 0.0f;
+        }
+      }
+    }
+  }
+
+  // Right-looking blocked Cholesky: factor the diagonal block, solve for the blocks below it (or to its
+  // right), and update the trailing matrix, with the solve and the update split across threads
+  protected void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DPOTRF", -info.val);
+      return;
+    }
+    if (TileAlgorithms.use(n, n)) {
+      TileAlgorithms.dpotrf(upper, n, a, offseta, lda, TileAlgorithms.SIZE, Parallel.pool(), info);
+      return;
+    }
+    for (int j = 0; j < n; j += BLOCK) {
+      int jb = Math.min(BLOCK, n - j);
+      int offsetjj = offseta + j + j * lda;
+      org.netlib.lapack.Dpotf2.dpotf2(uplo, jb, a, offsetjj, lda, info);
+      if (info.val != 0) {
+        info.val += j;
+        return;
+      }
+      int rest = n - j - jb;
+      if (rest == 0) {
+        break;
+      }
+      if (upper) {
+        // A12 = inv(U11**T) * A12, split by columns
+        int blocks = Parallel.blocks(rest, MIN_COLUMNS, (long) jb * jb * rest);
+        Parallel.forEach(blocks, b -> {
+          int c = rest * b / blocks;
+          int nc = rest * (b + 1) / blocks - c;
+          org.netlib.blas.Dtrsm.dtrsm("L", "U", "T", "N", jb, nc, 1.0, a, offsetjj, lda, a, offsetjj + (jb + c) * lda, lda);
+        });
+      } else {
+        // A21 = A21 * inv(L11**T), split by rows
+        int blocks = Parallel.blocks(rest, MIN_COLUMNS, (long) jb * jb * rest);
+        Parallel.forEach(blocks, b -> {
+          int r = rest * b / blocks;
+          int nr = rest * (b + 1) / blocks - r;
+          org.netlib.blas.Dtrsm.dtrsm("R", "L", "T", "N", nr, jb, 1.0, a, offsetjj, lda, a, offsetjj + jb + r, lda);
+        });
+      }
+      dsyrkUpdate(upper, rest, jb, a, upper ? offsetjj + jb * lda : offsetjj + jb, offsetjj + jb + jb * lda, lda);
+    }
+  }
+
+  // C = C - A**T * A if upper, or C = C - A * A**T otherwise, for the n x n matrix C and the k x n (or
+  // n x k) matrix A. The columns of C are split in more blocks than threads as the blocks don't hold as
+  // much work depending on how far they are along the diagonal.
+  private void dsyrkUpdate(boolean upper, int n, int k, double[] a, int offseta, int offsetc, int lda) {
+    int blocks = Parallel.blocks(n, MIN_COLUMNS, (long) k * n * n);
+    int tasks = blocks == 1 ? 1 : Math.min(4 * blocks, n / MIN_COLUMNS);
+    Parallel.forEach(tasks, b -> {
+      int c = n * b / tasks;
+      int nc = n * (b + 1) / tasks - c;
+      if (upper) {
+        org.netlib.blas.Dgemm.dgemm("T", "N", c, nc, k, -1.0, a, offseta, lda, a, offseta + c * lda, lda, 1.0, a, offsetc + c * lda, lda);
+        org.netlib.blas.Dsyrk.dsyrk("U", "T", nc, k, -1.0, a, offseta + c * lda, lda, 1.0, a, offsetc + c + c * lda, lda);
+      } else {
+        org.netlib.blas.Dsyrk.dsyrk("L", "N", nc, k, -1.0, a, offseta + c, lda, 1.0, a, offsetc + c + c * lda, lda);
+        org.netlib.blas.Dgemm.dgemm("N", "T", n - c - nc, nc, k, -1.0, a, offseta + c + nc, lda, a, offseta + c, lda, 1.0, a, offsetc + c + nc + c * lda, lda);
+      }
+    });
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (nrhs < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -5;
+    } else if (ldb < Math.max(1, n)) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DPOTRS", -info.val);
+      return;
+    }
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    // The right-hand sides are independent, so they are split across threads
+    int blocks = Parallel.blocks(nrhs, 1, 2L * n * n * nrhs);
+    Parallel.forEach(blocks, k -> {
+      int c = nrhs * k / blocks;
+      int nc = nrhs * (k + 1) / blocks - c;
+      if (upper) {
+        org.netlib.blas.Dtrsm.dtrsm("L", "U", "T", "N", n, nc, 1.0, a, offseta, lda, b, offsetb + c * ldb, ldb);
+        org.netlib.blas.Dtrsm.dtrsm("L", "U", "N", "N", n, nc, 1.0, a, offseta, lda, b, offsetb + c * ldb, ldb);
+      } else {
+        org.netlib.blas.Dtrsm.dtrsm("L", "L", "N", "N", n, nc, 1.0, a, offseta, lda, b, offsetb + c * ldb, ldb);
+        org.netlib.blas.Dtrsm.dtrsm("L", "L", "T", "N", n, nc, 1.0, a, offseta, lda, b, offsetb + c * ldb, ldb);
+      }
+    });
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, intW info) {
+    info.val = 0;
+    if (!Lsame.lsame(uplo, "U") && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (nrhs < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -5;
+    } else if (ldb < Math.max(1, n)) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DPOSV ", -info.val);
+      return;
+    }
+    dpotrfK(uplo, n, a, offseta, lda, info);
+    if (info.val == 0) {
+      dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dpotriK(String uplo, int n, double[] a, int offseta, int lda, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DPOTRI", -info.val);
+      return;
+    }
+    if (n == 0) {
+      return;
+    }
+    org.netlib.lapack.Dtrtri.dtrtri(uplo, "N", n, a, offseta, lda, info);
+    if (info.val > 0) {
+      return;
+    }
+    dlauum(upper, n, a, offseta, lda);
+  }
+
+  // U * U**T or L**T * L in place, as in LAPACK's blocked dlauum, with the updates of the blocks above
+  // (or left of) the diagonal split across threads
+  private void dlauum(boolean upper, int n, double[] a, int offseta, int lda) {
+    intW info = new intW(0);
+    for (int i0 = 0; i0 < n; i0 += BLOCK) {
+      int i = i0;
+      int ib = Math.min(BLOCK, n - i);
+      int offsetii = offseta + i + i * lda;
+      int rest = n - i - ib;
+      int blocks = Parallel.blocks(i, MIN_COLUMNS, (long) i * ib * (ib + 2 * rest));
+      if (upper) {
+        Parallel.forEach(blocks, b -> {
+          int r = i * b / blocks;
+          int nr = i * (b + 1) / blocks - r;
+          org.netlib.blas.Dtrmm.dtrmm("R", "U", "T", "N", nr, ib, 1.0, a, offsetii, lda, a, offseta + r + i * lda, lda);
+          if (rest > 0) {
+            org.netlib.blas.Dgemm.dgemm("N", "T", nr, ib, rest, 1.0, a, offseta + r + (i + ib) * lda, lda, a, offsetii + ib * lda, lda, 1.0, a, offseta + r + i * lda, lda);
+          }
+        });
+        org.netlib.lapack.Dlauu2.dlauu2("U", ib, a, offsetii, lda, info);
+        if (rest > 0) {
+          org.netlib.blas.Dsyrk.dsyrk("U", "N", ib, rest, 1.0, a, offsetii + ib * lda, lda, 1.0, a, offsetii, lda);
+        }
+      } else {
+        Parallel.forEach(blocks, b -> {
+          int c = i * b / blocks;
+          int nc = i * (b + 1) / blocks - c;
+          org.netlib.blas.Dtrmm.dtrmm("L", "L", "T", "N", ib, nc, 1.0, a, offsetii, lda, a, offseta + i + c * lda, lda);
+          if (rest > 0) {
+            org.netlib.blas.Dgemm.dgemm("T", "N", ib, nc, rest, 1.0, a, offsetii + ib, lda, a, offseta + i + ib + c * lda, lda, 1.0, a, offseta + i + c * lda, lda);
+          }
+        });
+        org.netlib.lapack.Dlauu2.dlauu2("L", ib, a, offsetii, lda, info);
+        if (rest > 0) {
+          org.netlib.blas.Dsyrk.dsyrk("L", "T", ib, rest, 1.0, a, offsetii + ib, lda, 1.0, a, offsetii, lda);
+        }
+      }
+    }
+  }
+
+  protected void spotrfK(String uplo, int n, float[] a, int offseta, int lda, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SPOTRF", -info.val);
+      return;
+    }
+    for (int j = 0; j < n; j += BLOCK) {
+      int jb = Math.min(BLOCK, n - j);
+      int offsetjj = offseta + j + j * lda;
+      org.netlib.lapack.Spotf2.spotf2(uplo, jb, a, offsetjj, lda, info);
+      if (info.val != 0) {
+        info.val += j;
+        return;
+      }
+      int rest = n - j - jb;
+      if (rest == 0) {
+        break;
+      }
+      if (upper) {
+        // A12 = inv(U11**T) * A12, split by columns
+        int blocks = Parallel.blocks(rest, MIN_COLUMNS, (long) jb * jb * rest);
+        Parallel.forEach(blocks, b -> {
+          int c = rest * b / blocks;
+          int nc = rest * (b + 1) / blocks - c;
+          org.netlib.blas.Strsm.strsm("L", "U", "T", "N", jb, nc, 1.0f, a, offsetjj, lda, a, offsetjj + (jb + c) * lda, lda);
+        });
+      } else {
+        // A21 = A21 * inv(L11**T), split by rows
+        int blocks = Parallel.blocks(rest, MIN_COLUMNS, (long) jb * jb * rest);
+        Parallel.forEach(blocks, b -> {
+          int r = rest * b / blocks;
+          int nr = rest * (b + 1) / blocks - r;
+          org.netlib.blas.Strsm.strsm("R", "L", "T", "N", nr, jb, 1.0f, a, offsetjj, lda, a, offsetjj + jb + r, lda);
+        });
+      }
+      ssyrkUpdate(upper, rest, jb, a, upper ? offsetjj + jb * lda : offsetjj + jb, offsetjj + jb + jb * lda, lda);
+    }
+  }
+
+  private void ssyrkUpdate(boolean upper, int n, int k, float[] a, int offseta, int offsetc, int lda) {
+    int blocks = Parallel.blocks(n, MIN_COLUMNS, (long) k * n * n);
+    int tasks = blocks == 1 ? 1 : Math.min(4 * blocks, n / MIN_COLUMNS);
+    Parallel.forEach(tasks, b -> {
+      int c = n * b / tasks;
+      int nc = n * (b + 1) / tasks - c;
+      if (upper) {
+        org.netlib.blas.Sgemm.sgemm("T", "N", c, nc, k, -1.0f, a, offseta, lda, a, offseta + c * lda, lda, 1.0f, a, offsetc + c * lda, lda);
+        org.netlib.blas.Ssyrk.ssyrk("U", "T", nc, k, -1.0f, a, offseta + c * lda, lda, 1.0f, a, offsetc + c + c * lda, lda);
+      } else {
+        org.netlib.blas.Ssyrk.ssyrk("L", "N", nc, k, -1.0f, a, offseta + c, lda, 1.0f, a, offsetc + c + c * lda, lda);
+        org.netlib.blas.Sgemm.sgemm("N", "T", n - c - nc, nc, k, -1.0f, a, offseta + c + nc, lda, a, offseta + c, lda, 1.0f, a, offsetc + c + nc + c * lda, lda);
+      }
+    });
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (nrhs < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -5;
+    } else if (ldb < Math.max(1, n)) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SPOTRS", -info.val);
+      return;
+    }
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    int blocks = Parallel.blocks(nrhs, 1, 2L * n * n * nrhs);
+    Parallel.forEach(blocks, k -> {
+      int c = nrhs * k / blocks;
+      int nc = nrhs * (k + 1) / blocks - c;
+      if (upper) {
+        org.netlib.blas.Strsm.strsm("L", "U", "T", "N", n, nc, 1.0f, a, offseta, lda, b, offsetb + c * ldb, ldb);
+        org.netlib.blas.Strsm.strsm("L", "U", "N", "N", n, nc, 1.0f, a, offseta, lda, b, offsetb + c * ldb, ldb);
+      } else {
+        org.netlib.blas.Strsm.strsm("L", "L", "N", "N", n, nc, 1.0f, a, offseta, lda, b, offsetb + c * ldb, ldb);
+        org.netlib.blas.Strsm.strsm("L", "L", "T", "N", n, nc, 1.0f, a, offseta, lda, b, offsetb + c * ldb, ldb);
+      }
+    });
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, intW info) {
+    info.val = 0;
+    if (!Lsame.lsame(uplo, "U") && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (nrhs < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -5;
+    } else if (ldb < Math.max(1, n)) {
+      info.val = -7;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SPOSV ", -info.val);
+      return;
+    }
+    spotrfK(uplo, n, a, offseta, lda, info);
+    if (info.val == 0) {
+      spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void spotriK(String uplo, int n, float[] a, int offseta, int lda, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SPOTRI", -info.val);
+      return;
+    }
+    if (n == 0) {
+      return;
+    }
+    org.netlib.lapack.Strtri.strtri(uplo, "N", n, a, offseta, lda, info);
+    if (info.val > 0) {
+      return;
+    }
+    slauum(upper, n, a, offseta, lda);
+  }
+
+  private void slauum(boolean upper, int n, float[] a, int offseta, int lda) {
+    intW info = new intW(0);
+    for (int i0 = 0; i0 < n; i0 += BLOCK) {
+      int i = i0;
+      int ib = Math.min(BLOCK, n - i);
+      int offsetii = offseta + i + i * lda;
+      int rest = n - i - ib;
+      int blocks = Parallel.blocks(i, MIN_COLUMNS, (long) i * ib * (ib + 2 * rest));
+      if (upper) {
+        Parallel.forEach(blocks, b -> {
+          int r = i * b / blocks;
+          int nr = i * (b + 1) / blocks - r;
+          org.netlib.blas.Strmm.strmm("R", "U", "T", "N", nr, ib, 1.0f, a, offsetii, lda, a, offseta + r + i * lda, lda);
+          if (rest > 0) {
+            org.netlib.blas.Sgemm.sgemm("N", "T", nr, ib, rest, 1.0f, a, offseta + r + (i + ib) * lda, lda, a, offsetii + ib * lda, lda, 1.0f, a, offseta + r + i * lda, lda);
+          }
+        });
+        org.netlib.lapack.Slauu2.slauu2("U", ib, a, offsetii, lda, info);
+        if (rest > 0) {
+          org.netlib.blas.Ssyrk.ssyrk("U", "N", ib, rest, 1.0f, a, offsetii + ib * lda, lda, 1.0f, a, offsetii, lda);
+        }
+      } else {
+        Parallel.forEach(blocks, b -> {
+          int c = i * b / blocks;
+          int nc = i * (b + 1) / blocks - c;
+          org.netlib.blas.Strmm.strmm("L", "L", "T", "N", ib, nc, 1.0f, a, offsetii, lda, a, offseta + i + c * lda, lda);
+          if (rest > 0) {
+            org.netlib.blas.Sgemm.sgemm("T", "N", ib, nc, rest, 1.0f, a, offsetii + ib, lda, a, offseta + i + ib + c * lda, lda, 1.0f, a, offseta + i + c * lda, lda);
+          }
+        });
+        org.netlib.lapack.Slauu2.slauu2("L", ib, a, offsetii, lda, info);
+        if (rest > 0) {
+          org.netlib.blas.Ssyrk.ssyrk("L", "T", ib, rest, 1.0f, a, offsetii + ib, lda, 1.0f, a, offsetii, lda);
+        }
+      }
+    }
+  }
+
+  // Divide and conquer symmetric eigensolver, as in LAPACK's dsyevd: a blocked reduction to tridiagonal
+  // form, the divide and conquer below on the tridiagonal matrix, and the back-transformation of its
+  // eigenvectors by the orthogonal matrix of the reduction
+  protected void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, intW info) {
+    info.val = 0;
+    boolean wantz = Lsame.lsame(jobz, "V");
+    boolean lower = Lsame.lsame(uplo, "L");
+    boolean lquery = lwork == -1 || liwork == -1;
+    int lwmin = n <= 1 ? 1 : wantz ? 1 + 6 * n + 2 * n * n : 2 * n + 1;
+    int liwmin = n <= 1 || !wantz ? 1 : 3 + 5 * n;
+    if (!wantz && !Lsame.lsame(jobz, "N")) {
+      info.val = -1;
+    } else if (!lower && !Lsame.lsame(uplo, "U")) {
+      info.val = -2;
+    } else if (n < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -5;
+    } else if (lwork < lwmin && !lquery) {
+      info.val = -8;
+    } else if (liwork < liwmin && !lquery) {
+      info.val = -10;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = lwmin;
+      iwork[offsetiwork] = liwmin;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DSYEVD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (n == 0) {
+      return;
+    }
+    if (n == 1) {
+      w[offsetw] = a[offseta];
+      if (wantz) {
+        a[offseta] = 1.0;
+      }
+      return;
+    }
+    // Scale the matrix to the allowable range, if necessary
+    double safmin = org.netlib.lapack.Dlamch.dlamch("Safe minimum");
+    double eps = org.netlib.lapack.Dlamch.dlamch("Precision");
+    double smlnum = safmin / eps;
+    double rmin = Math.sqrt(smlnum);
+    double rmax = Math.sqrt(1.0 / smlnum);
+    double anrm = org.netlib.lapack.Dlansy.dlansy("M", uplo, n, a, offseta, lda, new double[1], 0);
+    double sigma = 1.0;
+    if (anrm > 0.0 && anrm < rmin) {
+      sigma = rmin / anrm;
+    } else if (anrm > rmax) {
+      sigma = rmax / anrm;
+    }
+    if (sigma != 1.0) {
+      org.netlib.lapack.Dlascl.dlascl(uplo, 0, 0, 1.0, sigma, n, n, a, offseta, lda, info);
+    }
+    double[] e = new double[n];
+    double[] tau = new double[n];
+    dsytrd(!lower, n, a, offseta, lda, w, offsetw, e, 0, tau, 0);
+    if (!wantz) {
+      org.netlib.lapack.Dsterf.dsterf(n, w, offsetw, e, 0, info);
+    } else {
+      double[] z = new double[n * n];
+      dstedc(n, w, offsetw, e, 0, z, 0, n, info);
+      dormtr(!lower, n, n, a, offseta, lda, tau, 0, z, 0, n);
+      for (int j = 0; j < n; j++) {
+        System.arraycopy(z, j * n, a, offseta + j * lda, n);
+      }
+    }
+    if (sigma != 1.0) {
+      org.netlib.blas.Dscal.dscal(n, 1.0 / sigma, w, offsetw, 1);
+    }
+    work[offsetwork] = lwmin;
+    iwork[offsetiwork] = liwmin;
+  }
+
+  // Selected eigenvalues and eigenvectors, as in LAPACK's dsyevr: the reduction to tridiagonal form and the
+  // back-transformation are the blocked ones, the tridiagonal eigenproblem is solved by dstemr when all of
+  // them are wanted and by bisection and inverse iteration for a subset or when dstemr fails
+  protected void dsyevrK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, intW info) {
+    info.val = 0;
+    boolean wantz = Lsame.lsame(jobz, "V");
+    boolean alleig = Lsame.lsame(range, "A");
+    boolean valeig = Lsame.lsame(range, "V");
+    boolean indeig = Lsame.lsame(range, "I");
+    boolean lower = Lsame.lsame(uplo, "L");
+    boolean lquery = lwork == -1 || liwork == -1;
+    int lwmin = Math.max(1, 26 * n);
+    int liwmin = Math.max(1, 10 * n);
+    if (!wantz && !Lsame.lsame(jobz, "N")) {
+      info.val = -1;
+    } else if (!alleig && !valeig && !indeig) {
+      info.val = -2;
+    } else if (!lower && !Lsame.lsame(uplo, "U")) {
+      info.val = -3;
+    } else if (n < 0) {
+      info.val = -4;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -6;
+    } else if (valeig && n > 0 && vu <= vl) {
+      info.val = -8;
+    } else if (indeig && (il < 1 || il > Math.max(1, n))) {
+      info.val = -9;
+    } else if (indeig && (iu < Math.min(n, il) || iu > n)) {
+      info.val = -10;
+    } else if (ldz < 1 || (wantz && ldz < n)) {
+      info.val = -15;
+    } else if (lwork < lwmin && !lquery) {
+      info.val = -18;
+    } else if (liwork < liwmin && !lquery) {
+      info.val = -20;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = lwmin;
+      iwork[offsetiwork] = liwmin;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DSYEVR", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    m.val = 0;
+    if (n == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    if (n == 1) {
+      work[offsetwork] = 7;
+      if (alleig || indeig || (vl < a[offseta] && vu >= a[offseta])) {
+        m.val = 1;
+        w[offsetw] = a[offseta];
+      }
+      if (wantz) {
+        z[offsetz] = 1.0;
+        isuppz[offsetisuppz] = 1;
+        isuppz[offsetisuppz + 1] = 1;
+      }
+      return;
+    }
+    // Scale the matrix to the allowable range, if necessary
+    double safmin = org.netlib.lapack.Dlamch.dlamch("Safe minimum");
+    double eps = org.netlib.lapack.Dlamch.dlamch("Precision");
+    double smlnum = safmin / eps;
+    double rmin = Math.sqrt(smlnum);
+    double rmax = Math.min(Math.sqrt(1.0 / smlnum), 1.0 / Math.sqrt(Math.sqrt(safmin)));
+    double anrm = org.netlib.lapack.Dlansy.dlansy("M", uplo, n, a, offseta, lda, new double[1], 0);
+    double sigma = 1.0;
+    if (anrm > 0.0 && anrm < rmin) {
+      sigma = rmin / anrm;
+    } else if (anrm > rmax) {
+      sigma = rmax / anrm;
+    }
+    double abstll = abstol;
+    double vll = vl;
+    double vuu = vu;
+    if (sigma != 1.0) {
+      org.netlib.lapack.Dlascl.dlascl(uplo, 0, 0, 1.0, sigma, n, n, a, offseta, lda, info);
+      if (abstol > 0.0) {
+        abstll = abstol * sigma;
+      }
+      if (valeig) {
+        vll = vl * sigma;
+        vuu = vu * sigma;
+      }
+    }
+    double[] d = new double[n];
+    double[] e = new double[n];
+    double[] tau = new double[n];
+    dsytrd(!lower, n, a, offseta, lda, d, 0, e, 0, tau, 0);
+    boolean done = false;
+    if (alleig || (indeig && il == 1 && iu == n)) {
+      if (!wantz) {
+        System.arraycopy(d, 0, w, offsetw, n);
+        org.netlib.lapack.Dsterf.dsterf(n, w, offsetw, e.clone(), 0, info);
+      } else {
+        int lwk = 18 * n;
+        int liwk = 10 * n;
+        org.netlib.util.booleanW tryrac = new org.netlib.util.booleanW(abstol <= 2 * n * eps);
+        org.netlib.lapack.Dstemr.dstemr(jobz, "A", n, d.clone(), 0, e.clone(), 0, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, n, isuppz, offsetisuppz, tryrac, new double[lwk], 0, lwk, new int[liwk], 0, liwk, info);
+        if (info.val == 0) {
+          dormtr(!lower, n, m.val, a, offseta, lda, tau, 0, z, offsetz, ldz);
+        }
+      }
+      if (info.val == 0) {
+        m.val = n;
+        done = true;
+      } else {
+        // Fall back on bisection and inverse iteration
+        info.val = 0;
+      }
+    }
+    int[] iblock = new int[n];
+    if (!done) {
+      int[] isplit = new int[n];
+      intW nsplit = new intW(0);
+      org.netlib.lapack.Dstebz.dstebz(range, wantz ? "B" : "E", n, vll, vuu, il, iu, abstll, d, 0, e, 0, m, nsplit, w, offsetw, iblock, 0, isplit, 0, new double[4 * n], 0, new int[3 * n], 0, info);
+      if (wantz) {
+        org.netlib.lapack.Dstein.dstein(n, d, 0, e, 0, m.val, w, offsetw, iblock, 0, isplit, 0, z, offsetz, ldz, new double[5 * n], 0, new int[n], 0, new int[n], 0, info);
+        dormtr(!lower, n, m.val, a, offseta, lda, tau, 0, z, offsetz, ldz);
+      }
+    }
+    if (sigma != 1.0) {
+      int imax = info.val == 0 ? m.val : info.val - 1;
+      org.netlib.blas.Dscal.dscal(imax, 1.0 / sigma, w, offsetw, 1);
+    }
+    // Sort the eigenvalues in increasing order, along with their eigenvectors, as bisection returns them
+    // by split block
+    if (wantz) {
+      for (int j = 0; j < m.val - 1; j++) {
+        int i = -1;
+        double tmp = w[offsetw + j];
+        for (int jj = j + 1; jj < m.val; jj++) {
+          if (w[offsetw + jj] < tmp) {
+            i = jj;
+            tmp = w[offsetw + jj];
+          }
+        }
+        if (i >= 0) {
+          w[offsetw + i] = w[offsetw + j];
+          w[offsetw + j] = tmp;
+          org.netlib.blas.Dswap.dswap(n, z, offsetz + i * ldz, 1, z, offsetz + j * ldz, 1);
+        }
+      }
+    }
+    work[offsetwork] = lwmin;
+    iwork[offsetiwork] = liwmin;
+  }
+
+  protected void dsytrdK(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    boolean lquery = lwork == -1;
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    } else if (lwork < 1 && !lquery) {
+      info.val = -9;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = 1;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DSYTRD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (n == 0) {
+      return;
+    }
+    dsytrd(upper, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau);
+  }
+
+  // Blocked reduction to tridiagonal form, as in LAPACK's dsytrd: dlatrd reduces a panel of columns and
+  // returns the matrix W with which the rank-2k update A = A - V * W**T - W * V**T brings the rest of the
+  // matrix up to date
+  private void dsytrd(boolean upper, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau) {
+    String uplo = upper ? "U" : "L";
+    double[] w = new double[n * BLOCK];
+    intW info = new intW(0);
+    if (upper) {
+      // The leading kk columns are left to the unblocked reduction
+      int kk = n <= BLOCK ? n : n - (n - 1) / BLOCK * BLOCK;
+      for (int i = n - BLOCK; i >= kk; i -= BLOCK) {
+        org.netlib.lapack.Dlatrd.dlatrd(uplo, i + BLOCK, BLOCK, a, offseta, lda, e, offsete, tau, offsettau, w, 0, n);
+        dsyr2kUpdate(true, i, BLOCK, a, offseta + i * lda, lda, w, 0, n, a, offseta, lda);
+        for (int j = i; j < i + BLOCK; j++) {
+          a[offseta + j - 1 + j * lda] = e[offsete + j - 1];
+          d[offsetd + j] = a[offseta + j + j * lda];
+        }
+      }
+      org.netlib.lapack.Dsytd2.dsytd2(uplo, kk, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+    } else {
+      int i = 0;
+      for (; i < n - BLOCK; i += BLOCK) {
+        int offsetii = offseta + i + i * lda;
+        org.netlib.lapack.Dlatrd.dlatrd(uplo, n - i, BLOCK, a, offsetii, lda, e, offsete + i, tau, offsettau + i, w, 0, n);
+        dsyr2kUpdate(false, n - i - BLOCK, BLOCK, a, offsetii + BLOCK, lda, w, BLOCK, n, a, offsetii + BLOCK + BLOCK * lda, lda);
+        for (int j = i; j < i + BLOCK; j++) {
+          a[offseta + j + 1 + j * lda] = e[offsete + j];
+          d[offsetd + j] = a[offseta + j + j * lda];
+        }
+      }
+      org.netlib.lapack.Dsytd2.dsytd2(uplo, n - i, a, offseta + i + i * lda, lda, d, offsetd + i, e, offsete + i, tau, offsettau + i, info);
+    }
+  }
+
+  // C = C - V * W**T - W * V**T for the n x n matrix C and the n x k matrices V and W, split across threads
+  // by columns as in dsyrkUpdate
+  private void dsyr2kUpdate(boolean upper, int n, int k, double[] v, int offsetv, int ldv, double[] w, int offsetw, int ldw, double[] c, int offsetc, int ldc) {
+    int blocks = Parallel.blocks(n, MIN_COLUMNS, 2L * k * n * n);
+    int tasks = blocks == 1 ? 1 : Math.min(4 * blocks, n / MIN_COLUMNS);
+    Parallel.forEach(tasks, b -> {
+      int s = n * b / tasks;
+      int ns = n * (b + 1) / tasks - s;
+      if (upper) {
+        org.netlib.blas.Dgemm.dgemm("N", "T", s, ns, k, -1.0, v, offsetv, ldv, w, offsetw + s, ldw, 1.0, c, offsetc + s * ldc, ldc);
+        org.netlib.blas.Dgemm.dgemm("N", "T", s, ns, k, -1.0, w, offsetw, ldw, v, offsetv + s, ldv, 1.0, c, offsetc + s * ldc, ldc);
+        org.netlib.blas.Dsyr2k.dsyr2k("U", "N", ns, k, -1.0, v, offsetv + s, ldv, w, offsetw + s, ldw, 1.0, c, offsetc + s + s * ldc, ldc);
+      } else {
+        org.netlib.blas.Dsyr2k.dsyr2k("L", "N", ns, k, -1.0, v, offsetv + s, ldv, w, offsetw + s, ldw, 1.0, c, offsetc + s + s * ldc, ldc);
+        org.netlib.blas.Dgemm.dgemm("N", "T", n - s - ns, ns, k, -1.0, v, offsetv + s + ns, ldv, w, offsetw + s, ldw, 1.0, c, offsetc + s + ns + s * ldc, ldc);
+        org.netlib.blas.Dgemm.dgemm("N", "T", n - s - ns, ns, k, -1.0, w, offsetw + s + ns, ldw, v, offsetv + s, ldv, 1.0, c, offsetc + s + ns + s * ldc, ldc);
+      }
+    });
+  }
+
+  // Z = Q * Z for the n x m matrix Z and the orthogonal matrix Q of the reduction to tridiagonal form, as in
+  // LAPACK's dormtr. The reflectors of the lower reduction are those of a QR factorization and go through
+  // dormqrK, those of the upper one are those of a QL factorization and go through F2j's dormql.
+  private void dormtr(boolean upper, int n, int m, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] z, int offsetz, int ldz) {
+    if (n < 2 || m == 0) {
+      return;
+    }
+    intW info = new intW(0);
+    if (upper) {
+      double[] work = new double[m * BLOCK];
+      org.netlib.lapack.Dormql.dormql("L", "N", n - 1, m, n - 1, a, offseta + lda, lda, tau, offsettau, z, offsetz, ldz, work, 0, work.length, info);
+    } else {
+      dormqrK("L", "N", n - 1, m, n - 1, a, offseta + 1, lda, tau, offsettau, z, offsetz + 1, ldz, new double[m], 0, m, info);
+    }
+  }
+
+  // Eigenvalues and eigenvectors of the symmetric tridiagonal matrix of diagonal d and off-diagonal e, as in
+  // LAPACK's dstedc with compz = I: the matrix splits where its off-diagonal is negligible, and the blocks
+  // larger than SMLSIZ go through the divide and conquer of dlaed0. The eigenvalues are returned in d in
+  // increasing order, and the eigenvectors in the n x n matrix z.
+  private void dstedc(int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, intW info) {
+    info.val = 0;
+    for (int j = 0; j < n; j++) {
+      java.util.Arrays.fill(z, offsetz + j * ldz, offsetz + j * ldz + n, 0.0);
+      z[offsetz + j + j * ldz] = 1.0;
+    }
+    double[] work = new double[Math.max(1, 2 * n - 2)];
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Dsteqr.dsteqr("I", n, d, offsetd, e, offsete, z, offsetz, ldz, work, 0, info);
+      return;
+    }
+    double eps = org.netlib.lapack.Dlamch.dlamch("Epsilon");
+    if (org.netlib.lapack.Dlanst.dlanst("M", n, d, offsetd, e, offsete) == 0.0) {
+      return;
+    }
+    for (int start = 0, finish; start < n; start = finish + 1) {
+      finish = start;
+      while (finish < n - 1) {
+        double tiny = eps * Math.sqrt(Math.abs(d[offsetd + finish])) * Math.sqrt(Math.abs(d[offsetd + finish + 1]));
+        if (Math.abs(e[offsete + finish]) <= tiny) {
+          break;
+        }
+        finish++;
+      }
+      int m = finish - start + 1;
+      if (m == 1) {
+        continue;
+      }
+      int offsetzz = offsetz + start + start * ldz;
+      if (m <= SMLSIZ) {
+        org.netlib.lapack.Dsteqr.dsteqr("I", m, d, offsetd + start, e, offsete + start, z, offsetzz, ldz, work, 0, info);
+        if (info.val != 0) {
+          info.val = (start + 1) * (n + 1) + finish + 1;
+          return;
+        }
+        continue;
+      }
+      // Scale the block to unit norm
+      double orgnrm = org.netlib.lapack.Dlanst.dlanst("M", m, d, offsetd + start, e, offsete + start);
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, orgnrm, 1.0, m, 1, d, offsetd + start, m, info);
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, orgnrm, 1.0, m - 1, 1, e, offsete + start, m - 1, info);
+      int[] indxq = new int[m];
+      dlaed0(m, d, offsetd + start, e, offsete + start, z, offsetzz, ldz, indxq, info);
+      if (info.val != 0) {
+        info.val = (info.val / (m + 1) + start) * (n + 1) + info.val % (m + 1) + start;
+        return;
+      }
+      // Sort the eigenpairs of the block, which indxq merges in increasing order
+      double[] dd = new double[m];
+      double[] zz = new double[m * m];
+      for (int i = 0; i < m; i++) {
+        int j = indxq[i] - 1;
+        dd[i] = d[offsetd + start + j];
+        System.arraycopy(z, offsetzz + j * ldz, zz, i * m, m);
+      }
+      System.arraycopy(dd, 0, d, offsetd + start, m);
+      for (int j = 0; j < m; j++) {
+        System.arraycopy(zz, j * m, z, offsetzz + j * ldz, m);
+      }
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, 1.0, orgnrm, m, 1, d, offsetd + start, m, info);
+    }
+    // Sort the eigenvalues in increasing order across blocks, along with their eigenvectors
+    for (int i = 0; i < n - 1; i++) {
+      int k = i;
+      double p = d[offsetd + i];
+      for (int j = i + 1; j < n; j++) {
+        if (d[offsetd + j] < p) {
+          k = j;
+          p = d[offsetd + j];
+        }
+      }
+      if (k != i) {
+        d[offsetd + k] = d[offsetd + i];
+        d[offsetd + i] = p;
+        org.netlib.blas.Dswap.dswap(n, z, offsetz + i * ldz, 1, z, offsetz + k * ldz, 1);
+      }
+    }
+  }
+
+  // Divide and conquer on the unreduced n x n tridiagonal block, as in LAPACK's dlaed0 with icompq = 2, with
+  // the two halves solved in parallel. On return, d holds the eigenvalues, q the matching eigenvectors, and
+  // the 1-based permutation indxq sorts them in increasing order.
+  private void dlaed0(int n, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, int[] indxq, intW info) {
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Dsteqr.dsteqr("I", n, d, offsetd, e, offsete, q, offsetq, ldq, new double[Math.max(1, 2 * n - 2)], 0, info);
+      if (info.val != 0) {
+        info.val = n;
+        return;
+      }
+      for (int i = 0; i < n; i++) {
+        indxq[i] = i + 1;
+      }
+      return;
+    }
+    // Tear the matrix in two with a rank-one modification
+    int n1 = n / 2;
+    int n2 = n - n1;
+    double rho = e[offsete + n1 - 1];
+    d[offsetd + n1 - 1] -= Math.abs(rho);
+    d[offsetd + n1] -= Math.abs(rho);
+    int[] indxq1 = new int[n1];
+    int[] indxq2 = new int[n2];
+    intW info1 = new intW(0);
+    intW info2 = new intW(0);
+    int tasks = Parallel.blocks(2, 1, (long) n * n * n);
+    Parallel.forEach(tasks, b -> {
+      for (int h = 2 * b / tasks; h < 2 * (b + 1) / tasks; h++) {
+        if (h == 0) {
+          dlaed0(n1, d, offsetd, e, offsete, q, offsetq, ldq, indxq1, info1);
+        } else {
+          dlaed0(n2, d, offsetd + n1, e, offsete + n1, q, offsetq + n1 + n1 * ldq, ldq, indxq2, info2);
+        }
+      }
+    });
+    if (info1.val != 0 || info2.val != 0) {
+      info.val = info1.val != 0 ? info1.val : info2.val + n1 * (n + 1);
+      return;
+    }
+    System.arraycopy(indxq1, 0, indxq, 0, n1);
+    System.arraycopy(indxq2, 0, indxq, n1, n2);
+    dlaed1(n, d, offsetd, q, offsetq, ldq, indxq, rho, n1, info);
+  }
+
+  // Merges the eigensystems of the two halves of a torn tridiagonal matrix, as in LAPACK's dlaed1: dlaed2
+  // deflates the rank-one modification, and dlaed3 solves the secular equation for the rest
+  private void dlaed1(int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, double rho, int cutpnt, intW info) {
+    // z is the last row of the first half and the first row of the second half of q
+    double[] z = new double[n];
+    for (int j = 0; j < cutpnt; j++) {
+      z[j] = q[offsetq + cutpnt - 1 + j * ldq];
+    }
+    for (int j = cutpnt; j < n; j++) {
+      z[j] = q[offsetq + cutpnt + j * ldq];
+    }
+    double[] dlamda = new double[n];
+    double[] w = new double[n];
+    double[] q2 = new double[n * n];
+    // dlaed2 reads one past the end of indx before testing for the end of its deflation loop
+    int[] indx = new int[n + 1];
+    int[] indxc = new int[n];
+    int[] indxp = new int[n];
+    int[] coltyp = new int[n];
+    intW k = new intW(0);
+    doubleW rhoW = new doubleW(rho);
+    org.netlib.lapack.Dlaed2.dlaed2(k, n, cutpnt, d, offsetd, q, offsetq, ldq, indxq, 0, rhoW, z, 0, dlamda, 0, w, 0, q2, 0, indx, 0, indxc, 0, indxp, 0, coltyp, 0, info);
+    if (info.val != 0) {
+      return;
+    }
+    if (k.val != 0) {
+      dlaed3(k.val, n, cutpnt, d, offsetd, q, offsetq, ldq, rhoW.val, dlamda, q2, indxc, coltyp, w, info);
+      if (info.val != 0) {
+        return;
+      }
+      // Merge the nondeflated and the deflated eigenvalues into a single sorted list
+      org.netlib.lapack.Dlamrg.dlamrg(k.val, n - k.val, d, offsetd, 1, -1, indxq, 0);
+    } else {
+      for (int i = 0; i < n; i++) {
+        indxq[i] = i + 1;
+      }
+    }
+  }
+
+  // Roots of the secular equation and the matching eigenvectors, as in LAPACK's dlaed3, with the roots, the
+  // eigenvectors of the rank-one modification and their back-transformation by the eigenvectors of the two
+  // halves all split across threads
+  private void dlaed3(int k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, double[] q2, int[] indx, int[] ctot, double[] w, intW info) {
+    // Each root takes a few iterations of O(k) operations
+    int blocks = Parallel.blocks(k, MIN_COLUMNS, 32L * k * k);
+    int[] failed = new int[blocks];
+    Parallel.forEach(blocks, b -> {
+      doubleW dlam = new doubleW(0.0);
+      intW iinfo = new intW(0);
+      for (int j = k * b / blocks, end = k * (b + 1) / blocks; j < end; j++) {
+        org.netlib.lapack.Dlaed4.dlaed4(k, j + 1, dlamda, 0, w, 0, q, offsetq + j * ldq, rho, dlam, iinfo);
+        if (iinfo.val != 0) {
+          failed[b] = iinfo.val;
+          return;
+        }
+        d[offsetd + j] = dlam.val;
+      }
+    });
+    for (int f : failed) {
+      if (f != 0) {
+        info.val = f;
+        return;
+      }
+    }
+    if (k == 2) {
+      for (int j = 0; j < k; j++) {
+        w[0] = q[offsetq + j * ldq];
+        w[1] = q[offsetq + 1 + j * ldq];
+        q[offsetq + j * ldq] = w[indx[0] - 1];
+        q[offsetq + 1 + j * ldq] = w[indx[1] - 1];
+      }
+    } else if (k > 2) {
+      // Recompute z from the roots, for the eigenvectors to come out orthogonal
+      double[] s = java.util.Arrays.copyOf(w, k);
+      int rows = Parallel.blocks(k, MIN_COLUMNS, 2L * k * k);
+      Parallel.forEach(rows, b -> {
+        for (int i = k * b / rows, end = k * (b + 1) / rows; i < end; i++) {
+          double wi = q[offsetq + i + i * ldq];
+          for (int j = 0; j < k; j++) {
+            if (j != i) {
+              wi *= q[offsetq + i + j * ldq] / (dlamda[i] - dlamda[j]);
+            }
+          }
+          w[i] = s[i] >= 0.0 ? Math.sqrt(-wi) : -Math.sqrt(-wi);
+        }
+      });
+      int columns = Parallel.blocks(k, MIN_COLUMNS, 2L * k * k);
+      Parallel.forEach(columns, b -> {
+        double[] t = new double[k];
+        for (int j = k * b / columns, end = k * (b + 1) / columns; j < end; j++) {
+          int offsetj = offsetq + j * ldq;
+          for (int i = 0; i < k; i++) {
+            t[i] = w[i] / q[offsetj + i];
+          }
+          double norm = org.netlib.blas.Dnrm2.dnrm2(k, t, 0, 1);
+          for (int i = 0; i < k; i++) {
+            q[offsetj + i] = t[indx[i] - 1] / norm;
+          }
+        }
+      });
+    }
+    // Back-transform by the eigenvectors of the two halves, skipping the columns of q2 whose rows in the
+    // other half are known to be zero
+    int n2 = n - n1;
+    int n12 = ctot[0] + ctot[1];
+    int n23 = ctot[1] + ctot[2];
+    double[] s = new double[Math.max(1, Math.max(n12, n23) * k)];
+    for (int j = 0; j < k; j++) {
+      System.arraycopy(q, offsetq + ctot[0] + j * ldq, s, j * n23, n23);
+    }
+    dgemmColumns(n2, k, n23, q2, n1 * n12, n2, s, n23, q, offsetq + n1, ldq);
+    for (int j = 0; j < k; j++) {
+      System.arraycopy(q, offsetq + j * ldq, s, j * n12, n12);
+    }
+    dgemmColumns(n1, k, n12, q2, 0, n1, s, n12, q, offsetq, ldq);
+  }
+
+  // C = A * B for the m x k matrix A, the k x n matrix B, and the m x n matrix C, split across threads by
+  // columns of C
+  private void dgemmColumns(int m, int n, int k, double[] a, int offseta, int lda, double[] b, int ldb, double[] c, int offsetc, int ldc) {
+    if (k == 0) {
+      for (int j = 0; j < n; j++) {
+        java.util.Arrays.fill(c, offsetc + j * ldc, offsetc + j * ldc + m, 0.0);
+      }
+      return;
+    }
+    int blocks = Parallel.blocks(n, MIN_COLUMNS, 2L * m * n * k);
+    Parallel.forEach(blocks, p -> {
+      int s = n * p / blocks;
+      int ns = n * (p + 1) / blocks - s;
+      org.netlib.blas.Dgemm.dgemm("N", "N", m, ns, k, 1.0, a, offseta, lda, b, s * ldb, ldb, 0.0, c, offsetc + s * ldc, ldc);
+    });
+  }
+
+  // Divide and conquer SVD, as in LAPACK's dgesdd. A wide matrix goes through the SVD of its transpose, and
+  // a tall one through dgesdd below.
+  protected void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, intW info) {
+    info.val = 0;
+    int minmn = Math.min(m, n);
+    int maxmn = Math.max(m, n);
+    boolean wntqa = Lsame.lsame(jobz, "A");
+    boolean wntqs = Lsame.lsame(jobz, "S");
+    boolean wntqo = Lsame.lsame(jobz, "O");
+    boolean wntqn = Lsame.lsame(jobz, "N");
+    boolean lquery = lwork == -1;
+    // The workspace is allocated as needed, so the documented minimum is as good as any
+    int minwrk;
+    if (minmn == 0) {
+      minwrk = 1;
+    } else if (wntqn) {
+      minwrk = 3 * minmn + Math.max(maxmn, 7 * minmn);
+    } else if (wntqo) {
+      minwrk = 3 * minmn * minmn + Math.max(maxmn, 5 * minmn * minmn + 4 * minmn);
+    } else {
+      minwrk = 3 * minmn * minmn + Math.max(maxmn, 4 * minmn * minmn + 4 * minmn);
+    }
+    if (!wntqa && !wntqs && !wntqo && !wntqn) {
+      info.val = -1;
+    } else if (m < 0) {
+      info.val = -2;
+    } else if (n < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -5;
+    } else if (ldu < 1 || ((wntqa || wntqs) && ldu < m) || (wntqo && m < n && ldu < m)) {
+      info.val = -8;
+    } else if (ldvt < 1 || (wntqa && ldvt < n) || (wntqs && ldvt < minmn) || (wntqo && m >= n && ldvt < n)) {
+      info.val = -10;
+    } else if (lwork < minwrk && !lquery) {
+      info.val = -12;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = minwrk;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DGESDD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (minmn == 0) {
+      return;
+    }
+    // Scale the matrix to the allowable range, if necessary
+    double eps = org.netlib.lapack.Dlamch.dlamch("P");
+    double smlnum = Math.sqrt(org.netlib.lapack.Dlamch.dlamch("S")) / eps;
+    double bignum = 1.0 / smlnum;
+    double anrm = org.netlib.lapack.Dlange.dlange("M", m, n, a, offseta, lda, new double[1], 0);
+    if (Double.isNaN(anrm)) {
+      // A NaN keeps the bidiagonal SVD of the reference implementation from converging, which it reports
+      // with info > 0 when computing vectors. Leave such input to it, with a workspace of the size it asks
+      // for, so that info is the same.
+      double[] query = new double[1];
+      super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, query, 0, -1, iwork, offsetiwork, info);
+      double[] nwork = new double[(int) query[0]];
+      super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, nwork, 0, nwork.length, iwork, offsetiwork, info);
+      return;
+    }
+    double scaled = anrm > 0.0 && anrm < smlnum ? smlnum : anrm > bignum ? bignum : anrm;
+    if (scaled != anrm) {
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, anrm, scaled, m, n, a, offseta, lda, info);
+    }
+    // Columns of U wanted for the tall matrix, none for the singular values only
+    int ucols = wntqn ? 0 : wntqa ? maxmn : minmn;
+    if (m >= n) {
+      if (wntqo) {
+        double[] uo = new double[m * n];
+        dgesdd(m, n, ucols, a, offseta, lda, s, offsets, uo, 0, m, vt, offsetvt, ldvt, info);
+        for (int j = 0; j < n; j++) {
+          System.arraycopy(uo, j * m, a, offseta + j * lda, m);
+        }
+      } else {
+        dgesdd(m, n, ucols, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+      }
+    } else {
+      // A**T = U1 * S * V1**T, so U = V1 and V**T = U1**T, with the first m rows of V**T overwriting A for
+      // jobz = O
+      double[] at = new double[n * m];
+      for (int j = 0; j < n; j++) {
+        for (int i = 0; i < m; i++) {
+          at[j + i * n] = a[offseta + i + j * lda];
+        }
+      }
+      double[] u1 = wntqn ? null : new double[n * ucols];
+      double[] vt1 = wntqn ? null : new double[m * m];
+      dgesdd(n, m, ucols, at, 0, n, s, offsets, u1, 0, n, vt1, 0, m, info);
+      if (!wntqn && info.val == 0) {
+        for (int j = 0; j < m; j++) {
+          for (int i = 0; i < m; i++) {
+            u[offsetu + i + j * ldu] = vt1[j + i * m];
+          }
+        }
+        double[] v = wntqo ? a : vt;
+        int offsetv = wntqo ? offseta : offsetvt;
+        int ldv = wntqo ? lda : ldvt;
+        for (int j = 0; j < n; j++) {
+          for (int i = 0; i < ucols; i++) {
+            v[offsetv + i + j * ldv] = u1[j + i * n];
+          }
+        }
+      }
+    }
+    if (scaled != anrm) {
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, scaled, anrm, minmn, 1, s, offsets, minmn, info);
+    }
+  }
+
+  // SVD of the m x n matrix A, with m >= n, into the first ucols columns of U, n or m of them, and the n x n
+  // matrix V**T, or only the singular values if ucols is 0. With many more rows than columns, as in LAPACK,
+  // it goes through the SVD of the triangular factor of A's QR factorization. A is destroyed.
+  private void dgesdd(int m, int n, int ucols, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, intW info) {
+    if (m < n * 11 / 6) {
+      dgesddDirect(m, n, ucols, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+      return;
+    }
+    double[] tau = new double[n];
+    dgeqrfK(m, n, a, offseta, lda, tau, 0, new double[n], 0, n, info);
+    double[] r = new double[n * n];
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(a, offseta + j * lda, r, j * n, j + 1);
+    }
+    if (ucols == 0) {
+      dgesddDirect(n, n, 0, r, 0, n, s, offsets, null, 0, 1, null, 0, 1, info);
+      return;
+    }
+    double[] ur = new double[n * n];
+    dgesddDirect(n, n, n, r, 0, n, s, offsets, ur, 0, n, vt, offsetvt, ldvt, info);
+    if (info.val != 0) {
+      return;
+    }
+    // U = Q * [Ur 0; 0 I]
+    for (int j = 0; j < ucols; j++) {
+      java.util.Arrays.fill(u, offsetu + j * ldu, offsetu + j * ldu + m, 0.0);
+      if (j < n) {
+        System.arraycopy(ur, j * n, u, offsetu + j * ldu, n);
+      } else {
+        u[offsetu + j + j * ldu] = 1.0;
+      }
+    }
+    dormqrK("L", "N", m, ucols, n, a, offseta, lda, tau, 0, u, offsetu, ldu, new double[ucols], 0, ucols, info);
+  }
+
+  // SVD of the m x n matrix A, with m >= n, through its reduction to bidiagonal form A = Q * B * P**T and
+  // the SVD of B by divide and conquer, with the singular vectors of B transformed back by Q and P**T
+  private void dgesddDirect(int m, int n, int ucols, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, intW info) {
+    double[] e = new double[n];
+    double[] tauq = new double[n];
+    double[] taup = new double[n];
+    dgebrd(m, n, a, offseta, lda, s, offsets, e, 0, tauq, 0, taup, 0);
+    if (ucols == 0) {
+      org.netlib.lapack.Dbdsdc.dbdsdc("U", "N", n, s, offsets, e, 0, new double[1], 0, 1, new double[1], 0, 1, new double[1], 0, new int[1], 0, new double[7 * n], 0, new int[8 * n], 0, info);
+      return;
+    }
+    double[] ub = new double[n * n];
+    dbdsdc(n, s, offsets, e, 0, ub, 0, n, vt, offsetvt, ldvt, info);
+    if (info.val != 0) {
+      return;
+    }
+    // U = Q * [Ub 0; 0 I]
+    for (int j = 0; j < ucols; j++) {
+      java.util.Arrays.fill(u, offsetu + j * ldu, offsetu + j * ldu + m, 0.0);
+      if (j < n) {
+        System.arraycopy(ub, j * n, u, offsetu + j * ldu, n);
+      } else {
+        u[offsetu + j + j * ldu] = 1.0;
+      }
+    }
+    dormqrK("L", "N", m, ucols, n, a, offseta, lda, tauq, 0, u, offsetu, ldu, new double[ucols], 0, ucols, info);
+    // V**T = Vb**T * P**T, where the reflectors of P are those of an LQ factorization of A(0:n, 1:n), split
+    // across threads by rows of V**T
+    if (n > 1) {
+      int blocks = Parallel.blocks(n, MIN_COLUMNS, 2L * n * n * n);
+      Parallel.forEach(blocks, b -> {
+        int r = n * b / blocks;
+        int nr = n * (b + 1) / blocks - r;
+        double[] work = new double[nr * BLOCK];
+        org.netlib.lapack.Dormlq.dormlq("R", "N", nr, n - 1, n - 1, a, offseta + lda, lda, taup, 0, vt, offsetvt + r + ldvt, ldvt, work, 0, work.length, new intW(0));
+      });
+    }
+  }
+
+  protected void dgebrdK(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean lquery = lwork == -1;
+    int lwmin = Math.max(1, Math.max(m, n));
+    work[offsetwork] = lwmin;
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -4;
+    } else if (lwork < lwmin && !lquery) {
+      info.val = -10;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("DGEBRD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (Math.min(m, n) == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    dgebrd(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup);
+  }
+
+  // Blocked reduction to bidiagonal form, as in LAPACK's dgebrd: dlabrd reduces a panel of rows and columns
+  // and returns the matrices X and Y with which the update A = A - V * Y**T - X * U**T, half of the
+  // operations, brings the rest of the matrix up to date, split across threads by columns
+  private void dgebrd(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup) {
+    int minmn = Math.min(m, n);
+    double[] x = new double[m * BLOCK];
+    double[] y = new double[n * BLOCK];
+    int i = 0;
+    for (; i < minmn - BLOCK; i += BLOCK) {
+      int offsetii = offseta + i + i * lda;
+      org.netlib.lapack.Dlabrd.dlabrd(m - i, n - i, BLOCK, a, offsetii, lda, d, offsetd + i, e, offsete + i, tauq, offsettauq + i, taup, offsettaup + i, x, 0, m, y, 0, n);
+      int rows = m - i - BLOCK;
+      int cols = n - i - BLOCK;
+      int blocks = Parallel.blocks(cols, MIN_COLUMNS, 4L * rows * cols * BLOCK);
+      Parallel.forEach(blocks, b -> {
+        int c = cols * b / blocks;
+        int nc = cols * (b + 1) / blocks - c;
+        int offsetc = offsetii + BLOCK + (BLOCK + c) * lda;
+        org.netlib.blas.Dgemm.dgemm("N", "T", rows, nc, BLOCK, -1.0, a, offsetii + BLOCK, lda, y, BLOCK + c, n, 1.0, a, offsetc, lda);
+        org.netlib.blas.Dgemm.dgemm("N", "N", rows, nc, BLOCK, -1.0, x, BLOCK, m, a, offsetii + (BLOCK + c) * lda, lda, 1.0, a, offsetc, lda);
+      });
+      for (int j = i; j < i + BLOCK; j++) {
+        a[offseta + j + j * lda] = d[offsetd + j];
+        if (m >= n) {
+          a[offseta + j + (j + 1) * lda] = e[offsete + j];
+        } else {
+          a[offseta + j + 1 + j * lda] = e[offsete + j];
+        }
+      }
+    }
+    org.netlib.lapack.Dgebd2.dgebd2(m - i, n - i, a, offseta + i + i * lda, lda, d, offsetd + i, e, offsete + i, tauq, offsettauq + i, taup, offsettaup + i, new double[Math.max(m, n)], 0, new intW(0));
+  }
+
+  protected void dbdsdcK(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, intW info) {
+    // Only the upper bidiagonal matrix with its singular vectors goes through the parallel divide and conquer
+    if (!Lsame.lsame(uplo, "U") || !Lsame.lsame(compq, "I") || n < 0 || ldu < Math.max(1, n) || ldvt < Math.max(1, n)) {
+      super.dbdsdcK(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+      return;
+    }
+    info.val = 0;
+    dbdsdc(n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  // SVD B = U * S * V**T of the n x n upper bidiagonal matrix B of diagonal d and superdiagonal e, as in
+  // LAPACK's dbdsdc with compq = I: the matrix splits where its superdiagonal is negligible, and the blocks
+  // go through the divide and conquer of dlasd0. The singular values are returned in d in decreasing order.
+  private void dbdsdc(int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, intW info) {
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    if (n == 1) {
+      u[offsetu] = Math.copySign(1.0, d[offsetd]);
+      vt[offsetvt] = 1.0;
+      d[offsetd] = Math.abs(d[offsetd]);
+      return;
+    }
+    for (int j = 0; j < n; j++) {
+      java.util.Arrays.fill(u, offsetu + j * ldu, offsetu + j * ldu + n, 0.0);
+      java.util.Arrays.fill(vt, offsetvt + j * ldvt, offsetvt + j * ldvt + n, 0.0);
+      u[offsetu + j + j * ldu] = 1.0;
+      vt[offsetvt + j + j * ldvt] = 1.0;
+    }
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Dlasdq.dlasdq("U", 0, n, n, n, 0, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, u, offsetu, ldu, new double[4 * n], 0, info);
+    } else {
+      double orgnrm = org.netlib.lapack.Dlanst.dlanst("M", n, d, offsetd, e, offsete);
+      if (orgnrm == 0.0) {
+        return;
+      }
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, orgnrm, 1.0, n, 1, d, offsetd, n, info);
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, orgnrm, 1.0, n - 1, 1, e, offsete, n - 1, info);
+      double eps = org.netlib.lapack.Dlamch.dlamch("Epsilon");
+      for (int i = 0; i < n; i++) {
+        if (Math.abs(d[offsetd + i]) < eps) {
+          d[offsetd + i] = org.netlib.util.Util.dsign(eps, d[offsetd + i]);
+        }
+      }
+      int[] idxq = new int[n];
+      for (int i = 0, start = 0; i < n - 1; i++) {
+        if (Math.abs(e[offsete + i]) >= eps && i < n - 2) {
+          continue;
+        }
+        int nsize;
+        if (i < n - 2) {
+          nsize = i - start + 1;
+        } else if (Math.abs(e[offsete + i]) >= eps) {
+          nsize = n - start;
+        } else {
+          // The last diagonal element splits off on its own
+          nsize = i - start + 1;
+          u[offsetu + n - 1 + (n - 1) * ldu] = org.netlib.util.Util.dsign(1.0, d[offsetd + n - 1]);
+          vt[offsetvt + n - 1 + (n - 1) * ldvt] = 1.0;
+          d[offsetd + n - 1] = Math.abs(d[offsetd + n - 1]);
+        }
+        dlasd0(nsize, 0, d, offsetd + start, e, offsete + start, u, offsetu + start * (1 + ldu), ldu, vt, offsetvt + start * (1 + ldvt), ldvt, idxq, start, info);
+        if (info.val != 0) {
+          return;
+        }
+        start = i + 1;
+      }
+      org.netlib.lapack.Dlascl.dlascl("G", 0, 0, 1.0, orgnrm, n, 1, d, offsetd, n, info);
+    }
+    // Sort the singular values in decreasing order, along with their singular vectors
+    for (int i = 0; i < n - 1; i++) {
+      int k = i;
+      double p = d[offsetd + i];
+      for (int j = i + 1; j < n; j++) {
+        if (d[offsetd + j] > p) {
+          k = j;
+          p = d[offsetd + j];
+        }
+      }
+      if (k != i) {
+        d[offsetd + k] = d[offsetd + i];
+        d[offsetd + i] = p;
+        org.netlib.blas.Dswap.dswap(n, u, offsetu + i * ldu, 1, u, offsetu + k * ldu, 1);
+        org.netlib.blas.Dswap.dswap(n, vt, offsetvt + i, ldvt, vt, offsetvt + k, ldvt);
+      }
+    }
+  }
+
+  // Divide and conquer on the n x (n + sqre) upper bidiagonal block, as in LAPACK's dlasd0, with the two
+  // halves solved in parallel. On return, the 1-based permutation idxq sorts the singular values in d.
+  private void dlasd0(int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, intW info) {
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Dlasdq.dlasdq("U", sqre, n, n + sqre, n, 0, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, u, offsetu, ldu, new double[4 * (n + 1)], 0, info);
+      for (int i = 0; i < n; i++) {
+        idxq[offsetidxq + i] = i + 1;
+      }
+      return;
+    }
+    // Split B into [B1 0; alpha beta; 0 B2], with B1 nl x (nl + 1) and B2 nr x (nr + sqre)
+    int nl = n / 2;
+    int nr = n - nl - 1;
+    intW info1 = new intW(0);
+    intW info2 = new intW(0);
+    int tasks = Parallel.blocks(2, 1, (long) n * n * n);
+    Parallel.forEach(tasks, b -> {
+      for (int h = 2 * b / tasks; h < 2 * (b + 1) / tasks; h++) {
+        if (h == 0) {
+          dlasd0(nl, 1, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, info1);
+        } else {
+          dlasd0(nr, sqre, d, offsetd + nl + 1, e, offsete + nl + 1, u, offsetu + (nl + 1) * (1 + ldu), ldu, vt, offsetvt + (nl + 1) * (1 + ldvt), ldvt, idxq, offsetidxq + nl + 1, info2);
+        }
+      }
+    });
+    if (info1.val != 0 || info2.val != 0) {
+      info.val = info1.val != 0 ? info1.val : info2.val;
+      return;
+    }
+    dlasd1(nl, nr, sqre, d, offsetd, d[offsetd + nl], e[offsete + nl], u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, info);
+  }
+
+  // Merges the SVDs of the two halves of a split bidiagonal matrix, as in LAPACK's dlasd1: dlasd2 deflates
+  // the rank-one modification, and dlasd3 solves the secular equation for the rest
+  private void dlasd1(int nl, int nr, int sqre, double[] d, int offsetd, double alpha, double beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, intW info) {
+    int n = nl + nr + 1;
+    int m = n + sqre;
+    // Scale to unit norm
+    double orgnrm = Math.max(Math.abs(alpha), Math.abs(beta));
+    d[offsetd + nl] = 0.0;
+    for (int i = 0; i < n; i++) {
+      orgnrm = Math.max(orgnrm, Math.abs(d[offsetd + i]));
+    }
+    org.netlib.lapack.Dlascl.dlascl("G", 0, 0, orgnrm, 1.0, n, 1, d, offsetd, n, info);
+    double[] z = new double[m];
+    double[] dsigma = new double[n];
+    double[] u2 = new double[n * n];
+    double[] vt2 = new double[m * m];
+    int[] idxp = new int[n];
+    int[] idx = new int[n];
+    int[] idxc = new int[n];
+    int[] coltyp = new int[n];
+    intW k = new intW(0);
+    org.netlib.lapack.Dlasd2.dlasd2(nl, nr, sqre, k, d, offsetd, z, 0, alpha / orgnrm, beta / orgnrm, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, 0, u2, 0, n, vt2, 0, m, idxp, 0, idx, 0, idxc, 0, idxq, offsetidxq, coltyp, 0, info);
+    if (info.val != 0) {
+      return;
+    }
+    dlasd3(nl, nr, sqre, k.val, d, offsetd, dsigma, u, offsetu, ldu, u2, n, vt, offsetvt, ldvt, vt2, m, idxc, coltyp, z, info);
+    if (info.val != 0) {
+      return;
+    }
+    org.netlib.lapack.Dlascl.dlascl("G", 0, 0, 1.0, orgnrm, n, 1, d, offsetd, n, info);
+    // Merge the nondeflated and the deflated singular values into a single sorted list
+    org.netlib.lapack.Dlamrg.dlamrg(k.val, n - k.val, d, offsetd, 1, -1, idxq, offsetidxq);
+  }
+
+  // Roots of the secular equation and the matching singular vectors, as in LAPACK's dlasd3, with the roots,
+  // the singular vectors of the rank-one modification and their back-transformation by those of the two
+  // halves all split across threads
+  private void dlasd3(int nl, int nr, int sqre, int k, double[] d, int offsetd, double[] dsigma, double[] u, int offsetu, int ldu, double[] u2, int ldu2, double[] vt, int offsetvt, int ldvt, double[] vt2, int ldvt2, int[] idxc, int[] ctot, double[] z, intW info) {
+    int n = nl + nr + 1;
+    int m = n + sqre;
+    if (k == 1) {
+      d[offsetd] = Math.abs(z[0]);
+      for (int j = 0; j < m; j++) {
+        vt[offsetvt + j * ldvt] = vt2[j * ldvt2];
+      }
+      for (int i = 0; i < n; i++) {
+        u[offsetu + i] = z[0] > 0.0 ? u2[i] : -u2[i];
+      }
+      return;
+    }
+    // q keeps a copy of z until it holds the singular vectors of the rank-one modification
+    int ldq = k;
+    double[] q = new double[k * k];
+    System.arraycopy(z, 0, q, 0, k);
+    double rho = org.netlib.blas.Dnrm2.dnrm2(k, z, 0, 1);
+    org.netlib.lapack.Dlascl.dlascl("G", 0, 0, rho, 1.0, k, 1, z, 0, k, info);
+    double rho2 = rho * rho;
+    // Each root takes a few iterations of O(k) operations, and leaves the differences with the poles in u
+    // and their sums in vt
+    int blocks = Parallel.blocks(k, MIN_COLUMNS, 32L * k * k);
+    int[] failed = new int[blocks];
+    Parallel.forEach(blocks, b -> {
+      doubleW sigma = new doubleW(0.0);
+      intW iinfo = new intW(0);
+      for (int j = k * b / blocks, end = k * (b + 1) / blocks; j < end; j++) {
+        org.netlib.lapack.Dlasd4.dlasd4(k, j + 1, dsigma, 0, z, 0, u, offsetu + j * ldu, rho2, sigma, vt, offsetvt + j * ldvt, iinfo);
+        if (iinfo.val != 0) {
+          failed[b] = iinfo.val;
+          return;
+        }
+        d[offsetd + j] = sigma.val;
+      }
+    });
+    for (int f : failed) {
+      if (f != 0) {
+        info.val = f;
+        return;
+      }
+    }
+    // Recompute z from the roots, for the singular vectors to come out orthogonal
+    int rows = Parallel.blocks(k, MIN_COLUMNS, 4L * k * k);
+    Parallel.forEach(rows, b -> {
+      for (int i = k * b / rows, end = k * (b + 1) / rows; i < end; i++) {
+        double zi = u[offsetu + i + (k - 1) * ldu] * vt[offsetvt + i + (k - 1) * ldvt];
+        for (int j = 0; j < i; j++) {
+          zi *= u[offsetu + i + j * ldu] * vt[offsetvt + i + j * ldvt] / (dsigma[i] - dsigma[j]) / (dsigma[i] + dsigma[j]);
+        }
+        for (int j = i; j < k - 1; j++) {
+          zi *= u[offsetu + i + j * ldu] * vt[offsetvt + i + j * ldvt] / (dsigma[i] - dsigma[j + 1]) / (dsigma[i] + dsigma[j + 1]);
+        }
+        z[i] = org.netlib.util.Util.dsign(Math.sqrt(Math.abs(zi)), q[i]);
+      }
+    });
+    // Left singular vectors of the modification in the columns of q, and right ones in the columns of vt
+    int columns = Parallel.blocks(k, MIN_COLUMNS, 4L * k * k);
+    Parallel.forEach(columns, b -> {
+      for (int i = k * b / columns, end = k * (b + 1) / columns; i < end; i++) {
+        int offsetui = offsetu + i * ldu;
+        int offsetvti = offsetvt + i * ldvt;
+        vt[offsetvti] = z[0] / u[offsetui] / vt[offsetvti];
+        u[offsetui] = -1.0;
+        for (int j = 1; j < k; j++) {
+          vt[offsetvti + j] = z[j] / u[offsetui + j] / vt[offsetvti + j];
+          u[offsetui + j] = dsigma[j] * vt[offsetvti + j];
+        }
+        double temp = org.netlib.blas.Dnrm2.dnrm2(k, u, offsetui, 1);
+        q[i * ldq] = u[offsetui] / temp;
+        for (int j = 1; j < k; j++) {
+          q[j + i * ldq] = u[offsetui + idxc[j] - 1] / temp;
+        }
+      }
+    });
+    // Update the left singular vectors, skipping the rows of u2 known to be zero, split by columns
+    int ucolumns = Parallel.blocks(k, MIN_COLUMNS, 2L * n * k * k);
+    Parallel.forEach(ucolumns, b -> {
+      int c = k * b / ucolumns;
+      int nc = k * (b + 1) / ucolumns - c;
+      int offsetuc = offsetu + c * ldu;
+      if (k == 2) {
+        org.netlib.blas.Dgemm.dgemm("N", "N", n, nc, k, 1.0, u2, 0, ldu2, q, c * ldq, ldq, 0.0, u, offsetuc, ldu);
+        return;
+      }
+      int ktemp = 1 + ctot[0] + ctot[1];
+      if (ctot[0] > 0) {
+        org.netlib.blas.Dgemm.dgemm("N", "N", nl, nc, ctot[0], 1.0, u2, ldu2, ldu2, q, 1 + c * ldq, ldq, 0.0, u, offsetuc, ldu);
+        if (ctot[2] > 0) {
+          org.netlib.blas.Dgemm.dgemm("N", "N", nl, nc, ctot[2], 1.0, u2, ktemp * ldu2, ldu2, q, ktemp + c * ldq, ldq, 1.0, u, offsetuc, ldu);
+        }
+      } else if (ctot[2] > 0) {
+        org.netlib.blas.Dgemm.dgemm("N", "N", nl, nc, ctot[2], 1.0, u2, ktemp * ldu2, ldu2, q, ktemp + c * ldq, ldq, 0.0, u, offsetuc, ldu);
+      } else {
+        for (int j = 0; j < nc; j++) {
+          System.arraycopy(u2, (c + j) * ldu2, u, offsetuc + j * ldu, nl);
+        }
+      }
+      for (int j = 0; j < nc; j++) {
+        u[offsetuc + nl + j * ldu] = q[(c + j) * ldq];
+      }
+      org.netlib.blas.Dgemm.dgemm("N", "N", nr, nc, ctot[1] + ctot[2], 1.0, u2, nl + 1 + (1 + ctot[0]) * ldu2, ldu2, q, 1 + ctot[0] + c * ldq, ldq, 0.0, u, offsetuc + nl + 1, ldu);
+    });
+    // Right singular vectors of the modification in the rows of q
+    Parallel.forEach(columns, b -> {
+      for (int i = k * b / columns, end = k * (b + 1) / columns; i < end; i++) {
+        int offsetvti = offsetvt + i * ldvt;
+        double temp = org.netlib.blas.Dnrm2.dnrm2(k, vt, offsetvti, 1);
+        q[i] = vt[offsetvti] / temp;
+        for (int j = 1; j < k; j++) {
+          q[i + j * ldq] = vt[offsetvti + idxc[j] - 1] / temp;
+        }
+      }
+    });
+    // Update the right singular vectors, split by rows
+    int vrows = Parallel.blocks(k, MIN_COLUMNS, 2L * m * k * k);
+    if (k == 2) {
+      Parallel.forEach(vrows, b -> {
+        int r = k * b / vrows;
+        int nrr = k * (b + 1) / vrows - r;
+        org.netlib.blas.Dgemm.dgemm("N", "N", nrr, m, k, 1.0, q, r, ldq, vt2, 0, ldvt2, 0.0, vt, offsetvt + r, ldvt);
+      });
+      return;
+    }
+    int ktemp = 1 + ctot[0] + ctot[1];
+    int kfirst = ctot[0];
+    // The last gemm takes the first row of vt2 and column of q along with those of the last two types
+    if (kfirst > 0) {
+      for (int i = nl + 1; i < m; i++) {
+        vt2[kfirst + i * ldvt2] = vt2[i * ldvt2];
+      }
+    }
+    Parallel.forEach(vrows, b -> {
+      int r = k * b / vrows;
+      int nrr = k * (b + 1) / vrows - r;
+      org.netlib.blas.Dgemm.dgemm("N", "N", nrr, nl + 1, 1 + ctot[0], 1.0, q, r, ldq, vt2, 0, ldvt2, 0.0, vt, offsetvt + r, ldvt);
+      if (ktemp < ldvt2) {
+        org.netlib.blas.Dgemm.dgemm("N", "N", nrr, nl + 1, ctot[2], 1.0, q, r + ktemp * ldq, ldq, vt2, ktemp, ldvt2, 1.0, vt, offsetvt + r, ldvt);
+      }
+      if (kfirst > 0) {
+        for (int i = r; i < r + nrr; i++) {
+          q[i + kfirst * ldq] = q[i];
+        }
+      }
+      org.netlib.blas.Dgemm.dgemm("N", "N", nrr, nr + sqre, 1 + ctot[1] + ctot[2], 1.0, q, r + kfirst * ldq, ldq, vt2, kfirst + (nl + 1) * ldvt2, ldvt2, 0.0, vt, offsetvt + r + (nl + 1) * ldvt, ldvt);
+    });
+  }
+
+  // Divide and conquer symmetric eigensolver, as in LAPACK's ssyevd: a blocked reduction to tridiagonal
+  // form, the divide and conquer below on the tridiagonal matrix, and the back-transformation of its
+  // eigenvectors by the orthogonal matrix of the reduction
+  protected void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, intW info) {
+    info.val = 0;
+    boolean wantz = Lsame.lsame(jobz, "V");
+    boolean lower = Lsame.lsame(uplo, "L");
+    boolean lquery = lwork == -1 || liwork == -1;
+    int lwmin = n <= 1 ? 1 : wantz ? 1 + 6 * n + 2 * n * n : 2 * n + 1;
+    int liwmin = n <= 1 || !wantz ? 1 : 3 + 5 * n;
+    if (!wantz && !Lsame.lsame(jobz, "N")) {
+      info.val = -1;
+    } else if (!lower && !Lsame.lsame(uplo, "U")) {
+      info.val = -2;
+    } else if (n < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -5;
+    } else if (lwork < lwmin && !lquery) {
+      info.val = -8;
+    } else if (liwork < liwmin && !lquery) {
+      info.val = -10;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = lwmin;
+      iwork[offsetiwork] = liwmin;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SSYEVD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (n == 0) {
+      return;
+    }
+    if (n == 1) {
+      w[offsetw] = a[offseta];
+      if (wantz) {
+        a[offseta] = 1.0f;
+      }
+      return;
+    }
+    // Scale the matrix to the allowable range, if necessary
+    float safmin = org.netlib.lapack.Slamch.slamch("Safe minimum");
+    float eps = org.netlib.lapack.Slamch.slamch("Precision");
+    float smlnum = safmin / eps;
+    float rmin = (float) Math.sqrt(smlnum);
+    float rmax = (float) Math.sqrt(1.0f / smlnum);
+    float anrm = org.netlib.lapack.Slansy.slansy("M", uplo, n, a, offseta, lda, new float[1], 0);
+    float sigma = 1.0f;
+    if (anrm > 0.0f && anrm < rmin) {
+      sigma = rmin / anrm;
+    } else if (anrm > rmax) {
+      sigma = rmax / anrm;
+    }
+    if (sigma != 1.0f) {
+      org.netlib.lapack.Slascl.slascl(uplo, 0, 0, 1.0f, sigma, n, n, a, offseta, lda, info);
+    }
+    float[] e = new float[n];
+    float[] tau = new float[n];
+    ssytrd(!lower, n, a, offseta, lda, w, offsetw, e, 0, tau, 0);
+    if (!wantz) {
+      org.netlib.lapack.Ssterf.ssterf(n, w, offsetw, e, 0, info);
+    } else {
+      float[] z = new float[n * n];
+      sstedc(n, w, offsetw, e, 0, z, 0, n, info);
+      sormtr(!lower, n, n, a, offseta, lda, tau, 0, z, 0, n);
+      for (int j = 0; j < n; j++) {
+        System.arraycopy(z, j * n, a, offseta + j * lda, n);
+      }
+    }
+    if (sigma != 1.0f) {
+      org.netlib.blas.Sscal.sscal(n, 1.0f / sigma, w, offsetw, 1);
+    }
+    work[offsetwork] = lwmin;
+    iwork[offsetiwork] = liwmin;
+  }
+
+  // Selected eigenvalues and eigenvectors, as in LAPACK's ssyevr: the reduction to tridiagonal form and the
+  // back-transformation are the blocked ones, the tridiagonal eigenproblem is solved by sstemr when all of
+  // them are wanted and by bisection and inverse iteration for a subset or when sstemr fails
+  protected void ssyevrK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, intW info) {
+    info.val = 0;
+    boolean wantz = Lsame.lsame(jobz, "V");
+    boolean alleig = Lsame.lsame(range, "A");
+    boolean valeig = Lsame.lsame(range, "V");
+    boolean indeig = Lsame.lsame(range, "I");
+    boolean lower = Lsame.lsame(uplo, "L");
+    boolean lquery = lwork == -1 || liwork == -1;
+    int lwmin = Math.max(1, 26 * n);
+    int liwmin = Math.max(1, 10 * n);
+    if (!wantz && !Lsame.lsame(jobz, "N")) {
+      info.val = -1;
+    } else if (!alleig && !valeig && !indeig) {
+      info.val = -2;
+    } else if (!lower && !Lsame.lsame(uplo, "U")) {
+      info.val = -3;
+    } else if (n < 0) {
+      info.val = -4;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -6;
+    } else if (valeig && n > 0 && vu <= vl) {
+      info.val = -8;
+    } else if (indeig && (il < 1 || il > Math.max(1, n))) {
+      info.val = -9;
+    } else if (indeig && (iu < Math.min(n, il) || iu > n)) {
+      info.val = -10;
+    } else if (ldz < 1 || (wantz && ldz < n)) {
+      info.val = -15;
+    } else if (lwork < lwmin && !lquery) {
+      info.val = -18;
+    } else if (liwork < liwmin && !lquery) {
+      info.val = -20;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = lwmin;
+      iwork[offsetiwork] = liwmin;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SSYEVR", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    m.val = 0;
+    if (n == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    if (n == 1) {
+      work[offsetwork] = 7;
+      if (alleig || indeig || (vl < a[offseta] && vu >= a[offseta])) {
+        m.val = 1;
+        w[offsetw] = a[offseta];
+      }
+      if (wantz) {
+        z[offsetz] = 1.0f;
+        isuppz[offsetisuppz] = 1;
+        isuppz[offsetisuppz + 1] = 1;
+      }
+      return;
+    }
+    // Scale the matrix to the allowable range, if necessary
+    float safmin = org.netlib.lapack.Slamch.slamch("Safe minimum");
+    float eps = org.netlib.lapack.Slamch.slamch("Precision");
+    float smlnum = safmin / eps;
+    float rmin = (float) Math.sqrt(smlnum);
+    float rmax = Math.min((float) Math.sqrt(1.0f / smlnum), 1.0f / (float) Math.sqrt(Math.sqrt(safmin)));
+    float anrm = org.netlib.lapack.Slansy.slansy("M", uplo, n, a, offseta, lda, new float[1], 0);
+    float sigma = 1.0f;
+    if (anrm > 0.0f && anrm < rmin) {
+      sigma = rmin / anrm;
+    } else if (anrm > rmax) {
+      sigma = rmax / anrm;
+    }
+    float abstll = abstol;
+    float vll = vl;
+    float vuu = vu;
+    if (sigma != 1.0f) {
+      org.netlib.lapack.Slascl.slascl(uplo, 0, 0, 1.0f, sigma, n, n, a, offseta, lda, info);
+      if (abstol > 0.0f) {
+        abstll = abstol * sigma;
+      }
+      if (valeig) {
+        vll = vl * sigma;
+        vuu = vu * sigma;
+      }
+    }
+    float[] d = new float[n];
+    float[] e = new float[n];
+    float[] tau = new float[n];
+    ssytrd(!lower, n, a, offseta, lda, d, 0, e, 0, tau, 0);
+    boolean done = false;
+    if (alleig || (indeig && il == 1 && iu == n)) {
+      if (!wantz) {
+        System.arraycopy(d, 0, w, offsetw, n);
+        org.netlib.lapack.Ssterf.ssterf(n, w, offsetw, e.clone(), 0, info);
+      } else {
+        int lwk = 18 * n;
+        int liwk = 10 * n;
+        org.netlib.util.booleanW tryrac = new org.netlib.util.booleanW(abstol <= 2 * n * eps);
+        org.netlib.lapack.Sstemr.sstemr(jobz, "A", n, d.clone(), 0, e.clone(), 0, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, n, isuppz, offsetisuppz, tryrac, new float[lwk], 0, lwk, new int[liwk], 0, liwk, info);
+        if (info.val == 0) {
+          sormtr(!lower, n, m.val, a, offseta, lda, tau, 0, z, offsetz, ldz);
+        }
+      }
+      if (info.val == 0) {
+        m.val = n;
+        done = true;
+      } else {
+        // Fall back on bisection and inverse iteration
+        info.val = 0;
+      }
+    }
+    int[] iblock = new int[n];
+    if (!done) {
+      int[] isplit = new int[n];
+      intW nsplit = new intW(0);
+      org.netlib.lapack.Sstebz.sstebz(range, wantz ? "B" : "E", n, vll, vuu, il, iu, abstll, d, 0, e, 0, m, nsplit, w, offsetw, iblock, 0, isplit, 0, new float[4 * n], 0, new int[3 * n], 0, info);
+      if (wantz) {
+        org.netlib.lapack.Sstein.sstein(n, d, 0, e, 0, m.val, w, offsetw, iblock, 0, isplit, 0, z, offsetz, ldz, new float[5 * n], 0, new int[n], 0, new int[n], 0, info);
+        sormtr(!lower, n, m.val, a, offseta, lda, tau, 0, z, offsetz, ldz);
+      }
+    }
+    if (sigma != 1.0f) {
+      int imax = info.val == 0 ? m.val : info.val - 1;
+      org.netlib.blas.Sscal.sscal(imax, 1.0f / sigma, w, offsetw, 1);
+    }
+    // Sort the eigenvalues in increasing order, along with their eigenvectors, as bisection returns them
+    // by split block
+    if (wantz) {
+      for (int j = 0; j < m.val - 1; j++) {
+        int i = -1;
+        float tmp = w[offsetw + j];
+        for (int jj = j + 1; jj < m.val; jj++) {
+          if (w[offsetw + jj] < tmp) {
+            i = jj;
+            tmp = w[offsetw + jj];
+          }
+        }
+        if (i >= 0) {
+          w[offsetw + i] = w[offsetw + j];
+          w[offsetw + j] = tmp;
+          org.netlib.blas.Sswap.sswap(n, z, offsetz + i * ldz, 1, z, offsetz + j * ldz, 1);
+        }
+      }
+    }
+    work[offsetwork] = lwmin;
+    iwork[offsetiwork] = liwmin;
+  }
+
+  protected void ssytrdK(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean upper = Lsame.lsame(uplo, "U");
+    boolean lquery = lwork == -1;
+    if (!upper && !Lsame.lsame(uplo, "L")) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, n)) {
+      info.val = -4;
+    } else if (lwork < 1 && !lquery) {
+      info.val = -9;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = 1;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SSYTRD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (n == 0) {
+      return;
+    }
+    ssytrd(upper, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau);
+  }
+
+  // Blocked reduction to tridiagonal form, as in LAPACK's ssytrd: slatrd reduces a panel of columns and
+  // returns the matrix W with which the rank-2k update A = A - V * W**T - W * V**T brings the rest of the
+  // matrix up to date
+  private void ssytrd(boolean upper, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau) {
+    String uplo = upper ? "U" : "L";
+    float[] w = new float[n * BLOCK];
+    intW info = new intW(0);
+    if (upper) {
+      // The leading kk columns are left to the unblocked reduction
+      int kk = n <= BLOCK ? n : n - (n - 1) / BLOCK * BLOCK;
+      for (int i = n - BLOCK; i >= kk; i -= BLOCK) {
+        org.netlib.lapack.Slatrd.slatrd(uplo, i + BLOCK, BLOCK, a, offseta, lda, e, offsete, tau, offsettau, w, 0, n);
+        ssyr2kUpdate(true, i, BLOCK, a, offseta + i * lda, lda, w, 0, n, a, offseta, lda);
+        for (int j = i; j < i + BLOCK; j++) {
+          a[offseta + j - 1 + j * lda] = e[offsete + j - 1];
+          d[offsetd + j] = a[offseta + j + j * lda];
+        }
+      }
+      org.netlib.lapack.Ssytd2.ssytd2(uplo, kk, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+    } else {
+      int i = 0;
+      for (; i < n - BLOCK; i += BLOCK) {
+        int offsetii = offseta + i + i * lda;
+        org.netlib.lapack.Slatrd.slatrd(uplo, n - i, BLOCK, a, offsetii, lda, e, offsete + i, tau, offsettau + i, w, 0, n);
+        ssyr2kUpdate(false, n - i - BLOCK, BLOCK, a, offsetii + BLOCK, lda, w, BLOCK, n, a, offsetii + BLOCK + BLOCK * lda, lda);
+        for (int j = i; j < i + BLOCK; j++) {
+          a[offseta + j + 1 + j * lda] = e[offsete + j];
+          d[offsetd + j] = a[offseta + j + j * lda];
+        }
+      }
+      org.netlib.lapack.Ssytd2.ssytd2(uplo, n - i, a, offseta + i + i * lda, lda, d, offsetd + i, e, offsete + i, tau, offsettau + i, info);
+    }
+  }
+
+  // C = C - V * W**T - W * V**T for the n x n matrix C and the n x k matrices V and W, split across threads
+  // by columns as in ssyrkUpdate
+  private void ssyr2kUpdate(boolean upper, int n, int k, float[] v, int offsetv, int ldv, float[] w, int offsetw, int ldw, float[] c, int offsetc, int ldc) {
+    int blocks = Parallel.blocks(n, MIN_COLUMNS, 2L * k * n * n);
+    int tasks = blocks == 1 ? 1 : Math.min(4 * blocks, n / MIN_COLUMNS);
+    Parallel.forEach(tasks, b -> {
+      int s = n * b / tasks;
+      int ns = n * (b + 1) / tasks - s;
+      if (upper) {
+        org.netlib.blas.Sgemm.sgemm("N", "T", s, ns, k, -1.0f, v, offsetv, ldv, w, offsetw + s, ldw, 1.0f, c, offsetc + s * ldc, ldc);
+        org.netlib.blas.Sgemm.sgemm("N", "T", s, ns, k, -1.0f, w, offsetw, ldw, v, offsetv + s, ldv, 1.0f, c, offsetc + s * ldc, ldc);
+        org.netlib.blas.Ssyr2k.ssyr2k("U", "N", ns, k, -1.0f, v, offsetv + s, ldv, w, offsetw + s, ldw, 1.0f, c, offsetc + s + s * ldc, ldc);
+      } else {
+        org.netlib.blas.Ssyr2k.ssyr2k("L", "N", ns, k, -1.0f, v, offsetv + s, ldv, w, offsetw + s, ldw, 1.0f, c, offsetc + s + s * ldc, ldc);
+        org.netlib.blas.Sgemm.sgemm("N", "T", n - s - ns, ns, k, -1.0f, v, offsetv + s + ns, ldv, w, offsetw + s, ldw, 1.0f, c, offsetc + s + ns + s * ldc, ldc);
+        org.netlib.blas.Sgemm.sgemm("N", "T", n - s - ns, ns, k, -1.0f, w, offsetw + s + ns, ldw, v, offsetv + s, ldv, 1.0f, c, offsetc + s + ns + s * ldc, ldc);
+      }
+    });
+  }
+
+  // Z = Q * Z for the n x m matrix Z and the orthogonal matrix Q of the reduction to tridiagonal form, as in
+  // LAPACK's sormtr. The reflectors of the lower reduction are those of a QR factorization and go through
+  // sormqrK, those of the upper one are those of a QL factorization and go through F2j's sormql.
+  private void sormtr(boolean upper, int n, int m, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] z, int offsetz, int ldz) {
+    if (n < 2 || m == 0) {
+      return;
+    }
+    intW info = new intW(0);
+    if (upper) {
+      float[] work = new float[m * BLOCK];
+      org.netlib.lapack.Sormql.sormql("L", "N", n - 1, m, n - 1, a, offseta + lda, lda, tau, offsettau, z, offsetz, ldz, work, 0, work.length, info);
+    } else {
+      sormqrK("L", "N", n - 1, m, n - 1, a, offseta + 1, lda, tau, offsettau, z, offsetz + 1, ldz, new float[m], 0, m, info);
+    }
+  }
+
+  // Eigenvalues and eigenvectors of the symmetric tridiagonal matrix of diagonal d and off-diagonal e, as in
+  // LAPACK's sstedc with compz = I: the matrix splits where its off-diagonal is negligible, and the blocks
+  // larger than SMLSIZ go through the divide and conquer of slaed0. The eigenvalues are returned in d in
+  // increasing order, and the eigenvectors in the n x n matrix z.
+  private void sstedc(int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, intW info) {
+    info.val = 0;
+    for (int j = 0; j < n; j++) {
+      java.util.Arrays.fill(z, offsetz + j * ldz, offsetz + j * ldz + n, 0.0f);
+      z[offsetz + j + j * ldz] = 1.0f;
+    }
+    float[] work = new float[Math.max(1, 2 * n - 2)];
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Ssteqr.ssteqr("I", n, d, offsetd, e, offsete, z, offsetz, ldz, work, 0, info);
+      return;
+    }
+    float eps = org.netlib.lapack.Slamch.slamch("Epsilon");
+    if (org.netlib.lapack.Slanst.slanst("M", n, d, offsetd, e, offsete) == 0.0f) {
+      return;
+    }
+    for (int start = 0, finish; start < n; start = finish + 1) {
+      finish = start;
+      while (finish < n - 1) {
+        float tiny = eps * (float) Math.sqrt(Math.abs(d[offsetd + finish])) * (float) Math.sqrt(Math.abs(d[offsetd + finish + 1]));
+        if (Math.abs(e[offsete + finish]) <= tiny) {
+          break;
+        }
+        finish++;
+      }
+      int m = finish - start + 1;
+      if (m == 1) {
+        continue;
+      }
+      int offsetzz = offsetz + start + start * ldz;
+      if (m <= SMLSIZ) {
+        org.netlib.lapack.Ssteqr.ssteqr("I", m, d, offsetd + start, e, offsete + start, z, offsetzz, ldz, work, 0, info);
+        if (info.val != 0) {
+          info.val = (start + 1) * (n + 1) + finish + 1;
+          return;
+        }
+        continue;
+      }
+      // Scale the block to unit norm
+      float orgnrm = org.netlib.lapack.Slanst.slanst("M", m, d, offsetd + start, e, offsete + start);
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, orgnrm, 1.0f, m, 1, d, offsetd + start, m, info);
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, orgnrm, 1.0f, m - 1, 1, e, offsete + start, m - 1, info);
+      int[] indxq = new int[m];
+      slaed0(m, d, offsetd + start, e, offsete + start, z, offsetzz, ldz, indxq, info);
+      if (info.val != 0) {
+        info.val = (info.val / (m + 1) + start) * (n + 1) + info.val % (m + 1) + start;
+        return;
+      }
+      // Sort the eigenpairs of the block, which indxq merges in increasing order
+      float[] dd = new float[m];
+      float[] zz = new float[m * m];
+      for (int i = 0; i < m; i++) {
+        int j = indxq[i] - 1;
+        dd[i] = d[offsetd + start + j];
+        System.arraycopy(z, offsetzz + j * ldz, zz, i * m, m);
+      }
+      System.arraycopy(dd, 0, d, offsetd + start, m);
+      for (int j = 0; j < m; j++) {
+        System.arraycopy(zz, j * m, z, offsetzz + j * ldz, m);
+      }
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, 1.0f, orgnrm, m, 1, d, offsetd + start, m, info);
+    }
+    // Sort the eigenvalues in increasing order across blocks, along with their eigenvectors
+    for (int i = 0; i < n - 1; i++) {
+      int k = i;
+      float p = d[offsetd + i];
+      for (int j = i + 1; j < n; j++) {
+        if (d[offsetd + j] < p) {
+          k = j;
+          p = d[offsetd + j];
+        }
+      }
+      if (k != i) {
+        d[offsetd + k] = d[offsetd + i];
+        d[offsetd + i] = p;
+        org.netlib.blas.Sswap.sswap(n, z, offsetz + i * ldz, 1, z, offsetz + k * ldz, 1);
+      }
+    }
+  }
+
+  // Divide and conquer on the unreduced n x n tridiagonal block, as in LAPACK's slaed0 with icompq = 2, with
+  // the two halves solved in parallel. On return, d holds the eigenvalues, q the matching eigenvectors, and
+  // the 1-based permutation indxq sorts them in increasing order.
+  private void slaed0(int n, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, int[] indxq, intW info) {
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Ssteqr.ssteqr("I", n, d, offsetd, e, offsete, q, offsetq, ldq, new float[Math.max(1, 2 * n - 2)], 0, info);
+      if (info.val != 0) {
+        info.val = n;
+        return;
+      }
+      for (int i = 0; i < n; i++) {
+        indxq[i] = i + 1;
+      }
+      return;
+    }
+    // Tear the matrix in two with a rank-one modification
+    int n1 = n / 2;
+    int n2 = n - n1;
+    float rho = e[offsete + n1 - 1];
+    d[offsetd + n1 - 1] -= Math.abs(rho);
+    d[offsetd + n1] -= Math.abs(rho);
+    int[] indxq1 = new int[n1];
+    int[] indxq2 = new int[n2];
+    intW info1 = new intW(0);
+    intW info2 = new intW(0);
+    int tasks = Parallel.blocks(2, 1, (long) n * n * n);
+    Parallel.forEach(tasks, b -> {
+      for (int h = 2 * b / tasks; h < 2 * (b + 1) / tasks; h++) {
+        if (h == 0) {
+          slaed0(n1, d, offsetd, e, offsete, q, offsetq, ldq, indxq1, info1);
+        } else {
+          slaed0(n2, d, offsetd + n1, e, offsete + n1, q, offsetq + n1 + n1 * ldq, ldq, indxq2, info2);
+        }
+      }
+    });
+    if (info1.val != 0 || info2.val != 0) {
+      info.val = info1.val != 0 ? info1.val : info2.val + n1 * (n + 1);
+      return;
+    }
+    System.arraycopy(indxq1, 0, indxq, 0, n1);
+    System.arraycopy(indxq2, 0, indxq, n1, n2);
+    slaed1(n, d, offsetd, q, offsetq, ldq, indxq, rho, n1, info);
+  }
+
+  // Merges the eigensystems of the two halves of a torn tridiagonal matrix, as in LAPACK's slaed1: slaed2
+  // deflates the rank-one modification, and slaed3 solves the secular equation for the rest
+  private void slaed1(int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, float rho, int cutpnt, intW info) {
+    // z is the last row of the first half and the first row of the second half of q
+    float[] z = new float[n];
+    for (int j = 0; j < cutpnt; j++) {
+      z[j] = q[offsetq + cutpnt - 1 + j * ldq];
+    }
+    for (int j = cutpnt; j < n; j++) {
+      z[j] = q[offsetq + cutpnt + j * ldq];
+    }
+    float[] dlamda = new float[n];
+    float[] w = new float[n];
+    float[] q2 = new float[n * n];
+    // dlaed2 reads one past the end of indx before testing for the end of its deflation loop
+    int[] indx = new int[n + 1];
+    int[] indxc = new int[n];
+    int[] indxp = new int[n];
+    int[] coltyp = new int[n];
+    intW k = new intW(0);
+    floatW rhoW = new floatW(rho);
+    org.netlib.lapack.Slaed2.slaed2(k, n, cutpnt, d, offsetd, q, offsetq, ldq, indxq, 0, rhoW, z, 0, dlamda, 0, w, 0, q2, 0, indx, 0, indxc, 0, indxp, 0, coltyp, 0, info);
+    if (info.val != 0) {
+      return;
+    }
+    if (k.val != 0) {
+      slaed3(k.val, n, cutpnt, d, offsetd, q, offsetq, ldq, rhoW.val, dlamda, q2, indxc, coltyp, w, info);
+      if (info.val != 0) {
+        return;
+      }
+      // Merge the nondeflated and the deflated eigenvalues into a single sorted list
+      org.netlib.lapack.Slamrg.slamrg(k.val, n - k.val, d, offsetd, 1, -1, indxq, 0);
+    } else {
+      for (int i = 0; i < n; i++) {
+        indxq[i] = i + 1;
+      }
+    }
+  }
+
+  // Roots of the secular equation and the matching eigenvectors, as in LAPACK's slaed3, with the roots, the
+  // eigenvectors of the rank-one modification and their back-transformation by the eigenvectors of the two
+  // halves all split across threads
+  private void slaed3(int k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, float[] q2, int[] indx, int[] ctot, float[] w, intW info) {
+    // Each root takes a few iterations of O(k) operations
+    int blocks = Parallel.blocks(k, MIN_COLUMNS, 32L * k * k);
+    int[] failed = new int[blocks];
+    Parallel.forEach(blocks, b -> {
+      floatW dlam = new floatW(0.0f);
+      intW iinfo = new intW(0);
+      for (int j = k * b / blocks, end = k * (b + 1) / blocks; j < end; j++) {
+        org.netlib.lapack.Slaed4.slaed4(k, j + 1, dlamda, 0, w, 0, q, offsetq + j * ldq, rho, dlam, iinfo);
+        if (iinfo.val != 0) {
+          failed[b] = iinfo.val;
+          return;
+        }
+        d[offsetd + j] = dlam.val;
+      }
+    });
+    for (int f : failed) {
+      if (f != 0) {
+        info.val = f;
+        return;
+      }
+    }
+    if (k == 2) {
+      for (int j = 0; j < k; j++) {
+        w[0] = q[offsetq + j * ldq];
+        w[1] = q[offsetq + 1 + j * ldq];
+        q[offsetq + j * ldq] = w[indx[0] - 1];
+        q[offsetq + 1 + j * ldq] = w[indx[1] - 1];
+      }
+    } else if (k > 2) {
+      // Recompute z from the roots, for the eigenvectors to come out orthogonal
+      float[] s = java.util.Arrays.copyOf(w, k);
+      int rows = Parallel.blocks(k, MIN_COLUMNS, 2L * k * k);
+      Parallel.forEach(rows, b -> {
+        for (int i = k * b / rows, end = k * (b + 1) / rows; i < end; i++) {
+          float wi = q[offsetq + i + i * ldq];
+          for (int j = 0; j < k; j++) {
+            if (j != i) {
+              wi *= q[offsetq + i + j * ldq] / (dlamda[i] - dlamda[j]);
+            }
+          }
+          w[i] = s[i] >= 0.0f ? (float) Math.sqrt(-wi) : -(float) Math.sqrt(-wi);
+        }
+      });
+      int columns = Parallel.blocks(k, MIN_COLUMNS, 2L * k * k);
+      Parallel.forEach(columns, b -> {
+        float[] t = new float[k];
+        for (int j = k * b / columns, end = k * (b + 1) / columns; j < end; j++) {
+          int offsetj = offsetq + j * ldq;
+          for (int i = 0; i < k; i++) {
+            t[i] = w[i] / q[offsetj + i];
+          }
+          float norm = org.netlib.blas.Snrm2.snrm2(k, t, 0, 1);
+          for (int i = 0; i < k; i++) {
+            q[offsetj + i] = t[indx[i] - 1] / norm;
+          }
+        }
+      });
+    }
+    // Back-transform by the eigenvectors of the two halves, skipping the columns of q2 whose rows in the
+    // other half are known to be zero
+    int n2 = n - n1;
+    int n12 = ctot[0] + ctot[1];
+    int n23 = ctot[1] + ctot[2];
+    float[] s = new float[Math.max(1, Math.max(n12, n23) * k)];
+    for (int j = 0; j < k; j++) {
+      System.arraycopy(q, offsetq + ctot[0] + j * ldq, s, j * n23, n23);
+    }
+    sgemmColumns(n2, k, n23, q2, n1 * n12, n2, s, n23, q, offsetq + n1, ldq);
+    for (int j = 0; j < k; j++) {
+      System.arraycopy(q, offsetq + j * ldq, s, j * n12, n12);
+    }
+    sgemmColumns(n1, k, n12, q2, 0, n1, s, n12, q, offsetq, ldq);
+  }
+
+  // C = A * B for the m x k matrix A, the k x n matrix B, and the m x n matrix C, split across threads by
+  // columns of C
+  private void sgemmColumns(int m, int n, int k, float[] a, int offseta, int lda, float[] b, int ldb, float[] c, int offsetc, int ldc) {
+    if (k == 0) {
+      for (int j = 0; j < n; j++) {
+        java.util.Arrays.fill(c, offsetc + j * ldc, offsetc + j * ldc + m, 0.0f);
+      }
+      return;
+    }
+    int blocks = Parallel.blocks(n, MIN_COLUMNS, 2L * m * n * k);
+    Parallel.forEach(blocks, p -> {
+      int s = n * p / blocks;
+      int ns = n * (p + 1) / blocks - s;
+      org.netlib.blas.Sgemm.sgemm("N", "N", m, ns, k, 1.0f, a, offseta, lda, b, s * ldb, ldb, 0.0f, c, offsetc + s * ldc, ldc);
+    });
+  }
+
+  // Divide and conquer SVD, as in LAPACK's sgesdd. A wide matrix goes through the SVD of its transpose, and
+  // a tall one through sgesdd below.
+  protected void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, intW info) {
+    info.val = 0;
+    int minmn = Math.min(m, n);
+    int maxmn = Math.max(m, n);
+    boolean wntqa = Lsame.lsame(jobz, "A");
+    boolean wntqs = Lsame.lsame(jobz, "S");
+    boolean wntqo = Lsame.lsame(jobz, "O");
+    boolean wntqn = Lsame.lsame(jobz, "N");
+    boolean lquery = lwork == -1;
+    // The workspace is allocated as needed, so the documented minimum is as good as any
+    int minwrk;
+    if (minmn == 0) {
+      minwrk = 1;
+    } else if (wntqn) {
+      minwrk = 3 * minmn + Math.max(maxmn, 7 * minmn);
+    } else if (wntqo) {
+      minwrk = 3 * minmn * minmn + Math.max(maxmn, 5 * minmn * minmn + 4 * minmn);
+    } else {
+      minwrk = 3 * minmn * minmn + Math.max(maxmn, 4 * minmn * minmn + 4 * minmn);
+    }
+    if (!wntqa && !wntqs && !wntqo && !wntqn) {
+      info.val = -1;
+    } else if (m < 0) {
+      info.val = -2;
+    } else if (n < 0) {
+      info.val = -3;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -5;
+    } else if (ldu < 1 || ((wntqa || wntqs) && ldu < m) || (wntqo && m < n && ldu < m)) {
+      info.val = -8;
+    } else if (ldvt < 1 || (wntqa && ldvt < n) || (wntqs && ldvt < minmn) || (wntqo && m >= n && ldvt < n)) {
+      info.val = -10;
+    } else if (lwork < minwrk && !lquery) {
+      info.val = -12;
+    }
+    if (info.val == 0) {
+      work[offsetwork] = minwrk;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SGESDD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (minmn == 0) {
+      return;
+    }
+    // Scale the matrix to the allowable range, if necessary
+    float eps = org.netlib.lapack.Slamch.slamch("P");
+    float smlnum = (float) Math.sqrt(org.netlib.lapack.Slamch.slamch("S")) / eps;
+    float bignum = 1.0f / smlnum;
+    float anrm = org.netlib.lapack.Slange.slange("M", m, n, a, offseta, lda, new float[1], 0);
+    if (Float.isNaN(anrm)) {
+      // A NaN keeps the bidiagonal SVD of the reference implementation from converging, which it reports
+      // with info > 0 when computing vectors. Leave such input to it, with a workspace of the size it asks
+      // for, so that info is the same.
+      float[] query = new float[1];
+      super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, query, 0, -1, iwork, offsetiwork, info);
+      float[] nwork = new float[(int) query[0]];
+      super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, nwork, 0, nwork.length, iwork, offsetiwork, info);
+      return;
+    }
+    float scaled = anrm > 0.0f && anrm < smlnum ? smlnum : anrm > bignum ? bignum : anrm;
+    if (scaled != anrm) {
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, anrm, scaled, m, n, a, offseta, lda, info);
+    }
+    // Columns of U wanted for the tall matrix, none for the singular values only
+    int ucols = wntqn ? 0 : wntqa ? maxmn : minmn;
+    if (m >= n) {
+      if (wntqo) {
+        float[] uo = new float[m * n];
+        sgesdd(m, n, ucols, a, offseta, lda, s, offsets, uo, 0, m, vt, offsetvt, ldvt, info);
+        for (int j = 0; j < n; j++) {
+          System.arraycopy(uo, j * m, a, offseta + j * lda, m);
+        }
+      } else {
+        sgesdd(m, n, ucols, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+      }
+    } else {
+      // A**T = U1 * S * V1**T, so U = V1 and V**T = U1**T, with the first m rows of V**T overwriting A for
+      // jobz = O
+      float[] at = new float[n * m];
+      for (int j = 0; j < n; j++) {
+        for (int i = 0; i < m; i++) {
+          at[j + i * n] = a[offseta + i + j * lda];
+        }
+      }
+      float[] u1 = wntqn ? null : new float[n * ucols];
+      float[] vt1 = wntqn ? null : new float[m * m];
+      sgesdd(n, m, ucols, at, 0, n, s, offsets, u1, 0, n, vt1, 0, m, info);
+      if (!wntqn && info.val == 0) {
+        for (int j = 0; j < m; j++) {
+          for (int i = 0; i < m; i++) {
+            u[offsetu + i + j * ldu] = vt1[j + i * m];
+          }
+        }
+        float[] v = wntqo ? a : vt;
+        int offsetv = wntqo ? offseta : offsetvt;
+        int ldv = wntqo ? lda : ldvt;
+        for (int j = 0; j < n; j++) {
+          for (int i = 0; i < ucols; i++) {
+            v[offsetv + i + j * ldv] = u1[j + i * n];
+          }
+        }
+      }
+    }
+    if (scaled != anrm) {
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, scaled, anrm, minmn, 1, s, offsets, minmn, info);
+    }
+  }
+
+  // SVD of the m x n matrix A, with m >= n, into the first ucols columns of U, n or m of them, and the n x n
+  // matrix V**T, or only the singular values if ucols is 0. With many more rows than columns, as in LAPACK,
+  // it goes through the SVD of the triangular factor of A's QR factorization. A is destroyed.
+  private void sgesdd(int m, int n, int ucols, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, intW info) {
+    if (m < n * 11 / 6) {
+      sgesddDirect(m, n, ucols, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+      return;
+    }
+    float[] tau = new float[n];
+    sgeqrfK(m, n, a, offseta, lda, tau, 0, new float[n], 0, n, info);
+    float[] r = new float[n * n];
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(a, offseta + j * lda, r, j * n, j + 1);
+    }
+    if (ucols == 0) {
+      sgesddDirect(n, n, 0, r, 0, n, s, offsets, null, 0, 1, null, 0, 1, info);
+      return;
+    }
+    float[] ur = new float[n * n];
+    sgesddDirect(n, n, n, r, 0, n, s, offsets, ur, 0, n, vt, offsetvt, ldvt, info);
+    if (info.val != 0) {
+      return;
+    }
+    // U = Q * [Ur 0; 0 I]
+    for (int j = 0; j < ucols; j++) {
+      java.util.Arrays.fill(u, offsetu + j * ldu, offsetu + j * ldu + m, 0.0f);
+      if (j < n) {
+        System.arraycopy(ur, j * n, u, offsetu + j * ldu, n);
+      } else {
+        u[offsetu + j + j * ldu] = 1.0f;
+      }
+    }
+    sormqrK("L", "N", m, ucols, n, a, offseta, lda, tau, 0, u, offsetu, ldu, new float[ucols], 0, ucols, info);
+  }
+
+  // SVD of the m x n matrix A, with m >= n, through its reduction to bidiagonal form A = Q * B * P**T and
+  // the SVD of B by divide and conquer, with the singular vectors of B transformed back by Q and P**T
+  private void sgesddDirect(int m, int n, int ucols, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, intW info) {
+    float[] e = new float[n];
+    float[] tauq = new float[n];
+    float[] taup = new float[n];
+    sgebrd(m, n, a, offseta, lda, s, offsets, e, 0, tauq, 0, taup, 0);
+    if (ucols == 0) {
+      org.netlib.lapack.Sbdsdc.sbdsdc("U", "N", n, s, offsets, e, 0, new float[1], 0, 1, new float[1], 0, 1, new float[1], 0, new int[1], 0, new float[7 * n], 0, new int[8 * n], 0, info);
+      return;
+    }
+    float[] ub = new float[n * n];
+    sbdsdc(n, s, offsets, e, 0, ub, 0, n, vt, offsetvt, ldvt, info);
+    if (info.val != 0) {
+      return;
+    }
+    // U = Q * [Ub 0; 0 I]
+    for (int j = 0; j < ucols; j++) {
+      java.util.Arrays.fill(u, offsetu + j * ldu, offsetu + j * ldu + m, 0.0f);
+      if (j < n) {
+        System.arraycopy(ub, j * n, u, offsetu + j * ldu, n);
+      } else {
+        u[offsetu + j + j * ldu] = 1.0f;
+      }
+    }
+    sormqrK("L", "N", m, ucols, n, a, offseta, lda, tauq, 0, u, offsetu, ldu, new float[ucols], 0, ucols, info);
+    // V**T = Vb**T * P**T, where the reflectors of P are those of an LQ factorization of A(0:n, 1:n), split
+    // across threads by rows of V**T
+    if (n > 1) {
+      int blocks = Parallel.blocks(n, MIN_COLUMNS, 2L * n * n * n);
+      Parallel.forEach(blocks, b -> {
+        int r = n * b / blocks;
+        int nr = n * (b + 1) / blocks - r;
+        float[] work = new float[nr * BLOCK];
+        org.netlib.lapack.Sormlq.sormlq("R", "N", nr, n - 1, n - 1, a, offseta + lda, lda, taup, 0, vt, offsetvt + r + ldvt, ldvt, work, 0, work.length, new intW(0));
+      });
+    }
+  }
+
+  protected void sgebrdK(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, intW info) {
+    info.val = 0;
+    boolean lquery = lwork == -1;
+    int lwmin = Math.max(1, Math.max(m, n));
+    work[offsetwork] = lwmin;
+    if (m < 0) {
+      info.val = -1;
+    } else if (n < 0) {
+      info.val = -2;
+    } else if (lda < Math.max(1, m)) {
+      info.val = -4;
+    } else if (lwork < lwmin && !lquery) {
+      info.val = -10;
+    }
+    if (info.val != 0) {
+      Xerbla.xerbla("SGEBRD", -info.val);
+      return;
+    } else if (lquery) {
+      return;
+    }
+    if (Math.min(m, n) == 0) {
+      work[offsetwork] = 1;
+      return;
+    }
+    sgebrd(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup);
+  }
+
+  // Blocked reduction to bidiagonal form, as in LAPACK's sgebrd: dlabrd reduces a panel of rows and columns
+  // and returns the matrices X and Y with which the update A = A - V * Y**T - X * U**T, half of the
+  // operations, brings the rest of the matrix up to date, split across threads by columns
+  private void sgebrd(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup) {
+    int minmn = Math.min(m, n);
+    float[] x = new float[m * BLOCK];
+    float[] y = new float[n * BLOCK];
+    int i = 0;
+    for (; i < minmn - BLOCK; i += BLOCK) {
+      int offsetii = offseta + i + i * lda;
+      org.netlib.lapack.Slabrd.slabrd(m - i, n - i, BLOCK, a, offsetii, lda, d, offsetd + i, e, offsete + i, tauq, offsettauq + i, taup, offsettaup + i, x, 0, m, y, 0, n);
+      int rows = m - i - BLOCK;
+      int cols = n - i - BLOCK;
+      int blocks = Parallel.blocks(cols, MIN_COLUMNS, 4L * rows * cols * BLOCK);
+      Parallel.forEach(blocks, b -> {
+        int c = cols * b / blocks;
+        int nc = cols * (b + 1) / blocks - c;
+        int offsetc = offsetii + BLOCK + (BLOCK + c) * lda;
+        org.netlib.blas.Sgemm.sgemm("N", "T", rows, nc, BLOCK, -1.0f, a, offsetii + BLOCK, lda, y, BLOCK + c, n, 1.0f, a, offsetc, lda);
+        org.netlib.blas.Sgemm.sgemm("N", "N", rows, nc, BLOCK, -1.0f, x, BLOCK, m, a, offsetii + (BLOCK + c) * lda, lda, 1.0f, a, offsetc, lda);
+      });
+      for (int j = i; j < i + BLOCK; j++) {
+        a[offseta + j + j * lda] = d[offsetd + j];
+        if (m >= n) {
+          a[offseta + j + (j + 1) * lda] = e[offsete + j];
+        } else {
+          a[offseta + j + 1 + j * lda] = e[offsete + j];
+        }
+      }
+    }
+    org.netlib.lapack.Sgebd2.sgebd2(m - i, n - i, a, offseta + i + i * lda, lda, d, offsetd + i, e, offsete + i, tauq, offsettauq + i, taup, offsettaup + i, new float[Math.max(m, n)], 0, new intW(0));
+  }
+
+  protected void sbdsdcK(String uplo, String compq, int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] q, int offsetq, int[] iq, int offsetiq, float[] work, int offsetwork, int[] iwork, int offsetiwork, intW info) {
+    // Only the upper bidiagonal matrix with its singular vectors goes through the parallel divide and conquer
+    if (!Lsame.lsame(uplo, "U") || !Lsame.lsame(compq, "I") || n < 0 || ldu < Math.max(1, n) || ldvt < Math.max(1, n)) {
+      super.sbdsdcK(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+      return;
+    }
+    info.val = 0;
+    sbdsdc(n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  // SVD B = U * S * V**T of the n x n upper bidiagonal matrix B of diagonal d and superdiagonal e, as in
+  // LAPACK's sbdsdc with compq = I: the matrix splits where its superdiagonal is negligible, and the blocks
+  // go through the divide and conquer of slasd0. The singular values are returned in d in decreasing order.
+  private void sbdsdc(int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, intW info) {
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    if (n == 1) {
+      u[offsetu] = Math.copySign(1.0f, d[offsetd]);
+      vt[offsetvt] = 1.0f;
+      d[offsetd] = Math.abs(d[offsetd]);
+      return;
+    }
+    for (int j = 0; j < n; j++) {
+      java.util.Arrays.fill(u, offsetu + j * ldu, offsetu + j * ldu + n, 0.0f);
+      java.util.Arrays.fill(vt, offsetvt + j * ldvt, offsetvt + j * ldvt + n, 0.0f);
+      u[offsetu + j + j * ldu] = 1.0f;
+      vt[offsetvt + j + j * ldvt] = 1.0f;
+    }
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Slasdq.slasdq("U", 0, n, n, n, 0, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, u, offsetu, ldu, new float[4 * n], 0, info);
+    } else {
+      float orgnrm = org.netlib.lapack.Slanst.slanst("M", n, d, offsetd, e, offsete);
+      if (orgnrm == 0.0f) {
+        return;
+      }
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, orgnrm, 1.0f, n, 1, d, offsetd, n, info);
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, orgnrm, 1.0f, n - 1, 1, e, offsete, n - 1, info);
+      float eps = org.netlib.lapack.Slamch.slamch("Epsilon");
+      for (int i = 0; i < n; i++) {
+        if (Math.abs(d[offsetd + i]) < eps) {
+          d[offsetd + i] = org.netlib.util.Util.sign(eps, d[offsetd + i]);
+        }
+      }
+      int[] idxq = new int[n];
+      for (int i = 0, start = 0; i < n - 1; i++) {
+        if (Math.abs(e[offsete + i]) >= eps && i < n - 2) {
+          continue;
+        }
+        int nsize;
+        if (i < n - 2) {
+          nsize = i - start + 1;
+        } else if (Math.abs(e[offsete + i]) >= eps) {
+          nsize = n - start;
+        } else {
+          // The last diagonal element splits off on its own
+          nsize = i - start + 1;
+          u[offsetu + n - 1 + (n - 1) * ldu] = org.netlib.util.Util.sign(1.0f, d[offsetd + n - 1]);
+          vt[offsetvt + n - 1 + (n - 1) * ldvt] = 1.0f;
+          d[offsetd + n - 1] = Math.abs(d[offsetd + n - 1]);
+        }
+        slasd0(nsize, 0, d, offsetd + start, e, offsete + start, u, offsetu + start * (1 + ldu), ldu, vt, offsetvt + start * (1 + ldvt), ldvt, idxq, start, info);
+        if (info.val != 0) {
+          return;
+        }
+        start = i + 1;
+      }
+      org.netlib.lapack.Slascl.slascl("G", 0, 0, 1.0f, orgnrm, n, 1, d, offsetd, n, info);
+    }
+    // Sort the singular values in decreasing order, along with their singular vectors
+    for (int i = 0; i < n - 1; i++) {
+      int k = i;
+      float p = d[offsetd + i];
+      for (int j = i + 1; j < n; j++) {
+        if (d[offsetd + j] > p) {
+          k = j;
+          p = d[offsetd + j];
+        }
+      }
+      if (k != i) {
+        d[offsetd + k] = d[offsetd + i];
+        d[offsetd + i] = p;
+        org.netlib.blas.Sswap.sswap(n, u, offsetu + i * ldu, 1, u, offsetu + k * ldu, 1);
+        org.netlib.blas.Sswap.sswap(n, vt, offsetvt + i, ldvt, vt, offsetvt + k, ldvt);
+      }
+    }
+  }
+
+  // Divide and conquer on the n x (n + sqre) upper bidiagonal block, as in LAPACK's slasd0, with the two
+  // halves solved in parallel. On return, the 1-based permutation idxq sorts the singular values in d.
+  private void slasd0(int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, intW info) {
+    if (n <= SMLSIZ) {
+      org.netlib.lapack.Slasdq.slasdq("U", sqre, n, n + sqre, n, 0, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, u, offsetu, ldu, new float[4 * (n + 1)], 0, info);
+      for (int i = 0; i < n; i++) {
+        idxq[offsetidxq + i] = i + 1;
+      }
+      return;
+    }
+    // Split B into [B1 0; alpha beta; 0 B2], with B1 nl x (nl + 1) and B2 nr x (nr + sqre)
+    int nl = n / 2;
+    int nr = n - nl - 1;
+    intW info1 = new intW(0);
+    intW info2 = new intW(0);
+    int tasks = Parallel.blocks(2, 1, (long) n * n * n);
+    Parallel.forEach(tasks, b -> {
+      for (int h = 2 * b / tasks; h < 2 * (b + 1) / tasks; h++) {
+        if (h == 0) {
+          slasd0(nl, 1, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, info1);
+        } else {
+          slasd0(nr, sqre, d, offsetd + nl + 1, e, offsete + nl + 1, u, offsetu + (nl + 1) * (1 + ldu), ldu, vt, offsetvt + (nl + 1) * (1 + ldvt), ldvt, idxq, offsetidxq + nl + 1, info2);
+        }
+      }
+    });
+    if (info1.val != 0 || info2.val != 0) {
+      info.val = info1.val != 0 ? info1.val : info2.val;
+      return;
+    }
+    slasd1(nl, nr, sqre, d, offsetd, d[offsetd + nl], e[offsete + nl], u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, info);
+  }
+
+  // Merges the SVDs of the two halves of a split bidiagonal matrix, as in LAPACK's slasd1: slasd2 deflates
+  // the rank-one modification, and slasd3 solves the secular equation for the rest
+  private void slasd1(int nl, int nr, int sqre, float[] d, int offsetd, float alpha, float beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, intW info) {
+    int n = nl + nr + 1;
+    int m = n + sqre;
+    // Scale to unit norm
+    float orgnrm = Math.max(Math.abs(alpha), Math.abs(beta));
+    d[offsetd + nl] = 0.0f;
+    for (int i = 0; i < n; i++) {
+      orgnrm = Math.max(orgnrm, Math.abs(d[offsetd + i]));
+    }
+    org.netlib.lapack.Slascl.slascl("G", 0, 0, orgnrm, 1.0f, n, 1, d, offsetd, n, info);
+    float[] z = new float[m];
+    float[] dsigma = new float[n];
+    float[] u2 = new float[n * n];
+    float[] vt2 = new float[m * m];
+    int[] idxp = new int[n];
+    int[] idx = new int[n];
+    int[] idxc = new int[n];
+    int[] coltyp = new int[n];
+    intW k = new intW(0);
+    org.netlib.lapack.Slasd2.slasd2(nl, nr, sqre, k, d, offsetd, z, 0, alpha / orgnrm, beta / orgnrm, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, 0, u2, 0, n, vt2, 0, m, idxp, 0, idx, 0, idxc, 0, idxq, offsetidxq, coltyp, 0, info);
+    if (info.val != 0) {
+      return;
+    }
+    slasd3(nl, nr, sqre, k.val, d, offsetd, dsigma, u, offsetu, ldu, u2, n, vt, offsetvt, ldvt, vt2, m, idxc, coltyp, z, info);
+    if (info.val != 0) {
+      return;
+    }
+    org.netlib.lapack.Slascl.slascl("G", 0, 0, 1.0f, orgnrm, n, 1, d, offsetd, n, info);
+    // Merge the nondeflated and the deflated singular values into a single sorted list
+    org.netlib.lapack.Slamrg.slamrg(k.val, n - k.val, d, offsetd, 1, -1, idxq, offsetidxq);
+  }
+
+  // Roots of the secular equation and the matching singular vectors, as in LAPACK's slasd3, with the roots,
+  // the singular vectors of the rank-one modification and their back-transformation by those of the two
+  // halves all split across threads
+  private void slasd3(int nl, int nr, int sqre, int k, float[] d, int offsetd, float[] dsigma, float[] u, int offsetu, int ldu, float[] u2, int ldu2, float[] vt, int offsetvt, int ldvt, float[] vt2, int ldvt2, int[] idxc, int[] ctot, float[] z, intW info) {
+    int n = nl + nr + 1;
+    int m = n + sqre;
+    if (k == 1) {
+      d[offsetd] = Math.abs(z[0]);
+      for (int j = 0; j < m; j++) {
+        vt[offsetvt + j * ldvt] = vt2[j * ldvt2];
+      }
+      for (int i = 0; i < n; i++) {
+        u[offsetu + i] = z[0] > 0.0f ? u2[i] : -u2[i];
+      }
+      return;
+    }
+    // q keeps a copy of z until it holds the singular vectors of the rank-one modification
+    int ldq = k;
+    float[] q = new float[k * k];
+    System.arraycopy(z, 0, q, 0, k);
+    float rho = org.netlib.blas.Snrm2.snrm2(k, z, 0, 1);
+    org.netlib.lapack.Slascl.slascl("G", 0, 0, rho, 1.0f, k, 1, z, 0, k, info);
+    float rho2 = rho * rho;
+    // Each root takes a few iterations of O(k) operations, and leaves the differences with the poles in u
+    // and their sums in vt
+    int blocks = Parallel.blocks(k, MIN_COLUMNS, 32L * k * k);
+    int[] failed = new int[blocks];
+    Parallel.forEach(blocks, b -> {
+      floatW sigma = new floatW(0.0f);
+      intW iinfo = new intW(0);
+      for (int j = k * b / blocks, end = k * (b + 1) / blocks; j < end; j++) {
+        org.netlib.lapack.Slasd4.slasd4(k, j + 1, dsigma, 0, z, 0, u, offsetu + j * ldu, rho2, sigma, vt, offsetvt + j * ldvt, iinfo);
+        if (iinfo.val != 0) {
+          failed[b] = iinfo.val;
+          return;
+        }
+        d[offsetd + j] = sigma.val;
+      }
+    });
+    for (int f : failed) {
+      if (f != 0) {
+        info.val = f;
+        return;
+      }
+    }
+    // Recompute z from the roots, for the singular vectors to come out orthogonal
+    int rows = Parallel.blocks(k, MIN_COLUMNS, 4L * k * k);
+    Parallel.forEach(rows, b -> {
+      for (int i = k * b / rows, end = k * (b + 1) / rows; i < end; i++) {
+        float zi = u[offsetu + i + (k - 1) * ldu] * vt[offsetvt + i + (k - 1) * ldvt];
+        for (int j = 0; j < i; j++) {
+          zi *= u[offsetu + i + j * ldu] * vt[offsetvt + i + j * ldvt] / (dsigma[i] - dsigma[j]) / (dsigma[i] + dsigma[j]);
+        }
+        for (int j = i; j < k - 1; j++) {
+          zi *= u[offsetu + i + j * ldu] * vt[offsetvt + i + j * ldvt] / (dsigma[i] - dsigma[j + 1]) / (dsigma[i] + dsigma[j + 1]);
+        }
+        z[i] = org.netlib.util.Util.sign((float) Math.sqrt(Math.abs(zi)), q[i]);
+      }
+    });
+    // Left singular vectors of the modification in the columns of q, and right ones in the columns of vt
+    int columns = Parallel.blocks(k, MIN_COLUMNS, 4L * k * k);
+    Parallel.forEach(columns, b -> {
+      for (int i = k * b / columns, end = k * (b + 1) / columns; i < end; i++) {
+        int offsetui = offsetu + i * ldu;
+        int offsetvti = offsetvt + i * ldvt;
+        vt[offsetvti] = z[0] / u[offsetui] / vt[offsetvti];
+        u[offsetui] = -1.0f;
+        for (int j = 1; j < k; j++) {
+          vt[offsetvti + j] = z[j] / u[offsetui + j] / vt[offsetvti + j];
+          u[offsetui + j] = dsigma[j] * vt[offsetvti + j];
+        }
+        float temp = org.netlib.blas.Snrm2.snrm2(k, u, offsetui, 1);
+        q[i * ldq] = u[offsetui] / temp;
+        for (int j = 1; j < k; j++) {
+          q[j + i * ldq] = u[offsetui + idxc[j] - 1] / temp;
+        }
+      }
+    });
+    // Update the left singular vectors, skipping the rows of u2 known to be zero, split by columns
+    int ucolumns = Parallel.blocks(k, MIN_COLUMNS, 2L * n * k * k);
+    Parallel.forEach(ucolumns, b -> {
+      int c = k * b / ucolumns;
+      int nc = k * (b + 1) / ucolumns - c;
+      int offsetuc = offsetu + c * ldu;
+      if (k == 2) {
+        org.netlib.blas.Sgemm.sgemm("N", "N", n, nc, k, 1.0f, u2, 0, ldu2, q, c * ldq, ldq, 0.0f, u, offsetuc, ldu);
+        return;
+      }
+      int ktemp = 1 + ctot[0] + ctot[1];
+      if (ctot[0] > 0) {
+        org.netlib.blas.Sgemm.sgemm("N", "N", nl, nc, ctot[0], 1.0f, u2, ldu2, ldu2, q, 1 + c * ldq, ldq, 0.0f, u, offsetuc, ldu);
+        if (ctot[2] > 0) {
+          org.netlib.blas.Sgemm.sgemm("N", "N", nl, nc, ctot[2], 1.0f, u2, ktemp * ldu2, ldu2, q, ktemp + c * ldq, ldq, 1.0f, u, offsetuc, ldu);
+        }
+      } else if (ctot[2] > 0) {
+        org.netlib.blas.Sgemm.sgemm("N", "N", nl, nc, ctot[2], 1.0f, u2, ktemp * ldu2, ldu2, q, ktemp + c * ldq, ldq, 0.0f, u, offsetuc, ldu);
+      } else {
+        for (int j = 0; j < nc; j++) {
+          System.arraycopy(u2, (c + j) * ldu2, u, offsetuc + j * ldu, nl);
+        }
+      }
+      for (int j = 0; j < nc; j++) {
+        u[offsetuc + nl + j * ldu] = q[(c + j) * ldq];
+      }
+      org.netlib.blas.Sgemm.sgemm("N", "N", nr, nc, ctot[1] + ctot[2], 1.0f, u2, nl + 1 + (1 + ctot[0]) * ldu2, ldu2, q, 1 + ctot[0] + c * ldq, ldq, 0.0f, u, offsetuc + nl + 1, ldu);
+    });
+    // Right singular vectors of the modification in the rows of q
+    Parallel.forEach(columns, b -> {
+      for (int i = k * b / columns, end = k * (b + 1) / columns; i < end; i++) {
+        int offsetvti = offsetvt + i * ldvt;
+        float temp = org.netlib.blas.Snrm2.snrm2(k, vt, offsetvti, 1);
+        q[i] = vt[offsetvti] / temp;
+        for (int j = 1; j < k; j++) {
+          q[i + j * ldq] = vt[offsetvti + idxc[j] - 1] / temp;
+        }
+      }
+    });
+    // Update the right singular vectors, split by rows
+    int vrows = Parallel.blocks(k, MIN_COLUMNS, 2L * m * k * k);
+    if (k == 2) {
+      Parallel.forEach(vrows, b -> {
+        int r = k * b / vrows;
+        int nrr = k * (b + 1) / vrows - r;
+        org.netlib.blas.Sgemm.sgemm("N", "N", nrr, m, k, 1.0f, q, r, ldq, vt2, 0, ldvt2, 0.0f, vt, offsetvt + r, ldvt);
+      });
+      return;
+    }
+    int ktemp = 1 + ctot[0] + ctot[1];
+    int kfirst = ctot[0];
+    // The last gemm takes the first row of vt2 and column of q along with those of the last two types
+    if (kfirst > 0) {
+      for (int i = nl + 1; i < m; i++) {
+        vt2[kfirst + i * ldvt2] = vt2[i * ldvt2];
+      }
+    }
+    Parallel.forEach(vrows, b -> {
+      int r = k * b / vrows;
+      int nrr = k * (b + 1) / vrows - r;
+      org.netlib.blas.Sgemm.sgemm("N", "N", nrr, nl + 1, 1 + ctot[0], 1.0f, q, r, ldq, vt2, 0, ldvt2, 0.0f, vt, offsetvt + r, ldvt);
+      if (ktemp < ldvt2) {
+        org.netlib.blas.Sgemm.sgemm("N", "N", nrr, nl + 1, ctot[2], 1.0f, q, r + ktemp * ldq, ldq, vt2, ktemp, ldvt2, 1.0f, vt, offsetvt + r, ldvt);
+      }
+      if (kfirst > 0) {
+        for (int i = r; i < r + nrr; i++) {
+          q[i + kfirst * ldq] = q[i];
+        }
+      }
+      org.netlib.blas.Sgemm.sgemm("N", "N", nrr, nr + sqre, 1 + ctot[1] + ctot[2], 1.0f, q, r + kfirst * ldq, ldq, vt2, kfirst + (nl + 1) * ldvt2, ldvt2, 0.0f, vt, offsetvt + r + (nl + 1) * ldvt, ldvt);
+    });
+  }
+}
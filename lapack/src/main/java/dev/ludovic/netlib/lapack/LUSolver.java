@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
+// LU factorization P * A = L * U of an n x n matrix with dgetrf, kept to solve A * X = B for any number of
+// right-hand sides with dgetrs. The matrix is copied, so that the factorization can't be changed from the
+// outside, and it's never written to once factored: the solves can run concurrently from any number of
+// threads, and allocate nothing beyond a per-thread info once warmed up.
+//
+// Only the given LAPACK implementation is called, LAPACK.getInstance() by default. A singular matrix is
+// reported with an ArithmeticException.
+public final class LUSolver {
+
+  private static final ThreadLocal<intW> info = ThreadLocal.withInitial(() -> new intW(0));
+
+  private final LAPACK lapack;
+  private final int n;
+  private final double[] lu;
+  private final int[] ipiv;
+
+  // 1-norm of A, for the estimate of its condition number
+  private final double anorm;
+  private double rcond = -1.0;
+
+  private LUSolver(LAPACK lapack, int n, double[] a, int offseta, int lda) {
+    this.lapack = lapack;
+    this.n = n;
+    this.lu = new double[n * n];
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(a, offseta + j * lda, lu, j * n, n);
+    }
+    this.ipiv = new int[n];
+    this.anorm = n == 0 ? 0.0 : lapack.dlange("1", n, n, lu, 0, n, new double[n], 0);
+    intW info = new intW(0);
+    lapack.dgetrf(n, n, lu, 0, Math.max(1, n), ipiv, 0, info);
+    if (info.val > 0) {
+      throw new ArithmeticException("U(" + info.val + ", " + info.val + ") is zero, so A is singular");
+    }
+  }
+
+  // Factors the n x n matrix a, which is left untouched
+  public static LUSolver factor(LAPACK lapack, int n, double[] a, int offseta, int lda) {
+    if (n < 0) {
+      throw new IllegalArgumentException("Expected n >= 0, got n = " + n);
+    }
+    if (lda < Math.max(1, n)) {
+      throw new IllegalArgumentException("Expected lda >= max(1, n), got lda = " + lda);
+    }
+    if (n > 0 && offseta + (n - 1) * lda + n > a.length) {
+      throw new IndexOutOfBoundsException("Index " + (offseta + (n - 1) * lda + n - 1) + " out of bounds for length " + a.length);
+    }
+    return new LUSolver(lapack, n, a, offseta, lda);
+  }
+
+  public static LUSolver factor(int n, double[] a, int offseta, int lda) {
+    return factor(LAPACK.getInstance(), n, a, offseta, lda);
+  }
+
+  public int order() {
+    return n;
+  }
+
+  // Solves A * x = b for the vector b of n elements, overwriting it with x
+  public void solve(double[] b, int offsetb) {
+    solve(1, b, offsetb, Math.max(1, n));
+  }
+
+  // Solves A * X = B for the n x nrhs matrix B, overwriting it with X
+  public void solve(int nrhs, double[] b, int offsetb, int ldb) {
+    solve("N", nrhs, b, offsetb, ldb);
+  }
+
+  // Solves A**T * X = B for the n x nrhs matrix B, overwriting it with X
+  public void solveTranspose(int nrhs, double[] b, int offsetb, int ldb) {
+    solve("T", nrhs, b, offsetb, ldb);
+  }
+
+  private void solve(String trans, int nrhs, double[] b, int offsetb, int ldb) {
+    if (nrhs < 0) {
+      throw new IllegalArgumentException("Expected nrhs >= 0, got nrhs = " + nrhs);
+    }
+    if (ldb < Math.max(1, n)) {
+      throw new IllegalArgumentException("Expected ldb >= max(1, n), got ldb = " + ldb);
+    }
+    if (nrhs > 0 && n > 0 && offsetb + (nrhs - 1) * ldb + n > b.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsetb + (nrhs - 1) * ldb + n - 1) + " out of bounds for length " + b.length);
+    }
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    lapack.dgetrs(trans, n, nrhs, lu, 0, n, ipiv, 0, b, offsetb, ldb, info.get());
+  }
+
+  // Reciprocal of the condition number of A in the 1-norm, estimated with dgecon the first time it's asked
+  // for. Close to 0, the solutions lose about -log10(rcond) digits of accuracy.
+  public synchronized double rcond() {
+    if (rcond < 0.0) {
+      if (n == 0) {
+        rcond = 1.0;
+      } else {
+        doubleW res = new doubleW(0.0);
+        lapack.dgecon("1", n, lu, 0, n, anorm, res, new double[4 * n], 0, new int[n], 0, new intW(0));
+        rcond = res.val;
+      }
+    }
+    return rcond;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Call count, latency histogram and operation count of a single routine. All counters are striped so
+// that concurrent callers don't contend on a single cache line.
+final class Meter {
+
+  private static final ConcurrentMap<String, Meter> meters = new ConcurrentSkipListMap<>();
+
+  // Latencies are bucketed like HdrHistogram: exact below 8ns, then 8 linear sub-buckets per power of
+  // two, which bounds the relative error to 12.5% over the whole range of a long.
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+  private final String routine;
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder nanos = new LongAdder();
+  private final LongAdder flops = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+  // Only allocated on first call, as most routines are never called
+  private volatile AtomicReferenceArray<LongAdder> histogram;
+
+  private Meter(String routine) {
+    this.routine = routine;
+  }
+
+  public static Meter of(String routine) {
+    return meters.computeIfAbsent(routine, Meter::new);
+  }
+
+  // Returns null if no such routine has been metered
+  public static Meter get(String routine) {
+    return meters.get(routine);
+  }
+
+  public static Collection<Meter> all() {
+    return Collections.unmodifiableCollection(meters.values());
+  }
+
+  public void record(long elapsed, long flops) {
+    calls.increment();
+    nanos.add(elapsed);
+    this.flops.add(flops);
+    max.accumulate(elapsed);
+    bucket(index(elapsed)).increment();
+  }
+
+  private LongAdder bucket(int index) {
+    AtomicReferenceArray<LongAdder> histogram = this.histogram;
+    if (histogram == null) {
+      synchronized (this) {
+        if ((histogram = this.histogram) == null) {
+          this.histogram = histogram = new AtomicReferenceArray<>(BUCKETS);
+        }
+      }
+    }
+    LongAdder bucket = histogram.get(index);
+    if (bucket == null && !histogram.compareAndSet(index, null, bucket = new LongAdder())) {
+      bucket = histogram.get(index);
+    }
+    return bucket;
+  }
+
+  private static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) Math.max(value, 0);
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | sub;
+  }
+
+  private static long lowerBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = (index >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+    return (long) (SUB_BUCKETS | (index & (SUB_BUCKETS - 1))) << (exponent - SUB_BUCKET_BITS);
+  }
+
+  private static long upperBound(int index) {
+    return index + 1 < BUCKETS ? lowerBound(index + 1) - 1 : Long.MAX_VALUE;
+  }
+
+  public String routine() {
+    return routine;
+  }
+
+  public long calls() {
+    return calls.sum();
+  }
+
+  public long nanos() {
+    return nanos.sum();
+  }
+
+  public long flops() {
+    return flops.sum();
+  }
+
+  public long max() {
+    return max.get();
+  }
+
+  // Achieved rate over all calls, 0 for routines without a known operation count
+  public double gflops() {
+    long nanos = nanos();
+    return nanos == 0 ? 0.0 : (double) flops() / nanos;
+  }
+
+  // Upper bound in nanoseconds of the bucket holding the given percentile, between 0 and 100
+  public long percentile(double percentile) {
+    AtomicReferenceArray<LongAdder> histogram = this.histogram;
+    if (histogram == null) {
+      return 0;
+    }
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      LongAdder bucket = histogram.get(i);
+      total += counts[i] = bucket == null ? 0 : bucket.sum();
+    }
+    long threshold = (long) Math.ceil(total * percentile / 100.0);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (counts[i] > 0 && seen >= threshold) {
+        return Math.min(upperBound(i), max());
+      }
+    }
+    return max();
+  }
+
+  public static String report() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("%-10s %12s %14s %12s %12s %12s %12s %10s%n",
+      "routine", "calls", "total (ms)", "mean (us)", "p50 (us)", "p99 (us)", "max (us)", "GFLOP/s"));
+    for (Meter meter : all()) {
+      long calls = meter.calls();
+      if (calls == 0) {
+        continue;
+      }
+      sb.append(String.format("%-10s %12d %14.3f %12.3f %12.3f %12.3f %12.3f %10.3f%n",
+        meter.routine(), calls, meter.nanos() / 1e6, meter.nanos() / 1e3 / calls,
+        meter.percentile(50) / 1e3, meter.percentile(99) / 1e3, meter.max() / 1e3, meter.gflops()));
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,9264 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+// Wraps another implementation to record, for each routine, the number of calls, a histogram of their
+// latencies and the floating-point operations they performed. Enabled with
+// -Ddev.ludovic.netlib.lapack.metering=true or -Ddev.ludovic.netlib.lapack.jmx=true, in which case the counters
+// are read through the Report attribute of the dev.ludovic.netlib:type=LAPACK MBean registered by Management.
+// Routines without a known operation count only report calls and latencies.
+class MeteredLAPACK implements LAPACK {
+
+  private final LAPACK lapack;
+
+  MeteredLAPACK(LAPACK lapack) {
+    this.lapack = lapack;
+  }
+
+  LAPACK delegate() {
+    return lapack;
+  }
+
+  static final class Native extends MeteredLAPACK implements NativeLAPACK {
+
+    private final NativeLAPACK lapack;
+
+    Native(NativeLAPACK lapack) {
+      super(lapack);
+      this.lapack = lapack;
+    }
+
+    public int getNumThreads() {
+      return lapack.getNumThreads();
+    }
+
+    public void setNumThreads(int n) {
+      lapack.setNumThreads(n);
+    }
+  }
+
+  static final class Java extends MeteredLAPACK implements JavaLAPACK {
+
+    Java(JavaLAPACK lapack) {
+      super(lapack);
+    }
+  }
+
+  private static boolean isLeft(String side) {
+    return side.regionMatches(true, 0, "L", 0, 1);
+  }
+
+  private static final Meter dbdsdcMeter = Meter.of("dbdsdc");
+  private static final Meter dbdsqrMeter = Meter.of("dbdsqr");
+  private static final Meter ddisnaMeter = Meter.of("ddisna");
+  private static final Meter dgbbrdMeter = Meter.of("dgbbrd");
+  private static final Meter dgbconMeter = Meter.of("dgbcon");
+  private static final Meter dgbequMeter = Meter.of("dgbequ");
+  private static final Meter dgbrfsMeter = Meter.of("dgbrfs");
+  private static final Meter dgbsvMeter = Meter.of("dgbsv");
+  private static final Meter dgbsvxMeter = Meter.of("dgbsvx");
+  private static final Meter dgbtf2Meter = Meter.of("dgbtf2");
+  private static final Meter dgbtrfMeter = Meter.of("dgbtrf");
+  private static final Meter dgbtrsMeter = Meter.of("dgbtrs");
+  private static final Meter dgebakMeter = Meter.of("dgebak");
+  private static final Meter dgebalMeter = Meter.of("dgebal");
+  private static final Meter dgebd2Meter = Meter.of("dgebd2");
+  private static final Meter dgebrdMeter = Meter.of("dgebrd");
+  private static final Meter dgeconMeter = Meter.of("dgecon");
+  private static final Meter dgeequMeter = Meter.of("dgeequ");
+  private static final Meter dgeesMeter = Meter.of("dgees");
+  private static final Meter dgeesxMeter = Meter.of("dgeesx");
+  private static final Meter dgeevMeter = Meter.of("dgeev");
+  private static final Meter dgeevxMeter = Meter.of("dgeevx");
+  private static final Meter dgegsMeter = Meter.of("dgegs");
+  private static final Meter dgegvMeter = Meter.of("dgegv");
+  private static final Meter dgehd2Meter = Meter.of("dgehd2");
+  private static final Meter dgehrdMeter = Meter.of("dgehrd");
+  private static final Meter dgelq2Meter = Meter.of("dgelq2");
+  private static final Meter dgelqfMeter = Meter.of("dgelqf");
+  private static final Meter dgelsMeter = Meter.of("dgels");
+  private static final Meter dgelsdMeter = Meter.of("dgelsd");
+  private static final Meter dgelssMeter = Meter.of("dgelss");
+  private static final Meter dgelsxMeter = Meter.of("dgelsx");
+  private static final Meter dgelsyMeter = Meter.of("dgelsy");
+  private static final Meter dgeql2Meter = Meter.of("dgeql2");
+  private static final Meter dgeqlfMeter = Meter.of("dgeqlf");
+  private static final Meter dgeqp3Meter = Meter.of("dgeqp3");
+  private static final Meter dgeqpfMeter = Meter.of("dgeqpf");
+  private static final Meter dgeqr2Meter = Meter.of("dgeqr2");
+  private static final Meter dgeqrfMeter = Meter.of("dgeqrf");
+  private static final Meter dgerfsMeter = Meter.of("dgerfs");
+  private static final Meter dgerq2Meter = Meter.of("dgerq2");
+  private static final Meter dgerqfMeter = Meter.of("dgerqf");
+  private static final Meter dgesc2Meter = Meter.of("dgesc2");
+  private static final Meter dgesddMeter = Meter.of("dgesdd");
+  private static final Meter dgesvMeter = Meter.of("dgesv");
+  private static final Meter dgesvdMeter = Meter.of("dgesvd");
+  private static final Meter dgesvxMeter = Meter.of("dgesvx");
+  private static final Meter dgetc2Meter = Meter.of("dgetc2");
+  private static final Meter dgetf2Meter = Meter.of("dgetf2");
+  private static final Meter dgetrfMeter = Meter.of("dgetrf");
+  private static final Meter dgetriMeter = Meter.of("dgetri");
+  private static final Meter dgetrsMeter = Meter.of("dgetrs");
+  private static final Meter dggbakMeter = Meter.of("dggbak");
+  private static final Meter dggbalMeter = Meter.of("dggbal");
+  private static final Meter dggesMeter = Meter.of("dgges");
+  private static final Meter dggesxMeter = Meter.of("dggesx");
+  private static final Meter dggevMeter = Meter.of("dggev");
+  private static final Meter dggevxMeter = Meter.of("dggevx");
+  private static final Meter dggglmMeter = Meter.of("dggglm");
+  private static final Meter dgghrdMeter = Meter.of("dgghrd");
+  private static final Meter dgglseMeter = Meter.of("dgglse");
+  private static final Meter dggqrfMeter = Meter.of("dggqrf");
+  private static final Meter dggrqfMeter = Meter.of("dggrqf");
+  private static final Meter dggsvdMeter = Meter.of("dggsvd");
+  private static final Meter dggsvpMeter = Meter.of("dggsvp");
+  private static final Meter dgtconMeter = Meter.of("dgtcon");
+  private static final Meter dgtrfsMeter = Meter.of("dgtrfs");
+  private static final Meter dgtsvMeter = Meter.of("dgtsv");
+  private static final Meter dgtsvxMeter = Meter.of("dgtsvx");
+  private static final Meter dgttrfMeter = Meter.of("dgttrf");
+  private static final Meter dgttrsMeter = Meter.of("dgttrs");
+  private static final Meter dgtts2Meter = Meter.of("dgtts2");
+  private static final Meter dhgeqzMeter = Meter.of("dhgeqz");
+  private static final Meter dhseinMeter = Meter.of("dhsein");
+  private static final Meter dhseqrMeter = Meter.of("dhseqr");
+  private static final Meter disnanMeter = Meter.of("disnan");
+  private static final Meter dlabadMeter = Meter.of("dlabad");
+  private static final Meter dlabrdMeter = Meter.of("dlabrd");
+  private static final Meter dlacn2Meter = Meter.of("dlacn2");
+  private static final Meter dlaconMeter = Meter.of("dlacon");
+  private static final Meter dlacpyMeter = Meter.of("dlacpy");
+  private static final Meter dladivMeter = Meter.of("dladiv");
+  private static final Meter dlae2Meter = Meter.of("dlae2");
+  private static final Meter dlaebzMeter = Meter.of("dlaebz");
+  private static final Meter dlaed0Meter = Meter.of("dlaed0");
+  private static final Meter dlaed1Meter = Meter.of("dlaed1");
+  private static final Meter dlaed2Meter = Meter.of("dlaed2");
+  private static final Meter dlaed3Meter = Meter.of("dlaed3");
+  private static final Meter dlaed4Meter = Meter.of("dlaed4");
+  private static final Meter dlaed5Meter = Meter.of("dlaed5");
+  private static final Meter dlaed6Meter = Meter.of("dlaed6");
+  private static final Meter dlaed7Meter = Meter.of("dlaed7");
+  private static final Meter dlaed8Meter = Meter.of("dlaed8");
+  private static final Meter dlaed9Meter = Meter.of("dlaed9");
+  private static final Meter dlaedaMeter = Meter.of("dlaeda");
+  private static final Meter dlaeinMeter = Meter.of("dlaein");
+  private static final Meter dlaev2Meter = Meter.of("dlaev2");
+  private static final Meter dlaexcMeter = Meter.of("dlaexc");
+  private static final Meter dlag2Meter = Meter.of("dlag2");
+  private static final Meter dlag2sMeter = Meter.of("dlag2s");
+  private static final Meter dlags2Meter = Meter.of("dlags2");
+  private static final Meter dlagtfMeter = Meter.of("dlagtf");
+  private static final Meter dlagtmMeter = Meter.of("dlagtm");
+  private static final Meter dlagtsMeter = Meter.of("dlagts");
+  private static final Meter dlagv2Meter = Meter.of("dlagv2");
+  private static final Meter dlahqrMeter = Meter.of("dlahqr");
+  private static final Meter dlahr2Meter = Meter.of("dlahr2");
+  private static final Meter dlahrdMeter = Meter.of("dlahrd");
+  private static final Meter dlaic1Meter = Meter.of("dlaic1");
+  private static final Meter dlaisnanMeter = Meter.of("dlaisnan");
+  private static final Meter dlaln2Meter = Meter.of("dlaln2");
+  private static final Meter dlals0Meter = Meter.of("dlals0");
+  private static final Meter dlalsaMeter = Meter.of("dlalsa");
+  private static final Meter dlalsdMeter = Meter.of("dlalsd");
+  private static final Meter dlamrgMeter = Meter.of("dlamrg");
+  private static final Meter dlanegMeter = Meter.of("dlaneg");
+  private static final Meter dlangbMeter = Meter.of("dlangb");
+  private static final Meter dlangeMeter = Meter.of("dlange");
+  private static final Meter dlangtMeter = Meter.of("dlangt");
+  private static final Meter dlanhsMeter = Meter.of("dlanhs");
+  private static final Meter dlansbMeter = Meter.of("dlansb");
+  private static final Meter dlanspMeter = Meter.of("dlansp");
+  private static final Meter dlanstMeter = Meter.of("dlanst");
+  private static final Meter dlansyMeter = Meter.of("dlansy");
+  private static final Meter dlantbMeter = Meter.of("dlantb");
+  private static final Meter dlantpMeter = Meter.of("dlantp");
+  private static final Meter dlantrMeter = Meter.of("dlantr");
+  private static final Meter dlanv2Meter = Meter.of("dlanv2");
+  private static final Meter dlapllMeter = Meter.of("dlapll");
+  private static final Meter dlapmtMeter = Meter.of("dlapmt");
+  private static final Meter dlapy2Meter = Meter.of("dlapy2");
+  private static final Meter dlapy3Meter = Meter.of("dlapy3");
+  private static final Meter dlaqgbMeter = Meter.of("dlaqgb");
+  private static final Meter dlaqgeMeter = Meter.of("dlaqge");
+  private static final Meter dlaqp2Meter = Meter.of("dlaqp2");
+  private static final Meter dlaqpsMeter = Meter.of("dlaqps");
+  private static final Meter dlaqr0Meter = Meter.of("dlaqr0");
+  private static final Meter dlaqr1Meter = Meter.of("dlaqr1");
+  private static final Meter dlaqr2Meter = Meter.of("dlaqr2");
+  private static final Meter dlaqr3Meter = Meter.of("dlaqr3");
+  private static final Meter dlaqr4Meter = Meter.of("dlaqr4");
+  private static final Meter dlaqr5Meter = Meter.of("dlaqr5");
+  private static final Meter dlaqsbMeter = Meter.of("dlaqsb");
+  private static final Meter dlaqspMeter = Meter.of("dlaqsp");
+  private static final Meter dlaqsyMeter = Meter.of("dlaqsy");
+  private static final Meter dlaqtrMeter = Meter.of("dlaqtr");
+  private static final Meter dlar1vMeter = Meter.of("dlar1v");
+  private static final Meter dlar2vMeter = Meter.of("dlar2v");
+  private static final Meter dlarfMeter = Meter.of("dlarf");
+  private static final Meter dlarfbMeter = Meter.of("dlarfb");
+  private static final Meter dlarfgMeter = Meter.of("dlarfg");
+  private static final Meter dlarftMeter = Meter.of("dlarft");
+  private static final Meter dlarfxMeter = Meter.of("dlarfx");
+  private static final Meter dlargvMeter = Meter.of("dlargv");
+  private static final Meter dlarnvMeter = Meter.of("dlarnv");
+  private static final Meter dlarraMeter = Meter.of("dlarra");
+  private static final Meter dlarrbMeter = Meter.of("dlarrb");
+  private static final Meter dlarrcMeter = Meter.of("dlarrc");
+  private static final Meter dlarrdMeter = Meter.of("dlarrd");
+  private static final Meter dlarreMeter = Meter.of("dlarre");
+  private static final Meter dlarrfMeter = Meter.of("dlarrf");
+  private static final Meter dlarrjMeter = Meter.of("dlarrj");
+  private static final Meter dlarrkMeter = Meter.of("dlarrk");
+  private static final Meter dlarrrMeter = Meter.of("dlarrr");
+  private static final Meter dlarrvMeter = Meter.of("dlarrv");
+  private static final Meter dlartgMeter = Meter.of("dlartg");
+  private static final Meter dlartvMeter = Meter.of("dlartv");
+  private static final Meter dlaruvMeter = Meter.of("dlaruv");
+  private static final Meter dlarzMeter = Meter.of("dlarz");
+  private static final Meter dlarzbMeter = Meter.of("dlarzb");
+  private static final Meter dlarztMeter = Meter.of("dlarzt");
+  private static final Meter dlas2Meter = Meter.of("dlas2");
+  private static final Meter dlasclMeter = Meter.of("dlascl");
+  private static final Meter dlasd0Meter = Meter.of("dlasd0");
+  private static final Meter dlasd1Meter = Meter.of("dlasd1");
+  private static final Meter dlasd2Meter = Meter.of("dlasd2");
+  private static final Meter dlasd3Meter = Meter.of("dlasd3");
+  private static final Meter dlasd4Meter = Meter.of("dlasd4");
+  private static final Meter dlasd5Meter = Meter.of("dlasd5");
+  private static final Meter dlasd6Meter = Meter.of("dlasd6");
+  private static final Meter dlasd7Meter = Meter.of("dlasd7");
+  private static final Meter dlasd8Meter = Meter.of("dlasd8");
+  private static final Meter dlasdaMeter = Meter.of("dlasda");
+  private static final Meter dlasdqMeter = Meter.of("dlasdq");
+  private static final Meter dlasdtMeter = Meter.of("dlasdt");
+  private static final Meter dlasetMeter = Meter.of("dlaset");
+  private static final Meter dlasq1Meter = Meter.of("dlasq1");
+  private static final Meter dlasq2Meter = Meter.of("dlasq2");
+  private static final Meter dlasq3Meter = Meter.of("dlasq3");
+  private static final Meter dlasq4Meter = Meter.of("dlasq4");
+  private static final Meter dlasq5Meter = Meter.of("dlasq5");
+  private static final Meter dlasq6Meter = Meter.of("dlasq6");
+  private static final Meter dlasrMeter = Meter.of("dlasr");
+  private static final Meter dlasrtMeter = Meter.of("dlasrt");
+  private static final Meter dlassqMeter = Meter.of("dlassq");
+  private static final Meter dlasv2Meter = Meter.of("dlasv2");
+  private static final Meter dlaswpMeter = Meter.of("dlaswp");
+  private static final Meter dlasy2Meter = Meter.of("dlasy2");
+  private static final Meter dlasyfMeter = Meter.of("dlasyf");
+  private static final Meter dlatbsMeter = Meter.of("dlatbs");
+  private static final Meter dlatdfMeter = Meter.of("dlatdf");
+  private static final Meter dlatpsMeter = Meter.of("dlatps");
+  private static final Meter dlatrdMeter = Meter.of("dlatrd");
+  private static final Meter dlatrsMeter = Meter.of("dlatrs");
+  private static final Meter dlatrzMeter = Meter.of("dlatrz");
+  private static final Meter dlatzmMeter = Meter.of("dlatzm");
+  private static final Meter dlauu2Meter = Meter.of("dlauu2");
+  private static final Meter dlauumMeter = Meter.of("dlauum");
+  private static final Meter dlazq3Meter = Meter.of("dlazq3");
+  private static final Meter dlazq4Meter = Meter.of("dlazq4");
+  private static final Meter dopgtrMeter = Meter.of("dopgtr");
+  private static final Meter dopmtrMeter = Meter.of("dopmtr");
+  private static final Meter dorg2lMeter = Meter.of("dorg2l");
+  private static final Meter dorg2rMeter = Meter.of("dorg2r");
+  private static final Meter dorgbrMeter = Meter.of("dorgbr");
+  private static final Meter dorghrMeter = Meter.of("dorghr");
+  private static final Meter dorgl2Meter = Meter.of("dorgl2");
+  private static final Meter dorglqMeter = Meter.of("dorglq");
+  private static final Meter dorgqlMeter = Meter.of("dorgql");
+  private static final Meter dorgqrMeter = Meter.of("dorgqr");
+  private static final Meter dorgr2Meter = Meter.of("dorgr2");
+  private static final Meter dorgrqMeter = Meter.of("dorgrq");
+  private static final Meter dorgtrMeter = Meter.of("dorgtr");
+  private static final Meter dorm2lMeter = Meter.of("dorm2l");
+  private static final Meter dorm2rMeter = Meter.of("dorm2r");
+  private static final Meter dormbrMeter = Meter.of("dormbr");
+  private static final Meter dormhrMeter = Meter.of("dormhr");
+  private static final Meter dorml2Meter = Meter.of("dorml2");
+  private static final Meter dormlqMeter = Meter.of("dormlq");
+  private static final Meter dormqlMeter = Meter.of("dormql");
+  private static final Meter dormqrMeter = Meter.of("dormqr");
+  private static final Meter dormr2Meter = Meter.of("dormr2");
+  private static final Meter dormr3Meter = Meter.of("dormr3");
+  private static final Meter dormrqMeter = Meter.of("dormrq");
+  private static final Meter dormrzMeter = Meter.of("dormrz");
+  private static final Meter dormtrMeter = Meter.of("dormtr");
+  private static final Meter dpbconMeter = Meter.of("dpbcon");
+  private static final Meter dpbequMeter = Meter.of("dpbequ");
+  private static final Meter dpbrfsMeter = Meter.of("dpbrfs");
+  private static final Meter dpbstfMeter = Meter.of("dpbstf");
+  private static final Meter dpbsvMeter = Meter.of("dpbsv");
+  private static final Meter dpbsvxMeter = Meter.of("dpbsvx");
+  private static final Meter dpbtf2Meter = Meter.of("dpbtf2");
+  private static final Meter dpbtrfMeter = Meter.of("dpbtrf");
+  private static final Meter dpbtrsMeter = Meter.of("dpbtrs");
+  private static final Meter dpoconMeter = Meter.of("dpocon");
+  private static final Meter dpoequMeter = Meter.of("dpoequ");
+  private static final Meter dporfsMeter = Meter.of("dporfs");
+  private static final Meter dposvMeter = Meter.of("dposv");
+  private static final Meter dposvxMeter = Meter.of("dposvx");
+  private static final Meter dpotf2Meter = Meter.of("dpotf2");
+  private static final Meter dpotrfMeter = Meter.of("dpotrf");
+  private static final Meter dpotriMeter = Meter.of("dpotri");
+  private static final Meter dpotrsMeter = Meter.of("dpotrs");
+  private static final Meter dppconMeter = Meter.of("dppcon");
+  private static final Meter dppequMeter = Meter.of("dppequ");
+  private static final Meter dpprfsMeter = Meter.of("dpprfs");
+  private static final Meter dppsvMeter = Meter.of("dppsv");
+  private static final Meter dppsvxMeter = Meter.of("dppsvx");
+  private static final Meter dpptrfMeter = Meter.of("dpptrf");
+  private static final Meter dpptriMeter = Meter.of("dpptri");
+  private static final Meter dpptrsMeter = Meter.of("dpptrs");
+  private static final Meter dptconMeter = Meter.of("dptcon");
+  private static final Meter dpteqrMeter = Meter.of("dpteqr");
+  private static final Meter dptrfsMeter = Meter.of("dptrfs");
+  private static final Meter dptsvMeter = Meter.of("dptsv");
+  private static final Meter dptsvxMeter = Meter.of("dptsvx");
+  private static final Meter dpttrfMeter = Meter.of("dpttrf");
+  private static final Meter dpttrsMeter = Meter.of("dpttrs");
+  private static final Meter dptts2Meter = Meter.of("dptts2");
+  private static final Meter drsclMeter = Meter.of("drscl");
+  private static final Meter dsbevMeter = Meter.of("dsbev");
+  private static final Meter dsbevdMeter = Meter.of("dsbevd");
+  private static final Meter dsbevxMeter = Meter.of("dsbevx");
+  private static final Meter dsbgstMeter = Meter.of("dsbgst");
+  private static final Meter dsbgvMeter = Meter.of("dsbgv");
+  private static final Meter dsbgvdMeter = Meter.of("dsbgvd");
+  private static final Meter dsbgvxMeter = Meter.of("dsbgvx");
+  private static final Meter dsbtrdMeter = Meter.of("dsbtrd");
+  private static final Meter dsgesvMeter = Meter.of("dsgesv");
+  private static final Meter dspconMeter = Meter.of("dspcon");
+  private static final Meter dspevMeter = Meter.of("dspev");
+  private static final Meter dspevdMeter = Meter.of("dspevd");
+  private static final Meter dspevxMeter = Meter.of("dspevx");
+  private static final Meter dspgstMeter = Meter.of("dspgst");
+  private static final Meter dspgvMeter = Meter.of("dspgv");
+  private static final Meter dspgvdMeter = Meter.of("dspgvd");
+  private static final Meter dspgvxMeter = Meter.of("dspgvx");
+  private static final Meter dsprfsMeter = Meter.of("dsprfs");
+  private static final Meter dspsvMeter = Meter.of("dspsv");
+  private static final Meter dspsvxMeter = Meter.of("dspsvx");
+  private static final Meter dsptrdMeter = Meter.of("dsptrd");
+  private static final Meter dsptrfMeter = Meter.of("dsptrf");
+  private static final Meter dsptriMeter = Meter.of("dsptri");
+  private static final Meter dsptrsMeter = Meter.of("dsptrs");
+  private static final Meter dstebzMeter = Meter.of("dstebz");
+  private static final Meter dstedcMeter = Meter.of("dstedc");
+  private static final Meter dstegrMeter = Meter.of("dstegr");
+  private static final Meter dsteinMeter = Meter.of("dstein");
+  private static final Meter dstemrMeter = Meter.of("dstemr");
+  private static final Meter dsteqrMeter = Meter.of("dsteqr");
+  private static final Meter dsterfMeter = Meter.of("dsterf");
+  private static final Meter dstevMeter = Meter.of("dstev");
+  private static final Meter dstevdMeter = Meter.of("dstevd");
+  private static final Meter dstevrMeter = Meter.of("dstevr");
+  private static final Meter dstevxMeter = Meter.of("dstevx");
+  private static final Meter dsyconMeter = Meter.of("dsycon");
+  private static final Meter dsyevMeter = Meter.of("dsyev");
+  private static final Meter dsyevdMeter = Meter.of("dsyevd");
+  private static final Meter dsyevrMeter = Meter.of("dsyevr");
+  private static final Meter dsyevxMeter = Meter.of("dsyevx");
+  private static final Meter dsygs2Meter = Meter.of("dsygs2");
+  private static final Meter dsygstMeter = Meter.of("dsygst");
+  private static final Meter dsygvMeter = Meter.of("dsygv");
+  private static final Meter dsygvdMeter = Meter.of("dsygvd");
+  private static final Meter dsygvxMeter = Meter.of("dsygvx");
+  private static final Meter dsyrfsMeter = Meter.of("dsyrfs");
+  private static final Meter dsysvMeter = Meter.of("dsysv");
+  private static final Meter dsysvxMeter = Meter.of("dsysvx");
+  private static final Meter dsytd2Meter = Meter.of("dsytd2");
+  private static final Meter dsytf2Meter = Meter.of("dsytf2");
+  private static final Meter dsytrdMeter = Meter.of("dsytrd");
+  private static final Meter dsytrfMeter = Meter.of("dsytrf");
+  private static final Meter dsytriMeter = Meter.of("dsytri");
+  private static final Meter dsytrsMeter = Meter.of("dsytrs");
+  private static final Meter dtbconMeter = Meter.of("dtbcon");
+  private static final Meter dtbrfsMeter = Meter.of("dtbrfs");
+  private static final Meter dtbtrsMeter = Meter.of("dtbtrs");
+  private static final Meter dtgevcMeter = Meter.of("dtgevc");
+  private static final Meter dtgex2Meter = Meter.of("dtgex2");
+  private static final Meter dtgexcMeter = Meter.of("dtgexc");
+  private static final Meter dtgsenMeter = Meter.of("dtgsen");
+  private static final Meter dtgsjaMeter = Meter.of("dtgsja");
+  private static final Meter dtgsnaMeter = Meter.of("dtgsna");
+  private static final Meter dtgsy2Meter = Meter.of("dtgsy2");
+  private static final Meter dtgsylMeter = Meter.of("dtgsyl");
+  private static final Meter dtpconMeter = Meter.of("dtpcon");
+  private static final Meter dtprfsMeter = Meter.of("dtprfs");
+  private static final Meter dtptriMeter = Meter.of("dtptri");
+  private static final Meter dtptrsMeter = Meter.of("dtptrs");
+  private static final Meter dtrconMeter = Meter.of("dtrcon");
+  private static final Meter dtrevcMeter = Meter.of("dtrevc");
+  private static final Meter dtrexcMeter = Meter.of("dtrexc");
+  private static final Meter dtrrfsMeter = Meter.of("dtrrfs");
+  private static final Meter dtrsenMeter = Meter.of("dtrsen");
+  private static final Meter dtrsnaMeter = Meter.of("dtrsna");
+  private static final Meter dtrsylMeter = Meter.of("dtrsyl");
+  private static final Meter dtrti2Meter = Meter.of("dtrti2");
+  private static final Meter dtrtriMeter = Meter.of("dtrtri");
+  private static final Meter dtrtrsMeter = Meter.of("dtrtrs");
+  private static final Meter dtzrqfMeter = Meter.of("dtzrqf");
+  private static final Meter dtzrzfMeter = Meter.of("dtzrzf");
+  private static final Meter ieeeckMeter = Meter.of("ieeeck");
+  private static final Meter ilaenvMeter = Meter.of("ilaenv");
+  private static final Meter ilaverMeter = Meter.of("ilaver");
+  private static final Meter iparmqMeter = Meter.of("iparmq");
+  private static final Meter lsamenMeter = Meter.of("lsamen");
+  private static final Meter sbdsdcMeter = Meter.of("sbdsdc");
+  private static final Meter sbdsqrMeter = Meter.of("sbdsqr");
+  private static final Meter sdisnaMeter = Meter.of("sdisna");
+  private static final Meter sgbbrdMeter = Meter.of("sgbbrd");
+  private static final Meter sgbconMeter = Meter.of("sgbcon");
+  private static final Meter sgbequMeter = Meter.of("sgbequ");
+  private static final Meter sgbrfsMeter = Meter.of("sgbrfs");
+  private static final Meter sgbsvMeter = Meter.of("sgbsv");
+  private static final Meter sgbsvxMeter = Meter.of("sgbsvx");
+  private static final Meter sgbtf2Meter = Meter.of("sgbtf2");
+  private static final Meter sgbtrfMeter = Meter.of("sgbtrf");
+  private static final Meter sgbtrsMeter = Meter.of("sgbtrs");
+  private static final Meter sgebakMeter = Meter.of("sgebak");
+  private static final Meter sgebalMeter = Meter.of("sgebal");
+  private static final Meter sgebd2Meter = Meter.of("sgebd2");
+  private static final Meter sgebrdMeter = Meter.of("sgebrd");
+  private static final Meter sgeconMeter = Meter.of("sgecon");
+  private static final Meter sgeequMeter = Meter.of("sgeequ");
+  private static final Meter sgeesMeter = Meter.of("sgees");
+  private static final Meter sgeesxMeter = Meter.of("sgeesx");
+  private static final Meter sgeevMeter = Meter.of("sgeev");
+  private static final Meter sgeevxMeter = Meter.of("sgeevx");
+  private static final Meter sgegsMeter = Meter.of("sgegs");
+  private static final Meter sgegvMeter = Meter.of("sgegv");
+  private static final Meter sgehd2Meter = Meter.of("sgehd2");
+  private static final Meter sgehrdMeter = Meter.of("sgehrd");
+  private static final Meter sgelq2Meter = Meter.of("sgelq2");
+  private static final Meter sgelqfMeter = Meter.of("sgelqf");
+  private static final Meter sgelsMeter = Meter.of("sgels");
+  private static final Meter sgelsdMeter = Meter.of("sgelsd");
+  private static final Meter sgelssMeter = Meter.of("sgelss");
+  private static final Meter sgelsxMeter = Meter.of("sgelsx");
+  private static final Meter sgelsyMeter = Meter.of("sgelsy");
+  private static final Meter sgeql2Meter = Meter.of("sgeql2");
+  private static final Meter sgeqlfMeter = Meter.of("sgeqlf");
+  private static final Meter sgeqp3Meter = Meter.of("sgeqp3");
+  private static final Meter sgeqpfMeter = Meter.of("sgeqpf");
+  private static final Meter sgeqr2Meter = Meter.of("sgeqr2");
+  private static final Meter sgeqrfMeter = Meter.of("sgeqrf");
+  private static final Meter sgerfsMeter = Meter.of("sgerfs");
+  private static final Meter sgerq2Meter = Meter.of("sgerq2");
+  private static final Meter sgerqfMeter = Meter.of("sgerqf");
+  private static final Meter sgesc2Meter = Meter.of("sgesc2");
+  private static final Meter sgesddMeter = Meter.of("sgesdd");
+  private static final Meter sgesvMeter = Meter.of("sgesv");
+  private static final Meter sgesvdMeter = Meter.of("sgesvd");
+  private static final Meter sgesvxMeter = Meter.of("sgesvx");
+  private static final Meter sgetc2Meter = Meter.of("sgetc2");
+  private static final Meter sgetf2Meter = Meter.of("sgetf2");
+  private static final Meter sgetrfMeter = Meter.of("sgetrf");
+  private static final Meter sgetriMeter = Meter.of("sgetri");
+  private static final Meter sgetrsMeter = Meter.of("sgetrs");
+  private static final Meter sggbakMeter = Meter.of("sggbak");
+  private static final Meter sggbalMeter = Meter.of("sggbal");
+  private static final Meter sggesMeter = Meter.of("sgges");
+  private static final Meter sggesxMeter = Meter.of("sggesx");
+  private static final Meter sggevMeter = Meter.of("sggev");
+  private static final Meter sggevxMeter = Meter.of("sggevx");
+  private static final Meter sggglmMeter = Meter.of("sggglm");
+  private static final Meter sgghrdMeter = Meter.of("sgghrd");
+  private static final Meter sgglseMeter = Meter.of("sgglse");
+  private static final Meter sggqrfMeter = Meter.of("sggqrf");
+  private static final Meter sggrqfMeter = Meter.of("sggrqf");
+  private static final Meter sggsvdMeter = Meter.of("sggsvd");
+  private static final Meter sggsvpMeter = Meter.of("sggsvp");
+  private static final Meter sgtconMeter = Meter.of("sgtcon");
+  private static final Meter sgtrfsMeter = Meter.of("sgtrfs");
+  private static final Meter sgtsvMeter = Meter.of("sgtsv");
+  private static final Meter sgtsvxMeter = Meter.of("sgtsvx");
+  private static final Meter sgttrfMeter = Meter.of("sgttrf");
+  private static final Meter sgttrsMeter = Meter.of("sgttrs");
+  private static final Meter sgtts2Meter = Meter.of("sgtts2");
+  private static final Meter shgeqzMeter = Meter.of("shgeqz");
+  private static final Meter shseinMeter = Meter.of("shsein");
+  private static final Meter shseqrMeter = Meter.of("shseqr");
+  private static final Meter sisnanMeter = Meter.of("sisnan");
+  private static final Meter slabadMeter = Meter.of("slabad");
+  private static final Meter slabrdMeter = Meter.of("slabrd");
+  private static final Meter slacn2Meter = Meter.of("slacn2");
+  private static final Meter slaconMeter = Meter.of("slacon");
+  private static final Meter slacpyMeter = Meter.of("slacpy");
+  private static final Meter sladivMeter = Meter.of("sladiv");
+  private static final Meter slae2Meter = Meter.of("slae2");
+  private static final Meter slaebzMeter = Meter.of("slaebz");
+  private static final Meter slaed0Meter = Meter.of("slaed0");
+  private static final Meter slaed1Meter = Meter.of("slaed1");
+  private static final Meter slaed2Meter = Meter.of("slaed2");
+  private static final Meter slaed3Meter = Meter.of("slaed3");
+  private static final Meter slaed4Meter = Meter.of("slaed4");
+  private static final Meter slaed5Meter = Meter.of("slaed5");
+  private static final Meter slaed6Meter = Meter.of("slaed6");
+  private static final Meter slaed7Meter = Meter.of("slaed7");
+  private static final Meter slaed8Meter = Meter.of("slaed8");
+  private static final Meter slaed9Meter = Meter.of("slaed9");
+  private static final Meter slaedaMeter = Meter.of("slaeda");
+  private static final Meter slaeinMeter = Meter.of("slaein");
+  private static final Meter slaev2Meter = Meter.of("slaev2");
+  private static final Meter slaexcMeter = Meter.of("slaexc");
+  private static final Meter slag2Meter = Meter.of("slag2");
+  private static final Meter slag2dMeter = Meter.of("slag2d");
+  private static final Meter slags2Meter = Meter.of("slags2");
+  private static final Meter slagtfMeter = Meter.of("slagtf");
+  private static final Meter slagtmMeter = Meter.of("slagtm");
+  private static final Meter slagtsMeter = Meter.of("slagts");
+  private static final Meter slagv2Meter = Meter.of("slagv2");
+  private static final Meter slahqrMeter = Meter.of("slahqr");
+  private static final Meter slahr2Meter = Meter.of("slahr2");
+  private static final Meter slahrdMeter = Meter.of("slahrd");
+  private static final Meter slaic1Meter = Meter.of("slaic1");
+  private static final Meter slaisnanMeter = Meter.of("slaisnan");
+  private static final Meter slaln2Meter = Meter.of("slaln2");
+  private static final Meter slals0Meter = Meter.of("slals0");
+  private static final Meter slalsaMeter = Meter.of("slalsa");
+  private static final Meter slalsdMeter = Meter.of("slalsd");
+  private static final Meter slamrgMeter = Meter.of("slamrg");
+  private static final Meter slanegMeter = Meter.of("slaneg");
+  private static final Meter slangbMeter = Meter.of("slangb");
+  private static final Meter slangeMeter = Meter.of("slange");
+  private static final Meter slangtMeter = Meter.of("slangt");
+  private static final Meter slanhsMeter = Meter.of("slanhs");
+  private static final Meter slansbMeter = Meter.of("slansb");
+  private static final Meter slanspMeter = Meter.of("slansp");
+  private static final Meter slanstMeter = Meter.of("slanst");
+  private static final Meter slansyMeter = Meter.of("slansy");
+  private static final Meter slantbMeter = Meter.of("slantb");
+  private static final Meter slantpMeter = Meter.of("slantp");
+  private static final Meter slantrMeter = Meter.of("slantr");
+  private static final Meter slanv2Meter = Meter.of("slanv2");
+  private static final Meter slapllMeter = Meter.of("slapll");
+  private static final Meter slapmtMeter = Meter.of("slapmt");
+  private static final Meter slapy2Meter = Meter.of("slapy2");
+  private static final Meter slapy3Meter = Meter.of("slapy3");
+  private static final Meter slaqgbMeter = Meter.of("slaqgb");
+  private static final Meter slaqgeMeter = Meter.of("slaqge");
+  private static final Meter slaqp2Meter = Meter.of("slaqp2");
+  private static final Meter slaqpsMeter = Meter.of("slaqps");
+  private static final Meter slaqr0Meter = Meter.of("slaqr0");
+  private static final Meter slaqr1Meter = Meter.of("slaqr1");
+  private static final Meter slaqr2Meter = Meter.of("slaqr2");
+  private static final Meter slaqr3Meter = Meter.of("slaqr3");
+  private static final Meter slaqr4Meter = Meter.of("slaqr4");
+  private static final Meter slaqr5Meter = Meter.of("slaqr5");
+  private static final Meter slaqsbMeter = Meter.of("slaqsb");
+  private static final Meter slaqspMeter = Meter.of("slaqsp");
+  private static final Meter slaqsyMeter = Meter.of("slaqsy");
+  private static final Meter slaqtrMeter = Meter.of("slaqtr");
+  private static final Meter slar1vMeter = Meter.of("slar1v");
+  private static final Meter slar2vMeter = Meter.of("slar2v");
+  private static final Meter slarfMeter = Meter.of("slarf");
+  private static final Meter slarfbMeter = Meter.of("slarfb");
+  private static final Meter slarfgMeter = Meter.of("slarfg");
+  private static final Meter slarftMeter = Meter.of("slarft");
+  private static final Meter slarfxMeter = Meter.of("slarfx");
+  private static final Meter slargvMeter = Meter.of("slargv");
+  private static final Meter slarnvMeter = Meter.of("slarnv");
+  private static final Meter slarraMeter = Meter.of("slarra");
+  private static final Meter slarrbMeter = Meter.of("slarrb");
+  private static final Meter slarrcMeter = Meter.of("slarrc");
+  private static final Meter slarrdMeter = Meter.of("slarrd");
+  private static final Meter slarreMeter = Meter.of("slarre");
+  private static final Meter slarrfMeter = Meter.of("slarrf");
+  private static final Meter slarrjMeter = Meter.of("slarrj");
+  private static final Meter slarrkMeter = Meter.of("slarrk");
+  private static final Meter slarrrMeter = Meter.of("slarrr");
+  private static final Meter slarrvMeter = Meter.of("slarrv");
+  private static final Meter slartgMeter = Meter.of("slartg");
+  private static final Meter slartvMeter = Meter.of("slartv");
+  private static final Meter slaruvMeter = Meter.of("slaruv");
+  private static final Meter slarzMeter = Meter.of("slarz");
+  private static final Meter slarzbMeter = Meter.of("slarzb");
+  private static final Meter slarztMeter = Meter.of("slarzt");
+  private static final Meter slas2Meter = Meter.of("slas2");
+  private static final Meter slasclMeter = Meter.of("slascl");
+  private static final Meter slasd0Meter = Meter.of("slasd0");
+  private static final Meter slasd1Meter = Meter.of("slasd1");
+  private static final Meter slasd2Meter = Meter.of("slasd2");
+  private static final Meter slasd3Meter = Meter.of("slasd3");
+  private static final Meter slasd4Meter = Meter.of("slasd4");
+  private static final Meter slasd5Meter = Meter.of("slasd5");
+  private static final Meter slasd6Meter = Meter.of("slasd6");
+  private static final Meter slasd7Meter = Meter.of("slasd7");
+  private static final Meter slasd8Meter = Meter.of("slasd8");
+  private static final Meter slasdaMeter = Meter.of("slasda");
+  private static final Meter slasdqMeter = Meter.of("slasdq");
+  private static final Meter slasdtMeter = Meter.of("slasdt");
+  private static final Meter slasetMeter = Meter.of("slaset");
+  private static final Meter slasq1Meter = Meter.of("slasq1");
+  private static final Meter slasq2Meter = Meter.of("slasq2");
+  private static final Meter slasq3Meter = Meter.of("slasq3");
+  private static final Meter slasq4Meter = Meter.of("slasq4");
+  private static final Meter slasq5Meter = Meter.of("slasq5");
+  private static final Meter slasq6Meter = Meter.of("slasq6");
+  private static final Meter slasrMeter = Meter.of("slasr");
+  private static final Meter slasrtMeter = Meter.of("slasrt");
+  private static final Meter slassqMeter = Meter.of("slassq");
+  private static final Meter slasv2Meter = Meter.of("slasv2");
+  private static final Meter slaswpMeter = Meter.of("slaswp");
+  private static final Meter slasy2Meter = Meter.of("slasy2");
+  private static final Meter slasyfMeter = Meter.of("slasyf");
+  private static final Meter slatbsMeter = Meter.of("slatbs");
+  private static final Meter slatdfMeter = Meter.of("slatdf");
+  private static final Meter slatpsMeter = Meter.of("slatps");
+  private static final Meter slatrdMeter = Meter.of("slatrd");
+  private static final Meter slatrsMeter = Meter.of("slatrs");
+  private static final Meter slatrzMeter = Meter.of("slatrz");
+  private static final Meter slatzmMeter = Meter.of("slatzm");
+  private static final Meter slauu2Meter = Meter.of("slauu2");
+  private static final Meter slauumMeter = Meter.of("slauum");
+  private static final Meter slazq3Meter = Meter.of("slazq3");
+  private static final Meter slazq4Meter = Meter.of("slazq4");
+  private static final Meter sopgtrMeter = Meter.of("sopgtr");
+  private static final Meter sopmtrMeter = Meter.of("sopmtr");
+  private static final Meter sorg2lMeter = Meter.of("sorg2l");
+  private static final Meter sorg2rMeter = Meter.of("sorg2r");
+  private static final Meter sorgbrMeter = Meter.of("sorgbr");
+  private static final Meter sorghrMeter = Meter.of("sorghr");
+  private static final Meter sorgl2Meter = Meter.of("sorgl2");
+  private static final Meter sorglqMeter = Meter.of("sorglq");
+  private static final Meter sorgqlMeter = Meter.of("sorgql");
+  private static final Meter sorgqrMeter = Meter.of("sorgqr");
+  private static final Meter sorgr2Meter = Meter.of("sorgr2");
+  private static final Meter sorgrqMeter = Meter.of("sorgrq");
+  private static final Meter sorgtrMeter = Meter.of("sorgtr");
+  private static final Meter sorm2lMeter = Meter.of("sorm2l");
+  private static final Meter sorm2rMeter = Meter.of("sorm2r");
+  private static final Meter sormbrMeter = Meter.of("sormbr");
+  private static final Meter sormhrMeter = Meter.of("sormhr");
+  private static final Meter sorml2Meter = Meter.of("sorml2");
+  private static final Meter sormlqMeter = Meter.of("sormlq");
+  private static final Meter sormqlMeter = Meter.of("sormql");
+  private static final Meter sormqrMeter = Meter.of("sormqr");
+  private static final Meter sormr2Meter = Meter.of("sormr2");
+  private static final Meter sormr3Meter = Meter.of("sormr3");
+  private static final Meter sormrqMeter = Meter.of("sormrq");
+  private static final Meter sormrzMeter = Meter.of("sormrz");
+  private static final Meter sormtrMeter = Meter.of("sormtr");
+  private static final Meter spbconMeter = Meter.of("spbcon");
+  private static final Meter spbequMeter = Meter.of("spbequ");
+  private static final Meter spbrfsMeter = Meter.of("spbrfs");
+  private static final Meter spbstfMeter = Meter.of("spbstf");
+  private static final Meter spbsvMeter = Meter.of("spbsv");
+  private static final Meter spbsvxMeter = Meter.of("spbsvx");
+  private static final Meter spbtf2Meter = Meter.of("spbtf2");
+  private static final Meter spbtrfMeter = Meter.of("spbtrf");
+  private static final Meter spbtrsMeter = Meter.of("spbtrs");
+  private static final Meter spoconMeter = Meter.of("spocon");
+  private static final Meter spoequMeter = Meter.of("spoequ");
+  private static final Meter sporfsMeter = Meter.of("sporfs");
+  private static final Meter sposvMeter = Meter.of("sposv");
+  private static final Meter sposvxMeter = Meter.of("sposvx");
+  private static final Meter spotf2Meter = Meter.of("spotf2");
+  private static final Meter spotrfMeter = Meter.of("spotrf");
+  private static final Meter spotriMeter = Meter.of("spotri");
+  private static final Meter spotrsMeter = Meter.of("spotrs");
+  private static final Meter sppconMeter = Meter.of("sppcon");
+  private static final Meter sppequMeter = Meter.of("sppequ");
+  private static final Meter spprfsMeter = Meter.of("spprfs");
+  private static final Meter sppsvMeter = Meter.of("sppsv");
+  private static final Meter sppsvxMeter = Meter.of("sppsvx");
+  private static final Meter spptrfMeter = Meter.of("spptrf");
+  private static final Meter spptriMeter = Meter.of("spptri");
+  private static final Meter spptrsMeter = Meter.of("spptrs");
+  private static final Meter sptconMeter = Meter.of("sptcon");
+  private static final Meter spteqrMeter = Meter.of("spteqr");
+  private static final Meter sptrfsMeter = Meter.of("sptrfs");
+  private static final Meter sptsvMeter = Meter.of("sptsv");
+  private static final Meter sptsvxMeter = Meter.of("sptsvx");
+  private static final Meter spttrfMeter = Meter.of("spttrf");
+  private static final Meter spttrsMeter = Meter.of("spttrs");
+  private static final Meter sptts2Meter = Meter.of("sptts2");
+  private static final Meter srsclMeter = Meter.of("srscl");
+  private static final Meter ssbevMeter = Meter.of("ssbev");
+  private static final Meter ssbevdMeter = Meter.of("ssbevd");
+  private static final Meter ssbevxMeter = Meter.of("ssbevx");
+  private static final Meter ssbgstMeter = Meter.of("ssbgst");
+  private static final Meter ssbgvMeter = Meter.of("ssbgv");
+  private static final Meter ssbgvdMeter = Meter.of("ssbgvd");
+  private static final Meter ssbgvxMeter = Meter.of("ssbgvx");
+  private static final Meter ssbtrdMeter = Meter.of("ssbtrd");
+  private static final Meter sspconMeter = Meter.of("sspcon");
+  private static final Meter sspevMeter = Meter.of("sspev");
+  private static final Meter sspevdMeter = Meter.of("sspevd");
+  private static final Meter sspevxMeter = Meter.of("sspevx");
+  private static final Meter sspgstMeter = Meter.of("sspgst");
+  private static final Meter sspgvMeter = Meter.of("sspgv");
+  private static final Meter sspgvdMeter = Meter.of("sspgvd");
+  private static final Meter sspgvxMeter = Meter.of("sspgvx");
+  private static final Meter ssprfsMeter = Meter.of("ssprfs");
+  private static final Meter sspsvMeter = Meter.of("sspsv");
+  private static final Meter sspsvxMeter = Meter.of("sspsvx");
+  private static final Meter ssptrdMeter = Meter.of("ssptrd");
+  private static final Meter ssptrfMeter = Meter.of("ssptrf");
+  private static final Meter ssptriMeter = Meter.of("ssptri");
+  private static final Meter ssptrsMeter = Meter.of("ssptrs");
+  private static final Meter sstebzMeter = Meter.of("sstebz");
+  private static final Meter sstedcMeter = Meter.of("sstedc");
+  private static final Meter sstegrMeter = Meter.of("sstegr");
+  private static final Meter ssteinMeter = Meter.of("sstein");
+  private static final Meter sstemrMeter = Meter.of("sstemr");
+  private static final Meter ssteqrMeter = Meter.of("ssteqr");
+  private static final Meter ssterfMeter = Meter.of("ssterf");
+  private static final Meter sstevMeter = Meter.of("sstev");
+  private static final Meter sstevdMeter = Meter.of("sstevd");
+  private static final Meter sstevrMeter = Meter.of("sstevr");
+  private static final Meter sstevxMeter = Meter.of("sstevx");
+  private static final Meter ssyconMeter = Meter.of("ssycon");
+  private static final Meter ssyevMeter = Meter.of("ssyev");
+  private static final Meter ssyevdMeter = Meter.of("ssyevd");
+  private static final Meter ssyevrMeter = Meter.of("ssyevr");
+  private static final Meter ssyevxMeter = Meter.of("ssyevx");
+  private static final Meter ssygs2Meter = Meter.of("ssygs2");
+  private static final Meter ssygstMeter = Meter.of("ssygst");
+  private static final Meter ssygvMeter = Meter.of("ssygv");
+  private static final Meter ssygvdMeter = Meter.of("ssygvd");
+  private static final Meter ssygvxMeter = Meter.of("ssygvx");
+  private static final Meter ssyrfsMeter = Meter.of("ssyrfs");
+  private static final Meter ssysvMeter = Meter.of("ssysv");
+  private static final Meter ssysvxMeter = Meter.of("ssysvx");
+  private static final Meter ssytd2Meter = Meter.of("ssytd2");
+  private static final Meter ssytf2Meter = Meter.of("ssytf2");
+  private static final Meter ssytrdMeter = Meter.of("ssytrd");
+  private static final Meter ssytrfMeter = Meter.of("ssytrf");
+  private static final Meter ssytriMeter = Meter.of("ssytri");
+  private static final Meter ssytrsMeter = Meter.of("ssytrs");
+  private static final Meter stbconMeter = Meter.of("stbcon");
+  private static final Meter stbrfsMeter = Meter.of("stbrfs");
+  private static final Meter stbtrsMeter = Meter.of("stbtrs");
+  private static final Meter stgevcMeter = Meter.of("stgevc");
+  private static final Meter stgex2Meter = Meter.of("stgex2");
+  private static final Meter stgexcMeter = Meter.of("stgexc");
+  private static final Meter stgsenMeter = Meter.of("stgsen");
+  private static final Meter stgsjaMeter = Meter.of("stgsja");
+  private static final Meter stgsnaMeter = Meter.of("stgsna");
+  private static final Meter stgsy2Meter = Meter.of("stgsy2");
+  private static final Meter stgsylMeter = Meter.of("stgsyl");
+  private static final Meter stpconMeter = Meter.of("stpcon");
+  private static final Meter stprfsMeter = Meter.of("stprfs");
+  private static final Meter stptriMeter = Meter.of("stptri");
+  private static final Meter stptrsMeter = Meter.of("stptrs");
+  private static final Meter strconMeter = Meter.of("strcon");
+  private static final Meter strevcMeter = Meter.of("strevc");
+  private static final Meter strexcMeter = Meter.of("strexc");
+  private static final Meter strrfsMeter = Meter.of("strrfs");
+  private static final Meter strsenMeter = Meter.of("strsen");
+  private static final Meter strsnaMeter = Meter.of("strsna");
+  private static final Meter strsylMeter = Meter.of("strsyl");
+  private static final Meter strti2Meter = Meter.of("strti2");
+  private static final Meter strtriMeter = Meter.of("strtri");
+  private static final Meter strtrsMeter = Meter.of("strtrs");
+  private static final Meter stzrqfMeter = Meter.of("stzrqf");
+  private static final Meter stzrzfMeter = Meter.of("stzrzf");
+  private static final Meter dlamchMeter = Meter.of("dlamch");
+  private static final Meter dlamc1Meter = Meter.of("dlamc1");
+  private static final Meter dlamc2Meter = Meter.of("dlamc2");
+  private static final Meter dlamc3Meter = Meter.of("dlamc3");
+  private static final Meter dlamc4Meter = Meter.of("dlamc4");
+  private static final Meter dlamc5Meter = Meter.of("dlamc5");
+  private static final Meter dsecndMeter = Meter.of("dsecnd");
+  private static final Meter lsameMeter = Meter.of("lsame");
+  private static final Meter secondMeter = Meter.of("second");
+  private static final Meter slamchMeter = Meter.of("slamch");
+  private static final Meter slamc1Meter = Meter.of("slamc1");
+  private static final Meter slamc2Meter = Meter.of("slamc2");
+  private static final Meter slamc3Meter = Meter.of("slamc3");
+  private static final Meter slamc4Meter = Meter.of("slamc4");
+  private static final Meter slamc5Meter = Meter.of("slamc5");
+
+  public void dbdsdc(String uplo, String compq, int n, double[] d, double[] e, double[] u, int ldu, double[] vt, int ldvt, double[] q, int[] iq, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dbdsdc(uplo, compq, n, d, e, u, ldu, vt, ldvt, q, iq, work, iwork, info);
+    dbdsdcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dbdsdc(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dbdsdc(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+    dbdsdcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dbdsqr(String uplo, int n, int ncvt, int nru, int ncc, double[] d, double[] e, double[] vt, int ldvt, double[] u, int ldu, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dbdsqr(uplo, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+    dbdsqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dbdsqr(String uplo, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dbdsqr(uplo, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    dbdsqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ddisna(String job, int m, int n, double[] d, double[] sep, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ddisna(job, m, n, d, sep, info);
+    ddisnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ddisna(String job, int m, int n, double[] d, int offsetd, double[] sep, int offsetsep, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ddisna(job, m, n, d, offsetd, sep, offsetsep, info);
+    ddisnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbbrd(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int ldab, double[] d, double[] e, double[] q, int ldq, double[] pt, int ldpt, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbbrd(vect, m, n, ncc, kl, ku, ab, ldab, d, e, q, ldq, pt, ldpt, c, Ldc, work, info);
+    dgbbrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbbrd(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] pt, int offsetpt, int ldpt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbbrd(vect, m, n, ncc, kl, ku, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, pt, offsetpt, ldpt, c, offsetc, Ldc, work, offsetwork, info);
+    dgbbrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbcon(String norm, int n, int kl, int ku, double[] ab, int ldab, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbcon(norm, n, kl, ku, ab, ldab, ipiv, anorm, rcond, work, iwork, info);
+    dgbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbcon(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbcon(norm, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dgbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbequ(int m, int n, int kl, int ku, double[] ab, int ldab, double[] r, double[] c, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbequ(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, info);
+    dgbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbequ(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbequ(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    dgbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbrfs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbrfs(trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dgbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbrfs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbrfs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dgbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbsv(int n, int kl, int ku, int nrhs, double[] ab, int ldab, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbsv(n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+    dgbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbsv(int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbsv(n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dgbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, int[] ipiv, org.netlib.util.StringW equed, double[] r, double[] c, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbsvx(fact, trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    dgbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbsvx(fact, trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dgbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbtf2(int m, int n, int kl, int ku, double[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbtf2(m, n, kl, ku, ab, ldab, ipiv, info);
+    dgbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbtf2(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbtf2(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    dgbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbtrf(int m, int n, int kl, int ku, double[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbtrf(m, n, kl, ku, ab, ldab, ipiv, info);
+    dgbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbtrf(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbtrf(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    dgbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbtrs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int ldab, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbtrs(trans, n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+    dgbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgbtrs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgbtrs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dgbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebak(String job, String side, int n, int ilo, int ihi, double[] scale, int m, double[] v, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebak(job, side, n, ilo, ihi, scale, m, v, ldv, info);
+    dgebakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebak(String job, String side, int n, int ilo, int ihi, double[] scale, int offsetscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebak(job, side, n, ilo, ihi, scale, offsetscale, m, v, offsetv, ldv, info);
+    dgebakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebal(String job, int n, double[] a, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebal(job, n, a, lda, ilo, ihi, scale, info);
+    dgebalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebal(String job, int n, double[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebal(job, n, a, offseta, lda, ilo, ihi, scale, offsetscale, info);
+    dgebalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebd2(int m, int n, double[] a, int lda, double[] d, double[] e, double[] tauq, double[] taup, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebd2(m, n, a, lda, d, e, tauq, taup, work, info);
+    dgebd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebd2(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebd2(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, info);
+    dgebd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebrd(int m, int n, double[] a, int lda, double[] d, double[] e, double[] tauq, double[] taup, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebrd(m, n, a, lda, d, e, tauq, taup, work, lwork, info);
+    dgebrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgebrd(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgebrd(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+    dgebrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgecon(String norm, int n, double[] a, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgecon(norm, n, a, lda, anorm, rcond, work, iwork, info);
+    dgeconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgecon(String norm, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgecon(norm, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dgeconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeequ(int m, int n, double[] a, int lda, double[] r, double[] c, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeequ(m, n, a, lda, r, c, rowcnd, colcnd, amax, info);
+    dgeequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeequ(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeequ(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    dgeequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgees(String jobvs, String sort, java.lang.Object select, int n, double[] a, int lda, org.netlib.util.intW sdim, double[] wr, double[] wi, double[] vs, int ldvs, double[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgees(jobvs, sort, select, n, a, lda, sdim, wr, wi, vs, ldvs, work, lwork, bwork, info);
+    dgeesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgees(String jobvs, String sort, java.lang.Object select, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgees(jobvs, sort, select, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, work, offsetwork, lwork, bwork, offsetbwork, info);
+    dgeesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int lda, org.netlib.util.intW sdim, double[] wr, double[] wi, double[] vs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeesx(jobvs, sort, select, sense, n, a, lda, sdim, wr, wi, vs, ldvs, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+    dgeesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeesx(jobvs, sort, select, sense, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, rconde, rcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    dgeesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeev(String jobvl, String jobvr, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeev(jobvl, jobvr, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, work, lwork, info);
+    dgeevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeev(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeev(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    dgeevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, org.netlib.util.doubleW abnrm, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeevx(balanc, jobvl, jobvr, sense, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, ilo, ihi, scale, abnrm, rconde, rcondv, work, lwork, iwork, info);
+    dgeevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, scale, offsetscale, abnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, info);
+    dgeevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgegs(String jobvsl, String jobvsr, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vsl, int ldvsl, double[] vsr, int ldvsr, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgegs(jobvsl, jobvsr, n, a, lda, b, ldb, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, info);
+    dgegsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgegs(String jobvsl, String jobvsr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgegs(jobvsl, jobvsr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, info);
+    dgegsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgegv(String jobvl, String jobvr, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vl, int ldvl, double[] vr, int ldvr, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgegv(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+    dgegvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgegv(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgegv(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    dgegvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgehd2(int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgehd2(n, ilo, ihi, a, lda, tau, work, info);
+    dgehd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgehd2(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgehd2(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dgehd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgehrd(int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgehrd(n, ilo, ihi, a, lda, tau, work, lwork, info);
+    dgehrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgehrd(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgehrd(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dgehrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelq2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelq2(m, n, a, lda, tau, work, info);
+    dgelq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelq2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dgelq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelqf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelqf(m, n, a, lda, tau, work, lwork, info);
+    dgelqfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void dgelqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dgelqfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void dgels(String trans, int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgels(trans, m, n, nrhs, a, lda, b, ldb, work, lwork, info);
+    dgelsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgels(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgels(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    dgelsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelsd(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelsd(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, iwork, info);
+    dgelsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelsd(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelsd(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+    dgelsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelss(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelss(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, info);
+    dgelssMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelss(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelss(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+    dgelssMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelsx(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, int[] jpvt, double rcond, org.netlib.util.intW rank, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelsx(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, info);
+    dgelsxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelsx(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelsx(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, info);
+    dgelsxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelsy(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, int[] jpvt, double rcond, org.netlib.util.intW rank, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelsy(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, lwork, info);
+    dgelsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgelsy(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgelsy(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, lwork, info);
+    dgelsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeql2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeql2(m, n, a, lda, tau, work, info);
+    dgeql2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeql2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeql2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dgeql2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqlf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqlf(m, n, a, lda, tau, work, lwork, info);
+    dgeqlfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqlf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqlf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dgeqlfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqp3(int m, int n, double[] a, int lda, int[] jpvt, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqp3(m, n, a, lda, jpvt, tau, work, lwork, info);
+    dgeqp3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqp3(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqp3(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+    dgeqp3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqpf(int m, int n, double[] a, int lda, int[] jpvt, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqpf(m, n, a, lda, jpvt, tau, work, info);
+    dgeqpfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqpf(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqpf(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, info);
+    dgeqpfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqr2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqr2(m, n, a, lda, tau, work, info);
+    dgeqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqr2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqr2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dgeqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgeqrf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqrf(m, n, a, lda, tau, work, lwork, info);
+    dgeqrfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void dgeqrf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgeqrf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dgeqrfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void dgerfs(String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgerfs(trans, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dgerfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgerfs(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgerfs(trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dgerfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgerq2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgerq2(m, n, a, lda, tau, work, info);
+    dgerq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgerq2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgerq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dgerq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgerqf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgerqf(m, n, a, lda, tau, work, lwork, info);
+    dgerqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgerqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgerqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dgerqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesc2(int n, double[] a, int lda, double[] rhs, int[] ipiv, int[] jpiv, org.netlib.util.doubleW scale) {
+    long start = System.nanoTime();
+    lapack.dgesc2(n, a, lda, rhs, ipiv, jpiv, scale);
+    dgesc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesc2(int n, double[] a, int offseta, int lda, double[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.doubleW scale) {
+    long start = System.nanoTime();
+    lapack.dgesc2(n, a, offseta, lda, rhs, offsetrhs, ipiv, offsetipiv, jpiv, offsetjpiv, scale);
+    dgesc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesdd(String jobz, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesdd(jobz, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, iwork, info);
+    dgesddMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesdd(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesdd(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    dgesddMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesv(int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesv(n, nrhs, a, lda, ipiv, b, ldb, info);
+    dgesvMeter.record(System.nanoTime() - start, 2L * n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void dgesv(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dgesvMeter.record(System.nanoTime() - start, 2L * n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesvd(jobu, jobvt, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, info);
+    dgesvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesvd(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    dgesvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, double[] r, double[] c, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesvx(fact, trans, n, nrhs, a, lda, af, ldaf, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    dgesvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgesvx(fact, trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dgesvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgetc2(int n, double[] a, int lda, int[] ipiv, int[] jpiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetc2(n, a, lda, ipiv, jpiv, info);
+    dgetc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgetc2(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetc2(n, a, offseta, lda, ipiv, offsetipiv, jpiv, offsetjpiv, info);
+    dgetc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgetf2(int m, int n, double[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetf2(m, n, a, lda, ipiv, info);
+    dgetf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgetf2(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetf2(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    dgetf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgetrf(int m, int n, double[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetrf(m, n, a, lda, ipiv, info);
+    dgetrfMeter.record(System.nanoTime() - start, (long) Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - (long) Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void dgetrf(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetrf(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    dgetrfMeter.record(System.nanoTime() - start, (long) Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - (long) Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void dgetri(int n, double[] a, int lda, int[] ipiv, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetri(n, a, lda, ipiv, work, lwork, info);
+    dgetriMeter.record(System.nanoTime() - start, 4L * n * n * n / 3);
+  }
+
+  public void dgetri(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetri(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    dgetriMeter.record(System.nanoTime() - start, 4L * n * n * n / 3);
+  }
+
+  public void dgetrs(String trans, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetrs(trans, n, nrhs, a, lda, ipiv, b, ldb, info);
+    dgetrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void dgetrs(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgetrs(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dgetrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, double[] rscale, int m, double[] v, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggbak(job, side, n, ilo, ihi, lscale, rscale, m, v, ldv, info);
+    dggbakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggbak(job, side, n, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, m, v, offsetv, ldv, info);
+    dggbakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggbal(String job, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, double[] rscale, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggbal(job, n, a, lda, b, ldb, ilo, ihi, lscale, rscale, work, info);
+    dggbalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggbal(String job, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggbal(job, n, a, offseta, lda, b, offsetb, ldb, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, work, offsetwork, info);
+    dggbalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW sdim, double[] alphar, double[] alphai, double[] beta, double[] vsl, int ldvsl, double[] vsr, int ldvsr, double[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgges(jobvsl, jobvsr, sort, selctg, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, bwork, info);
+    dggesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgges(jobvsl, jobvsr, sort, selctg, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, bwork, offsetbwork, info);
+    dggesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW sdim, double[] alphar, double[] alphai, double[] beta, double[] vsl, int ldvsl, double[] vsr, int ldvsr, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+    dggesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    dggesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggev(String jobvl, String jobvr, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vl, int ldvl, double[] vr, int ldvr, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggev(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+    dggevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggev(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggev(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    dggevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, double[] rscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggevx(balanc, jobvl, jobvr, sense, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, ilo, ihi, lscale, rscale, abnrm, bbnrm, rconde, rcondv, work, lwork, iwork, bwork, info);
+    dggevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, abnrm, bbnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, bwork, offsetbwork, info);
+    dggevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggglm(int n, int m, int p, double[] a, int lda, double[] b, int ldb, double[] d, double[] x, double[] y, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggglm(n, m, p, a, lda, b, ldb, d, x, y, work, lwork, info);
+    dggglmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggglm(int n, int m, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] d, int offsetd, double[] x, int offsetx, double[] y, int offsety, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggglm(n, m, p, a, offseta, lda, b, offsetb, ldb, d, offsetd, x, offsetx, y, offsety, work, offsetwork, lwork, info);
+    dggglmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgghrd(String compq, String compz, int n, int ilo, int ihi, double[] a, int lda, double[] b, int ldb, double[] q, int ldq, double[] z, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgghrd(compq, compz, n, ilo, ihi, a, lda, b, ldb, q, ldq, z, ldz, info);
+    dgghrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgghrd(String compq, String compz, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgghrd(compq, compz, n, ilo, ihi, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, info);
+    dgghrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgglse(int m, int n, int p, double[] a, int lda, double[] b, int ldb, double[] c, double[] d, double[] x, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgglse(m, n, p, a, lda, b, ldb, c, d, x, work, lwork, info);
+    dgglseMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgglse(int m, int n, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, double[] d, int offsetd, double[] x, int offsetx, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgglse(m, n, p, a, offseta, lda, b, offsetb, ldb, c, offsetc, d, offsetd, x, offsetx, work, offsetwork, lwork, info);
+    dgglseMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggqrf(int n, int m, int p, double[] a, int lda, double[] taua, double[] b, int ldb, double[] taub, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggqrf(n, m, p, a, lda, taua, b, ldb, taub, work, lwork, info);
+    dggqrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggqrf(int n, int m, int p, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggqrf(n, m, p, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    dggqrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggrqf(int m, int p, int n, double[] a, int lda, double[] taua, double[] b, int ldb, double[] taub, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggrqf(m, p, n, a, lda, taua, b, ldb, taub, work, lwork, info);
+    dggrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggrqf(int m, int p, int n, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggrqf(m, p, n, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    dggrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int lda, double[] b, int ldb, double[] alpha, double[] beta, double[] u, int ldu, double[] v, int ldv, double[] q, int ldq, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggsvd(jobu, jobv, jobq, m, n, p, k, l, a, lda, b, ldb, alpha, beta, u, ldu, v, ldv, q, ldq, work, iwork, info);
+    dggsvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggsvd(jobu, jobv, jobq, m, n, p, k, l, a, offseta, lda, b, offsetb, ldb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, iwork, offsetiwork, info);
+    dggsvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggsvp(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int lda, double[] b, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int ldu, double[] v, int ldv, double[] q, int ldq, int[] iwork, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggsvp(jobu, jobv, jobq, m, p, n, a, lda, b, ldb, tola, tolb, k, l, u, ldu, v, ldv, q, ldq, iwork, tau, work, info);
+    dggsvpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dggsvp(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dggsvp(jobu, jobv, jobq, m, p, n, a, offseta, lda, b, offsetb, ldb, tola, tolb, k, l, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, iwork, offsetiwork, tau, offsettau, work, offsetwork, info);
+    dggsvpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtcon(String norm, int n, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtcon(norm, n, dl, d, du, du2, ipiv, anorm, rcond, work, iwork, info);
+    dgtconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtcon(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtcon(norm, n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dgtconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtrfs(String trans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] dlf, double[] df, double[] duf, double[] du2, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtrfs(trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dgtrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtrfs(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtrfs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dgtrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtsv(int n, int nrhs, double[] dl, double[] d, double[] du, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtsv(n, nrhs, dl, d, du, b, ldb, info);
+    dgtsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtsv(int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtsv(n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, b, offsetb, ldb, info);
+    dgtsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtsvx(String fact, String trans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] dlf, double[] df, double[] duf, double[] du2, int[] ipiv, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtsvx(fact, trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    dgtsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtsvx(String fact, String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgtsvx(fact, trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dgtsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgttrf(int n, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgttrf(n, dl, d, du, du2, ipiv, info);
+    dgttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgttrf(int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgttrf(n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, info);
+    dgttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgttrs(String trans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgttrs(trans, n, nrhs, dl, d, du, du2, ipiv, b, ldb, info);
+    dgttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgttrs(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dgttrs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dgttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtts2(int itrans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, double[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.dgtts2(itrans, n, nrhs, dl, d, du, du2, ipiv, b, ldb);
+    dgtts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dgtts2(int itrans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.dgtts2(itrans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb);
+    dgtts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dhgeqz(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int ldh, double[] t, int ldt, double[] alphar, double[] alphai, double[] beta, double[] q, int ldq, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dhgeqz(job, compq, compz, n, ilo, ihi, h, ldh, t, ldt, alphar, alphai, beta, q, ldq, z, ldz, work, lwork, info);
+    dhgeqzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dhgeqz(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] t, int offsett, int ldt, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dhgeqz(job, compq, compz, n, ilo, ihi, h, offseth, ldh, t, offsett, ldt, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, work, offsetwork, lwork, info);
+    dhgeqzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dhsein(String side, String eigsrc, String initv, boolean[] select, int n, double[] h, int ldh, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int[] ifaill, int[] ifailr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dhsein(side, eigsrc, initv, select, n, h, ldh, wr, wi, vl, ldvl, vr, ldvr, mm, m, work, ifaill, ifailr, info);
+    dhseinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dhsein(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dhsein(side, eigsrc, initv, select, offsetselect, n, h, offseth, ldh, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, ifaill, offsetifaill, ifailr, offsetifailr, info);
+    dhseinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dhseqr(String job, String compz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dhseqr(job, compz, n, ilo, ihi, h, ldh, wr, wi, z, ldz, work, lwork, info);
+    dhseqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dhseqr(String job, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dhseqr(job, compz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, ldz, work, offsetwork, lwork, info);
+    dhseqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public boolean disnan(double din) {
+    long start = System.nanoTime();
+    boolean result = lapack.disnan(din);
+    disnanMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void dlabad(org.netlib.util.doubleW small, org.netlib.util.doubleW large) {
+    long start = System.nanoTime();
+    lapack.dlabad(small, large);
+    dlabadMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlabrd(int m, int n, int nb, double[] a, int lda, double[] d, double[] e, double[] tauq, double[] taup, double[] x, int ldx, double[] y, int ldy) {
+    long start = System.nanoTime();
+    lapack.dlabrd(m, n, nb, a, lda, d, e, tauq, taup, x, ldx, y, ldy);
+    dlabrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlabrd(int m, int n, int nb, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+    long start = System.nanoTime();
+    lapack.dlabrd(m, n, nb, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, x, offsetx, ldx, y, offsety, ldy);
+    dlabrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlacn2(int n, double[] v, double[] x, int[] isgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave) {
+    long start = System.nanoTime();
+    lapack.dlacn2(n, v, x, isgn, est, kase, isave);
+    dlacn2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlacn2(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    long start = System.nanoTime();
+    lapack.dlacn2(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase, isave, offsetisave);
+    dlacn2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlacon(int n, double[] v, double[] x, int[] isgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
+    long start = System.nanoTime();
+    lapack.dlacon(n, v, x, isgn, est, kase);
+    dlaconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlacon(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
+    long start = System.nanoTime();
+    lapack.dlacon(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase);
+    dlaconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlacpy(String uplo, int m, int n, double[] a, int lda, double[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.dlacpy(uplo, m, n, a, lda, b, ldb);
+    dlacpyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlacpy(String uplo, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.dlacpy(uplo, m, n, a, offseta, lda, b, offsetb, ldb);
+    dlacpyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dladiv(double a, double b, double c, double d, org.netlib.util.doubleW p, org.netlib.util.doubleW q) {
+    long start = System.nanoTime();
+    lapack.dladiv(a, b, c, d, p, q);
+    dladivMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlae2(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2) {
+    long start = System.nanoTime();
+    lapack.dlae2(a, b, c, rt1, rt2);
+    dlae2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, double[] e, double[] e2, int[] nval, double[] ab, double[] c, org.netlib.util.intW mout, int[] nab, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, e, e2, nval, ab, c, mout, nab, work, iwork, info);
+    dlaebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, int[] nval, int offsetnval, double[] ab, int offsetab, double[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, offsetd, e, offsete, e2, offsete2, nval, offsetnval, ab, offsetab, c, offsetc, mout, nab, offsetnab, work, offsetwork, iwork, offsetiwork, info);
+    dlaebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed0(int icompq, int qsiz, int n, double[] d, double[] e, double[] q, int ldq, double[] qstore, int ldqs, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed0(icompq, qsiz, n, d, e, q, ldq, qstore, ldqs, work, iwork, info);
+    dlaed0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed0(int icompq, int qsiz, int n, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] qstore, int offsetqstore, int ldqs, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed0(icompq, qsiz, n, d, offsetd, e, offsete, q, offsetq, ldq, qstore, offsetqstore, ldqs, work, offsetwork, iwork, offsetiwork, info);
+    dlaed0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed1(int n, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed1(n, d, q, ldq, indxq, rho, cutpnt, work, iwork, info);
+    dlaed1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed1(int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed1(n, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, work, offsetwork, iwork, offsetiwork, info);
+    dlaed1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed2(org.netlib.util.intW k, int n, int n1, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, double[] z, double[] dlamda, double[] w, double[] q2, int[] indx, int[] indxc, int[] indxp, int[] coltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed2(k, n, n1, d, q, ldq, indxq, rho, z, dlamda, w, q2, indx, indxc, indxp, coltyp, info);
+    dlaed2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed2(org.netlib.util.intW k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed2(k, n, n1, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, z, offsetz, dlamda, offsetdlamda, w, offsetw, q2, offsetq2, indx, offsetindx, indxc, offsetindxc, indxp, offsetindxp, coltyp, offsetcoltyp, info);
+    dlaed2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed3(int k, int n, int n1, double[] d, double[] q, int ldq, double rho, double[] dlamda, double[] q2, int[] indx, int[] ctot, double[] w, double[] s, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed3(k, n, n1, d, q, ldq, rho, dlamda, q2, indx, ctot, w, s, info);
+    dlaed3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed3(int k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, double[] w, int offsetw, double[] s, int offsets, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed3(k, n, n1, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, q2, offsetq2, indx, offsetindx, ctot, offsetctot, w, offsetw, s, offsets, info);
+    dlaed3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed4(int n, int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed4(n, i, d, z, delta, rho, dlam, info);
+    dlaed4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed4(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam, info);
+    dlaed4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed5(int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW dlam) {
+    long start = System.nanoTime();
+    lapack.dlaed5(i, d, z, delta, rho, dlam);
+    dlaed5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed5(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam) {
+    long start = System.nanoTime();
+    lapack.dlaed5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam);
+    dlaed5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed6(int kniter, boolean orgati, double rho, double[] d, double[] z, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed6(kniter, orgati, rho, d, z, finit, tau, info);
+    dlaed6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed6(int kniter, boolean orgati, double rho, double[] d, int offsetd, double[] z, int offsetz, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed6(kniter, orgati, rho, d, offsetd, z, offsetz, finit, tau, info);
+    dlaed6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int[] qptr, int[] prmptr, int[] perm, int[] givptr, int[] givcol, double[] givnum, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, q, ldq, indxq, rho, cutpnt, qstore, qptr, prmptr, perm, givptr, givcol, givnum, work, iwork, info);
+    dlaed7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, qstore, offsetqstore, qptr, offsetqptr, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, work, offsetwork, iwork, offsetiwork, info);
+    dlaed7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, double[] dlamda, double[] q2, int ldq2, double[] w, int[] perm, org.netlib.util.intW givptr, int[] givcol, double[] givnum, int[] indxp, int[] indx, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed8(icompq, k, n, qsiz, d, q, ldq, indxq, rho, cutpnt, z, dlamda, q2, ldq2, w, perm, givptr, givcol, givnum, indxp, indx, info);
+    dlaed8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int ldq2, double[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed8(icompq, k, n, qsiz, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, z, offsetz, dlamda, offsetdlamda, q2, offsetq2, ldq2, w, offsetw, perm, offsetperm, givptr, givcol, offsetgivcol, givnum, offsetgivnum, indxp, offsetindxp, indx, offsetindx, info);
+    dlaed8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed9(int k, int kstart, int kstop, int n, double[] d, double[] q, int ldq, double rho, double[] dlamda, double[] w, double[] s, int lds, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed9(k, kstart, kstop, n, d, q, ldq, rho, dlamda, w, s, lds, info);
+    dlaed9Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaed9(int k, int kstart, int kstop, int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] s, int offsets, int lds, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaed9(k, kstart, kstop, n, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, w, offsetw, s, offsets, lds, info);
+    dlaed9Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int[] perm, int[] givptr, int[] givcol, double[] givnum, double[] q, int[] qptr, double[] z, double[] ztemp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaeda(n, tlvls, curlvl, curpbm, prmptr, perm, givptr, givcol, givnum, q, qptr, z, ztemp, info);
+    dlaedaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] q, int offsetq, int[] qptr, int offsetqptr, double[] z, int offsetz, double[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaeda(n, tlvls, curlvl, curpbm, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, q, offsetq, qptr, offsetqptr, z, offsetz, ztemp, offsetztemp, info);
+    dlaedaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaein(boolean rightv, boolean noinit, int n, double[] h, int ldh, double wr, double wi, double[] vr, double[] vi, double[] b, int ldb, double[] work, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaein(rightv, noinit, n, h, ldh, wr, wi, vr, vi, b, ldb, work, eps3, smlnum, bignum, info);
+    dlaeinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaein(boolean rightv, boolean noinit, int n, double[] h, int offseth, int ldh, double wr, double wi, double[] vr, int offsetvr, double[] vi, int offsetvi, double[] b, int offsetb, int ldb, double[] work, int offsetwork, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaein(rightv, noinit, n, h, offseth, ldh, wr, wi, vr, offsetvr, vi, offsetvi, b, offsetb, ldb, work, offsetwork, eps3, smlnum, bignum, info);
+    dlaeinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaev2(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2, org.netlib.util.doubleW cs1, org.netlib.util.doubleW sn1) {
+    long start = System.nanoTime();
+    lapack.dlaev2(a, b, c, rt1, rt2, cs1, sn1);
+    dlaev2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaexc(boolean wantq, int n, double[] t, int ldt, double[] q, int ldq, int j1, int n1, int n2, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaexc(wantq, n, t, ldt, q, ldq, j1, n1, n2, work, info);
+    dlaexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaexc(boolean wantq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, int j1, int n1, int n2, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaexc(wantq, n, t, offsett, ldt, q, offsetq, ldq, j1, n1, n2, work, offsetwork, info);
+    dlaexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlag2(double[] a, int lda, double[] b, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
+    long start = System.nanoTime();
+    lapack.dlag2(a, lda, b, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+    dlag2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlag2(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
+    long start = System.nanoTime();
+    lapack.dlag2(a, offseta, lda, b, offsetb, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+    dlag2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlag2s(int m, int n, double[] a, int lda, float[] sa, int ldsa, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlag2s(m, n, a, lda, sa, ldsa, info);
+    dlag2sMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlag2s(int m, int n, double[] a, int offseta, int lda, float[] sa, int offsetsa, int ldsa, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlag2s(m, n, a, offseta, lda, sa, offsetsa, ldsa, info);
+    dlag2sMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlags2(boolean upper, double a1, double a2, double a3, double b1, double b2, double b3, org.netlib.util.doubleW csu, org.netlib.util.doubleW snu, org.netlib.util.doubleW csv, org.netlib.util.doubleW snv, org.netlib.util.doubleW csq, org.netlib.util.doubleW snq) {
+    long start = System.nanoTime();
+    lapack.dlags2(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+    dlags2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagtf(int n, double[] a, double lambda, double[] b, double[] c, double tol, double[] d, int[] in, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlagtf(n, a, lambda, b, c, tol, d, in, info);
+    dlagtfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagtf(int n, double[] a, int offseta, double lambda, double[] b, int offsetb, double[] c, int offsetc, double tol, double[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlagtf(n, a, offseta, lambda, b, offsetb, c, offsetc, tol, d, offsetd, in, offsetin, info);
+    dlagtfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagtm(String trans, int n, int nrhs, double alpha, double[] dl, double[] d, double[] du, double[] x, int ldx, double beta, double[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.dlagtm(trans, n, nrhs, alpha, dl, d, du, x, ldx, beta, b, ldb);
+    dlagtmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagtm(String trans, int n, int nrhs, double alpha, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] x, int offsetx, int ldx, double beta, double[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.dlagtm(trans, n, nrhs, alpha, dl, offsetdl, d, offsetd, du, offsetdu, x, offsetx, ldx, beta, b, offsetb, ldb);
+    dlagtmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagts(int job, int n, double[] a, double[] b, double[] c, double[] d, int[] in, double[] y, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlagts(job, n, a, b, c, d, in, y, tol, info);
+    dlagtsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagts(int job, int n, double[] a, int offseta, double[] b, int offsetb, double[] c, int offsetc, double[] d, int offsetd, int[] in, int offsetin, double[] y, int offsety, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlagts(job, n, a, offseta, b, offsetb, c, offsetc, d, offsetd, in, offsetin, y, offsety, tol, info);
+    dlagtsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagv2(double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
+    long start = System.nanoTime();
+    lapack.dlagv2(a, lda, b, ldb, alphar, alphai, beta, csl, snl, csr, snr);
+    dlagv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlagv2(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
+    long start = System.nanoTime();
+    lapack.dlagv2(a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, csl, snl, csr, snr);
+    dlagv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, int iloz, int ihiz, double[] z, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlahqr(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, info);
+    dlahqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlahqr(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, info);
+    dlahqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlahr2(int n, int k, int nb, double[] a, int lda, double[] tau, double[] t, int ldt, double[] y, int ldy) {
+    long start = System.nanoTime();
+    lapack.dlahr2(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+    dlahr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlahr2(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    long start = System.nanoTime();
+    lapack.dlahr2(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    dlahr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlahrd(int n, int k, int nb, double[] a, int lda, double[] tau, double[] t, int ldt, double[] y, int ldy) {
+    long start = System.nanoTime();
+    lapack.dlahrd(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+    dlahrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlahrd(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    long start = System.nanoTime();
+    lapack.dlahrd(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    dlahrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaic1(int job, int j, double[] x, double sest, double[] w, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
+    long start = System.nanoTime();
+    lapack.dlaic1(job, j, x, sest, w, gamma, sestpr, s, c);
+    dlaic1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaic1(int job, int j, double[] x, int offsetx, double sest, double[] w, int offsetw, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
+    long start = System.nanoTime();
+    lapack.dlaic1(job, j, x, offsetx, sest, w, offsetw, gamma, sestpr, s, c);
+    dlaic1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public boolean dlaisnan(double din1, double din2) {
+    long start = System.nanoTime();
+    boolean result = lapack.dlaisnan(din1, din2);
+    dlaisnanMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void dlaln2(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int lda, double d1, double d2, double[] b, int ldb, double wr, double wi, double[] x, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaln2(ltrans, na, nw, smin, ca, a, lda, d1, d2, b, ldb, wr, wi, x, ldx, scale, xnorm, info);
+    dlaln2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaln2(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int offseta, int lda, double d1, double d2, double[] b, int offsetb, int ldb, double wr, double wi, double[] x, int offsetx, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaln2(ltrans, na, nw, smin, ca, a, offseta, lda, d1, d2, b, offsetb, ldb, wr, wi, x, offsetx, ldx, scale, xnorm, info);
+    dlaln2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlals0(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int ldb, double[] bx, int ldbx, int[] perm, int givptr, int[] givcol, int ldgcol, double[] givnum, int ldgnum, double[] poles, double[] difl, double[] difr, double[] z, int k, double c, double s, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlals0(icompq, nl, nr, sqre, nrhs, b, ldb, bx, ldbx, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, info);
+    dlals0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlals0(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, int k, double c, double s, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlals0(icompq, nl, nr, sqre, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, info);
+    dlals0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlalsa(int icompq, int smlsiz, int n, int nrhs, double[] b, int ldb, double[] bx, int ldbx, double[] u, int ldu, double[] vt, int[] k, double[] difl, double[] difr, double[] z, double[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, double[] givnum, double[] c, double[] s, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlalsa(icompq, smlsiz, n, nrhs, b, ldb, bx, ldbx, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+    dlalsaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlalsa(int icompq, int smlsiz, int n, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlalsa(icompq, smlsiz, n, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    dlalsaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlalsd(String uplo, int smlsiz, int n, int nrhs, double[] d, double[] e, double[] b, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlalsd(uplo, smlsiz, n, nrhs, d, e, b, ldb, rcond, rank, work, iwork, info);
+    dlalsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlalsd(String uplo, int smlsiz, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlalsd(uplo, smlsiz, n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, rcond, rank, work, offsetwork, iwork, offsetiwork, info);
+    dlalsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlamrg(int n1, int n2, double[] a, int dtrd1, int dtrd2, int[] index) {
+    long start = System.nanoTime();
+    lapack.dlamrg(n1, n2, a, dtrd1, dtrd2, index);
+    dlamrgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlamrg(int n1, int n2, double[] a, int offseta, int dtrd1, int dtrd2, int[] index, int offsetindex) {
+    long start = System.nanoTime();
+    lapack.dlamrg(n1, n2, a, offseta, dtrd1, dtrd2, index, offsetindex);
+    dlamrgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public int dlaneg(int n, double[] d, double[] lld, double sigma, double pivmin, int r) {
+    long start = System.nanoTime();
+    int result = lapack.dlaneg(n, d, lld, sigma, pivmin, r);
+    dlanegMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public int dlaneg(int n, double[] d, int offsetd, double[] lld, int offsetlld, double sigma, double pivmin, int r) {
+    long start = System.nanoTime();
+    int result = lapack.dlaneg(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+    dlanegMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlangb(String norm, int n, int kl, int ku, double[] ab, int ldab, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlangb(norm, n, kl, ku, ab, ldab, work);
+    dlangbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlangb(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlangb(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+    dlangbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlange(String norm, int m, int n, double[] a, int lda, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlange(norm, m, n, a, lda, work);
+    dlangeMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlange(String norm, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlange(norm, m, n, a, offseta, lda, work, offsetwork);
+    dlangeMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlangt(String norm, int n, double[] dl, double[] d, double[] du) {
+    long start = System.nanoTime();
+    double result = lapack.dlangt(norm, n, dl, d, du);
+    dlangtMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlangt(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu) {
+    long start = System.nanoTime();
+    double result = lapack.dlangt(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+    dlangtMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlanhs(String norm, int n, double[] a, int lda, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlanhs(norm, n, a, lda, work);
+    dlanhsMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlanhs(String norm, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlanhs(norm, n, a, offseta, lda, work, offsetwork);
+    dlanhsMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlansb(String norm, String uplo, int n, int k, double[] ab, int ldab, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlansb(norm, uplo, n, k, ab, ldab, work);
+    dlansbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlansb(String norm, String uplo, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlansb(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+    dlansbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlansp(String norm, String uplo, int n, double[] ap, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlansp(norm, uplo, n, ap, work);
+    dlanspMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlansp(String norm, String uplo, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlansp(norm, uplo, n, ap, offsetap, work, offsetwork);
+    dlanspMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlanst(String norm, int n, double[] d, double[] e) {
+    long start = System.nanoTime();
+    double result = lapack.dlanst(norm, n, d, e);
+    dlanstMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlanst(String norm, int n, double[] d, int offsetd, double[] e, int offsete) {
+    long start = System.nanoTime();
+    double result = lapack.dlanst(norm, n, d, offsetd, e, offsete);
+    dlanstMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlansy(String norm, String uplo, int n, double[] a, int lda, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlansy(norm, uplo, n, a, lda, work);
+    dlansyMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlansy(String norm, String uplo, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlansy(norm, uplo, n, a, offseta, lda, work, offsetwork);
+    dlansyMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlantb(String norm, String uplo, String diag, int n, int k, double[] ab, int ldab, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlantb(norm, uplo, diag, n, k, ab, ldab, work);
+    dlantbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlantb(String norm, String uplo, String diag, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlantb(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+    dlantbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlantp(String norm, String uplo, String diag, int n, double[] ap, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlantp(norm, uplo, diag, n, ap, work);
+    dlantpMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlantp(String norm, String uplo, String diag, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlantp(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+    dlantpMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlantr(String norm, String uplo, String diag, int m, int n, double[] a, int lda, double[] work) {
+    long start = System.nanoTime();
+    double result = lapack.dlantr(norm, uplo, diag, m, n, a, lda, work);
+    dlantrMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlantr(String norm, String uplo, String diag, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    double result = lapack.dlantr(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+    dlantrMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void dlanv2(org.netlib.util.doubleW a, org.netlib.util.doubleW b, org.netlib.util.doubleW c, org.netlib.util.doubleW d, org.netlib.util.doubleW rt1r, org.netlib.util.doubleW rt1i, org.netlib.util.doubleW rt2r, org.netlib.util.doubleW rt2i, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn) {
+    long start = System.nanoTime();
+    lapack.dlanv2(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+    dlanv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlapll(int n, double[] x, int incx, double[] y, int incy, org.netlib.util.doubleW ssmin) {
+    long start = System.nanoTime();
+    lapack.dlapll(n, x, incx, y, incy, ssmin);
+    dlapllMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlapll(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, org.netlib.util.doubleW ssmin) {
+    long start = System.nanoTime();
+    lapack.dlapll(n, x, offsetx, incx, y, offsety, incy, ssmin);
+    dlapllMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlapmt(boolean forwrd, int m, int n, double[] x, int ldx, int[] k) {
+    long start = System.nanoTime();
+    lapack.dlapmt(forwrd, m, n, x, ldx, k);
+    dlapmtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlapmt(boolean forwrd, int m, int n, double[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    long start = System.nanoTime();
+    lapack.dlapmt(forwrd, m, n, x, offsetx, ldx, k, offsetk);
+    dlapmtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public double dlapy2(double x, double y) {
+    long start = System.nanoTime();
+    double result = lapack.dlapy2(x, y);
+    dlapy2Meter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public double dlapy3(double x, double y, double z) {
+    long start = System.nanoTime();
+    double result = lapack.dlapy3(x, y, z);
+    dlapy3Meter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void dlaqgb(int m, int n, int kl, int ku, double[] ab, int ldab, double[] r, double[] c, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqgb(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, equed);
+    dlaqgbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqgb(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqgb(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    dlaqgbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqge(int m, int n, double[] a, int lda, double[] r, double[] c, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqge(m, n, a, lda, r, c, rowcnd, colcnd, amax, equed);
+    dlaqgeMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqge(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqge(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    dlaqgeMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqp2(int m, int n, int offset, double[] a, int lda, int[] jpvt, double[] tau, double[] vn1, double[] vn2, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlaqp2(m, n, offset, a, lda, jpvt, tau, vn1, vn2, work);
+    dlaqp2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqp2(int m, int n, int offset, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlaqp2(m, n, offset, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, work, offsetwork);
+    dlaqp2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int lda, int[] jpvt, double[] tau, double[] vn1, double[] vn2, double[] auxv, double[] f, int ldf) {
+    long start = System.nanoTime();
+    lapack.dlaqps(m, n, offset, nb, kb, a, lda, jpvt, tau, vn1, vn2, auxv, f, ldf);
+    dlaqpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] auxv, int offsetauxv, double[] f, int offsetf, int ldf) {
+    long start = System.nanoTime();
+    lapack.dlaqps(m, n, offset, nb, kb, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, auxv, offsetauxv, f, offsetf, ldf);
+    dlaqpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, int iloz, int ihiz, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaqr0(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+    dlaqr0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaqr0(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    dlaqr0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr1(int n, double[] h, int ldh, double sr1, double si1, double sr2, double si2, double[] v) {
+    long start = System.nanoTime();
+    lapack.dlaqr1(n, h, ldh, sr1, si1, sr2, si2, v);
+    dlaqr1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr1(int n, double[] h, int offseth, int ldh, double sr1, double si1, double sr2, double si2, double[] v, int offsetv) {
+    long start = System.nanoTime();
+    lapack.dlaqr1(n, h, offseth, ldh, sr1, si1, sr2, si2, v, offsetv);
+    dlaqr1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int ldh, int iloz, int ihiz, double[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, double[] si, double[] v, int ldv, int nh, double[] t, int ldt, int nv, double[] wv, int ldwv, double[] work, int lwork) {
+    long start = System.nanoTime();
+    lapack.dlaqr2(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+    dlaqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    long start = System.nanoTime();
+    lapack.dlaqr2(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    dlaqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int ldh, int iloz, int ihiz, double[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, double[] si, double[] v, int ldv, int nh, double[] t, int ldt, int nv, double[] wv, int ldwv, double[] work, int lwork) {
+    long start = System.nanoTime();
+    lapack.dlaqr3(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+    dlaqr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    long start = System.nanoTime();
+    lapack.dlaqr3(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    dlaqr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, int iloz, int ihiz, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaqr4(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+    dlaqr4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaqr4(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    dlaqr4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, double[] si, double[] h, int ldh, int iloz, int ihiz, double[] z, int ldz, double[] v, int ldv, double[] u, int ldu, int nv, double[] wv, int ldwv, int nh, double[] wh, int ldwh) {
+    long start = System.nanoTime();
+    lapack.dlaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, si, h, ldh, iloz, ihiz, z, ldz, v, ldv, u, ldu, nv, wv, ldwv, nh, wh, ldwh);
+    dlaqr5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, int offsetsr, double[] si, int offsetsi, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] v, int offsetv, int ldv, double[] u, int offsetu, int ldu, int nv, double[] wv, int offsetwv, int ldwv, int nh, double[] wh, int offsetwh, int ldwh) {
+    long start = System.nanoTime();
+    lapack.dlaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, offsetsr, si, offsetsi, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, v, offsetv, ldv, u, offsetu, ldu, nv, wv, offsetwv, ldwv, nh, wh, offsetwh, ldwh);
+    dlaqr5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqsb(String uplo, int n, int kd, double[] ab, int ldab, double[] s, double scond, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqsb(uplo, n, kd, ab, ldab, s, scond, amax, equed);
+    dlaqsbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqsb(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqsb(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, equed);
+    dlaqsbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqsp(String uplo, int n, double[] ap, double[] s, double scond, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqsp(uplo, n, ap, s, scond, amax, equed);
+    dlaqspMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqsp(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqsp(uplo, n, ap, offsetap, s, offsets, scond, amax, equed);
+    dlaqspMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqsy(String uplo, int n, double[] a, int lda, double[] s, double scond, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqsy(uplo, n, a, lda, s, scond, amax, equed);
+    dlaqsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqsy(String uplo, int n, double[] a, int offseta, int lda, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.dlaqsy(uplo, n, a, offseta, lda, s, offsets, scond, amax, equed);
+    dlaqsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqtr(boolean ltran, boolean lreal, int n, double[] t, int ldt, double[] b, double w, org.netlib.util.doubleW scale, double[] x, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaqtr(ltran, lreal, n, t, ldt, b, w, scale, x, work, info);
+    dlaqtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaqtr(boolean ltran, boolean lreal, int n, double[] t, int offsett, int ldt, double[] b, int offsetb, double w, org.netlib.util.doubleW scale, double[] x, int offsetx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlaqtr(ltran, lreal, n, t, offsett, ldt, b, offsetb, w, scale, x, offsetx, work, offsetwork, info);
+    dlaqtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlar1v(int n, int b1, int bn, double lambda, double[] d, double[] l, double[] ld, double[] lld, double pivmin, double gaptol, double[] z, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlar1v(n, b1, bn, lambda, d, l, ld, lld, pivmin, gaptol, z, wantnc, negcnt, ztz, mingma, r, isuppz, nrminv, resid, rqcorr, work);
+    dlar1vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlar1v(int n, int b1, int bn, double lambda, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, double[] lld, int offsetlld, double pivmin, double gaptol, double[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlar1v(n, b1, bn, lambda, d, offsetd, l, offsetl, ld, offsetld, lld, offsetlld, pivmin, gaptol, z, offsetz, wantnc, negcnt, ztz, mingma, r, isuppz, offsetisuppz, nrminv, resid, rqcorr, work, offsetwork);
+    dlar1vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlar2v(int n, double[] x, double[] y, double[] z, int incx, double[] c, double[] s, int incc) {
+    long start = System.nanoTime();
+    lapack.dlar2v(n, x, y, z, incx, c, s, incc);
+    dlar2vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlar2v(int n, double[] x, int offsetx, double[] y, int offsety, double[] z, int offsetz, int incx, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    long start = System.nanoTime();
+    lapack.dlar2v(n, x, offsetx, y, offsety, z, offsetz, incx, c, offsetc, s, offsets, incc);
+    dlar2vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarf(String side, int m, int n, double[] v, int incv, double tau, double[] c, int Ldc, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlarf(side, m, n, v, incv, tau, c, Ldc, work);
+    dlarfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarf(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlarf(side, m, n, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    dlarfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarfb(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int ldv, double[] t, int ldt, double[] c, int Ldc, double[] work, int ldwork) {
+    long start = System.nanoTime();
+    lapack.dlarfb(side, trans, direct, storev, m, n, k, v, ldv, t, ldt, c, Ldc, work, ldwork);
+    dlarfbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarfb(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    long start = System.nanoTime();
+    lapack.dlarfb(side, trans, direct, storev, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    dlarfbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarfg(int n, org.netlib.util.doubleW alpha, double[] x, int incx, org.netlib.util.doubleW tau) {
+    long start = System.nanoTime();
+    lapack.dlarfg(n, alpha, x, incx, tau);
+    dlarfgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarfg(int n, org.netlib.util.doubleW alpha, double[] x, int offsetx, int incx, org.netlib.util.doubleW tau) {
+    long start = System.nanoTime();
+    lapack.dlarfg(n, alpha, x, offsetx, incx, tau);
+    dlarfgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarft(String direct, String storev, int n, int k, double[] v, int ldv, double[] tau, double[] t, int ldt) {
+    long start = System.nanoTime();
+    lapack.dlarft(direct, storev, n, k, v, ldv, tau, t, ldt);
+    dlarftMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarft(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    long start = System.nanoTime();
+    lapack.dlarft(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    dlarftMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarfx(String side, int m, int n, double[] v, double tau, double[] c, int Ldc, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlarfx(side, m, n, v, tau, c, Ldc, work);
+    dlarfxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarfx(String side, int m, int n, double[] v, int offsetv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlarfx(side, m, n, v, offsetv, tau, c, offsetc, Ldc, work, offsetwork);
+    dlarfxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlargv(int n, double[] x, int incx, double[] y, int incy, double[] c, int incc) {
+    long start = System.nanoTime();
+    lapack.dlargv(n, x, incx, y, incy, c, incc);
+    dlargvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlargv(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, int incc) {
+    long start = System.nanoTime();
+    lapack.dlargv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, incc);
+    dlargvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarnv(int idist, int[] iseed, int n, double[] x) {
+    long start = System.nanoTime();
+    lapack.dlarnv(idist, iseed, n, x);
+    dlarnvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarnv(int idist, int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    long start = System.nanoTime();
+    lapack.dlarnv(idist, iseed, offsetiseed, n, x, offsetx);
+    dlarnvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarra(int n, double[] d, double[] e, double[] e2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarra(n, d, e, e2, spltol, tnrm, nsplit, isplit, info);
+    dlarraMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarra(int n, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarra(n, d, offsetd, e, offsete, e2, offsete2, spltol, tnrm, nsplit, isplit, offsetisplit, info);
+    dlarraMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrb(int n, double[] d, double[] lld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, double[] wgap, double[] werr, double[] work, int[] iwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrb(n, d, lld, ifirst, ilast, rtol1, rtol2, offset, w, wgap, werr, work, iwork, pivmin, spdiam, twist, info);
+    dlarrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrb(int n, double[] d, int offsetd, double[] lld, int offsetlld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrb(n, d, offsetd, lld, offsetlld, ifirst, ilast, rtol1, rtol2, offset, w, offsetw, wgap, offsetwgap, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, twist, info);
+    dlarrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrc(String jobt, int n, double vl, double vu, double[] d, double[] e, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrc(jobt, n, vl, vu, d, e, pivmin, eigcnt, lcnt, rcnt, info);
+    dlarrcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrc(String jobt, int n, double vl, double vu, double[] d, int offsetd, double[] e, int offsete, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrc(jobt, n, vl, vu, d, offsetd, e, offsete, pivmin, eigcnt, lcnt, rcnt, info);
+    dlarrcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrd(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, double reltol, double[] d, double[] e, double[] e2, double pivmin, int nsplit, int[] isplit, org.netlib.util.intW m, double[] w, double[] werr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int[] indexw, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrd(range, order, n, vl, vu, il, iu, gers, reltol, d, e, e2, pivmin, nsplit, isplit, m, w, werr, wl, wu, iblock, indexw, work, iwork, info);
+    dlarrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrd(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, int offsetgers, double reltol, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrd(range, order, n, vl, vu, il, iu, gers, offsetgers, reltol, d, offsetd, e, offsete, e2, offsete2, pivmin, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wl, wu, iblock, offsetiblock, indexw, offsetindexw, work, offsetwork, iwork, offsetiwork, info);
+    dlarrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarre(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, double[] e, double[] e2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW m, double[] w, double[] werr, double[] wgap, int[] iblock, int[] indexw, double[] gers, org.netlib.util.doubleW pivmin, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarre(range, n, vl, vu, il, iu, d, e, e2, rtol1, rtol2, spltol, nsplit, isplit, m, w, werr, wgap, iblock, indexw, gers, pivmin, work, iwork, info);
+    dlarreMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarre(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, org.netlib.util.doubleW pivmin, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarre(range, n, vl, vu, il, iu, d, offsetd, e, offsete, e2, offsete2, rtol1, rtol2, spltol, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, pivmin, work, offsetwork, iwork, offsetiwork, info);
+    dlarreMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrf(int n, double[] d, double[] l, double[] ld, int clstrt, int clend, double[] w, double[] wgap, double[] werr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, double[] lplus, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrf(n, d, l, ld, clstrt, clend, w, wgap, werr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, lplus, work, info);
+    dlarrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrf(int n, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, int clstrt, int clend, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, int offsetdplus, double[] lplus, int offsetlplus, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrf(n, d, offsetd, l, offsetl, ld, offsetld, clstrt, clend, w, offsetw, wgap, offsetwgap, werr, offsetwerr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, offsetdplus, lplus, offsetlplus, work, offsetwork, info);
+    dlarrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrj(int n, double[] d, double[] e2, int ifirst, int ilast, double rtol, int offset, double[] w, double[] werr, double[] work, int[] iwork, double pivmin, double spdiam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrj(n, d, e2, ifirst, ilast, rtol, offset, w, werr, work, iwork, pivmin, spdiam, info);
+    dlarrjMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrj(int n, double[] d, int offsetd, double[] e2, int offsete2, int ifirst, int ilast, double rtol, int offset, double[] w, int offsetw, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrj(n, d, offsetd, e2, offsete2, ifirst, ilast, rtol, offset, w, offsetw, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, info);
+    dlarrjMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrk(int n, int iw, double gl, double gu, double[] d, double[] e2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrk(n, iw, gl, gu, d, e2, pivmin, reltol, w, werr, info);
+    dlarrkMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrk(int n, int iw, double gl, double gu, double[] d, int offsetd, double[] e2, int offsete2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrk(n, iw, gl, gu, d, offsetd, e2, offsete2, pivmin, reltol, w, werr, info);
+    dlarrkMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrr(int n, double[] d, double[] e, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrr(n, d, e, info);
+    dlarrrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrr(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrr(n, d, offsetd, e, offsete, info);
+    dlarrrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrv(int n, double vl, double vu, double[] d, double[] l, double pivmin, int[] isplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, double[] werr, double[] wgap, int[] iblock, int[] indexw, double[] gers, double[] z, int ldz, int[] isuppz, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrv(n, vl, vu, d, l, pivmin, isplit, m, dol, dou, minrgp, rtol1, rtol2, w, werr, wgap, iblock, indexw, gers, z, ldz, isuppz, work, iwork, info);
+    dlarrvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarrv(int n, double vl, double vu, double[] d, int offsetd, double[] l, int offsetl, double pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlarrv(n, vl, vu, d, offsetd, l, offsetl, pivmin, isplit, offsetisplit, m, dol, dou, minrgp, rtol1, rtol2, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, iwork, offsetiwork, info);
+    dlarrvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlartg(double f, double g, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn, org.netlib.util.doubleW r) {
+    long start = System.nanoTime();
+    lapack.dlartg(f, g, cs, sn, r);
+    dlartgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlartv(int n, double[] x, int incx, double[] y, int incy, double[] c, double[] s, int incc) {
+    long start = System.nanoTime();
+    lapack.dlartv(n, x, incx, y, incy, c, s, incc);
+    dlartvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlartv(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    long start = System.nanoTime();
+    lapack.dlartv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, s, offsets, incc);
+    dlartvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaruv(int[] iseed, int n, double[] x) {
+    long start = System.nanoTime();
+    lapack.dlaruv(iseed, n, x);
+    dlaruvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaruv(int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    long start = System.nanoTime();
+    lapack.dlaruv(iseed, offsetiseed, n, x, offsetx);
+    dlaruvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarz(String side, int m, int n, int l, double[] v, int incv, double tau, double[] c, int Ldc, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlarz(side, m, n, l, v, incv, tau, c, Ldc, work);
+    dlarzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarz(String side, int m, int n, int l, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlarz(side, m, n, l, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    dlarzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int ldv, double[] t, int ldt, double[] c, int Ldc, double[] work, int ldwork) {
+    long start = System.nanoTime();
+    lapack.dlarzb(side, trans, direct, storev, m, n, k, l, v, ldv, t, ldt, c, Ldc, work, ldwork);
+    dlarzbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    long start = System.nanoTime();
+    lapack.dlarzb(side, trans, direct, storev, m, n, k, l, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    dlarzbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarzt(String direct, String storev, int n, int k, double[] v, int ldv, double[] tau, double[] t, int ldt) {
+    long start = System.nanoTime();
+    lapack.dlarzt(direct, storev, n, k, v, ldv, tau, t, ldt);
+    dlarztMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlarzt(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    long start = System.nanoTime();
+    lapack.dlarzt(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    dlarztMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlas2(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax) {
+    long start = System.nanoTime();
+    lapack.dlas2(f, g, h, ssmin, ssmax);
+    dlas2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlascl(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlascl(type, kl, ku, cfrom, cto, m, n, a, lda, info);
+    dlasclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlascl(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlascl(type, kl, ku, cfrom, cto, m, n, a, offseta, lda, info);
+    dlasclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd0(int n, int sqre, double[] d, double[] e, double[] u, int ldu, double[] vt, int ldvt, int smlsiz, int[] iwork, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd0(n, sqre, d, e, u, ldu, vt, ldvt, smlsiz, iwork, work, info);
+    dlasd0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd0(int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd0(n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, smlsiz, iwork, offsetiwork, work, offsetwork, info);
+    dlasd0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd1(int nl, int nr, int sqre, double[] d, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int ldu, double[] vt, int ldvt, int[] idxq, int[] iwork, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd1(nl, nr, sqre, d, alpha, beta, u, ldu, vt, ldvt, idxq, iwork, work, info);
+    dlasd1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd1(int nl, int nr, int sqre, double[] d, int offsetd, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd1(nl, nr, sqre, d, offsetd, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, iwork, offsetiwork, work, offsetwork, info);
+    dlasd1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd2(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, double[] z, double alpha, double beta, double[] u, int ldu, double[] vt, int ldvt, double[] dsigma, double[] u2, int ldu2, double[] vt2, int ldvt2, int[] idxp, int[] idx, int[] idxc, int[] idxq, int[] coltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd2(nl, nr, sqre, k, d, z, alpha, beta, u, ldu, vt, ldvt, dsigma, u2, ldu2, vt2, ldvt2, idxp, idx, idxc, idxq, coltyp, info);
+    dlasd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd2(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double alpha, double beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] dsigma, int offsetdsigma, double[] u2, int offsetu2, int ldu2, double[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd2(nl, nr, sqre, k, d, offsetd, z, offsetz, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, offsetdsigma, u2, offsetu2, ldu2, vt2, offsetvt2, ldvt2, idxp, offsetidxp, idx, offsetidx, idxc, offsetidxc, idxq, offsetidxq, coltyp, offsetcoltyp, info);
+    dlasd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd3(int nl, int nr, int sqre, int k, double[] d, double[] q, int ldq, double[] dsigma, double[] u, int ldu, double[] u2, int ldu2, double[] vt, int ldvt, double[] vt2, int ldvt2, int[] idxc, int[] ctot, double[] z, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd3(nl, nr, sqre, k, d, q, ldq, dsigma, u, ldu, u2, ldu2, vt, ldvt, vt2, ldvt2, idxc, ctot, z, info);
+    dlasd3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd3(int nl, int nr, int sqre, int k, double[] d, int offsetd, double[] q, int offsetq, int ldq, double[] dsigma, int offsetdsigma, double[] u, int offsetu, int ldu, double[] u2, int offsetu2, int ldu2, double[] vt, int offsetvt, int ldvt, double[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, double[] z, int offsetz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd3(nl, nr, sqre, k, d, offsetd, q, offsetq, ldq, dsigma, offsetdsigma, u, offsetu, ldu, u2, offsetu2, ldu2, vt, offsetvt, ldvt, vt2, offsetvt2, ldvt2, idxc, offsetidxc, ctot, offsetctot, z, offsetz, info);
+    dlasd3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd4(int n, int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW sigma, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd4(n, i, d, z, delta, rho, sigma, work, info);
+    dlasd4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd4(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW sigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, sigma, work, offsetwork, info);
+    dlasd4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd5(int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW dsigma, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlasd5(i, d, z, delta, rho, dsigma, work);
+    dlasd5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd5(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dsigma, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlasd5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dsigma, work, offsetwork);
+    dlasd5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd6(int icompq, int nl, int nr, int sqre, double[] d, double[] vf, double[] vl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, double[] givnum, int ldgnum, double[] poles, double[] difl, double[] difr, double[] z, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd6(icompq, nl, nr, sqre, d, vf, vl, alpha, beta, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, iwork, info);
+    dlasd6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd6(int icompq, int nl, int nr, int sqre, double[] d, int offsetd, double[] vf, int offsetvf, double[] vl, int offsetvl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd6(icompq, nl, nr, sqre, d, offsetd, vf, offsetvf, vl, offsetvl, alpha, beta, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, iwork, offsetiwork, info);
+    dlasd6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, double[] z, double[] zw, double[] vf, double[] vfw, double[] vl, double[] vlw, double alpha, double beta, double[] dsigma, int[] idx, int[] idxp, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, double[] givnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd7(icompq, nl, nr, sqre, k, d, z, zw, vf, vfw, vl, vlw, alpha, beta, dsigma, idx, idxp, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, c, s, info);
+    dlasd7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double[] zw, int offsetzw, double[] vf, int offsetvf, double[] vfw, int offsetvfw, double[] vl, int offsetvl, double[] vlw, int offsetvlw, double alpha, double beta, double[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd7(icompq, nl, nr, sqre, k, d, offsetd, z, offsetz, zw, offsetzw, vf, offsetvf, vfw, offsetvfw, vl, offsetvl, vlw, offsetvlw, alpha, beta, dsigma, offsetdsigma, idx, offsetidx, idxp, offsetidxp, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, c, s, info);
+    dlasd7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd8(int icompq, int k, double[] d, double[] z, double[] vf, double[] vl, double[] difl, double[] difr, int lddifr, double[] dsigma, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd8(icompq, k, d, z, vf, vl, difl, difr, lddifr, dsigma, work, info);
+    dlasd8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasd8(int icompq, int k, double[] d, int offsetd, double[] z, int offsetz, double[] vf, int offsetvf, double[] vl, int offsetvl, double[] difl, int offsetdifl, double[] difr, int offsetdifr, int lddifr, double[] dsigma, int offsetdsigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasd8(icompq, k, d, offsetd, z, offsetz, vf, offsetvf, vl, offsetvl, difl, offsetdifl, difr, offsetdifr, lddifr, dsigma, offsetdsigma, work, offsetwork, info);
+    dlasd8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasda(int icompq, int smlsiz, int n, int sqre, double[] d, double[] e, double[] u, int ldu, double[] vt, int[] k, double[] difl, double[] difr, double[] z, double[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, double[] givnum, double[] c, double[] s, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasda(icompq, smlsiz, n, sqre, d, e, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+    dlasdaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasda(int icompq, int smlsiz, int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasda(icompq, smlsiz, n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    dlasdaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, double[] e, double[] vt, int ldvt, double[] u, int ldu, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasdq(uplo, sqre, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+    dlasdqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasdq(uplo, sqre, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    dlasdqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int[] ndiml, int[] ndimr, int msub) {
+    long start = System.nanoTime();
+    lapack.dlasdt(n, lvl, nd, inode, ndiml, ndimr, msub);
+    dlasdtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    long start = System.nanoTime();
+    lapack.dlasdt(n, lvl, nd, inode, offsetinode, ndiml, offsetndiml, ndimr, offsetndimr, msub);
+    dlasdtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaset(String uplo, int m, int n, double alpha, double beta, double[] a, int lda) {
+    long start = System.nanoTime();
+    lapack.dlaset(uplo, m, n, alpha, beta, a, lda);
+    dlasetMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaset(String uplo, int m, int n, double alpha, double beta, double[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    lapack.dlaset(uplo, m, n, alpha, beta, a, offseta, lda);
+    dlasetMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq1(int n, double[] d, double[] e, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasq1(n, d, e, work, info);
+    dlasq1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq1(int n, double[] d, int offsetd, double[] e, int offsete, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasq1(n, d, offsetd, e, offsete, work, offsetwork, info);
+    dlasq1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq2(int n, double[] z, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasq2(n, z, info);
+    dlasq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq2(int n, double[] z, int offsetz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasq2(n, z, offsetz, info);
+    dlasq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq3(int i0, org.netlib.util.intW n0, double[] z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.dlasq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+    dlasq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq3(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.dlasq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+    dlasq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq4(int i0, int n0, double[] z, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype) {
+    long start = System.nanoTime();
+    lapack.dlasq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+    dlasq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq4(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype) {
+    long start = System.nanoTime();
+    lapack.dlasq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+    dlasq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq5(int i0, int n0, double[] z, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.dlasq5(i0, n0, z, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+    dlasq5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq5(int i0, int n0, double[] z, int offsetz, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.dlasq5(i0, n0, z, offsetz, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+    dlasq5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq6(int i0, int n0, double[] z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
+    long start = System.nanoTime();
+    lapack.dlasq6(i0, n0, z, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+    dlasq6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasq6(int i0, int n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
+    long start = System.nanoTime();
+    lapack.dlasq6(i0, n0, z, offsetz, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+    dlasq6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasr(String side, String pivot, String direct, int m, int n, double[] c, double[] s, double[] a, int lda) {
+    long start = System.nanoTime();
+    lapack.dlasr(side, pivot, direct, m, n, c, s, a, lda);
+    dlasrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasr(String side, String pivot, String direct, int m, int n, double[] c, int offsetc, double[] s, int offsets, double[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    lapack.dlasr(side, pivot, direct, m, n, c, offsetc, s, offsets, a, offseta, lda);
+    dlasrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasrt(String id, int n, double[] d, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasrt(id, n, d, info);
+    dlasrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasrt(String id, int n, double[] d, int offsetd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasrt(id, n, d, offsetd, info);
+    dlasrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlassq(int n, double[] x, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
+    long start = System.nanoTime();
+    lapack.dlassq(n, x, incx, scale, sumsq);
+    dlassqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlassq(int n, double[] x, int offsetx, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
+    long start = System.nanoTime();
+    lapack.dlassq(n, x, offsetx, incx, scale, sumsq);
+    dlassqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasv2(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax, org.netlib.util.doubleW snr, org.netlib.util.doubleW csr, org.netlib.util.doubleW snl, org.netlib.util.doubleW csl) {
+    long start = System.nanoTime();
+    lapack.dlasv2(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+    dlasv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaswp(int n, double[] a, int lda, int k1, int k2, int[] ipiv, int incx) {
+    long start = System.nanoTime();
+    lapack.dlaswp(n, a, lda, k1, k2, ipiv, incx);
+    dlaswpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlaswp(int n, double[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    long start = System.nanoTime();
+    lapack.dlaswp(n, a, offseta, lda, k1, k2, ipiv, offsetipiv, incx);
+    dlaswpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int ldtl, double[] tr, int ldtr, double[] b, int ldb, org.netlib.util.doubleW scale, double[] x, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasy2(ltranl, ltranr, isgn, n1, n2, tl, ldtl, tr, ldtr, b, ldb, scale, x, ldx, xnorm, info);
+    dlasy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int offsettl, int ldtl, double[] tr, int offsettr, int ldtr, double[] b, int offsetb, int ldb, org.netlib.util.doubleW scale, double[] x, int offsetx, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasy2(ltranl, ltranr, isgn, n1, n2, tl, offsettl, ldtl, tr, offsettr, ldtr, b, offsetb, ldb, scale, x, offsetx, ldx, xnorm, info);
+    dlasy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasyf(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int lda, int[] ipiv, double[] w, int ldw, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasyf(uplo, n, nb, kb, a, lda, ipiv, w, ldw, info);
+    dlasyfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlasyf(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlasyf(uplo, n, nb, kb, a, offseta, lda, ipiv, offsetipiv, w, offsetw, ldw, info);
+    dlasyfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatbs(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int ldab, double[] x, org.netlib.util.doubleW scale, double[] cnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlatbs(uplo, trans, diag, normin, n, kd, ab, ldab, x, scale, cnorm, info);
+    dlatbsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatbs(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int offsetab, int ldab, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlatbs(uplo, trans, diag, normin, n, kd, ab, offsetab, ldab, x, offsetx, scale, cnorm, offsetcnorm, info);
+    dlatbsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatdf(int ijob, int n, double[] z, int ldz, double[] rhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int[] jpiv) {
+    long start = System.nanoTime();
+    lapack.dlatdf(ijob, n, z, ldz, rhs, rdsum, rdscal, ipiv, jpiv);
+    dlatdfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatdf(int ijob, int n, double[] z, int offsetz, int ldz, double[] rhs, int offsetrhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    long start = System.nanoTime();
+    lapack.dlatdf(ijob, n, z, offsetz, ldz, rhs, offsetrhs, rdsum, rdscal, ipiv, offsetipiv, jpiv, offsetjpiv);
+    dlatdfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatps(String uplo, String trans, String diag, String normin, int n, double[] ap, double[] x, org.netlib.util.doubleW scale, double[] cnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlatps(uplo, trans, diag, normin, n, ap, x, scale, cnorm, info);
+    dlatpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatps(String uplo, String trans, String diag, String normin, int n, double[] ap, int offsetap, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlatps(uplo, trans, diag, normin, n, ap, offsetap, x, offsetx, scale, cnorm, offsetcnorm, info);
+    dlatpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatrd(String uplo, int n, int nb, double[] a, int lda, double[] e, double[] tau, double[] w, int ldw) {
+    long start = System.nanoTime();
+    lapack.dlatrd(uplo, n, nb, a, lda, e, tau, w, ldw);
+    dlatrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatrd(String uplo, int n, int nb, double[] a, int offseta, int lda, double[] e, int offsete, double[] tau, int offsettau, double[] w, int offsetw, int ldw) {
+    long start = System.nanoTime();
+    lapack.dlatrd(uplo, n, nb, a, offseta, lda, e, offsete, tau, offsettau, w, offsetw, ldw);
+    dlatrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatrs(String uplo, String trans, String diag, String normin, int n, double[] a, int lda, double[] x, org.netlib.util.doubleW scale, double[] cnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlatrs(uplo, trans, diag, normin, n, a, lda, x, scale, cnorm, info);
+    dlatrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatrs(String uplo, String trans, String diag, String normin, int n, double[] a, int offseta, int lda, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlatrs(uplo, trans, diag, normin, n, a, offseta, lda, x, offsetx, scale, cnorm, offsetcnorm, info);
+    dlatrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatrz(int m, int n, int l, double[] a, int lda, double[] tau, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlatrz(m, n, l, a, lda, tau, work);
+    dlatrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatrz(int m, int n, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlatrz(m, n, l, a, offseta, lda, tau, offsettau, work, offsetwork);
+    dlatrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatzm(String side, int m, int n, double[] v, int incv, double tau, double[] c1, double[] c2, int Ldc, double[] work) {
+    long start = System.nanoTime();
+    lapack.dlatzm(side, m, n, v, incv, tau, c1, c2, Ldc, work);
+    dlatzmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlatzm(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c1, int offsetc1, double[] c2, int offsetc2, int Ldc, double[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.dlatzm(side, m, n, v, offsetv, incv, tau, c1, offsetc1, c2, offsetc2, Ldc, work, offsetwork);
+    dlatzmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlauu2(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlauu2(uplo, n, a, lda, info);
+    dlauu2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlauu2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlauu2(uplo, n, a, offseta, lda, info);
+    dlauu2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlauum(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlauum(uplo, n, a, lda, info);
+    dlauumMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlauum(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dlauum(uplo, n, a, offseta, lda, info);
+    dlauumMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlazq3(int i0, org.netlib.util.intW n0, double[] z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau) {
+    long start = System.nanoTime();
+    lapack.dlazq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+    dlazq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlazq3(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau) {
+    long start = System.nanoTime();
+    lapack.dlazq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+    dlazq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlazq4(int i0, int n0, double[] z, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
+    long start = System.nanoTime();
+    lapack.dlazq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+    dlazq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlazq4(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
+    long start = System.nanoTime();
+    lapack.dlazq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+    dlazq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dopgtr(String uplo, int n, double[] ap, double[] tau, double[] q, int ldq, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dopgtr(uplo, n, ap, tau, q, ldq, work, info);
+    dopgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dopgtr(String uplo, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dopgtr(uplo, n, ap, offsetap, tau, offsettau, q, offsetq, ldq, work, offsetwork, info);
+    dopgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dopmtr(String side, String uplo, String trans, int m, int n, double[] ap, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dopmtr(side, uplo, trans, m, n, ap, tau, c, Ldc, work, info);
+    dopmtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dopmtr(String side, String uplo, String trans, int m, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dopmtr(side, uplo, trans, m, n, ap, offsetap, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    dopmtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorg2l(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorg2l(m, n, k, a, lda, tau, work, info);
+    dorg2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorg2l(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorg2l(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dorg2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorg2r(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorg2r(m, n, k, a, lda, tau, work, info);
+    dorg2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorg2r(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorg2r(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dorg2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgbr(String vect, int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgbr(vect, m, n, k, a, lda, tau, work, lwork, info);
+    dorgbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgbr(String vect, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgbr(vect, m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dorgbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorghr(int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorghr(n, ilo, ihi, a, lda, tau, work, lwork, info);
+    dorghrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorghr(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorghr(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dorghrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgl2(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgl2(m, n, k, a, lda, tau, work, info);
+    dorgl2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgl2(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgl2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dorgl2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorglq(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorglq(m, n, k, a, lda, tau, work, lwork, info);
+    dorglqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorglq(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorglq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dorglqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgql(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgql(m, n, k, a, lda, tau, work, lwork, info);
+    dorgqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgql(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgql(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dorgqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgqr(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgqr(m, n, k, a, lda, tau, work, lwork, info);
+    dorgqrMeter.record(System.nanoTime() - start, 4L * m * n * k - 2L * (m + n) * k * k + 4L * k * k * k / 3);
+  }
+
+  public void dorgqr(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgqr(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dorgqrMeter.record(System.nanoTime() - start, 4L * m * n * k - 2L * (m + n) * k * k + 4L * k * k * k / 3);
+  }
+
+  public void dorgr2(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgr2(m, n, k, a, lda, tau, work, info);
+    dorgr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgr2(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgr2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    dorgr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgrq(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgrq(m, n, k, a, lda, tau, work, lwork, info);
+    dorgrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgrq(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgrq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dorgrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgtr(String uplo, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgtr(uplo, n, a, lda, tau, work, lwork, info);
+    dorgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorgtr(String uplo, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorgtr(uplo, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dorgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorm2l(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorm2l(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    dorm2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorm2l(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorm2l(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    dorm2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorm2r(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorm2r(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    dorm2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorm2r(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorm2r(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    dorm2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormbr(String vect, String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormbr(vect, side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    dormbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormbr(String vect, String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormbr(vect, side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormhr(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormhr(side, trans, m, n, ilo, ihi, a, lda, tau, c, Ldc, work, lwork, info);
+    dormhrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormhr(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormhr(side, trans, m, n, ilo, ihi, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormhrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorml2(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorml2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    dorml2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dorml2(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dorml2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    dorml2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormlq(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormlq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    dormlqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormlq(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormlq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormlqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormql(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormql(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    dormqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormql(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormql(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormqr(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormqr(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    dormqrMeter.record(System.nanoTime() - start, isLeft(side) ? 4L * m * n * k - 2L * n * k * k : 4L * m * n * k - 2L * m * k * k);
+  }
+
+  public void dormqr(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormqr(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormqrMeter.record(System.nanoTime() - start, isLeft(side) ? 4L * m * n * k - 2L * n * k * k : 4L * m * n * k - 2L * m * k * k);
+  }
+
+  public void dormr2(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormr2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    dormr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormr2(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormr2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    dormr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormr3(String side, String trans, int m, int n, int k, int l, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormr3(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, info);
+    dormr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormr3(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormr3(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    dormr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormrq(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormrq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    dormrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormrq(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormrq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormrz(String side, String trans, int m, int n, int k, int l, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormrz(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, lwork, info);
+    dormrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormrz(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormrz(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormtr(String side, String uplo, String trans, int m, int n, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormtr(side, uplo, trans, m, n, a, lda, tau, c, Ldc, work, lwork, info);
+    dormtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dormtr(String side, String uplo, String trans, int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dormtr(side, uplo, trans, m, n, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    dormtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbcon(String uplo, int n, int kd, double[] ab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbcon(uplo, n, kd, ab, ldab, anorm, rcond, work, iwork, info);
+    dpbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbcon(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbcon(uplo, n, kd, ab, offsetab, ldab, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dpbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbequ(String uplo, int n, int kd, double[] ab, int ldab, double[] s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbequ(uplo, n, kd, ab, ldab, s, scond, amax, info);
+    dpbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbequ(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbequ(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, info);
+    dpbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbrfs(String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbrfs(uplo, n, kd, nrhs, ab, ldab, afb, ldafb, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dpbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbrfs(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbrfs(uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dpbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbstf(String uplo, int n, int kd, double[] ab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbstf(uplo, n, kd, ab, ldab, info);
+    dpbstfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbstf(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbstf(uplo, n, kd, ab, offsetab, ldab, info);
+    dpbstfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbsv(String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbsv(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+    dpbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbsv(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbsv(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    dpbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbsvx(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbsvx(fact, uplo, n, kd, nrhs, ab, ldab, afb, ldafb, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    dpbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbsvx(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbsvx(fact, uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dpbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbtf2(String uplo, int n, int kd, double[] ab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbtf2(uplo, n, kd, ab, ldab, info);
+    dpbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbtf2(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbtf2(uplo, n, kd, ab, offsetab, ldab, info);
+    dpbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbtrf(String uplo, int n, int kd, double[] ab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbtrf(uplo, n, kd, ab, ldab, info);
+    dpbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbtrf(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbtrf(uplo, n, kd, ab, offsetab, ldab, info);
+    dpbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbtrs(String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbtrs(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+    dpbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpbtrs(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpbtrs(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    dpbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpocon(String uplo, int n, double[] a, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpocon(uplo, n, a, lda, anorm, rcond, work, iwork, info);
+    dpoconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpocon(String uplo, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpocon(uplo, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dpoconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpoequ(int n, double[] a, int lda, double[] s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpoequ(n, a, lda, s, scond, amax, info);
+    dpoequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpoequ(int n, double[] a, int offseta, int lda, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpoequ(n, a, offseta, lda, s, offsets, scond, amax, info);
+    dpoequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dporfs(String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dporfs(uplo, n, nrhs, a, lda, af, ldaf, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dporfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dporfs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dporfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dporfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dposv(String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dposv(uplo, n, nrhs, a, lda, b, ldb, info);
+    dposvMeter.record(System.nanoTime() - start, (long) n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void dposv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dposv(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    dposvMeter.record(System.nanoTime() - start, (long) n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dposvx(fact, uplo, n, nrhs, a, lda, af, ldaf, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    dposvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dposvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dposvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpotf2(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotf2(uplo, n, a, lda, info);
+    dpotf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpotf2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotf2(uplo, n, a, offseta, lda, info);
+    dpotf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpotrf(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotrf(uplo, n, a, lda, info);
+    dpotrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void dpotrf(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotrf(uplo, n, a, offseta, lda, info);
+    dpotrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void dpotri(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotri(uplo, n, a, lda, info);
+    dpotriMeter.record(System.nanoTime() - start, 2L * n * n * n / 3);
+  }
+
+  public void dpotri(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotri(uplo, n, a, offseta, lda, info);
+    dpotriMeter.record(System.nanoTime() - start, 2L * n * n * n / 3);
+  }
+
+  public void dpotrs(String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotrs(uplo, n, nrhs, a, lda, b, ldb, info);
+    dpotrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void dpotrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpotrs(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    dpotrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void dppcon(String uplo, int n, double[] ap, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppcon(uplo, n, ap, anorm, rcond, work, iwork, info);
+    dppconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dppcon(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppcon(uplo, n, ap, offsetap, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dppconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dppequ(String uplo, int n, double[] ap, double[] s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppequ(uplo, n, ap, s, scond, amax, info);
+    dppequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dppequ(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppequ(uplo, n, ap, offsetap, s, offsets, scond, amax, info);
+    dppequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpprfs(String uplo, int n, int nrhs, double[] ap, double[] afp, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpprfs(uplo, n, nrhs, ap, afp, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dpprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpprfs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dpprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dppsv(String uplo, int n, int nrhs, double[] ap, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppsv(uplo, n, nrhs, ap, b, ldb, info);
+    dppsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dppsv(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppsv(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    dppsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dppsvx(String fact, String uplo, int n, int nrhs, double[] ap, double[] afp, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppsvx(fact, uplo, n, nrhs, ap, afp, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    dppsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dppsvx(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dppsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dppsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpptrf(String uplo, int n, double[] ap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpptrf(uplo, n, ap, info);
+    dpptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpptrf(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpptrf(uplo, n, ap, offsetap, info);
+    dpptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpptri(String uplo, int n, double[] ap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpptri(uplo, n, ap, info);
+    dpptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpptri(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpptri(uplo, n, ap, offsetap, info);
+    dpptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpptrs(String uplo, int n, int nrhs, double[] ap, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpptrs(uplo, n, nrhs, ap, b, ldb, info);
+    dpptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpptrs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpptrs(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    dpptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptcon(int n, double[] d, double[] e, double anorm, org.netlib.util.doubleW rcond, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptcon(n, d, e, anorm, rcond, work, info);
+    dptconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptcon(int n, double[] d, int offsetd, double[] e, int offsete, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptcon(n, d, offsetd, e, offsete, anorm, rcond, work, offsetwork, info);
+    dptconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpteqr(String compz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpteqr(compz, n, d, e, z, ldz, work, info);
+    dpteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpteqr(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    dpteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptrfs(int n, int nrhs, double[] d, double[] e, double[] df, double[] ef, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptrfs(n, nrhs, d, e, df, ef, b, ldb, x, ldx, ferr, berr, work, info);
+    dptrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptrfs(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptrfs(n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    dptrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptsv(int n, int nrhs, double[] d, double[] e, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptsv(n, nrhs, d, e, b, ldb, info);
+    dptsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptsv(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptsv(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    dptsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptsvx(String fact, int n, int nrhs, double[] d, double[] e, double[] df, double[] ef, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptsvx(fact, n, nrhs, d, e, df, ef, b, ldb, x, ldx, rcond, ferr, berr, work, info);
+    dptsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptsvx(String fact, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dptsvx(fact, n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    dptsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpttrf(int n, double[] d, double[] e, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpttrf(n, d, e, info);
+    dpttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpttrf(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpttrf(n, d, offsetd, e, offsete, info);
+    dpttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpttrs(int n, int nrhs, double[] d, double[] e, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpttrs(n, nrhs, d, e, b, ldb, info);
+    dpttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dpttrs(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dpttrs(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    dpttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptts2(int n, int nrhs, double[] d, double[] e, double[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.dptts2(n, nrhs, d, e, b, ldb);
+    dptts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dptts2(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.dptts2(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb);
+    dptts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void drscl(int n, double sa, double[] sx, int incx) {
+    long start = System.nanoTime();
+    lapack.drscl(n, sa, sx, incx);
+    drsclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void drscl(int n, double sa, double[] sx, int offsetsx, int incx) {
+    long start = System.nanoTime();
+    lapack.drscl(n, sa, sx, offsetsx, incx);
+    drsclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbev(String jobz, String uplo, int n, int kd, double[] ab, int ldab, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbev(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, info);
+    dsbevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbev(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbev(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    dsbevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbevd(String jobz, String uplo, int n, int kd, double[] ab, int ldab, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbevd(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, lwork, iwork, liwork, info);
+    dsbevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbevd(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbevd(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dsbevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbevx(String jobz, String range, String uplo, int n, int kd, double[] ab, int ldab, double[] q, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbevx(jobz, range, uplo, n, kd, ab, ldab, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    dsbevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbevx(String jobz, String range, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbevx(jobz, range, uplo, n, kd, ab, offsetab, ldab, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dsbevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgst(String vect, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] x, int ldx, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgst(vect, uplo, n, ka, kb, ab, ldab, bb, ldbb, x, ldx, work, info);
+    dsbgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgst(String vect, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgst(vect, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, x, offsetx, ldx, work, offsetwork, info);
+    dsbgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgv(String jobz, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgv(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, info);
+    dsbgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgv(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgv(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    dsbgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgvd(String jobz, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgvd(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, lwork, iwork, liwork, info);
+    dsbgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgvd(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgvd(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dsbgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgvx(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] q, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgvx(jobz, range, uplo, n, ka, kb, ab, ldab, bb, ldbb, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    dsbgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbgvx(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbgvx(jobz, range, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dsbgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbtrd(String vect, String uplo, int n, int kd, double[] ab, int ldab, double[] d, double[] e, double[] q, int ldq, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbtrd(vect, uplo, n, kd, ab, ldab, d, e, q, ldq, work, info);
+    dsbtrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsbtrd(String vect, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsbtrd(vect, uplo, n, kd, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, work, offsetwork, info);
+    dsbtrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsgesv(int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] work, float[] swork, org.netlib.util.intW iter, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsgesv(n, nrhs, a, lda, ipiv, b, ldb, x, ldx, work, swork, iter, info);
+    dsgesvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsgesv(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, float[] swork, int offsetswork, org.netlib.util.intW iter, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, work, offsetwork, swork, offsetswork, iter, info);
+    dsgesvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspcon(String uplo, int n, double[] ap, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspcon(uplo, n, ap, ipiv, anorm, rcond, work, iwork, info);
+    dspconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspcon(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspcon(uplo, n, ap, offsetap, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dspconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspev(String jobz, String uplo, int n, double[] ap, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspev(jobz, uplo, n, ap, w, z, ldz, work, info);
+    dspevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspev(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspev(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    dspevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspevd(String jobz, String uplo, int n, double[] ap, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspevd(jobz, uplo, n, ap, w, z, ldz, work, lwork, iwork, liwork, info);
+    dspevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspevd(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspevd(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dspevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspevx(String jobz, String range, String uplo, int n, double[] ap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspevx(jobz, range, uplo, n, ap, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    dspevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspevx(String jobz, String range, String uplo, int n, double[] ap, int offsetap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspevx(jobz, range, uplo, n, ap, offsetap, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dspevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgst(int itype, String uplo, int n, double[] ap, double[] bp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgst(itype, uplo, n, ap, bp, info);
+    dspgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgst(int itype, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgst(itype, uplo, n, ap, offsetap, bp, offsetbp, info);
+    dspgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgv(int itype, String jobz, String uplo, int n, double[] ap, double[] bp, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgv(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, info);
+    dspgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgv(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgv(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    dspgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgvd(int itype, String jobz, String uplo, int n, double[] ap, double[] bp, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgvd(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, lwork, iwork, liwork, info);
+    dspgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgvd(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgvd(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dspgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgvx(int itype, String jobz, String range, String uplo, int n, double[] ap, double[] bp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgvx(itype, jobz, range, uplo, n, ap, bp, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    dspgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspgvx(int itype, String jobz, String range, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspgvx(itype, jobz, range, uplo, n, ap, offsetap, bp, offsetbp, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dspgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsprfs(String uplo, int n, int nrhs, double[] ap, double[] afp, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsprfs(uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dsprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsprfs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dsprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspsv(String uplo, int n, int nrhs, double[] ap, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspsv(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+    dspsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspsv(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspsv(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dspsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspsvx(String fact, String uplo, int n, int nrhs, double[] ap, double[] afp, int[] ipiv, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspsvx(fact, uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    dspsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dspsvx(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dspsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dspsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptrd(String uplo, int n, double[] ap, double[] d, double[] e, double[] tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptrd(uplo, n, ap, d, e, tau, info);
+    dsptrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptrd(String uplo, int n, double[] ap, int offsetap, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptrd(uplo, n, ap, offsetap, d, offsetd, e, offsete, tau, offsettau, info);
+    dsptrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptrf(String uplo, int n, double[] ap, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptrf(uplo, n, ap, ipiv, info);
+    dsptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptrf(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptrf(uplo, n, ap, offsetap, ipiv, offsetipiv, info);
+    dsptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptri(String uplo, int n, double[] ap, int[] ipiv, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptri(uplo, n, ap, ipiv, work, info);
+    dsptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptri(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptri(uplo, n, ap, offsetap, ipiv, offsetipiv, work, offsetwork, info);
+    dsptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptrs(String uplo, int n, int nrhs, double[] ap, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptrs(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+    dsptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsptrs(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsptrs(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dsptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstebz(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, double[] e, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int[] iblock, int[] isplit, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstebz(range, order, n, vl, vu, il, iu, abstol, d, e, m, nsplit, w, iblock, isplit, work, iwork, info);
+    dstebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstebz(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstebz(range, order, n, vl, vu, il, iu, abstol, d, offsetd, e, offsete, m, nsplit, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, work, offsetwork, iwork, offsetiwork, info);
+    dstebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstedc(String compz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstedc(compz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+    dstedcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstedc(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstedc(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dstedcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstegr(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstegr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+    dstegrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstegr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstegr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dstegrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstein(int n, double[] d, double[] e, int m, double[] w, int[] iblock, int[] isplit, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstein(n, d, e, m, w, iblock, isplit, z, ldz, work, iwork, ifail, info);
+    dsteinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstein(int n, double[] d, int offsetd, double[] e, int offsete, int m, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstein(n, d, offsetd, e, offsete, m, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dsteinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstemr(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, double[] z, int ldz, int nzc, int[] isuppz, org.netlib.util.booleanW tryrac, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstemr(jobz, range, n, d, e, vl, vu, il, iu, m, w, z, ldz, nzc, isuppz, tryrac, work, lwork, iwork, liwork, info);
+    dstemrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstemr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstemr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, nzc, isuppz, offsetisuppz, tryrac, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dstemrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsteqr(String compz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsteqr(compz, n, d, e, z, ldz, work, info);
+    dsteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsteqr(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    dsteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsterf(int n, double[] d, double[] e, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsterf(n, d, e, info);
+    dsterfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsterf(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsterf(n, d, offsetd, e, offsete, info);
+    dsterfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstev(String jobz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstev(jobz, n, d, e, z, ldz, work, info);
+    dstevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstev(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstev(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    dstevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstevd(String jobz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstevd(jobz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+    dstevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstevd(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstevd(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dstevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstevr(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstevr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+    dstevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstevr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstevr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dstevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstevx(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstevx(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    dstevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dstevx(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dstevx(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dstevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsycon(String uplo, int n, double[] a, int lda, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsycon(uplo, n, a, lda, ipiv, anorm, rcond, work, iwork, info);
+    dsyconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsycon(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsycon(uplo, n, a, offseta, lda, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dsyconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyev(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyev(jobz, uplo, n, a, lda, w, work, lwork, info);
+    dsyevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyev(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyev(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    dsyevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyevd(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyevd(jobz, uplo, n, a, lda, w, work, lwork, iwork, liwork, info);
+    dsyevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyevd(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyevd(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dsyevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyevr(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+    dsyevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyevr(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dsyevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyevx(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyevx(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+    dsyevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyevx(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyevx(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dsyevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygs2(int itype, String uplo, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygs2(itype, uplo, n, a, lda, b, ldb, info);
+    dsygs2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygs2(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygs2(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    dsygs2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygst(int itype, String uplo, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygst(itype, uplo, n, a, lda, b, ldb, info);
+    dsygstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygst(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygst(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    dsygstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygv(int itype, String jobz, String uplo, int n, double[] a, int lda, double[] b, int ldb, double[] w, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygv(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, info);
+    dsygvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygv(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygv(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+    dsygvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygvd(int itype, String jobz, String uplo, int n, double[] a, int lda, double[] b, int ldb, double[] w, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygvd(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, iwork, liwork, info);
+    dsygvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygvd(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygvd(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dsygvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygvx(int itype, String jobz, String range, String uplo, int n, double[] a, int lda, double[] b, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygvx(itype, jobz, range, uplo, n, a, lda, b, ldb, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+    dsygvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsygvx(int itype, String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsygvx(itype, jobz, range, uplo, n, a, offseta, lda, b, offsetb, ldb, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    dsygvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyrfs(String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyrfs(uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dsyrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsyrfs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsyrfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dsyrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsysv(String uplo, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsysv(uplo, n, nrhs, a, lda, ipiv, b, ldb, work, lwork, info);
+    dsysvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsysv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsysv(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+    dsysvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsysvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsysvx(fact, uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, lwork, iwork, info);
+    dsysvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsysvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsysvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, lwork, iwork, offsetiwork, info);
+    dsysvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytd2(String uplo, int n, double[] a, int lda, double[] d, double[] e, double[] tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytd2(uplo, n, a, lda, d, e, tau, info);
+    dsytd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytd2(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytd2(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+    dsytd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytf2(String uplo, int n, double[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytf2(uplo, n, a, lda, ipiv, info);
+    dsytf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytf2(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytf2(uplo, n, a, offseta, lda, ipiv, offsetipiv, info);
+    dsytf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytrd(String uplo, int n, double[] a, int lda, double[] d, double[] e, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytrd(uplo, n, a, lda, d, e, tau, work, lwork, info);
+    dsytrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytrd(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytrd(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+    dsytrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytrf(String uplo, int n, double[] a, int lda, int[] ipiv, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytrf(uplo, n, a, lda, ipiv, work, lwork, info);
+    dsytrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void dsytrf(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytrf(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    dsytrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void dsytri(String uplo, int n, double[] a, int lda, int[] ipiv, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytri(uplo, n, a, lda, ipiv, work, info);
+    dsytriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytri(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytri(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, info);
+    dsytriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dsytrs(String uplo, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytrs(uplo, n, nrhs, a, lda, ipiv, b, ldb, info);
+    dsytrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void dsytrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dsytrs(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    dsytrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void dtbcon(String norm, String uplo, String diag, int n, int kd, double[] ab, int ldab, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtbcon(norm, uplo, diag, n, kd, ab, ldab, rcond, work, iwork, info);
+    dtbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtbcon(String norm, String uplo, String diag, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtbcon(norm, uplo, diag, n, kd, ab, offsetab, ldab, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dtbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtbrfs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dtbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtbrfs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dtbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtbtrs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, info);
+    dtbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtbtrs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    dtbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgevc(String side, String howmny, boolean[] select, int n, double[] s, int lds, double[] p, int ldp, double[] vl, int ldvl, double[] vr, int ldvr, int mm, org.netlib.util.intW m, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgevc(side, howmny, select, n, s, lds, p, ldp, vl, ldvl, vr, ldvr, mm, m, work, info);
+    dtgevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgevc(String side, String howmny, boolean[] select, int offsetselect, int n, double[] s, int offsets, int lds, double[] p, int offsetp, int ldp, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgevc(side, howmny, select, offsetselect, n, s, offsets, lds, p, offsetp, ldp, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    dtgevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgex2(boolean wantq, boolean wantz, int n, double[] a, int lda, double[] b, int ldb, double[] q, int ldq, double[] z, int ldz, int j1, int n1, int n2, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgex2(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, j1, n1, n2, work, lwork, info);
+    dtgex2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgex2(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, int j1, int n1, int n2, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgex2(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, j1, n1, n2, work, offsetwork, lwork, info);
+    dtgex2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgexc(boolean wantq, boolean wantz, int n, double[] a, int lda, double[] b, int ldb, double[] q, int ldq, double[] z, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgexc(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, ifst, ilst, work, lwork, info);
+    dtgexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgexc(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgexc(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, ifst, ilst, work, offsetwork, lwork, info);
+    dtgexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] q, int ldq, double[] z, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsen(ijob, wantq, wantz, select, n, a, lda, b, ldb, alphar, alphai, beta, q, ldq, z, ldz, m, pl, pr, dif, work, lwork, iwork, liwork, info);
+    dtgsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, int offsetdif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsen(ijob, wantq, wantz, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, m, pl, pr, dif, offsetdif, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dtgsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int lda, double[] b, int ldb, double tola, double tolb, double[] alpha, double[] beta, double[] u, int ldu, double[] v, int ldv, double[] q, int ldq, double[] work, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsja(jobu, jobv, jobq, m, p, n, k, l, a, lda, b, ldb, tola, tolb, alpha, beta, u, ldu, v, ldv, q, ldq, work, ncycle, info);
+    dtgsjaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsja(jobu, jobv, jobq, m, p, n, k, l, a, offseta, lda, b, offsetb, ldb, tola, tolb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, ncycle, info);
+    dtgsjaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsna(String job, String howmny, boolean[] select, int n, double[] a, int lda, double[] b, int ldb, double[] vl, int ldvl, double[] vr, int ldvr, double[] s, double[] dif, int mm, org.netlib.util.intW m, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsna(job, howmny, select, n, a, lda, b, ldb, vl, ldvl, vr, ldvr, s, dif, mm, m, work, lwork, iwork, info);
+    dtgsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsna(String job, String howmny, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] dif, int offsetdif, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsna(job, howmny, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, dif, offsetdif, mm, m, work, offsetwork, lwork, iwork, offsetiwork, info);
+    dtgsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsy2(String trans, int ijob, int m, int n, double[] a, int lda, double[] b, int ldb, double[] c, int Ldc, double[] d, int ldd, double[] e, int lde, double[] f, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsy2(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, rdsum, rdscal, iwork, pq, info);
+    dtgsy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsy2(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsy2(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, rdsum, rdscal, iwork, offsetiwork, pq, info);
+    dtgsy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsyl(String trans, int ijob, int m, int n, double[] a, int lda, double[] b, int ldb, double[] c, int Ldc, double[] d, int ldd, double[] e, int lde, double[] f, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsyl(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, dif, work, lwork, iwork, info);
+    dtgsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtgsyl(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtgsyl(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, dif, work, offsetwork, lwork, iwork, offsetiwork, info);
+    dtgsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtpcon(String norm, String uplo, String diag, int n, double[] ap, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtpcon(norm, uplo, diag, n, ap, rcond, work, iwork, info);
+    dtpconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtpcon(String norm, String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtpcon(norm, uplo, diag, n, ap, offsetap, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dtpconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtprfs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtprfs(uplo, trans, diag, n, nrhs, ap, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dtprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtprfs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtprfs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dtprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtptri(String uplo, String diag, int n, double[] ap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtptri(uplo, diag, n, ap, info);
+    dtptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtptri(String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtptri(uplo, diag, n, ap, offsetap, info);
+    dtptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtptrs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtptrs(uplo, trans, diag, n, nrhs, ap, b, ldb, info);
+    dtptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtptrs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtptrs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    dtptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrcon(String norm, String uplo, String diag, int n, double[] a, int lda, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrcon(norm, uplo, diag, n, a, lda, rcond, work, iwork, info);
+    dtrconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrcon(String norm, String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrcon(norm, uplo, diag, n, a, offseta, lda, rcond, work, offsetwork, iwork, offsetiwork, info);
+    dtrconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrevc(String side, String howmny, boolean[] select, int n, double[] t, int ldt, double[] vl, int ldvl, double[] vr, int ldvr, int mm, org.netlib.util.intW m, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrevc(side, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, mm, m, work, info);
+    dtrevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrevc(String side, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrevc(side, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    dtrevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrexc(String compq, int n, double[] t, int ldt, double[] q, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrexc(compq, n, t, ldt, q, ldq, ifst, ilst, work, info);
+    dtrexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrexc(String compq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrexc(compq, n, t, offsett, ldt, q, offsetq, ldq, ifst, ilst, work, offsetwork, info);
+    dtrexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrrfs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrrfs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    dtrrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrrfs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrrfs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    dtrrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrsen(String job, String compq, boolean[] select, int n, double[] t, int ldt, double[] q, int ldq, double[] wr, double[] wi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrsen(job, compq, select, n, t, ldt, q, ldq, wr, wi, m, s, sep, work, lwork, iwork, liwork, info);
+    dtrsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrsen(String job, String compq, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, double[] wr, int offsetwr, double[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrsen(job, compq, select, offsetselect, n, t, offsett, ldt, q, offsetq, ldq, wr, offsetwr, wi, offsetwi, m, s, sep, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    dtrsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrsna(String job, String howmny, boolean[] select, int n, double[] t, int ldt, double[] vl, int ldvl, double[] vr, int ldvr, double[] s, double[] sep, int mm, org.netlib.util.intW m, double[] work, int ldwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrsna(job, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, s, sep, mm, m, work, ldwork, iwork, info);
+    dtrsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrsna(String job, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] sep, int offsetsep, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrsna(job, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, sep, offsetsep, mm, m, work, offsetwork, ldwork, iwork, offsetiwork, info);
+    dtrsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrsyl(String trana, String tranb, int isgn, int m, int n, double[] a, int lda, double[] b, int ldb, double[] c, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrsyl(trana, tranb, isgn, m, n, a, lda, b, ldb, c, Ldc, scale, info);
+    dtrsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrsyl(String trana, String tranb, int isgn, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrsyl(trana, tranb, isgn, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, scale, info);
+    dtrsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrti2(String uplo, String diag, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrti2(uplo, diag, n, a, lda, info);
+    dtrti2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrti2(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrti2(uplo, diag, n, a, offseta, lda, info);
+    dtrti2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtrtri(String uplo, String diag, int n, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrtri(uplo, diag, n, a, lda, info);
+    dtrtriMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void dtrtri(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrtri(uplo, diag, n, a, offseta, lda, info);
+    dtrtriMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void dtrtrs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrtrs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, info);
+    dtrtrsMeter.record(System.nanoTime() - start, (long) n * n * nrhs);
+  }
+
+  public void dtrtrs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtrtrs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    dtrtrsMeter.record(System.nanoTime() - start, (long) n * n * nrhs);
+  }
+
+  public void dtzrqf(int m, int n, double[] a, int lda, double[] tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtzrqf(m, n, a, lda, tau, info);
+    dtzrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtzrqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtzrqf(m, n, a, offseta, lda, tau, offsettau, info);
+    dtzrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtzrzf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtzrzf(m, n, a, lda, tau, work, lwork, info);
+    dtzrzfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dtzrzf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.dtzrzf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    dtzrzfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public int ieeeck(int ispec, float zero, float one) {
+    long start = System.nanoTime();
+    int result = lapack.ieeeck(ispec, zero, one);
+    ieeeckMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public int ilaenv(int ispec, String name, String opts, int n1, int n2, int n3, int n4) {
+    long start = System.nanoTime();
+    int result = lapack.ilaenv(ispec, name, opts, n1, n2, n3, n4);
+    ilaenvMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void ilaver(org.netlib.util.intW vers_major, org.netlib.util.intW vers_minor, org.netlib.util.intW vers_patch) {
+    long start = System.nanoTime();
+    lapack.ilaver(vers_major, vers_minor, vers_patch);
+    ilaverMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public int iparmq(int ispec, String name, String opts, int n, int ilo, int ihi, int lwork) {
+    long start = System.nanoTime();
+    int result = lapack.iparmq(ispec, name, opts, n, ilo, ihi, lwork);
+    iparmqMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public boolean lsamen(int n, String ca, String cb) {
+    long start = System.nanoTime();
+    boolean result = lapack.lsamen(n, ca, cb);
+    lsamenMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void sbdsdc(String uplo, String compq, int n, float[] d, float[] e, float[] u, int ldu, float[] vt, int ldvt, float[] q, int[] iq, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sbdsdc(uplo, compq, n, d, e, u, ldu, vt, ldvt, q, iq, work, iwork, info);
+    sbdsdcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sbdsdc(String uplo, String compq, int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] q, int offsetq, int[] iq, int offsetiq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sbdsdc(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+    sbdsdcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sbdsqr(String uplo, int n, int ncvt, int nru, int ncc, float[] d, float[] e, float[] vt, int ldvt, float[] u, int ldu, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sbdsqr(uplo, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+    sbdsqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sbdsqr(String uplo, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sbdsqr(uplo, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    sbdsqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sdisna(String job, int m, int n, float[] d, float[] sep, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sdisna(job, m, n, d, sep, info);
+    sdisnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sdisna(String job, int m, int n, float[] d, int offsetd, float[] sep, int offsetsep, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sdisna(job, m, n, d, offsetd, sep, offsetsep, info);
+    sdisnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbbrd(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int ldab, float[] d, float[] e, float[] q, int ldq, float[] pt, int ldpt, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbbrd(vect, m, n, ncc, kl, ku, ab, ldab, d, e, q, ldq, pt, ldpt, c, Ldc, work, info);
+    sgbbrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbbrd(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] pt, int offsetpt, int ldpt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbbrd(vect, m, n, ncc, kl, ku, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, pt, offsetpt, ldpt, c, offsetc, Ldc, work, offsetwork, info);
+    sgbbrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbcon(String norm, int n, int kl, int ku, float[] ab, int ldab, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbcon(norm, n, kl, ku, ab, ldab, ipiv, anorm, rcond, work, iwork, info);
+    sgbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbcon(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbcon(norm, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    sgbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbequ(int m, int n, int kl, int ku, float[] ab, int ldab, float[] r, float[] c, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbequ(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, info);
+    sgbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbequ(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbequ(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    sgbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbrfs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbrfs(trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    sgbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbrfs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbrfs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sgbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbsv(int n, int kl, int ku, int nrhs, float[] ab, int ldab, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbsv(n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+    sgbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbsv(int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbsv(n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    sgbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, int[] ipiv, org.netlib.util.StringW equed, float[] r, float[] c, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbsvx(fact, trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    sgbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbsvx(fact, trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sgbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbtf2(int m, int n, int kl, int ku, float[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbtf2(m, n, kl, ku, ab, ldab, ipiv, info);
+    sgbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbtf2(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbtf2(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    sgbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbtrf(int m, int n, int kl, int ku, float[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbtrf(m, n, kl, ku, ab, ldab, ipiv, info);
+    sgbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbtrf(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbtrf(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+    sgbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbtrs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int ldab, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbtrs(trans, n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+    sgbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgbtrs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgbtrs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+    sgbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebak(String job, String side, int n, int ilo, int ihi, float[] scale, int m, float[] v, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebak(job, side, n, ilo, ihi, scale, m, v, ldv, info);
+    sgebakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebak(String job, String side, int n, int ilo, int ihi, float[] scale, int offsetscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebak(job, side, n, ilo, ihi, scale, offsetscale, m, v, offsetv, ldv, info);
+    sgebakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebal(String job, int n, float[] a, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebal(job, n, a, lda, ilo, ihi, scale, info);
+    sgebalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebal(String job, int n, float[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebal(job, n, a, offseta, lda, ilo, ihi, scale, offsetscale, info);
+    sgebalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebd2(int m, int n, float[] a, int lda, float[] d, float[] e, float[] tauq, float[] taup, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebd2(m, n, a, lda, d, e, tauq, taup, work, info);
+    sgebd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebd2(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebd2(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, info);
+    sgebd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebrd(int m, int n, float[] a, int lda, float[] d, float[] e, float[] tauq, float[] taup, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebrd(m, n, a, lda, d, e, tauq, taup, work, lwork, info);
+    sgebrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgebrd(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgebrd(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+    sgebrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgecon(String norm, int n, float[] a, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgecon(norm, n, a, lda, anorm, rcond, work, iwork, info);
+    sgeconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgecon(String norm, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgecon(norm, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    sgeconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeequ(int m, int n, float[] a, int lda, float[] r, float[] c, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeequ(m, n, a, lda, r, c, rowcnd, colcnd, amax, info);
+    sgeequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeequ(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeequ(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+    sgeequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgees(String jobvs, String sort, java.lang.Object select, int n, float[] a, int lda, org.netlib.util.intW sdim, float[] wr, float[] wi, float[] vs, int ldvs, float[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgees(jobvs, sort, select, n, a, lda, sdim, wr, wi, vs, ldvs, work, lwork, bwork, info);
+    sgeesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgees(String jobvs, String sort, java.lang.Object select, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgees(jobvs, sort, select, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, work, offsetwork, lwork, bwork, offsetbwork, info);
+    sgeesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int lda, org.netlib.util.intW sdim, float[] wr, float[] wi, float[] vs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeesx(jobvs, sort, select, sense, n, a, lda, sdim, wr, wi, vs, ldvs, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+    sgeesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeesx(jobvs, sort, select, sense, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, rconde, rcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    sgeesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeev(String jobvl, String jobvr, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeev(jobvl, jobvr, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, work, lwork, info);
+    sgeevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeev(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeev(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    sgeevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, org.netlib.util.floatW abnrm, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeevx(balanc, jobvl, jobvr, sense, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, ilo, ihi, scale, abnrm, rconde, rcondv, work, lwork, iwork, info);
+    sgeevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, scale, offsetscale, abnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, info);
+    sgeevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgegs(String jobvsl, String jobvsr, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vsl, int ldvsl, float[] vsr, int ldvsr, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgegs(jobvsl, jobvsr, n, a, lda, b, ldb, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, info);
+    sgegsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgegs(String jobvsl, String jobvsr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgegs(jobvsl, jobvsr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, info);
+    sgegsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgegv(String jobvl, String jobvr, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vl, int ldvl, float[] vr, int ldvr, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgegv(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+    sgegvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgegv(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgegv(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    sgegvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgehd2(int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgehd2(n, ilo, ihi, a, lda, tau, work, info);
+    sgehd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgehd2(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgehd2(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sgehd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgehrd(int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgehrd(n, ilo, ihi, a, lda, tau, work, lwork, info);
+    sgehrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgehrd(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgehrd(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sgehrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelq2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelq2(m, n, a, lda, tau, work, info);
+    sgelq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelq2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sgelq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelqf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelqf(m, n, a, lda, tau, work, lwork, info);
+    sgelqfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void sgelqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sgelqfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void sgels(String trans, int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgels(trans, m, n, nrhs, a, lda, b, ldb, work, lwork, info);
+    sgelsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgels(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgels(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    sgelsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelsd(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelsd(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, iwork, info);
+    sgelsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelsd(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelsd(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+    sgelsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelss(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelss(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, info);
+    sgelssMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelss(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelss(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+    sgelssMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelsx(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, int[] jpvt, float rcond, org.netlib.util.intW rank, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelsx(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, info);
+    sgelsxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelsx(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelsx(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, info);
+    sgelsxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelsy(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, int[] jpvt, float rcond, org.netlib.util.intW rank, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelsy(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, lwork, info);
+    sgelsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgelsy(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgelsy(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, lwork, info);
+    sgelsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeql2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeql2(m, n, a, lda, tau, work, info);
+    sgeql2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeql2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeql2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sgeql2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqlf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqlf(m, n, a, lda, tau, work, lwork, info);
+    sgeqlfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqlf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqlf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sgeqlfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqp3(int m, int n, float[] a, int lda, int[] jpvt, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqp3(m, n, a, lda, jpvt, tau, work, lwork, info);
+    sgeqp3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqp3(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqp3(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+    sgeqp3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqpf(int m, int n, float[] a, int lda, int[] jpvt, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqpf(m, n, a, lda, jpvt, tau, work, info);
+    sgeqpfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqpf(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqpf(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, info);
+    sgeqpfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqr2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqr2(m, n, a, lda, tau, work, info);
+    sgeqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqr2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqr2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sgeqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgeqrf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqrf(m, n, a, lda, tau, work, lwork, info);
+    sgeqrfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void sgeqrf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgeqrf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sgeqrfMeter.record(System.nanoTime() - start, 2L * Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - 2L * Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void sgerfs(String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgerfs(trans, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    sgerfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgerfs(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgerfs(trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sgerfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgerq2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgerq2(m, n, a, lda, tau, work, info);
+    sgerq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgerq2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgerq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sgerq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgerqf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgerqf(m, n, a, lda, tau, work, lwork, info);
+    sgerqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgerqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgerqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sgerqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesc2(int n, float[] a, int lda, float[] rhs, int[] ipiv, int[] jpiv, org.netlib.util.floatW scale) {
+    long start = System.nanoTime();
+    lapack.sgesc2(n, a, lda, rhs, ipiv, jpiv, scale);
+    sgesc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesc2(int n, float[] a, int offseta, int lda, float[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.floatW scale) {
+    long start = System.nanoTime();
+    lapack.sgesc2(n, a, offseta, lda, rhs, offsetrhs, ipiv, offsetipiv, jpiv, offsetjpiv, scale);
+    sgesc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesdd(String jobz, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesdd(jobz, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, iwork, info);
+    sgesddMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesdd(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesdd(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    sgesddMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesv(int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesv(n, nrhs, a, lda, ipiv, b, ldb, info);
+    sgesvMeter.record(System.nanoTime() - start, 2L * n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void sgesv(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    sgesvMeter.record(System.nanoTime() - start, 2L * n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesvd(jobu, jobvt, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, info);
+    sgesvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesvd(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    sgesvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, float[] r, float[] c, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesvx(fact, trans, n, nrhs, a, lda, af, ldaf, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    sgesvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgesvx(fact, trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sgesvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgetc2(int n, float[] a, int lda, int[] ipiv, int[] jpiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetc2(n, a, lda, ipiv, jpiv, info);
+    sgetc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgetc2(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetc2(n, a, offseta, lda, ipiv, offsetipiv, jpiv, offsetjpiv, info);
+    sgetc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgetf2(int m, int n, float[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetf2(m, n, a, lda, ipiv, info);
+    sgetf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgetf2(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetf2(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    sgetf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgetrf(int m, int n, float[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetrf(m, n, a, lda, ipiv, info);
+    sgetrfMeter.record(System.nanoTime() - start, (long) Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - (long) Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void sgetrf(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetrf(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    sgetrfMeter.record(System.nanoTime() - start, (long) Math.max(m, n) * Math.min(m, n) * Math.min(m, n) - (long) Math.min(m, n) * Math.min(m, n) * Math.min(m, n) / 3);
+  }
+
+  public void sgetri(int n, float[] a, int lda, int[] ipiv, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetri(n, a, lda, ipiv, work, lwork, info);
+    sgetriMeter.record(System.nanoTime() - start, 4L * n * n * n / 3);
+  }
+
+  public void sgetri(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetri(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    sgetriMeter.record(System.nanoTime() - start, 4L * n * n * n / 3);
+  }
+
+  public void sgetrs(String trans, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetrs(trans, n, nrhs, a, lda, ipiv, b, ldb, info);
+    sgetrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void sgetrs(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgetrs(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    sgetrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, float[] rscale, int m, float[] v, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggbak(job, side, n, ilo, ihi, lscale, rscale, m, v, ldv, info);
+    sggbakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggbak(job, side, n, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, m, v, offsetv, ldv, info);
+    sggbakMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggbal(String job, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, float[] rscale, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggbal(job, n, a, lda, b, ldb, ilo, ihi, lscale, rscale, work, info);
+    sggbalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggbal(String job, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggbal(job, n, a, offseta, lda, b, offsetb, ldb, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, work, offsetwork, info);
+    sggbalMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW sdim, float[] alphar, float[] alphai, float[] beta, float[] vsl, int ldvsl, float[] vsr, int ldvsr, float[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgges(jobvsl, jobvsr, sort, selctg, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, bwork, info);
+    sggesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgges(jobvsl, jobvsr, sort, selctg, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, bwork, offsetbwork, info);
+    sggesMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW sdim, float[] alphar, float[] alphai, float[] beta, float[] vsl, int ldvsl, float[] vsr, int ldvsr, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+    sggesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+    sggesxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggev(String jobvl, String jobvr, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vl, int ldvl, float[] vr, int ldvr, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggev(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+    sggevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggev(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggev(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    sggevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, float[] rscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, boolean[] bwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggevx(balanc, jobvl, jobvr, sense, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, ilo, ihi, lscale, rscale, abnrm, bbnrm, rconde, rcondv, work, lwork, iwork, bwork, info);
+    sggevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, abnrm, bbnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, bwork, offsetbwork, info);
+    sggevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggglm(int n, int m, int p, float[] a, int lda, float[] b, int ldb, float[] d, float[] x, float[] y, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggglm(n, m, p, a, lda, b, ldb, d, x, y, work, lwork, info);
+    sggglmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggglm(int n, int m, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] d, int offsetd, float[] x, int offsetx, float[] y, int offsety, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggglm(n, m, p, a, offseta, lda, b, offsetb, ldb, d, offsetd, x, offsetx, y, offsety, work, offsetwork, lwork, info);
+    sggglmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgghrd(String compq, String compz, int n, int ilo, int ihi, float[] a, int lda, float[] b, int ldb, float[] q, int ldq, float[] z, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgghrd(compq, compz, n, ilo, ihi, a, lda, b, ldb, q, ldq, z, ldz, info);
+    sgghrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgghrd(String compq, String compz, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgghrd(compq, compz, n, ilo, ihi, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, info);
+    sgghrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgglse(int m, int n, int p, float[] a, int lda, float[] b, int ldb, float[] c, float[] d, float[] x, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgglse(m, n, p, a, lda, b, ldb, c, d, x, work, lwork, info);
+    sgglseMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgglse(int m, int n, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, float[] d, int offsetd, float[] x, int offsetx, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgglse(m, n, p, a, offseta, lda, b, offsetb, ldb, c, offsetc, d, offsetd, x, offsetx, work, offsetwork, lwork, info);
+    sgglseMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggqrf(int n, int m, int p, float[] a, int lda, float[] taua, float[] b, int ldb, float[] taub, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggqrf(n, m, p, a, lda, taua, b, ldb, taub, work, lwork, info);
+    sggqrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggqrf(int n, int m, int p, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggqrf(n, m, p, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    sggqrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggrqf(int m, int p, int n, float[] a, int lda, float[] taua, float[] b, int ldb, float[] taub, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggrqf(m, p, n, a, lda, taua, b, ldb, taub, work, lwork, info);
+    sggrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggrqf(int m, int p, int n, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggrqf(m, p, n, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+    sggrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int lda, float[] b, int ldb, float[] alpha, float[] beta, float[] u, int ldu, float[] v, int ldv, float[] q, int ldq, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggsvd(jobu, jobv, jobq, m, n, p, k, l, a, lda, b, ldb, alpha, beta, u, ldu, v, ldv, q, ldq, work, iwork, info);
+    sggsvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggsvd(jobu, jobv, jobq, m, n, p, k, l, a, offseta, lda, b, offsetb, ldb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, iwork, offsetiwork, info);
+    sggsvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggsvp(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int lda, float[] b, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int ldu, float[] v, int ldv, float[] q, int ldq, int[] iwork, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggsvp(jobu, jobv, jobq, m, p, n, a, lda, b, ldb, tola, tolb, k, l, u, ldu, v, ldv, q, ldq, iwork, tau, work, info);
+    sggsvpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sggsvp(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sggsvp(jobu, jobv, jobq, m, p, n, a, offseta, lda, b, offsetb, ldb, tola, tolb, k, l, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, iwork, offsetiwork, tau, offsettau, work, offsetwork, info);
+    sggsvpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtcon(String norm, int n, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtcon(norm, n, dl, d, du, du2, ipiv, anorm, rcond, work, iwork, info);
+    sgtconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtcon(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtcon(norm, n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    sgtconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtrfs(String trans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] dlf, float[] df, float[] duf, float[] du2, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtrfs(trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    sgtrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtrfs(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtrfs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sgtrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtsv(int n, int nrhs, float[] dl, float[] d, float[] du, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtsv(n, nrhs, dl, d, du, b, ldb, info);
+    sgtsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtsv(int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtsv(n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, b, offsetb, ldb, info);
+    sgtsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtsvx(String fact, String trans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] dlf, float[] df, float[] duf, float[] du2, int[] ipiv, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtsvx(fact, trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    sgtsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtsvx(String fact, String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgtsvx(fact, trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sgtsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgttrf(int n, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgttrf(n, dl, d, du, du2, ipiv, info);
+    sgttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgttrf(int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgttrf(n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, info);
+    sgttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgttrs(String trans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgttrs(trans, n, nrhs, dl, d, du, du2, ipiv, b, ldb, info);
+    sgttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgttrs(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sgttrs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, info);
+    sgttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtts2(int itrans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, float[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.sgtts2(itrans, n, nrhs, dl, d, du, du2, ipiv, b, ldb);
+    sgtts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sgtts2(int itrans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.sgtts2(itrans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb);
+    sgtts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void shgeqz(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int ldh, float[] t, int ldt, float[] alphar, float[] alphai, float[] beta, float[] q, int ldq, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.shgeqz(job, compq, compz, n, ilo, ihi, h, ldh, t, ldt, alphar, alphai, beta, q, ldq, z, ldz, work, lwork, info);
+    shgeqzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void shgeqz(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] t, int offsett, int ldt, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.shgeqz(job, compq, compz, n, ilo, ihi, h, offseth, ldh, t, offsett, ldt, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, work, offsetwork, lwork, info);
+    shgeqzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void shsein(String side, String eigsrc, String initv, boolean[] select, int n, float[] h, int ldh, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int[] ifaill, int[] ifailr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.shsein(side, eigsrc, initv, select, n, h, ldh, wr, wi, vl, ldvl, vr, ldvr, mm, m, work, ifaill, ifailr, info);
+    shseinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void shsein(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.shsein(side, eigsrc, initv, select, offsetselect, n, h, offseth, ldh, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, ifaill, offsetifaill, ifailr, offsetifailr, info);
+    shseinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void shseqr(String job, String compz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.shseqr(job, compz, n, ilo, ihi, h, ldh, wr, wi, z, ldz, work, lwork, info);
+    shseqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void shseqr(String job, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.shseqr(job, compz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, ldz, work, offsetwork, lwork, info);
+    shseqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public boolean sisnan(float sin) {
+    long start = System.nanoTime();
+    boolean result = lapack.sisnan(sin);
+    sisnanMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void slabad(org.netlib.util.floatW small, org.netlib.util.floatW large) {
+    long start = System.nanoTime();
+    lapack.slabad(small, large);
+    slabadMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slabrd(int m, int n, int nb, float[] a, int lda, float[] d, float[] e, float[] tauq, float[] taup, float[] x, int ldx, float[] y, int ldy) {
+    long start = System.nanoTime();
+    lapack.slabrd(m, n, nb, a, lda, d, e, tauq, taup, x, ldx, y, ldy);
+    slabrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slabrd(int m, int n, int nb, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] x, int offsetx, int ldx, float[] y, int offsety, int ldy) {
+    long start = System.nanoTime();
+    lapack.slabrd(m, n, nb, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, x, offsetx, ldx, y, offsety, ldy);
+    slabrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slacn2(int n, float[] v, float[] x, int[] isgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave) {
+    long start = System.nanoTime();
+    lapack.slacn2(n, v, x, isgn, est, kase, isave);
+    slacn2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slacn2(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    long start = System.nanoTime();
+    lapack.slacn2(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase, isave, offsetisave);
+    slacn2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slacon(int n, float[] v, float[] x, int[] isgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
+    long start = System.nanoTime();
+    lapack.slacon(n, v, x, isgn, est, kase);
+    slaconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slacon(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
+    long start = System.nanoTime();
+    lapack.slacon(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase);
+    slaconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slacpy(String uplo, int m, int n, float[] a, int lda, float[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.slacpy(uplo, m, n, a, lda, b, ldb);
+    slacpyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slacpy(String uplo, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.slacpy(uplo, m, n, a, offseta, lda, b, offsetb, ldb);
+    slacpyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sladiv(float a, float b, float c, float d, org.netlib.util.floatW p, org.netlib.util.floatW q) {
+    long start = System.nanoTime();
+    lapack.sladiv(a, b, c, d, p, q);
+    sladivMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slae2(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2) {
+    long start = System.nanoTime();
+    lapack.slae2(a, b, c, rt1, rt2);
+    slae2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, float[] e, float[] e2, int[] nval, float[] ab, float[] c, org.netlib.util.intW mout, int[] nab, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, e, e2, nval, ab, c, mout, nab, work, iwork, info);
+    slaebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, int[] nval, int offsetnval, float[] ab, int offsetab, float[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, offsetd, e, offsete, e2, offsete2, nval, offsetnval, ab, offsetab, c, offsetc, mout, nab, offsetnab, work, offsetwork, iwork, offsetiwork, info);
+    slaebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed0(int icompq, int qsiz, int n, float[] d, float[] e, float[] q, int ldq, float[] qstore, int ldqs, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed0(icompq, qsiz, n, d, e, q, ldq, qstore, ldqs, work, iwork, info);
+    slaed0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed0(int icompq, int qsiz, int n, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] qstore, int offsetqstore, int ldqs, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed0(icompq, qsiz, n, d, offsetd, e, offsete, q, offsetq, ldq, qstore, offsetqstore, ldqs, work, offsetwork, iwork, offsetiwork, info);
+    slaed0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed1(int n, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed1(n, d, q, ldq, indxq, rho, cutpnt, work, iwork, info);
+    slaed1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed1(int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed1(n, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, work, offsetwork, iwork, offsetiwork, info);
+    slaed1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed2(org.netlib.util.intW k, int n, int n1, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, float[] z, float[] dlamda, float[] w, float[] q2, int[] indx, int[] indxc, int[] indxp, int[] coltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed2(k, n, n1, d, q, ldq, indxq, rho, z, dlamda, w, q2, indx, indxc, indxp, coltyp, info);
+    slaed2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed2(org.netlib.util.intW k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed2(k, n, n1, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, z, offsetz, dlamda, offsetdlamda, w, offsetw, q2, offsetq2, indx, offsetindx, indxc, offsetindxc, indxp, offsetindxp, coltyp, offsetcoltyp, info);
+    slaed2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed3(int k, int n, int n1, float[] d, float[] q, int ldq, float rho, float[] dlamda, float[] q2, int[] indx, int[] ctot, float[] w, float[] s, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed3(k, n, n1, d, q, ldq, rho, dlamda, q2, indx, ctot, w, s, info);
+    slaed3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed3(int k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, float[] w, int offsetw, float[] s, int offsets, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed3(k, n, n1, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, q2, offsetq2, indx, offsetindx, ctot, offsetctot, w, offsetw, s, offsets, info);
+    slaed3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed4(int n, int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed4(n, i, d, z, delta, rho, dlam, info);
+    slaed4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed4(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam, info);
+    slaed4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed5(int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW dlam) {
+    long start = System.nanoTime();
+    lapack.slaed5(i, d, z, delta, rho, dlam);
+    slaed5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed5(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam) {
+    long start = System.nanoTime();
+    lapack.slaed5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam);
+    slaed5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed6(int kniter, boolean orgati, float rho, float[] d, float[] z, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed6(kniter, orgati, rho, d, z, finit, tau, info);
+    slaed6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed6(int kniter, boolean orgati, float rho, float[] d, int offsetd, float[] z, int offsetz, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed6(kniter, orgati, rho, d, offsetd, z, offsetz, finit, tau, info);
+    slaed6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int[] qptr, int[] prmptr, int[] perm, int[] givptr, int[] givcol, float[] givnum, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, q, ldq, indxq, rho, cutpnt, qstore, qptr, prmptr, perm, givptr, givcol, givnum, work, iwork, info);
+    slaed7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, qstore, offsetqstore, qptr, offsetqptr, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, work, offsetwork, iwork, offsetiwork, info);
+    slaed7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, int cutpnt, float[] z, float[] dlamda, float[] q2, int ldq2, float[] w, int[] perm, org.netlib.util.intW givptr, int[] givcol, float[] givnum, int[] indxp, int[] indx, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed8(icompq, k, n, qsiz, d, q, ldq, indxq, rho, cutpnt, z, dlamda, q2, ldq2, w, perm, givptr, givcol, givnum, indxp, indx, info);
+    slaed8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int ldq2, float[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed8(icompq, k, n, qsiz, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, z, offsetz, dlamda, offsetdlamda, q2, offsetq2, ldq2, w, offsetw, perm, offsetperm, givptr, givcol, offsetgivcol, givnum, offsetgivnum, indxp, offsetindxp, indx, offsetindx, info);
+    slaed8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed9(int k, int kstart, int kstop, int n, float[] d, float[] q, int ldq, float rho, float[] dlamda, float[] w, float[] s, int lds, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed9(k, kstart, kstop, n, d, q, ldq, rho, dlamda, w, s, lds, info);
+    slaed9Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaed9(int k, int kstart, int kstop, int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] s, int offsets, int lds, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaed9(k, kstart, kstop, n, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, w, offsetw, s, offsets, lds, info);
+    slaed9Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int[] perm, int[] givptr, int[] givcol, float[] givnum, float[] q, int[] qptr, float[] z, float[] ztemp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaeda(n, tlvls, curlvl, curpbm, prmptr, perm, givptr, givcol, givnum, q, qptr, z, ztemp, info);
+    slaedaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] q, int offsetq, int[] qptr, int offsetqptr, float[] z, int offsetz, float[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaeda(n, tlvls, curlvl, curpbm, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, q, offsetq, qptr, offsetqptr, z, offsetz, ztemp, offsetztemp, info);
+    slaedaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaein(boolean rightv, boolean noinit, int n, float[] h, int ldh, float wr, float wi, float[] vr, float[] vi, float[] b, int ldb, float[] work, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaein(rightv, noinit, n, h, ldh, wr, wi, vr, vi, b, ldb, work, eps3, smlnum, bignum, info);
+    slaeinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaein(boolean rightv, boolean noinit, int n, float[] h, int offseth, int ldh, float wr, float wi, float[] vr, int offsetvr, float[] vi, int offsetvi, float[] b, int offsetb, int ldb, float[] work, int offsetwork, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaein(rightv, noinit, n, h, offseth, ldh, wr, wi, vr, offsetvr, vi, offsetvi, b, offsetb, ldb, work, offsetwork, eps3, smlnum, bignum, info);
+    slaeinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaev2(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2, org.netlib.util.floatW cs1, org.netlib.util.floatW sn1) {
+    long start = System.nanoTime();
+    lapack.slaev2(a, b, c, rt1, rt2, cs1, sn1);
+    slaev2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaexc(boolean wantq, int n, float[] t, int ldt, float[] q, int ldq, int j1, int n1, int n2, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaexc(wantq, n, t, ldt, q, ldq, j1, n1, n2, work, info);
+    slaexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaexc(boolean wantq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, int j1, int n1, int n2, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaexc(wantq, n, t, offsett, ldt, q, offsetq, ldq, j1, n1, n2, work, offsetwork, info);
+    slaexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slag2(float[] a, int lda, float[] b, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
+    long start = System.nanoTime();
+    lapack.slag2(a, lda, b, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+    slag2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slag2(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
+    long start = System.nanoTime();
+    lapack.slag2(a, offseta, lda, b, offsetb, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+    slag2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slag2d(int m, int n, float[] sa, int ldsa, double[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slag2d(m, n, sa, ldsa, a, lda, info);
+    slag2dMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slag2d(int m, int n, float[] sa, int offsetsa, int ldsa, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slag2d(m, n, sa, offsetsa, ldsa, a, offseta, lda, info);
+    slag2dMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slags2(boolean upper, float a1, float a2, float a3, float b1, float b2, float b3, org.netlib.util.floatW csu, org.netlib.util.floatW snu, org.netlib.util.floatW csv, org.netlib.util.floatW snv, org.netlib.util.floatW csq, org.netlib.util.floatW snq) {
+    long start = System.nanoTime();
+    lapack.slags2(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+    slags2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagtf(int n, float[] a, float lambda, float[] b, float[] c, float tol, float[] d, int[] in, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slagtf(n, a, lambda, b, c, tol, d, in, info);
+    slagtfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagtf(int n, float[] a, int offseta, float lambda, float[] b, int offsetb, float[] c, int offsetc, float tol, float[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slagtf(n, a, offseta, lambda, b, offsetb, c, offsetc, tol, d, offsetd, in, offsetin, info);
+    slagtfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagtm(String trans, int n, int nrhs, float alpha, float[] dl, float[] d, float[] du, float[] x, int ldx, float beta, float[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.slagtm(trans, n, nrhs, alpha, dl, d, du, x, ldx, beta, b, ldb);
+    slagtmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagtm(String trans, int n, int nrhs, float alpha, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] x, int offsetx, int ldx, float beta, float[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.slagtm(trans, n, nrhs, alpha, dl, offsetdl, d, offsetd, du, offsetdu, x, offsetx, ldx, beta, b, offsetb, ldb);
+    slagtmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagts(int job, int n, float[] a, float[] b, float[] c, float[] d, int[] in, float[] y, org.netlib.util.floatW tol, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slagts(job, n, a, b, c, d, in, y, tol, info);
+    slagtsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagts(int job, int n, float[] a, int offseta, float[] b, int offsetb, float[] c, int offsetc, float[] d, int offsetd, int[] in, int offsetin, float[] y, int offsety, org.netlib.util.floatW tol, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slagts(job, n, a, offseta, b, offsetb, c, offsetc, d, offsetd, in, offsetin, y, offsety, tol, info);
+    slagtsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagv2(float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
+    long start = System.nanoTime();
+    lapack.slagv2(a, lda, b, ldb, alphar, alphai, beta, csl, snl, csr, snr);
+    slagv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slagv2(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
+    long start = System.nanoTime();
+    lapack.slagv2(a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, csl, snl, csr, snr);
+    slagv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, int iloz, int ihiz, float[] z, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slahqr(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, info);
+    slahqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slahqr(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, info);
+    slahqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slahr2(int n, int k, int nb, float[] a, int lda, float[] tau, float[] t, int ldt, float[] y, int ldy) {
+    long start = System.nanoTime();
+    lapack.slahr2(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+    slahr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slahr2(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    long start = System.nanoTime();
+    lapack.slahr2(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    slahr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slahrd(int n, int k, int nb, float[] a, int lda, float[] tau, float[] t, int ldt, float[] y, int ldy) {
+    long start = System.nanoTime();
+    lapack.slahrd(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+    slahrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slahrd(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    long start = System.nanoTime();
+    lapack.slahrd(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+    slahrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaic1(int job, int j, float[] x, float sest, float[] w, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
+    long start = System.nanoTime();
+    lapack.slaic1(job, j, x, sest, w, gamma, sestpr, s, c);
+    slaic1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaic1(int job, int j, float[] x, int offsetx, float sest, float[] w, int offsetw, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
+    long start = System.nanoTime();
+    lapack.slaic1(job, j, x, offsetx, sest, w, offsetw, gamma, sestpr, s, c);
+    slaic1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public boolean slaisnan(float sin1, float sin2) {
+    long start = System.nanoTime();
+    boolean result = lapack.slaisnan(sin1, sin2);
+    slaisnanMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void slaln2(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int lda, float d1, float d2, float[] b, int ldb, float wr, float wi, float[] x, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaln2(ltrans, na, nw, smin, ca, a, lda, d1, d2, b, ldb, wr, wi, x, ldx, scale, xnorm, info);
+    slaln2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaln2(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int offseta, int lda, float d1, float d2, float[] b, int offsetb, int ldb, float wr, float wi, float[] x, int offsetx, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaln2(ltrans, na, nw, smin, ca, a, offseta, lda, d1, d2, b, offsetb, ldb, wr, wi, x, offsetx, ldx, scale, xnorm, info);
+    slaln2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slals0(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int ldb, float[] bx, int ldbx, int[] perm, int givptr, int[] givcol, int ldgcol, float[] givnum, int ldgnum, float[] poles, float[] difl, float[] difr, float[] z, int k, float c, float s, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slals0(icompq, nl, nr, sqre, nrhs, b, ldb, bx, ldbx, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, info);
+    slals0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slals0(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, int k, float c, float s, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slals0(icompq, nl, nr, sqre, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, info);
+    slals0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slalsa(int icompq, int smlsiz, int n, int nrhs, float[] b, int ldb, float[] bx, int ldbx, float[] u, int ldu, float[] vt, int[] k, float[] difl, float[] difr, float[] z, float[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, float[] givnum, float[] c, float[] s, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slalsa(icompq, smlsiz, n, nrhs, b, ldb, bx, ldbx, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+    slalsaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slalsa(int icompq, int smlsiz, int n, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slalsa(icompq, smlsiz, n, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    slalsaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slalsd(String uplo, int smlsiz, int n, int nrhs, float[] d, float[] e, float[] b, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slalsd(uplo, smlsiz, n, nrhs, d, e, b, ldb, rcond, rank, work, iwork, info);
+    slalsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slalsd(String uplo, int smlsiz, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slalsd(uplo, smlsiz, n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, rcond, rank, work, offsetwork, iwork, offsetiwork, info);
+    slalsdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slamrg(int n1, int n2, float[] a, int strd1, int strd2, int[] index) {
+    long start = System.nanoTime();
+    lapack.slamrg(n1, n2, a, strd1, strd2, index);
+    slamrgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slamrg(int n1, int n2, float[] a, int offseta, int strd1, int strd2, int[] index, int offsetindex) {
+    long start = System.nanoTime();
+    lapack.slamrg(n1, n2, a, offseta, strd1, strd2, index, offsetindex);
+    slamrgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public int slaneg(int n, float[] d, float[] lld, float sigma, float pivmin, int r) {
+    long start = System.nanoTime();
+    int result = lapack.slaneg(n, d, lld, sigma, pivmin, r);
+    slanegMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public int slaneg(int n, float[] d, int offsetd, float[] lld, int offsetlld, float sigma, float pivmin, int r) {
+    long start = System.nanoTime();
+    int result = lapack.slaneg(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+    slanegMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slangb(String norm, int n, int kl, int ku, float[] ab, int ldab, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slangb(norm, n, kl, ku, ab, ldab, work);
+    slangbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slangb(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slangb(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+    slangbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slange(String norm, int m, int n, float[] a, int lda, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slange(norm, m, n, a, lda, work);
+    slangeMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slange(String norm, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slange(norm, m, n, a, offseta, lda, work, offsetwork);
+    slangeMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slangt(String norm, int n, float[] dl, float[] d, float[] du) {
+    long start = System.nanoTime();
+    float result = lapack.slangt(norm, n, dl, d, du);
+    slangtMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slangt(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu) {
+    long start = System.nanoTime();
+    float result = lapack.slangt(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+    slangtMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slanhs(String norm, int n, float[] a, int lda, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slanhs(norm, n, a, lda, work);
+    slanhsMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slanhs(String norm, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slanhs(norm, n, a, offseta, lda, work, offsetwork);
+    slanhsMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slansb(String norm, String uplo, int n, int k, float[] ab, int ldab, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slansb(norm, uplo, n, k, ab, ldab, work);
+    slansbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slansb(String norm, String uplo, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slansb(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+    slansbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slansp(String norm, String uplo, int n, float[] ap, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slansp(norm, uplo, n, ap, work);
+    slanspMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slansp(String norm, String uplo, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slansp(norm, uplo, n, ap, offsetap, work, offsetwork);
+    slanspMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slanst(String norm, int n, float[] d, float[] e) {
+    long start = System.nanoTime();
+    float result = lapack.slanst(norm, n, d, e);
+    slanstMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slanst(String norm, int n, float[] d, int offsetd, float[] e, int offsete) {
+    long start = System.nanoTime();
+    float result = lapack.slanst(norm, n, d, offsetd, e, offsete);
+    slanstMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slansy(String norm, String uplo, int n, float[] a, int lda, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slansy(norm, uplo, n, a, lda, work);
+    slansyMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slansy(String norm, String uplo, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slansy(norm, uplo, n, a, offseta, lda, work, offsetwork);
+    slansyMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slantb(String norm, String uplo, String diag, int n, int k, float[] ab, int ldab, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slantb(norm, uplo, diag, n, k, ab, ldab, work);
+    slantbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slantb(String norm, String uplo, String diag, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slantb(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+    slantbMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slantp(String norm, String uplo, String diag, int n, float[] ap, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slantp(norm, uplo, diag, n, ap, work);
+    slantpMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slantp(String norm, String uplo, String diag, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slantp(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+    slantpMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slantr(String norm, String uplo, String diag, int m, int n, float[] a, int lda, float[] work) {
+    long start = System.nanoTime();
+    float result = lapack.slantr(norm, uplo, diag, m, n, a, lda, work);
+    slantrMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slantr(String norm, String uplo, String diag, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    float result = lapack.slantr(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+    slantrMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void slanv2(org.netlib.util.floatW a, org.netlib.util.floatW b, org.netlib.util.floatW c, org.netlib.util.floatW d, org.netlib.util.floatW rt1r, org.netlib.util.floatW rt1i, org.netlib.util.floatW rt2r, org.netlib.util.floatW rt2i, org.netlib.util.floatW cs, org.netlib.util.floatW sn) {
+    long start = System.nanoTime();
+    lapack.slanv2(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+    slanv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slapll(int n, float[] x, int incx, float[] y, int incy, org.netlib.util.floatW ssmin) {
+    long start = System.nanoTime();
+    lapack.slapll(n, x, incx, y, incy, ssmin);
+    slapllMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slapll(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, org.netlib.util.floatW ssmin) {
+    long start = System.nanoTime();
+    lapack.slapll(n, x, offsetx, incx, y, offsety, incy, ssmin);
+    slapllMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slapmt(boolean forwrd, int m, int n, float[] x, int ldx, int[] k) {
+    long start = System.nanoTime();
+    lapack.slapmt(forwrd, m, n, x, ldx, k);
+    slapmtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slapmt(boolean forwrd, int m, int n, float[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    long start = System.nanoTime();
+    lapack.slapmt(forwrd, m, n, x, offsetx, ldx, k, offsetk);
+    slapmtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public float slapy2(float x, float y) {
+    long start = System.nanoTime();
+    float result = lapack.slapy2(x, y);
+    slapy2Meter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slapy3(float x, float y, float z) {
+    long start = System.nanoTime();
+    float result = lapack.slapy3(x, y, z);
+    slapy3Meter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void slaqgb(int m, int n, int kl, int ku, float[] ab, int ldab, float[] r, float[] c, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqgb(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, equed);
+    slaqgbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqgb(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqgb(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    slaqgbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqge(int m, int n, float[] a, int lda, float[] r, float[] c, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqge(m, n, a, lda, r, c, rowcnd, colcnd, amax, equed);
+    slaqgeMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqge(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqge(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+    slaqgeMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqp2(int m, int n, int offset, float[] a, int lda, int[] jpvt, float[] tau, float[] vn1, float[] vn2, float[] work) {
+    long start = System.nanoTime();
+    lapack.slaqp2(m, n, offset, a, lda, jpvt, tau, vn1, vn2, work);
+    slaqp2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqp2(int m, int n, int offset, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slaqp2(m, n, offset, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, work, offsetwork);
+    slaqp2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int lda, int[] jpvt, float[] tau, float[] vn1, float[] vn2, float[] auxv, float[] f, int ldf) {
+    long start = System.nanoTime();
+    lapack.slaqps(m, n, offset, nb, kb, a, lda, jpvt, tau, vn1, vn2, auxv, f, ldf);
+    slaqpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] auxv, int offsetauxv, float[] f, int offsetf, int ldf) {
+    long start = System.nanoTime();
+    lapack.slaqps(m, n, offset, nb, kb, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, auxv, offsetauxv, f, offsetf, ldf);
+    slaqpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, int iloz, int ihiz, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaqr0(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+    slaqr0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaqr0(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    slaqr0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr1(int n, float[] h, int ldh, float sr1, float si1, float sr2, float si2, float[] v) {
+    long start = System.nanoTime();
+    lapack.slaqr1(n, h, ldh, sr1, si1, sr2, si2, v);
+    slaqr1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr1(int n, float[] h, int offseth, int ldh, float sr1, float si1, float sr2, float si2, float[] v, int offsetv) {
+    long start = System.nanoTime();
+    lapack.slaqr1(n, h, offseth, ldh, sr1, si1, sr2, si2, v, offsetv);
+    slaqr1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int ldh, int iloz, int ihiz, float[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, float[] si, float[] v, int ldv, int nh, float[] t, int ldt, int nv, float[] wv, int ldwv, float[] work, int lwork) {
+    long start = System.nanoTime();
+    lapack.slaqr2(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+    slaqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    long start = System.nanoTime();
+    lapack.slaqr2(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    slaqr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int ldh, int iloz, int ihiz, float[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, float[] si, float[] v, int ldv, int nh, float[] t, int ldt, int nv, float[] wv, int ldwv, float[] work, int lwork) {
+    long start = System.nanoTime();
+    lapack.slaqr3(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+    slaqr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    long start = System.nanoTime();
+    lapack.slaqr3(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+    slaqr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, int iloz, int ihiz, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaqr4(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+    slaqr4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaqr4(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+    slaqr4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, float[] si, float[] h, int ldh, int iloz, int ihiz, float[] z, int ldz, float[] v, int ldv, float[] u, int ldu, int nv, float[] wv, int ldwv, int nh, float[] wh, int ldwh) {
+    long start = System.nanoTime();
+    lapack.slaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, si, h, ldh, iloz, ihiz, z, ldz, v, ldv, u, ldu, nv, wv, ldwv, nh, wh, ldwh);
+    slaqr5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, int offsetsr, float[] si, int offsetsi, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] v, int offsetv, int ldv, float[] u, int offsetu, int ldu, int nv, float[] wv, int offsetwv, int ldwv, int nh, float[] wh, int offsetwh, int ldwh) {
+    long start = System.nanoTime();
+    lapack.slaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, offsetsr, si, offsetsi, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, v, offsetv, ldv, u, offsetu, ldu, nv, wv, offsetwv, ldwv, nh, wh, offsetwh, ldwh);
+    slaqr5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqsb(String uplo, int n, int kd, float[] ab, int ldab, float[] s, float scond, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqsb(uplo, n, kd, ab, ldab, s, scond, amax, equed);
+    slaqsbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqsb(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqsb(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, equed);
+    slaqsbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqsp(String uplo, int n, float[] ap, float[] s, float scond, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqsp(uplo, n, ap, s, scond, amax, equed);
+    slaqspMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqsp(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqsp(uplo, n, ap, offsetap, s, offsets, scond, amax, equed);
+    slaqspMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqsy(String uplo, int n, float[] a, int lda, float[] s, float scond, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqsy(uplo, n, a, lda, s, scond, amax, equed);
+    slaqsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqsy(String uplo, int n, float[] a, int offseta, int lda, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    long start = System.nanoTime();
+    lapack.slaqsy(uplo, n, a, offseta, lda, s, offsets, scond, amax, equed);
+    slaqsyMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqtr(boolean ltran, boolean lreal, int n, float[] t, int ldt, float[] b, float w, org.netlib.util.floatW scale, float[] x, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaqtr(ltran, lreal, n, t, ldt, b, w, scale, x, work, info);
+    slaqtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaqtr(boolean ltran, boolean lreal, int n, float[] t, int offsett, int ldt, float[] b, int offsetb, float w, org.netlib.util.floatW scale, float[] x, int offsetx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slaqtr(ltran, lreal, n, t, offsett, ldt, b, offsetb, w, scale, x, offsetx, work, offsetwork, info);
+    slaqtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slar1v(int n, int b1, int bn, float lambda, float[] d, float[] l, float[] ld, float[] lld, float pivmin, float gaptol, float[] z, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work) {
+    long start = System.nanoTime();
+    lapack.slar1v(n, b1, bn, lambda, d, l, ld, lld, pivmin, gaptol, z, wantnc, negcnt, ztz, mingma, r, isuppz, nrminv, resid, rqcorr, work);
+    slar1vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slar1v(int n, int b1, int bn, float lambda, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, float[] lld, int offsetlld, float pivmin, float gaptol, float[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slar1v(n, b1, bn, lambda, d, offsetd, l, offsetl, ld, offsetld, lld, offsetlld, pivmin, gaptol, z, offsetz, wantnc, negcnt, ztz, mingma, r, isuppz, offsetisuppz, nrminv, resid, rqcorr, work, offsetwork);
+    slar1vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slar2v(int n, float[] x, float[] y, float[] z, int incx, float[] c, float[] s, int incc) {
+    long start = System.nanoTime();
+    lapack.slar2v(n, x, y, z, incx, c, s, incc);
+    slar2vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slar2v(int n, float[] x, int offsetx, float[] y, int offsety, float[] z, int offsetz, int incx, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    long start = System.nanoTime();
+    lapack.slar2v(n, x, offsetx, y, offsety, z, offsetz, incx, c, offsetc, s, offsets, incc);
+    slar2vMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarf(String side, int m, int n, float[] v, int incv, float tau, float[] c, int Ldc, float[] work) {
+    long start = System.nanoTime();
+    lapack.slarf(side, m, n, v, incv, tau, c, Ldc, work);
+    slarfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarf(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slarf(side, m, n, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    slarfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarfb(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int ldv, float[] t, int ldt, float[] c, int Ldc, float[] work, int ldwork) {
+    long start = System.nanoTime();
+    lapack.slarfb(side, trans, direct, storev, m, n, k, v, ldv, t, ldt, c, Ldc, work, ldwork);
+    slarfbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarfb(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    long start = System.nanoTime();
+    lapack.slarfb(side, trans, direct, storev, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    slarfbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarfg(int n, org.netlib.util.floatW alpha, float[] x, int incx, org.netlib.util.floatW tau) {
+    long start = System.nanoTime();
+    lapack.slarfg(n, alpha, x, incx, tau);
+    slarfgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarfg(int n, org.netlib.util.floatW alpha, float[] x, int offsetx, int incx, org.netlib.util.floatW tau) {
+    long start = System.nanoTime();
+    lapack.slarfg(n, alpha, x, offsetx, incx, tau);
+    slarfgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarft(String direct, String storev, int n, int k, float[] v, int ldv, float[] tau, float[] t, int ldt) {
+    long start = System.nanoTime();
+    lapack.slarft(direct, storev, n, k, v, ldv, tau, t, ldt);
+    slarftMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarft(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    long start = System.nanoTime();
+    lapack.slarft(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    slarftMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarfx(String side, int m, int n, float[] v, float tau, float[] c, int Ldc, float[] work) {
+    long start = System.nanoTime();
+    lapack.slarfx(side, m, n, v, tau, c, Ldc, work);
+    slarfxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarfx(String side, int m, int n, float[] v, int offsetv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slarfx(side, m, n, v, offsetv, tau, c, offsetc, Ldc, work, offsetwork);
+    slarfxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slargv(int n, float[] x, int incx, float[] y, int incy, float[] c, int incc) {
+    long start = System.nanoTime();
+    lapack.slargv(n, x, incx, y, incy, c, incc);
+    slargvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slargv(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, int incc) {
+    long start = System.nanoTime();
+    lapack.slargv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, incc);
+    slargvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarnv(int idist, int[] iseed, int n, float[] x) {
+    long start = System.nanoTime();
+    lapack.slarnv(idist, iseed, n, x);
+    slarnvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarnv(int idist, int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    long start = System.nanoTime();
+    lapack.slarnv(idist, iseed, offsetiseed, n, x, offsetx);
+    slarnvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarra(int n, float[] d, float[] e, float[] e2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarra(n, d, e, e2, spltol, tnrm, nsplit, isplit, info);
+    slarraMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarra(int n, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarra(n, d, offsetd, e, offsete, e2, offsete2, spltol, tnrm, nsplit, isplit, offsetisplit, info);
+    slarraMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrb(int n, float[] d, float[] lld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, float[] wgap, float[] werr, float[] work, int[] iwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrb(n, d, lld, ifirst, ilast, rtol1, rtol2, offset, w, wgap, werr, work, iwork, pivmin, spdiam, twist, info);
+    slarrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrb(int n, float[] d, int offsetd, float[] lld, int offsetlld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrb(n, d, offsetd, lld, offsetlld, ifirst, ilast, rtol1, rtol2, offset, w, offsetw, wgap, offsetwgap, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, twist, info);
+    slarrbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrc(String jobt, int n, float vl, float vu, float[] d, float[] e, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrc(jobt, n, vl, vu, d, e, pivmin, eigcnt, lcnt, rcnt, info);
+    slarrcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrc(String jobt, int n, float vl, float vu, float[] d, int offsetd, float[] e, int offsete, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrc(jobt, n, vl, vu, d, offsetd, e, offsete, pivmin, eigcnt, lcnt, rcnt, info);
+    slarrcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrd(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, float reltol, float[] d, float[] e, float[] e2, float pivmin, int nsplit, int[] isplit, org.netlib.util.intW m, float[] w, float[] werr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int[] indexw, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrd(range, order, n, vl, vu, il, iu, gers, reltol, d, e, e2, pivmin, nsplit, isplit, m, w, werr, wl, wu, iblock, indexw, work, iwork, info);
+    slarrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrd(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, int offsetgers, float reltol, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrd(range, order, n, vl, vu, il, iu, gers, offsetgers, reltol, d, offsetd, e, offsete, e2, offsete2, pivmin, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wl, wu, iblock, offsetiblock, indexw, offsetindexw, work, offsetwork, iwork, offsetiwork, info);
+    slarrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarre(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, float[] e, float[] e2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW m, float[] w, float[] werr, float[] wgap, int[] iblock, int[] indexw, float[] gers, org.netlib.util.floatW pivmin, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarre(range, n, vl, vu, il, iu, d, e, e2, rtol1, rtol2, spltol, nsplit, isplit, m, w, werr, wgap, iblock, indexw, gers, pivmin, work, iwork, info);
+    slarreMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarre(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, org.netlib.util.floatW pivmin, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarre(range, n, vl, vu, il, iu, d, offsetd, e, offsete, e2, offsete2, rtol1, rtol2, spltol, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, pivmin, work, offsetwork, iwork, offsetiwork, info);
+    slarreMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrf(int n, float[] d, float[] l, float[] ld, int clstrt, int clend, float[] w, float[] wgap, float[] werr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, float[] lplus, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrf(n, d, l, ld, clstrt, clend, w, wgap, werr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, lplus, work, info);
+    slarrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrf(int n, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, int clstrt, int clend, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, int offsetdplus, float[] lplus, int offsetlplus, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrf(n, d, offsetd, l, offsetl, ld, offsetld, clstrt, clend, w, offsetw, wgap, offsetwgap, werr, offsetwerr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, offsetdplus, lplus, offsetlplus, work, offsetwork, info);
+    slarrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrj(int n, float[] d, float[] e2, int ifirst, int ilast, float rtol, int offset, float[] w, float[] werr, float[] work, int[] iwork, float pivmin, float spdiam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrj(n, d, e2, ifirst, ilast, rtol, offset, w, werr, work, iwork, pivmin, spdiam, info);
+    slarrjMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrj(int n, float[] d, int offsetd, float[] e2, int offsete2, int ifirst, int ilast, float rtol, int offset, float[] w, int offsetw, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrj(n, d, offsetd, e2, offsete2, ifirst, ilast, rtol, offset, w, offsetw, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, info);
+    slarrjMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrk(int n, int iw, float gl, float gu, float[] d, float[] e2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrk(n, iw, gl, gu, d, e2, pivmin, reltol, w, werr, info);
+    slarrkMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrk(int n, int iw, float gl, float gu, float[] d, int offsetd, float[] e2, int offsete2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrk(n, iw, gl, gu, d, offsetd, e2, offsete2, pivmin, reltol, w, werr, info);
+    slarrkMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrr(int n, float[] d, float[] e, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrr(n, d, e, info);
+    slarrrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrr(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrr(n, d, offsetd, e, offsete, info);
+    slarrrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrv(int n, float vl, float vu, float[] d, float[] l, float pivmin, int[] isplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, float[] werr, float[] wgap, int[] iblock, int[] indexw, float[] gers, float[] z, int ldz, int[] isuppz, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrv(n, vl, vu, d, l, pivmin, isplit, m, dol, dou, minrgp, rtol1, rtol2, w, werr, wgap, iblock, indexw, gers, z, ldz, isuppz, work, iwork, info);
+    slarrvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarrv(int n, float vl, float vu, float[] d, int offsetd, float[] l, int offsetl, float pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slarrv(n, vl, vu, d, offsetd, l, offsetl, pivmin, isplit, offsetisplit, m, dol, dou, minrgp, rtol1, rtol2, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, iwork, offsetiwork, info);
+    slarrvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slartg(float f, float g, org.netlib.util.floatW cs, org.netlib.util.floatW sn, org.netlib.util.floatW r) {
+    long start = System.nanoTime();
+    lapack.slartg(f, g, cs, sn, r);
+    slartgMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slartv(int n, float[] x, int incx, float[] y, int incy, float[] c, float[] s, int incc) {
+    long start = System.nanoTime();
+    lapack.slartv(n, x, incx, y, incy, c, s, incc);
+    slartvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slartv(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    long start = System.nanoTime();
+    lapack.slartv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, s, offsets, incc);
+    slartvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaruv(int[] iseed, int n, float[] x) {
+    long start = System.nanoTime();
+    lapack.slaruv(iseed, n, x);
+    slaruvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaruv(int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    long start = System.nanoTime();
+    lapack.slaruv(iseed, offsetiseed, n, x, offsetx);
+    slaruvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarz(String side, int m, int n, int l, float[] v, int incv, float tau, float[] c, int Ldc, float[] work) {
+    long start = System.nanoTime();
+    lapack.slarz(side, m, n, l, v, incv, tau, c, Ldc, work);
+    slarzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarz(String side, int m, int n, int l, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slarz(side, m, n, l, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+    slarzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int ldv, float[] t, int ldt, float[] c, int Ldc, float[] work, int ldwork) {
+    long start = System.nanoTime();
+    lapack.slarzb(side, trans, direct, storev, m, n, k, l, v, ldv, t, ldt, c, Ldc, work, ldwork);
+    slarzbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    long start = System.nanoTime();
+    lapack.slarzb(side, trans, direct, storev, m, n, k, l, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+    slarzbMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarzt(String direct, String storev, int n, int k, float[] v, int ldv, float[] tau, float[] t, int ldt) {
+    long start = System.nanoTime();
+    lapack.slarzt(direct, storev, n, k, v, ldv, tau, t, ldt);
+    slarztMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slarzt(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    long start = System.nanoTime();
+    lapack.slarzt(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+    slarztMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slas2(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax) {
+    long start = System.nanoTime();
+    lapack.slas2(f, g, h, ssmin, ssmax);
+    slas2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slascl(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slascl(type, kl, ku, cfrom, cto, m, n, a, lda, info);
+    slasclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slascl(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slascl(type, kl, ku, cfrom, cto, m, n, a, offseta, lda, info);
+    slasclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd0(int n, int sqre, float[] d, float[] e, float[] u, int ldu, float[] vt, int ldvt, int smlsiz, int[] iwork, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd0(n, sqre, d, e, u, ldu, vt, ldvt, smlsiz, iwork, work, info);
+    slasd0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd0(int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd0(n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, smlsiz, iwork, offsetiwork, work, offsetwork, info);
+    slasd0Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd1(int nl, int nr, int sqre, float[] d, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int ldu, float[] vt, int ldvt, int[] idxq, int[] iwork, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd1(nl, nr, sqre, d, alpha, beta, u, ldu, vt, ldvt, idxq, iwork, work, info);
+    slasd1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd1(int nl, int nr, int sqre, float[] d, int offsetd, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd1(nl, nr, sqre, d, offsetd, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, iwork, offsetiwork, work, offsetwork, info);
+    slasd1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd2(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, float[] z, float alpha, float beta, float[] u, int ldu, float[] vt, int ldvt, float[] dsigma, float[] u2, int ldu2, float[] vt2, int ldvt2, int[] idxp, int[] idx, int[] idxc, int[] idxq, int[] coltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd2(nl, nr, sqre, k, d, z, alpha, beta, u, ldu, vt, ldvt, dsigma, u2, ldu2, vt2, ldvt2, idxp, idx, idxc, idxq, coltyp, info);
+    slasd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd2(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float alpha, float beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] dsigma, int offsetdsigma, float[] u2, int offsetu2, int ldu2, float[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd2(nl, nr, sqre, k, d, offsetd, z, offsetz, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, offsetdsigma, u2, offsetu2, ldu2, vt2, offsetvt2, ldvt2, idxp, offsetidxp, idx, offsetidx, idxc, offsetidxc, idxq, offsetidxq, coltyp, offsetcoltyp, info);
+    slasd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd3(int nl, int nr, int sqre, int k, float[] d, float[] q, int ldq, float[] dsigma, float[] u, int ldu, float[] u2, int ldu2, float[] vt, int ldvt, float[] vt2, int ldvt2, int[] idxc, int[] ctot, float[] z, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd3(nl, nr, sqre, k, d, q, ldq, dsigma, u, ldu, u2, ldu2, vt, ldvt, vt2, ldvt2, idxc, ctot, z, info);
+    slasd3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd3(int nl, int nr, int sqre, int k, float[] d, int offsetd, float[] q, int offsetq, int ldq, float[] dsigma, int offsetdsigma, float[] u, int offsetu, int ldu, float[] u2, int offsetu2, int ldu2, float[] vt, int offsetvt, int ldvt, float[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, float[] z, int offsetz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd3(nl, nr, sqre, k, d, offsetd, q, offsetq, ldq, dsigma, offsetdsigma, u, offsetu, ldu, u2, offsetu2, ldu2, vt, offsetvt, ldvt, vt2, offsetvt2, ldvt2, idxc, offsetidxc, ctot, offsetctot, z, offsetz, info);
+    slasd3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd4(int n, int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW sigma, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd4(n, i, d, z, delta, rho, sigma, work, info);
+    slasd4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd4(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW sigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, sigma, work, offsetwork, info);
+    slasd4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd5(int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW dsigma, float[] work) {
+    long start = System.nanoTime();
+    lapack.slasd5(i, d, z, delta, rho, dsigma, work);
+    slasd5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd5(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dsigma, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slasd5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dsigma, work, offsetwork);
+    slasd5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd6(int icompq, int nl, int nr, int sqre, float[] d, float[] vf, float[] vl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, float[] givnum, int ldgnum, float[] poles, float[] difl, float[] difr, float[] z, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd6(icompq, nl, nr, sqre, d, vf, vl, alpha, beta, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, iwork, info);
+    slasd6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd6(int icompq, int nl, int nr, int sqre, float[] d, int offsetd, float[] vf, int offsetvf, float[] vl, int offsetvl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd6(icompq, nl, nr, sqre, d, offsetd, vf, offsetvf, vl, offsetvl, alpha, beta, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, iwork, offsetiwork, info);
+    slasd6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, float[] z, float[] zw, float[] vf, float[] vfw, float[] vl, float[] vlw, float alpha, float beta, float[] dsigma, int[] idx, int[] idxp, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, float[] givnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd7(icompq, nl, nr, sqre, k, d, z, zw, vf, vfw, vl, vlw, alpha, beta, dsigma, idx, idxp, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, c, s, info);
+    slasd7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float[] zw, int offsetzw, float[] vf, int offsetvf, float[] vfw, int offsetvfw, float[] vl, int offsetvl, float[] vlw, int offsetvlw, float alpha, float beta, float[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd7(icompq, nl, nr, sqre, k, d, offsetd, z, offsetz, zw, offsetzw, vf, offsetvf, vfw, offsetvfw, vl, offsetvl, vlw, offsetvlw, alpha, beta, dsigma, offsetdsigma, idx, offsetidx, idxp, offsetidxp, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, c, s, info);
+    slasd7Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd8(int icompq, int k, float[] d, float[] z, float[] vf, float[] vl, float[] difl, float[] difr, int lddifr, float[] dsigma, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd8(icompq, k, d, z, vf, vl, difl, difr, lddifr, dsigma, work, info);
+    slasd8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasd8(int icompq, int k, float[] d, int offsetd, float[] z, int offsetz, float[] vf, int offsetvf, float[] vl, int offsetvl, float[] difl, int offsetdifl, float[] difr, int offsetdifr, int lddifr, float[] dsigma, int offsetdsigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasd8(icompq, k, d, offsetd, z, offsetz, vf, offsetvf, vl, offsetvl, difl, offsetdifl, difr, offsetdifr, lddifr, dsigma, offsetdsigma, work, offsetwork, info);
+    slasd8Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasda(int icompq, int smlsiz, int n, int sqre, float[] d, float[] e, float[] u, int ldu, float[] vt, int[] k, float[] difl, float[] difr, float[] z, float[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, float[] givnum, float[] c, float[] s, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasda(icompq, smlsiz, n, sqre, d, e, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+    slasdaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasda(int icompq, int smlsiz, int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasda(icompq, smlsiz, n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+    slasdaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, float[] e, float[] vt, int ldvt, float[] u, int ldu, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasdq(uplo, sqre, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+    slasdqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasdq(uplo, sqre, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+    slasdqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int[] ndiml, int[] ndimr, int msub) {
+    long start = System.nanoTime();
+    lapack.slasdt(n, lvl, nd, inode, ndiml, ndimr, msub);
+    slasdtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    long start = System.nanoTime();
+    lapack.slasdt(n, lvl, nd, inode, offsetinode, ndiml, offsetndiml, ndimr, offsetndimr, msub);
+    slasdtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaset(String uplo, int m, int n, float alpha, float beta, float[] a, int lda) {
+    long start = System.nanoTime();
+    lapack.slaset(uplo, m, n, alpha, beta, a, lda);
+    slasetMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaset(String uplo, int m, int n, float alpha, float beta, float[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    lapack.slaset(uplo, m, n, alpha, beta, a, offseta, lda);
+    slasetMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq1(int n, float[] d, float[] e, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasq1(n, d, e, work, info);
+    slasq1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq1(int n, float[] d, int offsetd, float[] e, int offsete, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasq1(n, d, offsetd, e, offsete, work, offsetwork, info);
+    slasq1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq2(int n, float[] z, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasq2(n, z, info);
+    slasq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq2(int n, float[] z, int offsetz, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasq2(n, z, offsetz, info);
+    slasq2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq3(int i0, org.netlib.util.intW n0, float[] z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.slasq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+    slasq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq3(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.slasq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+    slasq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq4(int i0, int n0, float[] z, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype) {
+    long start = System.nanoTime();
+    lapack.slasq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+    slasq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq4(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype) {
+    long start = System.nanoTime();
+    lapack.slasq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+    slasq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq5(int i0, int n0, float[] z, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.slasq5(i0, n0, z, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+    slasq5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq5(int i0, int n0, float[] z, int offsetz, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee) {
+    long start = System.nanoTime();
+    lapack.slasq5(i0, n0, z, offsetz, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+    slasq5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq6(int i0, int n0, float[] z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
+    long start = System.nanoTime();
+    lapack.slasq6(i0, n0, z, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+    slasq6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasq6(int i0, int n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
+    long start = System.nanoTime();
+    lapack.slasq6(i0, n0, z, offsetz, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+    slasq6Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasr(String side, String pivot, String direct, int m, int n, float[] c, float[] s, float[] a, int lda) {
+    long start = System.nanoTime();
+    lapack.slasr(side, pivot, direct, m, n, c, s, a, lda);
+    slasrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasr(String side, String pivot, String direct, int m, int n, float[] c, int offsetc, float[] s, int offsets, float[] a, int offseta, int lda) {
+    long start = System.nanoTime();
+    lapack.slasr(side, pivot, direct, m, n, c, offsetc, s, offsets, a, offseta, lda);
+    slasrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasrt(String id, int n, float[] d, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasrt(id, n, d, info);
+    slasrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasrt(String id, int n, float[] d, int offsetd, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasrt(id, n, d, offsetd, info);
+    slasrtMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slassq(int n, float[] x, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
+    long start = System.nanoTime();
+    lapack.slassq(n, x, incx, scale, sumsq);
+    slassqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slassq(int n, float[] x, int offsetx, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
+    long start = System.nanoTime();
+    lapack.slassq(n, x, offsetx, incx, scale, sumsq);
+    slassqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasv2(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax, org.netlib.util.floatW snr, org.netlib.util.floatW csr, org.netlib.util.floatW snl, org.netlib.util.floatW csl) {
+    long start = System.nanoTime();
+    lapack.slasv2(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+    slasv2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaswp(int n, float[] a, int lda, int k1, int k2, int[] ipiv, int incx) {
+    long start = System.nanoTime();
+    lapack.slaswp(n, a, lda, k1, k2, ipiv, incx);
+    slaswpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slaswp(int n, float[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    long start = System.nanoTime();
+    lapack.slaswp(n, a, offseta, lda, k1, k2, ipiv, offsetipiv, incx);
+    slaswpMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int ldtl, float[] tr, int ldtr, float[] b, int ldb, org.netlib.util.floatW scale, float[] x, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasy2(ltranl, ltranr, isgn, n1, n2, tl, ldtl, tr, ldtr, b, ldb, scale, x, ldx, xnorm, info);
+    slasy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int offsettl, int ldtl, float[] tr, int offsettr, int ldtr, float[] b, int offsetb, int ldb, org.netlib.util.floatW scale, float[] x, int offsetx, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasy2(ltranl, ltranr, isgn, n1, n2, tl, offsettl, ldtl, tr, offsettr, ldtr, b, offsetb, ldb, scale, x, offsetx, ldx, xnorm, info);
+    slasy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasyf(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int lda, int[] ipiv, float[] w, int ldw, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasyf(uplo, n, nb, kb, a, lda, ipiv, w, ldw, info);
+    slasyfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slasyf(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slasyf(uplo, n, nb, kb, a, offseta, lda, ipiv, offsetipiv, w, offsetw, ldw, info);
+    slasyfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatbs(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int ldab, float[] x, org.netlib.util.floatW scale, float[] cnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slatbs(uplo, trans, diag, normin, n, kd, ab, ldab, x, scale, cnorm, info);
+    slatbsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatbs(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int offsetab, int ldab, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slatbs(uplo, trans, diag, normin, n, kd, ab, offsetab, ldab, x, offsetx, scale, cnorm, offsetcnorm, info);
+    slatbsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatdf(int ijob, int n, float[] z, int ldz, float[] rhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int[] jpiv) {
+    long start = System.nanoTime();
+    lapack.slatdf(ijob, n, z, ldz, rhs, rdsum, rdscal, ipiv, jpiv);
+    slatdfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatdf(int ijob, int n, float[] z, int offsetz, int ldz, float[] rhs, int offsetrhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    long start = System.nanoTime();
+    lapack.slatdf(ijob, n, z, offsetz, ldz, rhs, offsetrhs, rdsum, rdscal, ipiv, offsetipiv, jpiv, offsetjpiv);
+    slatdfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatps(String uplo, String trans, String diag, String normin, int n, float[] ap, float[] x, org.netlib.util.floatW scale, float[] cnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slatps(uplo, trans, diag, normin, n, ap, x, scale, cnorm, info);
+    slatpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatps(String uplo, String trans, String diag, String normin, int n, float[] ap, int offsetap, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slatps(uplo, trans, diag, normin, n, ap, offsetap, x, offsetx, scale, cnorm, offsetcnorm, info);
+    slatpsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatrd(String uplo, int n, int nb, float[] a, int lda, float[] e, float[] tau, float[] w, int ldw) {
+    long start = System.nanoTime();
+    lapack.slatrd(uplo, n, nb, a, lda, e, tau, w, ldw);
+    slatrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatrd(String uplo, int n, int nb, float[] a, int offseta, int lda, float[] e, int offsete, float[] tau, int offsettau, float[] w, int offsetw, int ldw) {
+    long start = System.nanoTime();
+    lapack.slatrd(uplo, n, nb, a, offseta, lda, e, offsete, tau, offsettau, w, offsetw, ldw);
+    slatrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatrs(String uplo, String trans, String diag, String normin, int n, float[] a, int lda, float[] x, org.netlib.util.floatW scale, float[] cnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slatrs(uplo, trans, diag, normin, n, a, lda, x, scale, cnorm, info);
+    slatrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatrs(String uplo, String trans, String diag, String normin, int n, float[] a, int offseta, int lda, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slatrs(uplo, trans, diag, normin, n, a, offseta, lda, x, offsetx, scale, cnorm, offsetcnorm, info);
+    slatrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatrz(int m, int n, int l, float[] a, int lda, float[] tau, float[] work) {
+    long start = System.nanoTime();
+    lapack.slatrz(m, n, l, a, lda, tau, work);
+    slatrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatrz(int m, int n, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slatrz(m, n, l, a, offseta, lda, tau, offsettau, work, offsetwork);
+    slatrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatzm(String side, int m, int n, float[] v, int incv, float tau, float[] c1, float[] c2, int Ldc, float[] work) {
+    long start = System.nanoTime();
+    lapack.slatzm(side, m, n, v, incv, tau, c1, c2, Ldc, work);
+    slatzmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slatzm(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c1, int offsetc1, float[] c2, int offsetc2, int Ldc, float[] work, int offsetwork) {
+    long start = System.nanoTime();
+    lapack.slatzm(side, m, n, v, offsetv, incv, tau, c1, offsetc1, c2, offsetc2, Ldc, work, offsetwork);
+    slatzmMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slauu2(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slauu2(uplo, n, a, lda, info);
+    slauu2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slauu2(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slauu2(uplo, n, a, offseta, lda, info);
+    slauu2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slauum(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slauum(uplo, n, a, lda, info);
+    slauumMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slauum(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.slauum(uplo, n, a, offseta, lda, info);
+    slauumMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slazq3(int i0, org.netlib.util.intW n0, float[] z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau) {
+    long start = System.nanoTime();
+    lapack.slazq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+    slazq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slazq3(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau) {
+    long start = System.nanoTime();
+    lapack.slazq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+    slazq3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slazq4(int i0, int n0, float[] z, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
+    long start = System.nanoTime();
+    lapack.slazq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+    slazq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slazq4(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
+    long start = System.nanoTime();
+    lapack.slazq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+    slazq4Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sopgtr(String uplo, int n, float[] ap, float[] tau, float[] q, int ldq, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sopgtr(uplo, n, ap, tau, q, ldq, work, info);
+    sopgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sopgtr(String uplo, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sopgtr(uplo, n, ap, offsetap, tau, offsettau, q, offsetq, ldq, work, offsetwork, info);
+    sopgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sopmtr(String side, String uplo, String trans, int m, int n, float[] ap, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sopmtr(side, uplo, trans, m, n, ap, tau, c, Ldc, work, info);
+    sopmtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sopmtr(String side, String uplo, String trans, int m, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sopmtr(side, uplo, trans, m, n, ap, offsetap, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    sopmtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorg2l(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorg2l(m, n, k, a, lda, tau, work, info);
+    sorg2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorg2l(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorg2l(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sorg2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorg2r(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorg2r(m, n, k, a, lda, tau, work, info);
+    sorg2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorg2r(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorg2r(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sorg2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgbr(String vect, int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgbr(vect, m, n, k, a, lda, tau, work, lwork, info);
+    sorgbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgbr(String vect, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgbr(vect, m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sorgbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorghr(int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorghr(n, ilo, ihi, a, lda, tau, work, lwork, info);
+    sorghrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorghr(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorghr(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sorghrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgl2(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgl2(m, n, k, a, lda, tau, work, info);
+    sorgl2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgl2(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgl2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sorgl2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorglq(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorglq(m, n, k, a, lda, tau, work, lwork, info);
+    sorglqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorglq(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorglq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sorglqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgql(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgql(m, n, k, a, lda, tau, work, lwork, info);
+    sorgqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgql(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgql(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sorgqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgqr(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgqr(m, n, k, a, lda, tau, work, lwork, info);
+    sorgqrMeter.record(System.nanoTime() - start, 4L * m * n * k - 2L * (m + n) * k * k + 4L * k * k * k / 3);
+  }
+
+  public void sorgqr(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgqr(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sorgqrMeter.record(System.nanoTime() - start, 4L * m * n * k - 2L * (m + n) * k * k + 4L * k * k * k / 3);
+  }
+
+  public void sorgr2(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgr2(m, n, k, a, lda, tau, work, info);
+    sorgr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgr2(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgr2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+    sorgr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgrq(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgrq(m, n, k, a, lda, tau, work, lwork, info);
+    sorgrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgrq(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgrq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sorgrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgtr(String uplo, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgtr(uplo, n, a, lda, tau, work, lwork, info);
+    sorgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorgtr(String uplo, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorgtr(uplo, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    sorgtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorm2l(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorm2l(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    sorm2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorm2l(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorm2l(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    sorm2lMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorm2r(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorm2r(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    sorm2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorm2r(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorm2r(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    sorm2rMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormbr(String vect, String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormbr(vect, side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    sormbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormbr(String vect, String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormbr(vect, side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormbrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormhr(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormhr(side, trans, m, n, ilo, ihi, a, lda, tau, c, Ldc, work, lwork, info);
+    sormhrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormhr(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormhr(side, trans, m, n, ilo, ihi, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormhrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorml2(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorml2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    sorml2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sorml2(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sorml2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    sorml2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormlq(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormlq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    sormlqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormlq(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormlq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormlqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormql(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormql(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    sormqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormql(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormql(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormqlMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormqr(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormqr(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    sormqrMeter.record(System.nanoTime() - start, isLeft(side) ? 4L * m * n * k - 2L * n * k * k : 4L * m * n * k - 2L * m * k * k);
+  }
+
+  public void sormqr(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormqr(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormqrMeter.record(System.nanoTime() - start, isLeft(side) ? 4L * m * n * k - 2L * n * k * k : 4L * m * n * k - 2L * m * k * k);
+  }
+
+  public void sormr2(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormr2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+    sormr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormr2(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormr2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    sormr2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormr3(String side, String trans, int m, int n, int k, int l, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormr3(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, info);
+    sormr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormr3(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormr3(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+    sormr3Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormrq(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormrq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+    sormrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormrq(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormrq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormrqMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormrz(String side, String trans, int m, int n, int k, int l, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormrz(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, lwork, info);
+    sormrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormrz(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormrz(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormrzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormtr(String side, String uplo, String trans, int m, int n, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormtr(side, uplo, trans, m, n, a, lda, tau, c, Ldc, work, lwork, info);
+    sormtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sormtr(String side, String uplo, String trans, int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sormtr(side, uplo, trans, m, n, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    sormtrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbcon(String uplo, int n, int kd, float[] ab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbcon(uplo, n, kd, ab, ldab, anorm, rcond, work, iwork, info);
+    spbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbcon(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbcon(uplo, n, kd, ab, offsetab, ldab, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    spbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbequ(String uplo, int n, int kd, float[] ab, int ldab, float[] s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbequ(uplo, n, kd, ab, ldab, s, scond, amax, info);
+    spbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbequ(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbequ(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, info);
+    spbequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbrfs(String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbrfs(uplo, n, kd, nrhs, ab, ldab, afb, ldafb, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    spbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbrfs(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbrfs(uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    spbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbstf(String uplo, int n, int kd, float[] ab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbstf(uplo, n, kd, ab, ldab, info);
+    spbstfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbstf(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbstf(uplo, n, kd, ab, offsetab, ldab, info);
+    spbstfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbsv(String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbsv(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+    spbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbsv(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbsv(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    spbsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbsvx(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbsvx(fact, uplo, n, kd, nrhs, ab, ldab, afb, ldafb, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    spbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbsvx(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbsvx(fact, uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    spbsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbtf2(String uplo, int n, int kd, float[] ab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbtf2(uplo, n, kd, ab, ldab, info);
+    spbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbtf2(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbtf2(uplo, n, kd, ab, offsetab, ldab, info);
+    spbtf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbtrf(String uplo, int n, int kd, float[] ab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbtrf(uplo, n, kd, ab, ldab, info);
+    spbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbtrf(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbtrf(uplo, n, kd, ab, offsetab, ldab, info);
+    spbtrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbtrs(String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbtrs(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+    spbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spbtrs(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spbtrs(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    spbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spocon(String uplo, int n, float[] a, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spocon(uplo, n, a, lda, anorm, rcond, work, iwork, info);
+    spoconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spocon(String uplo, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spocon(uplo, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    spoconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spoequ(int n, float[] a, int lda, float[] s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spoequ(n, a, lda, s, scond, amax, info);
+    spoequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spoequ(int n, float[] a, int offseta, int lda, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spoequ(n, a, offseta, lda, s, offsets, scond, amax, info);
+    spoequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sporfs(String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sporfs(uplo, n, nrhs, a, lda, af, ldaf, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    sporfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sporfs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sporfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sporfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sposv(String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sposv(uplo, n, nrhs, a, lda, b, ldb, info);
+    sposvMeter.record(System.nanoTime() - start, (long) n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void sposv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sposv(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    sposvMeter.record(System.nanoTime() - start, (long) n * n * n / 3 + 2L * n * n * nrhs);
+  }
+
+  public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sposvx(fact, uplo, n, nrhs, a, lda, af, ldaf, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    sposvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sposvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sposvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spotf2(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotf2(uplo, n, a, lda, info);
+    spotf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spotf2(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotf2(uplo, n, a, offseta, lda, info);
+    spotf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spotrf(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotrf(uplo, n, a, lda, info);
+    spotrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void spotrf(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotrf(uplo, n, a, offseta, lda, info);
+    spotrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void spotri(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotri(uplo, n, a, lda, info);
+    spotriMeter.record(System.nanoTime() - start, 2L * n * n * n / 3);
+  }
+
+  public void spotri(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotri(uplo, n, a, offseta, lda, info);
+    spotriMeter.record(System.nanoTime() - start, 2L * n * n * n / 3);
+  }
+
+  public void spotrs(String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotrs(uplo, n, nrhs, a, lda, b, ldb, info);
+    spotrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void spotrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spotrs(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    spotrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void sppcon(String uplo, int n, float[] ap, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppcon(uplo, n, ap, anorm, rcond, work, iwork, info);
+    sppconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sppcon(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppcon(uplo, n, ap, offsetap, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    sppconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sppequ(String uplo, int n, float[] ap, float[] s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppequ(uplo, n, ap, s, scond, amax, info);
+    sppequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sppequ(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppequ(uplo, n, ap, offsetap, s, offsets, scond, amax, info);
+    sppequMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spprfs(String uplo, int n, int nrhs, float[] ap, float[] afp, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spprfs(uplo, n, nrhs, ap, afp, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    spprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spprfs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    spprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sppsv(String uplo, int n, int nrhs, float[] ap, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppsv(uplo, n, nrhs, ap, b, ldb, info);
+    sppsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sppsv(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppsv(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    sppsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sppsvx(String fact, String uplo, int n, int nrhs, float[] ap, float[] afp, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppsvx(fact, uplo, n, nrhs, ap, afp, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    sppsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sppsvx(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sppsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sppsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spptrf(String uplo, int n, float[] ap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spptrf(uplo, n, ap, info);
+    spptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spptrf(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spptrf(uplo, n, ap, offsetap, info);
+    spptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spptri(String uplo, int n, float[] ap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spptri(uplo, n, ap, info);
+    spptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spptri(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spptri(uplo, n, ap, offsetap, info);
+    spptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spptrs(String uplo, int n, int nrhs, float[] ap, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spptrs(uplo, n, nrhs, ap, b, ldb, info);
+    spptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spptrs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spptrs(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    spptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptcon(int n, float[] d, float[] e, float anorm, org.netlib.util.floatW rcond, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptcon(n, d, e, anorm, rcond, work, info);
+    sptconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptcon(int n, float[] d, int offsetd, float[] e, int offsete, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptcon(n, d, offsetd, e, offsete, anorm, rcond, work, offsetwork, info);
+    sptconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spteqr(String compz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spteqr(compz, n, d, e, z, ldz, work, info);
+    spteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spteqr(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    spteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptrfs(int n, int nrhs, float[] d, float[] e, float[] df, float[] ef, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptrfs(n, nrhs, d, e, df, ef, b, ldb, x, ldx, ferr, berr, work, info);
+    sptrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptrfs(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptrfs(n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    sptrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptsv(int n, int nrhs, float[] d, float[] e, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptsv(n, nrhs, d, e, b, ldb, info);
+    sptsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptsv(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptsv(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    sptsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptsvx(String fact, int n, int nrhs, float[] d, float[] e, float[] df, float[] ef, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptsvx(fact, n, nrhs, d, e, df, ef, b, ldb, x, ldx, rcond, ferr, berr, work, info);
+    sptsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptsvx(String fact, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sptsvx(fact, n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+    sptsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spttrf(int n, float[] d, float[] e, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spttrf(n, d, e, info);
+    spttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spttrf(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spttrf(n, d, offsetd, e, offsete, info);
+    spttrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spttrs(int n, int nrhs, float[] d, float[] e, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spttrs(n, nrhs, d, e, b, ldb, info);
+    spttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void spttrs(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.spttrs(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+    spttrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptts2(int n, int nrhs, float[] d, float[] e, float[] b, int ldb) {
+    long start = System.nanoTime();
+    lapack.sptts2(n, nrhs, d, e, b, ldb);
+    sptts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sptts2(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb) {
+    long start = System.nanoTime();
+    lapack.sptts2(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb);
+    sptts2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void srscl(int n, float sa, float[] sx, int incx) {
+    long start = System.nanoTime();
+    lapack.srscl(n, sa, sx, incx);
+    srsclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void srscl(int n, float sa, float[] sx, int offsetsx, int incx) {
+    long start = System.nanoTime();
+    lapack.srscl(n, sa, sx, offsetsx, incx);
+    srsclMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbev(String jobz, String uplo, int n, int kd, float[] ab, int ldab, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbev(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, info);
+    ssbevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbev(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbev(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    ssbevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbevd(String jobz, String uplo, int n, int kd, float[] ab, int ldab, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbevd(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, lwork, iwork, liwork, info);
+    ssbevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbevd(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbevd(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    ssbevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbevx(String jobz, String range, String uplo, int n, int kd, float[] ab, int ldab, float[] q, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbevx(jobz, range, uplo, n, kd, ab, ldab, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    ssbevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbevx(String jobz, String range, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbevx(jobz, range, uplo, n, kd, ab, offsetab, ldab, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    ssbevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgst(String vect, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] x, int ldx, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgst(vect, uplo, n, ka, kb, ab, ldab, bb, ldbb, x, ldx, work, info);
+    ssbgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgst(String vect, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] x, int offsetx, int ldx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgst(vect, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, x, offsetx, ldx, work, offsetwork, info);
+    ssbgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgv(String jobz, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgv(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, info);
+    ssbgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgv(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgv(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    ssbgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgvd(String jobz, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgvd(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, lwork, iwork, liwork, info);
+    ssbgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgvd(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgvd(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    ssbgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgvx(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] q, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgvx(jobz, range, uplo, n, ka, kb, ab, ldab, bb, ldbb, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    ssbgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbgvx(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbgvx(jobz, range, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    ssbgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbtrd(String vect, String uplo, int n, int kd, float[] ab, int ldab, float[] d, float[] e, float[] q, int ldq, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbtrd(vect, uplo, n, kd, ab, ldab, d, e, q, ldq, work, info);
+    ssbtrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssbtrd(String vect, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssbtrd(vect, uplo, n, kd, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, work, offsetwork, info);
+    ssbtrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspcon(String uplo, int n, float[] ap, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspcon(uplo, n, ap, ipiv, anorm, rcond, work, iwork, info);
+    sspconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspcon(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspcon(uplo, n, ap, offsetap, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    sspconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspev(String jobz, String uplo, int n, float[] ap, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspev(jobz, uplo, n, ap, w, z, ldz, work, info);
+    sspevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspev(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspev(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    sspevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspevd(String jobz, String uplo, int n, float[] ap, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspevd(jobz, uplo, n, ap, w, z, ldz, work, lwork, iwork, liwork, info);
+    sspevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspevd(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspevd(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    sspevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspevx(String jobz, String range, String uplo, int n, float[] ap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspevx(jobz, range, uplo, n, ap, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    sspevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspevx(String jobz, String range, String uplo, int n, float[] ap, int offsetap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspevx(jobz, range, uplo, n, ap, offsetap, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    sspevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgst(int itype, String uplo, int n, float[] ap, float[] bp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgst(itype, uplo, n, ap, bp, info);
+    sspgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgst(int itype, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgst(itype, uplo, n, ap, offsetap, bp, offsetbp, info);
+    sspgstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgv(int itype, String jobz, String uplo, int n, float[] ap, float[] bp, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgv(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, info);
+    sspgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgv(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgv(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+    sspgvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgvd(int itype, String jobz, String uplo, int n, float[] ap, float[] bp, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgvd(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, lwork, iwork, liwork, info);
+    sspgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgvd(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgvd(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    sspgvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgvx(int itype, String jobz, String range, String uplo, int n, float[] ap, float[] bp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgvx(itype, jobz, range, uplo, n, ap, bp, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    sspgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspgvx(int itype, String jobz, String range, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspgvx(itype, jobz, range, uplo, n, ap, offsetap, bp, offsetbp, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    sspgvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssprfs(String uplo, int n, int nrhs, float[] ap, float[] afp, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssprfs(uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    ssprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssprfs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    ssprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspsv(String uplo, int n, int nrhs, float[] ap, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspsv(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+    sspsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspsv(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspsv(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    sspsvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspsvx(String fact, String uplo, int n, int nrhs, float[] ap, float[] afp, int[] ipiv, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspsvx(fact, uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+    sspsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sspsvx(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sspsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    sspsvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptrd(String uplo, int n, float[] ap, float[] d, float[] e, float[] tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptrd(uplo, n, ap, d, e, tau, info);
+    ssptrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptrd(String uplo, int n, float[] ap, int offsetap, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptrd(uplo, n, ap, offsetap, d, offsetd, e, offsete, tau, offsettau, info);
+    ssptrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptrf(String uplo, int n, float[] ap, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptrf(uplo, n, ap, ipiv, info);
+    ssptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptrf(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptrf(uplo, n, ap, offsetap, ipiv, offsetipiv, info);
+    ssptrfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptri(String uplo, int n, float[] ap, int[] ipiv, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptri(uplo, n, ap, ipiv, work, info);
+    ssptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptri(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptri(uplo, n, ap, offsetap, ipiv, offsetipiv, work, offsetwork, info);
+    ssptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptrs(String uplo, int n, int nrhs, float[] ap, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptrs(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+    ssptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssptrs(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssptrs(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+    ssptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstebz(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, float[] e, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int[] iblock, int[] isplit, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstebz(range, order, n, vl, vu, il, iu, abstol, d, e, m, nsplit, w, iblock, isplit, work, iwork, info);
+    sstebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstebz(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstebz(range, order, n, vl, vu, il, iu, abstol, d, offsetd, e, offsete, m, nsplit, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, work, offsetwork, iwork, offsetiwork, info);
+    sstebzMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstedc(String compz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstedc(compz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+    sstedcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstedc(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstedc(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    sstedcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstegr(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstegr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+    sstegrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstegr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstegr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    sstegrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstein(int n, float[] d, float[] e, int m, float[] w, int[] iblock, int[] isplit, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstein(n, d, e, m, w, iblock, isplit, z, ldz, work, iwork, ifail, info);
+    ssteinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstein(int n, float[] d, int offsetd, float[] e, int offsete, int m, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstein(n, d, offsetd, e, offsete, m, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    ssteinMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstemr(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, float[] z, int ldz, int nzc, int[] isuppz, org.netlib.util.booleanW tryrac, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstemr(jobz, range, n, d, e, vl, vu, il, iu, m, w, z, ldz, nzc, isuppz, tryrac, work, lwork, iwork, liwork, info);
+    sstemrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstemr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstemr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, nzc, isuppz, offsetisuppz, tryrac, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    sstemrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssteqr(String compz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssteqr(compz, n, d, e, z, ldz, work, info);
+    ssteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssteqr(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    ssteqrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssterf(int n, float[] d, float[] e, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssterf(n, d, e, info);
+    ssterfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssterf(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssterf(n, d, offsetd, e, offsete, info);
+    ssterfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstev(String jobz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstev(jobz, n, d, e, z, ldz, work, info);
+    sstevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstev(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstev(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+    sstevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstevd(String jobz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstevd(jobz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+    sstevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstevd(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstevd(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    sstevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstevr(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstevr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+    sstevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstevr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstevr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    sstevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstevx(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstevx(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+    sstevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void sstevx(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.sstevx(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+    sstevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssycon(String uplo, int n, float[] a, int lda, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssycon(uplo, n, a, lda, ipiv, anorm, rcond, work, iwork, info);
+    ssyconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssycon(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssycon(uplo, n, a, offseta, lda, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+    ssyconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyev(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyev(jobz, uplo, n, a, lda, w, work, lwork, info);
+    ssyevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyev(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyev(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    ssyevMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyevd(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyevd(jobz, uplo, n, a, lda, w, work, lwork, iwork, liwork, info);
+    ssyevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyevd(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyevd(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    ssyevdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyevr(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+    ssyevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyevr(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    ssyevrMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyevx(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyevx(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+    ssyevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyevx(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyevx(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    ssyevxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygs2(int itype, String uplo, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygs2(itype, uplo, n, a, lda, b, ldb, info);
+    ssygs2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygs2(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygs2(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    ssygs2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygst(int itype, String uplo, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygst(itype, uplo, n, a, lda, b, ldb, info);
+    ssygstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygst(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygst(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+    ssygstMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygv(int itype, String jobz, String uplo, int n, float[] a, int lda, float[] b, int ldb, float[] w, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygv(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, info);
+    ssygvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygv(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygv(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+    ssygvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygvd(int itype, String jobz, String uplo, int n, float[] a, int lda, float[] b, int ldb, float[] w, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygvd(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, iwork, liwork, info);
+    ssygvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygvd(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygvd(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    ssygvdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygvx(int itype, String jobz, String range, String uplo, int n, float[] a, int lda, float[] b, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygvx(itype, jobz, range, uplo, n, a, lda, b, ldb, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+    ssygvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssygvx(int itype, String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssygvx(itype, jobz, range, uplo, n, a, offseta, lda, b, offsetb, ldb, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    ssygvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyrfs(String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyrfs(uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    ssyrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssyrfs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssyrfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    ssyrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssysv(String uplo, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssysv(uplo, n, nrhs, a, lda, ipiv, b, ldb, work, lwork, info);
+    ssysvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssysv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssysv(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+    ssysvMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssysvx(String fact, String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssysvx(fact, uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, lwork, iwork, info);
+    ssysvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssysvx(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssysvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, lwork, iwork, offsetiwork, info);
+    ssysvxMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytd2(String uplo, int n, float[] a, int lda, float[] d, float[] e, float[] tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytd2(uplo, n, a, lda, d, e, tau, info);
+    ssytd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytd2(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytd2(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+    ssytd2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytf2(String uplo, int n, float[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytf2(uplo, n, a, lda, ipiv, info);
+    ssytf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytf2(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytf2(uplo, n, a, offseta, lda, ipiv, offsetipiv, info);
+    ssytf2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytrd(String uplo, int n, float[] a, int lda, float[] d, float[] e, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytrd(uplo, n, a, lda, d, e, tau, work, lwork, info);
+    ssytrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytrd(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytrd(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+    ssytrdMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytrf(String uplo, int n, float[] a, int lda, int[] ipiv, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytrf(uplo, n, a, lda, ipiv, work, lwork, info);
+    ssytrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void ssytrf(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytrf(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    ssytrfMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void ssytri(String uplo, int n, float[] a, int lda, int[] ipiv, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytri(uplo, n, a, lda, ipiv, work, info);
+    ssytriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytri(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytri(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, info);
+    ssytriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void ssytrs(String uplo, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytrs(uplo, n, nrhs, a, lda, ipiv, b, ldb, info);
+    ssytrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void ssytrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.ssytrs(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    ssytrsMeter.record(System.nanoTime() - start, 2L * n * n * nrhs);
+  }
+
+  public void stbcon(String norm, String uplo, String diag, int n, int kd, float[] ab, int ldab, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stbcon(norm, uplo, diag, n, kd, ab, ldab, rcond, work, iwork, info);
+    stbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stbcon(String norm, String uplo, String diag, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stbcon(norm, uplo, diag, n, kd, ab, offsetab, ldab, rcond, work, offsetwork, iwork, offsetiwork, info);
+    stbconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stbrfs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    stbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stbrfs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    stbrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stbtrs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, info);
+    stbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stbtrs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+    stbtrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgevc(String side, String howmny, boolean[] select, int n, float[] s, int lds, float[] p, int ldp, float[] vl, int ldvl, float[] vr, int ldvr, int mm, org.netlib.util.intW m, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgevc(side, howmny, select, n, s, lds, p, ldp, vl, ldvl, vr, ldvr, mm, m, work, info);
+    stgevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgevc(String side, String howmny, boolean[] select, int offsetselect, int n, float[] s, int offsets, int lds, float[] p, int offsetp, int ldp, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgevc(side, howmny, select, offsetselect, n, s, offsets, lds, p, offsetp, ldp, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    stgevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgex2(boolean wantq, boolean wantz, int n, float[] a, int lda, float[] b, int ldb, float[] q, int ldq, float[] z, int ldz, int j1, int n1, int n2, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgex2(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, j1, n1, n2, work, lwork, info);
+    stgex2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgex2(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, int j1, int n1, int n2, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgex2(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, j1, n1, n2, work, offsetwork, lwork, info);
+    stgex2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgexc(boolean wantq, boolean wantz, int n, float[] a, int lda, float[] b, int ldb, float[] q, int ldq, float[] z, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgexc(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, ifst, ilst, work, lwork, info);
+    stgexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgexc(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgexc(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, ifst, ilst, work, offsetwork, lwork, info);
+    stgexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] q, int ldq, float[] z, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsen(ijob, wantq, wantz, select, n, a, lda, b, ldb, alphar, alphai, beta, q, ldq, z, ldz, m, pl, pr, dif, work, lwork, iwork, liwork, info);
+    stgsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, int offsetdif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsen(ijob, wantq, wantz, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, m, pl, pr, dif, offsetdif, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    stgsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int lda, float[] b, int ldb, float tola, float tolb, float[] alpha, float[] beta, float[] u, int ldu, float[] v, int ldv, float[] q, int ldq, float[] work, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsja(jobu, jobv, jobq, m, p, n, k, l, a, lda, b, ldb, tola, tolb, alpha, beta, u, ldu, v, ldv, q, ldq, work, ncycle, info);
+    stgsjaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsja(jobu, jobv, jobq, m, p, n, k, l, a, offseta, lda, b, offsetb, ldb, tola, tolb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, ncycle, info);
+    stgsjaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsna(String job, String howmny, boolean[] select, int n, float[] a, int lda, float[] b, int ldb, float[] vl, int ldvl, float[] vr, int ldvr, float[] s, float[] dif, int mm, org.netlib.util.intW m, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsna(job, howmny, select, n, a, lda, b, ldb, vl, ldvl, vr, ldvr, s, dif, mm, m, work, lwork, iwork, info);
+    stgsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsna(String job, String howmny, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] dif, int offsetdif, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsna(job, howmny, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, dif, offsetdif, mm, m, work, offsetwork, lwork, iwork, offsetiwork, info);
+    stgsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsy2(String trans, int ijob, int m, int n, float[] a, int lda, float[] b, int ldb, float[] c, int Ldc, float[] d, int ldd, float[] e, int lde, float[] f, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsy2(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, rdsum, rdscal, iwork, pq, info);
+    stgsy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsy2(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsy2(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, rdsum, rdscal, iwork, offsetiwork, pq, info);
+    stgsy2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsyl(String trans, int ijob, int m, int n, float[] a, int lda, float[] b, int ldb, float[] c, int Ldc, float[] d, int ldd, float[] e, int lde, float[] f, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsyl(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, dif, work, lwork, iwork, info);
+    stgsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stgsyl(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stgsyl(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, dif, work, offsetwork, lwork, iwork, offsetiwork, info);
+    stgsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stpcon(String norm, String uplo, String diag, int n, float[] ap, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stpcon(norm, uplo, diag, n, ap, rcond, work, iwork, info);
+    stpconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stpcon(String norm, String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stpcon(norm, uplo, diag, n, ap, offsetap, rcond, work, offsetwork, iwork, offsetiwork, info);
+    stpconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stprfs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stprfs(uplo, trans, diag, n, nrhs, ap, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    stprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stprfs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stprfs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    stprfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stptri(String uplo, String diag, int n, float[] ap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stptri(uplo, diag, n, ap, info);
+    stptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stptri(String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stptri(uplo, diag, n, ap, offsetap, info);
+    stptriMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stptrs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stptrs(uplo, trans, diag, n, nrhs, ap, b, ldb, info);
+    stptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stptrs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stptrs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+    stptrsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strcon(String norm, String uplo, String diag, int n, float[] a, int lda, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strcon(norm, uplo, diag, n, a, lda, rcond, work, iwork, info);
+    strconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strcon(String norm, String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strcon(norm, uplo, diag, n, a, offseta, lda, rcond, work, offsetwork, iwork, offsetiwork, info);
+    strconMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strevc(String side, String howmny, boolean[] select, int n, float[] t, int ldt, float[] vl, int ldvl, float[] vr, int ldvr, int mm, org.netlib.util.intW m, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strevc(side, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, mm, m, work, info);
+    strevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strevc(String side, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strevc(side, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+    strevcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strexc(String compq, int n, float[] t, int ldt, float[] q, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strexc(compq, n, t, ldt, q, ldq, ifst, ilst, work, info);
+    strexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strexc(String compq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strexc(compq, n, t, offsett, ldt, q, offsetq, ldq, ifst, ilst, work, offsetwork, info);
+    strexcMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strrfs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strrfs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+    strrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strrfs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strrfs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+    strrfsMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strsen(String job, String compq, boolean[] select, int n, float[] t, int ldt, float[] q, int ldq, float[] wr, float[] wi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strsen(job, compq, select, n, t, ldt, q, ldq, wr, wi, m, s, sep, work, lwork, iwork, liwork, info);
+    strsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strsen(String job, String compq, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, float[] wr, int offsetwr, float[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strsen(job, compq, select, offsetselect, n, t, offsett, ldt, q, offsetq, ldq, wr, offsetwr, wi, offsetwi, m, s, sep, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    strsenMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strsna(String job, String howmny, boolean[] select, int n, float[] t, int ldt, float[] vl, int ldvl, float[] vr, int ldvr, float[] s, float[] sep, int mm, org.netlib.util.intW m, float[] work, int ldwork, int[] iwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strsna(job, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, s, sep, mm, m, work, ldwork, iwork, info);
+    strsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strsna(String job, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] sep, int offsetsep, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strsna(job, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, sep, offsetsep, mm, m, work, offsetwork, ldwork, iwork, offsetiwork, info);
+    strsnaMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strsyl(String trana, String tranb, int isgn, int m, int n, float[] a, int lda, float[] b, int ldb, float[] c, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strsyl(trana, tranb, isgn, m, n, a, lda, b, ldb, c, Ldc, scale, info);
+    strsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strsyl(String trana, String tranb, int isgn, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strsyl(trana, tranb, isgn, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, scale, info);
+    strsylMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strti2(String uplo, String diag, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strti2(uplo, diag, n, a, lda, info);
+    strti2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strti2(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strti2(uplo, diag, n, a, offseta, lda, info);
+    strti2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void strtri(String uplo, String diag, int n, float[] a, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strtri(uplo, diag, n, a, lda, info);
+    strtriMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void strtri(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strtri(uplo, diag, n, a, offseta, lda, info);
+    strtriMeter.record(System.nanoTime() - start, (long) n * n * n / 3);
+  }
+
+  public void strtrs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strtrs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, info);
+    strtrsMeter.record(System.nanoTime() - start, (long) n * n * nrhs);
+  }
+
+  public void strtrs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.strtrs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    strtrsMeter.record(System.nanoTime() - start, (long) n * n * nrhs);
+  }
+
+  public void stzrqf(int m, int n, float[] a, int lda, float[] tau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stzrqf(m, n, a, lda, tau, info);
+    stzrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stzrqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stzrqf(m, n, a, offseta, lda, tau, offsettau, info);
+    stzrqfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stzrzf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stzrzf(m, n, a, lda, tau, work, lwork, info);
+    stzrzfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public void stzrzf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    long start = System.nanoTime();
+    lapack.stzrzf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    stzrzfMeter.record(System.nanoTime() - start, 0);
+  }
+
+  public double dlamch(String cmach) {
+    long start = System.nanoTime();
+    double result = lapack.dlamch(cmach);
+    dlamchMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void dlamc1(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    long start = System.nanoTime();
+    lapack.dlamc1(beta, t, rnd, ieee1);
+    dlamc1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void dlamc2(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.doubleW eps, org.netlib.util.intW emin, org.netlib.util.doubleW rmin, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    long start = System.nanoTime();
+    lapack.dlamc2(beta, t, rnd, eps, emin, rmin, emax, rmax);
+    dlamc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public double dlamc3(double a, double b) {
+    long start = System.nanoTime();
+    double result = lapack.dlamc3(a, b);
+    dlamc3Meter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void dlamc4(org.netlib.util.intW emin, double start, int base) {
+    long startNanos = System.nanoTime();
+    lapack.dlamc4(emin, start, base);
+    dlamc4Meter.record(System.nanoTime() - startNanos, 0);
+  }
+
+  public void dlamc5(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    long start = System.nanoTime();
+    lapack.dlamc5(beta, p, emin, ieee, emax, rmax);
+    dlamc5Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public double dsecnd() {
+    long start = System.nanoTime();
+    double result = lapack.dsecnd();
+    dsecndMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public boolean lsame(String ca, String cb) {
+    long start = System.nanoTime();
+    boolean result = lapack.lsame(ca, cb);
+    lsameMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float second() {
+    long start = System.nanoTime();
+    float result = lapack.second();
+    secondMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public float slamch(String cmach) {
+    long start = System.nanoTime();
+    float result = lapack.slamch(cmach);
+    slamchMeter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void slamc1(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    long start = System.nanoTime();
+    lapack.slamc1(beta, t, rnd, ieee1);
+    slamc1Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public void slamc2(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.floatW eps, org.netlib.util.intW emin, org.netlib.util.floatW rmin, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    long start = System.nanoTime();
+    lapack.slamc2(beta, t, rnd, eps, emin, rmin, emax, rmax);
+    slamc2Meter.record(System.nanoTime() - start, 0);
+  }
+
+  public float slamc3(float a, float b) {
+    long start = System.nanoTime();
+    float result = lapack.slamc3(a, b);
+    slamc3Meter.record(System.nanoTime() - start, 0);
+    return result;
+  }
+
+  public void slamc4(org.netlib.util.intW emin, float start, int base) {
+    long startNanos = System.nanoTime();
+    lapack.slamc4(emin, start, base);
+    slamc4Meter.record(System.nanoTime() - startNanos, 0);
+  }
+
+  public void slamc5(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    long start = System.nanoTime();
+    lapack.slamc5(beta, p, emin, ieee, emax, rmax);
+    slamc5Meter.record(System.nanoTime() - start, 0);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// Runs the parallel parts of the Java implementation on a pool of its own, sized by
+// -Ddev.ludovic.netlib.lapack.threads and defaulting to the number of CPUs. The copy loaded by F2jRedirect
+// runs on the same pool.
+final class Parallel {
+
+  private static final int threads = F2jRedirect.shared(Parallel.class, "threads",
+    () -> Math.max(1, Integer.getInteger("dev.ludovic.netlib.lapack.threads", Runtime.getRuntime().availableProcessors())));
+
+  private static final ForkJoinPool pool = F2jRedirect.shared(Parallel.class, "pool",
+    () -> threads > 1 ? new ForkJoinPool(threads) : null);
+
+  // Below this many floating-point operations, an update isn't worth splitting
+  private static final long MIN_WORK = 1L << 21;
+
+  private Parallel() {}
+
+  static int threads() {
+    return threads;
+  }
+
+  // The pool itself, or null when running on a single thread
+  static ForkJoinPool pool() {
+    return pool;
+  }
+
+  // Returns in how many blocks to split n columns of an update worth the given number of operations,
+  // keeping at least min columns per block
+  static int blocks(int n, int min, long work) {
+    if (pool == null || work < MIN_WORK) {
+      return 1;
+    }
+    return Math.max(1, Math.min(threads, n / min));
+  }
+
+  // Calls body for each of [0, tasks), in parallel when there is more than one
+  static void forEach(int tasks, IntConsumer body) {
+    if (pool == null || tasks <= 1) {
+      for (int i = 0; i < tasks; i++) {
+        body.accept(i);
+      }
+    } else if (ForkJoinTask.getPool() == pool) {
+      // Already on the pool, as in nested calls
+      IntStream.range(0, tasks).parallel().forEach(body);
+    } else {
+      pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(body)).join();
+    }
+  }
+}
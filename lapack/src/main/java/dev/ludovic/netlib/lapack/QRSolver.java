@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
+// QR factorization A = Q * R of an m x n matrix of full rank, with m >= n, with dgeqrf, kept to solve the
+// least-squares problems min || A * X - B || for any number of right-hand sides with dormqr and dtrtrs. The
+// matrix is copied, so that the factorization can't be changed from the outside, and it's never written
+// to once factored: the solves can run concurrently from any number of threads, and allocate nothing
+// beyond a per-thread workspace once warmed up. That holds on the native and Java implementations for
+// fewer than 64 right-hand sides at a time; more go through dgemm, which the Java BLAS runs on freshly
+// packed copies, and F2j's dormqr allocates its triangular factor on every call. As dormqr temporarily
+// sets the diagonal of the reflectors to 1, R is kept apart and the reflectors are stored with that
+// diagonal already, so that a solve never changes what another one reads.
+//
+// Only the given LAPACK implementation is called, LAPACK.getInstance() by default. Rank deficiency is
+// reported with an ArithmeticException.
+public final class QRSolver {
+
+  // The workspace of dormqr, grown as needed, and its info
+  private static final class Scratch {
+
+    final intW info = new intW(0);
+    double[] work = new double[1];
+  }
+
+  private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+  private final LAPACK lapack;
+  private final int m, n;
+  private final double[] qr;
+  private final double[] r;
+  private final double[] tau;
+  private double rcond = -1.0;
+
+  private QRSolver(LAPACK lapack, int m, int n, double[] a, int offseta, int lda) {
+    this.lapack = lapack;
+    this.m = m;
+    this.n = n;
+    this.qr = new double[m * n];
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(a, offseta + j * lda, qr, j * m, m);
+    }
+    this.r = new double[n * n];
+    this.tau = new double[n];
+    if (n == 0) {
+      return;
+    }
+    double[] query = new double[1];
+    intW info = new intW(0);
+    lapack.dgeqrf(m, n, qr, 0, m, tau, 0, query, 0, -1, info);
+    double[] work = new double[Math.max(1, (int) query[0])];
+    lapack.dgeqrf(m, n, qr, 0, m, tau, 0, work, 0, work.length, info);
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(qr, j * m, r, j * n, j + 1);
+      qr[j + j * m] = 1.0;
+    }
+    for (int i = 0; i < n; i++) {
+      if (r[i + i * n] == 0.0) {
+        throw new ArithmeticException("R(" + (i + 1) + ", " + (i + 1) + ") is zero, so A is rank deficient");
+      }
+    }
+  }
+
+  // Factors the m x n matrix a, with m >= n, which is left untouched
+  public static QRSolver factor(LAPACK lapack, int m, int n, double[] a, int offseta, int lda) {
+    if (n < 0 || m < n) {
+      throw new IllegalArgumentException("Expected m >= n >= 0, got m = " + m + " and n = " + n);
+    }
+    if (lda < Math.max(1, m)) {
+      throw new IllegalArgumentException("Expected lda >= max(1, m), got lda = " + lda);
+    }
+    if (n > 0 && offseta + (n - 1) * lda + m > a.length) {
+      throw new IndexOutOfBoundsException("Index " + (offseta + (n - 1) * lda + m - 1) + " out of bounds for length " + a.length);
+    }
+    return new QRSolver(lapack, m, n, a, offseta, lda);
+  }
+
+  public static QRSolver factor(int m, int n, double[] a, int offseta, int lda) {
+    return factor(LAPACK.getInstance(), m, n, a, offseta, lda);
+  }
+
+  public int rows() {
+    return m;
+  }
+
+  public int columns() {
+    return n;
+  }
+
+  // Solves min || A * x - b || for the vector b of m elements, leaving x in its first n elements
+  public void solve(double[] b, int offsetb) {
+    solve(1, b, offsetb, Math.max(1, m));
+  }
+
+  // Solves min || A * X - B || for the m x nrhs matrix B, leaving X in its first n rows as dgels does. The
+  // norm of the residual of each column is that of its remaining m - n rows.
+  public void solve(int nrhs, double[] b, int offsetb, int ldb) {
+    if (nrhs < 0) {
+      throw new IllegalArgumentException("Expected nrhs >= 0, got nrhs = " + nrhs);
+    }
+    if (ldb < Math.max(1, m)) {
+      throw new IllegalArgumentException("Expected ldb >= max(1, m), got ldb = " + ldb);
+    }
+    if (nrhs > 0 && m > 0 && offsetb + (nrhs - 1) * ldb + m > b.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsetb + (nrhs - 1) * ldb + m - 1) + " out of bounds for length " + b.length);
+    }
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    Scratch s = scratch.get();
+    lapack.dormqr("L", "T", m, nrhs, n, qr, 0, m, tau, 0, b, offsetb, ldb, s.work, 0, -1, s.info);
+    int lwork = Math.max(1, (int) s.work[0]);
+    if (s.work.length < lwork) {
+      s.work = new double[lwork];
+    }
+    lapack.dormqr("L", "T", m, nrhs, n, qr, 0, m, tau, 0, b, offsetb, ldb, s.work, 0, s.work.length, s.info);
+    lapack.dtrtrs("U", "N", "N", n, nrhs, r, 0, n, b, offsetb, ldb, s.info);
+  }
+
+  // Reciprocal of the condition number of R in the 1-norm, that of A in the 2-norm up to a factor of n,
+  // estimated with dtrcon the first time it's asked for
+  public synchronized double rcond() {
+    if (rcond < 0.0) {
+      if (n == 0) {
+        rcond = 1.0;
+      } else {
+        doubleW res = new doubleW(0.0);
+        lapack.dtrcon("1", "U", "N", n, r, 0, n, res, new double[3 * n], 0, new int[n], 0, new intW(0));
+        rcond = res.val;
+      }
+    }
+    return rcond;
+  }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.Random;
+
+import org.netlib.util.intW;
+
+// Truncated SVD of an m x n matrix A by randomized subspace iteration, as described by Halko, Martinsson and
+// Tropp. The range of A is sampled by its product with a Gaussian random matrix of rank + oversampling
+// columns, the power iterations with A * A**T sharpen it towards the leading singular vectors, with a QR
+// re-orthogonalization between each product, and the SVD of the small projection of A onto the resulting
+// orthonormal basis Q gives the leading singular triplets. Only the products of A with blocks of vectors
+// are needed, so A may be given as a dense matrix or as an Operator.
+//
+// The accuracy depends on the decay of the singular values: with little decay beyond the rank, more
+// oversampling or more iterations improve it, at the cost of more products with A.
+//
+// The QR factorizations and the final SVD go through the given LAPACK implementation, whichever it is, and
+// the dense products through BLAS.getInstance() when dev.ludovic.netlib:blas is available.
+// Failures to converge are reported with an ArithmeticException.
+public final class RandomizedSVD {
+
+  // A linear operator of m rows and n columns, known only through its products with blocks of vectors
+  public interface Operator {
+
+    int rows();
+
+    int columns();
+
+    // Y = A * X, for the n x k matrix X and the m x k matrix Y
+    void apply(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy);
+
+    // Y = A**T * X, for the m x k matrix X and the n x k matrix Y
+    void applyTranspose(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy);
+  }
+
+  // A product with a single vector, y = A * x or y = A**T * x
+  @FunctionalInterface
+  public interface Matvec {
+
+    void apply(double[] x, int offsetx, double[] y, int offsety);
+  }
+
+  private final LAPACK lapack;
+  private final int rank, oversampling, iterations;
+  private final long seed;
+
+  public RandomizedSVD(LAPACK lapack, int rank, int oversampling, int iterations, long seed) {
+    if (rank < 0) {
+      throw new IllegalArgumentException("Expected rank >= 0, got rank = " + rank);
+    }
+    if (oversampling < 0) {
+      throw new IllegalArgumentException("Expected oversampling >= 0, got oversampling = " + oversampling);
+    }
+    if (iterations < 0) {
+      throw new IllegalArgumentException("Expected iterations >= 0, got iterations = " + iterations);
+    }
+    this.lapack = lapack;
+    this.rank = rank;
+    this.oversampling = oversampling;
+    this.iterations = iterations;
+    this.seed = seed;
+  }
+
+  // 10 vectors of oversampling and 2 power iterations, which suit matrices whose singular values decay
+  // slowly, with a fixed seed
+  public RandomizedSVD(LAPACK lapack, int rank) {
+    this(lapack, rank, 10, 2, 0);
+  }
+
+  public int rank() {
+    return rank;
+  }
+
+  // The m x n matrix a as an Operator, with its products split across threads by rows of the result
+  public static Operator dense(int m, int n, double[] a, int offseta, int lda) {
+    if (m < 0 || n < 0) {
+      throw new IllegalArgumentException("Expected m >= 0 and n >= 0, got m = " + m + " and n = " + n);
+    }
+    if (lda < Math.max(1, m)) {
+      throw new IllegalArgumentException("Expected lda >= max(1, m), got lda = " + lda);
+    }
+    if (m > 0 && n > 0 && offseta + (n - 1) * lda + m > a.length) {
+      throw new IndexOutOfBoundsException("Index " + (offseta + (n - 1) * lda + m - 1) + " out of bounds for length " + a.length);
+    }
+    return new Operator() {
+      public int rows() {
+        return m;
+      }
+
+      public int columns() {
+        return n;
+      }
+
+      public void apply(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+        gemm("N", "N", m, k, n, a, offseta, lda, x, offsetx, ldx, y, offsety, ldy);
+      }
+
+      public void applyTranspose(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+        gemm("T", "N", n, k, m, a, offseta, lda, x, offsetx, ldx, y, offsety, ldy);
+      }
+    };
+  }
+
+  // The m x n matrix known through its products with single vectors, which are called one column at a
+  // time and never concurrently
+  public static Operator matvec(int m, int n, Matvec av, Matvec atv) {
+    if (m < 0 || n < 0) {
+      throw new IllegalArgumentException("Expected m >= 0 and n >= 0, got m = " + m + " and n = " + n);
+    }
+    return new Operator() {
+      public int rows() {
+        return m;
+      }
+
+      public int columns() {
+        return n;
+      }
+
+      public void apply(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+        for (int j = 0; j < k; j++) {
+          av.apply(x, offsetx + j * ldx, y, offsety + j * ldy);
+        }
+      }
+
+      public void applyTranspose(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+        for (int j = 0; j < k; j++) {
+          atv.apply(x, offsetx + j * ldx, y, offsety + j * ldy);
+        }
+      }
+    };
+  }
+
+  // The operator A - 1 * mean**T, whose columns are those of A centered around their given means, without
+  // forming it
+  public static Operator centered(Operator a, double[] mean, int offsetmean) {
+    int m = a.rows();
+    int n = a.columns();
+    if (n > 0 && offsetmean + n > mean.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsetmean + n - 1) + " out of bounds for length " + mean.length);
+    }
+    return new Operator() {
+      public int rows() {
+        return m;
+      }
+
+      public int columns() {
+        return n;
+      }
+
+      // Subtracts mean**T * x from each element of the matching column of y
+      public void apply(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+        a.apply(k, x, offsetx, ldx, y, offsety, ldy);
+        for (int j = 0; j < k; j++) {
+          double dot = 0.0;
+          for (int i = 0; i < n; i++) {
+            dot += mean[offsetmean + i] * x[offsetx + i + j * ldx];
+          }
+          for (int i = 0; i < m; i++) {
+            y[offsety + i + j * ldy] -= dot;
+          }
+        }
+      }
+
+      // Subtracts the sum of each column of x times the means from the matching column of y
+      public void applyTranspose(int k, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+        a.applyTranspose(k, x, offsetx, ldx, y, offsety, ldy);
+        for (int j = 0; j < k; j++) {
+          double sum = 0.0;
+          for (int i = 0; i < m; i++) {
+            sum += x[offsetx + i + j * ldx];
+          }
+          for (int i = 0; i < n; i++) {
+            y[offsety + i + j * ldy] -= sum * mean[offsetmean + i];
+          }
+        }
+      }
+    };
+  }
+
+  // Leading singular triplets A ~ U * diag(S) * VT of the m x n matrix A, which is left untouched: s holds
+  // rank values, u is m x rank and vt is rank x n. With u and vt null, only the singular values are
+  // computed.
+  public void svd(int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt) {
+    svd(dense(m, n, a, offseta, lda), s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt);
+  }
+
+  public void svd(Operator a, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt) {
+    int m = a.rows();
+    int n = a.columns();
+    check(m, n, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt);
+    if (rank == 0) {
+      return;
+    }
+    int l = Math.min(rank + oversampling, Math.min(m, n));
+
+    // Q = orth(A * Omega) for the n x l Gaussian random matrix Omega
+    double[] z = new double[n * l];
+    Random rand = new Random(seed);
+    for (int i = 0; i < z.length; i++) {
+      z[i] = rand.nextGaussian();
+    }
+    double[] q = new double[m * l];
+    a.apply(l, z, 0, n, q, 0, m);
+    orthonormalize(m, l, q);
+
+    // Q = orth(A * orth(A**T * Q)), the QR factorizations keeping the singular values below the rounding
+    // errors of the largest ones from vanishing into them
+    for (int i = 0; i < iterations; i++) {
+      a.applyTranspose(l, q, 0, m, z, 0, n);
+      orthonormalize(n, l, z);
+      a.apply(l, z, 0, n, q, 0, m);
+      orthonormalize(m, l, q);
+    }
+
+    // B**T = A**T * Q = Ub * diag(Sb) * Vb**T, so A ~ Q * B = (Q * Vb) * diag(Sb) * Ub**T
+    a.applyTranspose(l, q, 0, m, z, 0, n);
+    boolean vectors = u != null;
+    double[] sb = new double[l];
+    double[] ub = vectors ? new double[n * l] : new double[1];
+    double[] vtb = vectors ? new double[l * l] : new double[1];
+    String jobz = vectors ? "S" : "N";
+    int[] iwork = new int[8 * l];
+    double[] query = new double[1];
+    intW info = new intW(0);
+    lapack.dgesdd(jobz, n, l, z, 0, n, sb, 0, ub, 0, vectors ? n : 1, vtb, 0, vectors ? l : 1, query, 0, -1, iwork, 0, info);
+    double[] work = new double[Math.max(1, (int) query[0])];
+    lapack.dgesdd(jobz, n, l, z, 0, n, sb, 0, ub, 0, vectors ? n : 1, vtb, 0, vectors ? l : 1, work, 0, work.length, iwork, 0, info);
+    if (info.val > 0) {
+      throw new ArithmeticException("dgesdd failed to converge (info = " + info.val + ")");
+    }
+    System.arraycopy(sb, 0, s, offsets, rank);
+    if (vectors) {
+      gemm("N", "T", m, rank, l, q, 0, m, vtb, 0, l, u, offsetu, ldu);
+      for (int j = 0; j < n; j++) {
+        for (int i = 0; i < rank; i++) {
+          vt[offsetvt + i + j * ldvt] = ub[j + i * n];
+        }
+      }
+    }
+  }
+
+  // Principal components of the m observations of n variables in the rows of the m x n matrix A, which is
+  // left untouched: mean receives the n means of its columns, and the truncated SVD of the centered A
+  // gives the principal axes in the rows of vt and the scores U * diag(S). The variance explained by each
+  // component is s * s / (m - 1).
+  public void pca(int m, int n, double[] a, int offseta, int lda, double[] mean, int offsetmean, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt) {
+    Operator dense = dense(m, n, a, offseta, lda);
+    if (n > 0 && offsetmean + n > mean.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsetmean + n - 1) + " out of bounds for length " + mean.length);
+    }
+    for (int j = 0; j < n; j++) {
+      double sum = 0.0;
+      for (int i = 0; i < m; i++) {
+        sum += a[offseta + i + j * lda];
+      }
+      mean[offsetmean + j] = m == 0 ? 0.0 : sum / m;
+    }
+    svd(centered(dense, mean, offsetmean), s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt);
+  }
+
+  private void check(int m, int n, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt) {
+    if (rank > Math.min(m, n)) {
+      throw new IllegalArgumentException("Expected rank <= min(m, n), got rank = " + rank + ", m = " + m + " and n = " + n);
+    }
+    if ((u == null) != (vt == null)) {
+      throw new IllegalArgumentException("Expected u and vt to be both null or both non-null");
+    }
+    if (rank > 0 && offsets + rank > s.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsets + rank - 1) + " out of bounds for length " + s.length);
+    }
+    if (u == null) {
+      return;
+    }
+    if (ldu < Math.max(1, m)) {
+      throw new IllegalArgumentException("Expected ldu >= max(1, m), got ldu = " + ldu);
+    }
+    if (ldvt < Math.max(1, rank)) {
+      throw new IllegalArgumentException("Expected ldvt >= max(1, rank), got ldvt = " + ldvt);
+    }
+    if (rank > 0 && offsetu + (rank - 1) * ldu + m > u.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsetu + (rank - 1) * ldu + m - 1) + " out of bounds for length " + u.length);
+    }
+    if (rank > 0 && offsetvt + (n - 1) * ldvt + rank > vt.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsetvt + (n - 1) * ldvt + rank - 1) + " out of bounds for length " + vt.length);
+    }
+  }
+
+  // Overwrites the k columns of the m x k matrix a, with m >= k, with an orthonormal basis of their span
+  private void orthonormalize(int m, int k, double[] a) {
+    double[] tau = new double[k];
+    double[] query = new double[1];
+    intW info = new intW(0);
+    lapack.dgeqrf(m, k, a, 0, m, tau, 0, query, 0, -1, info);
+    double[] work = new double[Math.max(1, (int) query[0])];
+    lapack.dgeqrf(m, k, a, 0, m, tau, 0, work, 0, work.length, info);
+    lapack.dorgqr(m, k, k, a, 0, m, tau, 0, query, 0, -1, info);
+    if ((int) query[0] > work.length) {
+      work = new double[(int) query[0]];
+    }
+    lapack.dorgqr(m, k, k, a, 0, m, tau, 0, work, 0, work.length, info);
+  }
+
+  // The products go to BLAS.getInstance() when dev.ludovic.netlib:blas is on the classpath, which is optional
+  // at run-time, and to the F2j reference BLAS otherwise
+  private static final boolean optimized =
+    RandomizedSVD.class.getClassLoader().getResource("dev/ludovic/netlib/blas/BLAS.class") != null;
+
+  // Only loaded when dev.ludovic.netlib:blas is available, so that nothing else refers to its classes
+  private static final class OptimizedBLAS {
+
+    private static final dev.ludovic.netlib.blas.BLAS blas = dev.ludovic.netlib.blas.BLAS.getInstance();
+
+    // A native BLAS already runs its dgemm on its own threads
+    static boolean threaded() {
+      return blas instanceof dev.ludovic.netlib.blas.NativeBLAS;
+    }
+
+    static void dgemm(String transa, String transb, int m, int n, int k, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc) {
+      blas.dgemm(transa, transb, m, n, k, 1.0, a, offseta, lda, b, offsetb, ldb, 0.0, c, offsetc, ldc);
+    }
+  }
+
+  // C = op(A) * op(B) for the m x k op(A) and k x n op(B), split across threads by rows of C unless the BLAS
+  // is threaded itself. The LAPACK interface has no dgemm.
+  private static void gemm(String transa, String transb, int m, int n, int k, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc) {
+    if (m == 0 || n == 0) {
+      return;
+    }
+    if (optimized && OptimizedBLAS.threaded()) {
+      OptimizedBLAS.dgemm(transa, transb, m, n, k, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      return;
+    }
+    boolean notrana = transa.equals("N");
+    int blocks = Parallel.blocks(m, 64, 2L * m * n * k);
+    Parallel.forEach(blocks, p -> {
+      int r = (int) ((long) m * p / blocks);
+      int nr = (int) ((long) m * (p + 1) / blocks) - r;
+      if (optimized) {
+        OptimizedBLAS.dgemm(transa, transb, nr, n, k, a, offseta + (notrana ? r : r * lda), lda, b, offsetb, ldb, c, offsetc + r, ldc);
+      } else {
+        org.netlib.blas.Dgemm.dgemm(transa, transb, nr, n, k, 1.0, a, offseta + (notrana ? r : r * lda), lda, b, offsetb, ldb, 0.0, c, offsetc + r, ldc);
+      }
+    });
+  }
+}
@@ -0,0 +1,9729 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+// Wraps another implementation to record the shape of every call, or one in
+// dev.ludovic.netlib.lapack.shapes.sampling, into ShapeRecorder. Calls without offsets are recorded as if
+// made with offsets of 0, and routines without array arguments aren't recorded.
+class RecordingLAPACK implements LAPACK {
+
+  private final LAPACK lapack;
+
+  RecordingLAPACK(LAPACK lapack) {
+    this.lapack = lapack;
+  }
+
+  LAPACK delegate() {
+    return lapack;
+  }
+
+  static final class Native extends RecordingLAPACK implements NativeLAPACK {
+
+    private final NativeLAPACK lapack;
+
+    Native(NativeLAPACK lapack) {
+      super(lapack);
+      this.lapack = lapack;
+    }
+
+    public int getNumThreads() {
+      return lapack.getNumThreads();
+    }
+
+    public void setNumThreads(int n) {
+      lapack.setNumThreads(n);
+    }
+  }
+
+  static final class Java extends RecordingLAPACK implements JavaLAPACK {
+
+    Java(JavaLAPACK lapack) {
+      super(lapack);
+    }
+  }
+
+  public void dbdsdc(String uplo, String compq, int n, double[] d, double[] e, double[] u, int ldu, double[] vt, int ldvt, double[] q, int[] iq, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dbdsdc").add(uplo).add(compq).add(n).add(d).add(0).add(e).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(q).add(0).add(iq).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dbdsdc(uplo, compq, n, d, e, u, ldu, vt, ldvt, q, iq, work, iwork, info);
+  }
+
+  public void dbdsdc(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dbdsdc").add(uplo).add(compq).add(n).add(d).add(offsetd).add(e).add(offsete).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(q).add(offsetq).add(iq).add(offsetiq).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dbdsdc(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dbdsqr(String uplo, int n, int ncvt, int nru, int ncc, double[] d, double[] e, double[] vt, int ldvt, double[] u, int ldu, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dbdsqr").add(uplo).add(n).add(ncvt).add(nru).add(ncc).add(d).add(0).add(e).add(0).add(vt).add(0).add(ldvt).add(u).add(0).add(ldu).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dbdsqr(uplo, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+  }
+
+  public void dbdsqr(String uplo, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dbdsqr").add(uplo).add(n).add(ncvt).add(nru).add(ncc).add(d).add(offsetd).add(e).add(offsete).add(vt).add(offsetvt).add(ldvt).add(u).add(offsetu).add(ldu).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dbdsqr(uplo, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void ddisna(String job, int m, int n, double[] d, double[] sep, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ddisna").add(job).add(m).add(n).add(d).add(0).add(sep).add(0).add(info).record();
+    }
+    lapack.ddisna(job, m, n, d, sep, info);
+  }
+
+  public void ddisna(String job, int m, int n, double[] d, int offsetd, double[] sep, int offsetsep, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ddisna").add(job).add(m).add(n).add(d).add(offsetd).add(sep).add(offsetsep).add(info).record();
+    }
+    lapack.ddisna(job, m, n, d, offsetd, sep, offsetsep, info);
+  }
+
+  public void dgbbrd(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int ldab, double[] d, double[] e, double[] q, int ldq, double[] pt, int ldpt, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbbrd").add(vect).add(m).add(n).add(ncc).add(kl).add(ku).add(ab).add(0).add(ldab).add(d).add(0).add(e).add(0).add(q).add(0).add(ldq).add(pt).add(0).add(ldpt).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dgbbrd(vect, m, n, ncc, kl, ku, ab, ldab, d, e, q, ldq, pt, ldpt, c, Ldc, work, info);
+  }
+
+  public void dgbbrd(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] pt, int offsetpt, int ldpt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbbrd").add(vect).add(m).add(n).add(ncc).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(d).add(offsetd).add(e).add(offsete).add(q).add(offsetq).add(ldq).add(pt).add(offsetpt).add(ldpt).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgbbrd(vect, m, n, ncc, kl, ku, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, pt, offsetpt, ldpt, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dgbcon(String norm, int n, int kl, int ku, double[] ab, int ldab, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbcon").add(norm).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgbcon(norm, n, kl, ku, ab, ldab, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void dgbcon(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbcon").add(norm).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgbcon(norm, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgbequ(int m, int n, int kl, int ku, double[] ab, int ldab, double[] r, double[] c, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbequ").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.dgbequ(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, info);
+  }
+
+  public void dgbequ(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbequ").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.dgbequ(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+  }
+
+  public void dgbrfs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbrfs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgbrfs(trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dgbrfs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbrfs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgbrfs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgbsv(int n, int kl, int ku, int nrhs, double[] ab, int ldab, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbsv").add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dgbsv(n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+  }
+
+  public void dgbsv(int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbsv").add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dgbsv(n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, int[] ipiv, org.netlib.util.StringW equed, double[] r, double[] c, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbsvx").add(fact).add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(ipiv).add(0).add(equed).add(r).add(0).add(c).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgbsvx(fact, trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void dgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbsvx").add(fact).add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(ipiv).add(offsetipiv).add(equed).add(r).add(offsetr).add(c).add(offsetc).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgbsvx(fact, trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgbtf2(int m, int n, int kl, int ku, double[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbtf2").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(ipiv).add(0).add(info).record();
+    }
+    lapack.dgbtf2(m, n, kl, ku, ab, ldab, ipiv, info);
+  }
+
+  public void dgbtf2(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbtf2").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.dgbtf2(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+  }
+
+  public void dgbtrf(int m, int n, int kl, int ku, double[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbtrf").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(ipiv).add(0).add(info).record();
+    }
+    lapack.dgbtrf(m, n, kl, ku, ab, ldab, ipiv, info);
+  }
+
+  public void dgbtrf(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbtrf").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.dgbtrf(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+  }
+
+  public void dgbtrs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int ldab, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbtrs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dgbtrs(trans, n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+  }
+
+  public void dgbtrs(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgbtrs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dgbtrs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dgebak(String job, String side, int n, int ilo, int ihi, double[] scale, int m, double[] v, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebak").add(job).add(side).add(n).add(ilo).add(ihi).add(scale).add(0).add(m).add(v).add(0).add(ldv).add(info).record();
+    }
+    lapack.dgebak(job, side, n, ilo, ihi, scale, m, v, ldv, info);
+  }
+
+  public void dgebak(String job, String side, int n, int ilo, int ihi, double[] scale, int offsetscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebak").add(job).add(side).add(n).add(ilo).add(ihi).add(scale).add(offsetscale).add(m).add(v).add(offsetv).add(ldv).add(info).record();
+    }
+    lapack.dgebak(job, side, n, ilo, ihi, scale, offsetscale, m, v, offsetv, ldv, info);
+  }
+
+  public void dgebal(String job, int n, double[] a, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebal").add(job).add(n).add(a).add(0).add(lda).add(ilo).add(ihi).add(scale).add(0).add(info).record();
+    }
+    lapack.dgebal(job, n, a, lda, ilo, ihi, scale, info);
+  }
+
+  public void dgebal(String job, int n, double[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebal").add(job).add(n).add(a).add(offseta).add(lda).add(ilo).add(ihi).add(scale).add(offsetscale).add(info).record();
+    }
+    lapack.dgebal(job, n, a, offseta, lda, ilo, ihi, scale, offsetscale, info);
+  }
+
+  public void dgebd2(int m, int n, double[] a, int lda, double[] d, double[] e, double[] tauq, double[] taup, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebd2").add(m).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tauq).add(0).add(taup).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dgebd2(m, n, a, lda, d, e, tauq, taup, work, info);
+  }
+
+  public void dgebd2(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebd2").add(m).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tauq).add(offsettauq).add(taup).add(offsettaup).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgebd2(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, info);
+  }
+
+  public void dgebrd(int m, int n, double[] a, int lda, double[] d, double[] e, double[] tauq, double[] taup, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebrd").add(m).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tauq).add(0).add(taup).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgebrd(m, n, a, lda, d, e, tauq, taup, work, lwork, info);
+  }
+
+  public void dgebrd(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgebrd").add(m).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tauq).add(offsettauq).add(taup).add(offsettaup).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgebrd(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+  }
+
+  public void dgecon(String norm, int n, double[] a, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgecon").add(norm).add(n).add(a).add(0).add(lda).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgecon(norm, n, a, lda, anorm, rcond, work, iwork, info);
+  }
+
+  public void dgecon(String norm, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgecon").add(norm).add(n).add(a).add(offseta).add(lda).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgecon(norm, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgeequ(int m, int n, double[] a, int lda, double[] r, double[] c, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeequ").add(m).add(n).add(a).add(0).add(lda).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.dgeequ(m, n, a, lda, r, c, rowcnd, colcnd, amax, info);
+  }
+
+  public void dgeequ(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeequ").add(m).add(n).add(a).add(offseta).add(lda).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.dgeequ(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+  }
+
+  public void dgees(String jobvs, String sort, java.lang.Object select, int n, double[] a, int lda, org.netlib.util.intW sdim, double[] wr, double[] wi, double[] vs, int ldvs, double[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgees").add(jobvs).add(sort).add(select).add(n).add(a).add(0).add(lda).add(sdim).add(wr).add(0).add(wi).add(0).add(vs).add(0).add(ldvs).add(work).add(0).add(lwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.dgees(jobvs, sort, select, n, a, lda, sdim, wr, wi, vs, ldvs, work, lwork, bwork, info);
+  }
+
+  public void dgees(String jobvs, String sort, java.lang.Object select, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgees").add(jobvs).add(sort).add(select).add(n).add(a).add(offseta).add(lda).add(sdim).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vs).add(offsetvs).add(ldvs).add(work).add(offsetwork).add(lwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.dgees(jobvs, sort, select, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, work, offsetwork, lwork, bwork, offsetbwork, info);
+  }
+
+  public void dgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int lda, org.netlib.util.intW sdim, double[] wr, double[] wi, double[] vs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeesx").add(jobvs).add(sort).add(select).add(sense).add(n).add(a).add(0).add(lda).add(sdim).add(wr).add(0).add(wi).add(0).add(vs).add(0).add(ldvs).add(rconde).add(rcondv).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.dgeesx(jobvs, sort, select, sense, n, a, lda, sdim, wr, wi, vs, ldvs, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+  }
+
+  public void dgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeesx").add(jobvs).add(sort).add(select).add(sense).add(n).add(a).add(offseta).add(lda).add(sdim).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vs).add(offsetvs).add(ldvs).add(rconde).add(rcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.dgeesx(jobvs, sort, select, sense, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, rconde, rcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+  }
+
+  public void dgeev(String jobvl, String jobvr, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeev").add(jobvl).add(jobvr).add(n).add(a).add(0).add(lda).add(wr).add(0).add(wi).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgeev(jobvl, jobvr, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, work, lwork, info);
+  }
+
+  public void dgeev(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeev").add(jobvl).add(jobvr).add(n).add(a).add(offseta).add(lda).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgeev(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, org.netlib.util.doubleW abnrm, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(0).add(lda).add(wr).add(0).add(wi).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(ilo).add(ihi).add(scale).add(0).add(abnrm).add(rconde).add(0).add(rcondv).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgeevx(balanc, jobvl, jobvr, sense, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, ilo, ihi, scale, abnrm, rconde, rcondv, work, lwork, iwork, info);
+  }
+
+  public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(offseta).add(lda).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(ilo).add(ihi).add(scale).add(offsetscale).add(abnrm).add(rconde).add(offsetrconde).add(rcondv).add(offsetrcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgeevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, scale, offsetscale, abnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void dgegs(String jobvsl, String jobvsr, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vsl, int ldvsl, double[] vsr, int ldvsr, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgegs").add(jobvsl).add(jobvsr).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vsl).add(0).add(ldvsl).add(vsr).add(0).add(ldvsr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgegs(jobvsl, jobvsr, n, a, lda, b, ldb, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, info);
+  }
+
+  public void dgegs(String jobvsl, String jobvsr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgegs").add(jobvsl).add(jobvsr).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vsl).add(offsetvsl).add(ldvsl).add(vsr).add(offsetvsr).add(ldvsr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgegs(jobvsl, jobvsr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, info);
+  }
+
+  public void dgegv(String jobvl, String jobvr, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vl, int ldvl, double[] vr, int ldvr, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgegv").add(jobvl).add(jobvr).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgegv(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+  }
+
+  public void dgegv(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgegv").add(jobvl).add(jobvr).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgegv(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  public void dgehd2(int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgehd2").add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dgehd2(n, ilo, ihi, a, lda, tau, work, info);
+  }
+
+  public void dgehd2(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgehd2").add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgehd2(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dgehrd(int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgehrd").add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgehrd(n, ilo, ihi, a, lda, tau, work, lwork, info);
+  }
+
+  public void dgehrd(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgehrd").add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgehrd(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dgelq2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelq2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dgelq2(m, n, a, lda, tau, work, info);
+  }
+
+  public void dgelq2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelq2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgelq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dgelqf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelqf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgelqf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void dgelqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelqf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgelqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dgels(String trans, int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgels").add(trans).add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgels(trans, m, n, nrhs, a, lda, b, ldb, work, lwork, info);
+  }
+
+  public void dgels(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgels").add(trans).add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgels(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+  }
+
+  public void dgelsd(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelsd").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(s).add(0).add(rcond).add(rank).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgelsd(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, iwork, info);
+  }
+
+  public void dgelsd(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelsd").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(s).add(offsets).add(rcond).add(rank).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgelsd(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void dgelss(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelss").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(s).add(0).add(rcond).add(rank).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgelss(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, info);
+  }
+
+  public void dgelss(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelss").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(s).add(offsets).add(rcond).add(rank).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgelss(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+  }
+
+  public void dgelsx(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, int[] jpvt, double rcond, org.netlib.util.intW rank, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelsx").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(jpvt).add(0).add(rcond).add(rank).add(work).add(0).add(info).record();
+    }
+    lapack.dgelsx(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, info);
+  }
+
+  public void dgelsx(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelsx").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(jpvt).add(offsetjpvt).add(rcond).add(rank).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgelsx(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, info);
+  }
+
+  public void dgelsy(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, int[] jpvt, double rcond, org.netlib.util.intW rank, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelsy").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(jpvt).add(0).add(rcond).add(rank).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgelsy(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, lwork, info);
+  }
+
+  public void dgelsy(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgelsy").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(jpvt).add(offsetjpvt).add(rcond).add(rank).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgelsy(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, lwork, info);
+  }
+
+  public void dgeql2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeql2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dgeql2(m, n, a, lda, tau, work, info);
+  }
+
+  public void dgeql2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeql2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgeql2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dgeqlf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqlf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgeqlf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void dgeqlf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqlf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgeqlf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dgeqp3(int m, int n, double[] a, int lda, int[] jpvt, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqp3").add(m).add(n).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgeqp3(m, n, a, lda, jpvt, tau, work, lwork, info);
+  }
+
+  public void dgeqp3(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqp3").add(m).add(n).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgeqp3(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dgeqpf(int m, int n, double[] a, int lda, int[] jpvt, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqpf").add(m).add(n).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dgeqpf(m, n, a, lda, jpvt, tau, work, info);
+  }
+
+  public void dgeqpf(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqpf").add(m).add(n).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgeqpf(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dgeqr2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqr2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dgeqr2(m, n, a, lda, tau, work, info);
+  }
+
+  public void dgeqr2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqr2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgeqr2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dgeqrf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqrf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgeqrf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void dgeqrf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgeqrf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgeqrf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dgerfs(String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgerfs").add(trans).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgerfs(trans, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dgerfs(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgerfs").add(trans).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgerfs(trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgerq2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgerq2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dgerq2(m, n, a, lda, tau, work, info);
+  }
+
+  public void dgerq2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgerq2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dgerq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dgerqf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgerqf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgerqf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void dgerqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgerqf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgerqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dgesc2(int n, double[] a, int lda, double[] rhs, int[] ipiv, int[] jpiv, org.netlib.util.doubleW scale) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesc2").add(n).add(a).add(0).add(lda).add(rhs).add(0).add(ipiv).add(0).add(jpiv).add(0).add(scale).record();
+    }
+    lapack.dgesc2(n, a, lda, rhs, ipiv, jpiv, scale);
+  }
+
+  public void dgesc2(int n, double[] a, int offseta, int lda, double[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.doubleW scale) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesc2").add(n).add(a).add(offseta).add(lda).add(rhs).add(offsetrhs).add(ipiv).add(offsetipiv).add(jpiv).add(offsetjpiv).add(scale).record();
+    }
+    lapack.dgesc2(n, a, offseta, lda, rhs, offsetrhs, ipiv, offsetipiv, jpiv, offsetjpiv, scale);
+  }
+
+  public void dgesdd(String jobz, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesdd").add(jobz).add(m).add(n).add(a).add(0).add(lda).add(s).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgesdd(jobz, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, iwork, info);
+  }
+
+  public void dgesdd(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesdd").add(jobz).add(m).add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgesdd(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void dgesv(int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesv").add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dgesv(n, nrhs, a, lda, ipiv, b, ldb, info);
+  }
+
+  public void dgesv(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesv").add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesvd").add(jobu).add(jobvt).add(m).add(n).add(a).add(0).add(lda).add(s).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgesvd(jobu, jobvt, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, info);
+  }
+
+  public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesvd").add(jobu).add(jobvt).add(m).add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgesvd(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+  }
+
+  public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, double[] r, double[] c, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesvx").add(fact).add(trans).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(equed).add(r).add(0).add(c).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgesvx(fact, trans, n, nrhs, a, lda, af, ldaf, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgesvx").add(fact).add(trans).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(equed).add(r).add(offsetr).add(c).add(offsetc).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgesvx(fact, trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgetc2(int n, double[] a, int lda, int[] ipiv, int[] jpiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetc2").add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(jpiv).add(0).add(info).record();
+    }
+    lapack.dgetc2(n, a, lda, ipiv, jpiv, info);
+  }
+
+  public void dgetc2(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetc2").add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(jpiv).add(offsetjpiv).add(info).record();
+    }
+    lapack.dgetc2(n, a, offseta, lda, ipiv, offsetipiv, jpiv, offsetjpiv, info);
+  }
+
+  public void dgetf2(int m, int n, double[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetf2").add(m).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(info).record();
+    }
+    lapack.dgetf2(m, n, a, lda, ipiv, info);
+  }
+
+  public void dgetf2(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetf2").add(m).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.dgetf2(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  public void dgetrf(int m, int n, double[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetrf").add(m).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(info).record();
+    }
+    lapack.dgetrf(m, n, a, lda, ipiv, info);
+  }
+
+  public void dgetrf(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetrf").add(m).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.dgetrf(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  public void dgetri(int n, double[] a, int lda, int[] ipiv, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetri").add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgetri(n, a, lda, ipiv, work, lwork, info);
+  }
+
+  public void dgetri(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetri").add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgetri(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+  }
+
+  public void dgetrs(String trans, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetrs").add(trans).add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dgetrs(trans, n, nrhs, a, lda, ipiv, b, ldb, info);
+  }
+
+  public void dgetrs(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgetrs").add(trans).add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dgetrs(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, double[] rscale, int m, double[] v, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggbak").add(job).add(side).add(n).add(ilo).add(ihi).add(lscale).add(0).add(rscale).add(0).add(m).add(v).add(0).add(ldv).add(info).record();
+    }
+    lapack.dggbak(job, side, n, ilo, ihi, lscale, rscale, m, v, ldv, info);
+  }
+
+  public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggbak").add(job).add(side).add(n).add(ilo).add(ihi).add(lscale).add(offsetlscale).add(rscale).add(offsetrscale).add(m).add(v).add(offsetv).add(ldv).add(info).record();
+    }
+    lapack.dggbak(job, side, n, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, m, v, offsetv, ldv, info);
+  }
+
+  public void dggbal(String job, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, double[] rscale, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggbal").add(job).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(ilo).add(ihi).add(lscale).add(0).add(rscale).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dggbal(job, n, a, lda, b, ldb, ilo, ihi, lscale, rscale, work, info);
+  }
+
+  public void dggbal(String job, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggbal").add(job).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(ilo).add(ihi).add(lscale).add(offsetlscale).add(rscale).add(offsetrscale).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dggbal(job, n, a, offseta, lda, b, offsetb, ldb, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, work, offsetwork, info);
+  }
+
+  public void dgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW sdim, double[] alphar, double[] alphai, double[] beta, double[] vsl, int ldvsl, double[] vsr, int ldvsr, double[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgges").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(sdim).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vsl).add(0).add(ldvsl).add(vsr).add(0).add(ldvsr).add(work).add(0).add(lwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.dgges(jobvsl, jobvsr, sort, selctg, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, bwork, info);
+  }
+
+  public void dgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgges").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(sdim).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vsl).add(offsetvsl).add(ldvsl).add(vsr).add(offsetvsr).add(ldvsr).add(work).add(offsetwork).add(lwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.dgges(jobvsl, jobvsr, sort, selctg, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, bwork, offsetbwork, info);
+  }
+
+  public void dggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW sdim, double[] alphar, double[] alphai, double[] beta, double[] vsl, int ldvsl, double[] vsr, int ldvsr, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggesx").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(sense).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(sdim).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vsl).add(0).add(ldvsl).add(vsr).add(0).add(ldvsr).add(rconde).add(0).add(rcondv).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.dggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+  }
+
+  public void dggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggesx").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(sense).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(sdim).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vsl).add(offsetvsl).add(ldvsl).add(vsr).add(offsetvsr).add(ldvsr).add(rconde).add(offsetrconde).add(rcondv).add(offsetrcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.dggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+  }
+
+  public void dggev(String jobvl, String jobvr, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vl, int ldvl, double[] vr, int ldvr, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggev").add(jobvl).add(jobvr).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dggev(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+  }
+
+  public void dggev(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggev").add(jobvl).add(jobvr).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dggev(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  public void dggevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, double[] rscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(ilo).add(ihi).add(lscale).add(0).add(rscale).add(0).add(abnrm).add(bbnrm).add(rconde).add(0).add(rcondv).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(bwork).add(0).add(info).record();
+    }
+    lapack.dggevx(balanc, jobvl, jobvr, sense, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, ilo, ihi, lscale, rscale, abnrm, bbnrm, rconde, rcondv, work, lwork, iwork, bwork, info);
+  }
+
+  public void dggevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(ilo).add(ihi).add(lscale).add(offsetlscale).add(rscale).add(offsetrscale).add(abnrm).add(bbnrm).add(rconde).add(offsetrconde).add(rcondv).add(offsetrcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.dggevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, abnrm, bbnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, bwork, offsetbwork, info);
+  }
+
+  public void dggglm(int n, int m, int p, double[] a, int lda, double[] b, int ldb, double[] d, double[] x, double[] y, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggglm").add(n).add(m).add(p).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(d).add(0).add(x).add(0).add(y).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dggglm(n, m, p, a, lda, b, ldb, d, x, y, work, lwork, info);
+  }
+
+  public void dggglm(int n, int m, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] d, int offsetd, double[] x, int offsetx, double[] y, int offsety, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggglm").add(n).add(m).add(p).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(d).add(offsetd).add(x).add(offsetx).add(y).add(offsety).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dggglm(n, m, p, a, offseta, lda, b, offsetb, ldb, d, offsetd, x, offsetx, y, offsety, work, offsetwork, lwork, info);
+  }
+
+  public void dgghrd(String compq, String compz, int n, int ilo, int ihi, double[] a, int lda, double[] b, int ldb, double[] q, int ldq, double[] z, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgghrd").add(compq).add(compz).add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(info).record();
+    }
+    lapack.dgghrd(compq, compz, n, ilo, ihi, a, lda, b, ldb, q, ldq, z, ldz, info);
+  }
+
+  public void dgghrd(String compq, String compz, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgghrd").add(compq).add(compz).add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(info).record();
+    }
+    lapack.dgghrd(compq, compz, n, ilo, ihi, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, info);
+  }
+
+  public void dgglse(int m, int n, int p, double[] a, int lda, double[] b, int ldb, double[] c, double[] d, double[] x, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgglse").add(m).add(n).add(p).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(d).add(0).add(x).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dgglse(m, n, p, a, lda, b, ldb, c, d, x, work, lwork, info);
+  }
+
+  public void dgglse(int m, int n, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, double[] d, int offsetd, double[] x, int offsetx, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgglse").add(m).add(n).add(p).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(d).add(offsetd).add(x).add(offsetx).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dgglse(m, n, p, a, offseta, lda, b, offsetb, ldb, c, offsetc, d, offsetd, x, offsetx, work, offsetwork, lwork, info);
+  }
+
+  public void dggqrf(int n, int m, int p, double[] a, int lda, double[] taua, double[] b, int ldb, double[] taub, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggqrf").add(n).add(m).add(p).add(a).add(0).add(lda).add(taua).add(0).add(b).add(0).add(ldb).add(taub).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dggqrf(n, m, p, a, lda, taua, b, ldb, taub, work, lwork, info);
+  }
+
+  public void dggqrf(int n, int m, int p, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggqrf").add(n).add(m).add(p).add(a).add(offseta).add(lda).add(taua).add(offsettaua).add(b).add(offsetb).add(ldb).add(taub).add(offsettaub).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dggqrf(n, m, p, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+  }
+
+  public void dggrqf(int m, int p, int n, double[] a, int lda, double[] taua, double[] b, int ldb, double[] taub, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggrqf").add(m).add(p).add(n).add(a).add(0).add(lda).add(taua).add(0).add(b).add(0).add(ldb).add(taub).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dggrqf(m, p, n, a, lda, taua, b, ldb, taub, work, lwork, info);
+  }
+
+  public void dggrqf(int m, int p, int n, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggrqf").add(m).add(p).add(n).add(a).add(offseta).add(lda).add(taua).add(offsettaua).add(b).add(offsetb).add(ldb).add(taub).add(offsettaub).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dggrqf(m, p, n, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+  }
+
+  public void dggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int lda, double[] b, int ldb, double[] alpha, double[] beta, double[] u, int ldu, double[] v, int ldv, double[] q, int ldq, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggsvd").add(jobu).add(jobv).add(jobq).add(m).add(n).add(p).add(k).add(l).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alpha).add(0).add(beta).add(0).add(u).add(0).add(ldu).add(v).add(0).add(ldv).add(q).add(0).add(ldq).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dggsvd(jobu, jobv, jobq, m, n, p, k, l, a, lda, b, ldb, alpha, beta, u, ldu, v, ldv, q, ldq, work, iwork, info);
+  }
+
+  public void dggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggsvd").add(jobu).add(jobv).add(jobq).add(m).add(n).add(p).add(k).add(l).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alpha).add(offsetalpha).add(beta).add(offsetbeta).add(u).add(offsetu).add(ldu).add(v).add(offsetv).add(ldv).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dggsvd(jobu, jobv, jobq, m, n, p, k, l, a, offseta, lda, b, offsetb, ldb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dggsvp(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int lda, double[] b, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int ldu, double[] v, int ldv, double[] q, int ldq, int[] iwork, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggsvp").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(tola).add(tolb).add(k).add(l).add(u).add(0).add(ldu).add(v).add(0).add(ldv).add(q).add(0).add(ldq).add(iwork).add(0).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dggsvp(jobu, jobv, jobq, m, p, n, a, lda, b, ldb, tola, tolb, k, l, u, ldu, v, ldv, q, ldq, iwork, tau, work, info);
+  }
+
+  public void dggsvp(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dggsvp").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(tola).add(tolb).add(k).add(l).add(u).add(offsetu).add(ldu).add(v).add(offsetv).add(ldv).add(q).add(offsetq).add(ldq).add(iwork).add(offsetiwork).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dggsvp(jobu, jobv, jobq, m, p, n, a, offseta, lda, b, offsetb, ldb, tola, tolb, k, l, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, iwork, offsetiwork, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dgtcon(String norm, int n, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtcon").add(norm).add(n).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgtcon(norm, n, dl, d, du, du2, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void dgtcon(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtcon").add(norm).add(n).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgtcon(norm, n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgtrfs(String trans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] dlf, double[] df, double[] duf, double[] du2, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtrfs").add(trans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(dlf).add(0).add(df).add(0).add(duf).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgtrfs(trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dgtrfs(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtrfs").add(trans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(dlf).add(offsetdlf).add(df).add(offsetdf).add(duf).add(offsetduf).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgtrfs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgtsv(int n, int nrhs, double[] dl, double[] d, double[] du, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtsv").add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dgtsv(n, nrhs, dl, d, du, b, ldb, info);
+  }
+
+  public void dgtsv(int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtsv").add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dgtsv(n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, b, offsetb, ldb, info);
+  }
+
+  public void dgtsvx(String fact, String trans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] dlf, double[] df, double[] duf, double[] du2, int[] ipiv, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtsvx").add(fact).add(trans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(dlf).add(0).add(df).add(0).add(duf).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dgtsvx(fact, trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void dgtsvx(String fact, String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtsvx").add(fact).add(trans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(dlf).add(offsetdlf).add(df).add(offsetdf).add(duf).add(offsetduf).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dgtsvx(fact, trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dgttrf(int n, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgttrf").add(n).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(info).record();
+    }
+    lapack.dgttrf(n, dl, d, du, du2, ipiv, info);
+  }
+
+  public void dgttrf(int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgttrf").add(n).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.dgttrf(n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, info);
+  }
+
+  public void dgttrs(String trans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgttrs").add(trans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dgttrs(trans, n, nrhs, dl, d, du, du2, ipiv, b, ldb, info);
+  }
+
+  public void dgttrs(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgttrs").add(trans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dgttrs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dgtts2(int itrans, int n, int nrhs, double[] dl, double[] d, double[] du, double[] du2, int[] ipiv, double[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtts2").add(itrans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).record();
+    }
+    lapack.dgtts2(itrans, n, nrhs, dl, d, du, du2, ipiv, b, ldb);
+  }
+
+  public void dgtts2(int itrans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dgtts2").add(itrans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.dgtts2(itrans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb);
+  }
+
+  public void dhgeqz(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int ldh, double[] t, int ldt, double[] alphar, double[] alphai, double[] beta, double[] q, int ldq, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dhgeqz").add(job).add(compq).add(compz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(t).add(0).add(ldt).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dhgeqz(job, compq, compz, n, ilo, ihi, h, ldh, t, ldt, alphar, alphai, beta, q, ldq, z, ldz, work, lwork, info);
+  }
+
+  public void dhgeqz(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] t, int offsett, int ldt, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dhgeqz").add(job).add(compq).add(compz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(t).add(offsett).add(ldt).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dhgeqz(job, compq, compz, n, ilo, ihi, h, offseth, ldh, t, offsett, ldt, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public void dhsein(String side, String eigsrc, String initv, boolean[] select, int n, double[] h, int ldh, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int[] ifaill, int[] ifailr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dhsein").add(side).add(eigsrc).add(initv).add(select).add(0).add(n).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(mm).add(m).add(work).add(0).add(ifaill).add(0).add(ifailr).add(0).add(info).record();
+    }
+    lapack.dhsein(side, eigsrc, initv, select, n, h, ldh, wr, wi, vl, ldvl, vr, ldvr, mm, m, work, ifaill, ifailr, info);
+  }
+
+  public void dhsein(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dhsein").add(side).add(eigsrc).add(initv).add(select).add(offsetselect).add(n).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(mm).add(m).add(work).add(offsetwork).add(ifaill).add(offsetifaill).add(ifailr).add(offsetifailr).add(info).record();
+    }
+    lapack.dhsein(side, eigsrc, initv, select, offsetselect, n, h, offseth, ldh, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, ifaill, offsetifaill, ifailr, offsetifailr, info);
+  }
+
+  public void dhseqr(String job, String compz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dhseqr").add(job).add(compz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dhseqr(job, compz, n, ilo, ihi, h, ldh, wr, wi, z, ldz, work, lwork, info);
+  }
+
+  public void dhseqr(String job, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dhseqr").add(job).add(compz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dhseqr(job, compz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public boolean disnan(double din) {
+    return lapack.disnan(din);
+  }
+
+  public void dlabad(org.netlib.util.doubleW small, org.netlib.util.doubleW large) {
+    lapack.dlabad(small, large);
+  }
+
+  public void dlabrd(int m, int n, int nb, double[] a, int lda, double[] d, double[] e, double[] tauq, double[] taup, double[] x, int ldx, double[] y, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlabrd").add(m).add(n).add(nb).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tauq).add(0).add(taup).add(0).add(x).add(0).add(ldx).add(y).add(0).add(ldy).record();
+    }
+    lapack.dlabrd(m, n, nb, a, lda, d, e, tauq, taup, x, ldx, y, ldy);
+  }
+
+  public void dlabrd(int m, int n, int nb, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlabrd").add(m).add(n).add(nb).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tauq).add(offsettauq).add(taup).add(offsettaup).add(x).add(offsetx).add(ldx).add(y).add(offsety).add(ldy).record();
+    }
+    lapack.dlabrd(m, n, nb, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, x, offsetx, ldx, y, offsety, ldy);
+  }
+
+  public void dlacn2(int n, double[] v, double[] x, int[] isgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlacn2").add(n).add(v).add(0).add(x).add(0).add(isgn).add(0).add(est).add(kase).add(isave).add(0).record();
+    }
+    lapack.dlacn2(n, v, x, isgn, est, kase, isave);
+  }
+
+  public void dlacn2(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlacn2").add(n).add(v).add(offsetv).add(x).add(offsetx).add(isgn).add(offsetisgn).add(est).add(kase).add(isave).add(offsetisave).record();
+    }
+    lapack.dlacn2(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase, isave, offsetisave);
+  }
+
+  public void dlacon(int n, double[] v, double[] x, int[] isgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlacon").add(n).add(v).add(0).add(x).add(0).add(isgn).add(0).add(est).add(kase).record();
+    }
+    lapack.dlacon(n, v, x, isgn, est, kase);
+  }
+
+  public void dlacon(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlacon").add(n).add(v).add(offsetv).add(x).add(offsetx).add(isgn).add(offsetisgn).add(est).add(kase).record();
+    }
+    lapack.dlacon(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase);
+  }
+
+  public void dlacpy(String uplo, int m, int n, double[] a, int lda, double[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlacpy").add(uplo).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).record();
+    }
+    lapack.dlacpy(uplo, m, n, a, lda, b, ldb);
+  }
+
+  public void dlacpy(String uplo, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlacpy").add(uplo).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.dlacpy(uplo, m, n, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public void dladiv(double a, double b, double c, double d, org.netlib.util.doubleW p, org.netlib.util.doubleW q) {
+    lapack.dladiv(a, b, c, d, p, q);
+  }
+
+  public void dlae2(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2) {
+    lapack.dlae2(a, b, c, rt1, rt2);
+  }
+
+  public void dlaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, double[] e, double[] e2, int[] nval, double[] ab, double[] c, org.netlib.util.intW mout, int[] nab, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaebz").add(ijob).add(nitmax).add(n).add(mmax).add(minp).add(nbmin).add(abstol).add(reltol).add(pivmin).add(d).add(0).add(e).add(0).add(e2).add(0).add(nval).add(0).add(ab).add(0).add(c).add(0).add(mout).add(nab).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, e, e2, nval, ab, c, mout, nab, work, iwork, info);
+  }
+
+  public void dlaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, int[] nval, int offsetnval, double[] ab, int offsetab, double[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaebz").add(ijob).add(nitmax).add(n).add(mmax).add(minp).add(nbmin).add(abstol).add(reltol).add(pivmin).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(nval).add(offsetnval).add(ab).add(offsetab).add(c).add(offsetc).add(mout).add(nab).add(offsetnab).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, offsetd, e, offsete, e2, offsete2, nval, offsetnval, ab, offsetab, c, offsetc, mout, nab, offsetnab, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlaed0(int icompq, int qsiz, int n, double[] d, double[] e, double[] q, int ldq, double[] qstore, int ldqs, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed0").add(icompq).add(qsiz).add(n).add(d).add(0).add(e).add(0).add(q).add(0).add(ldq).add(qstore).add(0).add(ldqs).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlaed0(icompq, qsiz, n, d, e, q, ldq, qstore, ldqs, work, iwork, info);
+  }
+
+  public void dlaed0(int icompq, int qsiz, int n, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] qstore, int offsetqstore, int ldqs, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed0").add(icompq).add(qsiz).add(n).add(d).add(offsetd).add(e).add(offsete).add(q).add(offsetq).add(ldq).add(qstore).add(offsetqstore).add(ldqs).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlaed0(icompq, qsiz, n, d, offsetd, e, offsete, q, offsetq, ldq, qstore, offsetqstore, ldqs, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlaed1(int n, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed1").add(n).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(cutpnt).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlaed1(n, d, q, ldq, indxq, rho, cutpnt, work, iwork, info);
+  }
+
+  public void dlaed1(int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed1").add(n).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(cutpnt).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlaed1(n, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlaed2(org.netlib.util.intW k, int n, int n1, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, double[] z, double[] dlamda, double[] w, double[] q2, int[] indx, int[] indxc, int[] indxp, int[] coltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed2").add(k).add(n).add(n1).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(z).add(0).add(dlamda).add(0).add(w).add(0).add(q2).add(0).add(indx).add(0).add(indxc).add(0).add(indxp).add(0).add(coltyp).add(0).add(info).record();
+    }
+    lapack.dlaed2(k, n, n1, d, q, ldq, indxq, rho, z, dlamda, w, q2, indx, indxc, indxp, coltyp, info);
+  }
+
+  public void dlaed2(org.netlib.util.intW k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed2").add(k).add(n).add(n1).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(z).add(offsetz).add(dlamda).add(offsetdlamda).add(w).add(offsetw).add(q2).add(offsetq2).add(indx).add(offsetindx).add(indxc).add(offsetindxc).add(indxp).add(offsetindxp).add(coltyp).add(offsetcoltyp).add(info).record();
+    }
+    lapack.dlaed2(k, n, n1, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, z, offsetz, dlamda, offsetdlamda, w, offsetw, q2, offsetq2, indx, offsetindx, indxc, offsetindxc, indxp, offsetindxp, coltyp, offsetcoltyp, info);
+  }
+
+  public void dlaed3(int k, int n, int n1, double[] d, double[] q, int ldq, double rho, double[] dlamda, double[] q2, int[] indx, int[] ctot, double[] w, double[] s, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed3").add(k).add(n).add(n1).add(d).add(0).add(q).add(0).add(ldq).add(rho).add(dlamda).add(0).add(q2).add(0).add(indx).add(0).add(ctot).add(0).add(w).add(0).add(s).add(0).add(info).record();
+    }
+    lapack.dlaed3(k, n, n1, d, q, ldq, rho, dlamda, q2, indx, ctot, w, s, info);
+  }
+
+  public void dlaed3(int k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, double[] w, int offsetw, double[] s, int offsets, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed3").add(k).add(n).add(n1).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(rho).add(dlamda).add(offsetdlamda).add(q2).add(offsetq2).add(indx).add(offsetindx).add(ctot).add(offsetctot).add(w).add(offsetw).add(s).add(offsets).add(info).record();
+    }
+    lapack.dlaed3(k, n, n1, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, q2, offsetq2, indx, offsetindx, ctot, offsetctot, w, offsetw, s, offsets, info);
+  }
+
+  public void dlaed4(int n, int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed4").add(n).add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(dlam).add(info).record();
+    }
+    lapack.dlaed4(n, i, d, z, delta, rho, dlam, info);
+  }
+
+  public void dlaed4(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed4").add(n).add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(dlam).add(info).record();
+    }
+    lapack.dlaed4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam, info);
+  }
+
+  public void dlaed5(int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW dlam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed5").add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(dlam).record();
+    }
+    lapack.dlaed5(i, d, z, delta, rho, dlam);
+  }
+
+  public void dlaed5(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed5").add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(dlam).record();
+    }
+    lapack.dlaed5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam);
+  }
+
+  public void dlaed6(int kniter, boolean orgati, double rho, double[] d, double[] z, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed6").add(kniter).add(orgati).add(rho).add(d).add(0).add(z).add(0).add(finit).add(tau).add(info).record();
+    }
+    lapack.dlaed6(kniter, orgati, rho, d, z, finit, tau, info);
+  }
+
+  public void dlaed6(int kniter, boolean orgati, double rho, double[] d, int offsetd, double[] z, int offsetz, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed6").add(kniter).add(orgati).add(rho).add(d).add(offsetd).add(z).add(offsetz).add(finit).add(tau).add(info).record();
+    }
+    lapack.dlaed6(kniter, orgati, rho, d, offsetd, z, offsetz, finit, tau, info);
+  }
+
+  public void dlaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int[] qptr, int[] prmptr, int[] perm, int[] givptr, int[] givcol, double[] givnum, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed7").add(icompq).add(n).add(qsiz).add(tlvls).add(curlvl).add(curpbm).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(cutpnt).add(qstore).add(0).add(qptr).add(0).add(prmptr).add(0).add(perm).add(0).add(givptr).add(0).add(givcol).add(0).add(givnum).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, q, ldq, indxq, rho, cutpnt, qstore, qptr, prmptr, perm, givptr, givcol, givnum, work, iwork, info);
+  }
+
+  public void dlaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed7").add(icompq).add(n).add(qsiz).add(tlvls).add(curlvl).add(curpbm).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(cutpnt).add(qstore).add(offsetqstore).add(qptr).add(offsetqptr).add(prmptr).add(offsetprmptr).add(perm).add(offsetperm).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(givnum).add(offsetgivnum).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, qstore, offsetqstore, qptr, offsetqptr, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, double[] q, int ldq, int[] indxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, double[] dlamda, double[] q2, int ldq2, double[] w, int[] perm, org.netlib.util.intW givptr, int[] givcol, double[] givnum, int[] indxp, int[] indx, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed8").add(icompq).add(k).add(n).add(qsiz).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(cutpnt).add(z).add(0).add(dlamda).add(0).add(q2).add(0).add(ldq2).add(w).add(0).add(perm).add(0).add(givptr).add(givcol).add(0).add(givnum).add(0).add(indxp).add(0).add(indx).add(0).add(info).record();
+    }
+    lapack.dlaed8(icompq, k, n, qsiz, d, q, ldq, indxq, rho, cutpnt, z, dlamda, q2, ldq2, w, perm, givptr, givcol, givnum, indxp, indx, info);
+  }
+
+  public void dlaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int ldq2, double[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed8").add(icompq).add(k).add(n).add(qsiz).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(cutpnt).add(z).add(offsetz).add(dlamda).add(offsetdlamda).add(q2).add(offsetq2).add(ldq2).add(w).add(offsetw).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(givnum).add(offsetgivnum).add(indxp).add(offsetindxp).add(indx).add(offsetindx).add(info).record();
+    }
+    lapack.dlaed8(icompq, k, n, qsiz, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, z, offsetz, dlamda, offsetdlamda, q2, offsetq2, ldq2, w, offsetw, perm, offsetperm, givptr, givcol, offsetgivcol, givnum, offsetgivnum, indxp, offsetindxp, indx, offsetindx, info);
+  }
+
+  public void dlaed9(int k, int kstart, int kstop, int n, double[] d, double[] q, int ldq, double rho, double[] dlamda, double[] w, double[] s, int lds, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed9").add(k).add(kstart).add(kstop).add(n).add(d).add(0).add(q).add(0).add(ldq).add(rho).add(dlamda).add(0).add(w).add(0).add(s).add(0).add(lds).add(info).record();
+    }
+    lapack.dlaed9(k, kstart, kstop, n, d, q, ldq, rho, dlamda, w, s, lds, info);
+  }
+
+  public void dlaed9(int k, int kstart, int kstop, int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] s, int offsets, int lds, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaed9").add(k).add(kstart).add(kstop).add(n).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(rho).add(dlamda).add(offsetdlamda).add(w).add(offsetw).add(s).add(offsets).add(lds).add(info).record();
+    }
+    lapack.dlaed9(k, kstart, kstop, n, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, w, offsetw, s, offsets, lds, info);
+  }
+
+  public void dlaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int[] perm, int[] givptr, int[] givcol, double[] givnum, double[] q, int[] qptr, double[] z, double[] ztemp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaeda").add(n).add(tlvls).add(curlvl).add(curpbm).add(prmptr).add(0).add(perm).add(0).add(givptr).add(0).add(givcol).add(0).add(givnum).add(0).add(q).add(0).add(qptr).add(0).add(z).add(0).add(ztemp).add(0).add(info).record();
+    }
+    lapack.dlaeda(n, tlvls, curlvl, curpbm, prmptr, perm, givptr, givcol, givnum, q, qptr, z, ztemp, info);
+  }
+
+  public void dlaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] q, int offsetq, int[] qptr, int offsetqptr, double[] z, int offsetz, double[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaeda").add(n).add(tlvls).add(curlvl).add(curpbm).add(prmptr).add(offsetprmptr).add(perm).add(offsetperm).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(givnum).add(offsetgivnum).add(q).add(offsetq).add(qptr).add(offsetqptr).add(z).add(offsetz).add(ztemp).add(offsetztemp).add(info).record();
+    }
+    lapack.dlaeda(n, tlvls, curlvl, curpbm, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, q, offsetq, qptr, offsetqptr, z, offsetz, ztemp, offsetztemp, info);
+  }
+
+  public void dlaein(boolean rightv, boolean noinit, int n, double[] h, int ldh, double wr, double wi, double[] vr, double[] vi, double[] b, int ldb, double[] work, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaein").add(rightv).add(noinit).add(n).add(h).add(0).add(ldh).add(wr).add(wi).add(vr).add(0).add(vi).add(0).add(b).add(0).add(ldb).add(work).add(0).add(eps3).add(smlnum).add(bignum).add(info).record();
+    }
+    lapack.dlaein(rightv, noinit, n, h, ldh, wr, wi, vr, vi, b, ldb, work, eps3, smlnum, bignum, info);
+  }
+
+  public void dlaein(boolean rightv, boolean noinit, int n, double[] h, int offseth, int ldh, double wr, double wi, double[] vr, int offsetvr, double[] vi, int offsetvi, double[] b, int offsetb, int ldb, double[] work, int offsetwork, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaein").add(rightv).add(noinit).add(n).add(h).add(offseth).add(ldh).add(wr).add(wi).add(vr).add(offsetvr).add(vi).add(offsetvi).add(b).add(offsetb).add(ldb).add(work).add(offsetwork).add(eps3).add(smlnum).add(bignum).add(info).record();
+    }
+    lapack.dlaein(rightv, noinit, n, h, offseth, ldh, wr, wi, vr, offsetvr, vi, offsetvi, b, offsetb, ldb, work, offsetwork, eps3, smlnum, bignum, info);
+  }
+
+  public void dlaev2(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2, org.netlib.util.doubleW cs1, org.netlib.util.doubleW sn1) {
+    lapack.dlaev2(a, b, c, rt1, rt2, cs1, sn1);
+  }
+
+  public void dlaexc(boolean wantq, int n, double[] t, int ldt, double[] q, int ldq, int j1, int n1, int n2, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaexc").add(wantq).add(n).add(t).add(0).add(ldt).add(q).add(0).add(ldq).add(j1).add(n1).add(n2).add(work).add(0).add(info).record();
+    }
+    lapack.dlaexc(wantq, n, t, ldt, q, ldq, j1, n1, n2, work, info);
+  }
+
+  public void dlaexc(boolean wantq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, int j1, int n1, int n2, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaexc").add(wantq).add(n).add(t).add(offsett).add(ldt).add(q).add(offsetq).add(ldq).add(j1).add(n1).add(n2).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlaexc(wantq, n, t, offsett, ldt, q, offsetq, ldq, j1, n1, n2, work, offsetwork, info);
+  }
+
+  public void dlag2(double[] a, int lda, double[] b, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlag2").add(a).add(0).add(lda).add(b).add(0).add(ldb).add(safmin).add(scale1).add(scale2).add(wr1).add(wr2).add(wi).record();
+    }
+    lapack.dlag2(a, lda, b, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+  }
+
+  public void dlag2(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlag2").add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(safmin).add(scale1).add(scale2).add(wr1).add(wr2).add(wi).record();
+    }
+    lapack.dlag2(a, offseta, lda, b, offsetb, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+  }
+
+  public void dlag2s(int m, int n, double[] a, int lda, float[] sa, int ldsa, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlag2s").add(m).add(n).add(a).add(0).add(lda).add(sa).add(0).add(ldsa).add(info).record();
+    }
+    lapack.dlag2s(m, n, a, lda, sa, ldsa, info);
+  }
+
+  public void dlag2s(int m, int n, double[] a, int offseta, int lda, float[] sa, int offsetsa, int ldsa, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlag2s").add(m).add(n).add(a).add(offseta).add(lda).add(sa).add(offsetsa).add(ldsa).add(info).record();
+    }
+    lapack.dlag2s(m, n, a, offseta, lda, sa, offsetsa, ldsa, info);
+  }
+
+  public void dlags2(boolean upper, double a1, double a2, double a3, double b1, double b2, double b3, org.netlib.util.doubleW csu, org.netlib.util.doubleW snu, org.netlib.util.doubleW csv, org.netlib.util.doubleW snv, org.netlib.util.doubleW csq, org.netlib.util.doubleW snq) {
+    lapack.dlags2(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+  }
+
+  public void dlagtf(int n, double[] a, double lambda, double[] b, double[] c, double tol, double[] d, int[] in, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagtf").add(n).add(a).add(0).add(lambda).add(b).add(0).add(c).add(0).add(tol).add(d).add(0).add(in).add(0).add(info).record();
+    }
+    lapack.dlagtf(n, a, lambda, b, c, tol, d, in, info);
+  }
+
+  public void dlagtf(int n, double[] a, int offseta, double lambda, double[] b, int offsetb, double[] c, int offsetc, double tol, double[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagtf").add(n).add(a).add(offseta).add(lambda).add(b).add(offsetb).add(c).add(offsetc).add(tol).add(d).add(offsetd).add(in).add(offsetin).add(info).record();
+    }
+    lapack.dlagtf(n, a, offseta, lambda, b, offsetb, c, offsetc, tol, d, offsetd, in, offsetin, info);
+  }
+
+  public void dlagtm(String trans, int n, int nrhs, double alpha, double[] dl, double[] d, double[] du, double[] x, int ldx, double beta, double[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagtm").add(trans).add(n).add(nrhs).add(alpha).add(dl).add(0).add(d).add(0).add(du).add(0).add(x).add(0).add(ldx).add(beta).add(b).add(0).add(ldb).record();
+    }
+    lapack.dlagtm(trans, n, nrhs, alpha, dl, d, du, x, ldx, beta, b, ldb);
+  }
+
+  public void dlagtm(String trans, int n, int nrhs, double alpha, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] x, int offsetx, int ldx, double beta, double[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagtm").add(trans).add(n).add(nrhs).add(alpha).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(x).add(offsetx).add(ldx).add(beta).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.dlagtm(trans, n, nrhs, alpha, dl, offsetdl, d, offsetd, du, offsetdu, x, offsetx, ldx, beta, b, offsetb, ldb);
+  }
+
+  public void dlagts(int job, int n, double[] a, double[] b, double[] c, double[] d, int[] in, double[] y, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagts").add(job).add(n).add(a).add(0).add(b).add(0).add(c).add(0).add(d).add(0).add(in).add(0).add(y).add(0).add(tol).add(info).record();
+    }
+    lapack.dlagts(job, n, a, b, c, d, in, y, tol, info);
+  }
+
+  public void dlagts(int job, int n, double[] a, int offseta, double[] b, int offsetb, double[] c, int offsetc, double[] d, int offsetd, int[] in, int offsetin, double[] y, int offsety, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagts").add(job).add(n).add(a).add(offseta).add(b).add(offsetb).add(c).add(offsetc).add(d).add(offsetd).add(in).add(offsetin).add(y).add(offsety).add(tol).add(info).record();
+    }
+    lapack.dlagts(job, n, a, offseta, b, offsetb, c, offsetc, d, offsetd, in, offsetin, y, offsety, tol, info);
+  }
+
+  public void dlagv2(double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagv2").add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(csl).add(snl).add(csr).add(snr).record();
+    }
+    lapack.dlagv2(a, lda, b, ldb, alphar, alphai, beta, csl, snl, csr, snr);
+  }
+
+  public void dlagv2(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlagv2").add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(csl).add(snl).add(csr).add(snr).record();
+    }
+    lapack.dlagv2(a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, csl, snl, csr, snr);
+  }
+
+  public void dlahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, int iloz, int ihiz, double[] z, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlahqr").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(info).record();
+    }
+    lapack.dlahqr(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, info);
+  }
+
+  public void dlahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlahqr").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(info).record();
+    }
+    lapack.dlahqr(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, info);
+  }
+
+  public void dlahr2(int n, int k, int nb, double[] a, int lda, double[] tau, double[] t, int ldt, double[] y, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlahr2").add(n).add(k).add(nb).add(a).add(0).add(lda).add(tau).add(0).add(t).add(0).add(ldt).add(y).add(0).add(ldy).record();
+    }
+    lapack.dlahr2(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+  }
+
+  public void dlahr2(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlahr2").add(n).add(k).add(nb).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(t).add(offsett).add(ldt).add(y).add(offsety).add(ldy).record();
+    }
+    lapack.dlahr2(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+  }
+
+  public void dlahrd(int n, int k, int nb, double[] a, int lda, double[] tau, double[] t, int ldt, double[] y, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlahrd").add(n).add(k).add(nb).add(a).add(0).add(lda).add(tau).add(0).add(t).add(0).add(ldt).add(y).add(0).add(ldy).record();
+    }
+    lapack.dlahrd(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+  }
+
+  public void dlahrd(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlahrd").add(n).add(k).add(nb).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(t).add(offsett).add(ldt).add(y).add(offsety).add(ldy).record();
+    }
+    lapack.dlahrd(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+  }
+
+  public void dlaic1(int job, int j, double[] x, double sest, double[] w, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaic1").add(job).add(j).add(x).add(0).add(sest).add(w).add(0).add(gamma).add(sestpr).add(s).add(c).record();
+    }
+    lapack.dlaic1(job, j, x, sest, w, gamma, sestpr, s, c);
+  }
+
+  public void dlaic1(int job, int j, double[] x, int offsetx, double sest, double[] w, int offsetw, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaic1").add(job).add(j).add(x).add(offsetx).add(sest).add(w).add(offsetw).add(gamma).add(sestpr).add(s).add(c).record();
+    }
+    lapack.dlaic1(job, j, x, offsetx, sest, w, offsetw, gamma, sestpr, s, c);
+  }
+
+  public boolean dlaisnan(double din1, double din2) {
+    return lapack.dlaisnan(din1, din2);
+  }
+
+  public void dlaln2(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int lda, double d1, double d2, double[] b, int ldb, double wr, double wi, double[] x, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaln2").add(ltrans).add(na).add(nw).add(smin).add(ca).add(a).add(0).add(lda).add(d1).add(d2).add(b).add(0).add(ldb).add(wr).add(wi).add(x).add(0).add(ldx).add(scale).add(xnorm).add(info).record();
+    }
+    lapack.dlaln2(ltrans, na, nw, smin, ca, a, lda, d1, d2, b, ldb, wr, wi, x, ldx, scale, xnorm, info);
+  }
+
+  public void dlaln2(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int offseta, int lda, double d1, double d2, double[] b, int offsetb, int ldb, double wr, double wi, double[] x, int offsetx, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaln2").add(ltrans).add(na).add(nw).add(smin).add(ca).add(a).add(offseta).add(lda).add(d1).add(d2).add(b).add(offsetb).add(ldb).add(wr).add(wi).add(x).add(offsetx).add(ldx).add(scale).add(xnorm).add(info).record();
+    }
+    lapack.dlaln2(ltrans, na, nw, smin, ca, a, offseta, lda, d1, d2, b, offsetb, ldb, wr, wi, x, offsetx, ldx, scale, xnorm, info);
+  }
+
+  public void dlals0(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int ldb, double[] bx, int ldbx, int[] perm, int givptr, int[] givcol, int ldgcol, double[] givnum, int ldgnum, double[] poles, double[] difl, double[] difr, double[] z, int k, double c, double s, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlals0").add(icompq).add(nl).add(nr).add(sqre).add(nrhs).add(b).add(0).add(ldb).add(bx).add(0).add(ldbx).add(perm).add(0).add(givptr).add(givcol).add(0).add(ldgcol).add(givnum).add(0).add(ldgnum).add(poles).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(k).add(c).add(s).add(work).add(0).add(info).record();
+    }
+    lapack.dlals0(icompq, nl, nr, sqre, nrhs, b, ldb, bx, ldbx, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, info);
+  }
+
+  public void dlals0(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, int k, double c, double s, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlals0").add(icompq).add(nl).add(nr).add(sqre).add(nrhs).add(b).add(offsetb).add(ldb).add(bx).add(offsetbx).add(ldbx).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(ldgcol).add(givnum).add(offsetgivnum).add(ldgnum).add(poles).add(offsetpoles).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(k).add(c).add(s).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlals0(icompq, nl, nr, sqre, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, info);
+  }
+
+  public void dlalsa(int icompq, int smlsiz, int n, int nrhs, double[] b, int ldb, double[] bx, int ldbx, double[] u, int ldu, double[] vt, int[] k, double[] difl, double[] difr, double[] z, double[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, double[] givnum, double[] c, double[] s, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlalsa").add(icompq).add(smlsiz).add(n).add(nrhs).add(b).add(0).add(ldb).add(bx).add(0).add(ldbx).add(u).add(0).add(ldu).add(vt).add(0).add(k).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(poles).add(0).add(givptr).add(0).add(givcol).add(0).add(ldgcol).add(perm).add(0).add(givnum).add(0).add(c).add(0).add(s).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlalsa(icompq, smlsiz, n, nrhs, b, ldb, bx, ldbx, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+  }
+
+  public void dlalsa(int icompq, int smlsiz, int n, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlalsa").add(icompq).add(smlsiz).add(n).add(nrhs).add(b).add(offsetb).add(ldb).add(bx).add(offsetbx).add(ldbx).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(k).add(offsetk).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(poles).add(offsetpoles).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(ldgcol).add(perm).add(offsetperm).add(givnum).add(offsetgivnum).add(c).add(offsetc).add(s).add(offsets).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlalsa(icompq, smlsiz, n, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlalsd(String uplo, int smlsiz, int n, int nrhs, double[] d, double[] e, double[] b, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlalsd").add(uplo).add(smlsiz).add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).add(rcond).add(rank).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlalsd(uplo, smlsiz, n, nrhs, d, e, b, ldb, rcond, rank, work, iwork, info);
+  }
+
+  public void dlalsd(String uplo, int smlsiz, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlalsd").add(uplo).add(smlsiz).add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).add(rcond).add(rank).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlalsd(uplo, smlsiz, n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, rcond, rank, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlamrg(int n1, int n2, double[] a, int dtrd1, int dtrd2, int[] index) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlamrg").add(n1).add(n2).add(a).add(0).add(dtrd1).add(dtrd2).add(index).add(0).record();
+    }
+    lapack.dlamrg(n1, n2, a, dtrd1, dtrd2, index);
+  }
+
+  public void dlamrg(int n1, int n2, double[] a, int offseta, int dtrd1, int dtrd2, int[] index, int offsetindex) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlamrg").add(n1).add(n2).add(a).add(offseta).add(dtrd1).add(dtrd2).add(index).add(offsetindex).record();
+    }
+    lapack.dlamrg(n1, n2, a, offseta, dtrd1, dtrd2, index, offsetindex);
+  }
+
+  public int dlaneg(int n, double[] d, double[] lld, double sigma, double pivmin, int r) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaneg").add(n).add(d).add(0).add(lld).add(0).add(sigma).add(pivmin).add(r).record();
+    }
+    return lapack.dlaneg(n, d, lld, sigma, pivmin, r);
+  }
+
+  public int dlaneg(int n, double[] d, int offsetd, double[] lld, int offsetlld, double sigma, double pivmin, int r) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaneg").add(n).add(d).add(offsetd).add(lld).add(offsetlld).add(sigma).add(pivmin).add(r).record();
+    }
+    return lapack.dlaneg(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+  }
+
+  public double dlangb(String norm, int n, int kl, int ku, double[] ab, int ldab, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlangb").add(norm).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(work).add(0).record();
+    }
+    return lapack.dlangb(norm, n, kl, ku, ab, ldab, work);
+  }
+
+  public double dlangb(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlangb").add(norm).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(work).add(offsetwork).record();
+    }
+    return lapack.dlangb(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+  }
+
+  public double dlange(String norm, int m, int n, double[] a, int lda, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlange").add(norm).add(m).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.dlange(norm, m, n, a, lda, work);
+  }
+
+  public double dlange(String norm, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlange").add(norm).add(m).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.dlange(norm, m, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public double dlangt(String norm, int n, double[] dl, double[] d, double[] du) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlangt").add(norm).add(n).add(dl).add(0).add(d).add(0).add(du).add(0).record();
+    }
+    return lapack.dlangt(norm, n, dl, d, du);
+  }
+
+  public double dlangt(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlangt").add(norm).add(n).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).record();
+    }
+    return lapack.dlangt(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+  }
+
+  public double dlanhs(String norm, int n, double[] a, int lda, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlanhs").add(norm).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.dlanhs(norm, n, a, lda, work);
+  }
+
+  public double dlanhs(String norm, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlanhs").add(norm).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.dlanhs(norm, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public double dlansb(String norm, String uplo, int n, int k, double[] ab, int ldab, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlansb").add(norm).add(uplo).add(n).add(k).add(ab).add(0).add(ldab).add(work).add(0).record();
+    }
+    return lapack.dlansb(norm, uplo, n, k, ab, ldab, work);
+  }
+
+  public double dlansb(String norm, String uplo, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlansb").add(norm).add(uplo).add(n).add(k).add(ab).add(offsetab).add(ldab).add(work).add(offsetwork).record();
+    }
+    return lapack.dlansb(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+  }
+
+  public double dlansp(String norm, String uplo, int n, double[] ap, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlansp").add(norm).add(uplo).add(n).add(ap).add(0).add(work).add(0).record();
+    }
+    return lapack.dlansp(norm, uplo, n, ap, work);
+  }
+
+  public double dlansp(String norm, String uplo, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlansp").add(norm).add(uplo).add(n).add(ap).add(offsetap).add(work).add(offsetwork).record();
+    }
+    return lapack.dlansp(norm, uplo, n, ap, offsetap, work, offsetwork);
+  }
+
+  public double dlanst(String norm, int n, double[] d, double[] e) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlanst").add(norm).add(n).add(d).add(0).add(e).add(0).record();
+    }
+    return lapack.dlanst(norm, n, d, e);
+  }
+
+  public double dlanst(String norm, int n, double[] d, int offsetd, double[] e, int offsete) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlanst").add(norm).add(n).add(d).add(offsetd).add(e).add(offsete).record();
+    }
+    return lapack.dlanst(norm, n, d, offsetd, e, offsete);
+  }
+
+  public double dlansy(String norm, String uplo, int n, double[] a, int lda, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlansy").add(norm).add(uplo).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.dlansy(norm, uplo, n, a, lda, work);
+  }
+
+  public double dlansy(String norm, String uplo, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlansy").add(norm).add(uplo).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.dlansy(norm, uplo, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public double dlantb(String norm, String uplo, String diag, int n, int k, double[] ab, int ldab, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlantb").add(norm).add(uplo).add(diag).add(n).add(k).add(ab).add(0).add(ldab).add(work).add(0).record();
+    }
+    return lapack.dlantb(norm, uplo, diag, n, k, ab, ldab, work);
+  }
+
+  public double dlantb(String norm, String uplo, String diag, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlantb").add(norm).add(uplo).add(diag).add(n).add(k).add(ab).add(offsetab).add(ldab).add(work).add(offsetwork).record();
+    }
+    return lapack.dlantb(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+  }
+
+  public double dlantp(String norm, String uplo, String diag, int n, double[] ap, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlantp").add(norm).add(uplo).add(diag).add(n).add(ap).add(0).add(work).add(0).record();
+    }
+    return lapack.dlantp(norm, uplo, diag, n, ap, work);
+  }
+
+  public double dlantp(String norm, String uplo, String diag, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlantp").add(norm).add(uplo).add(diag).add(n).add(ap).add(offsetap).add(work).add(offsetwork).record();
+    }
+    return lapack.dlantp(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+  }
+
+  public double dlantr(String norm, String uplo, String diag, int m, int n, double[] a, int lda, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlantr").add(norm).add(uplo).add(diag).add(m).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.dlantr(norm, uplo, diag, m, n, a, lda, work);
+  }
+
+  public double dlantr(String norm, String uplo, String diag, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlantr").add(norm).add(uplo).add(diag).add(m).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.dlantr(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public void dlanv2(org.netlib.util.doubleW a, org.netlib.util.doubleW b, org.netlib.util.doubleW c, org.netlib.util.doubleW d, org.netlib.util.doubleW rt1r, org.netlib.util.doubleW rt1i, org.netlib.util.doubleW rt2r, org.netlib.util.doubleW rt2i, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn) {
+    lapack.dlanv2(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+  }
+
+  public void dlapll(int n, double[] x, int incx, double[] y, int incy, org.netlib.util.doubleW ssmin) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlapll").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).add(ssmin).record();
+    }
+    lapack.dlapll(n, x, incx, y, incy, ssmin);
+  }
+
+  public void dlapll(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, org.netlib.util.doubleW ssmin) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlapll").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(ssmin).record();
+    }
+    lapack.dlapll(n, x, offsetx, incx, y, offsety, incy, ssmin);
+  }
+
+  public void dlapmt(boolean forwrd, int m, int n, double[] x, int ldx, int[] k) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlapmt").add(forwrd).add(m).add(n).add(x).add(0).add(ldx).add(k).add(0).record();
+    }
+    lapack.dlapmt(forwrd, m, n, x, ldx, k);
+  }
+
+  public void dlapmt(boolean forwrd, int m, int n, double[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlapmt").add(forwrd).add(m).add(n).add(x).add(offsetx).add(ldx).add(k).add(offsetk).record();
+    }
+    lapack.dlapmt(forwrd, m, n, x, offsetx, ldx, k, offsetk);
+  }
+
+  public double dlapy2(double x, double y) {
+    return lapack.dlapy2(x, y);
+  }
+
+  public double dlapy3(double x, double y, double z) {
+    return lapack.dlapy3(x, y, z);
+  }
+
+  public void dlaqgb(int m, int n, int kl, int ku, double[] ab, int ldab, double[] r, double[] c, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqgb").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.dlaqgb(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, equed);
+  }
+
+  public void dlaqgb(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqgb").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.dlaqgb(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+  }
+
+  public void dlaqge(int m, int n, double[] a, int lda, double[] r, double[] c, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqge").add(m).add(n).add(a).add(0).add(lda).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.dlaqge(m, n, a, lda, r, c, rowcnd, colcnd, amax, equed);
+  }
+
+  public void dlaqge(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqge").add(m).add(n).add(a).add(offseta).add(lda).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.dlaqge(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+  }
+
+  public void dlaqp2(int m, int n, int offset, double[] a, int lda, int[] jpvt, double[] tau, double[] vn1, double[] vn2, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqp2").add(m).add(n).add(offset).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(vn1).add(0).add(vn2).add(0).add(work).add(0).record();
+    }
+    lapack.dlaqp2(m, n, offset, a, lda, jpvt, tau, vn1, vn2, work);
+  }
+
+  public void dlaqp2(int m, int n, int offset, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqp2").add(m).add(n).add(offset).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(vn1).add(offsetvn1).add(vn2).add(offsetvn2).add(work).add(offsetwork).record();
+    }
+    lapack.dlaqp2(m, n, offset, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, work, offsetwork);
+  }
+
+  public void dlaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int lda, int[] jpvt, double[] tau, double[] vn1, double[] vn2, double[] auxv, double[] f, int ldf) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqps").add(m).add(n).add(offset).add(nb).add(kb).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(vn1).add(0).add(vn2).add(0).add(auxv).add(0).add(f).add(0).add(ldf).record();
+    }
+    lapack.dlaqps(m, n, offset, nb, kb, a, lda, jpvt, tau, vn1, vn2, auxv, f, ldf);
+  }
+
+  public void dlaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] auxv, int offsetauxv, double[] f, int offsetf, int ldf) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqps").add(m).add(n).add(offset).add(nb).add(kb).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(vn1).add(offsetvn1).add(vn2).add(offsetvn2).add(auxv).add(offsetauxv).add(f).add(offsetf).add(ldf).record();
+    }
+    lapack.dlaqps(m, n, offset, nb, kb, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, auxv, offsetauxv, f, offsetf, ldf);
+  }
+
+  public void dlaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, int iloz, int ihiz, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr0").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dlaqr0(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+  }
+
+  public void dlaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr0").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dlaqr0(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public void dlaqr1(int n, double[] h, int ldh, double sr1, double si1, double sr2, double si2, double[] v) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr1").add(n).add(h).add(0).add(ldh).add(sr1).add(si1).add(sr2).add(si2).add(v).add(0).record();
+    }
+    lapack.dlaqr1(n, h, ldh, sr1, si1, sr2, si2, v);
+  }
+
+  public void dlaqr1(int n, double[] h, int offseth, int ldh, double sr1, double si1, double sr2, double si2, double[] v, int offsetv) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr1").add(n).add(h).add(offseth).add(ldh).add(sr1).add(si1).add(sr2).add(si2).add(v).add(offsetv).record();
+    }
+    lapack.dlaqr1(n, h, offseth, ldh, sr1, si1, sr2, si2, v, offsetv);
+  }
+
+  public void dlaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int ldh, int iloz, int ihiz, double[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, double[] si, double[] v, int ldv, int nh, double[] t, int ldt, int nv, double[] wv, int ldwv, double[] work, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr2").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(0).add(ldh).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(ns).add(nd).add(sr).add(0).add(si).add(0).add(v).add(0).add(ldv).add(nh).add(t).add(0).add(ldt).add(nv).add(wv).add(0).add(ldwv).add(work).add(0).add(lwork).record();
+    }
+    lapack.dlaqr2(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+  }
+
+  public void dlaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr2").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(offseth).add(ldh).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(ns).add(nd).add(sr).add(offsetsr).add(si).add(offsetsi).add(v).add(offsetv).add(ldv).add(nh).add(t).add(offsett).add(ldt).add(nv).add(wv).add(offsetwv).add(ldwv).add(work).add(offsetwork).add(lwork).record();
+    }
+    lapack.dlaqr2(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+  }
+
+  public void dlaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int ldh, int iloz, int ihiz, double[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, double[] si, double[] v, int ldv, int nh, double[] t, int ldt, int nv, double[] wv, int ldwv, double[] work, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr3").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(0).add(ldh).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(ns).add(nd).add(sr).add(0).add(si).add(0).add(v).add(0).add(ldv).add(nh).add(t).add(0).add(ldt).add(nv).add(wv).add(0).add(ldwv).add(work).add(0).add(lwork).record();
+    }
+    lapack.dlaqr3(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+  }
+
+  public void dlaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr3").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(offseth).add(ldh).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(ns).add(nd).add(sr).add(offsetsr).add(si).add(offsetsi).add(v).add(offsetv).add(ldv).add(nh).add(t).add(offsett).add(ldt).add(nv).add(wv).add(offsetwv).add(ldwv).add(work).add(offsetwork).add(lwork).record();
+    }
+    lapack.dlaqr3(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+  }
+
+  public void dlaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int ldh, double[] wr, double[] wi, int iloz, int ihiz, double[] z, int ldz, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr4").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dlaqr4(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+  }
+
+  public void dlaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr4").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dlaqr4(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public void dlaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, double[] si, double[] h, int ldh, int iloz, int ihiz, double[] z, int ldz, double[] v, int ldv, double[] u, int ldu, int nv, double[] wv, int ldwv, int nh, double[] wh, int ldwh) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr5").add(wantt).add(wantz).add(kacc22).add(n).add(ktop).add(kbot).add(nshfts).add(sr).add(0).add(si).add(0).add(h).add(0).add(ldh).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(v).add(0).add(ldv).add(u).add(0).add(ldu).add(nv).add(wv).add(0).add(ldwv).add(nh).add(wh).add(0).add(ldwh).record();
+    }
+    lapack.dlaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, si, h, ldh, iloz, ihiz, z, ldz, v, ldv, u, ldu, nv, wv, ldwv, nh, wh, ldwh);
+  }
+
+  public void dlaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, int offsetsr, double[] si, int offsetsi, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] v, int offsetv, int ldv, double[] u, int offsetu, int ldu, int nv, double[] wv, int offsetwv, int ldwv, int nh, double[] wh, int offsetwh, int ldwh) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqr5").add(wantt).add(wantz).add(kacc22).add(n).add(ktop).add(kbot).add(nshfts).add(sr).add(offsetsr).add(si).add(offsetsi).add(h).add(offseth).add(ldh).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(v).add(offsetv).add(ldv).add(u).add(offsetu).add(ldu).add(nv).add(wv).add(offsetwv).add(ldwv).add(nh).add(wh).add(offsetwh).add(ldwh).record();
+    }
+    lapack.dlaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, offsetsr, si, offsetsi, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, v, offsetv, ldv, u, offsetu, ldu, nv, wv, offsetwv, ldwv, nh, wh, offsetwh, ldwh);
+  }
+
+  public void dlaqsb(String uplo, int n, int kd, double[] ab, int ldab, double[] s, double scond, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqsb").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(s).add(0).add(scond).add(amax).add(equed).record();
+    }
+    lapack.dlaqsb(uplo, n, kd, ab, ldab, s, scond, amax, equed);
+  }
+
+  public void dlaqsb(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqsb").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(s).add(offsets).add(scond).add(amax).add(equed).record();
+    }
+    lapack.dlaqsb(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, equed);
+  }
+
+  public void dlaqsp(String uplo, int n, double[] ap, double[] s, double scond, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqsp").add(uplo).add(n).add(ap).add(0).add(s).add(0).add(scond).add(amax).add(equed).record();
+    }
+    lapack.dlaqsp(uplo, n, ap, s, scond, amax, equed);
+  }
+
+  public void dlaqsp(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqsp").add(uplo).add(n).add(ap).add(offsetap).add(s).add(offsets).add(scond).add(amax).add(equed).record();
+    }
+    lapack.dlaqsp(uplo, n, ap, offsetap, s, offsets, scond, amax, equed);
+  }
+
+  public void dlaqsy(String uplo, int n, double[] a, int lda, double[] s, double scond, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqsy").add(uplo).add(n).add(a).add(0).add(lda).add(s).add(0).add(scond).add(amax).add(equed).record();
+    }
+    lapack.dlaqsy(uplo, n, a, lda, s, scond, amax, equed);
+  }
+
+  public void dlaqsy(String uplo, int n, double[] a, int offseta, int lda, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqsy").add(uplo).add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(scond).add(amax).add(equed).record();
+    }
+    lapack.dlaqsy(uplo, n, a, offseta, lda, s, offsets, scond, amax, equed);
+  }
+
+  public void dlaqtr(boolean ltran, boolean lreal, int n, double[] t, int ldt, double[] b, double w, org.netlib.util.doubleW scale, double[] x, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqtr").add(ltran).add(lreal).add(n).add(t).add(0).add(ldt).add(b).add(0).add(w).add(scale).add(x).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dlaqtr(ltran, lreal, n, t, ldt, b, w, scale, x, work, info);
+  }
+
+  public void dlaqtr(boolean ltran, boolean lreal, int n, double[] t, int offsett, int ldt, double[] b, int offsetb, double w, org.netlib.util.doubleW scale, double[] x, int offsetx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaqtr").add(ltran).add(lreal).add(n).add(t).add(offsett).add(ldt).add(b).add(offsetb).add(w).add(scale).add(x).add(offsetx).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlaqtr(ltran, lreal, n, t, offsett, ldt, b, offsetb, w, scale, x, offsetx, work, offsetwork, info);
+  }
+
+  public void dlar1v(int n, int b1, int bn, double lambda, double[] d, double[] l, double[] ld, double[] lld, double pivmin, double gaptol, double[] z, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlar1v").add(n).add(b1).add(bn).add(lambda).add(d).add(0).add(l).add(0).add(ld).add(0).add(lld).add(0).add(pivmin).add(gaptol).add(z).add(0).add(wantnc).add(negcnt).add(ztz).add(mingma).add(r).add(isuppz).add(0).add(nrminv).add(resid).add(rqcorr).add(work).add(0).record();
+    }
+    lapack.dlar1v(n, b1, bn, lambda, d, l, ld, lld, pivmin, gaptol, z, wantnc, negcnt, ztz, mingma, r, isuppz, nrminv, resid, rqcorr, work);
+  }
+
+  public void dlar1v(int n, int b1, int bn, double lambda, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, double[] lld, int offsetlld, double pivmin, double gaptol, double[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlar1v").add(n).add(b1).add(bn).add(lambda).add(d).add(offsetd).add(l).add(offsetl).add(ld).add(offsetld).add(lld).add(offsetlld).add(pivmin).add(gaptol).add(z).add(offsetz).add(wantnc).add(negcnt).add(ztz).add(mingma).add(r).add(isuppz).add(offsetisuppz).add(nrminv).add(resid).add(rqcorr).add(work).add(offsetwork).record();
+    }
+    lapack.dlar1v(n, b1, bn, lambda, d, offsetd, l, offsetl, ld, offsetld, lld, offsetlld, pivmin, gaptol, z, offsetz, wantnc, negcnt, ztz, mingma, r, isuppz, offsetisuppz, nrminv, resid, rqcorr, work, offsetwork);
+  }
+
+  public void dlar2v(int n, double[] x, double[] y, double[] z, int incx, double[] c, double[] s, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlar2v").add(n).add(x).add(0).add(y).add(0).add(z).add(0).add(incx).add(c).add(0).add(s).add(0).add(incc).record();
+    }
+    lapack.dlar2v(n, x, y, z, incx, c, s, incc);
+  }
+
+  public void dlar2v(int n, double[] x, int offsetx, double[] y, int offsety, double[] z, int offsetz, int incx, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlar2v").add(n).add(x).add(offsetx).add(y).add(offsety).add(z).add(offsetz).add(incx).add(c).add(offsetc).add(s).add(offsets).add(incc).record();
+    }
+    lapack.dlar2v(n, x, offsetx, y, offsety, z, offsetz, incx, c, offsetc, s, offsets, incc);
+  }
+
+  public void dlarf(String side, int m, int n, double[] v, int incv, double tau, double[] c, int Ldc, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarf").add(side).add(m).add(n).add(v).add(0).add(incv).add(tau).add(c).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.dlarf(side, m, n, v, incv, tau, c, Ldc, work);
+  }
+
+  public void dlarf(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarf").add(side).add(m).add(n).add(v).add(offsetv).add(incv).add(tau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.dlarf(side, m, n, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+  }
+
+  public void dlarfb(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int ldv, double[] t, int ldt, double[] c, int Ldc, double[] work, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarfb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(v).add(0).add(ldv).add(t).add(0).add(ldt).add(c).add(0).add(Ldc).add(work).add(0).add(ldwork).record();
+    }
+    lapack.dlarfb(side, trans, direct, storev, m, n, k, v, ldv, t, ldt, c, Ldc, work, ldwork);
+  }
+
+  public void dlarfb(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarfb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(v).add(offsetv).add(ldv).add(t).add(offsett).add(ldt).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(ldwork).record();
+    }
+    lapack.dlarfb(side, trans, direct, storev, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+  }
+
+  public void dlarfg(int n, org.netlib.util.doubleW alpha, double[] x, int incx, org.netlib.util.doubleW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarfg").add(n).add(alpha).add(x).add(0).add(incx).add(tau).record();
+    }
+    lapack.dlarfg(n, alpha, x, incx, tau);
+  }
+
+  public void dlarfg(int n, org.netlib.util.doubleW alpha, double[] x, int offsetx, int incx, org.netlib.util.doubleW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarfg").add(n).add(alpha).add(x).add(offsetx).add(incx).add(tau).record();
+    }
+    lapack.dlarfg(n, alpha, x, offsetx, incx, tau);
+  }
+
+  public void dlarft(String direct, String storev, int n, int k, double[] v, int ldv, double[] tau, double[] t, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarft").add(direct).add(storev).add(n).add(k).add(v).add(0).add(ldv).add(tau).add(0).add(t).add(0).add(ldt).record();
+    }
+    lapack.dlarft(direct, storev, n, k, v, ldv, tau, t, ldt);
+  }
+
+  public void dlarft(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarft").add(direct).add(storev).add(n).add(k).add(v).add(offsetv).add(ldv).add(tau).add(offsettau).add(t).add(offsett).add(ldt).record();
+    }
+    lapack.dlarft(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+  }
+
+  public void dlarfx(String side, int m, int n, double[] v, double tau, double[] c, int Ldc, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarfx").add(side).add(m).add(n).add(v).add(0).add(tau).add(c).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.dlarfx(side, m, n, v, tau, c, Ldc, work);
+  }
+
+  public void dlarfx(String side, int m, int n, double[] v, int offsetv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarfx").add(side).add(m).add(n).add(v).add(offsetv).add(tau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.dlarfx(side, m, n, v, offsetv, tau, c, offsetc, Ldc, work, offsetwork);
+  }
+
+  public void dlargv(int n, double[] x, int incx, double[] y, int incy, double[] c, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlargv").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).add(c).add(0).add(incc).record();
+    }
+    lapack.dlargv(n, x, incx, y, incy, c, incc);
+  }
+
+  public void dlargv(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlargv").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(c).add(offsetc).add(incc).record();
+    }
+    lapack.dlargv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, incc);
+  }
+
+  public void dlarnv(int idist, int[] iseed, int n, double[] x) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarnv").add(idist).add(iseed).add(0).add(n).add(x).add(0).record();
+    }
+    lapack.dlarnv(idist, iseed, n, x);
+  }
+
+  public void dlarnv(int idist, int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarnv").add(idist).add(iseed).add(offsetiseed).add(n).add(x).add(offsetx).record();
+    }
+    lapack.dlarnv(idist, iseed, offsetiseed, n, x, offsetx);
+  }
+
+  public void dlarra(int n, double[] d, double[] e, double[] e2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarra").add(n).add(d).add(0).add(e).add(0).add(e2).add(0).add(spltol).add(tnrm).add(nsplit).add(isplit).add(0).add(info).record();
+    }
+    lapack.dlarra(n, d, e, e2, spltol, tnrm, nsplit, isplit, info);
+  }
+
+  public void dlarra(int n, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarra").add(n).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(spltol).add(tnrm).add(nsplit).add(isplit).add(offsetisplit).add(info).record();
+    }
+    lapack.dlarra(n, d, offsetd, e, offsete, e2, offsete2, spltol, tnrm, nsplit, isplit, offsetisplit, info);
+  }
+
+  public void dlarrb(int n, double[] d, double[] lld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, double[] wgap, double[] werr, double[] work, int[] iwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrb").add(n).add(d).add(0).add(lld).add(0).add(ifirst).add(ilast).add(rtol1).add(rtol2).add(offset).add(w).add(0).add(wgap).add(0).add(werr).add(0).add(work).add(0).add(iwork).add(0).add(pivmin).add(spdiam).add(twist).add(info).record();
+    }
+    lapack.dlarrb(n, d, lld, ifirst, ilast, rtol1, rtol2, offset, w, wgap, werr, work, iwork, pivmin, spdiam, twist, info);
+  }
+
+  public void dlarrb(int n, double[] d, int offsetd, double[] lld, int offsetlld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrb").add(n).add(d).add(offsetd).add(lld).add(offsetlld).add(ifirst).add(ilast).add(rtol1).add(rtol2).add(offset).add(w).add(offsetw).add(wgap).add(offsetwgap).add(werr).add(offsetwerr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(pivmin).add(spdiam).add(twist).add(info).record();
+    }
+    lapack.dlarrb(n, d, offsetd, lld, offsetlld, ifirst, ilast, rtol1, rtol2, offset, w, offsetw, wgap, offsetwgap, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, twist, info);
+  }
+
+  public void dlarrc(String jobt, int n, double vl, double vu, double[] d, double[] e, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrc").add(jobt).add(n).add(vl).add(vu).add(d).add(0).add(e).add(0).add(pivmin).add(eigcnt).add(lcnt).add(rcnt).add(info).record();
+    }
+    lapack.dlarrc(jobt, n, vl, vu, d, e, pivmin, eigcnt, lcnt, rcnt, info);
+  }
+
+  public void dlarrc(String jobt, int n, double vl, double vu, double[] d, int offsetd, double[] e, int offsete, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrc").add(jobt).add(n).add(vl).add(vu).add(d).add(offsetd).add(e).add(offsete).add(pivmin).add(eigcnt).add(lcnt).add(rcnt).add(info).record();
+    }
+    lapack.dlarrc(jobt, n, vl, vu, d, offsetd, e, offsete, pivmin, eigcnt, lcnt, rcnt, info);
+  }
+
+  public void dlarrd(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, double reltol, double[] d, double[] e, double[] e2, double pivmin, int nsplit, int[] isplit, org.netlib.util.intW m, double[] w, double[] werr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int[] indexw, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrd").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(gers).add(0).add(reltol).add(d).add(0).add(e).add(0).add(e2).add(0).add(pivmin).add(nsplit).add(isplit).add(0).add(m).add(w).add(0).add(werr).add(0).add(wl).add(wu).add(iblock).add(0).add(indexw).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlarrd(range, order, n, vl, vu, il, iu, gers, reltol, d, e, e2, pivmin, nsplit, isplit, m, w, werr, wl, wu, iblock, indexw, work, iwork, info);
+  }
+
+  public void dlarrd(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, int offsetgers, double reltol, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrd").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(gers).add(offsetgers).add(reltol).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(pivmin).add(nsplit).add(isplit).add(offsetisplit).add(m).add(w).add(offsetw).add(werr).add(offsetwerr).add(wl).add(wu).add(iblock).add(offsetiblock).add(indexw).add(offsetindexw).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlarrd(range, order, n, vl, vu, il, iu, gers, offsetgers, reltol, d, offsetd, e, offsete, e2, offsete2, pivmin, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wl, wu, iblock, offsetiblock, indexw, offsetindexw, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlarre(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, double[] e, double[] e2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW m, double[] w, double[] werr, double[] wgap, int[] iblock, int[] indexw, double[] gers, org.netlib.util.doubleW pivmin, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarre").add(range).add(n).add(vl).add(vu).add(il).add(iu).add(d).add(0).add(e).add(0).add(e2).add(0).add(rtol1).add(rtol2).add(spltol).add(nsplit).add(isplit).add(0).add(m).add(w).add(0).add(werr).add(0).add(wgap).add(0).add(iblock).add(0).add(indexw).add(0).add(gers).add(0).add(pivmin).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlarre(range, n, vl, vu, il, iu, d, e, e2, rtol1, rtol2, spltol, nsplit, isplit, m, w, werr, wgap, iblock, indexw, gers, pivmin, work, iwork, info);
+  }
+
+  public void dlarre(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, org.netlib.util.doubleW pivmin, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarre").add(range).add(n).add(vl).add(vu).add(il).add(iu).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(rtol1).add(rtol2).add(spltol).add(nsplit).add(isplit).add(offsetisplit).add(m).add(w).add(offsetw).add(werr).add(offsetwerr).add(wgap).add(offsetwgap).add(iblock).add(offsetiblock).add(indexw).add(offsetindexw).add(gers).add(offsetgers).add(pivmin).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlarre(range, n, vl, vu, il, iu, d, offsetd, e, offsete, e2, offsete2, rtol1, rtol2, spltol, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, pivmin, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlarrf(int n, double[] d, double[] l, double[] ld, int clstrt, int clend, double[] w, double[] wgap, double[] werr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, double[] lplus, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrf").add(n).add(d).add(0).add(l).add(0).add(ld).add(0).add(clstrt).add(clend).add(w).add(0).add(wgap).add(0).add(werr).add(0).add(spdiam).add(clgapl).add(clgapr).add(pivmin).add(sigma).add(dplus).add(0).add(lplus).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dlarrf(n, d, l, ld, clstrt, clend, w, wgap, werr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, lplus, work, info);
+  }
+
+  public void dlarrf(int n, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, int clstrt, int clend, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, int offsetdplus, double[] lplus, int offsetlplus, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrf").add(n).add(d).add(offsetd).add(l).add(offsetl).add(ld).add(offsetld).add(clstrt).add(clend).add(w).add(offsetw).add(wgap).add(offsetwgap).add(werr).add(offsetwerr).add(spdiam).add(clgapl).add(clgapr).add(pivmin).add(sigma).add(dplus).add(offsetdplus).add(lplus).add(offsetlplus).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlarrf(n, d, offsetd, l, offsetl, ld, offsetld, clstrt, clend, w, offsetw, wgap, offsetwgap, werr, offsetwerr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, offsetdplus, lplus, offsetlplus, work, offsetwork, info);
+  }
+
+  public void dlarrj(int n, double[] d, double[] e2, int ifirst, int ilast, double rtol, int offset, double[] w, double[] werr, double[] work, int[] iwork, double pivmin, double spdiam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrj").add(n).add(d).add(0).add(e2).add(0).add(ifirst).add(ilast).add(rtol).add(offset).add(w).add(0).add(werr).add(0).add(work).add(0).add(iwork).add(0).add(pivmin).add(spdiam).add(info).record();
+    }
+    lapack.dlarrj(n, d, e2, ifirst, ilast, rtol, offset, w, werr, work, iwork, pivmin, spdiam, info);
+  }
+
+  public void dlarrj(int n, double[] d, int offsetd, double[] e2, int offsete2, int ifirst, int ilast, double rtol, int offset, double[] w, int offsetw, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrj").add(n).add(d).add(offsetd).add(e2).add(offsete2).add(ifirst).add(ilast).add(rtol).add(offset).add(w).add(offsetw).add(werr).add(offsetwerr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(pivmin).add(spdiam).add(info).record();
+    }
+    lapack.dlarrj(n, d, offsetd, e2, offsete2, ifirst, ilast, rtol, offset, w, offsetw, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, info);
+  }
+
+  public void dlarrk(int n, int iw, double gl, double gu, double[] d, double[] e2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrk").add(n).add(iw).add(gl).add(gu).add(d).add(0).add(e2).add(0).add(pivmin).add(reltol).add(w).add(werr).add(info).record();
+    }
+    lapack.dlarrk(n, iw, gl, gu, d, e2, pivmin, reltol, w, werr, info);
+  }
+
+  public void dlarrk(int n, int iw, double gl, double gu, double[] d, int offsetd, double[] e2, int offsete2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrk").add(n).add(iw).add(gl).add(gu).add(d).add(offsetd).add(e2).add(offsete2).add(pivmin).add(reltol).add(w).add(werr).add(info).record();
+    }
+    lapack.dlarrk(n, iw, gl, gu, d, offsetd, e2, offsete2, pivmin, reltol, w, werr, info);
+  }
+
+  public void dlarrr(int n, double[] d, double[] e, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrr").add(n).add(d).add(0).add(e).add(0).add(info).record();
+    }
+    lapack.dlarrr(n, d, e, info);
+  }
+
+  public void dlarrr(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrr").add(n).add(d).add(offsetd).add(e).add(offsete).add(info).record();
+    }
+    lapack.dlarrr(n, d, offsetd, e, offsete, info);
+  }
+
+  public void dlarrv(int n, double vl, double vu, double[] d, double[] l, double pivmin, int[] isplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, double[] werr, double[] wgap, int[] iblock, int[] indexw, double[] gers, double[] z, int ldz, int[] isuppz, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrv").add(n).add(vl).add(vu).add(d).add(0).add(l).add(0).add(pivmin).add(isplit).add(0).add(m).add(dol).add(dou).add(minrgp).add(rtol1).add(rtol2).add(w).add(0).add(werr).add(0).add(wgap).add(0).add(iblock).add(0).add(indexw).add(0).add(gers).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlarrv(n, vl, vu, d, l, pivmin, isplit, m, dol, dou, minrgp, rtol1, rtol2, w, werr, wgap, iblock, indexw, gers, z, ldz, isuppz, work, iwork, info);
+  }
+
+  public void dlarrv(int n, double vl, double vu, double[] d, int offsetd, double[] l, int offsetl, double pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarrv").add(n).add(vl).add(vu).add(d).add(offsetd).add(l).add(offsetl).add(pivmin).add(isplit).add(offsetisplit).add(m).add(dol).add(dou).add(minrgp).add(rtol1).add(rtol2).add(w).add(offsetw).add(werr).add(offsetwerr).add(wgap).add(offsetwgap).add(iblock).add(offsetiblock).add(indexw).add(offsetindexw).add(gers).add(offsetgers).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlarrv(n, vl, vu, d, offsetd, l, offsetl, pivmin, isplit, offsetisplit, m, dol, dou, minrgp, rtol1, rtol2, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlartg(double f, double g, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn, org.netlib.util.doubleW r) {
+    lapack.dlartg(f, g, cs, sn, r);
+  }
+
+  public void dlartv(int n, double[] x, int incx, double[] y, int incy, double[] c, double[] s, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlartv").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).add(c).add(0).add(s).add(0).add(incc).record();
+    }
+    lapack.dlartv(n, x, incx, y, incy, c, s, incc);
+  }
+
+  public void dlartv(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlartv").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(c).add(offsetc).add(s).add(offsets).add(incc).record();
+    }
+    lapack.dlartv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, s, offsets, incc);
+  }
+
+  public void dlaruv(int[] iseed, int n, double[] x) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaruv").add(iseed).add(0).add(n).add(x).add(0).record();
+    }
+    lapack.dlaruv(iseed, n, x);
+  }
+
+  public void dlaruv(int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaruv").add(iseed).add(offsetiseed).add(n).add(x).add(offsetx).record();
+    }
+    lapack.dlaruv(iseed, offsetiseed, n, x, offsetx);
+  }
+
+  public void dlarz(String side, int m, int n, int l, double[] v, int incv, double tau, double[] c, int Ldc, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarz").add(side).add(m).add(n).add(l).add(v).add(0).add(incv).add(tau).add(c).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.dlarz(side, m, n, l, v, incv, tau, c, Ldc, work);
+  }
+
+  public void dlarz(String side, int m, int n, int l, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarz").add(side).add(m).add(n).add(l).add(v).add(offsetv).add(incv).add(tau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.dlarz(side, m, n, l, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+  }
+
+  public void dlarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int ldv, double[] t, int ldt, double[] c, int Ldc, double[] work, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarzb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(l).add(v).add(0).add(ldv).add(t).add(0).add(ldt).add(c).add(0).add(Ldc).add(work).add(0).add(ldwork).record();
+    }
+    lapack.dlarzb(side, trans, direct, storev, m, n, k, l, v, ldv, t, ldt, c, Ldc, work, ldwork);
+  }
+
+  public void dlarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarzb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(l).add(v).add(offsetv).add(ldv).add(t).add(offsett).add(ldt).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(ldwork).record();
+    }
+    lapack.dlarzb(side, trans, direct, storev, m, n, k, l, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+  }
+
+  public void dlarzt(String direct, String storev, int n, int k, double[] v, int ldv, double[] tau, double[] t, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarzt").add(direct).add(storev).add(n).add(k).add(v).add(0).add(ldv).add(tau).add(0).add(t).add(0).add(ldt).record();
+    }
+    lapack.dlarzt(direct, storev, n, k, v, ldv, tau, t, ldt);
+  }
+
+  public void dlarzt(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlarzt").add(direct).add(storev).add(n).add(k).add(v).add(offsetv).add(ldv).add(tau).add(offsettau).add(t).add(offsett).add(ldt).record();
+    }
+    lapack.dlarzt(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+  }
+
+  public void dlas2(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax) {
+    lapack.dlas2(f, g, h, ssmin, ssmax);
+  }
+
+  public void dlascl(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlascl").add(type).add(kl).add(ku).add(cfrom).add(cto).add(m).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dlascl(type, kl, ku, cfrom, cto, m, n, a, lda, info);
+  }
+
+  public void dlascl(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlascl").add(type).add(kl).add(ku).add(cfrom).add(cto).add(m).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dlascl(type, kl, ku, cfrom, cto, m, n, a, offseta, lda, info);
+  }
+
+  public void dlasd0(int n, int sqre, double[] d, double[] e, double[] u, int ldu, double[] vt, int ldvt, int smlsiz, int[] iwork, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd0").add(n).add(sqre).add(d).add(0).add(e).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(smlsiz).add(iwork).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dlasd0(n, sqre, d, e, u, ldu, vt, ldvt, smlsiz, iwork, work, info);
+  }
+
+  public void dlasd0(int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd0").add(n).add(sqre).add(d).add(offsetd).add(e).add(offsete).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(smlsiz).add(iwork).add(offsetiwork).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlasd0(n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, smlsiz, iwork, offsetiwork, work, offsetwork, info);
+  }
+
+  public void dlasd1(int nl, int nr, int sqre, double[] d, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int ldu, double[] vt, int ldvt, int[] idxq, int[] iwork, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd1").add(nl).add(nr).add(sqre).add(d).add(0).add(alpha).add(beta).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(idxq).add(0).add(iwork).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dlasd1(nl, nr, sqre, d, alpha, beta, u, ldu, vt, ldvt, idxq, iwork, work, info);
+  }
+
+  public void dlasd1(int nl, int nr, int sqre, double[] d, int offsetd, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd1").add(nl).add(nr).add(sqre).add(d).add(offsetd).add(alpha).add(beta).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(idxq).add(offsetidxq).add(iwork).add(offsetiwork).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlasd1(nl, nr, sqre, d, offsetd, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, iwork, offsetiwork, work, offsetwork, info);
+  }
+
+  public void dlasd2(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, double[] z, double alpha, double beta, double[] u, int ldu, double[] vt, int ldvt, double[] dsigma, double[] u2, int ldu2, double[] vt2, int ldvt2, int[] idxp, int[] idx, int[] idxc, int[] idxq, int[] coltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd2").add(nl).add(nr).add(sqre).add(k).add(d).add(0).add(z).add(0).add(alpha).add(beta).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(dsigma).add(0).add(u2).add(0).add(ldu2).add(vt2).add(0).add(ldvt2).add(idxp).add(0).add(idx).add(0).add(idxc).add(0).add(idxq).add(0).add(coltyp).add(0).add(info).record();
+    }
+    lapack.dlasd2(nl, nr, sqre, k, d, z, alpha, beta, u, ldu, vt, ldvt, dsigma, u2, ldu2, vt2, ldvt2, idxp, idx, idxc, idxq, coltyp, info);
+  }
+
+  public void dlasd2(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double alpha, double beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] dsigma, int offsetdsigma, double[] u2, int offsetu2, int ldu2, double[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd2").add(nl).add(nr).add(sqre).add(k).add(d).add(offsetd).add(z).add(offsetz).add(alpha).add(beta).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(dsigma).add(offsetdsigma).add(u2).add(offsetu2).add(ldu2).add(vt2).add(offsetvt2).add(ldvt2).add(idxp).add(offsetidxp).add(idx).add(offsetidx).add(idxc).add(offsetidxc).add(idxq).add(offsetidxq).add(coltyp).add(offsetcoltyp).add(info).record();
+    }
+    lapack.dlasd2(nl, nr, sqre, k, d, offsetd, z, offsetz, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, offsetdsigma, u2, offsetu2, ldu2, vt2, offsetvt2, ldvt2, idxp, offsetidxp, idx, offsetidx, idxc, offsetidxc, idxq, offsetidxq, coltyp, offsetcoltyp, info);
+  }
+
+  public void dlasd3(int nl, int nr, int sqre, int k, double[] d, double[] q, int ldq, double[] dsigma, double[] u, int ldu, double[] u2, int ldu2, double[] vt, int ldvt, double[] vt2, int ldvt2, int[] idxc, int[] ctot, double[] z, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd3").add(nl).add(nr).add(sqre).add(k).add(d).add(0).add(q).add(0).add(ldq).add(dsigma).add(0).add(u).add(0).add(ldu).add(u2).add(0).add(ldu2).add(vt).add(0).add(ldvt).add(vt2).add(0).add(ldvt2).add(idxc).add(0).add(ctot).add(0).add(z).add(0).add(info).record();
+    }
+    lapack.dlasd3(nl, nr, sqre, k, d, q, ldq, dsigma, u, ldu, u2, ldu2, vt, ldvt, vt2, ldvt2, idxc, ctot, z, info);
+  }
+
+  public void dlasd3(int nl, int nr, int sqre, int k, double[] d, int offsetd, double[] q, int offsetq, int ldq, double[] dsigma, int offsetdsigma, double[] u, int offsetu, int ldu, double[] u2, int offsetu2, int ldu2, double[] vt, int offsetvt, int ldvt, double[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, double[] z, int offsetz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd3").add(nl).add(nr).add(sqre).add(k).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(dsigma).add(offsetdsigma).add(u).add(offsetu).add(ldu).add(u2).add(offsetu2).add(ldu2).add(vt).add(offsetvt).add(ldvt).add(vt2).add(offsetvt2).add(ldvt2).add(idxc).add(offsetidxc).add(ctot).add(offsetctot).add(z).add(offsetz).add(info).record();
+    }
+    lapack.dlasd3(nl, nr, sqre, k, d, offsetd, q, offsetq, ldq, dsigma, offsetdsigma, u, offsetu, ldu, u2, offsetu2, ldu2, vt, offsetvt, ldvt, vt2, offsetvt2, ldvt2, idxc, offsetidxc, ctot, offsetctot, z, offsetz, info);
+  }
+
+  public void dlasd4(int n, int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW sigma, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd4").add(n).add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(sigma).add(work).add(0).add(info).record();
+    }
+    lapack.dlasd4(n, i, d, z, delta, rho, sigma, work, info);
+  }
+
+  public void dlasd4(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW sigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd4").add(n).add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(sigma).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlasd4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, sigma, work, offsetwork, info);
+  }
+
+  public void dlasd5(int i, double[] d, double[] z, double[] delta, double rho, org.netlib.util.doubleW dsigma, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd5").add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(dsigma).add(work).add(0).record();
+    }
+    lapack.dlasd5(i, d, z, delta, rho, dsigma, work);
+  }
+
+  public void dlasd5(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dsigma, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd5").add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(dsigma).add(work).add(offsetwork).record();
+    }
+    lapack.dlasd5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dsigma, work, offsetwork);
+  }
+
+  public void dlasd6(int icompq, int nl, int nr, int sqre, double[] d, double[] vf, double[] vl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, double[] givnum, int ldgnum, double[] poles, double[] difl, double[] difr, double[] z, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd6").add(icompq).add(nl).add(nr).add(sqre).add(d).add(0).add(vf).add(0).add(vl).add(0).add(alpha).add(beta).add(idxq).add(0).add(perm).add(0).add(givptr).add(givcol).add(0).add(ldgcol).add(givnum).add(0).add(ldgnum).add(poles).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(k).add(c).add(s).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlasd6(icompq, nl, nr, sqre, d, vf, vl, alpha, beta, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, iwork, info);
+  }
+
+  public void dlasd6(int icompq, int nl, int nr, int sqre, double[] d, int offsetd, double[] vf, int offsetvf, double[] vl, int offsetvl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd6").add(icompq).add(nl).add(nr).add(sqre).add(d).add(offsetd).add(vf).add(offsetvf).add(vl).add(offsetvl).add(alpha).add(beta).add(idxq).add(offsetidxq).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(ldgcol).add(givnum).add(offsetgivnum).add(ldgnum).add(poles).add(offsetpoles).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(k).add(c).add(s).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlasd6(icompq, nl, nr, sqre, d, offsetd, vf, offsetvf, vl, offsetvl, alpha, beta, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, double[] z, double[] zw, double[] vf, double[] vfw, double[] vl, double[] vlw, double alpha, double beta, double[] dsigma, int[] idx, int[] idxp, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, double[] givnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd7").add(icompq).add(nl).add(nr).add(sqre).add(k).add(d).add(0).add(z).add(0).add(zw).add(0).add(vf).add(0).add(vfw).add(0).add(vl).add(0).add(vlw).add(0).add(alpha).add(beta).add(dsigma).add(0).add(idx).add(0).add(idxp).add(0).add(idxq).add(0).add(perm).add(0).add(givptr).add(givcol).add(0).add(ldgcol).add(givnum).add(0).add(ldgnum).add(c).add(s).add(info).record();
+    }
+    lapack.dlasd7(icompq, nl, nr, sqre, k, d, z, zw, vf, vfw, vl, vlw, alpha, beta, dsigma, idx, idxp, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, c, s, info);
+  }
+
+  public void dlasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double[] zw, int offsetzw, double[] vf, int offsetvf, double[] vfw, int offsetvfw, double[] vl, int offsetvl, double[] vlw, int offsetvlw, double alpha, double beta, double[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd7").add(icompq).add(nl).add(nr).add(sqre).add(k).add(d).add(offsetd).add(z).add(offsetz).add(zw).add(offsetzw).add(vf).add(offsetvf).add(vfw).add(offsetvfw).add(vl).add(offsetvl).add(vlw).add(offsetvlw).add(alpha).add(beta).add(dsigma).add(offsetdsigma).add(idx).add(offsetidx).add(idxp).add(offsetidxp).add(idxq).add(offsetidxq).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(ldgcol).add(givnum).add(offsetgivnum).add(ldgnum).add(c).add(s).add(info).record();
+    }
+    lapack.dlasd7(icompq, nl, nr, sqre, k, d, offsetd, z, offsetz, zw, offsetzw, vf, offsetvf, vfw, offsetvfw, vl, offsetvl, vlw, offsetvlw, alpha, beta, dsigma, offsetdsigma, idx, offsetidx, idxp, offsetidxp, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, c, s, info);
+  }
+
+  public void dlasd8(int icompq, int k, double[] d, double[] z, double[] vf, double[] vl, double[] difl, double[] difr, int lddifr, double[] dsigma, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd8").add(icompq).add(k).add(d).add(0).add(z).add(0).add(vf).add(0).add(vl).add(0).add(difl).add(0).add(difr).add(0).add(lddifr).add(dsigma).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dlasd8(icompq, k, d, z, vf, vl, difl, difr, lddifr, dsigma, work, info);
+  }
+
+  public void dlasd8(int icompq, int k, double[] d, int offsetd, double[] z, int offsetz, double[] vf, int offsetvf, double[] vl, int offsetvl, double[] difl, int offsetdifl, double[] difr, int offsetdifr, int lddifr, double[] dsigma, int offsetdsigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasd8").add(icompq).add(k).add(d).add(offsetd).add(z).add(offsetz).add(vf).add(offsetvf).add(vl).add(offsetvl).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(lddifr).add(dsigma).add(offsetdsigma).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlasd8(icompq, k, d, offsetd, z, offsetz, vf, offsetvf, vl, offsetvl, difl, offsetdifl, difr, offsetdifr, lddifr, dsigma, offsetdsigma, work, offsetwork, info);
+  }
+
+  public void dlasda(int icompq, int smlsiz, int n, int sqre, double[] d, double[] e, double[] u, int ldu, double[] vt, int[] k, double[] difl, double[] difr, double[] z, double[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, double[] givnum, double[] c, double[] s, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasda").add(icompq).add(smlsiz).add(n).add(sqre).add(d).add(0).add(e).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(k).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(poles).add(0).add(givptr).add(0).add(givcol).add(0).add(ldgcol).add(perm).add(0).add(givnum).add(0).add(c).add(0).add(s).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dlasda(icompq, smlsiz, n, sqre, d, e, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+  }
+
+  public void dlasda(int icompq, int smlsiz, int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasda").add(icompq).add(smlsiz).add(n).add(sqre).add(d).add(offsetd).add(e).add(offsete).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(k).add(offsetk).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(poles).add(offsetpoles).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(ldgcol).add(perm).add(offsetperm).add(givnum).add(offsetgivnum).add(c).add(offsetc).add(s).add(offsets).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dlasda(icompq, smlsiz, n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dlasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, double[] e, double[] vt, int ldvt, double[] u, int ldu, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasdq").add(uplo).add(sqre).add(n).add(ncvt).add(nru).add(ncc).add(d).add(0).add(e).add(0).add(vt).add(0).add(ldvt).add(u).add(0).add(ldu).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dlasdq(uplo, sqre, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+  }
+
+  public void dlasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasdq").add(uplo).add(sqre).add(n).add(ncvt).add(nru).add(ncc).add(d).add(offsetd).add(e).add(offsete).add(vt).add(offsetvt).add(ldvt).add(u).add(offsetu).add(ldu).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlasdq(uplo, sqre, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dlasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int[] ndiml, int[] ndimr, int msub) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasdt").add(n).add(lvl).add(nd).add(inode).add(0).add(ndiml).add(0).add(ndimr).add(0).add(msub).record();
+    }
+    lapack.dlasdt(n, lvl, nd, inode, ndiml, ndimr, msub);
+  }
+
+  public void dlasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasdt").add(n).add(lvl).add(nd).add(inode).add(offsetinode).add(ndiml).add(offsetndiml).add(ndimr).add(offsetndimr).add(msub).record();
+    }
+    lapack.dlasdt(n, lvl, nd, inode, offsetinode, ndiml, offsetndiml, ndimr, offsetndimr, msub);
+  }
+
+  public void dlaset(String uplo, int m, int n, double alpha, double beta, double[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaset").add(uplo).add(m).add(n).add(alpha).add(beta).add(a).add(0).add(lda).record();
+    }
+    lapack.dlaset(uplo, m, n, alpha, beta, a, lda);
+  }
+
+  public void dlaset(String uplo, int m, int n, double alpha, double beta, double[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaset").add(uplo).add(m).add(n).add(alpha).add(beta).add(a).add(offseta).add(lda).record();
+    }
+    lapack.dlaset(uplo, m, n, alpha, beta, a, offseta, lda);
+  }
+
+  public void dlasq1(int n, double[] d, double[] e, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq1").add(n).add(d).add(0).add(e).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dlasq1(n, d, e, work, info);
+  }
+
+  public void dlasq1(int n, double[] d, int offsetd, double[] e, int offsete, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq1").add(n).add(d).add(offsetd).add(e).add(offsete).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dlasq1(n, d, offsetd, e, offsete, work, offsetwork, info);
+  }
+
+  public void dlasq2(int n, double[] z, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq2").add(n).add(z).add(0).add(info).record();
+    }
+    lapack.dlasq2(n, z, info);
+  }
+
+  public void dlasq2(int n, double[] z, int offsetz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq2").add(n).add(z).add(offsetz).add(info).record();
+    }
+    lapack.dlasq2(n, z, offsetz, info);
+  }
+
+  public void dlasq3(int i0, org.netlib.util.intW n0, double[] z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq3").add(i0).add(n0).add(z).add(0).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).record();
+    }
+    lapack.dlasq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+  }
+
+  public void dlasq3(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq3").add(i0).add(n0).add(z).add(offsetz).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).record();
+    }
+    lapack.dlasq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+  }
+
+  public void dlasq4(int i0, int n0, double[] z, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq4").add(i0).add(n0).add(z).add(0).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).record();
+    }
+    lapack.dlasq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+  }
+
+  public void dlasq4(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq4").add(i0).add(n0).add(z).add(offsetz).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).record();
+    }
+    lapack.dlasq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+  }
+
+  public void dlasq5(int i0, int n0, double[] z, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq5").add(i0).add(n0).add(z).add(0).add(pp).add(tau).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).add(ieee).record();
+    }
+    lapack.dlasq5(i0, n0, z, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+  }
+
+  public void dlasq5(int i0, int n0, double[] z, int offsetz, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq5").add(i0).add(n0).add(z).add(offsetz).add(pp).add(tau).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).add(ieee).record();
+    }
+    lapack.dlasq5(i0, n0, z, offsetz, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+  }
+
+  public void dlasq6(int i0, int n0, double[] z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq6").add(i0).add(n0).add(z).add(0).add(pp).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).record();
+    }
+    lapack.dlasq6(i0, n0, z, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+  }
+
+  public void dlasq6(int i0, int n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasq6").add(i0).add(n0).add(z).add(offsetz).add(pp).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).record();
+    }
+    lapack.dlasq6(i0, n0, z, offsetz, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+  }
+
+  public void dlasr(String side, String pivot, String direct, int m, int n, double[] c, double[] s, double[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasr").add(side).add(pivot).add(direct).add(m).add(n).add(c).add(0).add(s).add(0).add(a).add(0).add(lda).record();
+    }
+    lapack.dlasr(side, pivot, direct, m, n, c, s, a, lda);
+  }
+
+  public void dlasr(String side, String pivot, String direct, int m, int n, double[] c, int offsetc, double[] s, int offsets, double[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasr").add(side).add(pivot).add(direct).add(m).add(n).add(c).add(offsetc).add(s).add(offsets).add(a).add(offseta).add(lda).record();
+    }
+    lapack.dlasr(side, pivot, direct, m, n, c, offsetc, s, offsets, a, offseta, lda);
+  }
+
+  public void dlasrt(String id, int n, double[] d, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasrt").add(id).add(n).add(d).add(0).add(info).record();
+    }
+    lapack.dlasrt(id, n, d, info);
+  }
+
+  public void dlasrt(String id, int n, double[] d, int offsetd, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasrt").add(id).add(n).add(d).add(offsetd).add(info).record();
+    }
+    lapack.dlasrt(id, n, d, offsetd, info);
+  }
+
+  public void dlassq(int n, double[] x, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlassq").add(n).add(x).add(0).add(incx).add(scale).add(sumsq).record();
+    }
+    lapack.dlassq(n, x, incx, scale, sumsq);
+  }
+
+  public void dlassq(int n, double[] x, int offsetx, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlassq").add(n).add(x).add(offsetx).add(incx).add(scale).add(sumsq).record();
+    }
+    lapack.dlassq(n, x, offsetx, incx, scale, sumsq);
+  }
+
+  public void dlasv2(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax, org.netlib.util.doubleW snr, org.netlib.util.doubleW csr, org.netlib.util.doubleW snl, org.netlib.util.doubleW csl) {
+    lapack.dlasv2(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+  }
+
+  public void dlaswp(int n, double[] a, int lda, int k1, int k2, int[] ipiv, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaswp").add(n).add(a).add(0).add(lda).add(k1).add(k2).add(ipiv).add(0).add(incx).record();
+    }
+    lapack.dlaswp(n, a, lda, k1, k2, ipiv, incx);
+  }
+
+  public void dlaswp(int n, double[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlaswp").add(n).add(a).add(offseta).add(lda).add(k1).add(k2).add(ipiv).add(offsetipiv).add(incx).record();
+    }
+    lapack.dlaswp(n, a, offseta, lda, k1, k2, ipiv, offsetipiv, incx);
+  }
+
+  public void dlasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int ldtl, double[] tr, int ldtr, double[] b, int ldb, org.netlib.util.doubleW scale, double[] x, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasy2").add(ltranl).add(ltranr).add(isgn).add(n1).add(n2).add(tl).add(0).add(ldtl).add(tr).add(0).add(ldtr).add(b).add(0).add(ldb).add(scale).add(x).add(0).add(ldx).add(xnorm).add(info).record();
+    }
+    lapack.dlasy2(ltranl, ltranr, isgn, n1, n2, tl, ldtl, tr, ldtr, b, ldb, scale, x, ldx, xnorm, info);
+  }
+
+  public void dlasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int offsettl, int ldtl, double[] tr, int offsettr, int ldtr, double[] b, int offsetb, int ldb, org.netlib.util.doubleW scale, double[] x, int offsetx, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasy2").add(ltranl).add(ltranr).add(isgn).add(n1).add(n2).add(tl).add(offsettl).add(ldtl).add(tr).add(offsettr).add(ldtr).add(b).add(offsetb).add(ldb).add(scale).add(x).add(offsetx).add(ldx).add(xnorm).add(info).record();
+    }
+    lapack.dlasy2(ltranl, ltranr, isgn, n1, n2, tl, offsettl, ldtl, tr, offsettr, ldtr, b, offsetb, ldb, scale, x, offsetx, ldx, xnorm, info);
+  }
+
+  public void dlasyf(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int lda, int[] ipiv, double[] w, int ldw, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasyf").add(uplo).add(n).add(nb).add(kb).add(a).add(0).add(lda).add(ipiv).add(0).add(w).add(0).add(ldw).add(info).record();
+    }
+    lapack.dlasyf(uplo, n, nb, kb, a, lda, ipiv, w, ldw, info);
+  }
+
+  public void dlasyf(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlasyf").add(uplo).add(n).add(nb).add(kb).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(w).add(offsetw).add(ldw).add(info).record();
+    }
+    lapack.dlasyf(uplo, n, nb, kb, a, offseta, lda, ipiv, offsetipiv, w, offsetw, ldw, info);
+  }
+
+  public void dlatbs(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int ldab, double[] x, org.netlib.util.doubleW scale, double[] cnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatbs").add(uplo).add(trans).add(diag).add(normin).add(n).add(kd).add(ab).add(0).add(ldab).add(x).add(0).add(scale).add(cnorm).add(0).add(info).record();
+    }
+    lapack.dlatbs(uplo, trans, diag, normin, n, kd, ab, ldab, x, scale, cnorm, info);
+  }
+
+  public void dlatbs(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int offsetab, int ldab, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatbs").add(uplo).add(trans).add(diag).add(normin).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(x).add(offsetx).add(scale).add(cnorm).add(offsetcnorm).add(info).record();
+    }
+    lapack.dlatbs(uplo, trans, diag, normin, n, kd, ab, offsetab, ldab, x, offsetx, scale, cnorm, offsetcnorm, info);
+  }
+
+  public void dlatdf(int ijob, int n, double[] z, int ldz, double[] rhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int[] jpiv) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatdf").add(ijob).add(n).add(z).add(0).add(ldz).add(rhs).add(0).add(rdsum).add(rdscal).add(ipiv).add(0).add(jpiv).add(0).record();
+    }
+    lapack.dlatdf(ijob, n, z, ldz, rhs, rdsum, rdscal, ipiv, jpiv);
+  }
+
+  public void dlatdf(int ijob, int n, double[] z, int offsetz, int ldz, double[] rhs, int offsetrhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatdf").add(ijob).add(n).add(z).add(offsetz).add(ldz).add(rhs).add(offsetrhs).add(rdsum).add(rdscal).add(ipiv).add(offsetipiv).add(jpiv).add(offsetjpiv).record();
+    }
+    lapack.dlatdf(ijob, n, z, offsetz, ldz, rhs, offsetrhs, rdsum, rdscal, ipiv, offsetipiv, jpiv, offsetjpiv);
+  }
+
+  public void dlatps(String uplo, String trans, String diag, String normin, int n, double[] ap, double[] x, org.netlib.util.doubleW scale, double[] cnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatps").add(uplo).add(trans).add(diag).add(normin).add(n).add(ap).add(0).add(x).add(0).add(scale).add(cnorm).add(0).add(info).record();
+    }
+    lapack.dlatps(uplo, trans, diag, normin, n, ap, x, scale, cnorm, info);
+  }
+
+  public void dlatps(String uplo, String trans, String diag, String normin, int n, double[] ap, int offsetap, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatps").add(uplo).add(trans).add(diag).add(normin).add(n).add(ap).add(offsetap).add(x).add(offsetx).add(scale).add(cnorm).add(offsetcnorm).add(info).record();
+    }
+    lapack.dlatps(uplo, trans, diag, normin, n, ap, offsetap, x, offsetx, scale, cnorm, offsetcnorm, info);
+  }
+
+  public void dlatrd(String uplo, int n, int nb, double[] a, int lda, double[] e, double[] tau, double[] w, int ldw) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatrd").add(uplo).add(n).add(nb).add(a).add(0).add(lda).add(e).add(0).add(tau).add(0).add(w).add(0).add(ldw).record();
+    }
+    lapack.dlatrd(uplo, n, nb, a, lda, e, tau, w, ldw);
+  }
+
+  public void dlatrd(String uplo, int n, int nb, double[] a, int offseta, int lda, double[] e, int offsete, double[] tau, int offsettau, double[] w, int offsetw, int ldw) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatrd").add(uplo).add(n).add(nb).add(a).add(offseta).add(lda).add(e).add(offsete).add(tau).add(offsettau).add(w).add(offsetw).add(ldw).record();
+    }
+    lapack.dlatrd(uplo, n, nb, a, offseta, lda, e, offsete, tau, offsettau, w, offsetw, ldw);
+  }
+
+  public void dlatrs(String uplo, String trans, String diag, String normin, int n, double[] a, int lda, double[] x, org.netlib.util.doubleW scale, double[] cnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatrs").add(uplo).add(trans).add(diag).add(normin).add(n).add(a).add(0).add(lda).add(x).add(0).add(scale).add(cnorm).add(0).add(info).record();
+    }
+    lapack.dlatrs(uplo, trans, diag, normin, n, a, lda, x, scale, cnorm, info);
+  }
+
+  public void dlatrs(String uplo, String trans, String diag, String normin, int n, double[] a, int offseta, int lda, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatrs").add(uplo).add(trans).add(diag).add(normin).add(n).add(a).add(offseta).add(lda).add(x).add(offsetx).add(scale).add(cnorm).add(offsetcnorm).add(info).record();
+    }
+    lapack.dlatrs(uplo, trans, diag, normin, n, a, offseta, lda, x, offsetx, scale, cnorm, offsetcnorm, info);
+  }
+
+  public void dlatrz(int m, int n, int l, double[] a, int lda, double[] tau, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatrz").add(m).add(n).add(l).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).record();
+    }
+    lapack.dlatrz(m, n, l, a, lda, tau, work);
+  }
+
+  public void dlatrz(int m, int n, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatrz").add(m).add(n).add(l).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).record();
+    }
+    lapack.dlatrz(m, n, l, a, offseta, lda, tau, offsettau, work, offsetwork);
+  }
+
+  public void dlatzm(String side, int m, int n, double[] v, int incv, double tau, double[] c1, double[] c2, int Ldc, double[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatzm").add(side).add(m).add(n).add(v).add(0).add(incv).add(tau).add(c1).add(0).add(c2).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.dlatzm(side, m, n, v, incv, tau, c1, c2, Ldc, work);
+  }
+
+  public void dlatzm(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c1, int offsetc1, double[] c2, int offsetc2, int Ldc, double[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlatzm").add(side).add(m).add(n).add(v).add(offsetv).add(incv).add(tau).add(c1).add(offsetc1).add(c2).add(offsetc2).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.dlatzm(side, m, n, v, offsetv, incv, tau, c1, offsetc1, c2, offsetc2, Ldc, work, offsetwork);
+  }
+
+  public void dlauu2(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlauu2").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dlauu2(uplo, n, a, lda, info);
+  }
+
+  public void dlauu2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlauu2").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dlauu2(uplo, n, a, offseta, lda, info);
+  }
+
+  public void dlauum(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlauum").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dlauum(uplo, n, a, lda, info);
+  }
+
+  public void dlauum(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlauum").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dlauum(uplo, n, a, offseta, lda, info);
+  }
+
+  public void dlazq3(int i0, org.netlib.util.intW n0, double[] z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlazq3").add(i0).add(n0).add(z).add(0).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).add(ttype).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).record();
+    }
+    lapack.dlazq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+  }
+
+  public void dlazq3(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlazq3").add(i0).add(n0).add(z).add(offsetz).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).add(ttype).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).record();
+    }
+    lapack.dlazq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+  }
+
+  public void dlazq4(int i0, int n0, double[] z, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlazq4").add(i0).add(n0).add(z).add(0).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).add(g).record();
+    }
+    lapack.dlazq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+  }
+
+  public void dlazq4(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dlazq4").add(i0).add(n0).add(z).add(offsetz).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).add(g).record();
+    }
+    lapack.dlazq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+  }
+
+  public void dopgtr(String uplo, int n, double[] ap, double[] tau, double[] q, int ldq, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dopgtr").add(uplo).add(n).add(ap).add(0).add(tau).add(0).add(q).add(0).add(ldq).add(work).add(0).add(info).record();
+    }
+    lapack.dopgtr(uplo, n, ap, tau, q, ldq, work, info);
+  }
+
+  public void dopgtr(String uplo, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dopgtr").add(uplo).add(n).add(ap).add(offsetap).add(tau).add(offsettau).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dopgtr(uplo, n, ap, offsetap, tau, offsettau, q, offsetq, ldq, work, offsetwork, info);
+  }
+
+  public void dopmtr(String side, String uplo, String trans, int m, int n, double[] ap, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dopmtr").add(side).add(uplo).add(trans).add(m).add(n).add(ap).add(0).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dopmtr(side, uplo, trans, m, n, ap, tau, c, Ldc, work, info);
+  }
+
+  public void dopmtr(String side, String uplo, String trans, int m, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dopmtr").add(side).add(uplo).add(trans).add(m).add(n).add(ap).add(offsetap).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dopmtr(side, uplo, trans, m, n, ap, offsetap, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dorg2l(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorg2l").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dorg2l(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void dorg2l(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorg2l").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dorg2l(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dorg2r(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorg2r").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dorg2r(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void dorg2r(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorg2r").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dorg2r(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dorgbr(String vect, int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgbr").add(vect).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dorgbr(vect, m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void dorgbr(String vect, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgbr").add(vect).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dorgbr(vect, m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dorghr(int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorghr").add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dorghr(n, ilo, ihi, a, lda, tau, work, lwork, info);
+  }
+
+  public void dorghr(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorghr").add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dorghr(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dorgl2(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgl2").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dorgl2(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void dorgl2(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgl2").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dorgl2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dorglq(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorglq").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dorglq(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void dorglq(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorglq").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dorglq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dorgql(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgql").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dorgql(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void dorgql(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgql").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dorgql(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dorgqr(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgqr").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dorgqr(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void dorgqr(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgqr").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dorgqr(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dorgr2(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgr2").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dorgr2(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void dorgr2(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgr2").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dorgr2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void dorgrq(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgrq").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dorgrq(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void dorgrq(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgrq").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dorgrq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dorgtr(String uplo, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgtr").add(uplo).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dorgtr(uplo, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void dorgtr(String uplo, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorgtr").add(uplo).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dorgtr(uplo, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dorm2l(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorm2l").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dorm2l(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void dorm2l(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorm2l").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dorm2l(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dorm2r(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorm2r").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dorm2r(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void dorm2r(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorm2r").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dorm2r(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dormbr(String vect, String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormbr").add(vect).add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormbr(vect, side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormbr(String vect, String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormbr").add(vect).add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormbr(vect, side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dormhr(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormhr").add(side).add(trans).add(m).add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormhr(side, trans, m, n, ilo, ihi, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormhr(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormhr").add(side).add(trans).add(m).add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormhr(side, trans, m, n, ilo, ihi, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dorml2(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorml2").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dorml2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void dorml2(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dorml2").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dorml2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dormlq(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormlq").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormlq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormlq(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormlq").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormlq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dormql(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormql").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormql(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormql(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormql").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormql(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dormqr(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormqr").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormqr(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormqr(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormqr").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormqr(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dormr2(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormr2").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dormr2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void dormr2(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormr2").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dormr2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dormr3(String side, String trans, int m, int n, int k, int l, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormr3").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.dormr3(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void dormr3(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormr3").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dormr3(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void dormrq(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormrq").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormrq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormrq(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormrq").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormrq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dormrz(String side, String trans, int m, int n, int k, int l, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormrz").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormrz(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormrz(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormrz").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormrz(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dormtr(String side, String uplo, String trans, int m, int n, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormtr").add(side).add(uplo).add(trans).add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dormtr(side, uplo, trans, m, n, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void dormtr(String side, String uplo, String trans, int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dormtr").add(side).add(uplo).add(trans).add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dormtr(side, uplo, trans, m, n, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void dpbcon(String uplo, int n, int kd, double[] ab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbcon").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dpbcon(uplo, n, kd, ab, ldab, anorm, rcond, work, iwork, info);
+  }
+
+  public void dpbcon(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbcon").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dpbcon(uplo, n, kd, ab, offsetab, ldab, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dpbequ(String uplo, int n, int kd, double[] ab, int ldab, double[] s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbequ").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(s).add(0).add(scond).add(amax).add(info).record();
+    }
+    lapack.dpbequ(uplo, n, kd, ab, ldab, s, scond, amax, info);
+  }
+
+  public void dpbequ(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbequ").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(s).add(offsets).add(scond).add(amax).add(info).record();
+    }
+    lapack.dpbequ(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, info);
+  }
+
+  public void dpbrfs(String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbrfs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dpbrfs(uplo, n, kd, nrhs, ab, ldab, afb, ldafb, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dpbrfs(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbrfs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dpbrfs(uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dpbstf(String uplo, int n, int kd, double[] ab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbstf").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(info).record();
+    }
+    lapack.dpbstf(uplo, n, kd, ab, ldab, info);
+  }
+
+  public void dpbstf(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbstf").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(info).record();
+    }
+    lapack.dpbstf(uplo, n, kd, ab, offsetab, ldab, info);
+  }
+
+  public void dpbsv(String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbsv").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dpbsv(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+  }
+
+  public void dpbsv(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbsv").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dpbsv(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+  }
+
+  public void dpbsvx(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] afb, int ldafb, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbsvx").add(fact).add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(equed).add(s).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dpbsvx(fact, uplo, n, kd, nrhs, ab, ldab, afb, ldafb, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void dpbsvx(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbsvx").add(fact).add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(equed).add(s).add(offsets).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dpbsvx(fact, uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dpbtf2(String uplo, int n, int kd, double[] ab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbtf2").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(info).record();
+    }
+    lapack.dpbtf2(uplo, n, kd, ab, ldab, info);
+  }
+
+  public void dpbtf2(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbtf2").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(info).record();
+    }
+    lapack.dpbtf2(uplo, n, kd, ab, offsetab, ldab, info);
+  }
+
+  public void dpbtrf(String uplo, int n, int kd, double[] ab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbtrf").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(info).record();
+    }
+    lapack.dpbtrf(uplo, n, kd, ab, ldab, info);
+  }
+
+  public void dpbtrf(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbtrf").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(info).record();
+    }
+    lapack.dpbtrf(uplo, n, kd, ab, offsetab, ldab, info);
+  }
+
+  public void dpbtrs(String uplo, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbtrs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dpbtrs(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+  }
+
+  public void dpbtrs(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpbtrs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dpbtrs(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+  }
+
+  public void dpocon(String uplo, int n, double[] a, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpocon").add(uplo).add(n).add(a).add(0).add(lda).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dpocon(uplo, n, a, lda, anorm, rcond, work, iwork, info);
+  }
+
+  public void dpocon(String uplo, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpocon").add(uplo).add(n).add(a).add(offseta).add(lda).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dpocon(uplo, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dpoequ(int n, double[] a, int lda, double[] s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpoequ").add(n).add(a).add(0).add(lda).add(s).add(0).add(scond).add(amax).add(info).record();
+    }
+    lapack.dpoequ(n, a, lda, s, scond, amax, info);
+  }
+
+  public void dpoequ(int n, double[] a, int offseta, int lda, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpoequ").add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(scond).add(amax).add(info).record();
+    }
+    lapack.dpoequ(n, a, offseta, lda, s, offsets, scond, amax, info);
+  }
+
+  public void dporfs(String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dporfs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dporfs(uplo, n, nrhs, a, lda, af, ldaf, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dporfs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dporfs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dporfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dposv(String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dposv").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dposv(uplo, n, nrhs, a, lda, b, ldb, info);
+  }
+
+  public void dposv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dposv").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dposv(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dposvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(equed).add(s).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dposvx(fact, uplo, n, nrhs, a, lda, af, ldaf, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dposvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(equed).add(s).add(offsets).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dposvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dpotf2(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotf2").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dpotf2(uplo, n, a, lda, info);
+  }
+
+  public void dpotf2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotf2").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dpotf2(uplo, n, a, offseta, lda, info);
+  }
+
+  public void dpotrf(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotrf").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dpotrf(uplo, n, a, lda, info);
+  }
+
+  public void dpotrf(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotrf").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dpotrf(uplo, n, a, offseta, lda, info);
+  }
+
+  public void dpotri(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotri").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dpotri(uplo, n, a, lda, info);
+  }
+
+  public void dpotri(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotri").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dpotri(uplo, n, a, offseta, lda, info);
+  }
+
+  public void dpotrs(String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotrs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dpotrs(uplo, n, nrhs, a, lda, b, ldb, info);
+  }
+
+  public void dpotrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpotrs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dpotrs(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void dppcon(String uplo, int n, double[] ap, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppcon").add(uplo).add(n).add(ap).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dppcon(uplo, n, ap, anorm, rcond, work, iwork, info);
+  }
+
+  public void dppcon(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppcon").add(uplo).add(n).add(ap).add(offsetap).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dppcon(uplo, n, ap, offsetap, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dppequ(String uplo, int n, double[] ap, double[] s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppequ").add(uplo).add(n).add(ap).add(0).add(s).add(0).add(scond).add(amax).add(info).record();
+    }
+    lapack.dppequ(uplo, n, ap, s, scond, amax, info);
+  }
+
+  public void dppequ(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppequ").add(uplo).add(n).add(ap).add(offsetap).add(s).add(offsets).add(scond).add(amax).add(info).record();
+    }
+    lapack.dppequ(uplo, n, ap, offsetap, s, offsets, scond, amax, info);
+  }
+
+  public void dpprfs(String uplo, int n, int nrhs, double[] ap, double[] afp, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpprfs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dpprfs(uplo, n, nrhs, ap, afp, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dpprfs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpprfs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dpprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dppsv(String uplo, int n, int nrhs, double[] ap, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppsv").add(uplo).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dppsv(uplo, n, nrhs, ap, b, ldb, info);
+  }
+
+  public void dppsv(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppsv").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dppsv(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+  }
+
+  public void dppsvx(String fact, String uplo, int n, int nrhs, double[] ap, double[] afp, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(equed).add(s).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dppsvx(fact, uplo, n, nrhs, ap, afp, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void dppsvx(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dppsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(equed).add(s).add(offsets).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dppsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dpptrf(String uplo, int n, double[] ap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpptrf").add(uplo).add(n).add(ap).add(0).add(info).record();
+    }
+    lapack.dpptrf(uplo, n, ap, info);
+  }
+
+  public void dpptrf(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpptrf").add(uplo).add(n).add(ap).add(offsetap).add(info).record();
+    }
+    lapack.dpptrf(uplo, n, ap, offsetap, info);
+  }
+
+  public void dpptri(String uplo, int n, double[] ap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpptri").add(uplo).add(n).add(ap).add(0).add(info).record();
+    }
+    lapack.dpptri(uplo, n, ap, info);
+  }
+
+  public void dpptri(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpptri").add(uplo).add(n).add(ap).add(offsetap).add(info).record();
+    }
+    lapack.dpptri(uplo, n, ap, offsetap, info);
+  }
+
+  public void dpptrs(String uplo, int n, int nrhs, double[] ap, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpptrs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dpptrs(uplo, n, nrhs, ap, b, ldb, info);
+  }
+
+  public void dpptrs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpptrs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dpptrs(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+  }
+
+  public void dptcon(int n, double[] d, double[] e, double anorm, org.netlib.util.doubleW rcond, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptcon").add(n).add(d).add(0).add(e).add(0).add(anorm).add(rcond).add(work).add(0).add(info).record();
+    }
+    lapack.dptcon(n, d, e, anorm, rcond, work, info);
+  }
+
+  public void dptcon(int n, double[] d, int offsetd, double[] e, int offsete, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptcon").add(n).add(d).add(offsetd).add(e).add(offsete).add(anorm).add(rcond).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dptcon(n, d, offsetd, e, offsete, anorm, rcond, work, offsetwork, info);
+  }
+
+  public void dpteqr(String compz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpteqr").add(compz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.dpteqr(compz, n, d, e, z, ldz, work, info);
+  }
+
+  public void dpteqr(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpteqr").add(compz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dpteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void dptrfs(int n, int nrhs, double[] d, double[] e, double[] df, double[] ef, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptrfs").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(df).add(0).add(ef).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dptrfs(n, nrhs, d, e, df, ef, b, ldb, x, ldx, ferr, berr, work, info);
+  }
+
+  public void dptrfs(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptrfs").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(df).add(offsetdf).add(ef).add(offsetef).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dptrfs(n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+  }
+
+  public void dptsv(int n, int nrhs, double[] d, double[] e, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptsv").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dptsv(n, nrhs, d, e, b, ldb, info);
+  }
+
+  public void dptsv(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptsv").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dptsv(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+  }
+
+  public void dptsvx(String fact, int n, int nrhs, double[] d, double[] e, double[] df, double[] ef, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptsvx").add(fact).add(n).add(nrhs).add(d).add(0).add(e).add(0).add(df).add(0).add(ef).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dptsvx(fact, n, nrhs, d, e, df, ef, b, ldb, x, ldx, rcond, ferr, berr, work, info);
+  }
+
+  public void dptsvx(String fact, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptsvx").add(fact).add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(df).add(offsetdf).add(ef).add(offsetef).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dptsvx(fact, n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+  }
+
+  public void dpttrf(int n, double[] d, double[] e, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpttrf").add(n).add(d).add(0).add(e).add(0).add(info).record();
+    }
+    lapack.dpttrf(n, d, e, info);
+  }
+
+  public void dpttrf(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpttrf").add(n).add(d).add(offsetd).add(e).add(offsete).add(info).record();
+    }
+    lapack.dpttrf(n, d, offsetd, e, offsete, info);
+  }
+
+  public void dpttrs(int n, int nrhs, double[] d, double[] e, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpttrs").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dpttrs(n, nrhs, d, e, b, ldb, info);
+  }
+
+  public void dpttrs(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dpttrs").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dpttrs(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+  }
+
+  public void dptts2(int n, int nrhs, double[] d, double[] e, double[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptts2").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).record();
+    }
+    lapack.dptts2(n, nrhs, d, e, b, ldb);
+  }
+
+  public void dptts2(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dptts2").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.dptts2(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb);
+  }
+
+  public void drscl(int n, double sa, double[] sx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drscl").add(n).add(sa).add(sx).add(0).add(incx).record();
+    }
+    lapack.drscl(n, sa, sx, incx);
+  }
+
+  public void drscl(int n, double sa, double[] sx, int offsetsx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("drscl").add(n).add(sa).add(sx).add(offsetsx).add(incx).record();
+    }
+    lapack.drscl(n, sa, sx, offsetsx, incx);
+  }
+
+  public void dsbev(String jobz, String uplo, int n, int kd, double[] ab, int ldab, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbev").add(jobz).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.dsbev(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, info);
+  }
+
+  public void dsbev(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbev").add(jobz).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dsbev(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void dsbevd(String jobz, String uplo, int n, int kd, double[] ab, int ldab, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbevd").add(jobz).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dsbevd(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dsbevd(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbevd").add(jobz).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dsbevd(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dsbevx(String jobz, String range, String uplo, int n, int kd, double[] ab, int ldab, double[] q, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbevx").add(jobz).add(range).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(q).add(0).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dsbevx(jobz, range, uplo, n, kd, ab, ldab, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void dsbevx(String jobz, String range, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbevx").add(jobz).add(range).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(q).add(offsetq).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dsbevx(jobz, range, uplo, n, kd, ab, offsetab, ldab, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dsbgst(String vect, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] x, int ldx, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgst").add(vect).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(x).add(0).add(ldx).add(work).add(0).add(info).record();
+    }
+    lapack.dsbgst(vect, uplo, n, ka, kb, ab, ldab, bb, ldbb, x, ldx, work, info);
+  }
+
+  public void dsbgst(String vect, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgst").add(vect).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(x).add(offsetx).add(ldx).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dsbgst(vect, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, x, offsetx, ldx, work, offsetwork, info);
+  }
+
+  public void dsbgv(String jobz, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgv").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.dsbgv(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, info);
+  }
+
+  public void dsbgv(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgv").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dsbgv(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void dsbgvd(String jobz, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgvd").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dsbgvd(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dsbgvd(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgvd").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dsbgvd(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dsbgvx(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int ldab, double[] bb, int ldbb, double[] q, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgvx").add(jobz).add(range).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(q).add(0).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dsbgvx(jobz, range, uplo, n, ka, kb, ab, ldab, bb, ldbb, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void dsbgvx(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbgvx").add(jobz).add(range).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(q).add(offsetq).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dsbgvx(jobz, range, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dsbtrd(String vect, String uplo, int n, int kd, double[] ab, int ldab, double[] d, double[] e, double[] q, int ldq, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbtrd").add(vect).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(d).add(0).add(e).add(0).add(q).add(0).add(ldq).add(work).add(0).add(info).record();
+    }
+    lapack.dsbtrd(vect, uplo, n, kd, ab, ldab, d, e, q, ldq, work, info);
+  }
+
+  public void dsbtrd(String vect, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsbtrd").add(vect).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(d).add(offsetd).add(e).add(offsete).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dsbtrd(vect, uplo, n, kd, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, work, offsetwork, info);
+  }
+
+  public void dsgesv(int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] work, float[] swork, org.netlib.util.intW iter, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsgesv").add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(work).add(0).add(swork).add(0).add(iter).add(info).record();
+    }
+    lapack.dsgesv(n, nrhs, a, lda, ipiv, b, ldb, x, ldx, work, swork, iter, info);
+  }
+
+  public void dsgesv(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, float[] swork, int offsetswork, org.netlib.util.intW iter, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsgesv").add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(work).add(offsetwork).add(swork).add(offsetswork).add(iter).add(info).record();
+    }
+    lapack.dsgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, work, offsetwork, swork, offsetswork, iter, info);
+  }
+
+  public void dspcon(String uplo, int n, double[] ap, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspcon").add(uplo).add(n).add(ap).add(0).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dspcon(uplo, n, ap, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void dspcon(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspcon").add(uplo).add(n).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dspcon(uplo, n, ap, offsetap, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dspev(String jobz, String uplo, int n, double[] ap, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspev").add(jobz).add(uplo).add(n).add(ap).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.dspev(jobz, uplo, n, ap, w, z, ldz, work, info);
+  }
+
+  public void dspev(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspev").add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dspev(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void dspevd(String jobz, String uplo, int n, double[] ap, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspevd").add(jobz).add(uplo).add(n).add(ap).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dspevd(jobz, uplo, n, ap, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dspevd(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspevd").add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dspevd(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dspevx(String jobz, String range, String uplo, int n, double[] ap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspevx").add(jobz).add(range).add(uplo).add(n).add(ap).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dspevx(jobz, range, uplo, n, ap, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void dspevx(String jobz, String range, String uplo, int n, double[] ap, int offsetap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspevx").add(jobz).add(range).add(uplo).add(n).add(ap).add(offsetap).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dspevx(jobz, range, uplo, n, ap, offsetap, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dspgst(int itype, String uplo, int n, double[] ap, double[] bp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgst").add(itype).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(info).record();
+    }
+    lapack.dspgst(itype, uplo, n, ap, bp, info);
+  }
+
+  public void dspgst(int itype, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgst").add(itype).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(info).record();
+    }
+    lapack.dspgst(itype, uplo, n, ap, offsetap, bp, offsetbp, info);
+  }
+
+  public void dspgv(int itype, String jobz, String uplo, int n, double[] ap, double[] bp, double[] w, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgv").add(itype).add(jobz).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.dspgv(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, info);
+  }
+
+  public void dspgv(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgv").add(itype).add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dspgv(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void dspgvd(int itype, String jobz, String uplo, int n, double[] ap, double[] bp, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgvd").add(itype).add(jobz).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dspgvd(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dspgvd(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgvd").add(itype).add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dspgvd(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dspgvx(int itype, String jobz, String range, String uplo, int n, double[] ap, double[] bp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dspgvx(itype, jobz, range, uplo, n, ap, bp, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void dspgvx(int itype, String jobz, String range, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspgvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dspgvx(itype, jobz, range, uplo, n, ap, offsetap, bp, offsetbp, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dsprfs(String uplo, int n, int nrhs, double[] ap, double[] afp, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsprfs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dsprfs(uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dsprfs(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsprfs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dsprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dspsv(String uplo, int n, int nrhs, double[] ap, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspsv").add(uplo).add(n).add(nrhs).add(ap).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dspsv(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+  }
+
+  public void dspsv(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspsv").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dspsv(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dspsvx(String fact, String uplo, int n, int nrhs, double[] ap, double[] afp, int[] ipiv, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dspsvx(fact, uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void dspsvx(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dspsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dspsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dsptrd(String uplo, int n, double[] ap, double[] d, double[] e, double[] tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptrd").add(uplo).add(n).add(ap).add(0).add(d).add(0).add(e).add(0).add(tau).add(0).add(info).record();
+    }
+    lapack.dsptrd(uplo, n, ap, d, e, tau, info);
+  }
+
+  public void dsptrd(String uplo, int n, double[] ap, int offsetap, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptrd").add(uplo).add(n).add(ap).add(offsetap).add(d).add(offsetd).add(e).add(offsete).add(tau).add(offsettau).add(info).record();
+    }
+    lapack.dsptrd(uplo, n, ap, offsetap, d, offsetd, e, offsete, tau, offsettau, info);
+  }
+
+  public void dsptrf(String uplo, int n, double[] ap, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptrf").add(uplo).add(n).add(ap).add(0).add(ipiv).add(0).add(info).record();
+    }
+    lapack.dsptrf(uplo, n, ap, ipiv, info);
+  }
+
+  public void dsptrf(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptrf").add(uplo).add(n).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.dsptrf(uplo, n, ap, offsetap, ipiv, offsetipiv, info);
+  }
+
+  public void dsptri(String uplo, int n, double[] ap, int[] ipiv, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptri").add(uplo).add(n).add(ap).add(0).add(ipiv).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dsptri(uplo, n, ap, ipiv, work, info);
+  }
+
+  public void dsptri(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptri").add(uplo).add(n).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dsptri(uplo, n, ap, offsetap, ipiv, offsetipiv, work, offsetwork, info);
+  }
+
+  public void dsptrs(String uplo, int n, int nrhs, double[] ap, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptrs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dsptrs(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+  }
+
+  public void dsptrs(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsptrs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dsptrs(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dstebz(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, double[] e, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int[] iblock, int[] isplit, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstebz").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(abstol).add(d).add(0).add(e).add(0).add(m).add(nsplit).add(w).add(0).add(iblock).add(0).add(isplit).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dstebz(range, order, n, vl, vu, il, iu, abstol, d, e, m, nsplit, w, iblock, isplit, work, iwork, info);
+  }
+
+  public void dstebz(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstebz").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(abstol).add(d).add(offsetd).add(e).add(offsete).add(m).add(nsplit).add(w).add(offsetw).add(iblock).add(offsetiblock).add(isplit).add(offsetisplit).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dstebz(range, order, n, vl, vu, il, iu, abstol, d, offsetd, e, offsete, m, nsplit, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dstedc(String compz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstedc").add(compz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dstedc(compz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dstedc(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstedc").add(compz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dstedc(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dstegr(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstegr").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dstegr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dstegr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstegr").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dstegr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dstein(int n, double[] d, double[] e, int m, double[] w, int[] iblock, int[] isplit, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstein").add(n).add(d).add(0).add(e).add(0).add(m).add(w).add(0).add(iblock).add(0).add(isplit).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dstein(n, d, e, m, w, iblock, isplit, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void dstein(int n, double[] d, int offsetd, double[] e, int offsete, int m, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstein").add(n).add(d).add(offsetd).add(e).add(offsete).add(m).add(w).add(offsetw).add(iblock).add(offsetiblock).add(isplit).add(offsetisplit).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dstein(n, d, offsetd, e, offsete, m, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dstemr(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, double[] z, int ldz, int nzc, int[] isuppz, org.netlib.util.booleanW tryrac, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstemr").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(m).add(w).add(0).add(z).add(0).add(ldz).add(nzc).add(isuppz).add(0).add(tryrac).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dstemr(jobz, range, n, d, e, vl, vu, il, iu, m, w, z, ldz, nzc, isuppz, tryrac, work, lwork, iwork, liwork, info);
+  }
+
+  public void dstemr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstemr").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(nzc).add(isuppz).add(offsetisuppz).add(tryrac).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dstemr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, nzc, isuppz, offsetisuppz, tryrac, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dsteqr(String compz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsteqr").add(compz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.dsteqr(compz, n, d, e, z, ldz, work, info);
+  }
+
+  public void dsteqr(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsteqr").add(compz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dsteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void dsterf(int n, double[] d, double[] e, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsterf").add(n).add(d).add(0).add(e).add(0).add(info).record();
+    }
+    lapack.dsterf(n, d, e, info);
+  }
+
+  public void dsterf(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsterf").add(n).add(d).add(offsetd).add(e).add(offsete).add(info).record();
+    }
+    lapack.dsterf(n, d, offsetd, e, offsete, info);
+  }
+
+  public void dstev(String jobz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstev").add(jobz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.dstev(jobz, n, d, e, z, ldz, work, info);
+  }
+
+  public void dstev(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstev").add(jobz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dstev(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void dstevd(String jobz, int n, double[] d, double[] e, double[] z, int ldz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstevd").add(jobz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dstevd(jobz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dstevd(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstevd").add(jobz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dstevd(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dstevr(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstevr").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dstevr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dstevr(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstevr").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dstevr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dstevx(String jobz, String range, int n, double[] d, double[] e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstevx").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dstevx(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void dstevx(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dstevx").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dstevx(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dsycon(String uplo, int n, double[] a, int lda, int[] ipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsycon").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dsycon(uplo, n, a, lda, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void dsycon(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsycon").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dsycon(uplo, n, a, offseta, lda, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dsyev(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyev").add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(w).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dsyev(jobz, uplo, n, a, lda, w, work, lwork, info);
+  }
+
+  public void dsyev(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyev").add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dsyev(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  public void dsyevd(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyevd").add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(w).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dsyevd(jobz, uplo, n, a, lda, w, work, lwork, iwork, liwork, info);
+  }
+
+  public void dsyevd(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyevd").add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dsyevd(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyevr").add(jobz).add(range).add(uplo).add(n).add(a).add(0).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dsyevr(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+  }
+
+  public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyevr").add(jobz).add(range).add(uplo).add(n).add(a).add(offseta).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dsyevr(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dsyevx(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyevx").add(jobz).add(range).add(uplo).add(n).add(a).add(0).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dsyevx(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+  }
+
+  public void dsyevx(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyevx").add(jobz).add(range).add(uplo).add(n).add(a).add(offseta).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dsyevx(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dsygs2(int itype, String uplo, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygs2").add(itype).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dsygs2(itype, uplo, n, a, lda, b, ldb, info);
+  }
+
+  public void dsygs2(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygs2").add(itype).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dsygs2(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void dsygst(int itype, String uplo, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygst").add(itype).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dsygst(itype, uplo, n, a, lda, b, ldb, info);
+  }
+
+  public void dsygst(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygst").add(itype).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dsygst(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void dsygv(int itype, String jobz, String uplo, int n, double[] a, int lda, double[] b, int ldb, double[] w, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygv").add(itype).add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(w).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dsygv(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, info);
+  }
+
+  public void dsygv(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygv").add(itype).add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dsygv(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  public void dsygvd(int itype, String jobz, String uplo, int n, double[] a, int lda, double[] b, int ldb, double[] w, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygvd").add(itype).add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(w).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dsygvd(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, iwork, liwork, info);
+  }
+
+  public void dsygvd(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygvd").add(itype).add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dsygvd(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dsygvx(int itype, String jobz, String range, String uplo, int n, double[] a, int lda, double[] b, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.dsygvx(itype, jobz, range, uplo, n, a, lda, b, ldb, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+  }
+
+  public void dsygvx(int itype, String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsygvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.dsygvx(itype, jobz, range, uplo, n, a, offseta, lda, b, offsetb, ldb, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void dsyrfs(String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyrfs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dsyrfs(uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dsyrfs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsyrfs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dsyrfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dsysv(String uplo, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsysv").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dsysv(uplo, n, nrhs, a, lda, ipiv, b, ldb, work, lwork, info);
+  }
+
+  public void dsysv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsysv").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dsysv(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+  }
+
+  public void dsysvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsysvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.dsysvx(fact, uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, lwork, iwork, info);
+  }
+
+  public void dsysvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsysvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dsysvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void dsytd2(String uplo, int n, double[] a, int lda, double[] d, double[] e, double[] tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytd2").add(uplo).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tau).add(0).add(info).record();
+    }
+    lapack.dsytd2(uplo, n, a, lda, d, e, tau, info);
+  }
+
+  public void dsytd2(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytd2").add(uplo).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tau).add(offsettau).add(info).record();
+    }
+    lapack.dsytd2(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+  }
+
+  public void dsytf2(String uplo, int n, double[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytf2").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(info).record();
+    }
+    lapack.dsytf2(uplo, n, a, lda, ipiv, info);
+  }
+
+  public void dsytf2(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytf2").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.dsytf2(uplo, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  public void dsytrd(String uplo, int n, double[] a, int lda, double[] d, double[] e, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytrd").add(uplo).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dsytrd(uplo, n, a, lda, d, e, tau, work, lwork, info);
+  }
+
+  public void dsytrd(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytrd").add(uplo).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dsytrd(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void dsytrf(String uplo, int n, double[] a, int lda, int[] ipiv, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytrf").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dsytrf(uplo, n, a, lda, ipiv, work, lwork, info);
+  }
+
+  public void dsytrf(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytrf").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dsytrf(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+  }
+
+  public void dsytri(String uplo, int n, double[] a, int lda, int[] ipiv, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytri").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.dsytri(uplo, n, a, lda, ipiv, work, info);
+  }
+
+  public void dsytri(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytri").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dsytri(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, info);
+  }
+
+  public void dsytrs(String uplo, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytrs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dsytrs(uplo, n, nrhs, a, lda, ipiv, b, ldb, info);
+  }
+
+  public void dsytrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dsytrs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dsytrs(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void dtbcon(String norm, String uplo, String diag, int n, int kd, double[] ab, int ldab, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbcon").add(norm).add(uplo).add(diag).add(n).add(kd).add(ab).add(0).add(ldab).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtbcon(norm, uplo, diag, n, kd, ab, ldab, rcond, work, iwork, info);
+  }
+
+  public void dtbcon(String norm, String uplo, String diag, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbcon").add(norm).add(uplo).add(diag).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtbcon(norm, uplo, diag, n, kd, ab, offsetab, ldab, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dtbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbrfs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtbrfs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dtbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbrfs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtbrfs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dtbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int ldab, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbtrs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dtbtrs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, info);
+  }
+
+  public void dtbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtbtrs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dtbtrs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+  }
+
+  public void dtgevc(String side, String howmny, boolean[] select, int n, double[] s, int lds, double[] p, int ldp, double[] vl, int ldvl, double[] vr, int ldvr, int mm, org.netlib.util.intW m, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgevc").add(side).add(howmny).add(select).add(0).add(n).add(s).add(0).add(lds).add(p).add(0).add(ldp).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(mm).add(m).add(work).add(0).add(info).record();
+    }
+    lapack.dtgevc(side, howmny, select, n, s, lds, p, ldp, vl, ldvl, vr, ldvr, mm, m, work, info);
+  }
+
+  public void dtgevc(String side, String howmny, boolean[] select, int offsetselect, int n, double[] s, int offsets, int lds, double[] p, int offsetp, int ldp, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgevc").add(side).add(howmny).add(select).add(offsetselect).add(n).add(s).add(offsets).add(lds).add(p).add(offsetp).add(ldp).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(mm).add(m).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dtgevc(side, howmny, select, offsetselect, n, s, offsets, lds, p, offsetp, ldp, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+  }
+
+  public void dtgex2(boolean wantq, boolean wantz, int n, double[] a, int lda, double[] b, int ldb, double[] q, int ldq, double[] z, int ldz, int j1, int n1, int n2, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgex2").add(wantq).add(wantz).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(j1).add(n1).add(n2).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dtgex2(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, j1, n1, n2, work, lwork, info);
+  }
+
+  public void dtgex2(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, int j1, int n1, int n2, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgex2").add(wantq).add(wantz).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(j1).add(n1).add(n2).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dtgex2(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, j1, n1, n2, work, offsetwork, lwork, info);
+  }
+
+  public void dtgexc(boolean wantq, boolean wantz, int n, double[] a, int lda, double[] b, int ldb, double[] q, int ldq, double[] z, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgexc").add(wantq).add(wantz).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(ifst).add(ilst).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dtgexc(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, ifst, ilst, work, lwork, info);
+  }
+
+  public void dtgexc(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgexc").add(wantq).add(wantz).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(ifst).add(ilst).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dtgexc(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, ifst, ilst, work, offsetwork, lwork, info);
+  }
+
+  public void dtgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] q, int ldq, double[] z, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsen").add(ijob).add(wantq).add(wantz).add(select).add(0).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(m).add(pl).add(pr).add(dif).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dtgsen(ijob, wantq, wantz, select, n, a, lda, b, ldb, alphar, alphai, beta, q, ldq, z, ldz, m, pl, pr, dif, work, lwork, iwork, liwork, info);
+  }
+
+  public void dtgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, int offsetdif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsen").add(ijob).add(wantq).add(wantz).add(select).add(offsetselect).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(m).add(pl).add(pr).add(dif).add(offsetdif).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dtgsen(ijob, wantq, wantz, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, m, pl, pr, dif, offsetdif, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dtgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int lda, double[] b, int ldb, double tola, double tolb, double[] alpha, double[] beta, double[] u, int ldu, double[] v, int ldv, double[] q, int ldq, double[] work, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsja").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(k).add(l).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(tola).add(tolb).add(alpha).add(0).add(beta).add(0).add(u).add(0).add(ldu).add(v).add(0).add(ldv).add(q).add(0).add(ldq).add(work).add(0).add(ncycle).add(info).record();
+    }
+    lapack.dtgsja(jobu, jobv, jobq, m, p, n, k, l, a, lda, b, ldb, tola, tolb, alpha, beta, u, ldu, v, ldv, q, ldq, work, ncycle, info);
+  }
+
+  public void dtgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsja").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(k).add(l).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(tola).add(tolb).add(alpha).add(offsetalpha).add(beta).add(offsetbeta).add(u).add(offsetu).add(ldu).add(v).add(offsetv).add(ldv).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(ncycle).add(info).record();
+    }
+    lapack.dtgsja(jobu, jobv, jobq, m, p, n, k, l, a, offseta, lda, b, offsetb, ldb, tola, tolb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, ncycle, info);
+  }
+
+  public void dtgsna(String job, String howmny, boolean[] select, int n, double[] a, int lda, double[] b, int ldb, double[] vl, int ldvl, double[] vr, int ldvr, double[] s, double[] dif, int mm, org.netlib.util.intW m, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsna").add(job).add(howmny).add(select).add(0).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(s).add(0).add(dif).add(0).add(mm).add(m).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtgsna(job, howmny, select, n, a, lda, b, ldb, vl, ldvl, vr, ldvr, s, dif, mm, m, work, lwork, iwork, info);
+  }
+
+  public void dtgsna(String job, String howmny, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] dif, int offsetdif, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsna").add(job).add(howmny).add(select).add(offsetselect).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(s).add(offsets).add(dif).add(offsetdif).add(mm).add(m).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtgsna(job, howmny, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, dif, offsetdif, mm, m, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void dtgsy2(String trans, int ijob, int m, int n, double[] a, int lda, double[] b, int ldb, double[] c, int Ldc, double[] d, int ldd, double[] e, int lde, double[] f, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsy2").add(trans).add(ijob).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(Ldc).add(d).add(0).add(ldd).add(e).add(0).add(lde).add(f).add(0).add(ldf).add(scale).add(rdsum).add(rdscal).add(iwork).add(0).add(pq).add(info).record();
+    }
+    lapack.dtgsy2(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, rdsum, rdscal, iwork, pq, info);
+  }
+
+  public void dtgsy2(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsy2").add(trans).add(ijob).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(Ldc).add(d).add(offsetd).add(ldd).add(e).add(offsete).add(lde).add(f).add(offsetf).add(ldf).add(scale).add(rdsum).add(rdscal).add(iwork).add(offsetiwork).add(pq).add(info).record();
+    }
+    lapack.dtgsy2(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, rdsum, rdscal, iwork, offsetiwork, pq, info);
+  }
+
+  public void dtgsyl(String trans, int ijob, int m, int n, double[] a, int lda, double[] b, int ldb, double[] c, int Ldc, double[] d, int ldd, double[] e, int lde, double[] f, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsyl").add(trans).add(ijob).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(Ldc).add(d).add(0).add(ldd).add(e).add(0).add(lde).add(f).add(0).add(ldf).add(scale).add(dif).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtgsyl(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, dif, work, lwork, iwork, info);
+  }
+
+  public void dtgsyl(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtgsyl").add(trans).add(ijob).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(Ldc).add(d).add(offsetd).add(ldd).add(e).add(offsete).add(lde).add(f).add(offsetf).add(ldf).add(scale).add(dif).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtgsyl(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, dif, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void dtpcon(String norm, String uplo, String diag, int n, double[] ap, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtpcon").add(norm).add(uplo).add(diag).add(n).add(ap).add(0).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtpcon(norm, uplo, diag, n, ap, rcond, work, iwork, info);
+  }
+
+  public void dtpcon(String norm, String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtpcon").add(norm).add(uplo).add(diag).add(n).add(ap).add(offsetap).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtpcon(norm, uplo, diag, n, ap, offsetap, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dtprfs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtprfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtprfs(uplo, trans, diag, n, nrhs, ap, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dtprfs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtprfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtprfs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dtptri(String uplo, String diag, int n, double[] ap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtptri").add(uplo).add(diag).add(n).add(ap).add(0).add(info).record();
+    }
+    lapack.dtptri(uplo, diag, n, ap, info);
+  }
+
+  public void dtptri(String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtptri").add(uplo).add(diag).add(n).add(ap).add(offsetap).add(info).record();
+    }
+    lapack.dtptri(uplo, diag, n, ap, offsetap, info);
+  }
+
+  public void dtptrs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtptrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dtptrs(uplo, trans, diag, n, nrhs, ap, b, ldb, info);
+  }
+
+  public void dtptrs(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtptrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dtptrs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+  }
+
+  public void dtrcon(String norm, String uplo, String diag, int n, double[] a, int lda, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrcon").add(norm).add(uplo).add(diag).add(n).add(a).add(0).add(lda).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtrcon(norm, uplo, diag, n, a, lda, rcond, work, iwork, info);
+  }
+
+  public void dtrcon(String norm, String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrcon").add(norm).add(uplo).add(diag).add(n).add(a).add(offseta).add(lda).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtrcon(norm, uplo, diag, n, a, offseta, lda, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dtrevc(String side, String howmny, boolean[] select, int n, double[] t, int ldt, double[] vl, int ldvl, double[] vr, int ldvr, int mm, org.netlib.util.intW m, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrevc").add(side).add(howmny).add(select).add(0).add(n).add(t).add(0).add(ldt).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(mm).add(m).add(work).add(0).add(info).record();
+    }
+    lapack.dtrevc(side, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, mm, m, work, info);
+  }
+
+  public void dtrevc(String side, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrevc").add(side).add(howmny).add(select).add(offsetselect).add(n).add(t).add(offsett).add(ldt).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(mm).add(m).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dtrevc(side, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+  }
+
+  public void dtrexc(String compq, int n, double[] t, int ldt, double[] q, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrexc").add(compq).add(n).add(t).add(0).add(ldt).add(q).add(0).add(ldq).add(ifst).add(ilst).add(work).add(0).add(info).record();
+    }
+    lapack.dtrexc(compq, n, t, ldt, q, ldq, ifst, ilst, work, info);
+  }
+
+  public void dtrexc(String compq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrexc").add(compq).add(n).add(t).add(offsett).add(ldt).add(q).add(offsetq).add(ldq).add(ifst).add(ilst).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.dtrexc(compq, n, t, offsett, ldt, q, offsetq, ldq, ifst, ilst, work, offsetwork, info);
+  }
+
+  public void dtrrfs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrrfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtrrfs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void dtrrfs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrrfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtrrfs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void dtrsen(String job, String compq, boolean[] select, int n, double[] t, int ldt, double[] q, int ldq, double[] wr, double[] wi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsen").add(job).add(compq).add(select).add(0).add(n).add(t).add(0).add(ldt).add(q).add(0).add(ldq).add(wr).add(0).add(wi).add(0).add(m).add(s).add(sep).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.dtrsen(job, compq, select, n, t, ldt, q, ldq, wr, wi, m, s, sep, work, lwork, iwork, liwork, info);
+  }
+
+  public void dtrsen(String job, String compq, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, double[] wr, int offsetwr, double[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsen").add(job).add(compq).add(select).add(offsetselect).add(n).add(t).add(offsett).add(ldt).add(q).add(offsetq).add(ldq).add(wr).add(offsetwr).add(wi).add(offsetwi).add(m).add(s).add(sep).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.dtrsen(job, compq, select, offsetselect, n, t, offsett, ldt, q, offsetq, ldq, wr, offsetwr, wi, offsetwi, m, s, sep, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void dtrsna(String job, String howmny, boolean[] select, int n, double[] t, int ldt, double[] vl, int ldvl, double[] vr, int ldvr, double[] s, double[] sep, int mm, org.netlib.util.intW m, double[] work, int ldwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsna").add(job).add(howmny).add(select).add(0).add(n).add(t).add(0).add(ldt).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(s).add(0).add(sep).add(0).add(mm).add(m).add(work).add(0).add(ldwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.dtrsna(job, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, s, sep, mm, m, work, ldwork, iwork, info);
+  }
+
+  public void dtrsna(String job, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] sep, int offsetsep, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsna").add(job).add(howmny).add(select).add(offsetselect).add(n).add(t).add(offsett).add(ldt).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(s).add(offsets).add(sep).add(offsetsep).add(mm).add(m).add(work).add(offsetwork).add(ldwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.dtrsna(job, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, sep, offsetsep, mm, m, work, offsetwork, ldwork, iwork, offsetiwork, info);
+  }
+
+  public void dtrsyl(String trana, String tranb, int isgn, int m, int n, double[] a, int lda, double[] b, int ldb, double[] c, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsyl").add(trana).add(tranb).add(isgn).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(Ldc).add(scale).add(info).record();
+    }
+    lapack.dtrsyl(trana, tranb, isgn, m, n, a, lda, b, ldb, c, Ldc, scale, info);
+  }
+
+  public void dtrsyl(String trana, String tranb, int isgn, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrsyl").add(trana).add(tranb).add(isgn).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(Ldc).add(scale).add(info).record();
+    }
+    lapack.dtrsyl(trana, tranb, isgn, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, scale, info);
+  }
+
+  public void dtrti2(String uplo, String diag, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrti2").add(uplo).add(diag).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dtrti2(uplo, diag, n, a, lda, info);
+  }
+
+  public void dtrti2(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrti2").add(uplo).add(diag).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dtrti2(uplo, diag, n, a, offseta, lda, info);
+  }
+
+  public void dtrtri(String uplo, String diag, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrtri").add(uplo).add(diag).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.dtrtri(uplo, diag, n, a, lda, info);
+  }
+
+  public void dtrtri(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrtri").add(uplo).add(diag).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.dtrtri(uplo, diag, n, a, offseta, lda, info);
+  }
+
+  public void dtrtrs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrtrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.dtrtrs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, info);
+  }
+
+  public void dtrtrs(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtrtrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.dtrtrs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void dtzrqf(int m, int n, double[] a, int lda, double[] tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtzrqf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(info).record();
+    }
+    lapack.dtzrqf(m, n, a, lda, tau, info);
+  }
+
+  public void dtzrqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtzrqf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(info).record();
+    }
+    lapack.dtzrqf(m, n, a, offseta, lda, tau, offsettau, info);
+  }
+
+  public void dtzrzf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtzrzf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.dtzrzf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void dtzrzf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("dtzrzf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.dtzrzf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public int ieeeck(int ispec, float zero, float one) {
+    return lapack.ieeeck(ispec, zero, one);
+  }
+
+  public int ilaenv(int ispec, String name, String opts, int n1, int n2, int n3, int n4) {
+    return lapack.ilaenv(ispec, name, opts, n1, n2, n3, n4);
+  }
+
+  public void ilaver(org.netlib.util.intW vers_major, org.netlib.util.intW vers_minor, org.netlib.util.intW vers_patch) {
+    lapack.ilaver(vers_major, vers_minor, vers_patch);
+  }
+
+  public int iparmq(int ispec, String name, String opts, int n, int ilo, int ihi, int lwork) {
+    return lapack.iparmq(ispec, name, opts, n, ilo, ihi, lwork);
+  }
+
+  public boolean lsamen(int n, String ca, String cb) {
+    return lapack.lsamen(n, ca, cb);
+  }
+
+  public void sbdsdc(String uplo, String compq, int n, float[] d, float[] e, float[] u, int ldu, float[] vt, int ldvt, float[] q, int[] iq, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sbdsdc").add(uplo).add(compq).add(n).add(d).add(0).add(e).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(q).add(0).add(iq).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sbdsdc(uplo, compq, n, d, e, u, ldu, vt, ldvt, q, iq, work, iwork, info);
+  }
+
+  public void sbdsdc(String uplo, String compq, int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] q, int offsetq, int[] iq, int offsetiq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sbdsdc").add(uplo).add(compq).add(n).add(d).add(offsetd).add(e).add(offsete).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(q).add(offsetq).add(iq).add(offsetiq).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sbdsdc(uplo, compq, n, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, q, offsetq, iq, offsetiq, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sbdsqr(String uplo, int n, int ncvt, int nru, int ncc, float[] d, float[] e, float[] vt, int ldvt, float[] u, int ldu, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sbdsqr").add(uplo).add(n).add(ncvt).add(nru).add(ncc).add(d).add(0).add(e).add(0).add(vt).add(0).add(ldvt).add(u).add(0).add(ldu).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sbdsqr(uplo, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+  }
+
+  public void sbdsqr(String uplo, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sbdsqr").add(uplo).add(n).add(ncvt).add(nru).add(ncc).add(d).add(offsetd).add(e).add(offsete).add(vt).add(offsetvt).add(ldvt).add(u).add(offsetu).add(ldu).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sbdsqr(uplo, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sdisna(String job, int m, int n, float[] d, float[] sep, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sdisna").add(job).add(m).add(n).add(d).add(0).add(sep).add(0).add(info).record();
+    }
+    lapack.sdisna(job, m, n, d, sep, info);
+  }
+
+  public void sdisna(String job, int m, int n, float[] d, int offsetd, float[] sep, int offsetsep, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sdisna").add(job).add(m).add(n).add(d).add(offsetd).add(sep).add(offsetsep).add(info).record();
+    }
+    lapack.sdisna(job, m, n, d, offsetd, sep, offsetsep, info);
+  }
+
+  public void sgbbrd(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int ldab, float[] d, float[] e, float[] q, int ldq, float[] pt, int ldpt, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbbrd").add(vect).add(m).add(n).add(ncc).add(kl).add(ku).add(ab).add(0).add(ldab).add(d).add(0).add(e).add(0).add(q).add(0).add(ldq).add(pt).add(0).add(ldpt).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sgbbrd(vect, m, n, ncc, kl, ku, ab, ldab, d, e, q, ldq, pt, ldpt, c, Ldc, work, info);
+  }
+
+  public void sgbbrd(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] pt, int offsetpt, int ldpt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbbrd").add(vect).add(m).add(n).add(ncc).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(d).add(offsetd).add(e).add(offsete).add(q).add(offsetq).add(ldq).add(pt).add(offsetpt).add(ldpt).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgbbrd(vect, m, n, ncc, kl, ku, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, pt, offsetpt, ldpt, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sgbcon(String norm, int n, int kl, int ku, float[] ab, int ldab, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbcon").add(norm).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgbcon(norm, n, kl, ku, ab, ldab, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void sgbcon(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbcon").add(norm).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgbcon(norm, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgbequ(int m, int n, int kl, int ku, float[] ab, int ldab, float[] r, float[] c, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbequ").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.sgbequ(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, info);
+  }
+
+  public void sgbequ(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbequ").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.sgbequ(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+  }
+
+  public void sgbrfs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbrfs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgbrfs(trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void sgbrfs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbrfs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgbrfs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgbsv(int n, int kl, int ku, int nrhs, float[] ab, int ldab, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbsv").add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sgbsv(n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+  }
+
+  public void sgbsv(int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbsv").add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sgbsv(n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void sgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, int[] ipiv, org.netlib.util.StringW equed, float[] r, float[] c, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbsvx").add(fact).add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(ipiv).add(0).add(equed).add(r).add(0).add(c).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgbsvx(fact, trans, n, kl, ku, nrhs, ab, ldab, afb, ldafb, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void sgbsvx(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbsvx").add(fact).add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(ipiv).add(offsetipiv).add(equed).add(r).add(offsetr).add(c).add(offsetc).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgbsvx(fact, trans, n, kl, ku, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgbtf2(int m, int n, int kl, int ku, float[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbtf2").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(ipiv).add(0).add(info).record();
+    }
+    lapack.sgbtf2(m, n, kl, ku, ab, ldab, ipiv, info);
+  }
+
+  public void sgbtf2(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbtf2").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.sgbtf2(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+  }
+
+  public void sgbtrf(int m, int n, int kl, int ku, float[] ab, int ldab, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbtrf").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(ipiv).add(0).add(info).record();
+    }
+    lapack.sgbtrf(m, n, kl, ku, ab, ldab, ipiv, info);
+  }
+
+  public void sgbtrf(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbtrf").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.sgbtrf(m, n, kl, ku, ab, offsetab, ldab, ipiv, offsetipiv, info);
+  }
+
+  public void sgbtrs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int ldab, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbtrs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(0).add(ldab).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sgbtrs(trans, n, kl, ku, nrhs, ab, ldab, ipiv, b, ldb, info);
+  }
+
+  public void sgbtrs(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgbtrs").add(trans).add(n).add(kl).add(ku).add(nrhs).add(ab).add(offsetab).add(ldab).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sgbtrs(trans, n, kl, ku, nrhs, ab, offsetab, ldab, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void sgebak(String job, String side, int n, int ilo, int ihi, float[] scale, int m, float[] v, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebak").add(job).add(side).add(n).add(ilo).add(ihi).add(scale).add(0).add(m).add(v).add(0).add(ldv).add(info).record();
+    }
+    lapack.sgebak(job, side, n, ilo, ihi, scale, m, v, ldv, info);
+  }
+
+  public void sgebak(String job, String side, int n, int ilo, int ihi, float[] scale, int offsetscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebak").add(job).add(side).add(n).add(ilo).add(ihi).add(scale).add(offsetscale).add(m).add(v).add(offsetv).add(ldv).add(info).record();
+    }
+    lapack.sgebak(job, side, n, ilo, ihi, scale, offsetscale, m, v, offsetv, ldv, info);
+  }
+
+  public void sgebal(String job, int n, float[] a, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebal").add(job).add(n).add(a).add(0).add(lda).add(ilo).add(ihi).add(scale).add(0).add(info).record();
+    }
+    lapack.sgebal(job, n, a, lda, ilo, ihi, scale, info);
+  }
+
+  public void sgebal(String job, int n, float[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebal").add(job).add(n).add(a).add(offseta).add(lda).add(ilo).add(ihi).add(scale).add(offsetscale).add(info).record();
+    }
+    lapack.sgebal(job, n, a, offseta, lda, ilo, ihi, scale, offsetscale, info);
+  }
+
+  public void sgebd2(int m, int n, float[] a, int lda, float[] d, float[] e, float[] tauq, float[] taup, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebd2").add(m).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tauq).add(0).add(taup).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sgebd2(m, n, a, lda, d, e, tauq, taup, work, info);
+  }
+
+  public void sgebd2(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebd2").add(m).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tauq).add(offsettauq).add(taup).add(offsettaup).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgebd2(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, info);
+  }
+
+  public void sgebrd(int m, int n, float[] a, int lda, float[] d, float[] e, float[] tauq, float[] taup, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebrd").add(m).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tauq).add(0).add(taup).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgebrd(m, n, a, lda, d, e, tauq, taup, work, lwork, info);
+  }
+
+  public void sgebrd(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgebrd").add(m).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tauq).add(offsettauq).add(taup).add(offsettaup).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgebrd(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+  }
+
+  public void sgecon(String norm, int n, float[] a, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgecon").add(norm).add(n).add(a).add(0).add(lda).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgecon(norm, n, a, lda, anorm, rcond, work, iwork, info);
+  }
+
+  public void sgecon(String norm, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgecon").add(norm).add(n).add(a).add(offseta).add(lda).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgecon(norm, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgeequ(int m, int n, float[] a, int lda, float[] r, float[] c, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeequ").add(m).add(n).add(a).add(0).add(lda).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.sgeequ(m, n, a, lda, r, c, rowcnd, colcnd, amax, info);
+  }
+
+  public void sgeequ(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeequ").add(m).add(n).add(a).add(offseta).add(lda).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(info).record();
+    }
+    lapack.sgeequ(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, info);
+  }
+
+  public void sgees(String jobvs, String sort, java.lang.Object select, int n, float[] a, int lda, org.netlib.util.intW sdim, float[] wr, float[] wi, float[] vs, int ldvs, float[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgees").add(jobvs).add(sort).add(select).add(n).add(a).add(0).add(lda).add(sdim).add(wr).add(0).add(wi).add(0).add(vs).add(0).add(ldvs).add(work).add(0).add(lwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.sgees(jobvs, sort, select, n, a, lda, sdim, wr, wi, vs, ldvs, work, lwork, bwork, info);
+  }
+
+  public void sgees(String jobvs, String sort, java.lang.Object select, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgees").add(jobvs).add(sort).add(select).add(n).add(a).add(offseta).add(lda).add(sdim).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vs).add(offsetvs).add(ldvs).add(work).add(offsetwork).add(lwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.sgees(jobvs, sort, select, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, work, offsetwork, lwork, bwork, offsetbwork, info);
+  }
+
+  public void sgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int lda, org.netlib.util.intW sdim, float[] wr, float[] wi, float[] vs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeesx").add(jobvs).add(sort).add(select).add(sense).add(n).add(a).add(0).add(lda).add(sdim).add(wr).add(0).add(wi).add(0).add(vs).add(0).add(ldvs).add(rconde).add(rcondv).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.sgeesx(jobvs, sort, select, sense, n, a, lda, sdim, wr, wi, vs, ldvs, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+  }
+
+  public void sgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeesx").add(jobvs).add(sort).add(select).add(sense).add(n).add(a).add(offseta).add(lda).add(sdim).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vs).add(offsetvs).add(ldvs).add(rconde).add(rcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.sgeesx(jobvs, sort, select, sense, n, a, offseta, lda, sdim, wr, offsetwr, wi, offsetwi, vs, offsetvs, ldvs, rconde, rcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+  }
+
+  public void sgeev(String jobvl, String jobvr, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeev").add(jobvl).add(jobvr).add(n).add(a).add(0).add(lda).add(wr).add(0).add(wi).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgeev(jobvl, jobvr, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, work, lwork, info);
+  }
+
+  public void sgeev(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeev").add(jobvl).add(jobvr).add(n).add(a).add(offseta).add(lda).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgeev(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, org.netlib.util.floatW abnrm, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(0).add(lda).add(wr).add(0).add(wi).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(ilo).add(ihi).add(scale).add(0).add(abnrm).add(rconde).add(0).add(rcondv).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgeevx(balanc, jobvl, jobvr, sense, n, a, lda, wr, wi, vl, ldvl, vr, ldvr, ilo, ihi, scale, abnrm, rconde, rcondv, work, lwork, iwork, info);
+  }
+
+  public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(offseta).add(lda).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(ilo).add(ihi).add(scale).add(offsetscale).add(abnrm).add(rconde).add(offsetrconde).add(rcondv).add(offsetrcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgeevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, scale, offsetscale, abnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void sgegs(String jobvsl, String jobvsr, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vsl, int ldvsl, float[] vsr, int ldvsr, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgegs").add(jobvsl).add(jobvsr).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vsl).add(0).add(ldvsl).add(vsr).add(0).add(ldvsr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgegs(jobvsl, jobvsr, n, a, lda, b, ldb, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, info);
+  }
+
+  public void sgegs(String jobvsl, String jobvsr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgegs").add(jobvsl).add(jobvsr).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vsl).add(offsetvsl).add(ldvsl).add(vsr).add(offsetvsr).add(ldvsr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgegs(jobvsl, jobvsr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, info);
+  }
+
+  public void sgegv(String jobvl, String jobvr, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vl, int ldvl, float[] vr, int ldvr, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgegv").add(jobvl).add(jobvr).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgegv(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+  }
+
+  public void sgegv(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgegv").add(jobvl).add(jobvr).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgegv(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  public void sgehd2(int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgehd2").add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sgehd2(n, ilo, ihi, a, lda, tau, work, info);
+  }
+
+  public void sgehd2(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgehd2").add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgehd2(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sgehrd(int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgehrd").add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgehrd(n, ilo, ihi, a, lda, tau, work, lwork, info);
+  }
+
+  public void sgehrd(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgehrd").add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgehrd(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sgelq2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelq2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sgelq2(m, n, a, lda, tau, work, info);
+  }
+
+  public void sgelq2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelq2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgelq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sgelqf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelqf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgelqf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void sgelqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelqf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgelqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sgels(String trans, int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgels").add(trans).add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgels(trans, m, n, nrhs, a, lda, b, ldb, work, lwork, info);
+  }
+
+  public void sgels(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgels").add(trans).add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgels(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+  }
+
+  public void sgelsd(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelsd").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(s).add(0).add(rcond).add(rank).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgelsd(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, iwork, info);
+  }
+
+  public void sgelsd(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelsd").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(s).add(offsets).add(rcond).add(rank).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgelsd(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void sgelss(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelss").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(s).add(0).add(rcond).add(rank).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgelss(m, n, nrhs, a, lda, b, ldb, s, rcond, rank, work, lwork, info);
+  }
+
+  public void sgelss(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelss").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(s).add(offsets).add(rcond).add(rank).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgelss(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+  }
+
+  public void sgelsx(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, int[] jpvt, float rcond, org.netlib.util.intW rank, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelsx").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(jpvt).add(0).add(rcond).add(rank).add(work).add(0).add(info).record();
+    }
+    lapack.sgelsx(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, info);
+  }
+
+  public void sgelsx(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelsx").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(jpvt).add(offsetjpvt).add(rcond).add(rank).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgelsx(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, info);
+  }
+
+  public void sgelsy(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, int[] jpvt, float rcond, org.netlib.util.intW rank, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelsy").add(m).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(jpvt).add(0).add(rcond).add(rank).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgelsy(m, n, nrhs, a, lda, b, ldb, jpvt, rcond, rank, work, lwork, info);
+  }
+
+  public void sgelsy(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgelsy").add(m).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(jpvt).add(offsetjpvt).add(rcond).add(rank).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgelsy(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, jpvt, offsetjpvt, rcond, rank, work, offsetwork, lwork, info);
+  }
+
+  public void sgeql2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeql2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sgeql2(m, n, a, lda, tau, work, info);
+  }
+
+  public void sgeql2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeql2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgeql2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sgeqlf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqlf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgeqlf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void sgeqlf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqlf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgeqlf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sgeqp3(int m, int n, float[] a, int lda, int[] jpvt, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqp3").add(m).add(n).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgeqp3(m, n, a, lda, jpvt, tau, work, lwork, info);
+  }
+
+  public void sgeqp3(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqp3").add(m).add(n).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgeqp3(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sgeqpf(int m, int n, float[] a, int lda, int[] jpvt, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqpf").add(m).add(n).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sgeqpf(m, n, a, lda, jpvt, tau, work, info);
+  }
+
+  public void sgeqpf(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqpf").add(m).add(n).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgeqpf(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sgeqr2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqr2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sgeqr2(m, n, a, lda, tau, work, info);
+  }
+
+  public void sgeqr2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqr2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgeqr2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sgeqrf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqrf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgeqrf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void sgeqrf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgeqrf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgeqrf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sgerfs(String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgerfs").add(trans).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgerfs(trans, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void sgerfs(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgerfs").add(trans).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgerfs(trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgerq2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgerq2").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sgerq2(m, n, a, lda, tau, work, info);
+  }
+
+  public void sgerq2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgerq2").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sgerq2(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sgerqf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgerqf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgerqf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void sgerqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgerqf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgerqf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sgesc2(int n, float[] a, int lda, float[] rhs, int[] ipiv, int[] jpiv, org.netlib.util.floatW scale) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesc2").add(n).add(a).add(0).add(lda).add(rhs).add(0).add(ipiv).add(0).add(jpiv).add(0).add(scale).record();
+    }
+    lapack.sgesc2(n, a, lda, rhs, ipiv, jpiv, scale);
+  }
+
+  public void sgesc2(int n, float[] a, int offseta, int lda, float[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.floatW scale) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesc2").add(n).add(a).add(offseta).add(lda).add(rhs).add(offsetrhs).add(ipiv).add(offsetipiv).add(jpiv).add(offsetjpiv).add(scale).record();
+    }
+    lapack.sgesc2(n, a, offseta, lda, rhs, offsetrhs, ipiv, offsetipiv, jpiv, offsetjpiv, scale);
+  }
+
+  public void sgesdd(String jobz, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesdd").add(jobz).add(m).add(n).add(a).add(0).add(lda).add(s).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgesdd(jobz, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, iwork, info);
+  }
+
+  public void sgesdd(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesdd").add(jobz).add(m).add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgesdd(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void sgesv(int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesv").add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sgesv(n, nrhs, a, lda, ipiv, b, ldb, info);
+  }
+
+  public void sgesv(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesv").add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesvd").add(jobu).add(jobvt).add(m).add(n).add(a).add(0).add(lda).add(s).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgesvd(jobu, jobvt, m, n, a, lda, s, u, ldu, vt, ldvt, work, lwork, info);
+  }
+
+  public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesvd").add(jobu).add(jobvt).add(m).add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgesvd(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+  }
+
+  public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, float[] r, float[] c, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesvx").add(fact).add(trans).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(equed).add(r).add(0).add(c).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgesvx(fact, trans, n, nrhs, a, lda, af, ldaf, ipiv, equed, r, c, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgesvx").add(fact).add(trans).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(equed).add(r).add(offsetr).add(c).add(offsetc).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgesvx(fact, trans, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, equed, r, offsetr, c, offsetc, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgetc2(int n, float[] a, int lda, int[] ipiv, int[] jpiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetc2").add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(jpiv).add(0).add(info).record();
+    }
+    lapack.sgetc2(n, a, lda, ipiv, jpiv, info);
+  }
+
+  public void sgetc2(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetc2").add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(jpiv).add(offsetjpiv).add(info).record();
+    }
+    lapack.sgetc2(n, a, offseta, lda, ipiv, offsetipiv, jpiv, offsetjpiv, info);
+  }
+
+  public void sgetf2(int m, int n, float[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetf2").add(m).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(info).record();
+    }
+    lapack.sgetf2(m, n, a, lda, ipiv, info);
+  }
+
+  public void sgetf2(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetf2").add(m).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.sgetf2(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  public void sgetrf(int m, int n, float[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetrf").add(m).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(info).record();
+    }
+    lapack.sgetrf(m, n, a, lda, ipiv, info);
+  }
+
+  public void sgetrf(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetrf").add(m).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.sgetrf(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  public void sgetri(int n, float[] a, int lda, int[] ipiv, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetri").add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgetri(n, a, lda, ipiv, work, lwork, info);
+  }
+
+  public void sgetri(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetri").add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgetri(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+  }
+
+  public void sgetrs(String trans, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetrs").add(trans).add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sgetrs(trans, n, nrhs, a, lda, ipiv, b, ldb, info);
+  }
+
+  public void sgetrs(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgetrs").add(trans).add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sgetrs(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, float[] rscale, int m, float[] v, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggbak").add(job).add(side).add(n).add(ilo).add(ihi).add(lscale).add(0).add(rscale).add(0).add(m).add(v).add(0).add(ldv).add(info).record();
+    }
+    lapack.sggbak(job, side, n, ilo, ihi, lscale, rscale, m, v, ldv, info);
+  }
+
+  public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggbak").add(job).add(side).add(n).add(ilo).add(ihi).add(lscale).add(offsetlscale).add(rscale).add(offsetrscale).add(m).add(v).add(offsetv).add(ldv).add(info).record();
+    }
+    lapack.sggbak(job, side, n, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, m, v, offsetv, ldv, info);
+  }
+
+  public void sggbal(String job, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, float[] rscale, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggbal").add(job).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(ilo).add(ihi).add(lscale).add(0).add(rscale).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sggbal(job, n, a, lda, b, ldb, ilo, ihi, lscale, rscale, work, info);
+  }
+
+  public void sggbal(String job, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggbal").add(job).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(ilo).add(ihi).add(lscale).add(offsetlscale).add(rscale).add(offsetrscale).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sggbal(job, n, a, offseta, lda, b, offsetb, ldb, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, work, offsetwork, info);
+  }
+
+  public void sgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW sdim, float[] alphar, float[] alphai, float[] beta, float[] vsl, int ldvsl, float[] vsr, int ldvsr, float[] work, int lwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgges").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(sdim).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vsl).add(0).add(ldvsl).add(vsr).add(0).add(ldvsr).add(work).add(0).add(lwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.sgges(jobvsl, jobvsr, sort, selctg, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, work, lwork, bwork, info);
+  }
+
+  public void sgges(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgges").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(sdim).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vsl).add(offsetvsl).add(ldvsl).add(vsr).add(offsetvsr).add(ldvsr).add(work).add(offsetwork).add(lwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.sgges(jobvsl, jobvsr, sort, selctg, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, work, offsetwork, lwork, bwork, offsetbwork, info);
+  }
+
+  public void sggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW sdim, float[] alphar, float[] alphai, float[] beta, float[] vsl, int ldvsl, float[] vsr, int ldvsr, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, int liwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggesx").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(sense).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(sdim).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vsl).add(0).add(ldvsl).add(vsr).add(0).add(ldvsr).add(rconde).add(0).add(rcondv).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(bwork).add(0).add(info).record();
+    }
+    lapack.sggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, lda, b, ldb, sdim, alphar, alphai, beta, vsl, ldvsl, vsr, ldvsr, rconde, rcondv, work, lwork, iwork, liwork, bwork, info);
+  }
+
+  public void sggesx(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggesx").add(jobvsl).add(jobvsr).add(sort).add(selctg).add(sense).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(sdim).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vsl).add(offsetvsl).add(ldvsl).add(vsr).add(offsetvsr).add(ldvsr).add(rconde).add(offsetrconde).add(rcondv).add(offsetrcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.sggesx(jobvsl, jobvsr, sort, selctg, sense, n, a, offseta, lda, b, offsetb, ldb, sdim, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vsl, offsetvsl, ldvsl, vsr, offsetvsr, ldvsr, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, liwork, bwork, offsetbwork, info);
+  }
+
+  public void sggev(String jobvl, String jobvr, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vl, int ldvl, float[] vr, int ldvr, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggev").add(jobvl).add(jobvr).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sggev(jobvl, jobvr, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, work, lwork, info);
+  }
+
+  public void sggev(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggev").add(jobvl).add(jobvr).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sggev(jobvl, jobvr, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  public void sggevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, float[] rscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, boolean[] bwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(ilo).add(ihi).add(lscale).add(0).add(rscale).add(0).add(abnrm).add(bbnrm).add(rconde).add(0).add(rcondv).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(bwork).add(0).add(info).record();
+    }
+    lapack.sggevx(balanc, jobvl, jobvr, sense, n, a, lda, b, ldb, alphar, alphai, beta, vl, ldvl, vr, ldvr, ilo, ihi, lscale, rscale, abnrm, bbnrm, rconde, rcondv, work, lwork, iwork, bwork, info);
+  }
+
+  public void sggevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggevx").add(balanc).add(jobvl).add(jobvr).add(sense).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(ilo).add(ihi).add(lscale).add(offsetlscale).add(rscale).add(offsetrscale).add(abnrm).add(bbnrm).add(rconde).add(offsetrconde).add(rcondv).add(offsetrcondv).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(bwork).add(offsetbwork).add(info).record();
+    }
+    lapack.sggevx(balanc, jobvl, jobvr, sense, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, vl, offsetvl, ldvl, vr, offsetvr, ldvr, ilo, ihi, lscale, offsetlscale, rscale, offsetrscale, abnrm, bbnrm, rconde, offsetrconde, rcondv, offsetrcondv, work, offsetwork, lwork, iwork, offsetiwork, bwork, offsetbwork, info);
+  }
+
+  public void sggglm(int n, int m, int p, float[] a, int lda, float[] b, int ldb, float[] d, float[] x, float[] y, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggglm").add(n).add(m).add(p).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(d).add(0).add(x).add(0).add(y).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sggglm(n, m, p, a, lda, b, ldb, d, x, y, work, lwork, info);
+  }
+
+  public void sggglm(int n, int m, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] d, int offsetd, float[] x, int offsetx, float[] y, int offsety, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggglm").add(n).add(m).add(p).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(d).add(offsetd).add(x).add(offsetx).add(y).add(offsety).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sggglm(n, m, p, a, offseta, lda, b, offsetb, ldb, d, offsetd, x, offsetx, y, offsety, work, offsetwork, lwork, info);
+  }
+
+  public void sgghrd(String compq, String compz, int n, int ilo, int ihi, float[] a, int lda, float[] b, int ldb, float[] q, int ldq, float[] z, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgghrd").add(compq).add(compz).add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(info).record();
+    }
+    lapack.sgghrd(compq, compz, n, ilo, ihi, a, lda, b, ldb, q, ldq, z, ldz, info);
+  }
+
+  public void sgghrd(String compq, String compz, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgghrd").add(compq).add(compz).add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(info).record();
+    }
+    lapack.sgghrd(compq, compz, n, ilo, ihi, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, info);
+  }
+
+  public void sgglse(int m, int n, int p, float[] a, int lda, float[] b, int ldb, float[] c, float[] d, float[] x, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgglse").add(m).add(n).add(p).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(d).add(0).add(x).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sgglse(m, n, p, a, lda, b, ldb, c, d, x, work, lwork, info);
+  }
+
+  public void sgglse(int m, int n, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, float[] d, int offsetd, float[] x, int offsetx, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgglse").add(m).add(n).add(p).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(d).add(offsetd).add(x).add(offsetx).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sgglse(m, n, p, a, offseta, lda, b, offsetb, ldb, c, offsetc, d, offsetd, x, offsetx, work, offsetwork, lwork, info);
+  }
+
+  public void sggqrf(int n, int m, int p, float[] a, int lda, float[] taua, float[] b, int ldb, float[] taub, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggqrf").add(n).add(m).add(p).add(a).add(0).add(lda).add(taua).add(0).add(b).add(0).add(ldb).add(taub).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sggqrf(n, m, p, a, lda, taua, b, ldb, taub, work, lwork, info);
+  }
+
+  public void sggqrf(int n, int m, int p, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggqrf").add(n).add(m).add(p).add(a).add(offseta).add(lda).add(taua).add(offsettaua).add(b).add(offsetb).add(ldb).add(taub).add(offsettaub).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sggqrf(n, m, p, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+  }
+
+  public void sggrqf(int m, int p, int n, float[] a, int lda, float[] taua, float[] b, int ldb, float[] taub, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggrqf").add(m).add(p).add(n).add(a).add(0).add(lda).add(taua).add(0).add(b).add(0).add(ldb).add(taub).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sggrqf(m, p, n, a, lda, taua, b, ldb, taub, work, lwork, info);
+  }
+
+  public void sggrqf(int m, int p, int n, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggrqf").add(m).add(p).add(n).add(a).add(offseta).add(lda).add(taua).add(offsettaua).add(b).add(offsetb).add(ldb).add(taub).add(offsettaub).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sggrqf(m, p, n, a, offseta, lda, taua, offsettaua, b, offsetb, ldb, taub, offsettaub, work, offsetwork, lwork, info);
+  }
+
+  public void sggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int lda, float[] b, int ldb, float[] alpha, float[] beta, float[] u, int ldu, float[] v, int ldv, float[] q, int ldq, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggsvd").add(jobu).add(jobv).add(jobq).add(m).add(n).add(p).add(k).add(l).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alpha).add(0).add(beta).add(0).add(u).add(0).add(ldu).add(v).add(0).add(ldv).add(q).add(0).add(ldq).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sggsvd(jobu, jobv, jobq, m, n, p, k, l, a, lda, b, ldb, alpha, beta, u, ldu, v, ldv, q, ldq, work, iwork, info);
+  }
+
+  public void sggsvd(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggsvd").add(jobu).add(jobv).add(jobq).add(m).add(n).add(p).add(k).add(l).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alpha).add(offsetalpha).add(beta).add(offsetbeta).add(u).add(offsetu).add(ldu).add(v).add(offsetv).add(ldv).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sggsvd(jobu, jobv, jobq, m, n, p, k, l, a, offseta, lda, b, offsetb, ldb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sggsvp(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int lda, float[] b, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int ldu, float[] v, int ldv, float[] q, int ldq, int[] iwork, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggsvp").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(tola).add(tolb).add(k).add(l).add(u).add(0).add(ldu).add(v).add(0).add(ldv).add(q).add(0).add(ldq).add(iwork).add(0).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sggsvp(jobu, jobv, jobq, m, p, n, a, lda, b, ldb, tola, tolb, k, l, u, ldu, v, ldv, q, ldq, iwork, tau, work, info);
+  }
+
+  public void sggsvp(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sggsvp").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(tola).add(tolb).add(k).add(l).add(u).add(offsetu).add(ldu).add(v).add(offsetv).add(ldv).add(q).add(offsetq).add(ldq).add(iwork).add(offsetiwork).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sggsvp(jobu, jobv, jobq, m, p, n, a, offseta, lda, b, offsetb, ldb, tola, tolb, k, l, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, iwork, offsetiwork, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sgtcon(String norm, int n, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtcon").add(norm).add(n).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgtcon(norm, n, dl, d, du, du2, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void sgtcon(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtcon").add(norm).add(n).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgtcon(norm, n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgtrfs(String trans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] dlf, float[] df, float[] duf, float[] du2, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtrfs").add(trans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(dlf).add(0).add(df).add(0).add(duf).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgtrfs(trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void sgtrfs(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtrfs").add(trans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(dlf).add(offsetdlf).add(df).add(offsetdf).add(duf).add(offsetduf).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgtrfs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgtsv(int n, int nrhs, float[] dl, float[] d, float[] du, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtsv").add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sgtsv(n, nrhs, dl, d, du, b, ldb, info);
+  }
+
+  public void sgtsv(int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtsv").add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sgtsv(n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, b, offsetb, ldb, info);
+  }
+
+  public void sgtsvx(String fact, String trans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] dlf, float[] df, float[] duf, float[] du2, int[] ipiv, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtsvx").add(fact).add(trans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(dlf).add(0).add(df).add(0).add(duf).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sgtsvx(fact, trans, n, nrhs, dl, d, du, dlf, df, duf, du2, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void sgtsvx(String fact, String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtsvx").add(fact).add(trans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(dlf).add(offsetdlf).add(df).add(offsetdf).add(duf).add(offsetduf).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sgtsvx(fact, trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, dlf, offsetdlf, df, offsetdf, duf, offsetduf, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sgttrf(int n, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgttrf").add(n).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(info).record();
+    }
+    lapack.sgttrf(n, dl, d, du, du2, ipiv, info);
+  }
+
+  public void sgttrf(int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgttrf").add(n).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.sgttrf(n, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, info);
+  }
+
+  public void sgttrs(String trans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgttrs").add(trans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sgttrs(trans, n, nrhs, dl, d, du, du2, ipiv, b, ldb, info);
+  }
+
+  public void sgttrs(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgttrs").add(trans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sgttrs(trans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void sgtts2(int itrans, int n, int nrhs, float[] dl, float[] d, float[] du, float[] du2, int[] ipiv, float[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtts2").add(itrans).add(n).add(nrhs).add(dl).add(0).add(d).add(0).add(du).add(0).add(du2).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).record();
+    }
+    lapack.sgtts2(itrans, n, nrhs, dl, d, du, du2, ipiv, b, ldb);
+  }
+
+  public void sgtts2(int itrans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sgtts2").add(itrans).add(n).add(nrhs).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(du2).add(offsetdu2).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.sgtts2(itrans, n, nrhs, dl, offsetdl, d, offsetd, du, offsetdu, du2, offsetdu2, ipiv, offsetipiv, b, offsetb, ldb);
+  }
+
+  public void shgeqz(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int ldh, float[] t, int ldt, float[] alphar, float[] alphai, float[] beta, float[] q, int ldq, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("shgeqz").add(job).add(compq).add(compz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(t).add(0).add(ldt).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.shgeqz(job, compq, compz, n, ilo, ihi, h, ldh, t, ldt, alphar, alphai, beta, q, ldq, z, ldz, work, lwork, info);
+  }
+
+  public void shgeqz(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] t, int offsett, int ldt, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("shgeqz").add(job).add(compq).add(compz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(t).add(offsett).add(ldt).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.shgeqz(job, compq, compz, n, ilo, ihi, h, offseth, ldh, t, offsett, ldt, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public void shsein(String side, String eigsrc, String initv, boolean[] select, int n, float[] h, int ldh, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int[] ifaill, int[] ifailr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("shsein").add(side).add(eigsrc).add(initv).add(select).add(0).add(n).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(mm).add(m).add(work).add(0).add(ifaill).add(0).add(ifailr).add(0).add(info).record();
+    }
+    lapack.shsein(side, eigsrc, initv, select, n, h, ldh, wr, wi, vl, ldvl, vr, ldvr, mm, m, work, ifaill, ifailr, info);
+  }
+
+  public void shsein(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("shsein").add(side).add(eigsrc).add(initv).add(select).add(offsetselect).add(n).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(mm).add(m).add(work).add(offsetwork).add(ifaill).add(offsetifaill).add(ifailr).add(offsetifailr).add(info).record();
+    }
+    lapack.shsein(side, eigsrc, initv, select, offsetselect, n, h, offseth, ldh, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, ifaill, offsetifaill, ifailr, offsetifailr, info);
+  }
+
+  public void shseqr(String job, String compz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("shseqr").add(job).add(compz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.shseqr(job, compz, n, ilo, ihi, h, ldh, wr, wi, z, ldz, work, lwork, info);
+  }
+
+  public void shseqr(String job, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("shseqr").add(job).add(compz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.shseqr(job, compz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public boolean sisnan(float sin) {
+    return lapack.sisnan(sin);
+  }
+
+  public void slabad(org.netlib.util.floatW small, org.netlib.util.floatW large) {
+    lapack.slabad(small, large);
+  }
+
+  public void slabrd(int m, int n, int nb, float[] a, int lda, float[] d, float[] e, float[] tauq, float[] taup, float[] x, int ldx, float[] y, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slabrd").add(m).add(n).add(nb).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tauq).add(0).add(taup).add(0).add(x).add(0).add(ldx).add(y).add(0).add(ldy).record();
+    }
+    lapack.slabrd(m, n, nb, a, lda, d, e, tauq, taup, x, ldx, y, ldy);
+  }
+
+  public void slabrd(int m, int n, int nb, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] x, int offsetx, int ldx, float[] y, int offsety, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slabrd").add(m).add(n).add(nb).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tauq).add(offsettauq).add(taup).add(offsettaup).add(x).add(offsetx).add(ldx).add(y).add(offsety).add(ldy).record();
+    }
+    lapack.slabrd(m, n, nb, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, x, offsetx, ldx, y, offsety, ldy);
+  }
+
+  public void slacn2(int n, float[] v, float[] x, int[] isgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slacn2").add(n).add(v).add(0).add(x).add(0).add(isgn).add(0).add(est).add(kase).add(isave).add(0).record();
+    }
+    lapack.slacn2(n, v, x, isgn, est, kase, isave);
+  }
+
+  public void slacn2(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slacn2").add(n).add(v).add(offsetv).add(x).add(offsetx).add(isgn).add(offsetisgn).add(est).add(kase).add(isave).add(offsetisave).record();
+    }
+    lapack.slacn2(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase, isave, offsetisave);
+  }
+
+  public void slacon(int n, float[] v, float[] x, int[] isgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slacon").add(n).add(v).add(0).add(x).add(0).add(isgn).add(0).add(est).add(kase).record();
+    }
+    lapack.slacon(n, v, x, isgn, est, kase);
+  }
+
+  public void slacon(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slacon").add(n).add(v).add(offsetv).add(x).add(offsetx).add(isgn).add(offsetisgn).add(est).add(kase).record();
+    }
+    lapack.slacon(n, v, offsetv, x, offsetx, isgn, offsetisgn, est, kase);
+  }
+
+  public void slacpy(String uplo, int m, int n, float[] a, int lda, float[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slacpy").add(uplo).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).record();
+    }
+    lapack.slacpy(uplo, m, n, a, lda, b, ldb);
+  }
+
+  public void slacpy(String uplo, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slacpy").add(uplo).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.slacpy(uplo, m, n, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public void sladiv(float a, float b, float c, float d, org.netlib.util.floatW p, org.netlib.util.floatW q) {
+    lapack.sladiv(a, b, c, d, p, q);
+  }
+
+  public void slae2(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2) {
+    lapack.slae2(a, b, c, rt1, rt2);
+  }
+
+  public void slaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, float[] e, float[] e2, int[] nval, float[] ab, float[] c, org.netlib.util.intW mout, int[] nab, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaebz").add(ijob).add(nitmax).add(n).add(mmax).add(minp).add(nbmin).add(abstol).add(reltol).add(pivmin).add(d).add(0).add(e).add(0).add(e2).add(0).add(nval).add(0).add(ab).add(0).add(c).add(0).add(mout).add(nab).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, e, e2, nval, ab, c, mout, nab, work, iwork, info);
+  }
+
+  public void slaebz(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, int[] nval, int offsetnval, float[] ab, int offsetab, float[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaebz").add(ijob).add(nitmax).add(n).add(mmax).add(minp).add(nbmin).add(abstol).add(reltol).add(pivmin).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(nval).add(offsetnval).add(ab).add(offsetab).add(c).add(offsetc).add(mout).add(nab).add(offsetnab).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slaebz(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, d, offsetd, e, offsete, e2, offsete2, nval, offsetnval, ab, offsetab, c, offsetc, mout, nab, offsetnab, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slaed0(int icompq, int qsiz, int n, float[] d, float[] e, float[] q, int ldq, float[] qstore, int ldqs, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed0").add(icompq).add(qsiz).add(n).add(d).add(0).add(e).add(0).add(q).add(0).add(ldq).add(qstore).add(0).add(ldqs).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slaed0(icompq, qsiz, n, d, e, q, ldq, qstore, ldqs, work, iwork, info);
+  }
+
+  public void slaed0(int icompq, int qsiz, int n, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] qstore, int offsetqstore, int ldqs, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed0").add(icompq).add(qsiz).add(n).add(d).add(offsetd).add(e).add(offsete).add(q).add(offsetq).add(ldq).add(qstore).add(offsetqstore).add(ldqs).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slaed0(icompq, qsiz, n, d, offsetd, e, offsete, q, offsetq, ldq, qstore, offsetqstore, ldqs, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slaed1(int n, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed1").add(n).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(cutpnt).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slaed1(n, d, q, ldq, indxq, rho, cutpnt, work, iwork, info);
+  }
+
+  public void slaed1(int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed1").add(n).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(cutpnt).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slaed1(n, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slaed2(org.netlib.util.intW k, int n, int n1, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, float[] z, float[] dlamda, float[] w, float[] q2, int[] indx, int[] indxc, int[] indxp, int[] coltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed2").add(k).add(n).add(n1).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(z).add(0).add(dlamda).add(0).add(w).add(0).add(q2).add(0).add(indx).add(0).add(indxc).add(0).add(indxp).add(0).add(coltyp).add(0).add(info).record();
+    }
+    lapack.slaed2(k, n, n1, d, q, ldq, indxq, rho, z, dlamda, w, q2, indx, indxc, indxp, coltyp, info);
+  }
+
+  public void slaed2(org.netlib.util.intW k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed2").add(k).add(n).add(n1).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(z).add(offsetz).add(dlamda).add(offsetdlamda).add(w).add(offsetw).add(q2).add(offsetq2).add(indx).add(offsetindx).add(indxc).add(offsetindxc).add(indxp).add(offsetindxp).add(coltyp).add(offsetcoltyp).add(info).record();
+    }
+    lapack.slaed2(k, n, n1, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, z, offsetz, dlamda, offsetdlamda, w, offsetw, q2, offsetq2, indx, offsetindx, indxc, offsetindxc, indxp, offsetindxp, coltyp, offsetcoltyp, info);
+  }
+
+  public void slaed3(int k, int n, int n1, float[] d, float[] q, int ldq, float rho, float[] dlamda, float[] q2, int[] indx, int[] ctot, float[] w, float[] s, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed3").add(k).add(n).add(n1).add(d).add(0).add(q).add(0).add(ldq).add(rho).add(dlamda).add(0).add(q2).add(0).add(indx).add(0).add(ctot).add(0).add(w).add(0).add(s).add(0).add(info).record();
+    }
+    lapack.slaed3(k, n, n1, d, q, ldq, rho, dlamda, q2, indx, ctot, w, s, info);
+  }
+
+  public void slaed3(int k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, float[] w, int offsetw, float[] s, int offsets, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed3").add(k).add(n).add(n1).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(rho).add(dlamda).add(offsetdlamda).add(q2).add(offsetq2).add(indx).add(offsetindx).add(ctot).add(offsetctot).add(w).add(offsetw).add(s).add(offsets).add(info).record();
+    }
+    lapack.slaed3(k, n, n1, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, q2, offsetq2, indx, offsetindx, ctot, offsetctot, w, offsetw, s, offsets, info);
+  }
+
+  public void slaed4(int n, int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed4").add(n).add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(dlam).add(info).record();
+    }
+    lapack.slaed4(n, i, d, z, delta, rho, dlam, info);
+  }
+
+  public void slaed4(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed4").add(n).add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(dlam).add(info).record();
+    }
+    lapack.slaed4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam, info);
+  }
+
+  public void slaed5(int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW dlam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed5").add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(dlam).record();
+    }
+    lapack.slaed5(i, d, z, delta, rho, dlam);
+  }
+
+  public void slaed5(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed5").add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(dlam).record();
+    }
+    lapack.slaed5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dlam);
+  }
+
+  public void slaed6(int kniter, boolean orgati, float rho, float[] d, float[] z, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed6").add(kniter).add(orgati).add(rho).add(d).add(0).add(z).add(0).add(finit).add(tau).add(info).record();
+    }
+    lapack.slaed6(kniter, orgati, rho, d, z, finit, tau, info);
+  }
+
+  public void slaed6(int kniter, boolean orgati, float rho, float[] d, int offsetd, float[] z, int offsetz, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed6").add(kniter).add(orgati).add(rho).add(d).add(offsetd).add(z).add(offsetz).add(finit).add(tau).add(info).record();
+    }
+    lapack.slaed6(kniter, orgati, rho, d, offsetd, z, offsetz, finit, tau, info);
+  }
+
+  public void slaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int[] qptr, int[] prmptr, int[] perm, int[] givptr, int[] givcol, float[] givnum, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed7").add(icompq).add(n).add(qsiz).add(tlvls).add(curlvl).add(curpbm).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(cutpnt).add(qstore).add(0).add(qptr).add(0).add(prmptr).add(0).add(perm).add(0).add(givptr).add(0).add(givcol).add(0).add(givnum).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, q, ldq, indxq, rho, cutpnt, qstore, qptr, prmptr, perm, givptr, givcol, givnum, work, iwork, info);
+  }
+
+  public void slaed7(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed7").add(icompq).add(n).add(qsiz).add(tlvls).add(curlvl).add(curpbm).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(cutpnt).add(qstore).add(offsetqstore).add(qptr).add(offsetqptr).add(prmptr).add(offsetprmptr).add(perm).add(offsetperm).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(givnum).add(offsetgivnum).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slaed7(icompq, n, qsiz, tlvls, curlvl, curpbm, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, qstore, offsetqstore, qptr, offsetqptr, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, float[] q, int ldq, int[] indxq, org.netlib.util.floatW rho, int cutpnt, float[] z, float[] dlamda, float[] q2, int ldq2, float[] w, int[] perm, org.netlib.util.intW givptr, int[] givcol, float[] givnum, int[] indxp, int[] indx, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed8").add(icompq).add(k).add(n).add(qsiz).add(d).add(0).add(q).add(0).add(ldq).add(indxq).add(0).add(rho).add(cutpnt).add(z).add(0).add(dlamda).add(0).add(q2).add(0).add(ldq2).add(w).add(0).add(perm).add(0).add(givptr).add(givcol).add(0).add(givnum).add(0).add(indxp).add(0).add(indx).add(0).add(info).record();
+    }
+    lapack.slaed8(icompq, k, n, qsiz, d, q, ldq, indxq, rho, cutpnt, z, dlamda, q2, ldq2, w, perm, givptr, givcol, givnum, indxp, indx, info);
+  }
+
+  public void slaed8(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int ldq2, float[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed8").add(icompq).add(k).add(n).add(qsiz).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(indxq).add(offsetindxq).add(rho).add(cutpnt).add(z).add(offsetz).add(dlamda).add(offsetdlamda).add(q2).add(offsetq2).add(ldq2).add(w).add(offsetw).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(givnum).add(offsetgivnum).add(indxp).add(offsetindxp).add(indx).add(offsetindx).add(info).record();
+    }
+    lapack.slaed8(icompq, k, n, qsiz, d, offsetd, q, offsetq, ldq, indxq, offsetindxq, rho, cutpnt, z, offsetz, dlamda, offsetdlamda, q2, offsetq2, ldq2, w, offsetw, perm, offsetperm, givptr, givcol, offsetgivcol, givnum, offsetgivnum, indxp, offsetindxp, indx, offsetindx, info);
+  }
+
+  public void slaed9(int k, int kstart, int kstop, int n, float[] d, float[] q, int ldq, float rho, float[] dlamda, float[] w, float[] s, int lds, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed9").add(k).add(kstart).add(kstop).add(n).add(d).add(0).add(q).add(0).add(ldq).add(rho).add(dlamda).add(0).add(w).add(0).add(s).add(0).add(lds).add(info).record();
+    }
+    lapack.slaed9(k, kstart, kstop, n, d, q, ldq, rho, dlamda, w, s, lds, info);
+  }
+
+  public void slaed9(int k, int kstart, int kstop, int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] s, int offsets, int lds, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaed9").add(k).add(kstart).add(kstop).add(n).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(rho).add(dlamda).add(offsetdlamda).add(w).add(offsetw).add(s).add(offsets).add(lds).add(info).record();
+    }
+    lapack.slaed9(k, kstart, kstop, n, d, offsetd, q, offsetq, ldq, rho, dlamda, offsetdlamda, w, offsetw, s, offsets, lds, info);
+  }
+
+  public void slaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int[] perm, int[] givptr, int[] givcol, float[] givnum, float[] q, int[] qptr, float[] z, float[] ztemp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaeda").add(n).add(tlvls).add(curlvl).add(curpbm).add(prmptr).add(0).add(perm).add(0).add(givptr).add(0).add(givcol).add(0).add(givnum).add(0).add(q).add(0).add(qptr).add(0).add(z).add(0).add(ztemp).add(0).add(info).record();
+    }
+    lapack.slaeda(n, tlvls, curlvl, curpbm, prmptr, perm, givptr, givcol, givnum, q, qptr, z, ztemp, info);
+  }
+
+  public void slaeda(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] q, int offsetq, int[] qptr, int offsetqptr, float[] z, int offsetz, float[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaeda").add(n).add(tlvls).add(curlvl).add(curpbm).add(prmptr).add(offsetprmptr).add(perm).add(offsetperm).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(givnum).add(offsetgivnum).add(q).add(offsetq).add(qptr).add(offsetqptr).add(z).add(offsetz).add(ztemp).add(offsetztemp).add(info).record();
+    }
+    lapack.slaeda(n, tlvls, curlvl, curpbm, prmptr, offsetprmptr, perm, offsetperm, givptr, offsetgivptr, givcol, offsetgivcol, givnum, offsetgivnum, q, offsetq, qptr, offsetqptr, z, offsetz, ztemp, offsetztemp, info);
+  }
+
+  public void slaein(boolean rightv, boolean noinit, int n, float[] h, int ldh, float wr, float wi, float[] vr, float[] vi, float[] b, int ldb, float[] work, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaein").add(rightv).add(noinit).add(n).add(h).add(0).add(ldh).add(wr).add(wi).add(vr).add(0).add(vi).add(0).add(b).add(0).add(ldb).add(work).add(0).add(eps3).add(smlnum).add(bignum).add(info).record();
+    }
+    lapack.slaein(rightv, noinit, n, h, ldh, wr, wi, vr, vi, b, ldb, work, eps3, smlnum, bignum, info);
+  }
+
+  public void slaein(boolean rightv, boolean noinit, int n, float[] h, int offseth, int ldh, float wr, float wi, float[] vr, int offsetvr, float[] vi, int offsetvi, float[] b, int offsetb, int ldb, float[] work, int offsetwork, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaein").add(rightv).add(noinit).add(n).add(h).add(offseth).add(ldh).add(wr).add(wi).add(vr).add(offsetvr).add(vi).add(offsetvi).add(b).add(offsetb).add(ldb).add(work).add(offsetwork).add(eps3).add(smlnum).add(bignum).add(info).record();
+    }
+    lapack.slaein(rightv, noinit, n, h, offseth, ldh, wr, wi, vr, offsetvr, vi, offsetvi, b, offsetb, ldb, work, offsetwork, eps3, smlnum, bignum, info);
+  }
+
+  public void slaev2(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2, org.netlib.util.floatW cs1, org.netlib.util.floatW sn1) {
+    lapack.slaev2(a, b, c, rt1, rt2, cs1, sn1);
+  }
+
+  public void slaexc(boolean wantq, int n, float[] t, int ldt, float[] q, int ldq, int j1, int n1, int n2, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaexc").add(wantq).add(n).add(t).add(0).add(ldt).add(q).add(0).add(ldq).add(j1).add(n1).add(n2).add(work).add(0).add(info).record();
+    }
+    lapack.slaexc(wantq, n, t, ldt, q, ldq, j1, n1, n2, work, info);
+  }
+
+  public void slaexc(boolean wantq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, int j1, int n1, int n2, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaexc").add(wantq).add(n).add(t).add(offsett).add(ldt).add(q).add(offsetq).add(ldq).add(j1).add(n1).add(n2).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slaexc(wantq, n, t, offsett, ldt, q, offsetq, ldq, j1, n1, n2, work, offsetwork, info);
+  }
+
+  public void slag2(float[] a, int lda, float[] b, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slag2").add(a).add(0).add(lda).add(b).add(0).add(ldb).add(safmin).add(scale1).add(scale2).add(wr1).add(wr2).add(wi).record();
+    }
+    lapack.slag2(a, lda, b, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+  }
+
+  public void slag2(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slag2").add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(safmin).add(scale1).add(scale2).add(wr1).add(wr2).add(wi).record();
+    }
+    lapack.slag2(a, offseta, lda, b, offsetb, ldb, safmin, scale1, scale2, wr1, wr2, wi);
+  }
+
+  public void slag2d(int m, int n, float[] sa, int ldsa, double[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slag2d").add(m).add(n).add(sa).add(0).add(ldsa).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.slag2d(m, n, sa, ldsa, a, lda, info);
+  }
+
+  public void slag2d(int m, int n, float[] sa, int offsetsa, int ldsa, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slag2d").add(m).add(n).add(sa).add(offsetsa).add(ldsa).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.slag2d(m, n, sa, offsetsa, ldsa, a, offseta, lda, info);
+  }
+
+  public void slags2(boolean upper, float a1, float a2, float a3, float b1, float b2, float b3, org.netlib.util.floatW csu, org.netlib.util.floatW snu, org.netlib.util.floatW csv, org.netlib.util.floatW snv, org.netlib.util.floatW csq, org.netlib.util.floatW snq) {
+    lapack.slags2(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+  }
+
+  public void slagtf(int n, float[] a, float lambda, float[] b, float[] c, float tol, float[] d, int[] in, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagtf").add(n).add(a).add(0).add(lambda).add(b).add(0).add(c).add(0).add(tol).add(d).add(0).add(in).add(0).add(info).record();
+    }
+    lapack.slagtf(n, a, lambda, b, c, tol, d, in, info);
+  }
+
+  public void slagtf(int n, float[] a, int offseta, float lambda, float[] b, int offsetb, float[] c, int offsetc, float tol, float[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagtf").add(n).add(a).add(offseta).add(lambda).add(b).add(offsetb).add(c).add(offsetc).add(tol).add(d).add(offsetd).add(in).add(offsetin).add(info).record();
+    }
+    lapack.slagtf(n, a, offseta, lambda, b, offsetb, c, offsetc, tol, d, offsetd, in, offsetin, info);
+  }
+
+  public void slagtm(String trans, int n, int nrhs, float alpha, float[] dl, float[] d, float[] du, float[] x, int ldx, float beta, float[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagtm").add(trans).add(n).add(nrhs).add(alpha).add(dl).add(0).add(d).add(0).add(du).add(0).add(x).add(0).add(ldx).add(beta).add(b).add(0).add(ldb).record();
+    }
+    lapack.slagtm(trans, n, nrhs, alpha, dl, d, du, x, ldx, beta, b, ldb);
+  }
+
+  public void slagtm(String trans, int n, int nrhs, float alpha, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] x, int offsetx, int ldx, float beta, float[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagtm").add(trans).add(n).add(nrhs).add(alpha).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).add(x).add(offsetx).add(ldx).add(beta).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.slagtm(trans, n, nrhs, alpha, dl, offsetdl, d, offsetd, du, offsetdu, x, offsetx, ldx, beta, b, offsetb, ldb);
+  }
+
+  public void slagts(int job, int n, float[] a, float[] b, float[] c, float[] d, int[] in, float[] y, org.netlib.util.floatW tol, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagts").add(job).add(n).add(a).add(0).add(b).add(0).add(c).add(0).add(d).add(0).add(in).add(0).add(y).add(0).add(tol).add(info).record();
+    }
+    lapack.slagts(job, n, a, b, c, d, in, y, tol, info);
+  }
+
+  public void slagts(int job, int n, float[] a, int offseta, float[] b, int offsetb, float[] c, int offsetc, float[] d, int offsetd, int[] in, int offsetin, float[] y, int offsety, org.netlib.util.floatW tol, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagts").add(job).add(n).add(a).add(offseta).add(b).add(offsetb).add(c).add(offsetc).add(d).add(offsetd).add(in).add(offsetin).add(y).add(offsety).add(tol).add(info).record();
+    }
+    lapack.slagts(job, n, a, offseta, b, offsetb, c, offsetc, d, offsetd, in, offsetin, y, offsety, tol, info);
+  }
+
+  public void slagv2(float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagv2").add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(csl).add(snl).add(csr).add(snr).record();
+    }
+    lapack.slagv2(a, lda, b, ldb, alphar, alphai, beta, csl, snl, csr, snr);
+  }
+
+  public void slagv2(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slagv2").add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(csl).add(snl).add(csr).add(snr).record();
+    }
+    lapack.slagv2(a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, csl, snl, csr, snr);
+  }
+
+  public void slahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, int iloz, int ihiz, float[] z, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slahqr").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(info).record();
+    }
+    lapack.slahqr(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, info);
+  }
+
+  public void slahqr(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slahqr").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(info).record();
+    }
+    lapack.slahqr(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, info);
+  }
+
+  public void slahr2(int n, int k, int nb, float[] a, int lda, float[] tau, float[] t, int ldt, float[] y, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slahr2").add(n).add(k).add(nb).add(a).add(0).add(lda).add(tau).add(0).add(t).add(0).add(ldt).add(y).add(0).add(ldy).record();
+    }
+    lapack.slahr2(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+  }
+
+  public void slahr2(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slahr2").add(n).add(k).add(nb).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(t).add(offsett).add(ldt).add(y).add(offsety).add(ldy).record();
+    }
+    lapack.slahr2(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+  }
+
+  public void slahrd(int n, int k, int nb, float[] a, int lda, float[] tau, float[] t, int ldt, float[] y, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slahrd").add(n).add(k).add(nb).add(a).add(0).add(lda).add(tau).add(0).add(t).add(0).add(ldt).add(y).add(0).add(ldy).record();
+    }
+    lapack.slahrd(n, k, nb, a, lda, tau, t, ldt, y, ldy);
+  }
+
+  public void slahrd(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slahrd").add(n).add(k).add(nb).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(t).add(offsett).add(ldt).add(y).add(offsety).add(ldy).record();
+    }
+    lapack.slahrd(n, k, nb, a, offseta, lda, tau, offsettau, t, offsett, ldt, y, offsety, ldy);
+  }
+
+  public void slaic1(int job, int j, float[] x, float sest, float[] w, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaic1").add(job).add(j).add(x).add(0).add(sest).add(w).add(0).add(gamma).add(sestpr).add(s).add(c).record();
+    }
+    lapack.slaic1(job, j, x, sest, w, gamma, sestpr, s, c);
+  }
+
+  public void slaic1(int job, int j, float[] x, int offsetx, float sest, float[] w, int offsetw, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaic1").add(job).add(j).add(x).add(offsetx).add(sest).add(w).add(offsetw).add(gamma).add(sestpr).add(s).add(c).record();
+    }
+    lapack.slaic1(job, j, x, offsetx, sest, w, offsetw, gamma, sestpr, s, c);
+  }
+
+  public boolean slaisnan(float sin1, float sin2) {
+    return lapack.slaisnan(sin1, sin2);
+  }
+
+  public void slaln2(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int lda, float d1, float d2, float[] b, int ldb, float wr, float wi, float[] x, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaln2").add(ltrans).add(na).add(nw).add(smin).add(ca).add(a).add(0).add(lda).add(d1).add(d2).add(b).add(0).add(ldb).add(wr).add(wi).add(x).add(0).add(ldx).add(scale).add(xnorm).add(info).record();
+    }
+    lapack.slaln2(ltrans, na, nw, smin, ca, a, lda, d1, d2, b, ldb, wr, wi, x, ldx, scale, xnorm, info);
+  }
+
+  public void slaln2(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int offseta, int lda, float d1, float d2, float[] b, int offsetb, int ldb, float wr, float wi, float[] x, int offsetx, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaln2").add(ltrans).add(na).add(nw).add(smin).add(ca).add(a).add(offseta).add(lda).add(d1).add(d2).add(b).add(offsetb).add(ldb).add(wr).add(wi).add(x).add(offsetx).add(ldx).add(scale).add(xnorm).add(info).record();
+    }
+    lapack.slaln2(ltrans, na, nw, smin, ca, a, offseta, lda, d1, d2, b, offsetb, ldb, wr, wi, x, offsetx, ldx, scale, xnorm, info);
+  }
+
+  public void slals0(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int ldb, float[] bx, int ldbx, int[] perm, int givptr, int[] givcol, int ldgcol, float[] givnum, int ldgnum, float[] poles, float[] difl, float[] difr, float[] z, int k, float c, float s, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slals0").add(icompq).add(nl).add(nr).add(sqre).add(nrhs).add(b).add(0).add(ldb).add(bx).add(0).add(ldbx).add(perm).add(0).add(givptr).add(givcol).add(0).add(ldgcol).add(givnum).add(0).add(ldgnum).add(poles).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(k).add(c).add(s).add(work).add(0).add(info).record();
+    }
+    lapack.slals0(icompq, nl, nr, sqre, nrhs, b, ldb, bx, ldbx, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, info);
+  }
+
+  public void slals0(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, int k, float c, float s, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slals0").add(icompq).add(nl).add(nr).add(sqre).add(nrhs).add(b).add(offsetb).add(ldb).add(bx).add(offsetbx).add(ldbx).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(ldgcol).add(givnum).add(offsetgivnum).add(ldgnum).add(poles).add(offsetpoles).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(k).add(c).add(s).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slals0(icompq, nl, nr, sqre, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, info);
+  }
+
+  public void slalsa(int icompq, int smlsiz, int n, int nrhs, float[] b, int ldb, float[] bx, int ldbx, float[] u, int ldu, float[] vt, int[] k, float[] difl, float[] difr, float[] z, float[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, float[] givnum, float[] c, float[] s, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slalsa").add(icompq).add(smlsiz).add(n).add(nrhs).add(b).add(0).add(ldb).add(bx).add(0).add(ldbx).add(u).add(0).add(ldu).add(vt).add(0).add(k).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(poles).add(0).add(givptr).add(0).add(givcol).add(0).add(ldgcol).add(perm).add(0).add(givnum).add(0).add(c).add(0).add(s).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slalsa(icompq, smlsiz, n, nrhs, b, ldb, bx, ldbx, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+  }
+
+  public void slalsa(int icompq, int smlsiz, int n, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slalsa").add(icompq).add(smlsiz).add(n).add(nrhs).add(b).add(offsetb).add(ldb).add(bx).add(offsetbx).add(ldbx).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(k).add(offsetk).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(poles).add(offsetpoles).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(ldgcol).add(perm).add(offsetperm).add(givnum).add(offsetgivnum).add(c).add(offsetc).add(s).add(offsets).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slalsa(icompq, smlsiz, n, nrhs, b, offsetb, ldb, bx, offsetbx, ldbx, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slalsd(String uplo, int smlsiz, int n, int nrhs, float[] d, float[] e, float[] b, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slalsd").add(uplo).add(smlsiz).add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).add(rcond).add(rank).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slalsd(uplo, smlsiz, n, nrhs, d, e, b, ldb, rcond, rank, work, iwork, info);
+  }
+
+  public void slalsd(String uplo, int smlsiz, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slalsd").add(uplo).add(smlsiz).add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).add(rcond).add(rank).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slalsd(uplo, smlsiz, n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, rcond, rank, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slamrg(int n1, int n2, float[] a, int strd1, int strd2, int[] index) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slamrg").add(n1).add(n2).add(a).add(0).add(strd1).add(strd2).add(index).add(0).record();
+    }
+    lapack.slamrg(n1, n2, a, strd1, strd2, index);
+  }
+
+  public void slamrg(int n1, int n2, float[] a, int offseta, int strd1, int strd2, int[] index, int offsetindex) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slamrg").add(n1).add(n2).add(a).add(offseta).add(strd1).add(strd2).add(index).add(offsetindex).record();
+    }
+    lapack.slamrg(n1, n2, a, offseta, strd1, strd2, index, offsetindex);
+  }
+
+  public int slaneg(int n, float[] d, float[] lld, float sigma, float pivmin, int r) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaneg").add(n).add(d).add(0).add(lld).add(0).add(sigma).add(pivmin).add(r).record();
+    }
+    return lapack.slaneg(n, d, lld, sigma, pivmin, r);
+  }
+
+  public int slaneg(int n, float[] d, int offsetd, float[] lld, int offsetlld, float sigma, float pivmin, int r) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaneg").add(n).add(d).add(offsetd).add(lld).add(offsetlld).add(sigma).add(pivmin).add(r).record();
+    }
+    return lapack.slaneg(n, d, offsetd, lld, offsetlld, sigma, pivmin, r);
+  }
+
+  public float slangb(String norm, int n, int kl, int ku, float[] ab, int ldab, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slangb").add(norm).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(work).add(0).record();
+    }
+    return lapack.slangb(norm, n, kl, ku, ab, ldab, work);
+  }
+
+  public float slangb(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slangb").add(norm).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(work).add(offsetwork).record();
+    }
+    return lapack.slangb(norm, n, kl, ku, ab, offsetab, ldab, work, offsetwork);
+  }
+
+  public float slange(String norm, int m, int n, float[] a, int lda, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slange").add(norm).add(m).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.slange(norm, m, n, a, lda, work);
+  }
+
+  public float slange(String norm, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slange").add(norm).add(m).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.slange(norm, m, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public float slangt(String norm, int n, float[] dl, float[] d, float[] du) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slangt").add(norm).add(n).add(dl).add(0).add(d).add(0).add(du).add(0).record();
+    }
+    return lapack.slangt(norm, n, dl, d, du);
+  }
+
+  public float slangt(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slangt").add(norm).add(n).add(dl).add(offsetdl).add(d).add(offsetd).add(du).add(offsetdu).record();
+    }
+    return lapack.slangt(norm, n, dl, offsetdl, d, offsetd, du, offsetdu);
+  }
+
+  public float slanhs(String norm, int n, float[] a, int lda, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slanhs").add(norm).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.slanhs(norm, n, a, lda, work);
+  }
+
+  public float slanhs(String norm, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slanhs").add(norm).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.slanhs(norm, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public float slansb(String norm, String uplo, int n, int k, float[] ab, int ldab, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slansb").add(norm).add(uplo).add(n).add(k).add(ab).add(0).add(ldab).add(work).add(0).record();
+    }
+    return lapack.slansb(norm, uplo, n, k, ab, ldab, work);
+  }
+
+  public float slansb(String norm, String uplo, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slansb").add(norm).add(uplo).add(n).add(k).add(ab).add(offsetab).add(ldab).add(work).add(offsetwork).record();
+    }
+    return lapack.slansb(norm, uplo, n, k, ab, offsetab, ldab, work, offsetwork);
+  }
+
+  public float slansp(String norm, String uplo, int n, float[] ap, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slansp").add(norm).add(uplo).add(n).add(ap).add(0).add(work).add(0).record();
+    }
+    return lapack.slansp(norm, uplo, n, ap, work);
+  }
+
+  public float slansp(String norm, String uplo, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slansp").add(norm).add(uplo).add(n).add(ap).add(offsetap).add(work).add(offsetwork).record();
+    }
+    return lapack.slansp(norm, uplo, n, ap, offsetap, work, offsetwork);
+  }
+
+  public float slanst(String norm, int n, float[] d, float[] e) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slanst").add(norm).add(n).add(d).add(0).add(e).add(0).record();
+    }
+    return lapack.slanst(norm, n, d, e);
+  }
+
+  public float slanst(String norm, int n, float[] d, int offsetd, float[] e, int offsete) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slanst").add(norm).add(n).add(d).add(offsetd).add(e).add(offsete).record();
+    }
+    return lapack.slanst(norm, n, d, offsetd, e, offsete);
+  }
+
+  public float slansy(String norm, String uplo, int n, float[] a, int lda, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slansy").add(norm).add(uplo).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.slansy(norm, uplo, n, a, lda, work);
+  }
+
+  public float slansy(String norm, String uplo, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slansy").add(norm).add(uplo).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.slansy(norm, uplo, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public float slantb(String norm, String uplo, String diag, int n, int k, float[] ab, int ldab, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slantb").add(norm).add(uplo).add(diag).add(n).add(k).add(ab).add(0).add(ldab).add(work).add(0).record();
+    }
+    return lapack.slantb(norm, uplo, diag, n, k, ab, ldab, work);
+  }
+
+  public float slantb(String norm, String uplo, String diag, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slantb").add(norm).add(uplo).add(diag).add(n).add(k).add(ab).add(offsetab).add(ldab).add(work).add(offsetwork).record();
+    }
+    return lapack.slantb(norm, uplo, diag, n, k, ab, offsetab, ldab, work, offsetwork);
+  }
+
+  public float slantp(String norm, String uplo, String diag, int n, float[] ap, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slantp").add(norm).add(uplo).add(diag).add(n).add(ap).add(0).add(work).add(0).record();
+    }
+    return lapack.slantp(norm, uplo, diag, n, ap, work);
+  }
+
+  public float slantp(String norm, String uplo, String diag, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slantp").add(norm).add(uplo).add(diag).add(n).add(ap).add(offsetap).add(work).add(offsetwork).record();
+    }
+    return lapack.slantp(norm, uplo, diag, n, ap, offsetap, work, offsetwork);
+  }
+
+  public float slantr(String norm, String uplo, String diag, int m, int n, float[] a, int lda, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slantr").add(norm).add(uplo).add(diag).add(m).add(n).add(a).add(0).add(lda).add(work).add(0).record();
+    }
+    return lapack.slantr(norm, uplo, diag, m, n, a, lda, work);
+  }
+
+  public float slantr(String norm, String uplo, String diag, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slantr").add(norm).add(uplo).add(diag).add(m).add(n).add(a).add(offseta).add(lda).add(work).add(offsetwork).record();
+    }
+    return lapack.slantr(norm, uplo, diag, m, n, a, offseta, lda, work, offsetwork);
+  }
+
+  public void slanv2(org.netlib.util.floatW a, org.netlib.util.floatW b, org.netlib.util.floatW c, org.netlib.util.floatW d, org.netlib.util.floatW rt1r, org.netlib.util.floatW rt1i, org.netlib.util.floatW rt2r, org.netlib.util.floatW rt2i, org.netlib.util.floatW cs, org.netlib.util.floatW sn) {
+    lapack.slanv2(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+  }
+
+  public void slapll(int n, float[] x, int incx, float[] y, int incy, org.netlib.util.floatW ssmin) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slapll").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).add(ssmin).record();
+    }
+    lapack.slapll(n, x, incx, y, incy, ssmin);
+  }
+
+  public void slapll(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, org.netlib.util.floatW ssmin) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slapll").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(ssmin).record();
+    }
+    lapack.slapll(n, x, offsetx, incx, y, offsety, incy, ssmin);
+  }
+
+  public void slapmt(boolean forwrd, int m, int n, float[] x, int ldx, int[] k) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slapmt").add(forwrd).add(m).add(n).add(x).add(0).add(ldx).add(k).add(0).record();
+    }
+    lapack.slapmt(forwrd, m, n, x, ldx, k);
+  }
+
+  public void slapmt(boolean forwrd, int m, int n, float[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slapmt").add(forwrd).add(m).add(n).add(x).add(offsetx).add(ldx).add(k).add(offsetk).record();
+    }
+    lapack.slapmt(forwrd, m, n, x, offsetx, ldx, k, offsetk);
+  }
+
+  public float slapy2(float x, float y) {
+    return lapack.slapy2(x, y);
+  }
+
+  public float slapy3(float x, float y, float z) {
+    return lapack.slapy3(x, y, z);
+  }
+
+  public void slaqgb(int m, int n, int kl, int ku, float[] ab, int ldab, float[] r, float[] c, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqgb").add(m).add(n).add(kl).add(ku).add(ab).add(0).add(ldab).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.slaqgb(m, n, kl, ku, ab, ldab, r, c, rowcnd, colcnd, amax, equed);
+  }
+
+  public void slaqgb(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqgb").add(m).add(n).add(kl).add(ku).add(ab).add(offsetab).add(ldab).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.slaqgb(m, n, kl, ku, ab, offsetab, ldab, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+  }
+
+  public void slaqge(int m, int n, float[] a, int lda, float[] r, float[] c, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqge").add(m).add(n).add(a).add(0).add(lda).add(r).add(0).add(c).add(0).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.slaqge(m, n, a, lda, r, c, rowcnd, colcnd, amax, equed);
+  }
+
+  public void slaqge(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqge").add(m).add(n).add(a).add(offseta).add(lda).add(r).add(offsetr).add(c).add(offsetc).add(rowcnd).add(colcnd).add(amax).add(equed).record();
+    }
+    lapack.slaqge(m, n, a, offseta, lda, r, offsetr, c, offsetc, rowcnd, colcnd, amax, equed);
+  }
+
+  public void slaqp2(int m, int n, int offset, float[] a, int lda, int[] jpvt, float[] tau, float[] vn1, float[] vn2, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqp2").add(m).add(n).add(offset).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(vn1).add(0).add(vn2).add(0).add(work).add(0).record();
+    }
+    lapack.slaqp2(m, n, offset, a, lda, jpvt, tau, vn1, vn2, work);
+  }
+
+  public void slaqp2(int m, int n, int offset, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqp2").add(m).add(n).add(offset).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(vn1).add(offsetvn1).add(vn2).add(offsetvn2).add(work).add(offsetwork).record();
+    }
+    lapack.slaqp2(m, n, offset, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, work, offsetwork);
+  }
+
+  public void slaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int lda, int[] jpvt, float[] tau, float[] vn1, float[] vn2, float[] auxv, float[] f, int ldf) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqps").add(m).add(n).add(offset).add(nb).add(kb).add(a).add(0).add(lda).add(jpvt).add(0).add(tau).add(0).add(vn1).add(0).add(vn2).add(0).add(auxv).add(0).add(f).add(0).add(ldf).record();
+    }
+    lapack.slaqps(m, n, offset, nb, kb, a, lda, jpvt, tau, vn1, vn2, auxv, f, ldf);
+  }
+
+  public void slaqps(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] auxv, int offsetauxv, float[] f, int offsetf, int ldf) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqps").add(m).add(n).add(offset).add(nb).add(kb).add(a).add(offseta).add(lda).add(jpvt).add(offsetjpvt).add(tau).add(offsettau).add(vn1).add(offsetvn1).add(vn2).add(offsetvn2).add(auxv).add(offsetauxv).add(f).add(offsetf).add(ldf).record();
+    }
+    lapack.slaqps(m, n, offset, nb, kb, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, vn1, offsetvn1, vn2, offsetvn2, auxv, offsetauxv, f, offsetf, ldf);
+  }
+
+  public void slaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, int iloz, int ihiz, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr0").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.slaqr0(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+  }
+
+  public void slaqr0(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr0").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.slaqr0(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public void slaqr1(int n, float[] h, int ldh, float sr1, float si1, float sr2, float si2, float[] v) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr1").add(n).add(h).add(0).add(ldh).add(sr1).add(si1).add(sr2).add(si2).add(v).add(0).record();
+    }
+    lapack.slaqr1(n, h, ldh, sr1, si1, sr2, si2, v);
+  }
+
+  public void slaqr1(int n, float[] h, int offseth, int ldh, float sr1, float si1, float sr2, float si2, float[] v, int offsetv) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr1").add(n).add(h).add(offseth).add(ldh).add(sr1).add(si1).add(sr2).add(si2).add(v).add(offsetv).record();
+    }
+    lapack.slaqr1(n, h, offseth, ldh, sr1, si1, sr2, si2, v, offsetv);
+  }
+
+  public void slaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int ldh, int iloz, int ihiz, float[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, float[] si, float[] v, int ldv, int nh, float[] t, int ldt, int nv, float[] wv, int ldwv, float[] work, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr2").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(0).add(ldh).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(ns).add(nd).add(sr).add(0).add(si).add(0).add(v).add(0).add(ldv).add(nh).add(t).add(0).add(ldt).add(nv).add(wv).add(0).add(ldwv).add(work).add(0).add(lwork).record();
+    }
+    lapack.slaqr2(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+  }
+
+  public void slaqr2(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr2").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(offseth).add(ldh).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(ns).add(nd).add(sr).add(offsetsr).add(si).add(offsetsi).add(v).add(offsetv).add(ldv).add(nh).add(t).add(offsett).add(ldt).add(nv).add(wv).add(offsetwv).add(ldwv).add(work).add(offsetwork).add(lwork).record();
+    }
+    lapack.slaqr2(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+  }
+
+  public void slaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int ldh, int iloz, int ihiz, float[] z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, float[] si, float[] v, int ldv, int nh, float[] t, int ldt, int nv, float[] wv, int ldwv, float[] work, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr3").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(0).add(ldh).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(ns).add(nd).add(sr).add(0).add(si).add(0).add(v).add(0).add(ldv).add(nh).add(t).add(0).add(ldt).add(nv).add(wv).add(0).add(ldwv).add(work).add(0).add(lwork).record();
+    }
+    lapack.slaqr3(wantt, wantz, n, ktop, kbot, nw, h, ldh, iloz, ihiz, z, ldz, ns, nd, sr, si, v, ldv, nh, t, ldt, nv, wv, ldwv, work, lwork);
+  }
+
+  public void slaqr3(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr3").add(wantt).add(wantz).add(n).add(ktop).add(kbot).add(nw).add(h).add(offseth).add(ldh).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(ns).add(nd).add(sr).add(offsetsr).add(si).add(offsetsi).add(v).add(offsetv).add(ldv).add(nh).add(t).add(offsett).add(ldt).add(nv).add(wv).add(offsetwv).add(ldwv).add(work).add(offsetwork).add(lwork).record();
+    }
+    lapack.slaqr3(wantt, wantz, n, ktop, kbot, nw, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, ns, nd, sr, offsetsr, si, offsetsi, v, offsetv, ldv, nh, t, offsett, ldt, nv, wv, offsetwv, ldwv, work, offsetwork, lwork);
+  }
+
+  public void slaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int ldh, float[] wr, float[] wi, int iloz, int ihiz, float[] z, int ldz, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr4").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(0).add(ldh).add(wr).add(0).add(wi).add(0).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.slaqr4(wantt, wantz, n, ilo, ihi, h, ldh, wr, wi, iloz, ihiz, z, ldz, work, lwork, info);
+  }
+
+  public void slaqr4(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr4").add(wantt).add(wantz).add(n).add(ilo).add(ihi).add(h).add(offseth).add(ldh).add(wr).add(offsetwr).add(wi).add(offsetwi).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.slaqr4(wantt, wantz, n, ilo, ihi, h, offseth, ldh, wr, offsetwr, wi, offsetwi, iloz, ihiz, z, offsetz, ldz, work, offsetwork, lwork, info);
+  }
+
+  public void slaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, float[] si, float[] h, int ldh, int iloz, int ihiz, float[] z, int ldz, float[] v, int ldv, float[] u, int ldu, int nv, float[] wv, int ldwv, int nh, float[] wh, int ldwh) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr5").add(wantt).add(wantz).add(kacc22).add(n).add(ktop).add(kbot).add(nshfts).add(sr).add(0).add(si).add(0).add(h).add(0).add(ldh).add(iloz).add(ihiz).add(z).add(0).add(ldz).add(v).add(0).add(ldv).add(u).add(0).add(ldu).add(nv).add(wv).add(0).add(ldwv).add(nh).add(wh).add(0).add(ldwh).record();
+    }
+    lapack.slaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, si, h, ldh, iloz, ihiz, z, ldz, v, ldv, u, ldu, nv, wv, ldwv, nh, wh, ldwh);
+  }
+
+  public void slaqr5(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, int offsetsr, float[] si, int offsetsi, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] v, int offsetv, int ldv, float[] u, int offsetu, int ldu, int nv, float[] wv, int offsetwv, int ldwv, int nh, float[] wh, int offsetwh, int ldwh) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqr5").add(wantt).add(wantz).add(kacc22).add(n).add(ktop).add(kbot).add(nshfts).add(sr).add(offsetsr).add(si).add(offsetsi).add(h).add(offseth).add(ldh).add(iloz).add(ihiz).add(z).add(offsetz).add(ldz).add(v).add(offsetv).add(ldv).add(u).add(offsetu).add(ldu).add(nv).add(wv).add(offsetwv).add(ldwv).add(nh).add(wh).add(offsetwh).add(ldwh).record();
+    }
+    lapack.slaqr5(wantt, wantz, kacc22, n, ktop, kbot, nshfts, sr, offsetsr, si, offsetsi, h, offseth, ldh, iloz, ihiz, z, offsetz, ldz, v, offsetv, ldv, u, offsetu, ldu, nv, wv, offsetwv, ldwv, nh, wh, offsetwh, ldwh);
+  }
+
+  public void slaqsb(String uplo, int n, int kd, float[] ab, int ldab, float[] s, float scond, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqsb").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(s).add(0).add(scond).add(amax).add(equed).record();
+    }
+    lapack.slaqsb(uplo, n, kd, ab, ldab, s, scond, amax, equed);
+  }
+
+  public void slaqsb(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqsb").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(s).add(offsets).add(scond).add(amax).add(equed).record();
+    }
+    lapack.slaqsb(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, equed);
+  }
+
+  public void slaqsp(String uplo, int n, float[] ap, float[] s, float scond, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqsp").add(uplo).add(n).add(ap).add(0).add(s).add(0).add(scond).add(amax).add(equed).record();
+    }
+    lapack.slaqsp(uplo, n, ap, s, scond, amax, equed);
+  }
+
+  public void slaqsp(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqsp").add(uplo).add(n).add(ap).add(offsetap).add(s).add(offsets).add(scond).add(amax).add(equed).record();
+    }
+    lapack.slaqsp(uplo, n, ap, offsetap, s, offsets, scond, amax, equed);
+  }
+
+  public void slaqsy(String uplo, int n, float[] a, int lda, float[] s, float scond, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqsy").add(uplo).add(n).add(a).add(0).add(lda).add(s).add(0).add(scond).add(amax).add(equed).record();
+    }
+    lapack.slaqsy(uplo, n, a, lda, s, scond, amax, equed);
+  }
+
+  public void slaqsy(String uplo, int n, float[] a, int offseta, int lda, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqsy").add(uplo).add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(scond).add(amax).add(equed).record();
+    }
+    lapack.slaqsy(uplo, n, a, offseta, lda, s, offsets, scond, amax, equed);
+  }
+
+  public void slaqtr(boolean ltran, boolean lreal, int n, float[] t, int ldt, float[] b, float w, org.netlib.util.floatW scale, float[] x, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqtr").add(ltran).add(lreal).add(n).add(t).add(0).add(ldt).add(b).add(0).add(w).add(scale).add(x).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.slaqtr(ltran, lreal, n, t, ldt, b, w, scale, x, work, info);
+  }
+
+  public void slaqtr(boolean ltran, boolean lreal, int n, float[] t, int offsett, int ldt, float[] b, int offsetb, float w, org.netlib.util.floatW scale, float[] x, int offsetx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaqtr").add(ltran).add(lreal).add(n).add(t).add(offsett).add(ldt).add(b).add(offsetb).add(w).add(scale).add(x).add(offsetx).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slaqtr(ltran, lreal, n, t, offsett, ldt, b, offsetb, w, scale, x, offsetx, work, offsetwork, info);
+  }
+
+  public void slar1v(int n, int b1, int bn, float lambda, float[] d, float[] l, float[] ld, float[] lld, float pivmin, float gaptol, float[] z, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slar1v").add(n).add(b1).add(bn).add(lambda).add(d).add(0).add(l).add(0).add(ld).add(0).add(lld).add(0).add(pivmin).add(gaptol).add(z).add(0).add(wantnc).add(negcnt).add(ztz).add(mingma).add(r).add(isuppz).add(0).add(nrminv).add(resid).add(rqcorr).add(work).add(0).record();
+    }
+    lapack.slar1v(n, b1, bn, lambda, d, l, ld, lld, pivmin, gaptol, z, wantnc, negcnt, ztz, mingma, r, isuppz, nrminv, resid, rqcorr, work);
+  }
+
+  public void slar1v(int n, int b1, int bn, float lambda, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, float[] lld, int offsetlld, float pivmin, float gaptol, float[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slar1v").add(n).add(b1).add(bn).add(lambda).add(d).add(offsetd).add(l).add(offsetl).add(ld).add(offsetld).add(lld).add(offsetlld).add(pivmin).add(gaptol).add(z).add(offsetz).add(wantnc).add(negcnt).add(ztz).add(mingma).add(r).add(isuppz).add(offsetisuppz).add(nrminv).add(resid).add(rqcorr).add(work).add(offsetwork).record();
+    }
+    lapack.slar1v(n, b1, bn, lambda, d, offsetd, l, offsetl, ld, offsetld, lld, offsetlld, pivmin, gaptol, z, offsetz, wantnc, negcnt, ztz, mingma, r, isuppz, offsetisuppz, nrminv, resid, rqcorr, work, offsetwork);
+  }
+
+  public void slar2v(int n, float[] x, float[] y, float[] z, int incx, float[] c, float[] s, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slar2v").add(n).add(x).add(0).add(y).add(0).add(z).add(0).add(incx).add(c).add(0).add(s).add(0).add(incc).record();
+    }
+    lapack.slar2v(n, x, y, z, incx, c, s, incc);
+  }
+
+  public void slar2v(int n, float[] x, int offsetx, float[] y, int offsety, float[] z, int offsetz, int incx, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slar2v").add(n).add(x).add(offsetx).add(y).add(offsety).add(z).add(offsetz).add(incx).add(c).add(offsetc).add(s).add(offsets).add(incc).record();
+    }
+    lapack.slar2v(n, x, offsetx, y, offsety, z, offsetz, incx, c, offsetc, s, offsets, incc);
+  }
+
+  public void slarf(String side, int m, int n, float[] v, int incv, float tau, float[] c, int Ldc, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarf").add(side).add(m).add(n).add(v).add(0).add(incv).add(tau).add(c).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.slarf(side, m, n, v, incv, tau, c, Ldc, work);
+  }
+
+  public void slarf(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarf").add(side).add(m).add(n).add(v).add(offsetv).add(incv).add(tau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.slarf(side, m, n, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+  }
+
+  public void slarfb(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int ldv, float[] t, int ldt, float[] c, int Ldc, float[] work, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarfb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(v).add(0).add(ldv).add(t).add(0).add(ldt).add(c).add(0).add(Ldc).add(work).add(0).add(ldwork).record();
+    }
+    lapack.slarfb(side, trans, direct, storev, m, n, k, v, ldv, t, ldt, c, Ldc, work, ldwork);
+  }
+
+  public void slarfb(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarfb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(v).add(offsetv).add(ldv).add(t).add(offsett).add(ldt).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(ldwork).record();
+    }
+    lapack.slarfb(side, trans, direct, storev, m, n, k, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+  }
+
+  public void slarfg(int n, org.netlib.util.floatW alpha, float[] x, int incx, org.netlib.util.floatW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarfg").add(n).add(alpha).add(x).add(0).add(incx).add(tau).record();
+    }
+    lapack.slarfg(n, alpha, x, incx, tau);
+  }
+
+  public void slarfg(int n, org.netlib.util.floatW alpha, float[] x, int offsetx, int incx, org.netlib.util.floatW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarfg").add(n).add(alpha).add(x).add(offsetx).add(incx).add(tau).record();
+    }
+    lapack.slarfg(n, alpha, x, offsetx, incx, tau);
+  }
+
+  public void slarft(String direct, String storev, int n, int k, float[] v, int ldv, float[] tau, float[] t, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarft").add(direct).add(storev).add(n).add(k).add(v).add(0).add(ldv).add(tau).add(0).add(t).add(0).add(ldt).record();
+    }
+    lapack.slarft(direct, storev, n, k, v, ldv, tau, t, ldt);
+  }
+
+  public void slarft(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarft").add(direct).add(storev).add(n).add(k).add(v).add(offsetv).add(ldv).add(tau).add(offsettau).add(t).add(offsett).add(ldt).record();
+    }
+    lapack.slarft(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+  }
+
+  public void slarfx(String side, int m, int n, float[] v, float tau, float[] c, int Ldc, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarfx").add(side).add(m).add(n).add(v).add(0).add(tau).add(c).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.slarfx(side, m, n, v, tau, c, Ldc, work);
+  }
+
+  public void slarfx(String side, int m, int n, float[] v, int offsetv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarfx").add(side).add(m).add(n).add(v).add(offsetv).add(tau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.slarfx(side, m, n, v, offsetv, tau, c, offsetc, Ldc, work, offsetwork);
+  }
+
+  public void slargv(int n, float[] x, int incx, float[] y, int incy, float[] c, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slargv").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).add(c).add(0).add(incc).record();
+    }
+    lapack.slargv(n, x, incx, y, incy, c, incc);
+  }
+
+  public void slargv(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slargv").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(c).add(offsetc).add(incc).record();
+    }
+    lapack.slargv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, incc);
+  }
+
+  public void slarnv(int idist, int[] iseed, int n, float[] x) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarnv").add(idist).add(iseed).add(0).add(n).add(x).add(0).record();
+    }
+    lapack.slarnv(idist, iseed, n, x);
+  }
+
+  public void slarnv(int idist, int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarnv").add(idist).add(iseed).add(offsetiseed).add(n).add(x).add(offsetx).record();
+    }
+    lapack.slarnv(idist, iseed, offsetiseed, n, x, offsetx);
+  }
+
+  public void slarra(int n, float[] d, float[] e, float[] e2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarra").add(n).add(d).add(0).add(e).add(0).add(e2).add(0).add(spltol).add(tnrm).add(nsplit).add(isplit).add(0).add(info).record();
+    }
+    lapack.slarra(n, d, e, e2, spltol, tnrm, nsplit, isplit, info);
+  }
+
+  public void slarra(int n, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarra").add(n).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(spltol).add(tnrm).add(nsplit).add(isplit).add(offsetisplit).add(info).record();
+    }
+    lapack.slarra(n, d, offsetd, e, offsete, e2, offsete2, spltol, tnrm, nsplit, isplit, offsetisplit, info);
+  }
+
+  public void slarrb(int n, float[] d, float[] lld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, float[] wgap, float[] werr, float[] work, int[] iwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrb").add(n).add(d).add(0).add(lld).add(0).add(ifirst).add(ilast).add(rtol1).add(rtol2).add(offset).add(w).add(0).add(wgap).add(0).add(werr).add(0).add(work).add(0).add(iwork).add(0).add(pivmin).add(spdiam).add(twist).add(info).record();
+    }
+    lapack.slarrb(n, d, lld, ifirst, ilast, rtol1, rtol2, offset, w, wgap, werr, work, iwork, pivmin, spdiam, twist, info);
+  }
+
+  public void slarrb(int n, float[] d, int offsetd, float[] lld, int offsetlld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrb").add(n).add(d).add(offsetd).add(lld).add(offsetlld).add(ifirst).add(ilast).add(rtol1).add(rtol2).add(offset).add(w).add(offsetw).add(wgap).add(offsetwgap).add(werr).add(offsetwerr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(pivmin).add(spdiam).add(twist).add(info).record();
+    }
+    lapack.slarrb(n, d, offsetd, lld, offsetlld, ifirst, ilast, rtol1, rtol2, offset, w, offsetw, wgap, offsetwgap, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, twist, info);
+  }
+
+  public void slarrc(String jobt, int n, float vl, float vu, float[] d, float[] e, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrc").add(jobt).add(n).add(vl).add(vu).add(d).add(0).add(e).add(0).add(pivmin).add(eigcnt).add(lcnt).add(rcnt).add(info).record();
+    }
+    lapack.slarrc(jobt, n, vl, vu, d, e, pivmin, eigcnt, lcnt, rcnt, info);
+  }
+
+  public void slarrc(String jobt, int n, float vl, float vu, float[] d, int offsetd, float[] e, int offsete, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrc").add(jobt).add(n).add(vl).add(vu).add(d).add(offsetd).add(e).add(offsete).add(pivmin).add(eigcnt).add(lcnt).add(rcnt).add(info).record();
+    }
+    lapack.slarrc(jobt, n, vl, vu, d, offsetd, e, offsete, pivmin, eigcnt, lcnt, rcnt, info);
+  }
+
+  public void slarrd(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, float reltol, float[] d, float[] e, float[] e2, float pivmin, int nsplit, int[] isplit, org.netlib.util.intW m, float[] w, float[] werr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int[] indexw, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrd").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(gers).add(0).add(reltol).add(d).add(0).add(e).add(0).add(e2).add(0).add(pivmin).add(nsplit).add(isplit).add(0).add(m).add(w).add(0).add(werr).add(0).add(wl).add(wu).add(iblock).add(0).add(indexw).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slarrd(range, order, n, vl, vu, il, iu, gers, reltol, d, e, e2, pivmin, nsplit, isplit, m, w, werr, wl, wu, iblock, indexw, work, iwork, info);
+  }
+
+  public void slarrd(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, int offsetgers, float reltol, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrd").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(gers).add(offsetgers).add(reltol).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(pivmin).add(nsplit).add(isplit).add(offsetisplit).add(m).add(w).add(offsetw).add(werr).add(offsetwerr).add(wl).add(wu).add(iblock).add(offsetiblock).add(indexw).add(offsetindexw).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slarrd(range, order, n, vl, vu, il, iu, gers, offsetgers, reltol, d, offsetd, e, offsete, e2, offsete2, pivmin, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wl, wu, iblock, offsetiblock, indexw, offsetindexw, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slarre(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, float[] e, float[] e2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, org.netlib.util.intW m, float[] w, float[] werr, float[] wgap, int[] iblock, int[] indexw, float[] gers, org.netlib.util.floatW pivmin, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarre").add(range).add(n).add(vl).add(vu).add(il).add(iu).add(d).add(0).add(e).add(0).add(e2).add(0).add(rtol1).add(rtol2).add(spltol).add(nsplit).add(isplit).add(0).add(m).add(w).add(0).add(werr).add(0).add(wgap).add(0).add(iblock).add(0).add(indexw).add(0).add(gers).add(0).add(pivmin).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slarre(range, n, vl, vu, il, iu, d, e, e2, rtol1, rtol2, spltol, nsplit, isplit, m, w, werr, wgap, iblock, indexw, gers, pivmin, work, iwork, info);
+  }
+
+  public void slarre(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, org.netlib.util.floatW pivmin, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarre").add(range).add(n).add(vl).add(vu).add(il).add(iu).add(d).add(offsetd).add(e).add(offsete).add(e2).add(offsete2).add(rtol1).add(rtol2).add(spltol).add(nsplit).add(isplit).add(offsetisplit).add(m).add(w).add(offsetw).add(werr).add(offsetwerr).add(wgap).add(offsetwgap).add(iblock).add(offsetiblock).add(indexw).add(offsetindexw).add(gers).add(offsetgers).add(pivmin).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slarre(range, n, vl, vu, il, iu, d, offsetd, e, offsete, e2, offsete2, rtol1, rtol2, spltol, nsplit, isplit, offsetisplit, m, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, pivmin, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slarrf(int n, float[] d, float[] l, float[] ld, int clstrt, int clend, float[] w, float[] wgap, float[] werr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, float[] lplus, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrf").add(n).add(d).add(0).add(l).add(0).add(ld).add(0).add(clstrt).add(clend).add(w).add(0).add(wgap).add(0).add(werr).add(0).add(spdiam).add(clgapl).add(clgapr).add(pivmin).add(sigma).add(dplus).add(0).add(lplus).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.slarrf(n, d, l, ld, clstrt, clend, w, wgap, werr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, lplus, work, info);
+  }
+
+  public void slarrf(int n, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, int clstrt, int clend, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, int offsetdplus, float[] lplus, int offsetlplus, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrf").add(n).add(d).add(offsetd).add(l).add(offsetl).add(ld).add(offsetld).add(clstrt).add(clend).add(w).add(offsetw).add(wgap).add(offsetwgap).add(werr).add(offsetwerr).add(spdiam).add(clgapl).add(clgapr).add(pivmin).add(sigma).add(dplus).add(offsetdplus).add(lplus).add(offsetlplus).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slarrf(n, d, offsetd, l, offsetl, ld, offsetld, clstrt, clend, w, offsetw, wgap, offsetwgap, werr, offsetwerr, spdiam, clgapl, clgapr, pivmin, sigma, dplus, offsetdplus, lplus, offsetlplus, work, offsetwork, info);
+  }
+
+  public void slarrj(int n, float[] d, float[] e2, int ifirst, int ilast, float rtol, int offset, float[] w, float[] werr, float[] work, int[] iwork, float pivmin, float spdiam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrj").add(n).add(d).add(0).add(e2).add(0).add(ifirst).add(ilast).add(rtol).add(offset).add(w).add(0).add(werr).add(0).add(work).add(0).add(iwork).add(0).add(pivmin).add(spdiam).add(info).record();
+    }
+    lapack.slarrj(n, d, e2, ifirst, ilast, rtol, offset, w, werr, work, iwork, pivmin, spdiam, info);
+  }
+
+  public void slarrj(int n, float[] d, int offsetd, float[] e2, int offsete2, int ifirst, int ilast, float rtol, int offset, float[] w, int offsetw, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrj").add(n).add(d).add(offsetd).add(e2).add(offsete2).add(ifirst).add(ilast).add(rtol).add(offset).add(w).add(offsetw).add(werr).add(offsetwerr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(pivmin).add(spdiam).add(info).record();
+    }
+    lapack.slarrj(n, d, offsetd, e2, offsete2, ifirst, ilast, rtol, offset, w, offsetw, werr, offsetwerr, work, offsetwork, iwork, offsetiwork, pivmin, spdiam, info);
+  }
+
+  public void slarrk(int n, int iw, float gl, float gu, float[] d, float[] e2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrk").add(n).add(iw).add(gl).add(gu).add(d).add(0).add(e2).add(0).add(pivmin).add(reltol).add(w).add(werr).add(info).record();
+    }
+    lapack.slarrk(n, iw, gl, gu, d, e2, pivmin, reltol, w, werr, info);
+  }
+
+  public void slarrk(int n, int iw, float gl, float gu, float[] d, int offsetd, float[] e2, int offsete2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrk").add(n).add(iw).add(gl).add(gu).add(d).add(offsetd).add(e2).add(offsete2).add(pivmin).add(reltol).add(w).add(werr).add(info).record();
+    }
+    lapack.slarrk(n, iw, gl, gu, d, offsetd, e2, offsete2, pivmin, reltol, w, werr, info);
+  }
+
+  public void slarrr(int n, float[] d, float[] e, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrr").add(n).add(d).add(0).add(e).add(0).add(info).record();
+    }
+    lapack.slarrr(n, d, e, info);
+  }
+
+  public void slarrr(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrr").add(n).add(d).add(offsetd).add(e).add(offsete).add(info).record();
+    }
+    lapack.slarrr(n, d, offsetd, e, offsete, info);
+  }
+
+  public void slarrv(int n, float vl, float vu, float[] d, float[] l, float pivmin, int[] isplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, float[] werr, float[] wgap, int[] iblock, int[] indexw, float[] gers, float[] z, int ldz, int[] isuppz, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrv").add(n).add(vl).add(vu).add(d).add(0).add(l).add(0).add(pivmin).add(isplit).add(0).add(m).add(dol).add(dou).add(minrgp).add(rtol1).add(rtol2).add(w).add(0).add(werr).add(0).add(wgap).add(0).add(iblock).add(0).add(indexw).add(0).add(gers).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slarrv(n, vl, vu, d, l, pivmin, isplit, m, dol, dou, minrgp, rtol1, rtol2, w, werr, wgap, iblock, indexw, gers, z, ldz, isuppz, work, iwork, info);
+  }
+
+  public void slarrv(int n, float vl, float vu, float[] d, int offsetd, float[] l, int offsetl, float pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarrv").add(n).add(vl).add(vu).add(d).add(offsetd).add(l).add(offsetl).add(pivmin).add(isplit).add(offsetisplit).add(m).add(dol).add(dou).add(minrgp).add(rtol1).add(rtol2).add(w).add(offsetw).add(werr).add(offsetwerr).add(wgap).add(offsetwgap).add(iblock).add(offsetiblock).add(indexw).add(offsetindexw).add(gers).add(offsetgers).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slarrv(n, vl, vu, d, offsetd, l, offsetl, pivmin, isplit, offsetisplit, m, dol, dou, minrgp, rtol1, rtol2, w, offsetw, werr, offsetwerr, wgap, offsetwgap, iblock, offsetiblock, indexw, offsetindexw, gers, offsetgers, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slartg(float f, float g, org.netlib.util.floatW cs, org.netlib.util.floatW sn, org.netlib.util.floatW r) {
+    lapack.slartg(f, g, cs, sn, r);
+  }
+
+  public void slartv(int n, float[] x, int incx, float[] y, int incy, float[] c, float[] s, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slartv").add(n).add(x).add(0).add(incx).add(y).add(0).add(incy).add(c).add(0).add(s).add(0).add(incc).record();
+    }
+    lapack.slartv(n, x, incx, y, incy, c, s, incc);
+  }
+
+  public void slartv(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slartv").add(n).add(x).add(offsetx).add(incx).add(y).add(offsety).add(incy).add(c).add(offsetc).add(s).add(offsets).add(incc).record();
+    }
+    lapack.slartv(n, x, offsetx, incx, y, offsety, incy, c, offsetc, s, offsets, incc);
+  }
+
+  public void slaruv(int[] iseed, int n, float[] x) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaruv").add(iseed).add(0).add(n).add(x).add(0).record();
+    }
+    lapack.slaruv(iseed, n, x);
+  }
+
+  public void slaruv(int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaruv").add(iseed).add(offsetiseed).add(n).add(x).add(offsetx).record();
+    }
+    lapack.slaruv(iseed, offsetiseed, n, x, offsetx);
+  }
+
+  public void slarz(String side, int m, int n, int l, float[] v, int incv, float tau, float[] c, int Ldc, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarz").add(side).add(m).add(n).add(l).add(v).add(0).add(incv).add(tau).add(c).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.slarz(side, m, n, l, v, incv, tau, c, Ldc, work);
+  }
+
+  public void slarz(String side, int m, int n, int l, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarz").add(side).add(m).add(n).add(l).add(v).add(offsetv).add(incv).add(tau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.slarz(side, m, n, l, v, offsetv, incv, tau, c, offsetc, Ldc, work, offsetwork);
+  }
+
+  public void slarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int ldv, float[] t, int ldt, float[] c, int Ldc, float[] work, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarzb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(l).add(v).add(0).add(ldv).add(t).add(0).add(ldt).add(c).add(0).add(Ldc).add(work).add(0).add(ldwork).record();
+    }
+    lapack.slarzb(side, trans, direct, storev, m, n, k, l, v, ldv, t, ldt, c, Ldc, work, ldwork);
+  }
+
+  public void slarzb(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarzb").add(side).add(trans).add(direct).add(storev).add(m).add(n).add(k).add(l).add(v).add(offsetv).add(ldv).add(t).add(offsett).add(ldt).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(ldwork).record();
+    }
+    lapack.slarzb(side, trans, direct, storev, m, n, k, l, v, offsetv, ldv, t, offsett, ldt, c, offsetc, Ldc, work, offsetwork, ldwork);
+  }
+
+  public void slarzt(String direct, String storev, int n, int k, float[] v, int ldv, float[] tau, float[] t, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarzt").add(direct).add(storev).add(n).add(k).add(v).add(0).add(ldv).add(tau).add(0).add(t).add(0).add(ldt).record();
+    }
+    lapack.slarzt(direct, storev, n, k, v, ldv, tau, t, ldt);
+  }
+
+  public void slarzt(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slarzt").add(direct).add(storev).add(n).add(k).add(v).add(offsetv).add(ldv).add(tau).add(offsettau).add(t).add(offsett).add(ldt).record();
+    }
+    lapack.slarzt(direct, storev, n, k, v, offsetv, ldv, tau, offsettau, t, offsett, ldt);
+  }
+
+  public void slas2(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax) {
+    lapack.slas2(f, g, h, ssmin, ssmax);
+  }
+
+  public void slascl(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slascl").add(type).add(kl).add(ku).add(cfrom).add(cto).add(m).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.slascl(type, kl, ku, cfrom, cto, m, n, a, lda, info);
+  }
+
+  public void slascl(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slascl").add(type).add(kl).add(ku).add(cfrom).add(cto).add(m).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.slascl(type, kl, ku, cfrom, cto, m, n, a, offseta, lda, info);
+  }
+
+  public void slasd0(int n, int sqre, float[] d, float[] e, float[] u, int ldu, float[] vt, int ldvt, int smlsiz, int[] iwork, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd0").add(n).add(sqre).add(d).add(0).add(e).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(smlsiz).add(iwork).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.slasd0(n, sqre, d, e, u, ldu, vt, ldvt, smlsiz, iwork, work, info);
+  }
+
+  public void slasd0(int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd0").add(n).add(sqre).add(d).add(offsetd).add(e).add(offsete).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(smlsiz).add(iwork).add(offsetiwork).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slasd0(n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, ldvt, smlsiz, iwork, offsetiwork, work, offsetwork, info);
+  }
+
+  public void slasd1(int nl, int nr, int sqre, float[] d, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int ldu, float[] vt, int ldvt, int[] idxq, int[] iwork, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd1").add(nl).add(nr).add(sqre).add(d).add(0).add(alpha).add(beta).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(idxq).add(0).add(iwork).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.slasd1(nl, nr, sqre, d, alpha, beta, u, ldu, vt, ldvt, idxq, iwork, work, info);
+  }
+
+  public void slasd1(int nl, int nr, int sqre, float[] d, int offsetd, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd1").add(nl).add(nr).add(sqre).add(d).add(offsetd).add(alpha).add(beta).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(idxq).add(offsetidxq).add(iwork).add(offsetiwork).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slasd1(nl, nr, sqre, d, offsetd, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, idxq, offsetidxq, iwork, offsetiwork, work, offsetwork, info);
+  }
+
+  public void slasd2(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, float[] z, float alpha, float beta, float[] u, int ldu, float[] vt, int ldvt, float[] dsigma, float[] u2, int ldu2, float[] vt2, int ldvt2, int[] idxp, int[] idx, int[] idxc, int[] idxq, int[] coltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd2").add(nl).add(nr).add(sqre).add(k).add(d).add(0).add(z).add(0).add(alpha).add(beta).add(u).add(0).add(ldu).add(vt).add(0).add(ldvt).add(dsigma).add(0).add(u2).add(0).add(ldu2).add(vt2).add(0).add(ldvt2).add(idxp).add(0).add(idx).add(0).add(idxc).add(0).add(idxq).add(0).add(coltyp).add(0).add(info).record();
+    }
+    lapack.slasd2(nl, nr, sqre, k, d, z, alpha, beta, u, ldu, vt, ldvt, dsigma, u2, ldu2, vt2, ldvt2, idxp, idx, idxc, idxq, coltyp, info);
+  }
+
+  public void slasd2(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float alpha, float beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] dsigma, int offsetdsigma, float[] u2, int offsetu2, int ldu2, float[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd2").add(nl).add(nr).add(sqre).add(k).add(d).add(offsetd).add(z).add(offsetz).add(alpha).add(beta).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(ldvt).add(dsigma).add(offsetdsigma).add(u2).add(offsetu2).add(ldu2).add(vt2).add(offsetvt2).add(ldvt2).add(idxp).add(offsetidxp).add(idx).add(offsetidx).add(idxc).add(offsetidxc).add(idxq).add(offsetidxq).add(coltyp).add(offsetcoltyp).add(info).record();
+    }
+    lapack.slasd2(nl, nr, sqre, k, d, offsetd, z, offsetz, alpha, beta, u, offsetu, ldu, vt, offsetvt, ldvt, dsigma, offsetdsigma, u2, offsetu2, ldu2, vt2, offsetvt2, ldvt2, idxp, offsetidxp, idx, offsetidx, idxc, offsetidxc, idxq, offsetidxq, coltyp, offsetcoltyp, info);
+  }
+
+  public void slasd3(int nl, int nr, int sqre, int k, float[] d, float[] q, int ldq, float[] dsigma, float[] u, int ldu, float[] u2, int ldu2, float[] vt, int ldvt, float[] vt2, int ldvt2, int[] idxc, int[] ctot, float[] z, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd3").add(nl).add(nr).add(sqre).add(k).add(d).add(0).add(q).add(0).add(ldq).add(dsigma).add(0).add(u).add(0).add(ldu).add(u2).add(0).add(ldu2).add(vt).add(0).add(ldvt).add(vt2).add(0).add(ldvt2).add(idxc).add(0).add(ctot).add(0).add(z).add(0).add(info).record();
+    }
+    lapack.slasd3(nl, nr, sqre, k, d, q, ldq, dsigma, u, ldu, u2, ldu2, vt, ldvt, vt2, ldvt2, idxc, ctot, z, info);
+  }
+
+  public void slasd3(int nl, int nr, int sqre, int k, float[] d, int offsetd, float[] q, int offsetq, int ldq, float[] dsigma, int offsetdsigma, float[] u, int offsetu, int ldu, float[] u2, int offsetu2, int ldu2, float[] vt, int offsetvt, int ldvt, float[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, float[] z, int offsetz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd3").add(nl).add(nr).add(sqre).add(k).add(d).add(offsetd).add(q).add(offsetq).add(ldq).add(dsigma).add(offsetdsigma).add(u).add(offsetu).add(ldu).add(u2).add(offsetu2).add(ldu2).add(vt).add(offsetvt).add(ldvt).add(vt2).add(offsetvt2).add(ldvt2).add(idxc).add(offsetidxc).add(ctot).add(offsetctot).add(z).add(offsetz).add(info).record();
+    }
+    lapack.slasd3(nl, nr, sqre, k, d, offsetd, q, offsetq, ldq, dsigma, offsetdsigma, u, offsetu, ldu, u2, offsetu2, ldu2, vt, offsetvt, ldvt, vt2, offsetvt2, ldvt2, idxc, offsetidxc, ctot, offsetctot, z, offsetz, info);
+  }
+
+  public void slasd4(int n, int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW sigma, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd4").add(n).add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(sigma).add(work).add(0).add(info).record();
+    }
+    lapack.slasd4(n, i, d, z, delta, rho, sigma, work, info);
+  }
+
+  public void slasd4(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW sigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd4").add(n).add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(sigma).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slasd4(n, i, d, offsetd, z, offsetz, delta, offsetdelta, rho, sigma, work, offsetwork, info);
+  }
+
+  public void slasd5(int i, float[] d, float[] z, float[] delta, float rho, org.netlib.util.floatW dsigma, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd5").add(i).add(d).add(0).add(z).add(0).add(delta).add(0).add(rho).add(dsigma).add(work).add(0).record();
+    }
+    lapack.slasd5(i, d, z, delta, rho, dsigma, work);
+  }
+
+  public void slasd5(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dsigma, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd5").add(i).add(d).add(offsetd).add(z).add(offsetz).add(delta).add(offsetdelta).add(rho).add(dsigma).add(work).add(offsetwork).record();
+    }
+    lapack.slasd5(i, d, offsetd, z, offsetz, delta, offsetdelta, rho, dsigma, work, offsetwork);
+  }
+
+  public void slasd6(int icompq, int nl, int nr, int sqre, float[] d, float[] vf, float[] vl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, float[] givnum, int ldgnum, float[] poles, float[] difl, float[] difr, float[] z, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd6").add(icompq).add(nl).add(nr).add(sqre).add(d).add(0).add(vf).add(0).add(vl).add(0).add(alpha).add(beta).add(idxq).add(0).add(perm).add(0).add(givptr).add(givcol).add(0).add(ldgcol).add(givnum).add(0).add(ldgnum).add(poles).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(k).add(c).add(s).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slasd6(icompq, nl, nr, sqre, d, vf, vl, alpha, beta, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, poles, difl, difr, z, k, c, s, work, iwork, info);
+  }
+
+  public void slasd6(int icompq, int nl, int nr, int sqre, float[] d, int offsetd, float[] vf, int offsetvf, float[] vl, int offsetvl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd6").add(icompq).add(nl).add(nr).add(sqre).add(d).add(offsetd).add(vf).add(offsetvf).add(vl).add(offsetvl).add(alpha).add(beta).add(idxq).add(offsetidxq).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(ldgcol).add(givnum).add(offsetgivnum).add(ldgnum).add(poles).add(offsetpoles).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(k).add(c).add(s).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slasd6(icompq, nl, nr, sqre, d, offsetd, vf, offsetvf, vl, offsetvl, alpha, beta, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, poles, offsetpoles, difl, offsetdifl, difr, offsetdifr, z, offsetz, k, c, s, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, float[] z, float[] zw, float[] vf, float[] vfw, float[] vl, float[] vlw, float alpha, float beta, float[] dsigma, int[] idx, int[] idxp, int[] idxq, int[] perm, org.netlib.util.intW givptr, int[] givcol, int ldgcol, float[] givnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd7").add(icompq).add(nl).add(nr).add(sqre).add(k).add(d).add(0).add(z).add(0).add(zw).add(0).add(vf).add(0).add(vfw).add(0).add(vl).add(0).add(vlw).add(0).add(alpha).add(beta).add(dsigma).add(0).add(idx).add(0).add(idxp).add(0).add(idxq).add(0).add(perm).add(0).add(givptr).add(givcol).add(0).add(ldgcol).add(givnum).add(0).add(ldgnum).add(c).add(s).add(info).record();
+    }
+    lapack.slasd7(icompq, nl, nr, sqre, k, d, z, zw, vf, vfw, vl, vlw, alpha, beta, dsigma, idx, idxp, idxq, perm, givptr, givcol, ldgcol, givnum, ldgnum, c, s, info);
+  }
+
+  public void slasd7(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float[] zw, int offsetzw, float[] vf, int offsetvf, float[] vfw, int offsetvfw, float[] vl, int offsetvl, float[] vlw, int offsetvlw, float alpha, float beta, float[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd7").add(icompq).add(nl).add(nr).add(sqre).add(k).add(d).add(offsetd).add(z).add(offsetz).add(zw).add(offsetzw).add(vf).add(offsetvf).add(vfw).add(offsetvfw).add(vl).add(offsetvl).add(vlw).add(offsetvlw).add(alpha).add(beta).add(dsigma).add(offsetdsigma).add(idx).add(offsetidx).add(idxp).add(offsetidxp).add(idxq).add(offsetidxq).add(perm).add(offsetperm).add(givptr).add(givcol).add(offsetgivcol).add(ldgcol).add(givnum).add(offsetgivnum).add(ldgnum).add(c).add(s).add(info).record();
+    }
+    lapack.slasd7(icompq, nl, nr, sqre, k, d, offsetd, z, offsetz, zw, offsetzw, vf, offsetvf, vfw, offsetvfw, vl, offsetvl, vlw, offsetvlw, alpha, beta, dsigma, offsetdsigma, idx, offsetidx, idxp, offsetidxp, idxq, offsetidxq, perm, offsetperm, givptr, givcol, offsetgivcol, ldgcol, givnum, offsetgivnum, ldgnum, c, s, info);
+  }
+
+  public void slasd8(int icompq, int k, float[] d, float[] z, float[] vf, float[] vl, float[] difl, float[] difr, int lddifr, float[] dsigma, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd8").add(icompq).add(k).add(d).add(0).add(z).add(0).add(vf).add(0).add(vl).add(0).add(difl).add(0).add(difr).add(0).add(lddifr).add(dsigma).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.slasd8(icompq, k, d, z, vf, vl, difl, difr, lddifr, dsigma, work, info);
+  }
+
+  public void slasd8(int icompq, int k, float[] d, int offsetd, float[] z, int offsetz, float[] vf, int offsetvf, float[] vl, int offsetvl, float[] difl, int offsetdifl, float[] difr, int offsetdifr, int lddifr, float[] dsigma, int offsetdsigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasd8").add(icompq).add(k).add(d).add(offsetd).add(z).add(offsetz).add(vf).add(offsetvf).add(vl).add(offsetvl).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(lddifr).add(dsigma).add(offsetdsigma).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slasd8(icompq, k, d, offsetd, z, offsetz, vf, offsetvf, vl, offsetvl, difl, offsetdifl, difr, offsetdifr, lddifr, dsigma, offsetdsigma, work, offsetwork, info);
+  }
+
+  public void slasda(int icompq, int smlsiz, int n, int sqre, float[] d, float[] e, float[] u, int ldu, float[] vt, int[] k, float[] difl, float[] difr, float[] z, float[] poles, int[] givptr, int[] givcol, int ldgcol, int[] perm, float[] givnum, float[] c, float[] s, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasda").add(icompq).add(smlsiz).add(n).add(sqre).add(d).add(0).add(e).add(0).add(u).add(0).add(ldu).add(vt).add(0).add(k).add(0).add(difl).add(0).add(difr).add(0).add(z).add(0).add(poles).add(0).add(givptr).add(0).add(givcol).add(0).add(ldgcol).add(perm).add(0).add(givnum).add(0).add(c).add(0).add(s).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.slasda(icompq, smlsiz, n, sqre, d, e, u, ldu, vt, k, difl, difr, z, poles, givptr, givcol, ldgcol, perm, givnum, c, s, work, iwork, info);
+  }
+
+  public void slasda(int icompq, int smlsiz, int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasda").add(icompq).add(smlsiz).add(n).add(sqre).add(d).add(offsetd).add(e).add(offsete).add(u).add(offsetu).add(ldu).add(vt).add(offsetvt).add(k).add(offsetk).add(difl).add(offsetdifl).add(difr).add(offsetdifr).add(z).add(offsetz).add(poles).add(offsetpoles).add(givptr).add(offsetgivptr).add(givcol).add(offsetgivcol).add(ldgcol).add(perm).add(offsetperm).add(givnum).add(offsetgivnum).add(c).add(offsetc).add(s).add(offsets).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.slasda(icompq, smlsiz, n, sqre, d, offsetd, e, offsete, u, offsetu, ldu, vt, offsetvt, k, offsetk, difl, offsetdifl, difr, offsetdifr, z, offsetz, poles, offsetpoles, givptr, offsetgivptr, givcol, offsetgivcol, ldgcol, perm, offsetperm, givnum, offsetgivnum, c, offsetc, s, offsets, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void slasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, float[] e, float[] vt, int ldvt, float[] u, int ldu, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasdq").add(uplo).add(sqre).add(n).add(ncvt).add(nru).add(ncc).add(d).add(0).add(e).add(0).add(vt).add(0).add(ldvt).add(u).add(0).add(ldu).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.slasdq(uplo, sqre, n, ncvt, nru, ncc, d, e, vt, ldvt, u, ldu, c, Ldc, work, info);
+  }
+
+  public void slasdq(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasdq").add(uplo).add(sqre).add(n).add(ncvt).add(nru).add(ncc).add(d).add(offsetd).add(e).add(offsete).add(vt).add(offsetvt).add(ldvt).add(u).add(offsetu).add(ldu).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slasdq(uplo, sqre, n, ncvt, nru, ncc, d, offsetd, e, offsete, vt, offsetvt, ldvt, u, offsetu, ldu, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void slasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int[] ndiml, int[] ndimr, int msub) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasdt").add(n).add(lvl).add(nd).add(inode).add(0).add(ndiml).add(0).add(ndimr).add(0).add(msub).record();
+    }
+    lapack.slasdt(n, lvl, nd, inode, ndiml, ndimr, msub);
+  }
+
+  public void slasdt(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasdt").add(n).add(lvl).add(nd).add(inode).add(offsetinode).add(ndiml).add(offsetndiml).add(ndimr).add(offsetndimr).add(msub).record();
+    }
+    lapack.slasdt(n, lvl, nd, inode, offsetinode, ndiml, offsetndiml, ndimr, offsetndimr, msub);
+  }
+
+  public void slaset(String uplo, int m, int n, float alpha, float beta, float[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaset").add(uplo).add(m).add(n).add(alpha).add(beta).add(a).add(0).add(lda).record();
+    }
+    lapack.slaset(uplo, m, n, alpha, beta, a, lda);
+  }
+
+  public void slaset(String uplo, int m, int n, float alpha, float beta, float[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaset").add(uplo).add(m).add(n).add(alpha).add(beta).add(a).add(offseta).add(lda).record();
+    }
+    lapack.slaset(uplo, m, n, alpha, beta, a, offseta, lda);
+  }
+
+  public void slasq1(int n, float[] d, float[] e, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq1").add(n).add(d).add(0).add(e).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.slasq1(n, d, e, work, info);
+  }
+
+  public void slasq1(int n, float[] d, int offsetd, float[] e, int offsete, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq1").add(n).add(d).add(offsetd).add(e).add(offsete).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.slasq1(n, d, offsetd, e, offsete, work, offsetwork, info);
+  }
+
+  public void slasq2(int n, float[] z, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq2").add(n).add(z).add(0).add(info).record();
+    }
+    lapack.slasq2(n, z, info);
+  }
+
+  public void slasq2(int n, float[] z, int offsetz, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq2").add(n).add(z).add(offsetz).add(info).record();
+    }
+    lapack.slasq2(n, z, offsetz, info);
+  }
+
+  public void slasq3(int i0, org.netlib.util.intW n0, float[] z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq3").add(i0).add(n0).add(z).add(0).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).record();
+    }
+    lapack.slasq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+  }
+
+  public void slasq3(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq3").add(i0).add(n0).add(z).add(offsetz).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).record();
+    }
+    lapack.slasq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+  }
+
+  public void slasq4(int i0, int n0, float[] z, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq4").add(i0).add(n0).add(z).add(0).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).record();
+    }
+    lapack.slasq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+  }
+
+  public void slasq4(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq4").add(i0).add(n0).add(z).add(offsetz).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).record();
+    }
+    lapack.slasq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+  }
+
+  public void slasq5(int i0, int n0, float[] z, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq5").add(i0).add(n0).add(z).add(0).add(pp).add(tau).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).add(ieee).record();
+    }
+    lapack.slasq5(i0, n0, z, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+  }
+
+  public void slasq5(int i0, int n0, float[] z, int offsetz, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq5").add(i0).add(n0).add(z).add(offsetz).add(pp).add(tau).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).add(ieee).record();
+    }
+    lapack.slasq5(i0, n0, z, offsetz, pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+  }
+
+  public void slasq6(int i0, int n0, float[] z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq6").add(i0).add(n0).add(z).add(0).add(pp).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).record();
+    }
+    lapack.slasq6(i0, n0, z, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+  }
+
+  public void slasq6(int i0, int n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasq6").add(i0).add(n0).add(z).add(offsetz).add(pp).add(dmin).add(dmin1).add(dmin2).add(dn).add(dnm1).add(dnm2).record();
+    }
+    lapack.slasq6(i0, n0, z, offsetz, pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+  }
+
+  public void slasr(String side, String pivot, String direct, int m, int n, float[] c, float[] s, float[] a, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasr").add(side).add(pivot).add(direct).add(m).add(n).add(c).add(0).add(s).add(0).add(a).add(0).add(lda).record();
+    }
+    lapack.slasr(side, pivot, direct, m, n, c, s, a, lda);
+  }
+
+  public void slasr(String side, String pivot, String direct, int m, int n, float[] c, int offsetc, float[] s, int offsets, float[] a, int offseta, int lda) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasr").add(side).add(pivot).add(direct).add(m).add(n).add(c).add(offsetc).add(s).add(offsets).add(a).add(offseta).add(lda).record();
+    }
+    lapack.slasr(side, pivot, direct, m, n, c, offsetc, s, offsets, a, offseta, lda);
+  }
+
+  public void slasrt(String id, int n, float[] d, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasrt").add(id).add(n).add(d).add(0).add(info).record();
+    }
+    lapack.slasrt(id, n, d, info);
+  }
+
+  public void slasrt(String id, int n, float[] d, int offsetd, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasrt").add(id).add(n).add(d).add(offsetd).add(info).record();
+    }
+    lapack.slasrt(id, n, d, offsetd, info);
+  }
+
+  public void slassq(int n, float[] x, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slassq").add(n).add(x).add(0).add(incx).add(scale).add(sumsq).record();
+    }
+    lapack.slassq(n, x, incx, scale, sumsq);
+  }
+
+  public void slassq(int n, float[] x, int offsetx, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slassq").add(n).add(x).add(offsetx).add(incx).add(scale).add(sumsq).record();
+    }
+    lapack.slassq(n, x, offsetx, incx, scale, sumsq);
+  }
+
+  public void slasv2(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax, org.netlib.util.floatW snr, org.netlib.util.floatW csr, org.netlib.util.floatW snl, org.netlib.util.floatW csl) {
+    lapack.slasv2(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+  }
+
+  public void slaswp(int n, float[] a, int lda, int k1, int k2, int[] ipiv, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaswp").add(n).add(a).add(0).add(lda).add(k1).add(k2).add(ipiv).add(0).add(incx).record();
+    }
+    lapack.slaswp(n, a, lda, k1, k2, ipiv, incx);
+  }
+
+  public void slaswp(int n, float[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slaswp").add(n).add(a).add(offseta).add(lda).add(k1).add(k2).add(ipiv).add(offsetipiv).add(incx).record();
+    }
+    lapack.slaswp(n, a, offseta, lda, k1, k2, ipiv, offsetipiv, incx);
+  }
+
+  public void slasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int ldtl, float[] tr, int ldtr, float[] b, int ldb, org.netlib.util.floatW scale, float[] x, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasy2").add(ltranl).add(ltranr).add(isgn).add(n1).add(n2).add(tl).add(0).add(ldtl).add(tr).add(0).add(ldtr).add(b).add(0).add(ldb).add(scale).add(x).add(0).add(ldx).add(xnorm).add(info).record();
+    }
+    lapack.slasy2(ltranl, ltranr, isgn, n1, n2, tl, ldtl, tr, ldtr, b, ldb, scale, x, ldx, xnorm, info);
+  }
+
+  public void slasy2(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int offsettl, int ldtl, float[] tr, int offsettr, int ldtr, float[] b, int offsetb, int ldb, org.netlib.util.floatW scale, float[] x, int offsetx, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasy2").add(ltranl).add(ltranr).add(isgn).add(n1).add(n2).add(tl).add(offsettl).add(ldtl).add(tr).add(offsettr).add(ldtr).add(b).add(offsetb).add(ldb).add(scale).add(x).add(offsetx).add(ldx).add(xnorm).add(info).record();
+    }
+    lapack.slasy2(ltranl, ltranr, isgn, n1, n2, tl, offsettl, ldtl, tr, offsettr, ldtr, b, offsetb, ldb, scale, x, offsetx, ldx, xnorm, info);
+  }
+
+  public void slasyf(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int lda, int[] ipiv, float[] w, int ldw, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasyf").add(uplo).add(n).add(nb).add(kb).add(a).add(0).add(lda).add(ipiv).add(0).add(w).add(0).add(ldw).add(info).record();
+    }
+    lapack.slasyf(uplo, n, nb, kb, a, lda, ipiv, w, ldw, info);
+  }
+
+  public void slasyf(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slasyf").add(uplo).add(n).add(nb).add(kb).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(w).add(offsetw).add(ldw).add(info).record();
+    }
+    lapack.slasyf(uplo, n, nb, kb, a, offseta, lda, ipiv, offsetipiv, w, offsetw, ldw, info);
+  }
+
+  public void slatbs(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int ldab, float[] x, org.netlib.util.floatW scale, float[] cnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatbs").add(uplo).add(trans).add(diag).add(normin).add(n).add(kd).add(ab).add(0).add(ldab).add(x).add(0).add(scale).add(cnorm).add(0).add(info).record();
+    }
+    lapack.slatbs(uplo, trans, diag, normin, n, kd, ab, ldab, x, scale, cnorm, info);
+  }
+
+  public void slatbs(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int offsetab, int ldab, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatbs").add(uplo).add(trans).add(diag).add(normin).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(x).add(offsetx).add(scale).add(cnorm).add(offsetcnorm).add(info).record();
+    }
+    lapack.slatbs(uplo, trans, diag, normin, n, kd, ab, offsetab, ldab, x, offsetx, scale, cnorm, offsetcnorm, info);
+  }
+
+  public void slatdf(int ijob, int n, float[] z, int ldz, float[] rhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int[] jpiv) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatdf").add(ijob).add(n).add(z).add(0).add(ldz).add(rhs).add(0).add(rdsum).add(rdscal).add(ipiv).add(0).add(jpiv).add(0).record();
+    }
+    lapack.slatdf(ijob, n, z, ldz, rhs, rdsum, rdscal, ipiv, jpiv);
+  }
+
+  public void slatdf(int ijob, int n, float[] z, int offsetz, int ldz, float[] rhs, int offsetrhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatdf").add(ijob).add(n).add(z).add(offsetz).add(ldz).add(rhs).add(offsetrhs).add(rdsum).add(rdscal).add(ipiv).add(offsetipiv).add(jpiv).add(offsetjpiv).record();
+    }
+    lapack.slatdf(ijob, n, z, offsetz, ldz, rhs, offsetrhs, rdsum, rdscal, ipiv, offsetipiv, jpiv, offsetjpiv);
+  }
+
+  public void slatps(String uplo, String trans, String diag, String normin, int n, float[] ap, float[] x, org.netlib.util.floatW scale, float[] cnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatps").add(uplo).add(trans).add(diag).add(normin).add(n).add(ap).add(0).add(x).add(0).add(scale).add(cnorm).add(0).add(info).record();
+    }
+    lapack.slatps(uplo, trans, diag, normin, n, ap, x, scale, cnorm, info);
+  }
+
+  public void slatps(String uplo, String trans, String diag, String normin, int n, float[] ap, int offsetap, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatps").add(uplo).add(trans).add(diag).add(normin).add(n).add(ap).add(offsetap).add(x).add(offsetx).add(scale).add(cnorm).add(offsetcnorm).add(info).record();
+    }
+    lapack.slatps(uplo, trans, diag, normin, n, ap, offsetap, x, offsetx, scale, cnorm, offsetcnorm, info);
+  }
+
+  public void slatrd(String uplo, int n, int nb, float[] a, int lda, float[] e, float[] tau, float[] w, int ldw) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatrd").add(uplo).add(n).add(nb).add(a).add(0).add(lda).add(e).add(0).add(tau).add(0).add(w).add(0).add(ldw).record();
+    }
+    lapack.slatrd(uplo, n, nb, a, lda, e, tau, w, ldw);
+  }
+
+  public void slatrd(String uplo, int n, int nb, float[] a, int offseta, int lda, float[] e, int offsete, float[] tau, int offsettau, float[] w, int offsetw, int ldw) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatrd").add(uplo).add(n).add(nb).add(a).add(offseta).add(lda).add(e).add(offsete).add(tau).add(offsettau).add(w).add(offsetw).add(ldw).record();
+    }
+    lapack.slatrd(uplo, n, nb, a, offseta, lda, e, offsete, tau, offsettau, w, offsetw, ldw);
+  }
+
+  public void slatrs(String uplo, String trans, String diag, String normin, int n, float[] a, int lda, float[] x, org.netlib.util.floatW scale, float[] cnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatrs").add(uplo).add(trans).add(diag).add(normin).add(n).add(a).add(0).add(lda).add(x).add(0).add(scale).add(cnorm).add(0).add(info).record();
+    }
+    lapack.slatrs(uplo, trans, diag, normin, n, a, lda, x, scale, cnorm, info);
+  }
+
+  public void slatrs(String uplo, String trans, String diag, String normin, int n, float[] a, int offseta, int lda, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatrs").add(uplo).add(trans).add(diag).add(normin).add(n).add(a).add(offseta).add(lda).add(x).add(offsetx).add(scale).add(cnorm).add(offsetcnorm).add(info).record();
+    }
+    lapack.slatrs(uplo, trans, diag, normin, n, a, offseta, lda, x, offsetx, scale, cnorm, offsetcnorm, info);
+  }
+
+  public void slatrz(int m, int n, int l, float[] a, int lda, float[] tau, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatrz").add(m).add(n).add(l).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).record();
+    }
+    lapack.slatrz(m, n, l, a, lda, tau, work);
+  }
+
+  public void slatrz(int m, int n, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatrz").add(m).add(n).add(l).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).record();
+    }
+    lapack.slatrz(m, n, l, a, offseta, lda, tau, offsettau, work, offsetwork);
+  }
+
+  public void slatzm(String side, int m, int n, float[] v, int incv, float tau, float[] c1, float[] c2, int Ldc, float[] work) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatzm").add(side).add(m).add(n).add(v).add(0).add(incv).add(tau).add(c1).add(0).add(c2).add(0).add(Ldc).add(work).add(0).record();
+    }
+    lapack.slatzm(side, m, n, v, incv, tau, c1, c2, Ldc, work);
+  }
+
+  public void slatzm(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c1, int offsetc1, float[] c2, int offsetc2, int Ldc, float[] work, int offsetwork) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slatzm").add(side).add(m).add(n).add(v).add(offsetv).add(incv).add(tau).add(c1).add(offsetc1).add(c2).add(offsetc2).add(Ldc).add(work).add(offsetwork).record();
+    }
+    lapack.slatzm(side, m, n, v, offsetv, incv, tau, c1, offsetc1, c2, offsetc2, Ldc, work, offsetwork);
+  }
+
+  public void slauu2(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slauu2").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.slauu2(uplo, n, a, lda, info);
+  }
+
+  public void slauu2(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slauu2").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.slauu2(uplo, n, a, offseta, lda, info);
+  }
+
+  public void slauum(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slauum").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.slauum(uplo, n, a, lda, info);
+  }
+
+  public void slauum(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slauum").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.slauum(uplo, n, a, offseta, lda, info);
+  }
+
+  public void slazq3(int i0, org.netlib.util.intW n0, float[] z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slazq3").add(i0).add(n0).add(z).add(0).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).add(ttype).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).record();
+    }
+    lapack.slazq3(i0, n0, z, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+  }
+
+  public void slazq3(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slazq3").add(i0).add(n0).add(z).add(offsetz).add(pp).add(dmin).add(sigma).add(desig).add(qmax).add(nfail).add(iter).add(ndiv).add(ieee).add(ttype).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).record();
+    }
+    lapack.slazq3(i0, n0, z, offsetz, pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee, ttype, dmin1, dmin2, dn, dn1, dn2, tau);
+  }
+
+  public void slazq4(int i0, int n0, float[] z, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slazq4").add(i0).add(n0).add(z).add(0).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).add(g).record();
+    }
+    lapack.slazq4(i0, n0, z, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+  }
+
+  public void slazq4(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("slazq4").add(i0).add(n0).add(z).add(offsetz).add(pp).add(n0in).add(dmin).add(dmin1).add(dmin2).add(dn).add(dn1).add(dn2).add(tau).add(ttype).add(g).record();
+    }
+    lapack.slazq4(i0, n0, z, offsetz, pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype, g);
+  }
+
+  public void sopgtr(String uplo, int n, float[] ap, float[] tau, float[] q, int ldq, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sopgtr").add(uplo).add(n).add(ap).add(0).add(tau).add(0).add(q).add(0).add(ldq).add(work).add(0).add(info).record();
+    }
+    lapack.sopgtr(uplo, n, ap, tau, q, ldq, work, info);
+  }
+
+  public void sopgtr(String uplo, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sopgtr").add(uplo).add(n).add(ap).add(offsetap).add(tau).add(offsettau).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sopgtr(uplo, n, ap, offsetap, tau, offsettau, q, offsetq, ldq, work, offsetwork, info);
+  }
+
+  public void sopmtr(String side, String uplo, String trans, int m, int n, float[] ap, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sopmtr").add(side).add(uplo).add(trans).add(m).add(n).add(ap).add(0).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sopmtr(side, uplo, trans, m, n, ap, tau, c, Ldc, work, info);
+  }
+
+  public void sopmtr(String side, String uplo, String trans, int m, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sopmtr").add(side).add(uplo).add(trans).add(m).add(n).add(ap).add(offsetap).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sopmtr(side, uplo, trans, m, n, ap, offsetap, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sorg2l(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorg2l").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sorg2l(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void sorg2l(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorg2l").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sorg2l(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sorg2r(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorg2r").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sorg2r(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void sorg2r(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorg2r").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sorg2r(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sorgbr(String vect, int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgbr").add(vect).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sorgbr(vect, m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void sorgbr(String vect, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgbr").add(vect).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sorgbr(vect, m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sorghr(int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorghr").add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sorghr(n, ilo, ihi, a, lda, tau, work, lwork, info);
+  }
+
+  public void sorghr(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorghr").add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sorghr(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sorgl2(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgl2").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sorgl2(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void sorgl2(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgl2").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sorgl2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sorglq(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorglq").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sorglq(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void sorglq(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorglq").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sorglq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sorgql(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgql").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sorgql(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void sorgql(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgql").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sorgql(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sorgqr(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgqr").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sorgqr(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void sorgqr(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgqr").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sorgqr(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sorgr2(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgr2").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sorgr2(m, n, k, a, lda, tau, work, info);
+  }
+
+  public void sorgr2(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgr2").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sorgr2(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, info);
+  }
+
+  public void sorgrq(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgrq").add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sorgrq(m, n, k, a, lda, tau, work, lwork, info);
+  }
+
+  public void sorgrq(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgrq").add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sorgrq(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sorgtr(String uplo, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgtr").add(uplo).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sorgtr(uplo, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void sorgtr(String uplo, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorgtr").add(uplo).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sorgtr(uplo, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void sorm2l(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorm2l").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sorm2l(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void sorm2l(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorm2l").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sorm2l(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sorm2r(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorm2r").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sorm2r(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void sorm2r(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorm2r").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sorm2r(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sormbr(String vect, String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormbr").add(vect).add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormbr(vect, side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormbr(String vect, String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormbr").add(vect).add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormbr(vect, side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void sormhr(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormhr").add(side).add(trans).add(m).add(n).add(ilo).add(ihi).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormhr(side, trans, m, n, ilo, ihi, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormhr(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormhr").add(side).add(trans).add(m).add(n).add(ilo).add(ihi).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormhr(side, trans, m, n, ilo, ihi, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void sorml2(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorml2").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sorml2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void sorml2(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sorml2").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sorml2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sormlq(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormlq").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormlq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormlq(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormlq").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormlq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void sormql(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormql").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormql(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormql(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormql").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormql(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void sormqr(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormqr").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormqr(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormqr(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormqr").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormqr(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void sormr2(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormr2").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sormr2(side, trans, m, n, k, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void sormr2(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormr2").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sormr2(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sormr3(String side, String trans, int m, int n, int k, int l, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormr3").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(info).record();
+    }
+    lapack.sormr3(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, info);
+  }
+
+  public void sormr3(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormr3").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sormr3(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, info);
+  }
+
+  public void sormrq(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormrq").add(side).add(trans).add(m).add(n).add(k).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormrq(side, trans, m, n, k, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormrq(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormrq").add(side).add(trans).add(m).add(n).add(k).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormrq(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void sormrz(String side, String trans, int m, int n, int k, int l, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormrz").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormrz(side, trans, m, n, k, l, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormrz(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormrz").add(side).add(trans).add(m).add(n).add(k).add(l).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormrz(side, trans, m, n, k, l, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void sormtr(String side, String uplo, String trans, int m, int n, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormtr").add(side).add(uplo).add(trans).add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(c).add(0).add(Ldc).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.sormtr(side, uplo, trans, m, n, a, lda, tau, c, Ldc, work, lwork, info);
+  }
+
+  public void sormtr(String side, String uplo, String trans, int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sormtr").add(side).add(uplo).add(trans).add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(c).add(offsetc).add(Ldc).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.sormtr(side, uplo, trans, m, n, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  public void spbcon(String uplo, int n, int kd, float[] ab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbcon").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.spbcon(uplo, n, kd, ab, ldab, anorm, rcond, work, iwork, info);
+  }
+
+  public void spbcon(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbcon").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.spbcon(uplo, n, kd, ab, offsetab, ldab, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void spbequ(String uplo, int n, int kd, float[] ab, int ldab, float[] s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbequ").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(s).add(0).add(scond).add(amax).add(info).record();
+    }
+    lapack.spbequ(uplo, n, kd, ab, ldab, s, scond, amax, info);
+  }
+
+  public void spbequ(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbequ").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(s).add(offsets).add(scond).add(amax).add(info).record();
+    }
+    lapack.spbequ(uplo, n, kd, ab, offsetab, ldab, s, offsets, scond, amax, info);
+  }
+
+  public void spbrfs(String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbrfs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.spbrfs(uplo, n, kd, nrhs, ab, ldab, afb, ldafb, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void spbrfs(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbrfs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.spbrfs(uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void spbstf(String uplo, int n, int kd, float[] ab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbstf").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(info).record();
+    }
+    lapack.spbstf(uplo, n, kd, ab, ldab, info);
+  }
+
+  public void spbstf(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbstf").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(info).record();
+    }
+    lapack.spbstf(uplo, n, kd, ab, offsetab, ldab, info);
+  }
+
+  public void spbsv(String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbsv").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.spbsv(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+  }
+
+  public void spbsv(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbsv").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.spbsv(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+  }
+
+  public void spbsvx(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] afb, int ldafb, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbsvx").add(fact).add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(afb).add(0).add(ldafb).add(equed).add(s).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.spbsvx(fact, uplo, n, kd, nrhs, ab, ldab, afb, ldafb, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void spbsvx(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbsvx").add(fact).add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(afb).add(offsetafb).add(ldafb).add(equed).add(s).add(offsets).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.spbsvx(fact, uplo, n, kd, nrhs, ab, offsetab, ldab, afb, offsetafb, ldafb, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void spbtf2(String uplo, int n, int kd, float[] ab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbtf2").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(info).record();
+    }
+    lapack.spbtf2(uplo, n, kd, ab, ldab, info);
+  }
+
+  public void spbtf2(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbtf2").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(info).record();
+    }
+    lapack.spbtf2(uplo, n, kd, ab, offsetab, ldab, info);
+  }
+
+  public void spbtrf(String uplo, int n, int kd, float[] ab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbtrf").add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(info).record();
+    }
+    lapack.spbtrf(uplo, n, kd, ab, ldab, info);
+  }
+
+  public void spbtrf(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbtrf").add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(info).record();
+    }
+    lapack.spbtrf(uplo, n, kd, ab, offsetab, ldab, info);
+  }
+
+  public void spbtrs(String uplo, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbtrs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.spbtrs(uplo, n, kd, nrhs, ab, ldab, b, ldb, info);
+  }
+
+  public void spbtrs(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spbtrs").add(uplo).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.spbtrs(uplo, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+  }
+
+  public void spocon(String uplo, int n, float[] a, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spocon").add(uplo).add(n).add(a).add(0).add(lda).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.spocon(uplo, n, a, lda, anorm, rcond, work, iwork, info);
+  }
+
+  public void spocon(String uplo, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spocon").add(uplo).add(n).add(a).add(offseta).add(lda).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.spocon(uplo, n, a, offseta, lda, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void spoequ(int n, float[] a, int lda, float[] s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spoequ").add(n).add(a).add(0).add(lda).add(s).add(0).add(scond).add(amax).add(info).record();
+    }
+    lapack.spoequ(n, a, lda, s, scond, amax, info);
+  }
+
+  public void spoequ(int n, float[] a, int offseta, int lda, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spoequ").add(n).add(a).add(offseta).add(lda).add(s).add(offsets).add(scond).add(amax).add(info).record();
+    }
+    lapack.spoequ(n, a, offseta, lda, s, offsets, scond, amax, info);
+  }
+
+  public void sporfs(String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sporfs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sporfs(uplo, n, nrhs, a, lda, af, ldaf, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void sporfs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sporfs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sporfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sposv(String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sposv").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sposv(uplo, n, nrhs, a, lda, b, ldb, info);
+  }
+
+  public void sposv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sposv").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sposv(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sposvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(equed).add(s).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sposvx(fact, uplo, n, nrhs, a, lda, af, ldaf, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sposvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(equed).add(s).add(offsets).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sposvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void spotf2(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotf2").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.spotf2(uplo, n, a, lda, info);
+  }
+
+  public void spotf2(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotf2").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.spotf2(uplo, n, a, offseta, lda, info);
+  }
+
+  public void spotrf(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotrf").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.spotrf(uplo, n, a, lda, info);
+  }
+
+  public void spotrf(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotrf").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.spotrf(uplo, n, a, offseta, lda, info);
+  }
+
+  public void spotri(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotri").add(uplo).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.spotri(uplo, n, a, lda, info);
+  }
+
+  public void spotri(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotri").add(uplo).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.spotri(uplo, n, a, offseta, lda, info);
+  }
+
+  public void spotrs(String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotrs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.spotrs(uplo, n, nrhs, a, lda, b, ldb, info);
+  }
+
+  public void spotrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spotrs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.spotrs(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void sppcon(String uplo, int n, float[] ap, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppcon").add(uplo).add(n).add(ap).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sppcon(uplo, n, ap, anorm, rcond, work, iwork, info);
+  }
+
+  public void sppcon(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppcon").add(uplo).add(n).add(ap).add(offsetap).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sppcon(uplo, n, ap, offsetap, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sppequ(String uplo, int n, float[] ap, float[] s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppequ").add(uplo).add(n).add(ap).add(0).add(s).add(0).add(scond).add(amax).add(info).record();
+    }
+    lapack.sppequ(uplo, n, ap, s, scond, amax, info);
+  }
+
+  public void sppequ(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppequ").add(uplo).add(n).add(ap).add(offsetap).add(s).add(offsets).add(scond).add(amax).add(info).record();
+    }
+    lapack.sppequ(uplo, n, ap, offsetap, s, offsets, scond, amax, info);
+  }
+
+  public void spprfs(String uplo, int n, int nrhs, float[] ap, float[] afp, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spprfs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.spprfs(uplo, n, nrhs, ap, afp, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void spprfs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spprfs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.spprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sppsv(String uplo, int n, int nrhs, float[] ap, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppsv").add(uplo).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sppsv(uplo, n, nrhs, ap, b, ldb, info);
+  }
+
+  public void sppsv(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppsv").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sppsv(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+  }
+
+  public void sppsvx(String fact, String uplo, int n, int nrhs, float[] ap, float[] afp, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(equed).add(s).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sppsvx(fact, uplo, n, nrhs, ap, afp, equed, s, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void sppsvx(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sppsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(equed).add(s).add(offsets).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sppsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void spptrf(String uplo, int n, float[] ap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spptrf").add(uplo).add(n).add(ap).add(0).add(info).record();
+    }
+    lapack.spptrf(uplo, n, ap, info);
+  }
+
+  public void spptrf(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spptrf").add(uplo).add(n).add(ap).add(offsetap).add(info).record();
+    }
+    lapack.spptrf(uplo, n, ap, offsetap, info);
+  }
+
+  public void spptri(String uplo, int n, float[] ap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spptri").add(uplo).add(n).add(ap).add(0).add(info).record();
+    }
+    lapack.spptri(uplo, n, ap, info);
+  }
+
+  public void spptri(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spptri").add(uplo).add(n).add(ap).add(offsetap).add(info).record();
+    }
+    lapack.spptri(uplo, n, ap, offsetap, info);
+  }
+
+  public void spptrs(String uplo, int n, int nrhs, float[] ap, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spptrs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.spptrs(uplo, n, nrhs, ap, b, ldb, info);
+  }
+
+  public void spptrs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spptrs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.spptrs(uplo, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+  }
+
+  public void sptcon(int n, float[] d, float[] e, float anorm, org.netlib.util.floatW rcond, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptcon").add(n).add(d).add(0).add(e).add(0).add(anorm).add(rcond).add(work).add(0).add(info).record();
+    }
+    lapack.sptcon(n, d, e, anorm, rcond, work, info);
+  }
+
+  public void sptcon(int n, float[] d, int offsetd, float[] e, int offsete, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptcon").add(n).add(d).add(offsetd).add(e).add(offsete).add(anorm).add(rcond).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sptcon(n, d, offsetd, e, offsete, anorm, rcond, work, offsetwork, info);
+  }
+
+  public void spteqr(String compz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spteqr").add(compz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.spteqr(compz, n, d, e, z, ldz, work, info);
+  }
+
+  public void spteqr(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spteqr").add(compz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.spteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void sptrfs(int n, int nrhs, float[] d, float[] e, float[] df, float[] ef, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptrfs").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(df).add(0).add(ef).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sptrfs(n, nrhs, d, e, df, ef, b, ldb, x, ldx, ferr, berr, work, info);
+  }
+
+  public void sptrfs(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptrfs").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(df).add(offsetdf).add(ef).add(offsetef).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sptrfs(n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+  }
+
+  public void sptsv(int n, int nrhs, float[] d, float[] e, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptsv").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sptsv(n, nrhs, d, e, b, ldb, info);
+  }
+
+  public void sptsv(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptsv").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sptsv(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+  }
+
+  public void sptsvx(String fact, int n, int nrhs, float[] d, float[] e, float[] df, float[] ef, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptsvx").add(fact).add(n).add(nrhs).add(d).add(0).add(e).add(0).add(df).add(0).add(ef).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.sptsvx(fact, n, nrhs, d, e, df, ef, b, ldb, x, ldx, rcond, ferr, berr, work, info);
+  }
+
+  public void sptsvx(String fact, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptsvx").add(fact).add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(df).add(offsetdf).add(ef).add(offsetef).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sptsvx(fact, n, nrhs, d, offsetd, e, offsete, df, offsetdf, ef, offsetef, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, info);
+  }
+
+  public void spttrf(int n, float[] d, float[] e, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spttrf").add(n).add(d).add(0).add(e).add(0).add(info).record();
+    }
+    lapack.spttrf(n, d, e, info);
+  }
+
+  public void spttrf(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spttrf").add(n).add(d).add(offsetd).add(e).add(offsete).add(info).record();
+    }
+    lapack.spttrf(n, d, offsetd, e, offsete, info);
+  }
+
+  public void spttrs(int n, int nrhs, float[] d, float[] e, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spttrs").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.spttrs(n, nrhs, d, e, b, ldb, info);
+  }
+
+  public void spttrs(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("spttrs").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.spttrs(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb, info);
+  }
+
+  public void sptts2(int n, int nrhs, float[] d, float[] e, float[] b, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptts2").add(n).add(nrhs).add(d).add(0).add(e).add(0).add(b).add(0).add(ldb).record();
+    }
+    lapack.sptts2(n, nrhs, d, e, b, ldb);
+  }
+
+  public void sptts2(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sptts2").add(n).add(nrhs).add(d).add(offsetd).add(e).add(offsete).add(b).add(offsetb).add(ldb).record();
+    }
+    lapack.sptts2(n, nrhs, d, offsetd, e, offsete, b, offsetb, ldb);
+  }
+
+  public void srscl(int n, float sa, float[] sx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srscl").add(n).add(sa).add(sx).add(0).add(incx).record();
+    }
+    lapack.srscl(n, sa, sx, incx);
+  }
+
+  public void srscl(int n, float sa, float[] sx, int offsetsx, int incx) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("srscl").add(n).add(sa).add(sx).add(offsetsx).add(incx).record();
+    }
+    lapack.srscl(n, sa, sx, offsetsx, incx);
+  }
+
+  public void ssbev(String jobz, String uplo, int n, int kd, float[] ab, int ldab, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbev").add(jobz).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.ssbev(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, info);
+  }
+
+  public void ssbev(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbev").add(jobz).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.ssbev(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void ssbevd(String jobz, String uplo, int n, int kd, float[] ab, int ldab, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbevd").add(jobz).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.ssbevd(jobz, uplo, n, kd, ab, ldab, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void ssbevd(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbevd").add(jobz).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.ssbevd(jobz, uplo, n, kd, ab, offsetab, ldab, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void ssbevx(String jobz, String range, String uplo, int n, int kd, float[] ab, int ldab, float[] q, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbevx").add(jobz).add(range).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(q).add(0).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.ssbevx(jobz, range, uplo, n, kd, ab, ldab, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void ssbevx(String jobz, String range, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbevx").add(jobz).add(range).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(q).add(offsetq).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.ssbevx(jobz, range, uplo, n, kd, ab, offsetab, ldab, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void ssbgst(String vect, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] x, int ldx, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgst").add(vect).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(x).add(0).add(ldx).add(work).add(0).add(info).record();
+    }
+    lapack.ssbgst(vect, uplo, n, ka, kb, ab, ldab, bb, ldbb, x, ldx, work, info);
+  }
+
+  public void ssbgst(String vect, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] x, int offsetx, int ldx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgst").add(vect).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(x).add(offsetx).add(ldx).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.ssbgst(vect, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, x, offsetx, ldx, work, offsetwork, info);
+  }
+
+  public void ssbgv(String jobz, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgv").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.ssbgv(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, info);
+  }
+
+  public void ssbgv(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgv").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.ssbgv(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void ssbgvd(String jobz, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgvd").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.ssbgvd(jobz, uplo, n, ka, kb, ab, ldab, bb, ldbb, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void ssbgvd(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgvd").add(jobz).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.ssbgvd(jobz, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void ssbgvx(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int ldab, float[] bb, int ldbb, float[] q, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgvx").add(jobz).add(range).add(uplo).add(n).add(ka).add(kb).add(ab).add(0).add(ldab).add(bb).add(0).add(ldbb).add(q).add(0).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.ssbgvx(jobz, range, uplo, n, ka, kb, ab, ldab, bb, ldbb, q, ldq, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void ssbgvx(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbgvx").add(jobz).add(range).add(uplo).add(n).add(ka).add(kb).add(ab).add(offsetab).add(ldab).add(bb).add(offsetbb).add(ldbb).add(q).add(offsetq).add(ldq).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.ssbgvx(jobz, range, uplo, n, ka, kb, ab, offsetab, ldab, bb, offsetbb, ldbb, q, offsetq, ldq, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void ssbtrd(String vect, String uplo, int n, int kd, float[] ab, int ldab, float[] d, float[] e, float[] q, int ldq, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbtrd").add(vect).add(uplo).add(n).add(kd).add(ab).add(0).add(ldab).add(d).add(0).add(e).add(0).add(q).add(0).add(ldq).add(work).add(0).add(info).record();
+    }
+    lapack.ssbtrd(vect, uplo, n, kd, ab, ldab, d, e, q, ldq, work, info);
+  }
+
+  public void ssbtrd(String vect, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssbtrd").add(vect).add(uplo).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(d).add(offsetd).add(e).add(offsete).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.ssbtrd(vect, uplo, n, kd, ab, offsetab, ldab, d, offsetd, e, offsete, q, offsetq, ldq, work, offsetwork, info);
+  }
+
+  public void sspcon(String uplo, int n, float[] ap, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspcon").add(uplo).add(n).add(ap).add(0).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sspcon(uplo, n, ap, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void sspcon(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspcon").add(uplo).add(n).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sspcon(uplo, n, ap, offsetap, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sspev(String jobz, String uplo, int n, float[] ap, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspev").add(jobz).add(uplo).add(n).add(ap).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.sspev(jobz, uplo, n, ap, w, z, ldz, work, info);
+  }
+
+  public void sspev(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspev").add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sspev(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void sspevd(String jobz, String uplo, int n, float[] ap, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspevd").add(jobz).add(uplo).add(n).add(ap).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.sspevd(jobz, uplo, n, ap, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void sspevd(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspevd").add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.sspevd(jobz, uplo, n, ap, offsetap, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void sspevx(String jobz, String range, String uplo, int n, float[] ap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspevx").add(jobz).add(range).add(uplo).add(n).add(ap).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.sspevx(jobz, range, uplo, n, ap, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void sspevx(String jobz, String range, String uplo, int n, float[] ap, int offsetap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspevx").add(jobz).add(range).add(uplo).add(n).add(ap).add(offsetap).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.sspevx(jobz, range, uplo, n, ap, offsetap, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void sspgst(int itype, String uplo, int n, float[] ap, float[] bp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgst").add(itype).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(info).record();
+    }
+    lapack.sspgst(itype, uplo, n, ap, bp, info);
+  }
+
+  public void sspgst(int itype, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgst").add(itype).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(info).record();
+    }
+    lapack.sspgst(itype, uplo, n, ap, offsetap, bp, offsetbp, info);
+  }
+
+  public void sspgv(int itype, String jobz, String uplo, int n, float[] ap, float[] bp, float[] w, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgv").add(itype).add(jobz).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.sspgv(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, info);
+  }
+
+  public void sspgv(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgv").add(itype).add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sspgv(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void sspgvd(int itype, String jobz, String uplo, int n, float[] ap, float[] bp, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgvd").add(itype).add(jobz).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.sspgvd(itype, jobz, uplo, n, ap, bp, w, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void sspgvd(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgvd").add(itype).add(jobz).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.sspgvd(itype, jobz, uplo, n, ap, offsetap, bp, offsetbp, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void sspgvx(int itype, String jobz, String range, String uplo, int n, float[] ap, float[] bp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(ap).add(0).add(bp).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.sspgvx(itype, jobz, range, uplo, n, ap, bp, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void sspgvx(int itype, String jobz, String range, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspgvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(ap).add(offsetap).add(bp).add(offsetbp).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.sspgvx(itype, jobz, range, uplo, n, ap, offsetap, bp, offsetbp, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void ssprfs(String uplo, int n, int nrhs, float[] ap, float[] afp, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssprfs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.ssprfs(uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void ssprfs(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssprfs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.ssprfs(uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sspsv(String uplo, int n, int nrhs, float[] ap, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspsv").add(uplo).add(n).add(nrhs).add(ap).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.sspsv(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+  }
+
+  public void sspsv(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspsv").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.sspsv(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void sspsvx(String fact, String uplo, int n, int nrhs, float[] ap, float[] afp, int[] ipiv, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(0).add(afp).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sspsvx(fact, uplo, n, nrhs, ap, afp, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, iwork, info);
+  }
+
+  public void sspsvx(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sspsvx").add(fact).add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(afp).add(offsetafp).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sspsvx(fact, uplo, n, nrhs, ap, offsetap, afp, offsetafp, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void ssptrd(String uplo, int n, float[] ap, float[] d, float[] e, float[] tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptrd").add(uplo).add(n).add(ap).add(0).add(d).add(0).add(e).add(0).add(tau).add(0).add(info).record();
+    }
+    lapack.ssptrd(uplo, n, ap, d, e, tau, info);
+  }
+
+  public void ssptrd(String uplo, int n, float[] ap, int offsetap, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptrd").add(uplo).add(n).add(ap).add(offsetap).add(d).add(offsetd).add(e).add(offsete).add(tau).add(offsettau).add(info).record();
+    }
+    lapack.ssptrd(uplo, n, ap, offsetap, d, offsetd, e, offsete, tau, offsettau, info);
+  }
+
+  public void ssptrf(String uplo, int n, float[] ap, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptrf").add(uplo).add(n).add(ap).add(0).add(ipiv).add(0).add(info).record();
+    }
+    lapack.ssptrf(uplo, n, ap, ipiv, info);
+  }
+
+  public void ssptrf(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptrf").add(uplo).add(n).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.ssptrf(uplo, n, ap, offsetap, ipiv, offsetipiv, info);
+  }
+
+  public void ssptri(String uplo, int n, float[] ap, int[] ipiv, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptri").add(uplo).add(n).add(ap).add(0).add(ipiv).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.ssptri(uplo, n, ap, ipiv, work, info);
+  }
+
+  public void ssptri(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptri").add(uplo).add(n).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.ssptri(uplo, n, ap, offsetap, ipiv, offsetipiv, work, offsetwork, info);
+  }
+
+  public void ssptrs(String uplo, int n, int nrhs, float[] ap, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptrs").add(uplo).add(n).add(nrhs).add(ap).add(0).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.ssptrs(uplo, n, nrhs, ap, ipiv, b, ldb, info);
+  }
+
+  public void ssptrs(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssptrs").add(uplo).add(n).add(nrhs).add(ap).add(offsetap).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.ssptrs(uplo, n, nrhs, ap, offsetap, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void sstebz(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, float[] e, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int[] iblock, int[] isplit, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstebz").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(abstol).add(d).add(0).add(e).add(0).add(m).add(nsplit).add(w).add(0).add(iblock).add(0).add(isplit).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.sstebz(range, order, n, vl, vu, il, iu, abstol, d, e, m, nsplit, w, iblock, isplit, work, iwork, info);
+  }
+
+  public void sstebz(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstebz").add(range).add(order).add(n).add(vl).add(vu).add(il).add(iu).add(abstol).add(d).add(offsetd).add(e).add(offsete).add(m).add(nsplit).add(w).add(offsetw).add(iblock).add(offsetiblock).add(isplit).add(offsetisplit).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.sstebz(range, order, n, vl, vu, il, iu, abstol, d, offsetd, e, offsete, m, nsplit, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void sstedc(String compz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstedc").add(compz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.sstedc(compz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void sstedc(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstedc").add(compz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.sstedc(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void sstegr(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstegr").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.sstegr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+  }
+
+  public void sstegr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstegr").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.sstegr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void sstein(int n, float[] d, float[] e, int m, float[] w, int[] iblock, int[] isplit, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstein").add(n).add(d).add(0).add(e).add(0).add(m).add(w).add(0).add(iblock).add(0).add(isplit).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.sstein(n, d, e, m, w, iblock, isplit, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void sstein(int n, float[] d, int offsetd, float[] e, int offsete, int m, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstein").add(n).add(d).add(offsetd).add(e).add(offsete).add(m).add(w).add(offsetw).add(iblock).add(offsetiblock).add(isplit).add(offsetisplit).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.sstein(n, d, offsetd, e, offsete, m, w, offsetw, iblock, offsetiblock, isplit, offsetisplit, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void sstemr(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, float[] z, int ldz, int nzc, int[] isuppz, org.netlib.util.booleanW tryrac, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstemr").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(m).add(w).add(0).add(z).add(0).add(ldz).add(nzc).add(isuppz).add(0).add(tryrac).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.sstemr(jobz, range, n, d, e, vl, vu, il, iu, m, w, z, ldz, nzc, isuppz, tryrac, work, lwork, iwork, liwork, info);
+  }
+
+  public void sstemr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstemr").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(nzc).add(isuppz).add(offsetisuppz).add(tryrac).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.sstemr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, m, w, offsetw, z, offsetz, ldz, nzc, isuppz, offsetisuppz, tryrac, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void ssteqr(String compz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssteqr").add(compz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.ssteqr(compz, n, d, e, z, ldz, work, info);
+  }
+
+  public void ssteqr(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssteqr").add(compz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.ssteqr(compz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void ssterf(int n, float[] d, float[] e, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssterf").add(n).add(d).add(0).add(e).add(0).add(info).record();
+    }
+    lapack.ssterf(n, d, e, info);
+  }
+
+  public void ssterf(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssterf").add(n).add(d).add(offsetd).add(e).add(offsete).add(info).record();
+    }
+    lapack.ssterf(n, d, offsetd, e, offsete, info);
+  }
+
+  public void sstev(String jobz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstev").add(jobz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(info).record();
+    }
+    lapack.sstev(jobz, n, d, e, z, ldz, work, info);
+  }
+
+  public void sstev(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstev").add(jobz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.sstev(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, info);
+  }
+
+  public void sstevd(String jobz, int n, float[] d, float[] e, float[] z, int ldz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstevd").add(jobz).add(n).add(d).add(0).add(e).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.sstevd(jobz, n, d, e, z, ldz, work, lwork, iwork, liwork, info);
+  }
+
+  public void sstevd(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstevd").add(jobz).add(n).add(d).add(offsetd).add(e).add(offsete).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.sstevd(jobz, n, d, offsetd, e, offsete, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void sstevr(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstevr").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.sstevr(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+  }
+
+  public void sstevr(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstevr").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.sstevr(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void sstevx(String jobz, String range, int n, float[] d, float[] e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstevx").add(jobz).add(range).add(n).add(d).add(0).add(e).add(0).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.sstevx(jobz, range, n, d, e, vl, vu, il, iu, abstol, m, w, z, ldz, work, iwork, ifail, info);
+  }
+
+  public void sstevx(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("sstevx").add(jobz).add(range).add(n).add(d).add(offsetd).add(e).add(offsete).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.sstevx(jobz, range, n, d, offsetd, e, offsete, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void ssycon(String uplo, int n, float[] a, int lda, int[] ipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssycon").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(anorm).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.ssycon(uplo, n, a, lda, ipiv, anorm, rcond, work, iwork, info);
+  }
+
+  public void ssycon(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssycon").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(anorm).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.ssycon(uplo, n, a, offseta, lda, ipiv, offsetipiv, anorm, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void ssyev(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyev").add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(w).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.ssyev(jobz, uplo, n, a, lda, w, work, lwork, info);
+  }
+
+  public void ssyev(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyev").add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.ssyev(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  public void ssyevd(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyevd").add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(w).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.ssyevd(jobz, uplo, n, a, lda, w, work, lwork, iwork, liwork, info);
+  }
+
+  public void ssyevd(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyevd").add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.ssyevd(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyevr").add(jobz).add(range).add(uplo).add(n).add(a).add(0).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(isuppz).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.ssyevr(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, isuppz, work, lwork, iwork, liwork, info);
+  }
+
+  public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyevr").add(jobz).add(range).add(uplo).add(n).add(a).add(offseta).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(isuppz).add(offsetisuppz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.ssyevr(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void ssyevx(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyevx").add(jobz).add(range).add(uplo).add(n).add(a).add(0).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.ssyevx(jobz, range, uplo, n, a, lda, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+  }
+
+  public void ssyevx(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyevx").add(jobz).add(range).add(uplo).add(n).add(a).add(offseta).add(lda).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.ssyevx(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void ssygs2(int itype, String uplo, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygs2").add(itype).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.ssygs2(itype, uplo, n, a, lda, b, ldb, info);
+  }
+
+  public void ssygs2(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygs2").add(itype).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.ssygs2(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void ssygst(int itype, String uplo, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygst").add(itype).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.ssygst(itype, uplo, n, a, lda, b, ldb, info);
+  }
+
+  public void ssygst(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygst").add(itype).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.ssygst(itype, uplo, n, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void ssygv(int itype, String jobz, String uplo, int n, float[] a, int lda, float[] b, int ldb, float[] w, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygv").add(itype).add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(w).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.ssygv(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, info);
+  }
+
+  public void ssygv(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygv").add(itype).add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.ssygv(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  public void ssygvd(int itype, String jobz, String uplo, int n, float[] a, int lda, float[] b, int ldb, float[] w, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygvd").add(itype).add(jobz).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(w).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.ssygvd(itype, jobz, uplo, n, a, lda, b, ldb, w, work, lwork, iwork, liwork, info);
+  }
+
+  public void ssygvd(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygvd").add(itype).add(jobz).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(w).add(offsetw).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.ssygvd(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void ssygvx(int itype, String jobz, String range, String uplo, int n, float[] a, int lda, float[] b, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(0).add(z).add(0).add(ldz).add(work).add(0).add(lwork).add(iwork).add(0).add(ifail).add(0).add(info).record();
+    }
+    lapack.ssygvx(itype, jobz, range, uplo, n, a, lda, b, ldb, vl, vu, il, iu, abstol, m, w, z, ldz, work, lwork, iwork, ifail, info);
+  }
+
+  public void ssygvx(int itype, String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssygvx").add(itype).add(jobz).add(range).add(uplo).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(vl).add(vu).add(il).add(iu).add(abstol).add(m).add(w).add(offsetw).add(z).add(offsetz).add(ldz).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(ifail).add(offsetifail).add(info).record();
+    }
+    lapack.ssygvx(itype, jobz, range, uplo, n, a, offseta, lda, b, offsetb, ldb, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+  }
+
+  public void ssyrfs(String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyrfs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.ssyrfs(uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void ssyrfs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssyrfs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.ssyrfs(uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void ssysv(String uplo, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssysv").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.ssysv(uplo, n, nrhs, a, lda, ipiv, b, ldb, work, lwork, info);
+  }
+
+  public void ssysv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssysv").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.ssysv(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+  }
+
+  public void ssysvx(String fact, String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssysvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(af).add(0).add(ldaf).add(ipiv).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(rcond).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.ssysvx(fact, uplo, n, nrhs, a, lda, af, ldaf, ipiv, b, ldb, x, ldx, rcond, ferr, berr, work, lwork, iwork, info);
+  }
+
+  public void ssysvx(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssysvx").add(fact).add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(af).add(offsetaf).add(ldaf).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(rcond).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.ssysvx(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, ipiv, offsetipiv, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void ssytd2(String uplo, int n, float[] a, int lda, float[] d, float[] e, float[] tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytd2").add(uplo).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tau).add(0).add(info).record();
+    }
+    lapack.ssytd2(uplo, n, a, lda, d, e, tau, info);
+  }
+
+  public void ssytd2(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytd2").add(uplo).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tau).add(offsettau).add(info).record();
+    }
+    lapack.ssytd2(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, info);
+  }
+
+  public void ssytf2(String uplo, int n, float[] a, int lda, int[] ipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytf2").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(info).record();
+    }
+    lapack.ssytf2(uplo, n, a, lda, ipiv, info);
+  }
+
+  public void ssytf2(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytf2").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(info).record();
+    }
+    lapack.ssytf2(uplo, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  public void ssytrd(String uplo, int n, float[] a, int lda, float[] d, float[] e, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytrd").add(uplo).add(n).add(a).add(0).add(lda).add(d).add(0).add(e).add(0).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.ssytrd(uplo, n, a, lda, d, e, tau, work, lwork, info);
+  }
+
+  public void ssytrd(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytrd").add(uplo).add(n).add(a).add(offseta).add(lda).add(d).add(offsetd).add(e).add(offsete).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.ssytrd(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public void ssytrf(String uplo, int n, float[] a, int lda, int[] ipiv, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytrf").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.ssytrf(uplo, n, a, lda, ipiv, work, lwork, info);
+  }
+
+  public void ssytrf(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytrf").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.ssytrf(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+  }
+
+  public void ssytri(String uplo, int n, float[] a, int lda, int[] ipiv, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytri").add(uplo).add(n).add(a).add(0).add(lda).add(ipiv).add(0).add(work).add(0).add(info).record();
+    }
+    lapack.ssytri(uplo, n, a, lda, ipiv, work, info);
+  }
+
+  public void ssytri(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytri").add(uplo).add(n).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.ssytri(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, info);
+  }
+
+  public void ssytrs(String uplo, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytrs").add(uplo).add(n).add(nrhs).add(a).add(0).add(lda).add(ipiv).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.ssytrs(uplo, n, nrhs, a, lda, ipiv, b, ldb, info);
+  }
+
+  public void ssytrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("ssytrs").add(uplo).add(n).add(nrhs).add(a).add(offseta).add(lda).add(ipiv).add(offsetipiv).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.ssytrs(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  public void stbcon(String norm, String uplo, String diag, int n, int kd, float[] ab, int ldab, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbcon").add(norm).add(uplo).add(diag).add(n).add(kd).add(ab).add(0).add(ldab).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.stbcon(norm, uplo, diag, n, kd, ab, ldab, rcond, work, iwork, info);
+  }
+
+  public void stbcon(String norm, String uplo, String diag, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbcon").add(norm).add(uplo).add(diag).add(n).add(kd).add(ab).add(offsetab).add(ldab).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.stbcon(norm, uplo, diag, n, kd, ab, offsetab, ldab, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void stbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbrfs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.stbrfs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void stbrfs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbrfs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.stbrfs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void stbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int ldab, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbtrs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(0).add(ldab).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.stbtrs(uplo, trans, diag, n, kd, nrhs, ab, ldab, b, ldb, info);
+  }
+
+  public void stbtrs(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stbtrs").add(uplo).add(trans).add(diag).add(n).add(kd).add(nrhs).add(ab).add(offsetab).add(ldab).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.stbtrs(uplo, trans, diag, n, kd, nrhs, ab, offsetab, ldab, b, offsetb, ldb, info);
+  }
+
+  public void stgevc(String side, String howmny, boolean[] select, int n, float[] s, int lds, float[] p, int ldp, float[] vl, int ldvl, float[] vr, int ldvr, int mm, org.netlib.util.intW m, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgevc").add(side).add(howmny).add(select).add(0).add(n).add(s).add(0).add(lds).add(p).add(0).add(ldp).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(mm).add(m).add(work).add(0).add(info).record();
+    }
+    lapack.stgevc(side, howmny, select, n, s, lds, p, ldp, vl, ldvl, vr, ldvr, mm, m, work, info);
+  }
+
+  public void stgevc(String side, String howmny, boolean[] select, int offsetselect, int n, float[] s, int offsets, int lds, float[] p, int offsetp, int ldp, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgevc").add(side).add(howmny).add(select).add(offsetselect).add(n).add(s).add(offsets).add(lds).add(p).add(offsetp).add(ldp).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(mm).add(m).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.stgevc(side, howmny, select, offsetselect, n, s, offsets, lds, p, offsetp, ldp, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+  }
+
+  public void stgex2(boolean wantq, boolean wantz, int n, float[] a, int lda, float[] b, int ldb, float[] q, int ldq, float[] z, int ldz, int j1, int n1, int n2, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgex2").add(wantq).add(wantz).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(j1).add(n1).add(n2).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.stgex2(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, j1, n1, n2, work, lwork, info);
+  }
+
+  public void stgex2(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, int j1, int n1, int n2, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgex2").add(wantq).add(wantz).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(j1).add(n1).add(n2).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.stgex2(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, j1, n1, n2, work, offsetwork, lwork, info);
+  }
+
+  public void stgexc(boolean wantq, boolean wantz, int n, float[] a, int lda, float[] b, int ldb, float[] q, int ldq, float[] z, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgexc").add(wantq).add(wantz).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(ifst).add(ilst).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.stgexc(wantq, wantz, n, a, lda, b, ldb, q, ldq, z, ldz, ifst, ilst, work, lwork, info);
+  }
+
+  public void stgexc(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgexc").add(wantq).add(wantz).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(ifst).add(ilst).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.stgexc(wantq, wantz, n, a, offseta, lda, b, offsetb, ldb, q, offsetq, ldq, z, offsetz, ldz, ifst, ilst, work, offsetwork, lwork, info);
+  }
+
+  public void stgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] q, int ldq, float[] z, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsen").add(ijob).add(wantq).add(wantz).add(select).add(0).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(alphar).add(0).add(alphai).add(0).add(beta).add(0).add(q).add(0).add(ldq).add(z).add(0).add(ldz).add(m).add(pl).add(pr).add(dif).add(0).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.stgsen(ijob, wantq, wantz, select, n, a, lda, b, ldb, alphar, alphai, beta, q, ldq, z, ldz, m, pl, pr, dif, work, lwork, iwork, liwork, info);
+  }
+
+  public void stgsen(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, int offsetdif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsen").add(ijob).add(wantq).add(wantz).add(select).add(offsetselect).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(alphar).add(offsetalphar).add(alphai).add(offsetalphai).add(beta).add(offsetbeta).add(q).add(offsetq).add(ldq).add(z).add(offsetz).add(ldz).add(m).add(pl).add(pr).add(dif).add(offsetdif).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.stgsen(ijob, wantq, wantz, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, alphar, offsetalphar, alphai, offsetalphai, beta, offsetbeta, q, offsetq, ldq, z, offsetz, ldz, m, pl, pr, dif, offsetdif, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void stgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int lda, float[] b, int ldb, float tola, float tolb, float[] alpha, float[] beta, float[] u, int ldu, float[] v, int ldv, float[] q, int ldq, float[] work, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsja").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(k).add(l).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(tola).add(tolb).add(alpha).add(0).add(beta).add(0).add(u).add(0).add(ldu).add(v).add(0).add(ldv).add(q).add(0).add(ldq).add(work).add(0).add(ncycle).add(info).record();
+    }
+    lapack.stgsja(jobu, jobv, jobq, m, p, n, k, l, a, lda, b, ldb, tola, tolb, alpha, beta, u, ldu, v, ldv, q, ldq, work, ncycle, info);
+  }
+
+  public void stgsja(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsja").add(jobu).add(jobv).add(jobq).add(m).add(p).add(n).add(k).add(l).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(tola).add(tolb).add(alpha).add(offsetalpha).add(beta).add(offsetbeta).add(u).add(offsetu).add(ldu).add(v).add(offsetv).add(ldv).add(q).add(offsetq).add(ldq).add(work).add(offsetwork).add(ncycle).add(info).record();
+    }
+    lapack.stgsja(jobu, jobv, jobq, m, p, n, k, l, a, offseta, lda, b, offsetb, ldb, tola, tolb, alpha, offsetalpha, beta, offsetbeta, u, offsetu, ldu, v, offsetv, ldv, q, offsetq, ldq, work, offsetwork, ncycle, info);
+  }
+
+  public void stgsna(String job, String howmny, boolean[] select, int n, float[] a, int lda, float[] b, int ldb, float[] vl, int ldvl, float[] vr, int ldvr, float[] s, float[] dif, int mm, org.netlib.util.intW m, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsna").add(job).add(howmny).add(select).add(0).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(s).add(0).add(dif).add(0).add(mm).add(m).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.stgsna(job, howmny, select, n, a, lda, b, ldb, vl, ldvl, vr, ldvr, s, dif, mm, m, work, lwork, iwork, info);
+  }
+
+  public void stgsna(String job, String howmny, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] dif, int offsetdif, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsna").add(job).add(howmny).add(select).add(offsetselect).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(s).add(offsets).add(dif).add(offsetdif).add(mm).add(m).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.stgsna(job, howmny, select, offsetselect, n, a, offseta, lda, b, offsetb, ldb, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, dif, offsetdif, mm, m, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void stgsy2(String trans, int ijob, int m, int n, float[] a, int lda, float[] b, int ldb, float[] c, int Ldc, float[] d, int ldd, float[] e, int lde, float[] f, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsy2").add(trans).add(ijob).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(Ldc).add(d).add(0).add(ldd).add(e).add(0).add(lde).add(f).add(0).add(ldf).add(scale).add(rdsum).add(rdscal).add(iwork).add(0).add(pq).add(info).record();
+    }
+    lapack.stgsy2(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, rdsum, rdscal, iwork, pq, info);
+  }
+
+  public void stgsy2(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsy2").add(trans).add(ijob).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(Ldc).add(d).add(offsetd).add(ldd).add(e).add(offsete).add(lde).add(f).add(offsetf).add(ldf).add(scale).add(rdsum).add(rdscal).add(iwork).add(offsetiwork).add(pq).add(info).record();
+    }
+    lapack.stgsy2(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, rdsum, rdscal, iwork, offsetiwork, pq, info);
+  }
+
+  public void stgsyl(String trans, int ijob, int m, int n, float[] a, int lda, float[] b, int ldb, float[] c, int Ldc, float[] d, int ldd, float[] e, int lde, float[] f, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsyl").add(trans).add(ijob).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(Ldc).add(d).add(0).add(ldd).add(e).add(0).add(lde).add(f).add(0).add(ldf).add(scale).add(dif).add(work).add(0).add(lwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.stgsyl(trans, ijob, m, n, a, lda, b, ldb, c, Ldc, d, ldd, e, lde, f, ldf, scale, dif, work, lwork, iwork, info);
+  }
+
+  public void stgsyl(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stgsyl").add(trans).add(ijob).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(Ldc).add(d).add(offsetd).add(ldd).add(e).add(offsete).add(lde).add(f).add(offsetf).add(ldf).add(scale).add(dif).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.stgsyl(trans, ijob, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, d, offsetd, ldd, e, offsete, lde, f, offsetf, ldf, scale, dif, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  public void stpcon(String norm, String uplo, String diag, int n, float[] ap, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stpcon").add(norm).add(uplo).add(diag).add(n).add(ap).add(0).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.stpcon(norm, uplo, diag, n, ap, rcond, work, iwork, info);
+  }
+
+  public void stpcon(String norm, String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stpcon").add(norm).add(uplo).add(diag).add(n).add(ap).add(offsetap).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.stpcon(norm, uplo, diag, n, ap, offsetap, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void stprfs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stprfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.stprfs(uplo, trans, diag, n, nrhs, ap, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void stprfs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stprfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.stprfs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void stptri(String uplo, String diag, int n, float[] ap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stptri").add(uplo).add(diag).add(n).add(ap).add(0).add(info).record();
+    }
+    lapack.stptri(uplo, diag, n, ap, info);
+  }
+
+  public void stptri(String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stptri").add(uplo).add(diag).add(n).add(ap).add(offsetap).add(info).record();
+    }
+    lapack.stptri(uplo, diag, n, ap, offsetap, info);
+  }
+
+  public void stptrs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stptrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(0).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.stptrs(uplo, trans, diag, n, nrhs, ap, b, ldb, info);
+  }
+
+  public void stptrs(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stptrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(ap).add(offsetap).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.stptrs(uplo, trans, diag, n, nrhs, ap, offsetap, b, offsetb, ldb, info);
+  }
+
+  public void strcon(String norm, String uplo, String diag, int n, float[] a, int lda, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strcon").add(norm).add(uplo).add(diag).add(n).add(a).add(0).add(lda).add(rcond).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.strcon(norm, uplo, diag, n, a, lda, rcond, work, iwork, info);
+  }
+
+  public void strcon(String norm, String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strcon").add(norm).add(uplo).add(diag).add(n).add(a).add(offseta).add(lda).add(rcond).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.strcon(norm, uplo, diag, n, a, offseta, lda, rcond, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void strevc(String side, String howmny, boolean[] select, int n, float[] t, int ldt, float[] vl, int ldvl, float[] vr, int ldvr, int mm, org.netlib.util.intW m, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strevc").add(side).add(howmny).add(select).add(0).add(n).add(t).add(0).add(ldt).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(mm).add(m).add(work).add(0).add(info).record();
+    }
+    lapack.strevc(side, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, mm, m, work, info);
+  }
+
+  public void strevc(String side, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strevc").add(side).add(howmny).add(select).add(offsetselect).add(n).add(t).add(offsett).add(ldt).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(mm).add(m).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.strevc(side, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, mm, m, work, offsetwork, info);
+  }
+
+  public void strexc(String compq, int n, float[] t, int ldt, float[] q, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strexc").add(compq).add(n).add(t).add(0).add(ldt).add(q).add(0).add(ldq).add(ifst).add(ilst).add(work).add(0).add(info).record();
+    }
+    lapack.strexc(compq, n, t, ldt, q, ldq, ifst, ilst, work, info);
+  }
+
+  public void strexc(String compq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strexc").add(compq).add(n).add(t).add(offsett).add(ldt).add(q).add(offsetq).add(ldq).add(ifst).add(ilst).add(work).add(offsetwork).add(info).record();
+    }
+    lapack.strexc(compq, n, t, offsett, ldt, q, offsetq, ldq, ifst, ilst, work, offsetwork, info);
+  }
+
+  public void strrfs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strrfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(x).add(0).add(ldx).add(ferr).add(0).add(berr).add(0).add(work).add(0).add(iwork).add(0).add(info).record();
+    }
+    lapack.strrfs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, x, ldx, ferr, berr, work, iwork, info);
+  }
+
+  public void strrfs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strrfs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(x).add(offsetx).add(ldx).add(ferr).add(offsetferr).add(berr).add(offsetberr).add(work).add(offsetwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.strrfs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, x, offsetx, ldx, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  public void strsen(String job, String compq, boolean[] select, int n, float[] t, int ldt, float[] q, int ldq, float[] wr, float[] wi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsen").add(job).add(compq).add(select).add(0).add(n).add(t).add(0).add(ldt).add(q).add(0).add(ldq).add(wr).add(0).add(wi).add(0).add(m).add(s).add(sep).add(work).add(0).add(lwork).add(iwork).add(0).add(liwork).add(info).record();
+    }
+    lapack.strsen(job, compq, select, n, t, ldt, q, ldq, wr, wi, m, s, sep, work, lwork, iwork, liwork, info);
+  }
+
+  public void strsen(String job, String compq, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, float[] wr, int offsetwr, float[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsen").add(job).add(compq).add(select).add(offsetselect).add(n).add(t).add(offsett).add(ldt).add(q).add(offsetq).add(ldq).add(wr).add(offsetwr).add(wi).add(offsetwi).add(m).add(s).add(sep).add(work).add(offsetwork).add(lwork).add(iwork).add(offsetiwork).add(liwork).add(info).record();
+    }
+    lapack.strsen(job, compq, select, offsetselect, n, t, offsett, ldt, q, offsetq, ldq, wr, offsetwr, wi, offsetwi, m, s, sep, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  public void strsna(String job, String howmny, boolean[] select, int n, float[] t, int ldt, float[] vl, int ldvl, float[] vr, int ldvr, float[] s, float[] sep, int mm, org.netlib.util.intW m, float[] work, int ldwork, int[] iwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsna").add(job).add(howmny).add(select).add(0).add(n).add(t).add(0).add(ldt).add(vl).add(0).add(ldvl).add(vr).add(0).add(ldvr).add(s).add(0).add(sep).add(0).add(mm).add(m).add(work).add(0).add(ldwork).add(iwork).add(0).add(info).record();
+    }
+    lapack.strsna(job, howmny, select, n, t, ldt, vl, ldvl, vr, ldvr, s, sep, mm, m, work, ldwork, iwork, info);
+  }
+
+  public void strsna(String job, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] sep, int offsetsep, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsna").add(job).add(howmny).add(select).add(offsetselect).add(n).add(t).add(offsett).add(ldt).add(vl).add(offsetvl).add(ldvl).add(vr).add(offsetvr).add(ldvr).add(s).add(offsets).add(sep).add(offsetsep).add(mm).add(m).add(work).add(offsetwork).add(ldwork).add(iwork).add(offsetiwork).add(info).record();
+    }
+    lapack.strsna(job, howmny, select, offsetselect, n, t, offsett, ldt, vl, offsetvl, ldvl, vr, offsetvr, ldvr, s, offsets, sep, offsetsep, mm, m, work, offsetwork, ldwork, iwork, offsetiwork, info);
+  }
+
+  public void strsyl(String trana, String tranb, int isgn, int m, int n, float[] a, int lda, float[] b, int ldb, float[] c, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsyl").add(trana).add(tranb).add(isgn).add(m).add(n).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(c).add(0).add(Ldc).add(scale).add(info).record();
+    }
+    lapack.strsyl(trana, tranb, isgn, m, n, a, lda, b, ldb, c, Ldc, scale, info);
+  }
+
+  public void strsyl(String trana, String tranb, int isgn, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strsyl").add(trana).add(tranb).add(isgn).add(m).add(n).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(c).add(offsetc).add(Ldc).add(scale).add(info).record();
+    }
+    lapack.strsyl(trana, tranb, isgn, m, n, a, offseta, lda, b, offsetb, ldb, c, offsetc, Ldc, scale, info);
+  }
+
+  public void strti2(String uplo, String diag, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strti2").add(uplo).add(diag).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.strti2(uplo, diag, n, a, lda, info);
+  }
+
+  public void strti2(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strti2").add(uplo).add(diag).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.strti2(uplo, diag, n, a, offseta, lda, info);
+  }
+
+  public void strtri(String uplo, String diag, int n, float[] a, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strtri").add(uplo).add(diag).add(n).add(a).add(0).add(lda).add(info).record();
+    }
+    lapack.strtri(uplo, diag, n, a, lda, info);
+  }
+
+  public void strtri(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strtri").add(uplo).add(diag).add(n).add(a).add(offseta).add(lda).add(info).record();
+    }
+    lapack.strtri(uplo, diag, n, a, offseta, lda, info);
+  }
+
+  public void strtrs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strtrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(0).add(lda).add(b).add(0).add(ldb).add(info).record();
+    }
+    lapack.strtrs(uplo, trans, diag, n, nrhs, a, lda, b, ldb, info);
+  }
+
+  public void strtrs(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("strtrs").add(uplo).add(trans).add(diag).add(n).add(nrhs).add(a).add(offseta).add(lda).add(b).add(offsetb).add(ldb).add(info).record();
+    }
+    lapack.strtrs(uplo, trans, diag, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  public void stzrqf(int m, int n, float[] a, int lda, float[] tau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stzrqf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(info).record();
+    }
+    lapack.stzrqf(m, n, a, lda, tau, info);
+  }
+
+  public void stzrqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stzrqf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(info).record();
+    }
+    lapack.stzrqf(m, n, a, offseta, lda, tau, offsettau, info);
+  }
+
+  public void stzrzf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stzrzf").add(m).add(n).add(a).add(0).add(lda).add(tau).add(0).add(work).add(0).add(lwork).add(info).record();
+    }
+    lapack.stzrzf(m, n, a, lda, tau, work, lwork, info);
+  }
+
+  public void stzrzf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (ShapeRecorder.sampled()) {
+      ShapeRecorder.builder("stzrzf").add(m).add(n).add(a).add(offseta).add(lda).add(tau).add(offsettau).add(work).add(offsetwork).add(lwork).add(info).record();
+    }
+    lapack.stzrzf(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  public double dlamch(String cmach) {
+    return lapack.dlamch(cmach);
+  }
+
+  public void dlamc1(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    lapack.dlamc1(beta, t, rnd, ieee1);
+  }
+
+  public void dlamc2(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.doubleW eps, org.netlib.util.intW emin, org.netlib.util.doubleW rmin, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    lapack.dlamc2(beta, t, rnd, eps, emin, rmin, emax, rmax);
+  }
+
+  public double dlamc3(double a, double b) {
+    return lapack.dlamc3(a, b);
+  }
+
+  public void dlamc4(org.netlib.util.intW emin, double start, int base) {
+    lapack.dlamc4(emin, start, base);
+  }
+
+  public void dlamc5(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    lapack.dlamc5(beta, p, emin, ieee, emax, rmax);
+  }
+
+  public double dsecnd() {
+    return lapack.dsecnd();
+  }
+
+  public boolean lsame(String ca, String cb) {
+    return lapack.lsame(ca, cb);
+  }
+
+  public float second() {
+    return lapack.second();
+  }
+
+  public float slamch(String cmach) {
+    return lapack.slamch(cmach);
+  }
+
+  public void slamc1(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    lapack.slamc1(beta, t, rnd, ieee1);
+  }
+
+  public void slamc2(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.floatW eps, org.netlib.util.intW emin, org.netlib.util.floatW rmin, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    lapack.slamc2(beta, t, rnd, eps, emin, rmin, emax, rmax);
+  }
+
+  public float slamc3(float a, float b) {
+    return lapack.slamc3(a, b);
+  }
+
+  public void slamc4(org.netlib.util.intW emin, float start, int base) {
+    lapack.slamc4(emin, start, base);
+  }
+
+  public void slamc5(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    lapack.slamc5(beta, p, emin, ieee, emax, rmax);
+  }
+}
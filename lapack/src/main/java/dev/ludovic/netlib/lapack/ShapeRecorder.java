@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+// Histogram of the shapes of the calls going through RecordingLAPACK, enabled by setting
+// dev.ludovic.netlib.lapack.shapes to the file to dump it to on exit. Each line of the file holds the
+// number of calls, the routine, and the arguments of its overload with offsets, where strings are
+// quoted, arrays are replaced by their length in brackets, scalars other than 0, 1 and -1 by x, and
+// output objects by _. The benchmarks module can replay such a file with ReplayBenchmark.
+final class ShapeRecorder {
+
+  private static final Logger log = Logger.getLogger(ShapeRecorder.class.getName());
+
+  private static final ConcurrentHashMap<String, LongAdder> shapes = new ConcurrentHashMap<>();
+
+  private static final int sampling = Math.max(1, Integer.getInteger("dev.ludovic.netlib.lapack.shapes.sampling", 1));
+
+  private static final ThreadLocal<Builder> builders = ThreadLocal.withInitial(Builder::new);
+
+  static {
+    String file = System.getProperty("dev.ludovic.netlib.lapack.shapes");
+    if (file != null && !file.isEmpty()) {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        try {
+          dump(Paths.get(file));
+        } catch (IOException e) {
+          log.warning("Failed to dump shapes to " + file + ": " + e);
+        }
+      }, "netlib-lapack-shapes"));
+    }
+  }
+
+  private ShapeRecorder() {}
+
+  public static boolean sampled() {
+    return sampling == 1 || ThreadLocalRandom.current().nextInt(sampling) == 0;
+  }
+
+  // The builder is reused across calls from the same thread, so that only the key is allocated
+  public static Builder builder(String routine) {
+    Builder builder = builders.get();
+    builder.sb.setLength(0);
+    builder.sb.append(routine);
+    return builder;
+  }
+
+  public static Map<String, Long> snapshot() {
+    Map<String, Long> snapshot = new ConcurrentHashMap<>();
+    shapes.forEach((shape, count) -> snapshot.put(shape, count.sum()));
+    return snapshot;
+  }
+
+  public static void dump(Path file) throws IOException {
+    List<Map.Entry<String, Long>> entries = new ArrayList<>(snapshot().entrySet());
+    entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write("# count routine arguments, sampling = " + sampling);
+      writer.newLine();
+      for (Map.Entry<String, Long> entry : entries) {
+        writer.write(entry.getValue() + " " + entry.getKey());
+        writer.newLine();
+      }
+    }
+  }
+
+  static final class Builder {
+
+    private final StringBuilder sb = new StringBuilder();
+
+    public Builder add(String value) {
+      sb.append(" \"").append(value).append('"');
+      return this;
+    }
+
+    public Builder add(int value) {
+      sb.append(' ').append(value);
+      return this;
+    }
+
+    public Builder add(boolean value) {
+      sb.append(' ').append(value);
+      return this;
+    }
+
+    // Only the values taking a special path in the routines are kept, to bound the number of shapes
+    public Builder add(double value) {
+      sb.append(' ').append(value == 0.0 ? "0" : value == 1.0 ? "1" : value == -1.0 ? "-1" : "x");
+      return this;
+    }
+
+    public Builder add(float value) {
+      return add((double) value);
+    }
+
+    public Builder add(double[] value) {
+      return array(value == null ? -1 : value.length);
+    }
+
+    public Builder add(float[] value) {
+      return array(value == null ? -1 : value.length);
+    }
+
+    public Builder add(int[] value) {
+      return array(value == null ? -1 : value.length);
+    }
+
+    public Builder add(boolean[] value) {
+      return array(value == null ? -1 : value.length);
+    }
+
+    public Builder add(Object value) {
+      sb.append(" _");
+      return this;
+    }
+
+    private Builder array(int length) {
+      if (length < 0) {
+        sb.append(" null");
+      } else {
+        sb.append(" [").append(length).append(']');
+      }
+      return this;
+    }
+
+    public void record() {
+      String shape = sb.toString();
+      LongAdder count = shapes.get(shape);
+      if (count == null) {
+        count = shapes.computeIfAbsent(shape, k -> new LongAdder());
+      }
+      count.increment();
+    }
+  }
+}
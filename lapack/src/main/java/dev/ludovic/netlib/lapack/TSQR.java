@@ -0,0 +1,293 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.Arrays;
+
+import org.netlib.util.intW;
+
+// Communication-avoiding QR of a tall and skinny m x n matrix, with m much larger than n, as described by
+// Demmel, Grigori, Hoemmen and Langou. The rows are split in blocks factored independently and in
+// parallel, and their R factors are then reduced pairwise along a binary tree, each node factoring two R
+// stacked on top of each other. A long matrix is so factored with as many threads as there are blocks,
+// rather than one panel at a time.
+//
+// Q is kept implicitly, as the reflectors of each block, in place of A as dgeqrf leaves them, and those of
+// each node of the tree. It can be applied as is, or formed explicitly. In the m x m Q, the first n
+// columns are those of the thin Q, while the order of the others depends on the blocks.
+//
+// Only the given LAPACK implementation is called, whichever it is. Failures to converge and rank
+// deficiency are reported with an ArithmeticException.
+public final class TSQR {
+
+  private final LAPACK lapack;
+  private final int m, n;
+  private final double[] a;
+  private final int offseta, lda;
+
+  // First row of each block, followed by m
+  private final int[] rows;
+  private final double[][] tau;
+
+  // The nodes of each level of the tree, from the leaves up
+  private final Node[][] tree;
+
+  // n x n, upper triangular
+  private final double[] r;
+
+  // Two blocks whose R were stacked and factored, the R of the result replacing that of the top one
+  private static final class Node {
+
+    final int top, bottom;
+    final double[] v;
+    final double[] tau;
+
+    Node(int top, int bottom, double[] v, double[] tau) {
+      this.top = top;
+      this.bottom = bottom;
+      this.v = v;
+      this.tau = tau;
+    }
+  }
+
+  private TSQR(LAPACK lapack, int m, int n, double[] a, int offseta, int lda, int blocks) {
+    this.lapack = lapack;
+    this.m = m;
+    this.n = n;
+    this.a = a;
+    this.offseta = offseta;
+    this.lda = lda;
+    this.rows = new int[blocks + 1];
+    for (int i = 0; i <= blocks; i++) {
+      rows[i] = (int) ((long) m * i / blocks);
+    }
+    this.tau = new double[blocks][n];
+    Parallel.forEach(blocks, i -> geqrf(rows[i + 1] - rows[i], a, offseta + rows[i], lda, tau[i]));
+
+    double[][] rs = new double[blocks][];
+    for (int i = 0; i < blocks; i++) {
+      rs[i] = new double[n * n];
+      upper(a, offseta + rows[i], lda, rs[i], 0, n);
+    }
+    int levels = 0;
+    while ((1 << levels) < blocks) {
+      levels++;
+    }
+    this.tree = new Node[levels][];
+    for (int l = 0; l < levels; l++) {
+      int stride = 1 << l;
+      Node[] level = tree[l] = new Node[(blocks - stride + 2 * stride - 1) / (2 * stride)];
+      Parallel.forEach(level.length, q -> {
+        int top = 2 * stride * q;
+        int bottom = top + stride;
+        double[] v = new double[2 * n * n];
+        upper(rs[top], 0, n, v, 0, 2 * n);
+        upper(rs[bottom], 0, n, v, n, 2 * n);
+        double[] t = new double[n];
+        geqrf(2 * n, v, 0, 2 * n, t);
+        upper(v, 0, 2 * n, rs[top], 0, n);
+        level[q] = new Node(top, bottom, v, t);
+      });
+    }
+    this.r = rs[0];
+  }
+
+  // Factors the m x n matrix a, with m >= n, overwriting it with the reflectors of its blocks
+  public static TSQR factor(LAPACK lapack, int m, int n, double[] a, int offseta, int lda) {
+    // Blocks of at least 2n rows, to keep the reduction cheap in comparison
+    return factor(lapack, m, n, a, offseta, lda, Math.max(1, Math.min(Parallel.threads(), m / Math.max(1, 2 * n))));
+  }
+
+  static TSQR factor(LAPACK lapack, int m, int n, double[] a, int offseta, int lda, int blocks) {
+    if (n < 0 || m < n) {
+      throw new IllegalArgumentException("Expected m >= n >= 0, got m = " + m + " and n = " + n);
+    }
+    if (lda < Math.max(1, m)) {
+      throw new IllegalArgumentException("Expected lda >= max(1, m), got lda = " + lda);
+    }
+    if (n > 0 && offseta + (n - 1) * lda + m > a.length) {
+      throw new IndexOutOfBoundsException("Index " + (offseta + (n - 1) * lda + m - 1) + " out of bounds for length " + a.length);
+    }
+    return new TSQR(lapack, m, n, a, offseta, lda, Math.max(1, Math.min(blocks, n == 0 ? 1 : m / n)));
+  }
+
+  public int rows() {
+    return m;
+  }
+
+  public int columns() {
+    return n;
+  }
+
+  // A copy of the n x n upper triangular R, in column-major order
+  public double[] r() {
+    return r.clone();
+  }
+
+  // C = Q**T * C, for the m x k matrix C. Its first n rows are then Q**T * C for the thin Q.
+  public void applyQT(int k, double[] c, int offsetc, int ldc) {
+    checkC(k, c, offsetc, ldc);
+    if (k == 0 || n == 0) {
+      return;
+    }
+    Parallel.forEach(rows.length - 1, i -> ormqr("T", rows[i + 1] - rows[i], k, a, offseta + rows[i], lda, tau[i], c, offsetc + rows[i], ldc));
+    for (Node[] level : tree) {
+      Parallel.forEach(level.length, q -> applyNode("T", level[q], k, c, offsetc, ldc));
+    }
+  }
+
+  // C = Q * C, for the m x k matrix C
+  public void applyQ(int k, double[] c, int offsetc, int ldc) {
+    checkC(k, c, offsetc, ldc);
+    if (k == 0 || n == 0) {
+      return;
+    }
+    for (int l = tree.length - 1; l >= 0; l--) {
+      Node[] level = tree[l];
+      Parallel.forEach(level.length, q -> applyNode("N", level[q], k, c, offsetc, ldc));
+    }
+    Parallel.forEach(rows.length - 1, i -> ormqr("N", rows[i + 1] - rows[i], k, a, offseta + rows[i], lda, tau[i], c, offsetc + rows[i], ldc));
+  }
+
+  // Forms the m x n thin Q explicitly
+  public void formQ(double[] q, int offsetq, int ldq) {
+    checkC(n, q, offsetq, ldq);
+    for (int j = 0; j < n; j++) {
+      Arrays.fill(q, offsetq + j * ldq, offsetq + j * ldq + m, 0.0);
+      q[offsetq + j + j * ldq] = 1.0;
+    }
+    applyQ(n, q, offsetq, ldq);
+  }
+
+  // Solves the least-squares problems min || A * X - B || for the k columns of the m x k matrix B, without
+  // forming the normal equations, leaving X in the first n rows of B as dgels does. The norm of the
+  // residual of each column is that of its remaining m - n rows.
+  public void solve(int k, double[] b, int offsetb, int ldb) {
+    applyQT(k, b, offsetb, ldb);
+    if (k == 0 || n == 0) {
+      return;
+    }
+    intW info = new intW(0);
+    lapack.dtrtrs("U", "N", "N", n, k, r, 0, n, b, offsetb, ldb, info);
+    if (info.val > 0) {
+      throw new ArithmeticException("R(" + info.val + ", " + info.val + ") is zero, so A is rank deficient");
+    }
+  }
+
+  // Least-squares solution of A * X = B, overwriting A, for the m x n matrix A with m >= n and full rank,
+  // and the m x k matrix B
+  public static void leastSquares(LAPACK lapack, int m, int n, int k, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    factor(lapack, m, n, a, offseta, lda).solve(k, b, offsetb, ldb);
+  }
+
+  // Thin SVD A = U * diag(S) * VT of the m x n matrix A with m >= n, overwriting A: the QR factorization
+  // reduces it to the SVD of the n x n R, computed with dgesdd, and U is Q times the left singular vectors
+  // of R. With u and vt null, only the singular values are computed. Otherwise, u is m x n and vt is n x n.
+  public static void svd(LAPACK lapack, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt) {
+    if ((u == null) != (vt == null)) {
+      throw new IllegalArgumentException("Expected u and vt to be both null or both non-null");
+    }
+    TSQR qr = factor(lapack, m, n, a, offseta, lda);
+    if (n == 0) {
+      return;
+    }
+    String jobz = u == null ? "N" : "S";
+    double[] ur = u == null ? new double[1] : new double[n * n];
+    int ldvtr = vt == null ? 1 : ldvt;
+    double[] vtr = vt == null ? new double[1] : vt;
+    int offsetvtr = vt == null ? 0 : offsetvt;
+    int[] iwork = new int[8 * n];
+    double[] query = new double[1];
+    intW info = new intW(0);
+    lapack.dgesdd(jobz, n, n, qr.r, 0, n, s, offsets, ur, 0, u == null ? 1 : n, vtr, offsetvtr, ldvtr, query, 0, -1, iwork, 0, info);
+    double[] work = new double[Math.max(1, (int) query[0])];
+    // dgesdd overwrites R, which the TSQR doesn't need anymore
+    lapack.dgesdd(jobz, n, n, qr.r, 0, n, s, offsets, ur, 0, u == null ? 1 : n, vtr, offsetvtr, ldvtr, work, 0, work.length, iwork, 0, info);
+    if (info.val > 0) {
+      throw new ArithmeticException("dgesdd failed to converge (info = " + info.val + ")");
+    }
+    if (u != null) {
+      for (int j = 0; j < n; j++) {
+        Arrays.fill(u, offsetu + j * ldu, offsetu + j * ldu + m, 0.0);
+        System.arraycopy(ur, j * n, u, offsetu + j * ldu, n);
+      }
+      qr.applyQ(n, u, offsetu, ldu);
+    }
+  }
+
+  private void checkC(int k, double[] c, int offsetc, int ldc) {
+    if (k < 0) {
+      throw new IllegalArgumentException("Expected k >= 0, got k = " + k);
+    }
+    if (ldc < Math.max(1, m)) {
+      throw new IllegalArgumentException("Expected ldc >= max(1, m), got ldc = " + ldc);
+    }
+    if (k > 0 && m > 0 && offsetc + (k - 1) * ldc + m > c.length) {
+      throw new IndexOutOfBoundsException("Index " + (offsetc + (k - 1) * ldc + m - 1) + " out of bounds for length " + c.length);
+    }
+  }
+
+  // Applies the reflectors of a node to the first n rows of the top and bottom blocks of C
+  private void applyNode(String trans, Node node, int k, double[] c, int offsetc, int ldc) {
+    double[] w = new double[2 * n * k];
+    int offsettop = offsetc + rows[node.top];
+    int offsetbottom = offsetc + rows[node.bottom];
+    for (int j = 0; j < k; j++) {
+      System.arraycopy(c, offsettop + j * ldc, w, j * 2 * n, n);
+      System.arraycopy(c, offsetbottom + j * ldc, w, n + j * 2 * n, n);
+    }
+    ormqr(trans, 2 * n, k, node.v, 0, 2 * n, node.tau, w, 0, 2 * n);
+    for (int j = 0; j < k; j++) {
+      System.arraycopy(w, j * 2 * n, c, offsettop + j * ldc, n);
+      System.arraycopy(w, n + j * 2 * n, c, offsetbottom + j * ldc, n);
+    }
+  }
+
+  private void geqrf(int rows, double[] v, int offsetv, int ldv, double[] t) {
+    double[] query = new double[1];
+    intW info = new intW(0);
+    lapack.dgeqrf(rows, n, v, offsetv, ldv, t, 0, query, 0, -1, info);
+    double[] work = new double[Math.max(1, (int) query[0])];
+    lapack.dgeqrf(rows, n, v, offsetv, ldv, t, 0, work, 0, work.length, info);
+  }
+
+  private void ormqr(String trans, int rows, int k, double[] v, int offsetv, int ldv, double[] t, double[] c, int offsetc, int ldc) {
+    double[] query = new double[1];
+    intW info = new intW(0);
+    lapack.dormqr("L", trans, rows, k, n, v, offsetv, ldv, t, 0, c, offsetc, ldc, query, 0, -1, info);
+    double[] work = new double[Math.max(1, (int) query[0])];
+    lapack.dormqr("L", trans, rows, k, n, v, offsetv, ldv, t, 0, c, offsetc, ldc, work, 0, work.length, info);
+  }
+
+  // Copies the upper triangle of the n x n top of a, zeroing the rest of the n x n top of b
+  private void upper(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int j = 0; j < n; j++) {
+      for (int i = 0; i < n; i++) {
+        b[offsetb + i + j * ldb] = i <= j ? a[offseta + i + j * lda] : 0.0;
+      }
+    }
+  }
+}
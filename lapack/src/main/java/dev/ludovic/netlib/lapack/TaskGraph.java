@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// A graph of tasks over numbered pieces of data, such as the tiles of a TileMatrix, in the style of the
+// PLASMA and QUARK schedulers. Tasks are inserted in the order a sequential program would run them,
+// declaring which pieces they read and which they write, and the graph orders each one after the last
+// writer of what it reads and writes, and after the readers of what it writes since that writer. run()
+// then starts the tasks with no dependency, and each finishing task starts those it was the last one
+// waiting for: it keeps going with the one of highest priority, usually on the critical path, and forks
+// the others for idle threads to steal.
+final class TaskGraph {
+
+  private final Task[] writers;
+  private final List<List<Task>> readers;
+  private final List<Task> tasks = new ArrayList<>();
+
+  private volatile boolean cancelled;
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private final AtomicInteger remaining = new AtomicInteger();
+  private final CountDownLatch done = new CountDownLatch(1);
+
+  TaskGraph(int pieces) {
+    writers = new Task[pieces];
+    readers = new ArrayList<>(pieces);
+    for (int i = 0; i < pieces; i++) {
+      readers.add(new ArrayList<>());
+    }
+  }
+
+  // Inserts a task, of which reads() and writes() declare the accesses. Tasks of higher priority run first
+  // among those ready at the same time.
+  Task insert(int priority, Runnable kernel) {
+    Task task = new Task(priority, kernel);
+    tasks.add(task);
+    return task;
+  }
+
+  // Runs all the tasks, on the given pool or in insertion order on the calling thread if it's null, and
+  // returns once they have all completed
+  void run(ForkJoinPool pool) {
+    if (pool == null || ForkJoinTask.getPool() == pool) {
+      // In insertion order, which is a valid order by construction
+      for (Task task : tasks) {
+        task.execute();
+      }
+    } else if (!tasks.isEmpty()) {
+      remaining.set(tasks.size());
+      // Collected first, as the tasks submitted start releasing others right away
+      List<Task> ready = new ArrayList<>();
+      for (Task task : tasks) {
+        if (task.pending.get() == 0) {
+          ready.add(task);
+        }
+      }
+      for (Task task : ready) {
+        pool.execute(task);
+      }
+      boolean interrupted = false;
+      while (true) {
+        try {
+          done.await();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    Throwable t = failure.get();
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    } else if (t instanceof Error) {
+      throw (Error) t;
+    } else if (t != null) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  final class Task extends ForkJoinTask<Void> {
+
+    private final int priority;
+    private final Runnable kernel;
+    private final List<Task> successors = new ArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private Task(int priority, Runnable kernel) {
+      this.priority = priority;
+      this.kernel = kernel;
+    }
+
+    Task reads(int... pieces) {
+      for (int p : pieces) {
+        after(writers[p]);
+        readers.get(p).add(this);
+      }
+      return this;
+    }
+
+    Task writes(int... pieces) {
+      for (int p : pieces) {
+        after(writers[p]);
+        for (Task reader : readers.get(p)) {
+          after(reader);
+        }
+        readers.get(p).clear();
+        writers[p] = this;
+      }
+      return this;
+    }
+
+    private void after(Task predecessor) {
+      if (predecessor != null && predecessor != this) {
+        // A task waiting twice on the same predecessor is listed twice, and released by the second
+        predecessor.successors.add(this);
+        pending.incrementAndGet();
+      }
+    }
+
+    private void execute() {
+      if (cancelled) {
+        return;
+      }
+      try {
+        kernel.run();
+      } catch (Throwable t) {
+        failure.compareAndSet(null, t);
+        cancelled = true;
+      }
+    }
+
+    @Override
+    protected boolean exec() {
+      Task next = this;
+      while (next != null) {
+        next.execute();
+        Task ready = null;
+        for (Task successor : next.successors) {
+          if (successor.pending.decrementAndGet() == 0) {
+            if (ready == null) {
+              ready = successor;
+            } else if (successor.priority > ready.priority) {
+              ready.fork();
+              ready = successor;
+            } else {
+              successor.fork();
+            }
+          }
+        }
+        if (remaining.decrementAndGet() == 0) {
+          done.countDown();
+        }
+        next = ready;
+      }
+      return true;
+    }
+
+    @Override
+    public Void getRawResult() {
+      return null;
+    }
+
+    @Override
+    protected void setRawResult(Void value) {}
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.netlib.util.intW;
+
+// Tile algorithms, as in PLASMA: the matrix is copied into a TileMatrix, the factorization is expressed as
+// a TaskGraph of kernels on tiles, and the result is copied back. Unlike the fork/join over the columns
+// of Java8LAPACK, the factorization of the next panel starts as soon as the tiles it needs are up to
+// date, while the rest of the trailing matrix is still being updated, so that threads don't sit idle
+// waiting on the panel. The copies are themselves tasks, letting the first kernels start before the whole
+// matrix is converted.
+//
+// -Ddev.ludovic.netlib.lapack.tiles selects when they are used: auto (the default) when running on more
+// than one thread for matrices of at least 4 x 4 tiles, always, or never. -Ddev.ludovic.netlib.lapack.tileSize
+// sets the size of the tiles, 256 by default.
+final class TileAlgorithms {
+
+  private static final String mode = F2jRedirect.shared(TileAlgorithms.class, "mode",
+    () -> System.getProperty("dev.ludovic.netlib.lapack.tiles", "auto"));
+
+  static final int SIZE = F2jRedirect.shared(TileAlgorithms.class, "SIZE",
+    () -> Math.max(1, Integer.getInteger("dev.ludovic.netlib.lapack.tileSize", 256)));
+
+  private TileAlgorithms() {}
+
+  // Whether to factor an m x n matrix with tiles
+  static boolean use(int m, int n) {
+    if (!TileMatrix.fits(m, n, SIZE)) {
+      return false;
+    }
+    switch (mode) {
+    case "always":
+      return true;
+    case "never":
+      return false;
+    default:
+      return Parallel.threads() > 1 && Math.min(m, n) >= 4 * SIZE;
+    }
+  }
+
+  // The kernels writing to the earlier columns of tiles are on the critical path, and the panel the most
+  private static int priority(TileMatrix t, int j, boolean panel) {
+    return 2 * (t.nt - j) + (panel ? 1 : 0);
+  }
+
+  // Runs the kernel of a task of step k unless that step or an earlier one failed
+  private static Runnable step(AtomicInteger failed, int k, Runnable kernel) {
+    return () -> {
+      if (k < failed.get()) {
+        kernel.run();
+      }
+    };
+  }
+
+  private static void load(TaskGraph graph, TileMatrix t, int i, int j, double[] a, int offseta, int lda) {
+    graph.insert(priority(t, j, false), () -> t.load(i, j, a, offseta, lda)).writes(t.tile(i, j));
+  }
+
+  private static void store(TaskGraph graph, TileMatrix t, int i, int j, double[] a, int offseta, int lda) {
+    graph.insert(0, () -> t.store(i, j, a, offseta, lda)).reads(t.tile(i, j));
+  }
+
+  // Tiles (i0, j) to (mt - 1, j), to declare the accesses to a column of tiles
+  private static int[] column(TileMatrix t, int i0, int j) {
+    int[] tiles = new int[t.mt - i0];
+    for (int i = i0; i < t.mt; i++) {
+      tiles[i - i0] = t.tile(i, j);
+    }
+    return tiles;
+  }
+
+  // Cholesky with the potrf, trsm, syrk and gemm tile kernels. Only the referenced triangle is copied.
+  //
+  // When the potrf kernel of step k fails, the kernels of the steps from k on are skipped while those of the
+  // earlier steps still complete, and all the tiles are copied back: as with the blocked right-looking
+  // dpotrf, a is left with the leading k tiles factored, the failed diagonal tile partially factored, and
+  // the trailing matrix updated by the earlier steps.
+  static void dpotrf(boolean upper, int n, double[] a, int offseta, int lda, int nb, ForkJoinPool pool, intW info) {
+    info.val = 0;
+    TileMatrix t = new TileMatrix(n, n, nb);
+    // The first step that failed. The tasks of the later steps all wait on its potrf kernel, so they see it.
+    AtomicInteger failed = new AtomicInteger(Integer.MAX_VALUE);
+    TaskGraph graph = new TaskGraph(t.mt * t.nt);
+    String uplo = upper ? "U" : "L";
+    for (int j = 0; j < t.nt; j++) {
+      for (int i = upper ? 0 : j; i < (upper ? j + 1 : t.mt); i++) {
+        load(graph, t, i, j, a, offseta, lda);
+      }
+    }
+    for (int k0 = 0; k0 < t.nt; k0++) {
+      int k = k0;
+      int kb = t.cols(k);
+      graph.insert(priority(t, k, true), step(failed, k, () -> {
+        intW iinfo = new intW(0);
+        org.netlib.lapack.Dpotrf.dpotrf(uplo, kb, t.data, t.offset(k, k), nb, iinfo);
+        if (iinfo.val > 0) {
+          info.val = k * nb + iinfo.val;
+          failed.set(k);
+        }
+      })).writes(t.tile(k, k));
+      for (int i0 = k + 1; i0 < t.nt; i0++) {
+        int i = i0;
+        if (upper) {
+          graph.insert(priority(t, i, false), step(failed, k, () -> {
+            org.netlib.blas.Dtrsm.dtrsm("L", "U", "T", "N", kb, t.cols(i), 1.0, t.data, t.offset(k, k), nb, t.data, t.offset(k, i), nb);
+          })).reads(t.tile(k, k)).writes(t.tile(k, i));
+        } else {
+          graph.insert(priority(t, i, false), step(failed, k, () -> {
+            org.netlib.blas.Dtrsm.dtrsm("R", "L", "T", "N", t.rows(i), kb, 1.0, t.data, t.offset(k, k), nb, t.data, t.offset(i, k), nb);
+          })).reads(t.tile(k, k)).writes(t.tile(i, k));
+        }
+      }
+      for (int i0 = k + 1; i0 < t.nt; i0++) {
+        int i = i0;
+        if (upper) {
+          graph.insert(priority(t, i, false), step(failed, k, () -> {
+            org.netlib.blas.Dsyrk.dsyrk("U", "T", t.cols(i), kb, -1.0, t.data, t.offset(k, i), nb, 1.0, t.data, t.offset(i, i), nb);
+          })).reads(t.tile(k, i)).writes(t.tile(i, i));
+          // A(l, i) -= A(k, l)**T * A(k, i) above the diagonal
+          for (int l0 = k + 1; l0 < i; l0++) {
+            int l = l0;
+            graph.insert(priority(t, i, false), step(failed, k, () -> {
+              org.netlib.blas.Dgemm.dgemm("T", "N", t.rows(l), t.cols(i), kb, -1.0, t.data, t.offset(k, l), nb, t.data, t.offset(k, i), nb, 1.0, t.data, t.offset(l, i), nb);
+            })).reads(t.tile(k, l), t.tile(k, i)).writes(t.tile(l, i));
+          }
+        } else {
+          graph.insert(priority(t, i, false), step(failed, k, () -> {
+            org.netlib.blas.Dsyrk.dsyrk("L", "N", t.rows(i), kb, -1.0, t.data, t.offset(i, k), nb, 1.0, t.data, t.offset(i, i), nb);
+          })).reads(t.tile(i, k)).writes(t.tile(i, i));
+          // A(i, l) -= A(i, k) * A(l, k)**T below the diagonal
+          for (int l0 = k + 1; l0 < i; l0++) {
+            int l = l0;
+            graph.insert(priority(t, l, false), step(failed, k, () -> {
+              org.netlib.blas.Dgemm.dgemm("N", "T", t.rows(i), t.cols(l), kb, -1.0, t.data, t.offset(i, k), nb, t.data, t.offset(l, k), nb, 1.0, t.data, t.offset(i, l), nb);
+            })).reads(t.tile(i, k), t.tile(l, k)).writes(t.tile(i, l));
+          }
+        }
+      }
+    }
+    for (int j = 0; j < t.nt; j++) {
+      for (int i = upper ? 0 : j; i < (upper ? j + 1 : t.mt); i++) {
+        store(graph, t, i, j, a, offseta, lda);
+      }
+    }
+    graph.run(pool);
+  }
+
+  // LU with partial pivoting. Pivoting couples the rows of a whole column of tiles, so the panel kernel
+  // factors the column of tiles below the diagonal as one, as does the kernel applying its interchanges to
+  // another column, while the trailing update is split into one gemm per tile. This keeps the pivots, and
+  // so the results, of dgetrf, which the incremental pivoting of PLASMA's tile LU doesn't.
+  static void dgetrf(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int nb, ForkJoinPool pool, intW info) {
+    info.val = 0;
+    TileMatrix t = new TileMatrix(m, n, nb);
+    TaskGraph graph = new TaskGraph(t.mt * t.nt);
+    for (int j = 0; j < t.nt; j++) {
+      for (int i = 0; i < t.mt; i++) {
+        load(graph, t, i, j, a, offseta, lda);
+      }
+    }
+    int kt = Math.min(t.mt, t.nt);
+    for (int k0 = 0; k0 < kt; k0++) {
+      int k = k0;
+      int rows = m - k * nb;
+      int kb = Math.min(rows, t.cols(k));
+      graph.insert(priority(t, k, true), () -> {
+        double[] panel = new double[rows * t.cols(k)];
+        t.gather(k, k, panel, rows);
+        intW iinfo = new intW(0);
+        org.netlib.lapack.Dgetrf.dgetrf(rows, t.cols(k), panel, 0, rows, ipiv, offsetipiv + k * nb, iinfo);
+        t.scatter(k, k, panel, rows);
+        for (int r = 0; r < kb; r++) {
+          ipiv[offsetipiv + k * nb + r] += k * nb;
+        }
+        // The panels run one after the other, so the first one to find a zero pivot sets info
+        if (info.val == 0 && iinfo.val > 0) {
+          info.val = iinfo.val + k * nb;
+        }
+      }).writes(column(t, k, k));
+      for (int j0 = 0; j0 < t.nt; j0++) {
+        int j = j0;
+        if (j < k) {
+          // The interchanges apply to the columns of L left of the panel as well
+          graph.insert(priority(t, j, false), () -> {
+            swap(t, j, k * nb, kb, ipiv, offsetipiv);
+          }).reads(t.tile(k, k)).writes(column(t, k, j));
+        } else if (j > k) {
+          graph.insert(priority(t, j, false), () -> {
+            swap(t, j, k * nb, kb, ipiv, offsetipiv);
+            org.netlib.blas.Dtrsm.dtrsm("L", "L", "N", "U", kb, t.cols(j), 1.0, t.data, t.offset(k, k), nb, t.data, t.offset(k, j), nb);
+          }).reads(t.tile(k, k)).writes(column(t, k, j));
+          for (int i0 = k + 1; i0 < t.mt; i0++) {
+            int i = i0;
+            graph.insert(priority(t, j, false), () -> {
+              org.netlib.blas.Dgemm.dgemm("N", "N", t.rows(i), t.cols(j), kb, -1.0, t.data, t.offset(i, k), nb, t.data, t.offset(k, j), nb, 1.0, t.data, t.offset(i, j), nb);
+            }).reads(t.tile(i, k), t.tile(k, j)).writes(t.tile(i, j));
+          }
+        }
+      }
+    }
+    for (int j = 0; j < t.nt; j++) {
+      for (int i = 0; i < t.mt; i++) {
+        store(graph, t, i, j, a, offseta, lda);
+      }
+    }
+    graph.run(pool);
+  }
+
+  // Applies the kb interchanges of the panel starting at row r0 to column of tiles j
+  private static void swap(TileMatrix t, int j, int r0, int kb, int[] ipiv, int offsetipiv) {
+    for (int r = r0; r < r0 + kb; r++) {
+      int p = ipiv[offsetipiv + r] - 1;
+      if (p != r) {
+        t.swap(j, r, p);
+      }
+    }
+  }
+
+  // QR with the geqrt and larfb kernels over columns of tiles: the panel kernel factors the column of
+  // tiles below the diagonal and forms the triangular factor of its block reflector, which the update
+  // kernels apply to each column of tiles on its right. The reflectors are kept in the layout of dgeqrf,
+  // so that dormqr and dorgqr work on the result, which rules out the tsqrt and tsmqr kernels of PLASMA:
+  // these annihilate one tile at a time, with reflectors of their own layout.
+  static void dgeqrf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, int nb, ForkJoinPool pool, intW info) {
+    info.val = 0;
+    TileMatrix t = new TileMatrix(m, n, nb);
+    TaskGraph graph = new TaskGraph(t.mt * t.nt);
+    for (int j = 0; j < t.nt; j++) {
+      for (int i = 0; i < t.mt; i++) {
+        load(graph, t, i, j, a, offseta, lda);
+      }
+    }
+    int kt = Math.min(t.mt, t.nt);
+    // The reflectors and triangular factor of each panel, in column-major order
+    double[][] v = new double[kt][];
+    double[][] tf = new double[kt][];
+    for (int k0 = 0; k0 < kt; k0++) {
+      int k = k0;
+      int rows = m - k * nb;
+      int kb = Math.min(rows, t.cols(k));
+      graph.insert(priority(t, k, true), () -> {
+        double[] panel = new double[rows * t.cols(k)];
+        t.gather(k, k, panel, rows);
+        double[] work = new double[Math.max(1, t.cols(k) * 32)];
+        intW iinfo = new intW(0);
+        org.netlib.lapack.Dgeqrf.dgeqrf(rows, t.cols(k), panel, 0, rows, tau, offsettau + k * nb, work, 0, work.length, iinfo);
+        t.scatter(k, k, panel, rows);
+        if (k + 1 < t.nt) {
+          tf[k] = new double[kb * kb];
+          org.netlib.lapack.Dlarft.dlarft("F", "C", rows, kb, panel, 0, rows, tau, offsettau + k * nb, tf[k], 0, kb);
+          v[k] = panel;
+        }
+      }).writes(column(t, k, k));
+      for (int j0 = k + 1; j0 < t.nt; j0++) {
+        int j = j0;
+        graph.insert(priority(t, j, false), () -> {
+          double[] c = new double[rows * t.cols(j)];
+          t.gather(k, j, c, rows);
+          double[] work = new double[t.cols(j) * kb];
+          org.netlib.lapack.Dlarfb.dlarfb("L", "T", "F", "C", rows, t.cols(j), kb, v[k], 0, rows, tf[k], 0, kb, c, 0, rows, work, 0, t.cols(j));
+          t.scatter(k, j, c, rows);
+        }).reads(t.tile(k, k)).writes(column(t, k, j));
+      }
+    }
+    for (int j = 0; j < t.nt; j++) {
+      for (int i = 0; i < t.mt; i++) {
+        store(graph, t, i, j, a, offseta, lda);
+      }
+    }
+    graph.run(pool);
+  }
+}
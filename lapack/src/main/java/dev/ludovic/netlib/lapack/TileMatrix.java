@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+// An m x n matrix stored as mt x nt tiles of nb x nb elements, each contiguous and in column-major order
+// with a leading dimension of nb, the tiles themselves following each other in column-major order. The
+// tiles of the last row and column are padded to nb x nb.
+final class TileMatrix {
+
+  final int m, n, nb, mt, nt;
+  final double[] data;
+
+  // The largest array most JVMs allocate
+  private static final long MAX_SIZE = Integer.MAX_VALUE - 8;
+
+  TileMatrix(int m, int n, int nb) {
+    if (!fits(m, n, nb)) {
+      throw new IllegalArgumentException("A " + m + " x " + n + " matrix in tiles of " + nb + " x " + nb + " doesn't fit in an array");
+    }
+    this.m = m;
+    this.n = n;
+    this.nb = nb;
+    this.mt = (int) tiles(m, nb);
+    this.nt = (int) tiles(n, nb);
+    this.data = new double[mt * nt * nb * nb];
+  }
+
+  // Whether the padded tiles of an m x n matrix fit in an array, which then bounds all the offsets
+  static boolean fits(int m, int n, int nb) {
+    long rows = tiles(m, nb) * nb, cols = tiles(n, nb) * nb;
+    return cols == 0 || rows <= MAX_SIZE / cols;
+  }
+
+  private static long tiles(int m, int nb) {
+    return ((long) m + nb - 1) / nb;
+  }
+
+  // Number identifying tile (i, j), for TaskGraph
+  int tile(int i, int j) {
+    return i + j * mt;
+  }
+
+  int offset(int i, int j) {
+    return tile(i, j) * nb * nb;
+  }
+
+  int rows(int i) {
+    return Math.min(nb, m - i * nb);
+  }
+
+  int cols(int j) {
+    return Math.min(nb, n - j * nb);
+  }
+
+  // Copies tile (i, j) from the column-major matrix a
+  void load(int i, int j, double[] a, int offseta, int lda) {
+    int rows = rows(i);
+    int offset = offset(i, j);
+    int offsetij = offseta + i * nb + j * nb * lda;
+    for (int c = 0, cols = cols(j); c < cols; c++) {
+      System.arraycopy(a, offsetij + c * lda, data, offset + c * nb, rows);
+    }
+  }
+
+  // Copies tile (i, j) back to the column-major matrix a
+  void store(int i, int j, double[] a, int offseta, int lda) {
+    int rows = rows(i);
+    int offset = offset(i, j);
+    int offsetij = offseta + i * nb + j * nb * lda;
+    for (int c = 0, cols = cols(j); c < cols; c++) {
+      System.arraycopy(data, offset + c * nb, a, offsetij + c * lda, rows);
+    }
+  }
+
+  // Gathers the tiles of column j from tile row i down into a column-major matrix of m - i * nb rows
+  void gather(int i, int j, double[] b, int ldb) {
+    for (int k = i; k < mt; k++) {
+      store(k, j, b, -i * nb - j * nb * ldb, ldb);
+    }
+  }
+
+  // Scatters back what gather() copied out
+  void scatter(int i, int j, double[] b, int ldb) {
+    for (int k = i; k < mt; k++) {
+      load(k, j, b, -i * nb - j * nb * ldb, ldb);
+    }
+  }
+
+  // Swaps rows r1 and r2, counted from 0, within tile column j
+  void swap(int j, int r1, int r2) {
+    int offset1 = offset(r1 / nb, j) + r1 % nb;
+    int offset2 = offset(r2 / nb, j) + r2 % nb;
+    for (int c = 0, cols = cols(j); c < cols; c++) {
+      double t = data[offset1 + c * nb];
+      data[offset1 + c * nb] = data[offset2 + c * nb];
+      data[offset2 + c * nb] = t;
+    }
+  }
+}
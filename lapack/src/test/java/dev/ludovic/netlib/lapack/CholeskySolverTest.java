@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
+// The shared tests factor the upper triangle, the lower one is covered by testLower
+public class CholeskySolverTest extends SolverTest {
+
+    public CholeskySolverTest() {
+        super(1e-12);
+    }
+
+    // Symmetric and diagonally dominant with a positive diagonal, hence positive definite
+    private static double[] spd(int n, long seed) {
+        double[] a = drandom(n * n, seed);
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < j; i++) {
+                a[j + i * n] = a[i + j * n];
+            }
+            a[j + j * n] += n;
+        }
+        return a;
+    }
+
+    int[][] shapes() {
+        return new int[][] {{1, 1}, {2, 2}, {10, 10}, {100, 100}, {257, 257}};
+    }
+
+    double[] matrix(int m, int n, long seed) {
+        return spd(n, seed);
+    }
+
+    Factorization factor(LAPACK lapack, int m, int n, double[] a) {
+        CholeskySolver chol = CholeskySolver.factor(lapack, "U", n, a, 0, n);
+        assertEquals(n, chol.order());
+        return new Factorization() {
+            public void solve(double[] b, int offsetb) { chol.solve(b, offsetb); }
+            public void solve(int nrhs, double[] b, int offsetb, int ldb) { chol.solve(nrhs, b, offsetb, ldb); }
+            public double rcond() { return chol.rcond(); }
+        };
+    }
+
+    double[] expected(int m, int n, int nrhs, double[] a, double[] b) {
+        return expected("U", n, nrhs, a, b);
+    }
+
+    private static double[] expected(String uplo, int n, int nrhs, double[] a, double[] b) {
+        double[] x = b.clone();
+        intW info = new intW(0);
+        f2j.dposv(uplo, n, nrhs, a.clone(), n, x, n, info);
+        return x;
+    }
+
+    double expectedRcond(int m, int n, double[] a) {
+        double anorm = f2j.dlansy("1", "U", n, a, n, new double[n]);
+        double[] factor = a.clone();
+        intW info = new intW(0);
+        f2j.dpotrf("U", n, factor, n, info);
+        doubleW rcond = new doubleW(0.0);
+        f2j.dpocon("U", n, factor, n, anorm, rcond, new double[3 * n], new int[n], info);
+        return rcond.val;
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testLower(LAPACK lapack) {
+        for (int n : new int[] {1, 2, 10, 100, 257}) {
+            double[] a = spd(n, n);
+            // Only the lower triangle is referenced
+            double[] lower = a.clone();
+            for (int j = 1; j < n; j++) {
+                for (int i = 0; i < j; i++) {
+                    lower[i + j * n] = Double.NaN;
+                }
+            }
+            CholeskySolver chol = CholeskySolver.factor(lapack, "L", n, lower, 0, n);
+            for (int nrhs : new int[] {1, 3, 40}) {
+                double[] b = drandom(n * nrhs, n + nrhs);
+                double[] x = b.clone();
+                chol.solve(nrhs, x, 0, n);
+                assertArrayEquals(expected("L", n, nrhs, a, b), x, 1e-12);
+            }
+            double anorm = f2j.dlansy("1", "L", n, a, n, new double[n]);
+            double[] factor = a.clone();
+            intW info = new intW(0);
+            f2j.dpotrf("L", n, factor, n, info);
+            doubleW expected = new doubleW(0.0);
+            f2j.dpocon("L", n, factor, n, anorm, expected, new double[3 * n], new int[n], info);
+            assertEquals(expected.val, chol.rcond(), 1e-10);
+        }
+    }
+
+    @Test
+    void testNotPositiveDefinite() {
+        double[] a = spd(4, 0);
+        a[2 + 2 * 4] = -10.0;
+        assertThrows(ArithmeticException.class, () -> CholeskySolver.factor(f2j, "U", 4, a, 0, 4));
+    }
+
+    @Test
+    void testArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CholeskySolver.factor(f2j, "X", 3, new double[9], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> CholeskySolver.factor(f2j, "U", -1, new double[1], 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> CholeskySolver.factor(f2j, "U", 3, new double[9], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> CholeskySolver.factor(f2j, "U", 3, new double[8], 0, 3));
+        CholeskySolver chol = CholeskySolver.factor("U", 3, spd(3, 0), 0, 3);
+        assertThrows(IllegalArgumentException.class, () -> chol.solve(-1, new double[3], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> chol.solve(1, new double[3], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> chol.solve(2, new double[5], 0, 3));
+    }
+}
@@ -30,11 +30,69 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DbdsdcTest extends LAPACKTest {
 
+    private static void check(LAPACK lapack, String uplo, int n, double[] d, double[] e) {
+        double tol = 1e-13 * Math.max(1, n);
+        int ldu = Math.max(1, n);
+        double[] expected = d.clone();
+        intW expectedInfo = new intW(0);
+        f2j.dbdsdc(uplo, "N", n, expected, e.clone(), new double[1], 1, new double[1], 1, new double[1], new int[1], new double[Math.max(1, 7 * n)], new int[8 * n], expectedInfo);
+        assertEquals(0, expectedInfo.val);
+
+        double[] actual = d.clone();
+        double[] u = new double[ldu * n];
+        double[] vt = new double[ldu * n];
+        intW info = new intW(0);
+        lapack.dbdsdc(uplo, "I", n, actual, e.clone(), u, ldu, vt, ldu, new double[1], new int[1], new double[Math.max(1, 3 * n * n + 4 * n)], new int[8 * n], info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, actual, tol);
+        // B = U * S * V**T, with U and V orthogonal
+        boolean upper = uplo.equals("U");
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                double b = i == j ? d[i] : upper && j == i + 1 ? e[i] : !upper && i == j + 1 ? e[j] : 0.0;
+                double usvt = 0.0;
+                double uu = 0.0;
+                double vv = 0.0;
+                for (int l = 0; l < n; l++) {
+                    usvt += u[i + l * ldu] * actual[l] * vt[l + j * ldu];
+                    uu += u[l + i * ldu] * u[l + j * ldu];
+                    vv += vt[i + l * ldu] * vt[j + l * ldu];
+                }
+                assertEquals(b, usvt, tol);
+                assertEquals(i == j ? 1.0 : 0.0, uu, tol);
+                assertEquals(i == j ? 1.0 : 0.0, vv, tol);
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String uplo : new String[] {"U", "L"}) {
+            for (int n : new int[] {0, 1, 2, 10, 25, 26, 64, 65, 150, 257}) {
+                check(lapack, uplo, n, drandom(n, n), drandom(Math.max(0, n - 1), n + 1));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSplit(LAPACK lapack) {
+        // Negligible superdiagonal entries split the matrix into independent blocks, the last one of size 1
+        double[] d = drandom(120, 0);
+        double[] e = drandom(119, 1);
+        e[40] = 0.0;
+        e[45] = 0.0;
+        e[118] = 0.0;
+        check(lapack, "U", 120, d, e);
+        // Zero diagonal entries, and a zero matrix
+        d[10] = 0.0;
+        d[80] = 0.0;
+        check(lapack, "U", 120, d, e);
+        check(lapack, "U", 100, new double[100], new double[99]);
     }
 }
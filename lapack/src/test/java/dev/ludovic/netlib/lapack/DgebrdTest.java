@@ -30,11 +30,57 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DgebrdTest extends LAPACKTest {
 
+    private static void check(LAPACK lapack, int m, int n, double[] a, int offseta, int lda) {
+        int minmn = Math.min(m, n);
+        double tol = 1e-13 * Math.max(1, Math.max(m, n));
+        double[] expected = a.clone();
+        double[] expectedd = new double[Math.max(1, minmn) + offseta];
+        double[] expectede = new double[Math.max(1, minmn) + offseta];
+        double[] expectedtauq = new double[Math.max(1, minmn) + offseta];
+        double[] expectedtaup = new double[Math.max(1, minmn) + offseta];
+        int lwork = Math.max(1, Math.max(m, n)) * 32;
+        intW expectedInfo = new intW(0);
+        f2j.dgebrd(m, n, expected, offseta, lda, expectedd, offseta, expectede, offseta, expectedtauq, offseta, expectedtaup, offseta, new double[lwork], 0, lwork, expectedInfo);
+        assertEquals(0, expectedInfo.val);
+
+        double[] actual = a.clone();
+        double[] d = new double[Math.max(1, minmn) + offseta];
+        double[] e = new double[Math.max(1, minmn) + offseta];
+        double[] tauq = new double[Math.max(1, minmn) + offseta];
+        double[] taup = new double[Math.max(1, minmn) + offseta];
+        double[] query = new double[1];
+        intW info = new intW(0);
+        lapack.dgebrd(m, n, actual, offseta, lda, d, offseta, e, offseta, tauq, offseta, taup, offseta, query, 0, -1, info);
+        assertEquals(0, info.val);
+        lwork = Math.max(1, (int) query[0]);
+        lapack.dgebrd(m, n, actual, offseta, lda, d, offseta, e, offseta, tauq, offseta, taup, offseta, new double[lwork], 0, lwork, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, actual, tol);
+        assertArrayEquals(expectedd, d, tol);
+        assertArrayEquals(expectede, e, tol);
+        assertArrayEquals(expectedtauq, tauq, tol);
+        assertArrayEquals(expectedtaup, taup, tol);
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int[][] shapes = {{0, 0}, {1, 1}, {5, 3}, {3, 5}, {64, 64}, {65, 65}, {129, 129}, {200, 70}, {70, 200}, {300, 150}, {150, 300}};
+        for (int[] shape : shapes) {
+            int m = shape[0];
+            int n = shape[1];
+            check(lapack, m, n, drandom(m * n, m + n), 0, Math.max(1, m));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testOffset(LAPACK lapack) {
+        check(lapack, 180, 140, drandom(200 * 145, 0), 7, 200);
+        check(lapack, 140, 180, drandom(200 * 185, 0), 7, 200);
     }
 }
@@ -30,11 +30,44 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DgeqrfTest extends LAPACKTest {
 
+    private static void check(LAPACK lapack, int m, int n, int offset, double[] a) {
+        int lda = Math.max(1, m);
+        double[] expected = a.clone();
+        double[] expectedTau = new double[Math.min(m, n)];
+        intW expectedInfo = new intW(0);
+        f2j.dgeqrf(m, n, expected, offset, lda, expectedTau, 0, new double[64 * Math.max(1, n)], 0, 64 * Math.max(1, n), expectedInfo);
+
+        double[] actual = a.clone();
+        double[] actualTau = new double[Math.min(m, n)];
+        intW actualInfo = new intW(0);
+        double[] query = new double[1];
+        lapack.dgeqrf(m, n, actual, offset, lda, actualTau, 0, query, 0, -1, actualInfo);
+        assertEquals(0, actualInfo.val);
+        int lwork = (int) query[0];
+        lapack.dgeqrf(m, n, actual, offset, lda, actualTau, 0, new double[lwork], 0, lwork, actualInfo);
+
+        assertEquals(expectedInfo.val, actualInfo.val);
+        assertArrayEquals(expectedTau, actualTau, 1e-12 * Math.max(m, n));
+        assertArrayEquals(expected, actual, 1e-12 * Math.max(m, n));
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int[][] shapes = {{1, 1}, {7, 7}, {64, 64}, {65, 65}, {300, 300}, {200, 150}, {150, 200}, {1, 40}, {40, 1}};
+        for (int[] shape : shapes) {
+            check(lapack, shape[0], shape[1], 0, drandom(shape[0] * shape[1], shape[0] * 31 + shape[1]));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testOffset(LAPACK lapack) {
+        int n = 150;
+        check(lapack, n, n, 3, drandom(3 + n * n, 0));
     }
 }
@@ -30,11 +30,167 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DgesddTest extends LAPACKTest {
 
+    // A matrix of rank r, whose zero singular values deflate throughout
+    private static double[] lowRank(int m, int n, int r, long seed) {
+        double[] x = drandom(m * r, seed);
+        double[] y = drandom(r * n, seed + 1);
+        double[] res = new double[m * n];
+        for (int j = 0; j < n; j++) {
+            for (int l = 0; l < r; l++) {
+                for (int i = 0; i < m; i++) {
+                    res[i + j * m] += x[i + l * m] * y[l + j * r];
+                }
+            }
+        }
+        return res;
+    }
+
+    // Checks that the columns of the m x n matrix q are orthonormal
+    private static void checkOrthonormal(int m, int n, double[] q, int ldq, double tol) {
+        for (int j = 0; j < n; j++) {
+            for (int k = 0; k <= j; k++) {
+                double dot = 0.0;
+                for (int l = 0; l < m; l++) {
+                    dot += q[l + k * ldq] * q[l + j * ldq];
+                }
+                assertEquals(k == j ? 1.0 : 0.0, dot, tol);
+            }
+        }
+    }
+
+    private static double[] transpose(int m, int n, double[] a, int lda) {
+        double[] res = new double[n * m];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                res[j + i * n] = a[i + j * lda];
+            }
+        }
+        return res;
+    }
+
+    private static void check(LAPACK lapack, String jobz, int m, int n, double[] a) {
+        int minmn = Math.min(m, n);
+        double tol = 1e-13 * Math.max(1, Math.max(m, n));
+        int lda = Math.max(1, m);
+        double[] expected = new double[minmn];
+        intW expectedInfo = new intW(0);
+        double[] query = new double[1];
+        f2j.dgesdd("N", m, n, a.clone(), lda, expected, new double[1], 1, new double[1], 1, query, -1, new int[8 * minmn], expectedInfo);
+        f2j.dgesdd("N", m, n, a.clone(), lda, expected, new double[1], 1, new double[1], 1, new double[(int) query[0]], (int) query[0], new int[8 * minmn], expectedInfo);
+        assertEquals(0, expectedInfo.val);
+
+        boolean wantu = !jobz.equals("N") && !(jobz.equals("O") && m >= n);
+        boolean wantvt = !jobz.equals("N") && !(jobz.equals("O") && m < n);
+        int ucols = jobz.equals("A") || (jobz.equals("O") && m < n) ? m : minmn;
+        int vtrows = jobz.equals("A") || (jobz.equals("O") && m >= n) ? n : minmn;
+        int ldu = wantu ? Math.max(1, m) : 1;
+        int ldvt = wantvt ? Math.max(1, vtrows) : 1;
+        double[] actual = a.clone();
+        double[] s = new double[minmn];
+        double[] u = new double[wantu ? ldu * ucols : 1];
+        double[] vt = new double[wantvt ? ldvt * n : 1];
+        intW info = new intW(0);
+        lapack.dgesdd(jobz, m, n, actual, lda, s, u, ldu, vt, ldvt, query, -1, new int[8 * minmn], info);
+        assertEquals(0, info.val);
+        int lwork = (int) query[0];
+        lapack.dgesdd(jobz, m, n, actual, lda, s, u, ldu, vt, ldvt, new double[lwork], lwork, new int[8 * minmn], info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, s, tol);
+        // Nothing is referenced with jobz = N, nor computed with an empty matrix
+        if (jobz.equals("N") || minmn == 0) {
+            return;
+        }
+        if (!wantu) {
+            u = actual;
+            ldu = lda;
+        }
+        if (!wantvt) {
+            vt = actual;
+            ldvt = lda;
+        }
+        checkOrthonormal(m, ucols, u, ldu, tol);
+        checkOrthonormal(n, vtrows, transpose(vtrows, n, vt, ldvt), n, tol);
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                double usvt = 0.0;
+                for (int l = 0; l < minmn; l++) {
+                    usvt += u[i + l * ldu] * s[l] * vt[l + j * ldvt];
+                }
+                assertEquals(a[i + j * m], usvt, tol);
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int[][] shapes = {{0, 0}, {0, 5}, {5, 0}, {1, 1}, {5, 3}, {3, 5}, {30, 30}, {64, 64}, {100, 100}, {130, 70}, {70, 130}, {200, 20}, {20, 200}, {400, 60}, {60, 400}};
+        for (String jobz : new String[] {"N", "S", "A", "O"}) {
+            for (int[] shape : shapes) {
+                check(lapack, jobz, shape[0], shape[1], drandom(shape[0] * shape[1], shape[0] + shape[1]));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testDeflation(LAPACK lapack) {
+        for (String jobz : new String[] {"N", "S", "A", "O"}) {
+            check(lapack, jobz, 120, 120, lowRank(120, 120, 7, 0));
+            check(lapack, jobz, 150, 90, lowRank(150, 90, 40, 0));
+            check(lapack, jobz, 90, 150, lowRank(90, 150, 40, 0));
+            check(lapack, jobz, 100, 100, new double[100 * 100]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testScaled(LAPACK lapack) {
+        double[] a = drandom(90 * 60, 0);
+        for (int i = 0; i < a.length; i++) {
+            a[i] *= 1e-160;
+        }
+        intW info = new intW(0);
+        double[] expected = new double[60];
+        f2j.dgesdd("N", 90, 60, a.clone(), 90, expected, new double[1], 1, new double[1], 1, new double[3 * 60 + 7 * 90], 3 * 60 + 7 * 90, new int[8 * 60], info);
+        double[] actual = new double[60];
+        int lwork = 3 * 60 * 60 + 4 * 60 * 60 + 4 * 60 + 90;
+        lapack.dgesdd("S", 90, 60, a.clone(), 90, actual, new double[90 * 60], 90, new double[60 * 60], 60, new double[lwork], lwork, new int[8 * 60], info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, actual, 1e-172);
+    }
+
+    // Newer native LAPACKs reject a NaN with info = -4, so only the Java implementation is held to what the
+    // reference implementation does
+    @Test
+    void testNaN() {
+        LAPACK lapack = JavaLAPACK.getInstance();
+        int[][] shapes = {{1, 1}, {5, 5}, {20, 10}, {10, 20}, {100, 100}, {200, 50}};
+        for (String jobz : new String[] {"N", "S", "A", "O"}) {
+            for (int[] shape : shapes) {
+                int m = shape[0], n = shape[1], minmn = Math.min(m, n);
+                double[] a = drandom(m * n, m + n);
+                a[a.length / 2] = Double.NaN;
+                int lwork = 3 * minmn * minmn + Math.max(Math.max(m, n), 5 * minmn * minmn + 4 * minmn);
+                intW expectedInfo = new intW(0);
+                f2j.dgesdd(jobz, m, n, a.clone(), m, new double[minmn], new double[m * m], m, new double[n * n], n, new double[lwork], lwork, new int[8 * minmn], expectedInfo);
+                intW actualInfo = new intW(0);
+                double[] s = new double[minmn];
+                lapack.dgesdd(jobz, m, n, a.clone(), m, s, new double[m * m], m, new double[n * n], n, new double[lwork], lwork, new int[8 * minmn], actualInfo);
+                assertEquals(expectedInfo.val, actualInfo.val, jobz + " " + m + "x" + n);
+                assertTrue(Double.isNaN(s[0]));
+            }
+        }
+        // Computing vectors fails as in the reference implementation
+        int lwork = 3 * 50 * 50 + 5 * 50 * 50 + 4 * 50 + 50;
+        double[] a = drandom(50 * 50, 0);
+        a[0] = Double.NaN;
+        intW info = new intW(0);
+        lapack.dgesdd("S", 50, 50, a, 50, new double[50], new double[50 * 50], 50, new double[50 * 50], 50, new double[lwork], lwork, new int[8 * 50], info);
+        assertTrue(info.val > 0);
     }
 }
@@ -25,16 +25,37 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DgesvTest extends LAPACKTest {
 
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int n = 200, nrhs = 3;
+        Random rand = new Random(0);
+        double[] a = new double[n * n];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = rand.nextDouble() - 0.5;
+        }
+        double[] x = new double[n * nrhs];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = rand.nextDouble();
+        }
+        double[] b = new double[n * nrhs];
+        org.netlib.blas.Dgemm.dgemm("N", "N", n, nrhs, n, 1.0, a, 0, n, x, 0, n, 0.0, b, 0, n);
+
+        int[] ipiv = new int[n];
+        intW info = new intW(0);
+        lapack.dgesv(n, nrhs, a.clone(), n, ipiv, b, n, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(x, b, 1e-10);
     }
 }
@@ -30,11 +30,52 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DgetrfTest extends LAPACKTest {
 
+    private static void check(LAPACK lapack, int m, int n, int offset, double[] a) {
+        int lda = Math.max(1, m);
+        double[] expected = a.clone();
+        int[] expectedIpiv = new int[Math.min(m, n)];
+        intW expectedInfo = new intW(0);
+        f2j.dgetrf(m, n, expected, offset, lda, expectedIpiv, 0, expectedInfo);
+
+        double[] actual = a.clone();
+        int[] actualIpiv = new int[Math.min(m, n)];
+        intW actualInfo = new intW(0);
+        lapack.dgetrf(m, n, actual, offset, lda, actualIpiv, 0, actualInfo);
+
+        assertEquals(expectedInfo.val, actualInfo.val);
+        assertArrayEquals(expectedIpiv, actualIpiv);
+        assertArrayEquals(expected, actual, 1e-12 * Math.max(m, n));
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int[][] shapes = {{1, 1}, {7, 7}, {64, 64}, {300, 300}, {300, 200}, {200, 300}, {1, 40}, {40, 1}};
+        for (int[] shape : shapes) {
+            check(lapack, shape[0], shape[1], 0, drandom(shape[0] * shape[1], shape[0] * 31 + shape[1]));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testOffset(LAPACK lapack) {
+        int n = 150;
+        check(lapack, n, n, 3, drandom(3 + n * n, 0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSingular(LAPACK lapack) {
+        int n = 100;
+        double[] a = drandom(n * n, 1);
+        // Zero out a column of the trailing half so that the recursion reports it from its second call
+        for (int i = 0; i < n; i++) {
+            a[i + 70 * n] = 0.0;
+        }
+        check(lapack, n, n, 0, a);
     }
 }
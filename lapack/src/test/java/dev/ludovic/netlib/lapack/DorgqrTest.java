@@ -30,11 +30,37 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DorgqrTest extends LAPACKTest {
 
+    private static void check(LAPACK lapack, int m, int n, int k) {
+        double[] a = drandom(m * n, m * 31 + n);
+        double[] tau = new double[Math.min(m, n)];
+        f2j.dgeqrf(m, n, a, Math.max(1, m), tau, new double[64 * Math.max(1, n)], 64 * Math.max(1, n), new intW(0));
+
+        double[] expected = a.clone();
+        intW expectedInfo = new intW(0);
+        f2j.dorgqr(m, n, k, expected, Math.max(1, m), tau, new double[64 * Math.max(1, n)], 64 * Math.max(1, n), expectedInfo);
+
+        double[] actual = a.clone();
+        intW actualInfo = new intW(0);
+        double[] query = new double[1];
+        lapack.dorgqr(m, n, k, actual, Math.max(1, m), tau, query, -1, actualInfo);
+        assertEquals(0, actualInfo.val);
+        int lwork = (int) query[0];
+        lapack.dorgqr(m, n, k, actual, Math.max(1, m), tau, new double[lwork], lwork, actualInfo);
+
+        assertEquals(expectedInfo.val, actualInfo.val);
+        assertArrayEquals(expected, actual, 1e-12 * Math.max(m, n));
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int[][] shapes = {{1, 1, 1}, {7, 7, 7}, {64, 64, 64}, {200, 150, 150}, {200, 150, 100}, {200, 150, 0}, {300, 300, 300}, {40, 1, 1}};
+        for (int[] shape : shapes) {
+            check(lapack, shape[0], shape[1], shape[2]);
+        }
     }
 }
@@ -30,11 +30,50 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DormqrTest extends LAPACKTest {
 
+    // The reflectors of the QR factorization of a random nq x k matrix
+    private static double[] factor(int nq, int k, double[] tau) {
+        double[] a = drandom(nq * k, nq * 31 + k);
+        f2j.dgeqrf(nq, k, a, Math.max(1, nq), tau, new double[64 * Math.max(1, k)], 64 * Math.max(1, k), new intW(0));
+        return a;
+    }
+
+    private static void check(LAPACK lapack, String side, String trans, int m, int n, int k) {
+        int nq = side.equals("L") ? m : n;
+        double[] tau = new double[k];
+        double[] a = factor(nq, k, tau);
+        double[] c = drandom(m * n, m + n);
+
+        double[] expected = c.clone();
+        intW expectedInfo = new intW(0);
+        f2j.dormqr(side, trans, m, n, k, a, Math.max(1, nq), tau, expected, Math.max(1, m), new double[64 * Math.max(m, n)], 64 * Math.max(m, n), expectedInfo);
+
+        double[] actual = c.clone();
+        intW actualInfo = new intW(0);
+        double[] query = new double[1];
+        lapack.dormqr(side, trans, m, n, k, a, Math.max(1, nq), tau, actual, Math.max(1, m), query, -1, actualInfo);
+        assertEquals(0, actualInfo.val);
+        int lwork = (int) query[0];
+        lapack.dormqr(side, trans, m, n, k, a, Math.max(1, nq), tau, actual, Math.max(1, m), new double[lwork], lwork, actualInfo);
+
+        assertEquals(expectedInfo.val, actualInfo.val);
+        assertArrayEquals(expected, actual, 1e-12 * Math.max(m, n));
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String side : new String[] {"L", "R"}) {
+            for (String trans : new String[] {"N", "T"}) {
+                check(lapack, side, trans, 150, 130, side.equals("L") ? 140 : 120);
+                check(lapack, side, trans, 200, 70, side.equals("L") ? 65 : 70);
+                check(lapack, side, trans, 10, 10, 1);
+                // Few columns (or rows) to update, with more reflectors than that
+                check(lapack, side, trans, side.equals("L") ? 300 : 5, side.equals("L") ? 5 : 300, 60);
+            }
+        }
     }
 }
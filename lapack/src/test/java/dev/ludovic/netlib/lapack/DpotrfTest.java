@@ -25,16 +25,65 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DpotrfTest extends LAPACKTest {
 
+    // Symmetric with a dominant diagonal, hence positive definite
+    private static double[] spd(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] res = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = j; i < n; i++) {
+                res[i + j * n] = res[j + i * n] = rand.nextDouble() - 0.5;
+            }
+            res[j + j * n] += n;
+        }
+        return res;
+    }
+
+    private static void check(LAPACK lapack, String uplo, int n, double[] a) {
+        double[] expected = a.clone();
+        intW expectedInfo = new intW(0);
+        f2j.dpotrf(uplo, n, expected, Math.max(1, n), expectedInfo);
+
+        double[] actual = a.clone();
+        intW actualInfo = new intW(0);
+        lapack.dpotrf(uplo, n, actual, Math.max(1, n), actualInfo);
+
+        assertEquals(expectedInfo.val, actualInfo.val);
+        // The contents of a are unspecified when the factorization fails
+        if (expectedInfo.val == 0) {
+            assertArrayEquals(expected, actual, 1e-12 * Math.max(1, n));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String uplo : new String[] {"U", "L"}) {
+            for (int n : new int[] {1, 10, 64, 65, 200, 300}) {
+                check(lapack, uplo, n, spd(n, n));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testNotPositiveDefinite(LAPACK lapack) {
+        int n = 150;
+        double[] a = spd(n, 0);
+        // A negative diagonal entry past the first block makes the factorization stop there
+        a[100 + 100 * n] = -1.0;
+        for (String uplo : new String[] {"U", "L"}) {
+            check(lapack, uplo, n, a);
+        }
     }
 }
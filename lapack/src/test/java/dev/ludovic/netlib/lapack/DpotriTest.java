@@ -25,16 +25,49 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DpotriTest extends LAPACKTest {
 
+    // Symmetric with a dominant diagonal, hence positive definite
+    private static double[] spd(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] res = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = j; i < n; i++) {
+                res[i + j * n] = res[j + i * n] = rand.nextDouble() - 0.5;
+            }
+            res[j + j * n] += n;
+        }
+        return res;
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String uplo : new String[] {"U", "L"}) {
+            for (int n : new int[] {1, 10, 64, 65, 200}) {
+                double[] a = spd(n, n);
+                intW info = new intW(0);
+                f2j.dpotrf(uplo, n, a, n, info);
+                assertEquals(0, info.val);
+
+                double[] expected = a.clone();
+                f2j.dpotri(uplo, n, expected, n, info);
+                assertEquals(0, info.val);
+
+                double[] actual = a.clone();
+                lapack.dpotri(uplo, n, actual, n, info);
+                assertEquals(0, info.val);
+                assertArrayEquals(expected, actual, 1e-14 * Math.max(1, n));
+            }
+        }
     }
 }
@@ -25,16 +25,51 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DpotrsTest extends LAPACKTest {
 
+    // Symmetric with a dominant diagonal, hence positive definite
+    private static double[] spd(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] res = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = j; i < n; i++) {
+                res[i + j * n] = res[j + i * n] = rand.nextDouble() - 0.5;
+            }
+            res[j + j * n] += n;
+        }
+        return res;
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int n = 200, nrhs = 5;
+        double[] a = spd(n, 0);
+        double[] x = new double[n * nrhs];
+        Random rand = new Random(1);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = rand.nextDouble();
+        }
+        double[] b = new double[n * nrhs];
+        org.netlib.blas.Dgemm.dgemm("N", "N", n, nrhs, n, 1.0, a, 0, n, x, 0, n, 0.0, b, 0, n);
+        for (String uplo : new String[] {"U", "L"}) {
+            double[] factor = a.clone();
+            intW info = new intW(0);
+            f2j.dpotrf(uplo, n, factor, n, info);
+            assertEquals(0, info.val);
+            double[] actual = b.clone();
+            lapack.dpotrs(uplo, n, nrhs, factor, n, actual, n, info);
+            assertEquals(0, info.val);
+            assertArrayEquals(x, actual, 1e-10);
+        }
     }
 }
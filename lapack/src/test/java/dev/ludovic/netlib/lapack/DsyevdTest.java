@@ -25,16 +25,137 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DsyevdTest extends LAPACKTest {
 
+    private static double[] symmetric(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] res = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                res[i + j * n] = res[j + i * n] = rand.nextDouble() - 0.5;
+            }
+        }
+        return res;
+    }
+
+    // The identity plus a rank-one matrix, whose eigenvalue 1 of multiplicity n - 1 deflates throughout
+    private static double[] rankOne(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] u = new double[n];
+        for (int i = 0; i < n; i++) {
+            u[i] = rand.nextDouble() - 0.5;
+        }
+        double[] res = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                res[i + j * n] = u[i] * u[j] + (i == j ? 1.0 : 0.0);
+            }
+        }
+        return res;
+    }
+
+    // Two independent diagonal blocks, which splits the tridiagonal matrix
+    private static double[] blocks(int n1, int n2, long seed) {
+        int n = n1 + n2;
+        double[] a1 = symmetric(n1, seed);
+        double[] a2 = symmetric(n2, seed + 1);
+        double[] res = new double[n * n];
+        for (int j = 0; j < n1; j++) {
+            System.arraycopy(a1, j * n1, res, j * n, n1);
+        }
+        for (int j = 0; j < n2; j++) {
+            System.arraycopy(a2, j * n2, res, n1 + (n1 + j) * n, n2);
+        }
+        return res;
+    }
+
+    private static void checkEigenvectors(int n, int m, double[] a, double[] w, double[] z, int ldz, double tol) {
+        for (int j = 0; j < m; j++) {
+            for (int i = 0; i < n; i++) {
+                double av = 0.0;
+                for (int l = 0; l < n; l++) {
+                    av += a[i + l * n] * z[l + j * ldz];
+                }
+                assertEquals(w[j] * z[i + j * ldz], av, tol);
+            }
+            for (int k = 0; k <= j; k++) {
+                double dot = 0.0;
+                for (int l = 0; l < n; l++) {
+                    dot += z[l + k * ldz] * z[l + j * ldz];
+                }
+                assertEquals(k == j ? 1.0 : 0.0, dot, tol);
+            }
+        }
+    }
+
+    private static void check(LAPACK lapack, String jobz, String uplo, int n, double[] a) {
+        double tol = 1e-13 * Math.max(1, n);
+        double[] expected = new double[n];
+        intW expectedInfo = new intW(0);
+        f2j.dsyevd("N", uplo, n, a.clone(), Math.max(1, n), expected, new double[2 * n + 1], 2 * n + 1, new int[1], 1, expectedInfo);
+        assertEquals(0, expectedInfo.val);
+
+        double[] actual = a.clone();
+        double[] w = new double[n];
+        intW info = new intW(0);
+        double[] query = new double[1];
+        int[] iquery = new int[1];
+        lapack.dsyevd(jobz, uplo, n, actual, Math.max(1, n), w, query, -1, iquery, -1, info);
+        assertEquals(0, info.val);
+        int lwork = (int) query[0];
+        int liwork = iquery[0];
+        lapack.dsyevd(jobz, uplo, n, actual, Math.max(1, n), w, new double[lwork], lwork, new int[liwork], liwork, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, w, tol);
+        if (jobz.equals("V")) {
+            checkEigenvectors(n, n, a, w, actual, Math.max(1, n), tol);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String jobz : new String[] {"N", "V"}) {
+            for (String uplo : new String[] {"U", "L"}) {
+                for (int n : new int[] {0, 1, 2, 10, 25, 26, 64, 65, 150, 257}) {
+                    check(lapack, jobz, uplo, n, symmetric(n, n));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testDeflation(LAPACK lapack) {
+        for (String uplo : new String[] {"U", "L"}) {
+            check(lapack, "V", uplo, 120, rankOne(120, 0));
+            check(lapack, "V", uplo, 130, blocks(50, 80, 0));
+            check(lapack, "V", uplo, 100, new double[100 * 100]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testScaled(LAPACK lapack) {
+        double[] a = symmetric(80, 0);
+        for (int i = 0; i < a.length; i++) {
+            a[i] *= 1e-160;
+        }
+        intW info = new intW(0);
+        double[] expected = new double[80];
+        f2j.dsyevd("N", "L", 80, a.clone(), 80, expected, new double[161], 161, new int[1], 1, info);
+        double[] actual = new double[80];
+        lapack.dsyevd("V", "L", 80, a.clone(), 80, actual, new double[1 + 6 * 80 + 2 * 80 * 80], 1 + 6 * 80 + 2 * 80 * 80, new int[3 + 5 * 80], 3 + 5 * 80, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, actual, 1e-172);
     }
 }
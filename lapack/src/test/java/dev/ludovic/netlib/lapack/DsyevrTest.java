@@ -25,16 +25,101 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DsyevrTest extends LAPACKTest {
 
+    private static double[] symmetric(int n, long seed) {
+        Random rand = new Random(seed);
+        double[] res = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                res[i + j * n] = res[j + i * n] = rand.nextDouble() - 0.5;
+            }
+        }
+        return res;
+    }
+
+    private static void checkEigenvectors(int n, int m, double[] a, double[] w, double[] z, int ldz, double tol) {
+        for (int j = 0; j < m; j++) {
+            for (int i = 0; i < n; i++) {
+                double av = 0.0;
+                for (int l = 0; l < n; l++) {
+                    av += a[i + l * n] * z[l + j * ldz];
+                }
+                assertEquals(w[j] * z[i + j * ldz], av, tol);
+            }
+            for (int k = 0; k <= j; k++) {
+                double dot = 0.0;
+                for (int l = 0; l < n; l++) {
+                    dot += z[l + k * ldz] * z[l + j * ldz];
+                }
+                assertEquals(k == j ? 1.0 : 0.0, dot, tol);
+            }
+        }
+    }
+
+    private static void check(LAPACK lapack, String jobz, String range, String uplo, int n, double vl, double vu, int il, int iu, double[] a) {
+        double tol = 1e-13 * Math.max(1, n);
+        int lwork = Math.max(1, 26 * n);
+        int liwork = Math.max(1, 10 * n);
+        intW expectedM = new intW(0);
+        double[] expected = new double[n];
+        intW expectedInfo = new intW(0);
+        f2j.dsyevr("N", range, uplo, n, a.clone(), Math.max(1, n), vl, vu, il, iu, 0.0, expectedM, expected, new double[1], 1, new int[2 * Math.max(1, n)], new double[lwork], lwork, new int[liwork], liwork, expectedInfo);
+        assertEquals(0, expectedInfo.val);
+
+        intW m = new intW(0);
+        double[] w = new double[n];
+        double[] z = new double[Math.max(1, n * n)];
+        intW info = new intW(0);
+        double[] query = new double[1];
+        int[] iquery = new int[1];
+        lapack.dsyevr(jobz, range, uplo, n, a.clone(), Math.max(1, n), vl, vu, il, iu, 0.0, m, w, z, Math.max(1, n), new int[2 * Math.max(1, n)], query, -1, iquery, -1, info);
+        assertEquals(0, info.val);
+        assertTrue(query[0] >= lwork);
+        assertTrue(iquery[0] >= liwork);
+        lapack.dsyevr(jobz, range, uplo, n, a.clone(), Math.max(1, n), vl, vu, il, iu, 0.0, m, w, z, Math.max(1, n), new int[2 * Math.max(1, n)], new double[lwork], lwork, new int[liwork], liwork, info);
+        assertEquals(0, info.val);
+        assertEquals(expectedM.val, m.val);
+        for (int i = 0; i < m.val; i++) {
+            assertEquals(expected[i], w[i], tol);
+        }
+        if (jobz.equals("V")) {
+            checkEigenvectors(n, m.val, a, w, z, Math.max(1, n), tol);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String jobz : new String[] {"N", "V"}) {
+            for (String uplo : new String[] {"U", "L"}) {
+                for (int n : new int[] {1, 2, 10, 65, 150}) {
+                    check(lapack, jobz, "A", uplo, n, 0.0, 0.0, 1, n, symmetric(n, n));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSubset(LAPACK lapack) {
+        int n = 150;
+        double[] a = symmetric(n, 0);
+        for (String jobz : new String[] {"N", "V"}) {
+            for (String uplo : new String[] {"U", "L"}) {
+                check(lapack, jobz, "I", uplo, n, 0.0, 0.0, 3, 20, a);
+                check(lapack, jobz, "I", uplo, n, 0.0, 0.0, n, n, a);
+                check(lapack, jobz, "V", uplo, n, -0.5, 0.5, 1, n, a);
+            }
+        }
     }
 }
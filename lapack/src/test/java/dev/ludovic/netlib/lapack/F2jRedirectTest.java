@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.netlib.util.intW;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The blas module is on the test classpath, so the Java implementation runs on dev.ludovic.netlib.blas
+public class F2jRedirectTest {
+
+    private static final int n = 150;
+
+    private static void assertClose(double[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], 1e-10 * Math.max(1.0, Math.abs(expected[i])), "at index " + i);
+        }
+    }
+
+    private static LAPACK redirected() {
+        return F2jRedirect.redirect(F2jLAPACK.class, null);
+    }
+
+    @Test
+    void testRedirected() throws Exception {
+        LAPACK lapack = redirected();
+        assertNotNull(lapack);
+        assertEquals(F2jLAPACK.class.getName(), lapack.getClass().getName());
+        ClassLoader loader = lapack.getClass().getClassLoader();
+        assertNotSame(F2jLAPACK.class.getClassLoader(), loader);
+        assertSame(loader, Class.forName("org.netlib.lapack.Dgetrf", false, loader).getClassLoader());
+        // Public classes are shared with the rest of the application
+        assertSame(LAPACK.class, Class.forName(LAPACK.class.getName(), false, loader));
+        assertSame(org.netlib.util.intW.class, Class.forName(org.netlib.util.intW.class.getName(), false, loader));
+        assertSame(Meter.class, Class.forName(Meter.class.getName(), false, loader));
+    }
+
+    @Test
+    void testSharedState() throws Exception {
+        ClassLoader loader = redirected().getClass().getClassLoader();
+        // The copies of the package-private helpers run on the state of their original
+        Class<?> parallel = Class.forName(Parallel.class.getName(), true, loader);
+        assertNotSame(Parallel.class, parallel);
+        assertSame(Parallel.pool(), invoke(parallel, "pool"));
+        assertEquals(Parallel.threads(), invoke(parallel, "threads"));
+        Class<?> tiles = Class.forName(TileAlgorithms.class.getName(), true, loader);
+        java.lang.reflect.Field size = tiles.getDeclaredField("SIZE");
+        size.setAccessible(true);
+        assertEquals(TileAlgorithms.SIZE, size.get(null));
+        Object tracing = invoke(Class.forName(Tracing.class.getName(), true, loader), "getInstance");
+        if (Tracing.getInstance().getClass() == Tracing.class) {
+            assertEquals(Tracing.class.getName(), tracing.getClass().getName());
+        } else {
+            assertEquals(Tracing.class.getName() + "$Forwarding", tracing.getClass().getName());
+        }
+    }
+
+    private static Object invoke(Class<?> klass, String name) throws Exception {
+        java.lang.reflect.Method method = klass.getDeclaredMethod(name);
+        method.setAccessible(true);
+        return method.invoke(null);
+    }
+
+    @Test
+    void testRewrite() throws Exception {
+        byte[] klass;
+        try (java.io.InputStream in = org.netlib.lapack.Dgetrf.class.getResourceAsStream("Dgetrf.class")) {
+            java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int r; (r = in.read(buffer)) > 0; ) {
+                out.write(buffer, 0, r);
+            }
+            klass = out.toByteArray();
+        }
+        String rewritten = new String(F2jRedirect.rewrite(klass), java.nio.charset.StandardCharsets.ISO_8859_1);
+        assertFalse(rewritten.contains("org/netlib/blas/Dgemm"));
+        assertFalse(rewritten.contains("org/netlib/blas/Dtrsm"));
+        assertTrue(rewritten.contains("dev/ludovic/netlib/blas/F2jShim"));
+        // The rest of the class is left as is
+        assertTrue(rewritten.contains("org/netlib/lapack/Dgetf2"));
+    }
+
+    @Test
+    void testDgetrf() {
+        double[] expected = LAPACKTest.drandom(n * n, 0), actual = expected.clone();
+        int[] expectedIpiv = new int[n], actualIpiv = new int[n];
+        intW info = new intW(0);
+        F2jLAPACK.getInstance().dgetrf(n, n, expected, n, expectedIpiv, info);
+        assertEquals(0, info.val);
+        redirected().dgetrf(n, n, actual, n, actualIpiv, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expectedIpiv, actualIpiv);
+        assertClose(expected, actual);
+    }
+
+    @Test
+    void testDpotrf() {
+        double[] a = LAPACKTest.drandom(n * n, 0);
+        double[] expected = new double[n * n];
+        org.netlib.blas.Dgemm.dgemm("T", "N", n, n, n, 1.0, a, 0, n, a, 0, n, 0.0, expected, 0, n);
+        for (int i = 0; i < n; i++) {
+            expected[i * n + i] += n;
+        }
+        double[] actual = expected.clone();
+        intW info = new intW(0);
+        F2jLAPACK.getInstance().dpotrf("U", n, expected, n, info);
+        assertEquals(0, info.val);
+        redirected().dpotrf("U", n, actual, n, info);
+        assertEquals(0, info.val);
+        assertClose(expected, actual);
+    }
+
+    @Test
+    void testDgeqrf() {
+        double[] expected = LAPACKTest.drandom(n * n, 0), actual = expected.clone();
+        double[] expectedTau = new double[n], actualTau = new double[n];
+        double[] work = new double[64 * n];
+        intW info = new intW(0);
+        F2jLAPACK.getInstance().dgeqrf(n, n, expected, n, expectedTau, work, work.length, info);
+        assertEquals(0, info.val);
+        redirected().dgeqrf(n, n, actual, n, actualTau, work, work.length, info);
+        assertEquals(0, info.val);
+        assertClose(expectedTau, actualTau);
+        assertClose(expected, actual);
+    }
+
+    @Test
+    void testDgesvd() {
+        double[] a = LAPACKTest.drandom(n * n, 0);
+        double[] expected = new double[n], actual = new double[n];
+        double[] u = new double[n * n], vt = new double[n * n];
+        double[] work = new double[64 * n];
+        intW info = new intW(0);
+        F2jLAPACK.getInstance().dgesvd("A", "A", n, n, a.clone(), n, expected, u, n, vt, n, work, work.length, info);
+        assertEquals(0, info.val);
+        redirected().dgesvd("A", "A", n, n, a.clone(), n, actual, u, n, vt, n, work, work.length, info);
+        assertEquals(0, info.val);
+        assertClose(expected, actual);
+    }
+}
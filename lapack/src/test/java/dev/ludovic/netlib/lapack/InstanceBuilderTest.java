@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.ludovic.netlib.blas.Subprocess;
+
+// Starts a fresh JVM for each configuration, and checks which backends got loaded from the output
+// of -verbose:class.
+public class InstanceBuilderTest {
+
+    public static void main(String[] args) {
+        String instance;
+        try {
+            switch (args[0]) {
+            case "default": instance = LAPACK.getInstance().getClass().getName(); break;
+            case "native":  instance = NativeLAPACK.getInstance().getClass().getName(); break;
+            case "java":    instance = JavaLAPACK.getInstance().getClass().getName(); break;
+            default: throw new IllegalArgumentException(args[0]);
+            }
+        } catch (RuntimeException e) {
+            instance = e.toString();
+        }
+        System.out.println("instance = " + instance);
+    }
+
+    private static List<String> run(String configuration) throws Exception {
+        return Subprocess.run(InstanceBuilderTest.class, Arrays.asList("-verbose:class"), configuration);
+    }
+
+    private static List<String> loadedClasses(List<String> output) {
+        return Subprocess.loadedClasses(output, "dev.ludovic.netlib.lapack");
+    }
+
+    @Test
+    void testJava() throws Exception {
+        List<String> output = run("java");
+        List<String> classes = loadedClasses(output);
+        assertEquals(Java8LAPACK.class.getName(), Subprocess.value(output, "instance"));
+        assertFalse(classes.contains(JNILAPACK.class.getName()));
+        assertFalse(classes.contains(NativeLoader.class.getName()));
+    }
+
+    @Test
+    void testNative() throws Exception {
+        List<String> output = run("native");
+        List<String> classes = loadedClasses(output);
+        assertTrue(classes.contains(JNILAPACK.class.getName()));
+        assertFalse(classes.contains(F2jLAPACK.class.getName()));
+    }
+
+    @Test
+    void testDefault() throws Exception {
+        List<String> output = run("default");
+        List<String> classes = loadedClasses(output);
+        assertTrue(classes.contains(JNILAPACK.class.getName()));
+        // the Java implementation is only loaded if we failed to load the native one
+        assertEquals(!JNILAPACK.class.getName().equals(Subprocess.value(output, "instance")), classes.contains(F2jLAPACK.class.getName()));
+    }
+}
@@ -30,6 +30,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -42,13 +43,33 @@ public class LAPACKTest {
 
   final static LAPACK f2j = F2jLAPACK.getInstance();
 
+  // Entries uniformly drawn from [-0.5, 0.5), the same for a given seed
+  static double[] drandom(int length, long seed) {
+    Random rand = new Random(seed);
+    double[] res = new double[length];
+    for (int i = 0; i < length; i++) {
+      res[i] = rand.nextDouble() - 0.5;
+    }
+    return res;
+  }
+
+  static float[] srandom(int length, long seed) {
+    Random rand = new Random(seed);
+    float[] res = new float[length];
+    for (int i = 0; i < length; i++) {
+      res[i] = rand.nextFloat() - 0.5f;
+    }
+    return res;
+  }
+
   private static Stream<Arguments> LAPACKImplementations() {
     Stream instances = Stream.of(
       Arguments.of(LAPACK.getInstance()),
       Arguments.of(NativeLAPACK.getInstance()),
       Arguments.of(JavaLAPACK.getInstance()),
       Arguments.of(F2jLAPACK.getInstance()),
-      Arguments.of(JNILAPACK.getInstance())
+      Arguments.of(JNILAPACK.getInstance()),
+      Arguments.of(new MeteredLAPACK(F2jLAPACK.getInstance()))
     );
 
     return instances;
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
+public class LUSolverTest extends SolverTest {
+
+    public LUSolverTest() {
+        super(1e-10);
+    }
+
+    int[][] shapes() {
+        return new int[][] {{1, 1}, {2, 2}, {10, 10}, {100, 100}, {257, 257}};
+    }
+
+    double[] matrix(int m, int n, long seed) {
+        return drandom(n * n, seed);
+    }
+
+    Factorization factor(LAPACK lapack, int m, int n, double[] a) {
+        LUSolver lu = LUSolver.factor(lapack, n, a, 0, n);
+        assertEquals(n, lu.order());
+        return new Factorization() {
+            public void solve(double[] b, int offsetb) { lu.solve(b, offsetb); }
+            public void solve(int nrhs, double[] b, int offsetb, int ldb) { lu.solve(nrhs, b, offsetb, ldb); }
+            public double rcond() { return lu.rcond(); }
+        };
+    }
+
+    double[] expected(int m, int n, int nrhs, double[] a, double[] b) {
+        return expected("N", n, nrhs, a, b);
+    }
+
+    private static double[] expected(String trans, int n, int nrhs, double[] a, double[] b) {
+        double[] lu = a.clone();
+        double[] x = b.clone();
+        int[] ipiv = new int[n];
+        intW info = new intW(0);
+        f2j.dgetrf(n, n, lu, n, ipiv, info);
+        f2j.dgetrs(trans, n, nrhs, lu, n, ipiv, x, n, info);
+        return x;
+    }
+
+    double expectedRcond(int m, int n, double[] a) {
+        double anorm = f2j.dlange("1", n, n, a, n, new double[n]);
+        double[] lu = a.clone();
+        intW info = new intW(0);
+        f2j.dgetrf(n, n, lu, n, new int[n], info);
+        doubleW rcond = new doubleW(0.0);
+        f2j.dgecon("1", n, lu, n, anorm, rcond, new double[4 * n], new int[n], info);
+        return rcond.val;
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSolveTranspose(LAPACK lapack) {
+        for (int n : new int[] {1, 2, 10, 100, 257}) {
+            double[] a = drandom(n * n, n);
+            LUSolver lu = LUSolver.factor(lapack, n, a, 0, n);
+            for (int nrhs : new int[] {1, 3, 40}) {
+                double[] b = drandom(n * nrhs, n + nrhs);
+                double[] x = b.clone();
+                lu.solveTranspose(nrhs, x, 0, n);
+                assertArrayEquals(expected("T", n, nrhs, a, b), x, 1e-10);
+            }
+        }
+    }
+
+    @Test
+    void testSingular() {
+        double[] a = drandom(4 * 4, 0);
+        for (int i = 0; i < 4; i++) {
+            a[i + 2 * 4] = 2.0 * a[i + 1 * 4];
+        }
+        assertThrows(ArithmeticException.class, () -> LUSolver.factor(f2j, 4, a, 0, 4));
+    }
+
+    @Test
+    void testArguments() {
+        assertThrows(IllegalArgumentException.class, () -> LUSolver.factor(f2j, -1, new double[1], 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> LUSolver.factor(f2j, 3, new double[9], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> LUSolver.factor(f2j, 3, new double[8], 0, 3));
+        LUSolver lu = LUSolver.factor(3, drandom(9, 0), 0, 3);
+        assertThrows(IllegalArgumentException.class, () -> lu.solve(-1, new double[3], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> lu.solve(1, new double[3], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> lu.solve(2, new double[5], 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> lu.solve(new double[3], 1));
+    }
+}
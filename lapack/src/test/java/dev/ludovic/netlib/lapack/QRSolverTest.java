@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
+public class QRSolverTest extends SolverTest {
+
+    public QRSolverTest() {
+        super(1e-10);
+    }
+
+    int[][] shapes() {
+        return new int[][] {{1, 1}, {5, 3}, {10, 10}, {300, 20}, {257, 100}};
+    }
+
+    double[] matrix(int m, int n, long seed) {
+        return drandom(m * n, seed);
+    }
+
+    Factorization factor(LAPACK lapack, int m, int n, double[] a) {
+        QRSolver qr = QRSolver.factor(lapack, m, n, a, 0, m);
+        assertEquals(m, qr.rows());
+        assertEquals(n, qr.columns());
+        return new Factorization() {
+            public void solve(double[] b, int offsetb) { qr.solve(b, offsetb); }
+            public void solve(int nrhs, double[] b, int offsetb, int ldb) { qr.solve(nrhs, b, offsetb, ldb); }
+            public double rcond() { return qr.rcond(); }
+        };
+    }
+
+    // The least-squares solution in the first n rows, as dgels leaves it
+    double[] expected(int m, int n, int nrhs, double[] a, double[] b) {
+        double[] x = b.clone();
+        int lwork = Math.max(1, n + Math.max(m, nrhs)) * 64;
+        intW info = new intW(0);
+        f2j.dgels("N", m, n, nrhs, a.clone(), m, x, m, new double[lwork], lwork, info);
+        return x;
+    }
+
+    double expectedRcond(int m, int n, double[] a) {
+        double[] r = a.clone();
+        double[] work = new double[64 * n];
+        intW info = new intW(0);
+        f2j.dgeqrf(m, n, r, m, new double[n], work, work.length, info);
+        doubleW rcond = new doubleW(0.0);
+        f2j.dtrcon("1", "U", "N", n, r, m, rcond, new double[3 * n], new int[n], info);
+        return rcond.val;
+    }
+
+    @Test
+    void testNoAllocation() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+        long id = Thread.currentThread().getId();
+        int m = 300, n = 50;
+        QRSolver qr = QRSolver.factor(JavaLAPACK.getInstance(), m, n, drandom(m * n, 0), 0, m);
+        for (int nrhs : new int[] {1, 4, 40}) {
+            double[] b = drandom(m * nrhs, nrhs);
+            double[] x = new double[b.length];
+            // Warms up the workspace and the JIT
+            for (int i = 0; i < 5000; i++) {
+                System.arraycopy(b, 0, x, 0, b.length);
+                qr.solve(nrhs, x, 0, m);
+            }
+            long before = bean.getThreadAllocatedBytes(id);
+            for (int i = 0; i < 100; i++) {
+                System.arraycopy(b, 0, x, 0, b.length);
+                qr.solve(nrhs, x, 0, m);
+            }
+            assertEquals(0, bean.getThreadAllocatedBytes(id) - before, "nrhs = " + nrhs);
+        }
+    }
+
+    @Test
+    void testRankDeficient() {
+        double[] a = drandom(6 * 3, 0);
+        Arrays.fill(a, 6, 12, 0.0);
+        assertThrows(ArithmeticException.class, () -> QRSolver.factor(f2j, 6, 3, a, 0, 6));
+    }
+
+    @Test
+    void testArguments() {
+        assertThrows(IllegalArgumentException.class, () -> QRSolver.factor(f2j, 3, 4, new double[12], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> QRSolver.factor(f2j, 4, 3, new double[12], 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> QRSolver.factor(f2j, 4, 3, new double[11], 0, 4));
+        QRSolver qr = QRSolver.factor(4, 3, drandom(12, 0), 0, 4);
+        assertThrows(IllegalArgumentException.class, () -> qr.solve(-1, new double[4], 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> qr.solve(1, new double[4], 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> qr.solve(2, new double[7], 0, 4));
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.netlib.util.intW;
+
+public class RandomizedSVDTest extends LAPACKTest {
+
+    // An m x n matrix with orthonormal columns
+    private static double[] orthonormal(int m, int n, long seed) {
+        double[] q = drandom(m * n, seed);
+        double[] tau = new double[n];
+        double[] work = new double[64 * n];
+        intW info = new intW(0);
+        f2j.dgeqrf(m, n, q, m, tau, work, work.length, info);
+        f2j.dorgqr(m, n, n, q, m, tau, work, work.length, info);
+        return q;
+    }
+
+    // U * diag(sigma) * V**T, for random orthonormal U and V, with the singular values sigma(i) = decay^i
+    private static double[] decaying(int m, int n, double decay, long seed) {
+        int k = Math.min(m, n);
+        double[] u = orthonormal(m, k, seed);
+        double[] v = orthonormal(n, k, seed + 1);
+        double[] a = new double[m * n];
+        double sigma = 1.0;
+        for (int l = 0; l < k; l++, sigma *= decay) {
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < m; i++) {
+                    a[i + j * m] += u[i + l * m] * sigma * v[j + l * n];
+                }
+            }
+        }
+        return a;
+    }
+
+    private static double[] singularValues(int m, int n, double[] a) {
+        int k = Math.min(m, n);
+        double[] s = new double[k];
+        int lwork = 3 * k + Math.max(Math.max(m, n), 7 * k);
+        intW info = new intW(0);
+        f2j.dgesdd("N", m, n, a.clone(), m, s, new double[1], 1, new double[1], 1, new double[lwork], lwork, new int[8 * k], info);
+        assertEquals(0, info.val);
+        return s;
+    }
+
+    // Checks the singular values and that U * diag(S) * VT is as close to A as the next singular value allows
+    private static void check(int m, int n, int rank, double[] a, double[] expected, double[] s, double[] u, double[] vt, double tol) {
+        for (int i = 0; i < rank; i++) {
+            assertEquals(expected[i], s[i], tol);
+        }
+        for (int j = 0; j < rank; j++) {
+            for (int k = 0; k <= j; k++) {
+                double uu = 0.0;
+                for (int i = 0; i < m; i++) {
+                    uu += u[i + k * m] * u[i + j * m];
+                }
+                double vv = 0.0;
+                for (int i = 0; i < n; i++) {
+                    vv += vt[k + i * rank] * vt[j + i * rank];
+                }
+                assertEquals(k == j ? 1.0 : 0.0, uu, 1e-12);
+                assertEquals(k == j ? 1.0 : 0.0, vv, 1e-12);
+            }
+        }
+        double bound = rank < expected.length ? expected[rank] : 0.0;
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                double usvt = 0.0;
+                for (int l = 0; l < rank; l++) {
+                    usvt += u[i + l * m] * s[l] * vt[l + j * rank];
+                }
+                assertEquals(a[i + j * m], usvt, bound + tol);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSvd(LAPACK lapack) {
+        int[][] shapes = {{300, 80}, {80, 300}, {100, 100}};
+        for (int[] shape : shapes) {
+            int m = shape[0], n = shape[1];
+            double[] a = decaying(m, n, 0.7, m + n);
+            double[] expected = singularValues(m, n, a);
+            for (int rank : new int[] {1, 10, 30}) {
+                double[] s = new double[rank];
+                double[] u = new double[m * rank];
+                double[] vt = new double[rank * n];
+                double[] copy = a.clone();
+                new RandomizedSVD(lapack, rank).svd(m, n, copy, 0, m, s, 0, u, 0, m, vt, 0, rank);
+                assertArrayEquals(a, copy);
+                check(m, n, rank, a, expected, s, u, vt, 1e-10);
+
+                double[] values = new double[rank];
+                new RandomizedSVD(lapack, rank).svd(m, n, a, 0, m, values, 0, null, 0, 1, null, 0, 1);
+                assertArrayEquals(s, values, 1e-12);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testDefaults(LAPACK lapack) {
+        // The spectrum of RandomizedSVDBenchmark, sigma(i) = exp(-i / 20), with the default oversampling and
+        // power iterations
+        int m = 600, n = 250;
+        double[] a = decaying(m, n, Math.exp(-1.0 / 20.0), 0);
+        double[] expected = singularValues(m, n, a);
+        for (int rank : new int[] {20, 100}) {
+            double[] s = new double[rank];
+            new RandomizedSVD(lapack, rank).svd(m, n, a, 0, m, s, 0, null, 0, 1, null, 0, 1);
+            double error = 0.0;
+            for (int i = 0; i < rank; i++) {
+                error = Math.max(error, Math.abs(expected[i] - s[i]) / expected[i]);
+            }
+            assertTrue(error < 1e-2, "error with rank " + rank + " = " + error);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testIterations(LAPACK lapack) {
+        // With a slow decay, the power iterations are needed for the singular values to be accurate
+        int m = 400, n = 200, rank = 10;
+        double[] a = decaying(m, n, 0.97, 0);
+        double[] expected = singularValues(m, n, a);
+        double[] s0 = new double[rank];
+        double[] s4 = new double[rank];
+        new RandomizedSVD(lapack, rank, 5, 0, 0).svd(m, n, a, 0, m, s0, 0, null, 0, 1, null, 0, 1);
+        new RandomizedSVD(lapack, rank, 5, 4, 0).svd(m, n, a, 0, m, s4, 0, null, 0, 1, null, 0, 1);
+        double error0 = 0.0;
+        double error4 = 0.0;
+        for (int i = 0; i < rank; i++) {
+            error0 = Math.max(error0, Math.abs(expected[i] - s0[i]) / expected[i]);
+            error4 = Math.max(error4, Math.abs(expected[i] - s4[i]) / expected[i]);
+        }
+        assertTrue(error4 < error0, "error with 4 iterations = " + error4 + ", without = " + error0);
+        assertTrue(error4 < 5e-2, "error with 4 iterations = " + error4);
+    }
+
+    @Test
+    void testMatvec() {
+        int m = 150, n = 90, rank = 12;
+        double[] a = decaying(m, n, 0.6, 1);
+        RandomizedSVD.Operator operator = RandomizedSVD.matvec(m, n, (x, offsetx, y, offsety) -> {
+            for (int i = 0; i < m; i++) {
+                double sum = 0.0;
+                for (int j = 0; j < n; j++) {
+                    sum += a[i + j * m] * x[offsetx + j];
+                }
+                y[offsety + i] = sum;
+            }
+        }, (x, offsetx, y, offsety) -> {
+            for (int j = 0; j < n; j++) {
+                double sum = 0.0;
+                for (int i = 0; i < m; i++) {
+                    sum += a[i + j * m] * x[offsetx + i];
+                }
+                y[offsety + j] = sum;
+            }
+        });
+        double[] s = new double[rank];
+        double[] u = new double[m * rank];
+        double[] vt = new double[rank * n];
+        new RandomizedSVD(f2j, rank).svd(operator, s, 0, u, 0, m, vt, 0, rank);
+        check(m, n, rank, a, singularValues(m, n, a), s, u, vt, 1e-10);
+
+        double[] expected = new double[rank];
+        new RandomizedSVD(f2j, rank).svd(m, n, a, 0, m, expected, 0, null, 0, 1, null, 0, 1);
+        assertArrayEquals(expected, s, 1e-12);
+    }
+
+    @Test
+    void testPca() {
+        int m = 200, n = 40, rank = 8;
+        double[] a = decaying(m, n, 0.6, 2);
+        double[] centered = a.clone();
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                a[i + j * m] += j;
+            }
+        }
+        double[] mean = new double[n];
+        double[] s = new double[rank];
+        double[] u = new double[m * rank];
+        double[] vt = new double[rank * n];
+        new RandomizedSVD(f2j, rank).pca(m, n, a, 0, m, mean, 0, s, 0, u, 0, m, vt, 0, rank);
+        for (int j = 0; j < n; j++) {
+            double expected = j;
+            for (int i = 0; i < m; i++) {
+                expected += centered[i + j * m] / m;
+            }
+            assertEquals(expected, mean[j], 1e-12);
+        }
+        // The matrix minus its column means
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                centered[i + j * m] = a[i + j * m] - mean[j];
+            }
+        }
+        check(m, n, rank, centered, singularValues(m, n, centered), s, u, vt, 1e-10);
+    }
+
+    @Test
+    void testArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RandomizedSVD(f2j, -1));
+        assertThrows(IllegalArgumentException.class, () -> new RandomizedSVD(f2j, 1, -1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RandomizedSVD(f2j, 1, 0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RandomizedSVD(f2j, 4).svd(3, 5, new double[15], 0, 3, new double[4], 0, null, 0, 1, null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RandomizedSVD(f2j, 2).svd(3, 5, new double[15], 0, 3, new double[2], 0, new double[6], 0, 3, null, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new RandomizedSVD(f2j, 2).svd(3, 5, new double[15], 0, 2, new double[2], 0, null, 0, 1, null, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new RandomizedSVD(f2j, 2).svd(3, 5, new double[14], 0, 3, new double[2], 0, null, 0, 1, null, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new RandomizedSVD(f2j, 2).svd(3, 5, new double[15], 0, 3, new double[2], 0, new double[5], 0, 3, new double[10], 0, 2));
+    }
+}
@@ -30,11 +30,58 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class SgebrdTest extends LAPACKTest {
 
+    private static void check(LAPACK lapack, int m, int n, float[] a, int offseta, int lda) {
+        int minmn = Math.min(m, n);
+        // The reflectors of the last columns accumulate the rounding errors of the earlier ones
+        float tol = 1e-4f * Math.max(1, Math.max(m, n));
+        float[] expected = a.clone();
+        float[] expectedd = new float[Math.max(1, minmn) + offseta];
+        float[] expectede = new float[Math.max(1, minmn) + offseta];
+        float[] expectedtauq = new float[Math.max(1, minmn) + offseta];
+        float[] expectedtaup = new float[Math.max(1, minmn) + offseta];
+        int lwork = Math.max(1, Math.max(m, n)) * 32;
+        intW expectedInfo = new intW(0);
+        f2j.sgebrd(m, n, expected, offseta, lda, expectedd, offseta, expectede, offseta, expectedtauq, offseta, expectedtaup, offseta, new float[lwork], 0, lwork, expectedInfo);
+        assertEquals(0, expectedInfo.val);
+
+        float[] actual = a.clone();
+        float[] d = new float[Math.max(1, minmn) + offseta];
+        float[] e = new float[Math.max(1, minmn) + offseta];
+        float[] tauq = new float[Math.max(1, minmn) + offseta];
+        float[] taup = new float[Math.max(1, minmn) + offseta];
+        float[] query = new float[1];
+        intW info = new intW(0);
+        lapack.sgebrd(m, n, actual, offseta, lda, d, offseta, e, offseta, tauq, offseta, taup, offseta, query, 0, -1, info);
+        assertEquals(0, info.val);
+        lwork = Math.max(1, (int) query[0]);
+        lapack.sgebrd(m, n, actual, offseta, lda, d, offseta, e, offseta, tauq, offseta, taup, offseta, new float[lwork], 0, lwork, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, actual, tol);
+        assertArrayEquals(expectedd, d, tol);
+        assertArrayEquals(expectede, e, tol);
+        assertArrayEquals(expectedtauq, tauq, tol);
+        assertArrayEquals(expectedtaup, taup, tol);
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        int[][] shapes = {{0, 0}, {1, 1}, {5, 3}, {3, 5}, {64, 64}, {65, 65}, {129, 129}, {200, 70}, {70, 200}, {300, 150}, {150, 300}};
+        for (int[] shape : shapes) {
+            int m = shape[0];
+            int n = shape[1];
+            check(lapack, m, n, srandom(m * n, m + n), 0, Math.max(1, m));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testOffset(LAPACK lapack) {
+        check(lapack, 180, 140, srandom(200 * 145, 0), 7, 200);
+        check(lapack, 140, 180, srandom(200 * 185, 0), 7, 200);
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The tests shared by LUSolver, CholeskySolver and QRSolver, each checked against the LAPACK routines it
+// stands for. The solutions of an m x n matrix are compared on all m rows of B, which covers the residual
+// rows left by a least-squares solve.
+public abstract class SolverTest extends LAPACKTest {
+
+    // The part of a factorization that is tested here, as the solvers have no common interface
+    interface Factorization {
+        void solve(double[] b, int offsetb);
+        void solve(int nrhs, double[] b, int offsetb, int ldb);
+        double rcond();
+    }
+
+    private final double tolerance;
+
+    SolverTest(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    // The shapes of A to test, from the smallest to the largest
+    abstract int[][] shapes();
+
+    // An m x n matrix that the solver accepts
+    abstract double[] matrix(int m, int n, long seed);
+
+    abstract Factorization factor(LAPACK lapack, int m, int n, double[] a);
+
+    // The solution of the m x nrhs matrix b, as computed with the reference implementation
+    abstract double[] expected(int m, int n, int nrhs, double[] a, double[] b);
+
+    abstract double expectedRcond(int m, int n, double[] a);
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSolve(LAPACK lapack) {
+        for (int[] shape : shapes()) {
+            int m = shape[0], n = shape[1];
+            double[] a = matrix(m, n, m + n);
+            double[] copy = a.clone();
+            Factorization factorization = factor(lapack, m, n, a);
+            assertArrayEquals(copy, a);
+            for (int nrhs : new int[] {1, 3, 40}) {
+                double[] b = drandom(m * nrhs, m + nrhs);
+                double[] x = b.clone();
+                factorization.solve(nrhs, x, 0, m);
+                assertArrayEquals(expected(m, n, nrhs, a, b), x, tolerance);
+            }
+            // A single vector, at an offset
+            double[] b = drandom(m + 5, 0);
+            double[] x = b.clone();
+            factorization.solve(x, 5);
+            double[] y = expected(m, n, 1, a, Arrays.copyOfRange(b, 5, m + 5));
+            assertArrayEquals(y, Arrays.copyOfRange(x, 5, m + 5), tolerance);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRcond(LAPACK lapack) {
+        for (int[] shape : shapes()) {
+            int m = shape[0], n = shape[1];
+            double[] a = matrix(m, n, 0);
+            Factorization factorization = factor(lapack, m, n, a);
+            assertEquals(expectedRcond(m, n, a), factorization.rcond(), 1e-10);
+            assertEquals(factorization.rcond(), factorization.rcond());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testConcurrent(LAPACK lapack) throws Exception {
+        // The second largest shape
+        int[][] shapes = shapes();
+        int m = shapes[shapes.length - 2][0], n = shapes[shapes.length - 2][1], nrhs = 3;
+        double[] a = matrix(m, n, 0);
+        Factorization factorization = factor(lapack, m, n, a);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[16];
+            for (int t = 0; t < futures.length; t++) {
+                long seed = t;
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 20; i++) {
+                        double[] b = drandom(m * nrhs, seed * 20 + i);
+                        double[] x = b.clone();
+                        factorization.solve(nrhs, x, 0, m);
+                        assertArrayEquals(expected(m, n, nrhs, a, b), x, tolerance);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -25,16 +25,137 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class SsyevdTest extends LAPACKTest {
 
+    private static float[] symmetric(int n, long seed) {
+        Random rand = new Random(seed);
+        float[] res = new float[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                res[i + j * n] = res[j + i * n] = rand.nextFloat() - 0.5f;
+            }
+        }
+        return res;
+    }
+
+    // The identity plus a rank-one matrix, whose eigenvalue 1 of multiplicity n - 1 deflates throughout
+    private static float[] rankOne(int n, long seed) {
+        Random rand = new Random(seed);
+        float[] u = new float[n];
+        for (int i = 0; i < n; i++) {
+            u[i] = rand.nextFloat() - 0.5f;
+        }
+        float[] res = new float[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                res[i + j * n] = u[i] * u[j] + (i == j ? 1.0f : 0.0f);
+            }
+        }
+        return res;
+    }
+
+    // Two independent diagonal blocks, which splits the tridiagonal matrix
+    private static float[] blocks(int n1, int n2, long seed) {
+        int n = n1 + n2;
+        float[] a1 = symmetric(n1, seed);
+        float[] a2 = symmetric(n2, seed + 1);
+        float[] res = new float[n * n];
+        for (int j = 0; j < n1; j++) {
+            System.arraycopy(a1, j * n1, res, j * n, n1);
+        }
+        for (int j = 0; j < n2; j++) {
+            System.arraycopy(a2, j * n2, res, n1 + (n1 + j) * n, n2);
+        }
+        return res;
+    }
+
+    private static void checkEigenvectors(int n, int m, float[] a, float[] w, float[] z, int ldz, float tol) {
+        for (int j = 0; j < m; j++) {
+            for (int i = 0; i < n; i++) {
+                float av = 0.0f;
+                for (int l = 0; l < n; l++) {
+                    av += a[i + l * n] * z[l + j * ldz];
+                }
+                assertEquals(w[j] * z[i + j * ldz], av, tol);
+            }
+            for (int k = 0; k <= j; k++) {
+                float dot = 0.0f;
+                for (int l = 0; l < n; l++) {
+                    dot += z[l + k * ldz] * z[l + j * ldz];
+                }
+                assertEquals(k == j ? 1.0f : 0.0f, dot, tol);
+            }
+        }
+    }
+
+    private static void check(LAPACK lapack, String jobz, String uplo, int n, float[] a) {
+        float tol = 1e-5f * Math.max(1, n);
+        float[] expected = new float[n];
+        intW expectedInfo = new intW(0);
+        f2j.ssyevd("N", uplo, n, a.clone(), Math.max(1, n), expected, new float[2 * n + 1], 2 * n + 1, new int[1], 1, expectedInfo);
+        assertEquals(0, expectedInfo.val);
+
+        float[] actual = a.clone();
+        float[] w = new float[n];
+        intW info = new intW(0);
+        float[] query = new float[1];
+        int[] iquery = new int[1];
+        lapack.ssyevd(jobz, uplo, n, actual, Math.max(1, n), w, query, -1, iquery, -1, info);
+        assertEquals(0, info.val);
+        int lwork = (int) query[0];
+        int liwork = iquery[0];
+        lapack.ssyevd(jobz, uplo, n, actual, Math.max(1, n), w, new float[lwork], lwork, new int[liwork], liwork, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, w, tol);
+        if (jobz.equals("V")) {
+            checkEigenvectors(n, n, a, w, actual, Math.max(1, n), tol);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String jobz : new String[] {"N", "V"}) {
+            for (String uplo : new String[] {"U", "L"}) {
+                for (int n : new int[] {0, 1, 2, 10, 25, 26, 64, 65, 150, 257}) {
+                    check(lapack, jobz, uplo, n, symmetric(n, n));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testDeflation(LAPACK lapack) {
+        for (String uplo : new String[] {"U", "L"}) {
+            check(lapack, "V", uplo, 120, rankOne(120, 0));
+            check(lapack, "V", uplo, 130, blocks(50, 80, 0));
+            check(lapack, "V", uplo, 100, new float[100 * 100]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testScaled(LAPACK lapack) {
+        float[] a = symmetric(80, 0);
+        for (int i = 0; i < a.length; i++) {
+            a[i] *= 1e-20f;
+        }
+        intW info = new intW(0);
+        float[] expected = new float[80];
+        f2j.ssyevd("N", "L", 80, a.clone(), 80, expected, new float[161], 161, new int[1], 1, info);
+        float[] actual = new float[80];
+        lapack.ssyevd("V", "L", 80, a.clone(), 80, actual, new float[1 + 6 * 80 + 2 * 80 * 80], 1 + 6 * 80 + 2 * 80 * 80, new int[3 + 5 * 80], 3 + 5 * 80, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(expected, actual, 1e-24f);
     }
 }
@@ -25,16 +25,73 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class SsytrdTest extends LAPACKTest {
 
+    private static float[] symmetric(int n, long seed) {
+        Random rand = new Random(seed);
+        float[] res = new float[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                res[i + j * n] = res[j + i * n] = rand.nextFloat() - 0.5f;
+            }
+        }
+        return res;
+    }
+
+    private static void check(LAPACK lapack, String uplo, int n, int offset, float[] a) {
+        float tol = 1e-5f * Math.max(1, n);
+        int lda = Math.max(1, n);
+        float[] expected = a.clone();
+        float[] expectedD = new float[n];
+        float[] expectedE = new float[Math.max(1, n - 1)];
+        float[] expectedTau = new float[Math.max(1, n - 1)];
+        intW expectedInfo = new intW(0);
+        f2j.ssytrd(uplo, n, expected, offset, lda, expectedD, 0, expectedE, 0, expectedTau, 0, new float[64 * lda], 0, 64 * lda, expectedInfo);
+
+        float[] actual = a.clone();
+        float[] actualD = new float[n];
+        float[] actualE = new float[Math.max(1, n - 1)];
+        float[] actualTau = new float[Math.max(1, n - 1)];
+        intW actualInfo = new intW(0);
+        float[] query = new float[1];
+        lapack.ssytrd(uplo, n, actual, offset, lda, actualD, 0, actualE, 0, actualTau, 0, query, 0, -1, actualInfo);
+        assertEquals(0, actualInfo.val);
+        int lwork = (int) query[0];
+        lapack.ssytrd(uplo, n, actual, offset, lda, actualD, 0, actualE, 0, actualTau, 0, new float[lwork], 0, lwork, actualInfo);
+
+        assertEquals(expectedInfo.val, actualInfo.val);
+        assertArrayEquals(expectedD, actualD, tol);
+        assertArrayEquals(expectedE, actualE, tol);
+        assertArrayEquals(expectedTau, actualTau, tol);
+        assertArrayEquals(expected, actual, tol);
+    }
+
     @ParameterizedTest
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        for (String uplo : new String[] {"U", "L"}) {
+            for (int n : new int[] {1, 2, 7, 64, 65, 129, 200}) {
+                check(lapack, uplo, n, 0, symmetric(n, n));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testOffset(LAPACK lapack) {
+        int n = 150;
+        float[] a = new float[3 + n * n];
+        System.arraycopy(symmetric(n, 0), 0, a, 3, n * n);
+        check(lapack, "U", n, 3, a);
+        check(lapack, "L", n, 3, a);
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.netlib.util.intW;
+
+public class TSQRTest extends LAPACKTest {
+
+    // C = A * B for the m x k matrix A and k x n matrix B
+    private static double[] multiply(int m, int n, int k, double[] a, double[] b) {
+        double[] c = new double[m * n];
+        for (int j = 0; j < n; j++) {
+            for (int l = 0; l < k; l++) {
+                for (int i = 0; i < m; i++) {
+                    c[i + j * m] += a[i + l * m] * b[l + j * k];
+                }
+            }
+        }
+        return c;
+    }
+
+    private static double[] transpose(int m, int n, double[] a) {
+        double[] t = new double[n * m];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                t[j + i * n] = a[i + j * m];
+            }
+        }
+        return t;
+    }
+
+    private static final int[][] shapes = {{1000, 10}, {997, 7}, {64, 8}, {20, 20}, {5, 1}};
+
+    private static final int[] blocks = {1, 2, 3, 4, 7};
+
+    @Test
+    void testFactor() {
+        for (int[] shape : shapes) {
+            int m = shape[0], n = shape[1];
+            double[] a = drandom(m * n, m + n);
+            for (int p : blocks) {
+                double[] v = a.clone();
+                TSQR qr = TSQR.factor(f2j, m, n, v, 0, m, p);
+                double[] r = qr.r();
+                double[] q = new double[m * n];
+                qr.formQ(q, 0, m);
+
+                // Q has orthonormal columns, and Q * R = A
+                double[] qtq = multiply(n, n, m, transpose(m, n, q), q);
+                for (int j = 0; j < n; j++) {
+                    for (int i = 0; i < n; i++) {
+                        assertEquals(i == j ? 1.0 : 0.0, qtq[i + j * n], 1e-12 * m);
+                    }
+                }
+                assertArrayEquals(a, multiply(m, n, n, q, r), 1e-12 * m);
+
+                // R is that of dgeqrf, up to the signs of its rows
+                double[] expected = a.clone();
+                f2j.dgeqrf(m, n, expected, m, new double[n], new double[64 * n], 64 * n, new intW(0));
+                for (int j = 0; j < n; j++) {
+                    for (int i = 0; i <= j; i++) {
+                        assertEquals(Math.abs(expected[i + j * m]), Math.abs(r[i + j * n]), 1e-12 * m);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testApply() {
+        int m = 500, n = 12, k = 5;
+        double[] a = drandom(m * n, 0);
+        double[] c = drandom(m * k, 1);
+        for (int p : blocks) {
+            TSQR qr = TSQR.factor(f2j, m, n, a.clone(), 0, m, p);
+            double[] actual = c.clone();
+            qr.applyQT(k, actual, 0, m);
+            // Q is orthogonal, so norms are kept
+            for (int j = 0; j < k; j++) {
+                double expected = 0.0, norm = 0.0;
+                for (int i = 0; i < m; i++) {
+                    expected += c[i + j * m] * c[i + j * m];
+                    norm += actual[i + j * m] * actual[i + j * m];
+                }
+                assertEquals(expected, norm, 1e-10 * m);
+            }
+            qr.applyQ(k, actual, 0, m);
+            assertArrayEquals(c, actual, 1e-12 * m);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testLeastSquares(LAPACK lapack) {
+        int m = 800, n = 15, k = 3;
+        double[] a = drandom(m * n, 2);
+        double[] b = drandom(m * k, 3);
+
+        double[] expected = b.clone();
+        intW info = new intW(0);
+        f2j.dgels("N", m, n, k, a.clone(), m, expected, m, new double[64 * m], 64 * m, info);
+        assertEquals(0, info.val);
+
+        double[] actual = b.clone();
+        TSQR.leastSquares(lapack, m, n, k, a.clone(), 0, m, actual, 0, m);
+        for (int j = 0; j < k; j++) {
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i + j * m], actual[i + j * m], 1e-12 * m);
+            }
+        }
+    }
+
+    @Test
+    void testRankDeficient() {
+        int m = 100, n = 4;
+        double[] a = drandom(m * n, 4);
+        // A zero column stays zero through every reflector, so R(3, 3) is exactly zero
+        Arrays.fill(a, 2 * m, 3 * m, 0.0);
+        for (int p : blocks) {
+            TSQR qr = TSQR.factor(f2j, m, n, a.clone(), 0, m, p);
+            assertThrows(ArithmeticException.class, () -> qr.solve(1, drandom(m, 5), 0, m));
+        }
+    }
+
+    @Test
+    void testArguments() {
+        assertThrows(IllegalArgumentException.class, () -> TSQR.factor(f2j, 3, 4, new double[12], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> TSQR.factor(f2j, 4, 3, new double[12], 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> TSQR.factor(f2j, 4, 3, new double[11], 0, 4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSvd(LAPACK lapack) {
+        int m = 600, n = 20;
+        double[] a = drandom(m * n, 5);
+
+        double[] expected = new double[n];
+        int lwork = 64 * m + 8 * n * n;
+        f2j.dgesdd("N", m, n, a.clone(), m, expected, new double[1], 1, new double[1], 1, new double[lwork], lwork, new int[8 * n], new intW(0));
+
+        double[] s = new double[n];
+        TSQR.svd(lapack, m, n, a.clone(), 0, m, s, 0, null, 0, 1, null, 0, 1);
+        assertArrayEquals(expected, s, 1e-12 * m);
+
+        double[] u = new double[m * n];
+        double[] vt = new double[n * n];
+        TSQR.svd(lapack, m, n, a.clone(), 0, m, s, 0, u, 0, m, vt, 0, n);
+        assertArrayEquals(expected, s, 1e-12 * m);
+        // U * diag(S) * VT = A
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                u[i + j * m] *= s[j];
+            }
+        }
+        assertArrayEquals(a, multiply(m, n, n, u, vt), 1e-12 * m);
+    }
+}
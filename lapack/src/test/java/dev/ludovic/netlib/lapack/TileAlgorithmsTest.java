@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.netlib.util.intW;
+
+public class TileAlgorithmsTest extends LAPACKTest {
+
+    // Small tiles to get many of them, run both on the calling thread and on a pool of a few threads
+    private static final int NB = 16;
+
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private static final ForkJoinPool[] pools = {null, pool};
+
+    @AfterAll
+    static void shutdown() {
+        pool.shutdown();
+    }
+
+    private static double[] spd(int n, long seed) {
+        double[] res = drandom(n * n, seed);
+        for (int j = 0; j < n; j++) {
+            for (int i = j + 1; i < n; i++) {
+                res[j + i * n] = res[i + j * n];
+            }
+            res[j + j * n] += n;
+        }
+        return res;
+    }
+
+    @Test
+    void testDpotrf() {
+        for (ForkJoinPool p : pools) {
+            for (boolean upper : new boolean[] {true, false}) {
+                for (int n : new int[] {1, 15, 16, 17, 100}) {
+                    double[] a = spd(n, n);
+                    double[] expected = a.clone();
+                    intW expectedInfo = new intW(0);
+                    f2j.dpotrf(upper ? "U" : "L", n, expected, n, expectedInfo);
+
+                    double[] actual = a.clone();
+                    intW actualInfo = new intW(0);
+                    TileAlgorithms.dpotrf(upper, n, actual, 0, n, NB, p, actualInfo);
+
+                    assertEquals(expectedInfo.val, actualInfo.val);
+                    assertArrayEquals(expected, actual, 1e-12 * n);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testDpotrfNotPositiveDefinite() {
+        int n = 100;
+        double[] a = spd(n, 0);
+        a[70 + 70 * n] = -1.0;
+        for (ForkJoinPool p : pools) {
+            for (boolean upper : new boolean[] {true, false}) {
+                intW info = new intW(0);
+                TileAlgorithms.dpotrf(upper, n, a.clone(), 0, n, NB, p, info);
+                assertEquals(71, info.val);
+            }
+        }
+    }
+
+    @Test
+    void testDpotrfNotPositiveDefiniteFactor() {
+        // The blocked dpotrf of Java8LAPACK works on blocks of 64, the size of the tiles here
+        int n = 300, nb = 64;
+        double[] a = spd(n, 0);
+        a[200 + 200 * n] = -1.0;
+        for (ForkJoinPool p : pools) {
+            for (boolean upper : new boolean[] {true, false}) {
+                double[] expected = a.clone();
+                intW expectedInfo = new intW(0);
+                Java8LAPACK.getInstance().dpotrf(upper ? "U" : "L", n, expected, n, expectedInfo);
+
+                double[] actual = a.clone();
+                intW actualInfo = new intW(0);
+                TileAlgorithms.dpotrf(upper, n, actual, 0, n, nb, p, actualInfo);
+
+                assertEquals(expectedInfo.val, actualInfo.val);
+                assertTrue(actualInfo.val > 0);
+                // With the leading minor factored, and the rest as the blocked version leaves it
+                assertArrayEquals(expected, actual, 1e-12 * n);
+            }
+        }
+    }
+
+    @Test
+    void testTileMatrixFits() {
+        assertTrue(TileMatrix.fits(100, 100, 16));
+        assertTrue(TileMatrix.fits(0, Integer.MAX_VALUE, 256));
+        assertFalse(TileMatrix.fits(50000, 50000, 256));
+        assertFalse(TileMatrix.fits(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new TileMatrix(50000, 50000, 256));
+        assertFalse(TileAlgorithms.use(50000, 50000));
+    }
+
+    @Test
+    void testDgetrf() {
+        int[][] shapes = {{1, 1}, {16, 16}, {100, 100}, {100, 37}, {37, 100}, {33, 1}};
+        for (ForkJoinPool p : pools) {
+            for (int[] shape : shapes) {
+                int m = shape[0], n = shape[1];
+                // With an offset and a leading dimension larger than m
+                int lda = m + 3;
+                double[] a = drandom(2 + lda * n, m * 31 + n);
+                double[] expected = a.clone();
+                int[] expectedIpiv = new int[Math.min(m, n)];
+                intW expectedInfo = new intW(0);
+                f2j.dgetrf(m, n, expected, 2, lda, expectedIpiv, 0, expectedInfo);
+
+                double[] actual = a.clone();
+                int[] actualIpiv = new int[Math.min(m, n)];
+                intW actualInfo = new intW(0);
+                TileAlgorithms.dgetrf(m, n, actual, 2, lda, actualIpiv, 0, NB, p, actualInfo);
+
+                assertEquals(expectedInfo.val, actualInfo.val);
+                assertArrayEquals(expectedIpiv, actualIpiv);
+                assertArrayEquals(expected, actual, 1e-12 * Math.max(m, n));
+            }
+        }
+    }
+
+    @Test
+    void testDgetrfSingular() {
+        int n = 50;
+        double[] a = drandom(n * n, 0);
+        // Columns 20 and 40 are equal, so U(40, 40) is zero
+        System.arraycopy(a, 20 * n, a, 40 * n, n);
+        for (ForkJoinPool p : pools) {
+            intW expectedInfo = new intW(0);
+            f2j.dgetrf(n, n, a.clone(), n, new int[n], expectedInfo);
+            intW actualInfo = new intW(0);
+            TileAlgorithms.dgetrf(n, n, a.clone(), 0, n, new int[n], 0, NB, p, actualInfo);
+            assertEquals(expectedInfo.val, actualInfo.val);
+        }
+    }
+
+    @Test
+    void testDgeqrf() {
+        int[][] shapes = {{1, 1}, {16, 16}, {100, 100}, {100, 37}, {37, 100}, {33, 1}};
+        for (ForkJoinPool p : pools) {
+            for (int[] shape : shapes) {
+                int m = shape[0], n = shape[1];
+                double[] a = drandom(m * n, m * 31 + n);
+                double[] expected = a.clone();
+                double[] expectedTau = new double[Math.min(m, n)];
+                intW expectedInfo = new intW(0);
+                f2j.dgeqrf(m, n, expected, m, expectedTau, new double[64 * n], 64 * n, expectedInfo);
+
+                double[] actual = a.clone();
+                double[] actualTau = new double[Math.min(m, n)];
+                intW actualInfo = new intW(0);
+                TileAlgorithms.dgeqrf(m, n, actual, 0, m, actualTau, 0, NB, p, actualInfo);
+
+                assertEquals(expectedInfo.val, actualInfo.val);
+                assertArrayEquals(expectedTau, actualTau, 1e-12 * Math.max(m, n));
+                assertArrayEquals(expected, actual, 1e-12 * Math.max(m, n));
+            }
+        }
+    }
+
+    @Test
+    void testFailurePropagates() {
+        TaskGraph graph = new TaskGraph(1);
+        boolean[] ran = new boolean[1];
+        graph.insert(0, () -> { throw new IllegalStateException("failed"); }).writes(0);
+        graph.insert(0, () -> ran[0] = true).reads(0);
+        assertThrows(IllegalStateException.class, () -> graph.run(pool));
+        assertFalse(ran[0]);
+    }
+}